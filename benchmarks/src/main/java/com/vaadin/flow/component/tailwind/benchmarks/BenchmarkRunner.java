@@ -0,0 +1,51 @@
+package com.vaadin.flow.component.tailwind.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of {@code benchmarks.jar}.
+ * <p>
+ * Accepts the regular JMH command line options, but always enables the allocation profiler
+ * ({@code -prof gc}) and writes JSON results to {@code jmh-result.json} unless another result
+ * file is given, so runs can be compared to catch regressions.
+ *
+ * <pre>{@code
+ * java -jar benchmarks/target/benchmarks.jar                   # all benchmarks
+ * java -jar benchmarks/target/benchmarks.jar VariantBenchmark  # a subset
+ * }</pre>
+ */
+public final class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        if (cli.shouldHelp()) {
+            cli.showHelp();
+            return;
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(cli);
+        boolean gcProfiler = cli.getProfilers().stream()
+                .anyMatch(profiler -> profiler.getKlass().equals("gc")
+                        || profiler.getKlass().equals(GCProfiler.class.getName()));
+        if (!gcProfiler) {
+            options.addProfiler(GCProfiler.class);
+        }
+        if (!cli.getResult().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON).result("jmh-result.json");
+        }
+
+        Runner runner = new Runner(options.build());
+        if (cli.shouldList()) {
+            runner.list();
+        } else {
+            runner.run();
+        }
+    }
+
+    private BenchmarkRunner() {}
+}
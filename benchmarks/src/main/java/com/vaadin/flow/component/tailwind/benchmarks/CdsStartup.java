@@ -0,0 +1,153 @@
+package com.vaadin.flow.component.tailwind.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Builds an AppCDS archive covering the generated classes and measures the startup delta.
+ * <p>
+ * A training run of {@link CdsTraining} records the loaded classes with
+ * {@code -XX:DumpLoadedClassList}, and {@code -Xshare:dump} turns that list into an archive. Then
+ * {@link CdsTraining} is started repeatedly in fresh JVMs, alternating between no CDS
+ * ({@code -Xshare:off}), the JDK's default CDS archive and the AppCDS archive, and the median and
+ * mean wall-clock times of each are printed.
+ * <p>
+ * CDS only archives classes loaded from jar files, so this must run from {@code benchmarks.jar}:
+ *
+ * <pre>{@code
+ * java -cp benchmarks/target/benchmarks.jar com.vaadin.flow.component.tailwind.benchmarks.CdsStartup [runs] [work directory]
+ * }</pre>
+ */
+public final class CdsStartup {
+
+    private static final int DEFAULT_RUNS = 20;
+    private static final int WARMUP_RUNS = 3;
+
+    private final Path java = Paths.get(System.getProperty("java.home"), "bin", "java");
+    private final String jar;
+    private final Path workDirectory;
+
+    private CdsStartup(String jar, Path workDirectory) {
+        this.jar = jar;
+        this.workDirectory = workDirectory;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_RUNS;
+        Path workDirectory = Paths.get(args.length > 1 ? args[1] : "target/cds");
+
+        String jar = new File(CdsStartup.class.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+        if (!jar.endsWith(".jar")) {
+            throw new IllegalStateException("CDS only archives classes from jar files, run from benchmarks.jar instead of " + jar);
+        }
+
+        Files.createDirectories(workDirectory);
+        new CdsStartup(jar, workDirectory).run(runs);
+    }
+
+    private void run(int runs) throws IOException, InterruptedException {
+        Path classList = workDirectory.resolve("classes.lst");
+        Path archive = workDirectory.resolve("tailwind.jsa");
+
+        System.out.println("Training run, class list: " + classList);
+        launch("training", "-Xshare:off", "-XX:DumpLoadedClassList=" + classList,
+                "-cp", jar, CdsTraining.class.getName());
+        reportCoverage(classList);
+
+        System.out.println("Dumping archive: " + archive);
+        launch("dump", "-Xshare:dump", "-XX:SharedClassListFile=" + classList,
+                "-XX:SharedArchiveFile=" + archive, "-cp", jar);
+        // Fails if the archive cannot be mapped, instead of silently measuring without it
+        launch("verify", "-Xshare:on", "-XX:SharedArchiveFile=" + archive,
+                "-cp", jar, CdsTraining.class.getName());
+
+        List<List<String>> configurations = Arrays.asList(
+                Arrays.asList("-Xshare:off"),
+                Arrays.asList("-Xshare:auto"),
+                Arrays.asList("-Xshare:auto", "-XX:SharedArchiveFile=" + archive));
+        String[] names = { "No CDS", "Default CDS", "AppCDS" };
+
+        long[][] times = new long[configurations.size()][runs];
+        for (int run = -WARMUP_RUNS; run < runs; run++) {
+            // Interleaved, so drift in machine load affects all configurations alike
+            for (int i = 0; i < configurations.size(); i++) {
+                List<String> args = new ArrayList<>(configurations.get(i));
+                args.addAll(Arrays.asList("-cp", jar, CdsTraining.class.getName()));
+
+                long start = System.nanoTime();
+                launch(null, args.toArray(new String[0]));
+                long time = System.nanoTime() - start;
+                if (run >= 0) {
+                    times[i][run] = time;
+                }
+            }
+        }
+
+        System.out.println();
+        System.out.printf("%-12s %10s %10s%n", "JVM startup", "median ms", "mean ms");
+        for (int i = 0; i < names.length; i++) {
+            System.out.printf("%-12s %10.1f %10.1f%n", names[i], median(times[i]) / 1e6, mean(times[i]) / 1e6);
+        }
+
+        double baseline = median(times[1]);
+        double delta = baseline - median(times[2]);
+        System.out.printf("%nAppCDS saves %.1f ms (%.1f%%) over the default CDS archive (%d runs, JDK %s)%n",
+                delta / 1e6, 100 * delta / baseline, runs, System.getProperty("java.version"));
+    }
+
+    /**
+     * Prints how many of the generated classes the training run recorded.
+     */
+    private void reportCoverage(Path classList) throws IOException {
+        Set<String> recorded = new HashSet<>();
+        for (String line : Files.readAllLines(classList)) {
+            // JDK 17+ appends " id: ..." and other attributes
+            int end = line.indexOf(' ');
+            recorded.add(end < 0 ? line : line.substring(0, end));
+        }
+
+        List<String> generated = CdsTraining.classList();
+        List<String> missing = new ArrayList<>(generated);
+        missing.removeAll(recorded);
+        System.out.println("Recorded " + (generated.size() - missing.size()) + " of " + generated.size()
+                + " generated classes" + (missing.isEmpty() ? "" : ", missing: " + missing));
+    }
+
+    /**
+     * Runs a JVM and waits for it, writing its output to {@code <log>.log} or discarding it.
+     */
+    private void launch(String log, String... args) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(java.toString());
+        command.addAll(Arrays.asList(args));
+
+        ProcessBuilder builder = new ProcessBuilder(command).redirectErrorStream(true);
+        Path output = log != null ? workDirectory.resolve(log + ".log") : null;
+        builder.redirectOutput(output != null ? ProcessBuilder.Redirect.to(output.toFile()) : ProcessBuilder.Redirect.DISCARD);
+
+        int exitCode = builder.start().waitFor();
+        if (exitCode != 0) {
+            throw new IllegalStateException(String.join(" ", command) + " failed with exit code " + exitCode
+                    + (output != null ? ", see " + output : ""));
+        }
+    }
+
+    private static double median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2.0;
+    }
+
+    private static double mean(long[] values) {
+        return Arrays.stream(values).average().orElse(0);
+    }
+}
@@ -0,0 +1,57 @@
+package com.vaadin.flow.component.tailwind.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.vaadin.flow.component.tailwind.TW;
+
+/**
+ * Training workload for an AppCDS archive of the generated classes.
+ * <p>
+ * Loads and initializes every class in the class list written by the generator, so a run with
+ * {@code -XX:DumpLoadedClassList} records all of them together with the JDK classes they need.
+ * Also used as the measured workload by {@link CdsStartup}.
+ */
+public final class CdsTraining {
+
+    /** Class list written by the generator and packaged into the runtime jar */
+    static final String CLASS_LIST = "META-INF/tailwind/cds-classlist.txt";
+
+    public static void main(String[] args) throws Exception {
+        ClassLoader loader = TW.class.getClassLoader();
+        List<String> classes = classList();
+        for (String className : classes) {
+            Class.forName(className.replace('/', '.'), true, loader);
+        }
+        System.out.println("Loaded " + classes.size() + " generated classes");
+    }
+
+    /**
+     * Reads the internal names of the generated classes, e.g. {@code com/vaadin/.../TW$Spacing}.
+     */
+    static List<String> classList() throws IOException {
+        InputStream in = TW.class.getClassLoader().getResourceAsStream(CLASS_LIST);
+        if (in == null) {
+            throw new IllegalStateException(CLASS_LIST + " not found, regenerate the runtime classes");
+        }
+
+        List<String> classes = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    classes.add(line);
+                }
+            }
+        }
+        return classes;
+    }
+
+    private CdsTraining() {}
+}
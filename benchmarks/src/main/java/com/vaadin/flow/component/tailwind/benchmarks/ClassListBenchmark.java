@@ -0,0 +1,154 @@
+package com.vaadin.flow.component.tailwind.benchmarks;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.vaadin.flow.component.tailwind.TW;
+import com.vaadin.flow.component.tailwind.TwClassSet;
+import com.vaadin.flow.component.tailwind.TwStyle;
+import com.vaadin.flow.component.tailwind.TwUtility;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Building and comparing component class lists: joining constants as in {@code ExampleUsage},
+ * memoized {@link TwStyle} results, cached class strings of utility sets, and set operations on
+ * {@link TwClassSet} compared to {@code Set<String>}, including the add/remove delta between two
+ * class lists.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClassListBenchmark {
+
+    private String[] cardClasses;
+    private String[] activeClasses;
+    private String probe;
+
+    private TwClassSet cardSet;
+    private TwClassSet activeSet;
+    private Set<String> cardHashSet;
+    private Set<String> activeHashSet;
+    private TwStyle cardStyle;
+    private Set<TwUtility> padding;
+
+    @Setup
+    public void setup() {
+        cardClasses = new String[] {
+            TW.Background.WHITE,
+            TW.Border.ROUNDED_LG,
+            TW.Effects.Shadow.LG,
+            TW.Spacing.Padding.P_6,
+            TW.Sizing.MaxWidth.W_SM,
+            TW.Layout.FLEX,
+            TW.Flex.COL,
+            TW.Spacing.Gap.GAP_4
+        };
+        activeClasses = new String[] {
+            TW.Background.BLUE_50,
+            TW.Border.ROUNDED_LG,
+            TW.Effects.Shadow.XL,
+            TW.Spacing.Padding.P_6
+        };
+        probe = TW.Effects.Shadow.LG;
+
+        cardSet = TwClassSet.of(cardClasses);
+        activeSet = TwClassSet.of(activeClasses);
+        cardHashSet = new HashSet<>(Arrays.asList(cardClasses));
+        activeHashSet = new HashSet<>(Arrays.asList(activeClasses));
+        cardStyle = TwStyle.of(cardClasses);
+        padding = Set.of(TW.lookup(TW.Spacing.Padding.P_6), TW.lookup(TW.Spacing.Padding.X_4));
+    }
+
+    @Benchmark
+    public String stringJoin() {
+        return String.join(" ", cardClasses);
+    }
+
+    @Benchmark
+    public String styleBuild() {
+        return cardStyle.build();
+    }
+
+    @Benchmark
+    public String styleComposeAndBuild() {
+        return TwStyle.of(cardClasses).md(TW.Sizing.MaxWidth.W_MD).build();
+    }
+
+    @Benchmark
+    public String utilitySetToClassString() {
+        return TwUtility.toClassString(padding);
+    }
+
+    @Benchmark
+    public String classSetToClassString() {
+        return cardSet.toClassString();
+    }
+
+    @Benchmark
+    public TwClassSet classSetOf() {
+        return TwClassSet.of(cardClasses);
+    }
+
+    @Benchmark
+    public boolean classSetContains() {
+        return cardSet.contains(probe);
+    }
+
+    @Benchmark
+    public TwClassSet classSetUnion() {
+        return cardSet.union(activeSet);
+    }
+
+    @Benchmark
+    public TwClassSet classSetDiff() {
+        return cardSet.diff(activeSet);
+    }
+
+    @Benchmark
+    public TwClassSet.Delta classSetDelta() {
+        return cardSet.delta(activeSet);
+    }
+
+    @Benchmark
+    public boolean hashSetContains() {
+        return cardHashSet.contains(probe);
+    }
+
+    @Benchmark
+    public Set<String> hashSetUnion() {
+        Set<String> union = new HashSet<>(cardHashSet);
+        union.addAll(activeHashSet);
+        return union;
+    }
+
+    @Benchmark
+    public Set<String> hashSetDiff() {
+        Set<String> diff = new HashSet<>(cardHashSet);
+        diff.removeAll(activeHashSet);
+        return diff;
+    }
+
+    @Benchmark
+    public List<Set<String>> hashSetDelta() {
+        Set<String> added = new HashSet<>(activeHashSet);
+        added.removeAll(cardHashSet);
+        Set<String> removed = new HashSet<>(cardHashSet);
+        removed.removeAll(activeHashSet);
+        return Arrays.asList(added, removed);
+    }
+}
@@ -0,0 +1,108 @@
+package com.vaadin.flow.component.tailwind.benchmarks;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.vaadin.flow.component.tailwind.TW;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cold loading and initialization of the generated classes.
+ * <p>
+ * Each invocation uses a fresh class loader over the runtime classes, so every measurement
+ * includes loading, verification and static initialization.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 30)
+@Fork(3)
+@State(Scope.Thread)
+public class ClassLoadingBenchmark {
+
+    private static final URL[] CLASSPATH = {
+        TW.class.getProtectionDomain().getCodeSource().getLocation()
+    };
+
+    private static final String PACKAGE = TW.class.getPackageName();
+
+    private static final List<String> NESTED_CLASSES = new ArrayList<>();
+
+    static {
+        collectNestedClasses(TW.class);
+    }
+
+    private URLClassLoader loader;
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        loader = new URLClassLoader(CLASSPATH, ClassLoader.getPlatformClassLoader());
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown() throws IOException {
+        loader.close();
+    }
+
+    @Benchmark
+    public Class<?> outerClass() throws ClassNotFoundException {
+        return Class.forName(TW.class.getName(), true, loader);
+    }
+
+    @Benchmark
+    public Class<?> smallNestedClass() throws ClassNotFoundException {
+        return Class.forName(TW.Background.class.getName(), true, loader);
+    }
+
+    @Benchmark
+    public Class<?> largestNestedClass() throws ClassNotFoundException {
+        return Class.forName(TW.Other.class.getName(), true, loader);
+    }
+
+    @Benchmark
+    public Class<?> allNestedClasses() throws ClassNotFoundException {
+        Class<?> last = null;
+        for (String name : NESTED_CLASSES) {
+            last = Class.forName(name, true, loader);
+        }
+        return last;
+    }
+
+    @Benchmark
+    public Class<?> categoryIndex() throws ClassNotFoundException {
+        // Initializes every category class to build their ALL lists
+        return Class.forName(TW.Index.class.getName(), true, loader);
+    }
+
+    @Benchmark
+    public Class<?> variantTables() throws ClassNotFoundException {
+        return Class.forName(PACKAGE + ".TwVariants", true, loader);
+    }
+
+    @Benchmark
+    public Class<?> mergeTables() throws ClassNotFoundException {
+        return Class.forName(PACKAGE + ".TwMerge", true, loader);
+    }
+
+    private static void collectNestedClasses(Class<?> type) {
+        for (Class<?> nested : type.getDeclaredClasses()) {
+            NESTED_CLASSES.add(nested.getName());
+            collectNestedClasses(nested);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.vaadin.flow.component.tailwind.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.vaadin.flow.component.tailwind.TW;
+import com.vaadin.flow.component.tailwind.TwUtilities;
+import com.vaadin.flow.component.tailwind.TwUtilityInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Resolving class names to utilities: {@link TW#lookup(CharSequence)} on strings and on a
+ * {@link StringBuilder}, compared to a {@code HashMap} from class name to ID.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LookupBenchmark {
+
+    private String[] classNames;
+    private StringBuilder builder;
+    private Map<String, Integer> index;
+    private int next;
+
+    @Setup
+    public void setup() {
+        classNames = new String[] {
+            "flex", "items-center", "pl-4", "bg-blue-600", "rounded-lg", "shadow-md", "p-[13px]", "text-gray-900"
+        };
+        builder = new StringBuilder("bg-blue-600");
+        index = new HashMap<>();
+        for (int id = 0; id < TwUtilities.COUNT; id++) {
+            index.put(TwUtilities.className(id), id);
+        }
+    }
+
+    @Benchmark
+    public TwUtilityInfo lookup() {
+        return TW.lookup(classNames[next++ & 7]);
+    }
+
+    @Benchmark
+    public TwUtilityInfo lookupBuilder() {
+        return TW.lookup(builder);
+    }
+
+    @Benchmark
+    public Integer hashMapBaseline() {
+        return index.get(classNames[next++ & 7]);
+    }
+}
@@ -0,0 +1,63 @@
+package com.vaadin.flow.component.tailwind.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.vaadin.flow.component.tailwind.TW;
+import com.vaadin.flow.component.tailwind.TwMerge;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link TW#merge(String...)} with cache hits and with inputs that always miss the cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MergeBenchmark {
+
+    private String theme;
+    private String defaults;
+    private String overrides;
+
+    // Four times the cache size, so cycling through them always misses
+    private String[] uncached;
+    private int next;
+
+    @Setup
+    public void setup() {
+        theme = "p-4 bg-white text-gray-900 rounded-lg";
+        defaults = "p-6 px-2 bg-gray-100 shadow-md";
+        overrides = "md:p-4 md:p-2 hover:bg-blue-600";
+
+        uncached = new String[Integer.highestOneBit(TwMerge.CACHE_SIZE) * 4];
+        for (int i = 0; i < uncached.length; i++) {
+            uncached[i] = theme + " " + defaults + " p-[" + i + "px]";
+        }
+    }
+
+    @Benchmark
+    public String joinBaseline() {
+        return String.join(" ", theme, defaults, overrides);
+    }
+
+    @Benchmark
+    public String mergeCached() {
+        return TW.merge(theme, defaults, overrides);
+    }
+
+    @Benchmark
+    public String mergeUncached() {
+        return TW.merge(uncached[next++ & (uncached.length - 1)]);
+    }
+}
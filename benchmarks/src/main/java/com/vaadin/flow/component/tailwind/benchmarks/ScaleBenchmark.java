@@ -0,0 +1,53 @@
+package com.vaadin.flow.component.tailwind.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.vaadin.flow.component.tailwind.TW;
+import com.vaadin.flow.component.tailwind.TwPalette;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Utilities for values computed at runtime: the generated scale accessors, compared to building
+ * the class name by hand.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScaleBenchmark {
+
+    private static final int[] STEPS = {0, 1, 2, 4, 6, 8, 12, 16};
+    private static final int[] SHADES = {50, 100, 500, 950};
+
+    private int next;
+
+    @Benchmark
+    public String stepAccessor() {
+        return TW.Spacing.Padding.p(STEPS[next++ & 7]);
+    }
+
+    @Benchmark
+    public String stepConcatenation() {
+        return "p-" + STEPS[next++ & 7];
+    }
+
+    @Benchmark
+    public String colorAccessor() {
+        return TW.Background.color(TwPalette.GRAY, SHADES[next++ & 3]);
+    }
+
+    @Benchmark
+    public String colorConcatenation() {
+        return "bg-" + TwPalette.GRAY + "-" + SHADES[next++ & 3];
+    }
+}
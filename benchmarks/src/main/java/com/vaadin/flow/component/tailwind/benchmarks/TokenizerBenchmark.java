@@ -0,0 +1,53 @@
+package com.vaadin.flow.component.tailwind.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.vaadin.flow.component.tailwind.TwTokenizer;
+import com.vaadin.flow.component.tailwind.TwUtilities;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Resolving the classes of a stored class attribute to utility IDs: {@link TwTokenizer}, compared
+ * to splitting the value and looking up each utility substring.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TokenizerBenchmark {
+
+    private static final String LAYOUT =
+        "flex items-center justify-between md:p-4 gap-2 hover:bg-blue-600 dark:md:hover:text-gray-900 p-[13px] rounded-lg shadow-md";
+
+    private final TwTokenizer tokens = new TwTokenizer();
+
+    @Benchmark
+    public int tokenizer() {
+        int sum = 0;
+        tokens.reset(LAYOUT);
+        while (tokens.next()) {
+            sum += tokens.utilityId() + tokens.variantCount();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int splitBaseline() {
+        int sum = 0;
+        for (String token : LAYOUT.split("\\s+")) {
+            String[] parts = token.split(":");
+            sum += TwUtilities.id(parts[parts.length - 1]) + parts.length - 1;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,93 @@
+package com.vaadin.flow.component.tailwind.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.vaadin.flow.component.tailwind.TW;
+import com.vaadin.flow.component.tailwind.TwStyle;
+import com.vaadin.flow.component.tailwind.TwVariant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Variant composition through {@link TW.Responsive} and {@link TW.State}, compared to plain
+ * string concatenation and to the generated variant constants. Compositions without a
+ * precomputed entry go through the intern pool, also measured under contention.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VariantBenchmark {
+
+    // Non-final fields so the JIT cannot constant-fold the inputs
+    private String utility;
+    private String arbitrary;
+
+    @Setup
+    public void setup() {
+        utility = TW.Background.BLUE_600;
+        arbitrary = "bg-[#1e40af]";
+    }
+
+    @Benchmark
+    public String concatBaseline() {
+        return "hover:" + utility;
+    }
+
+    @Benchmark
+    public String responsiveMd() {
+        return TW.Responsive.md(utility);
+    }
+
+    @Benchmark
+    public String responsiveXxl() {
+        return TW.Responsive.xxl(utility);
+    }
+
+    @Benchmark
+    public String stateHover() {
+        return TW.State.hover(utility);
+    }
+
+    @Benchmark
+    public String stateDark() {
+        return TW.State.dark(utility);
+    }
+
+    @Benchmark
+    public String variantConstant() {
+        return TW.Hover.Background.BLUE_600;
+    }
+
+    @Benchmark
+    public String arbitraryValue() {
+        return TW.State.hover(arbitrary);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String arbitraryValueContended() {
+        return TW.State.hover(arbitrary);
+    }
+
+    @Benchmark
+    public String typedVariantStack() {
+        return TwVariant.DARK.then(TwVariant.MD).then(TwVariant.GROUP_HOVER).apply(utility);
+    }
+
+    @Benchmark
+    public String stackedVariant() {
+        return TwStyle.of().dark(TwStyle.of().hover(utility)).build();
+    }
+}
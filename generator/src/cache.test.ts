@@ -0,0 +1,158 @@
+/**
+ * Checks when the stage cache of cache.ts is invalidated, run with "npm test".
+ * <p>
+ * A stage is only skipped while its inputs, the effective config and the generator sources are
+ * unchanged and its outputs are still as it wrote them. The real cache file is restored afterwards.
+ */
+
+import * as assert from 'assert';
+import * as fs from 'fs';
+import * as os from 'os';
+import * as path from 'path';
+import { CACHE_FILE, isUpToDate, recordStage, stageKey, writeIfChanged } from './cache';
+
+const STAGE = 'cache-test';
+
+const cachePath = path.join(__dirname, '..', CACHE_FILE);
+
+/**
+ * Runs a test with an input and an output file in a temporary directory
+ */
+function withFiles(test: (input: string, output: string) => void): void {
+  const dir = fs.mkdtempSync(path.join(os.tmpdir(), 'generator-cache-'));
+  try {
+    const input = path.join(dir, 'input.json');
+    const output = path.join(dir, 'Output.java');
+    fs.writeFileSync(input, '{"utilities":["p-4"]}');
+    fs.writeFileSync(output, 'class Output {}');
+    test(input, output);
+  } finally {
+    fs.rmSync(dir, { recursive: true, force: true });
+  }
+}
+
+function testUnchangedStageIsUpToDate(): void {
+  withFiles((input, output) => {
+    const key = stageKey([input], [{ enums: false }]);
+    assert.strictEqual(isUpToDate(STAGE, key), false, 'not recorded yet');
+    recordStage(STAGE, key, [output]);
+    assert.strictEqual(isUpToDate(STAGE, stageKey([input], [{ enums: false }])), true);
+  });
+}
+
+function testChangedInputs(): void {
+  withFiles((input, output) => {
+    const key = stageKey([input], []);
+    recordStage(STAGE, key, [output]);
+
+    fs.writeFileSync(input, '{"utilities":["p-6"]}');
+    assert.notStrictEqual(stageKey([input], []), key);
+    assert.strictEqual(isUpToDate(STAGE, stageKey([input], [])), false);
+
+    const missing = path.join(path.dirname(input), 'variants.json');
+    const withoutVariants = stageKey([input, missing], []);
+    fs.writeFileSync(missing, '[]');
+    assert.notStrictEqual(stageKey([input, missing], []), withoutVariants, 'a created input changes the key');
+  });
+}
+
+function testChangedConfig(): void {
+  withFiles(input => {
+    assert.notStrictEqual(stageKey([input], [{ enums: true }]), stageKey([input], [{ enums: false }]));
+    assert.notStrictEqual(stageKey([input], [{ targets: ['a'] }]), stageKey([input], [{ targets: ['b'] }]));
+  });
+}
+
+function testChangedGeneratorSources(): void {
+  withFiles(input => {
+    const key = stageKey([input], []);
+    const source = path.join(__dirname, 'cache-probe.ts');
+    try {
+      fs.writeFileSync(source, 'export const PROBE = 1;\n');
+      const withSource = stageKey([input], []);
+      assert.notStrictEqual(withSource, key, 'an added source changes the key');
+      fs.writeFileSync(source, 'export const PROBE = 2;\n');
+      assert.notStrictEqual(stageKey([input], []), withSource, 'an edited source changes the key');
+    } finally {
+      fs.rmSync(source, { force: true });
+    }
+    assert.strictEqual(stageKey([input], []), key);
+
+    // Tests are not generator sources
+    const testSource = path.join(__dirname, 'cache-probe.test.ts');
+    try {
+      fs.writeFileSync(testSource, 'export const PROBE = 1;\n');
+      assert.strictEqual(stageKey([input], []), key);
+    } finally {
+      fs.rmSync(testSource, { force: true });
+    }
+  });
+}
+
+function testEditedOrDeletedOutputs(): void {
+  withFiles((input, output) => {
+    const key = stageKey([input], []);
+    recordStage(STAGE, key, [output]);
+    assert.strictEqual(isUpToDate(STAGE, key), true);
+
+    fs.writeFileSync(output, 'class Output { int edited; }');
+    assert.strictEqual(isUpToDate(STAGE, key), false, 'an output edited by hand is regenerated');
+
+    recordStage(STAGE, key, [output]);
+    fs.rmSync(output);
+    assert.strictEqual(isUpToDate(STAGE, key), false, 'a deleted output is regenerated');
+  });
+}
+
+function testCorruptCache(): void {
+  withFiles((input, output) => {
+    const key = stageKey([input], []);
+    recordStage(STAGE, key, [output]);
+    fs.writeFileSync(cachePath, '{"cache-test": ');
+    assert.strictEqual(isUpToDate(STAGE, key), false);
+  });
+}
+
+function testWriteIfChanged(): void {
+  withFiles((input, output) => {
+    assert.strictEqual(writeIfChanged(output, 'class Output {}'), false);
+    assert.strictEqual(writeIfChanged(output, 'class Output { }'), true);
+    const nested = path.join(path.dirname(output), 'a', 'b', 'Nested.java');
+    assert.strictEqual(writeIfChanged(nested, 'class Nested {}'), true);
+    assert.strictEqual(fs.readFileSync(nested, 'utf-8'), 'class Nested {}');
+  });
+}
+
+const tests: [string, () => void][] = [
+  ['unchanged stage is up to date', testUnchangedStageIsUpToDate],
+  ['changed inputs invalidate the stage', testChangedInputs],
+  ['changed config invalidates the stage', testChangedConfig],
+  ['changed generator sources invalidate the stage', testChangedGeneratorSources],
+  ['edited or deleted outputs invalidate the stage', testEditedOrDeletedOutputs],
+  ['corrupt cache invalidates the stage', testCorruptCache],
+  ['unchanged files are not written', testWriteIfChanged]
+];
+
+const savedCache = fs.existsSync(cachePath) ? fs.readFileSync(cachePath) : undefined;
+let failed = 0;
+try {
+  for (const [name, test] of tests) {
+    try {
+      test();
+      console.log(`ok - ${name}`);
+    } catch (error) {
+      failed++;
+      console.log(`not ok - ${name}`);
+      console.log(error instanceof Error ? error.message : error);
+    }
+  }
+} finally {
+  if (savedCache) {
+    fs.writeFileSync(cachePath, savedCache);
+  } else {
+    fs.rmSync(cachePath, { force: true });
+  }
+}
+if (failed > 0) {
+  process.exit(1);
+}
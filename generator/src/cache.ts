@@ -0,0 +1,104 @@
+import * as crypto from 'crypto';
+import * as fs from 'fs';
+import * as path from 'path';
+
+/**
+ * Cache of the input hashes and output hashes of each stage, next to the generator config
+ */
+export const CACHE_FILE = '.generator-cache.json';
+
+interface StageEntry {
+  /** Hash of everything the stage reads */
+  key: string;
+  /** Hashes of the files the stage wrote, by path relative to the generator directory */
+  outputs: { [file: string]: string };
+}
+
+interface GeneratorCache {
+  [stage: string]: StageEntry;
+}
+
+const generatorDir = path.join(__dirname, '..');
+const cachePath = path.join(generatorDir, CACHE_FILE);
+
+function sha256(content: string | Buffer): string {
+  return crypto.createHash('sha256').update(content).digest('hex');
+}
+
+function readCache(): GeneratorCache {
+  if (!fs.existsSync(cachePath)) {
+    return {};
+  }
+  try {
+    return JSON.parse(fs.readFileSync(cachePath, 'utf-8'));
+  } catch {
+    // A corrupt cache only costs a full run
+    return {};
+  }
+}
+
+/**
+ * Hashes the inputs of a stage: file contents (missing files hash as absent), extra values such as
+ * the effective config, and the generator sources, so generator changes invalidate the cache too.
+ */
+export function stageKey(files: string[], values: unknown[]): string {
+  const hash = crypto.createHash('sha256');
+
+  const sources = fs.readdirSync(__dirname)
+    .filter(file => /\.(ts|js)$/.test(file) && !/\.test\.(ts|js)$/.test(file))
+    .sort();
+  for (const file of [...files, ...sources.map(source => path.join(__dirname, source))]) {
+    hash.update(path.relative(generatorDir, file));
+    hash.update(fs.existsSync(file) ? sha256(fs.readFileSync(file)) : 'absent');
+  }
+  for (const value of values) {
+    hash.update(JSON.stringify(value));
+  }
+
+  return hash.digest('hex');
+}
+
+/**
+ * Returns whether a stage ran with the same inputs before and its outputs are still as it wrote them
+ */
+export function isUpToDate(stage: string, key: string): boolean {
+  const entry = readCache()[stage];
+  if (!entry || entry.key !== key) {
+    return false;
+  }
+
+  return Object.entries(entry.outputs).every(([file, hash]) => {
+    const outputPath = path.join(generatorDir, file);
+    return fs.existsSync(outputPath) && sha256(fs.readFileSync(outputPath)) === hash;
+  });
+}
+
+/**
+ * Records the inputs and outputs of a completed stage
+ */
+export function recordStage(stage: string, key: string, outputPaths: string[]): void {
+  const cache = readCache();
+  const outputs: { [file: string]: string } = {};
+  for (const outputPath of outputPaths) {
+    outputs[path.relative(generatorDir, outputPath)] = sha256(fs.readFileSync(outputPath));
+  }
+
+  cache[stage] = { key, outputs };
+  fs.writeFileSync(cachePath, JSON.stringify(cache, null, 2));
+}
+
+/**
+ * Writes a file only if its content changed, so unchanged files keep their timestamps and
+ * incremental builds depending on them are not invalidated
+ *
+ * @returns whether the file was written
+ */
+export function writeIfChanged(filePath: string, content: string): boolean {
+  if (fs.existsSync(filePath) && fs.readFileSync(filePath, 'utf-8') === content) {
+    return false;
+  }
+
+  fs.mkdirSync(path.dirname(filePath), { recursive: true });
+  fs.writeFileSync(filePath, content);
+  return true;
+}
@@ -0,0 +1,72 @@
+import { GeneratorConfig } from './config';
+
+/**
+ * Path of the class list, relative to the output directory root (packaged into the runtime jar)
+ */
+export const CDS_CLASS_LIST_FILE = 'META-INF/tailwind/cds-classlist.txt';
+
+const CLASS_DECLARATION = /^( *)(?:(?:public|protected|private|static|final|abstract)\s+)*(?:class|interface|enum)\s+(\w+)/;
+const ANONYMOUS_CLASS = /^( *).*\bnew\s+[\w.]+(?:<[^()]*>)?\s*\([^;]*\)\s*\{\s*$/;
+
+interface DeclaredClass {
+  binaryName: string;
+  indent: number;
+  anonymousCount: number;
+}
+
+/**
+ * Lists the binary names of the classes declared in a generated source, nested and anonymous
+ * classes included, e.g. "TW$Spacing$Padding" or "TwMerge$1".
+ * <p>
+ * Generated sources are consistently indented, so a class ends at the first closing brace on the
+ * indentation of its declaration. Anonymous classes are numbered per enclosing class, as by javac.
+ */
+export function listDeclaredClasses(javaCode: string): string[] {
+  const classes: string[] = [];
+  const enclosing: DeclaredClass[] = [];
+
+  for (const line of javaCode.split('\n')) {
+    const declaration = line.match(CLASS_DECLARATION);
+    const anonymous = declaration ? null : line.match(ANONYMOUS_CLASS);
+    const closing = line.match(/^( *)\}/);
+
+    if (declaration || anonymous) {
+      const indent = (declaration ?? anonymous)![1].length;
+      const outer = enclosing[enclosing.length - 1];
+      const binaryName = declaration
+        ? (outer ? `${outer.binaryName}$${declaration[2]}` : declaration[2])
+        : `${outer.binaryName}$${++outer.anonymousCount}`;
+
+      classes.push(binaryName);
+      if (!line.trimEnd().endsWith('}')) {
+        enclosing.push({ binaryName, indent, anonymousCount: 0 });
+      }
+    } else if (closing && enclosing.length > 0 && closing[1].length === enclosing[enclosing.length - 1].indent) {
+      enclosing.pop();
+    }
+  }
+
+  return classes;
+}
+
+/**
+ * Generates a class list for Class Data Sharing, in the format of -XX:SharedClassListFile.
+ * <p>
+ * It covers every generated class, so it can be appended to an application's own class list
+ * before dumping an AppCDS archive with -Xshare:dump.
+ */
+export function generateClassList(sources: Map<string, string>, config: GeneratorConfig): string {
+  const packagePath = config.java.package.replace(/\./g, '/');
+  const lines: string[] = [];
+
+  lines.push('# Classes generated by the Tailwind CSS Java generator, for -XX:SharedClassListFile');
+  lines.push(`# ${config.java.package}`);
+
+  for (const javaCode of sources.values()) {
+    for (const className of listDeclaredClasses(javaCode)) {
+      lines.push(`${packagePath}/${className}`);
+    }
+  }
+
+  return lines.join('\n') + '\n';
+}
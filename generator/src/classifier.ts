@@ -1,4 +1,5 @@
 import { GroupingConfig } from './config';
+import { subcategoryOf } from './rules';
 
 export interface ClassifiedUtility {
   topLevel: string;        // e.g., "Spacing"
@@ -95,7 +96,7 @@ export function classifyUtility(
 }
 
 /**
- * Determines subcategory based on class name patterns
+ * Determines subcategory from the category rules
  */
 function determineSubcategory(
   category: string,
@@ -104,44 +105,7 @@ function determineSubcategory(
 ): string | undefined {
   if (!config.subcategories) return undefined;
 
-  // For spacing
-  if (category === 'padding') return 'Padding';
-  if (category === 'margin') return 'Margin';
-  if (category === 'gap') return 'Gap';
-  if (category === 'space-between') return 'Space';
-
-  // For sizing
-  if (category === 'width') return 'Width';
-  if (category === 'min-width') return 'MinWidth';
-  if (category === 'max-width') return 'MaxWidth';
-  if (category === 'height') return 'Height';
-  if (category === 'min-height') return 'MinHeight';
-  if (category === 'max-height') return 'MaxHeight';
-  if (category === 'size') return 'Size';
-
-  // For typography
-  if (category === 'font-size') return 'FontSize';
-  if (category === 'font-weight') return 'FontWeight';
-  if (category === 'font-family') return 'FontFamily';
-  if (category === 'font-style') return 'FontStyle';
-  if (category === 'line-height') return 'LineHeight';
-  if (category === 'text-align') return 'TextAlign';
-  if (category === 'text-transform') return 'TextTransform';
-  if (category === 'text-decoration' || category === 'text-decoration-color' || category === 'text-decoration-style') {
-    return 'TextDecoration';
-  }
-
-  // For flex
-  if (category === 'align-items') return 'AlignItems';
-  if (category === 'justify-content') return 'JustifyContent';
-  if (category === 'align-content') return 'AlignContent';
-  if (category === 'align-self') return 'AlignSelf';
-
-  // For effects
-  if (category === 'box-shadow') return 'Shadow';
-  if (category === 'opacity') return 'Opacity';
-
-  return undefined;
+  return subcategoryOf(category);
 }
 
 /**
@@ -0,0 +1,249 @@
+import { CLASS_SET_CLASS } from './classset';
+import { GeneratorConfig } from './config';
+import { REGISTRY_CLASS } from './registry';
+import { VARIANTS_CLASS, VARIANT_CLASS } from './variants';
+
+/**
+ * Name of the generated class attribute tokenizer
+ */
+export const TOKENIZER_CLASS = 'TwTokenizer';
+
+/** Variants per class the tokenizer has room for before growing its arrays */
+const INITIAL_VARIANTS = 4;
+
+/**
+ * Generates a reusable tokenizer that walks the classes of a class attribute value and resolves
+ * their variants and utility through the perfect hashes, without creating substrings
+ */
+export function generateTokenizerClass(config: GeneratorConfig): string {
+  const lines: string[] = [];
+  const name = TOKENIZER_CLASS;
+
+  lines.push(`package ${config.java.package};`);
+  lines.push('');
+  lines.push('import java.util.Arrays;');
+  lines.push('import java.util.Objects;');
+  lines.push('');
+  lines.push('/**');
+  lines.push(' * A tokenizer of class attribute values that resolves each class to its variants and utility');
+  lines.push(' * ID in place, without splitting the value or creating substrings.');
+  lines.push(' * <p>');
+  lines.push(' * A tokenizer is positioned on one class at a time and reused across values, so parsing does not');
+  lines.push(` * allocate once its variant arrays have grown to the longest stack seen (${INITIAL_VARIANTS} variants up front):`);
+  lines.push(' *');
+  lines.push(' * <pre>{@code');
+  lines.push(` * ${name} tokens = new ${name}();`);
+  lines.push(` * ${CLASS_SET_CLASS} base = new ${CLASS_SET_CLASS}();`);
+  lines.push(' * tokens.reset("flex items-center md:p-4 hover:bg-blue-600");');
+  lines.push(' * while (tokens.next()) {');
+  lines.push(' *     if (tokens.variantCount() == 0 && tokens.utilityId() >= 0) {');
+  lines.push(' *         base.add(tokens.utilityId()); // flex, items-center');
+  lines.push(' *     }');
+  lines.push(' * }');
+  lines.push(' * }</pre>');
+  lines.push(' * <p>');
+  lines.push(' * Classes are split on whitespace, and variants on colons outside brackets and parentheses, like');
+  lines.push(` * {@link ${config.java.className}#merge(String...)}. The important modifier is recognized in front of the`);
+  lines.push(' * utility ({@code !p-4}) and after it ({@code p-4!}). Instances are mutable and not thread-safe.');
+  lines.push(' */');
+  lines.push(`public final class ${name} {`);
+  lines.push('');
+  lines.push('    private CharSequence chars = "";');
+  lines.push('    private int length;');
+  lines.push('    private int position;');
+  lines.push('');
+  lines.push('    private int start;');
+  lines.push('    private int end;');
+  lines.push('    private int utilityStart;');
+  lines.push('    private int utilityEnd;');
+  lines.push('    private int utilityId = -1;');
+  lines.push('    private boolean important;');
+  lines.push('');
+  lines.push(`    /** Variant index of each variant of the current class, see {@link ${VARIANTS_CLASS}} */`);
+  lines.push(`    private int[] variants = new int[${INITIAL_VARIANTS}];`);
+  lines.push('');
+  lines.push('    /** End of each variant of the current class, after its colon */');
+  lines.push(`    private int[] variantEnds = new int[${INITIAL_VARIANTS}];`);
+  lines.push('');
+  lines.push('    private int variantCount;');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Creates a tokenizer without input; call {@link #reset(CharSequence)} before {@link #next()}.');
+  lines.push('     */');
+  lines.push(`    public ${name}() {}`);
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Creates a tokenizer positioned before the first class of {@code chars}.');
+  lines.push('     */');
+  lines.push(`    public ${name}(CharSequence chars) {`);
+  lines.push('        reset(chars);');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Positions this tokenizer before the first class of {@code chars}. The characters are read');
+  lines.push('     * as {@link #next()} advances, so they must not change in between.');
+  lines.push('     */');
+  lines.push(`    public ${name} reset(CharSequence chars) {`);
+  lines.push('        this.chars = Objects.requireNonNull(chars, "chars");');
+  lines.push('        length = chars.length();');
+  lines.push('        position = 0;');
+  lines.push('        start = 0;');
+  lines.push('        end = 0;');
+  lines.push('        utilityStart = 0;');
+  lines.push('        utilityEnd = 0;');
+  lines.push('        utilityId = -1;');
+  lines.push('        important = false;');
+  lines.push('        variantCount = 0;');
+  lines.push('        return this;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Moves to the next class, returning {@code false} if there is none.');
+  lines.push('     */');
+  lines.push('    public boolean next() {');
+  lines.push('        while (position < length && Character.isWhitespace(chars.charAt(position))) {');
+  lines.push('            position++;');
+  lines.push('        }');
+  lines.push('        if (position == length) {');
+  lines.push('            start = end = utilityStart = utilityEnd = length;');
+  lines.push('            utilityId = -1;');
+  lines.push('            important = false;');
+  lines.push('            variantCount = 0;');
+  lines.push('            return false;');
+  lines.push('        }');
+  lines.push('');
+  lines.push('        start = position;');
+  lines.push('        variantCount = 0;');
+  lines.push('        int variantStart = start;');
+  lines.push('        int depth = 0;');
+  lines.push('        for (; position < length; position++) {');
+  lines.push('            char c = chars.charAt(position);');
+  lines.push('            if (Character.isWhitespace(c)) {');
+  lines.push('                break;');
+  lines.push('            }');
+  lines.push("            if (c == '[' || c == '(') {");
+  lines.push('                depth++;');
+  lines.push("            } else if (c == ']' || c == ')') {");
+  lines.push('                depth--;');
+  lines.push("            } else if (c == ':' && depth == 0) {");
+  lines.push('                addVariant(variantStart, position + 1);');
+  lines.push('                variantStart = position + 1;');
+  lines.push('            }');
+  lines.push('        }');
+  lines.push('        end = position;');
+  lines.push('');
+  lines.push('        // Important modifier: "!p-4" (v3) or "p-4!" (v4)');
+  lines.push('        utilityStart = variantStart;');
+  lines.push('        utilityEnd = end;');
+  lines.push('        important = false;');
+  lines.push('        if (utilityEnd - utilityStart > 1) {');
+  lines.push("            if (chars.charAt(utilityStart) == '!') {");
+  lines.push('                utilityStart++;');
+  lines.push('                important = true;');
+  lines.push("            } else if (chars.charAt(utilityEnd - 1) == '!') {");
+  lines.push('                utilityEnd--;');
+  lines.push('                important = true;');
+  lines.push('            }');
+  lines.push('        }');
+  lines.push(`        utilityId = utilityStart < utilityEnd ? ${REGISTRY_CLASS}.id(chars, utilityStart, utilityEnd) : -1;`);
+  lines.push('        return true;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    private void addVariant(int variantStart, int variantEnd) {');
+  lines.push('        if (variantCount == variants.length) {');
+  lines.push('            variants = Arrays.copyOf(variants, variantCount * 2);');
+  lines.push('            variantEnds = Arrays.copyOf(variantEnds, variantCount * 2);');
+  lines.push('        }');
+  lines.push(`        variants[variantCount] = ${VARIANTS_CLASS}.index(chars, variantStart, variantEnd);`);
+  lines.push('        variantEnds[variantCount] = variantEnd;');
+  lines.push('        variantCount++;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /** Start of the current class in the characters */');
+  lines.push('    public int start() {');
+  lines.push('        return start;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /** End of the current class in the characters, exclusive */');
+  lines.push('    public int end() {');
+  lines.push('        return end;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /** Start of the utility of the current class, after its variants and important modifier */');
+  lines.push('    public int utilityStart() {');
+  lines.push('        return utilityStart;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /** End of the utility of the current class, before a trailing important modifier, exclusive */');
+  lines.push('    public int utilityEnd() {');
+  lines.push('        return utilityEnd;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push(`     * Utility ID of the current class without its variants, see {@link ${REGISTRY_CLASS}}, or {@code -1}`);
+  lines.push('     * if it is not a known utility, e.g. an arbitrary value or a custom class.');
+  lines.push('     */');
+  lines.push('    public int utilityId() {');
+  lines.push('        return utilityId;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Class name of the utility of the current class, e.g. {@code "p-4"} for {@code md:p-4}, or');
+  lines.push('     * {@code null} if it is not a known utility. Returns a shared instance.');
+  lines.push('     */');
+  lines.push('    public String utility() {');
+  lines.push(`        return utilityId < 0 ? null : ${REGISTRY_CLASS}.className(utilityId);`);
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /** Whether the current class has the important modifier */');
+  lines.push('    public boolean important() {');
+  lines.push('        return important;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /** Number of variants of the current class, e.g. 2 for {@code dark:md:p-4} */');
+  lines.push('    public int variantCount() {');
+  lines.push('        return variantCount;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the variant at {@code index} of the current class, or {@code null} if it is not a');
+  lines.push('     * precomputed variant, e.g. an arbitrary one such as {@code data-[state=open]:}.');
+  lines.push('     *');
+  lines.push('     * @throws IndexOutOfBoundsException if the index is not in {@code [0, variantCount())}');
+  lines.push('     */');
+  lines.push(`    public ${VARIANT_CLASS} variant(int index) {`);
+  lines.push('        int variant = variants[Objects.checkIndex(index, variantCount)];');
+  lines.push(`        return variant < 0 ? null : ${VARIANT_CLASS}.byIndex(variant);`);
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Start of the variant at {@code index} of the current class in the characters.');
+  lines.push('     *');
+  lines.push('     * @throws IndexOutOfBoundsException if the index is not in {@code [0, variantCount())}');
+  lines.push('     */');
+  lines.push('    public int variantStart(int index) {');
+  lines.push('        Objects.checkIndex(index, variantCount);');
+  lines.push('        return index == 0 ? start : variantEnds[index - 1];');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * End of the variant at {@code index} of the current class in the characters, after its colon,');
+  lines.push('     * exclusive.');
+  lines.push('     *');
+  lines.push('     * @throws IndexOutOfBoundsException if the index is not in {@code [0, variantCount())}');
+  lines.push('     */');
+  lines.push('    public int variantEnd(int index) {');
+  lines.push('        return variantEnds[Objects.checkIndex(index, variantCount)];');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the current class as a new String, e.g. for error messages. Unlike the other');
+  lines.push('     * accessors, this allocates.');
+  lines.push('     */');
+  lines.push('    public String token() {');
+  lines.push('        return chars.subSequence(start, end).toString();');
+  lines.push('    }');
+  lines.push('}');
+
+  return lines.join('\n');
+}
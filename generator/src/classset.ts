@@ -0,0 +1,446 @@
+import { GeneratorConfig } from './config';
+import { REGISTRY_CLASS, UTILITY_INTERFACE } from './registry';
+import { RESULT_CACHE_CLASS } from './resultcache';
+
+/**
+ * Name of the generated bitset class
+ */
+export const CLASS_SET_CLASS = 'TwClassSet';
+
+/**
+ * Generates a set of utilities backed by a bitset over utility IDs
+ */
+export function generateClassSetClass(config: GeneratorConfig): string {
+  const lines: string[] = [];
+  const name = CLASS_SET_CLASS;
+  const tw = config.java.className;
+
+  lines.push(`package ${config.java.package};`);
+  lines.push('');
+  lines.push('import java.io.Serializable;');
+  lines.push('import java.util.Arrays;');
+  lines.push('import java.util.EnumSet;');
+  lines.push('import java.util.Objects;');
+  lines.push('import java.util.Set;');
+  lines.push('');
+  lines.push('/**');
+  lines.push(' * A set of Tailwind CSS utilities backed by a bitset over utility IDs.');
+  lines.push(' * <p>');
+  lines.push(` * Every utility in {@link ${REGISTRY_CLASS}} maps to one bit, so membership tests are a`);
+  lines.push(' * single word lookup and set operations run over a fixed, small number of words without');
+  lines.push(' * hashing any strings.');
+  lines.push(' * <p>');
+  lines.push(' * Only generated utilities without variants can be stored. Variant-prefixed classes such as');
+  lines.push(' * {@code md:p-4} and arbitrary values such as {@code p-[13px]} have no bit, so they are rejected');
+  lines.push(' * when added rather than silently left out of {@link #delta(TwClassSet)} and');
+  lines.push(' * {@link #toClassString()}. Keep them next to the set, or merge them with');
+  lines.push(` * {@link ${tw}#merge(String...)}.`);
+  lines.push(' *');
+  lines.push(' * <pre>{@code');
+  lines.push(` * ${name} base = ${name}.of(${config.java.className}.Spacing.Padding.P_4, ${config.java.className}.Background.WHITE);`);
+  lines.push(` * ${name} active = base.union(${name}.of(${config.java.className}.Effects.Shadow.LG));`);
+  lines.push(' * component.setClassName(active.toClassString());');
+  lines.push(' * }</pre>');
+  lines.push(' * <p>');
+  lines.push(' * Instances are mutable and not thread-safe.');
+  lines.push(' */');
+  lines.push(`public final class ${name} implements Serializable {`);
+  lines.push('');
+  lines.push('    private static final long serialVersionUID = 1L;');
+  lines.push('');
+  lines.push('    /** Number of 64-bit words needed to hold one bit per utility */');
+  lines.push(`    static final int WORDS = (${REGISTRY_CLASS}.COUNT + 63) >>> 6;`);
+  lines.push('');
+  lines.push('    /**');
+  lines.push(`     * Maximum number of cached class strings of {@link ${UTILITY_INTERFACE}} sets; strings not used`);
+  lines.push('     * recently are evicted');
+  lines.push('     */');
+  lines.push('    public static final int CACHE_SIZE = 4096;');
+  lines.push('');
+  lines.push(`    private static final ${RESULT_CACHE_CLASS}<Set<?>, String> CLASS_STRINGS = new ${RESULT_CACHE_CLASS}<>(CACHE_SIZE);`);
+  lines.push('');
+  lines.push('    private final long[] words;');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Creates an empty set.');
+  lines.push('     */');
+  lines.push(`    public ${name}() {`);
+  lines.push('        this.words = new long[WORDS];');
+  lines.push('    }');
+  lines.push('');
+  lines.push(`    private ${name}(long[] words) {`);
+  lines.push('        this.words = words;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Creates a set containing the given utilities.');
+  lines.push('     *');
+  lines.push('     * @throws IllegalArgumentException if a class name is not a known utility, e.g. because it has');
+  lines.push('     *         variants');
+  lines.push('     * @throws NullPointerException if a class name is null');
+  lines.push('     */');
+  lines.push(`    public static ${name} of(String... classNames) {`);
+  lines.push(`        ${name} set = new ${name}();`);
+  lines.push('        for (String className : classNames) {');
+  lines.push('            set.add(className);');
+  lines.push('        }');
+  lines.push('        return set;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Adds a utility by class name.');
+  lines.push('     *');
+  lines.push('     * @return {@code true} if the set did not already contain the utility');
+  lines.push('     * @throws IllegalArgumentException if the class name is not a known utility, e.g. because it has');
+  lines.push('     *         variants');
+  lines.push('     * @throws NullPointerException if the class name is null');
+  lines.push('     */');
+  lines.push('    public boolean add(String className) {');
+  lines.push(`        int id = ${REGISTRY_CLASS}.id(Objects.requireNonNull(className, "className"));`);
+  lines.push('        if (id < 0) {');
+  lines.push("            int colon = className.indexOf(':');");
+  lines.push("            int bracket = className.indexOf('[');");
+  lines.push('            if (colon >= 0 && (bracket < 0 || colon < bracket)) {');
+  lines.push('                throw new IllegalArgumentException("Variant-prefixed classes cannot be stored in a "');
+  lines.push(`                        + "${name}, keep them separately: " + className);`);
+  lines.push('            }');
+  lines.push('            throw new IllegalArgumentException("Unknown Tailwind utility: " + className);');
+  lines.push('        }');
+  lines.push('        return add(id);');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Adds a utility by ID.');
+  lines.push('     *');
+  lines.push('     * @return {@code true} if the set did not already contain the utility');
+  lines.push('     */');
+  lines.push('    public boolean add(int id) {');
+  lines.push('        checkId(id);');
+  lines.push('        long mask = 1L << id;');
+  lines.push('        long word = words[id >>> 6];');
+  lines.push('        words[id >>> 6] = word | mask;');
+  lines.push('        return (word & mask) == 0;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Removes a utility by class name. Unknown class names are ignored.');
+  lines.push('     *');
+  lines.push('     * @return {@code true} if the set contained the utility');
+  lines.push('     */');
+  lines.push('    public boolean remove(String className) {');
+  lines.push(`        int id = ${REGISTRY_CLASS}.id(className);`);
+  lines.push('        return id >= 0 && remove(id);');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Removes a utility by ID.');
+  lines.push('     *');
+  lines.push('     * @return {@code true} if the set contained the utility');
+  lines.push('     */');
+  lines.push('    public boolean remove(int id) {');
+  lines.push('        checkId(id);');
+  lines.push('        long mask = 1L << id;');
+  lines.push('        long word = words[id >>> 6];');
+  lines.push('        words[id >>> 6] = word & ~mask;');
+  lines.push('        return (word & mask) != 0;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Checks whether the set contains a utility. Unknown class names are never contained.');
+  lines.push('     */');
+  lines.push('    public boolean contains(String className) {');
+  lines.push(`        int id = ${REGISTRY_CLASS}.id(className);`);
+  lines.push('        return id >= 0 && contains(id);');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Checks whether the set contains a utility ID.');
+  lines.push('     */');
+  lines.push('    public boolean contains(int id) {');
+  lines.push(`        if (id < 0 || id >= ${REGISTRY_CLASS}.COUNT) {`);
+  lines.push('            return false;');
+  lines.push('        }');
+  lines.push('        return (words[id >>> 6] & (1L << id)) != 0;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns a new set with the utilities of this set and {@code other}.');
+  lines.push('     */');
+  lines.push(`    public ${name} union(${name} other) {`);
+  lines.push('        long[] result = new long[WORDS];');
+  lines.push('        for (int i = 0; i < WORDS; i++) {');
+  lines.push('            result[i] = words[i] | other.words[i];');
+  lines.push('        }');
+  lines.push(`        return new ${name}(result);`);
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns a new set with the utilities of this set that are not in {@code other}.');
+  lines.push('     */');
+  lines.push(`    public ${name} diff(${name} other) {`);
+  lines.push('        long[] result = new long[WORDS];');
+  lines.push('        for (int i = 0; i < WORDS; i++) {');
+  lines.push('            result[i] = words[i] & ~other.words[i];');
+  lines.push('        }');
+  lines.push(`        return new ${name}(result);`);
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns a new set with the utilities contained in both this set and {@code other}.');
+  lines.push('     */');
+  lines.push(`    public ${name} intersect(${name} other) {`);
+  lines.push('        long[] result = new long[WORDS];');
+  lines.push('        for (int i = 0; i < WORDS; i++) {');
+  lines.push('            result[i] = words[i] & other.words[i];');
+  lines.push('        }');
+  lines.push(`        return new ${name}(result);`);
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the changes that turn this set into {@code target}: the utilities to add and the');
+  lines.push('     * utilities to remove, and nothing that is in both sets. Classes with variants are never part');
+  lines.push('     * of a set, so they are not part of the delta either.');
+  lines.push('     * <p>');
+  lines.push('     * The changed utilities are found with one XOR per word, then split by the set they come from.');
+  lines.push('     *');
+  lines.push('     * <pre>{@code');
+  lines.push(`     * ${name}.Delta delta = current.delta(next);`);
+  lines.push('     * component.removeClassNames(delta.toRemove());');
+  lines.push('     * component.addClassNames(delta.toAdd());');
+  lines.push('     * }</pre>');
+  lines.push('     */');
+  lines.push(`    public Delta delta(${name} target) {`);
+  lines.push('        long[] added = new long[WORDS];');
+  lines.push('        long[] removed = new long[WORDS];');
+  lines.push('        for (int i = 0; i < WORDS; i++) {');
+  lines.push('            long changed = words[i] ^ target.words[i];');
+  lines.push('            added[i] = changed & target.words[i];');
+  lines.push('            removed[i] = changed & words[i];');
+  lines.push('        }');
+  lines.push(`        return new Delta(new ${name}(added), new ${name}(removed));`);
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Adds all utilities of {@code other} to this set.');
+  lines.push('     */');
+  lines.push(`    public void addAll(${name} other) {`);
+  lines.push('        for (int i = 0; i < WORDS; i++) {');
+  lines.push('            words[i] |= other.words[i];');
+  lines.push('        }');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Removes all utilities of {@code other} from this set.');
+  lines.push('     */');
+  lines.push(`    public void removeAll(${name} other) {`);
+  lines.push('        for (int i = 0; i < WORDS; i++) {');
+  lines.push('            words[i] &= ~other.words[i];');
+  lines.push('        }');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Removes all utilities.');
+  lines.push('     */');
+  lines.push('    public void clear() {');
+  lines.push('        Arrays.fill(words, 0L);');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the number of utilities in the set.');
+  lines.push('     */');
+  lines.push('    public int size() {');
+  lines.push('        int size = 0;');
+  lines.push('        for (long word : words) {');
+  lines.push('            size += Long.bitCount(word);');
+  lines.push('        }');
+  lines.push('        return size;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Checks whether the set is empty.');
+  lines.push('     */');
+  lines.push('    public boolean isEmpty() {');
+  lines.push('        for (long word : words) {');
+  lines.push('            if (word != 0) {');
+  lines.push('                return false;');
+  lines.push('            }');
+  lines.push('        }');
+  lines.push('        return true;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the smallest utility ID in the set that is greater than or equal to');
+  lines.push('     * {@code fromId}, or {@code -1} if there is none.');
+  lines.push('     * <pre>{@code');
+  lines.push('     * for (int id = set.nextId(0); id >= 0; id = set.nextId(id + 1)) {');
+  lines.push('     *     ...');
+  lines.push('     * }');
+  lines.push('     * }</pre>');
+  lines.push('     */');
+  lines.push('    public int nextId(int fromId) {');
+  lines.push(`        if (fromId >= ${REGISTRY_CLASS}.COUNT) {`);
+  lines.push('            return -1;');
+  lines.push('        }');
+  lines.push('        int from = Math.max(fromId, 0);');
+  lines.push('        int index = from >>> 6;');
+  lines.push('        long word = words[index] & (-1L << from);');
+  lines.push('        while (true) {');
+  lines.push('            if (word != 0) {');
+  lines.push('                return (index << 6) + Long.numberOfTrailingZeros(word);');
+  lines.push('            }');
+  lines.push('            if (++index == WORDS) {');
+  lines.push('                return -1;');
+  lines.push('            }');
+  lines.push('            word = words[index];');
+  lines.push('        }');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns a copy of this set.');
+  lines.push('     */');
+  lines.push(`    public ${name} copy() {`);
+  lines.push(`        return new ${name}(words.clone());`);
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the class names of the utilities in the set, ordered by utility ID.');
+  lines.push('     */');
+  lines.push('    public String[] toArray() {');
+  lines.push('        String[] result = new String[size()];');
+  lines.push('        int i = 0;');
+  lines.push('        for (int id = nextId(0); id >= 0; id = nextId(id + 1)) {');
+  lines.push(`            result[i++] = ${REGISTRY_CLASS}.NAMES[id];`);
+  lines.push('        }');
+  lines.push('        return result;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the utilities as a space-separated class attribute value, ordered by utility ID.');
+  lines.push('     */');
+  lines.push('    public String toClassString() {');
+  lines.push('        StringBuilder builder = new StringBuilder();');
+  lines.push('        for (int id = nextId(0); id >= 0; id = nextId(id + 1)) {');
+  lines.push('            if (builder.length() > 0) {');
+  lines.push("                builder.append(' ');");
+  lines.push('            }');
+  lines.push(`            builder.append(${REGISTRY_CLASS}.NAMES[id]);`);
+  lines.push('        }');
+  lines.push('        return builder.toString();');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push(`     * Returns the class string of a set of utilities, see {@link ${UTILITY_INTERFACE}#toClassString(Set)}.`);
+  lines.push('     * Sets are cached by content: a copy of the set is the key, so later changes to it do not');
+  lines.push('     * affect the cache.');
+  lines.push('     */');
+  lines.push(`    static String toClassString(Set<? extends ${UTILITY_INTERFACE}> utilities) {`);
+  lines.push('        String classString = CLASS_STRINGS.get(utilities);');
+  lines.push('        if (classString == null) {');
+  lines.push(`            ${name} set = new ${name}();`);
+  lines.push(`            for (${UTILITY_INTERFACE} utility : utilities) {`);
+  lines.push('                set.add(utility.id());');
+  lines.push('            }');
+  lines.push('            Set<?> key = utilities instanceof EnumSet ? ((EnumSet<?>) utilities).clone() : Set.copyOf(utilities);');
+  lines.push('            classString = CLASS_STRINGS.put(key, set.toClassString());');
+  lines.push('        }');
+  lines.push('        return classString;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    @Override');
+  lines.push('    public boolean equals(Object obj) {');
+  lines.push(`        return obj instanceof ${name} && Arrays.equals(words, ((${name}) obj).words);`);
+  lines.push('    }');
+  lines.push('');
+  lines.push('    @Override');
+  lines.push('    public int hashCode() {');
+  lines.push('        return Arrays.hashCode(words);');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    @Override');
+  lines.push('    public String toString() {');
+  lines.push('        return "[" + toClassString() + "]";');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    private static void checkId(int id) {');
+  lines.push(`        if (id < 0 || id >= ${REGISTRY_CLASS}.COUNT) {`);
+  lines.push('            throw new IndexOutOfBoundsException("Invalid utility ID: " + id);');
+  lines.push('        }');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push(`     * The minimal changes between two sets, see {@link ${name}#delta(${name})}. Immutable.`);
+  lines.push('     */');
+  lines.push('    public static final class Delta implements Serializable {');
+  lines.push('');
+  lines.push('        private static final long serialVersionUID = 1L;');
+  lines.push('');
+  lines.push(`        private final ${name} added;`);
+  lines.push(`        private final ${name} removed;`);
+  lines.push('');
+  lines.push(`        Delta(${name} added, ${name} removed) {`);
+  lines.push('            this.added = added;');
+  lines.push('            this.removed = removed;');
+  lines.push('        }');
+  lines.push('');
+  lines.push('        /**');
+  lines.push('         * Returns a copy of the utilities to add.');
+  lines.push('         */');
+  lines.push(`        public ${name} added() {`);
+  lines.push('            return added.copy();');
+  lines.push('        }');
+  lines.push('');
+  lines.push('        /**');
+  lines.push('         * Returns a copy of the utilities to remove.');
+  lines.push('         */');
+  lines.push(`        public ${name} removed() {`);
+  lines.push('            return removed.copy();');
+  lines.push('        }');
+  lines.push('');
+  lines.push('        /**');
+  lines.push('         * Returns the class names to add, ordered by utility ID.');
+  lines.push('         */');
+  lines.push('        public String[] toAdd() {');
+  lines.push('            return added.toArray();');
+  lines.push('        }');
+  lines.push('');
+  lines.push('        /**');
+  lines.push('         * Returns the class names to remove, ordered by utility ID.');
+  lines.push('         */');
+  lines.push('        public String[] toRemove() {');
+  lines.push('            return removed.toArray();');
+  lines.push('        }');
+  lines.push('');
+  lines.push('        /**');
+  lines.push('         * Checks whether both sets were equal, so nothing needs to change.');
+  lines.push('         */');
+  lines.push('        public boolean isEmpty() {');
+  lines.push('            return added.isEmpty() && removed.isEmpty();');
+  lines.push('        }');
+  lines.push('');
+  lines.push('        /**');
+  lines.push('         * Applies the changes to a set, turning the source set of the delta into its target.');
+  lines.push('         */');
+  lines.push(`        public void applyTo(${name} set) {`);
+  lines.push('            set.removeAll(removed);');
+  lines.push('            set.addAll(added);');
+  lines.push('        }');
+  lines.push('');
+  lines.push('        @Override');
+  lines.push('        public boolean equals(Object obj) {');
+  lines.push('            return obj instanceof Delta && added.equals(((Delta) obj).added) && removed.equals(((Delta) obj).removed);');
+  lines.push('        }');
+  lines.push('');
+  lines.push('        @Override');
+  lines.push('        public int hashCode() {');
+  lines.push('            return 31 * added.hashCode() + removed.hashCode();');
+  lines.push('        }');
+  lines.push('');
+  lines.push('        @Override');
+  lines.push('        public String toString() {');
+  lines.push('            return "+" + added + " -" + removed;');
+  lines.push('        }');
+  lines.push('    }');
+  lines.push('}');
+
+  return lines.join('\n');
+}
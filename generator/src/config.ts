@@ -13,16 +13,47 @@ export interface GroupingConfig {
   };
 }
 
+/**
+ * Variants to generate compile-time constant holders for (e.g. TW.Md.Flex.ROW),
+ * mapped to `true` for all top-level categories or a list of top-level categories
+ */
+export interface VariantConstantsConfig {
+  [variant: string]: boolean | string[];
+}
+
+/**
+ * Named utility bundles emitted as pre-joined constants, e.g. "card": "bg-white rounded-lg p-6"
+ * as TW.Recipe.CARD, mapped to a class list or an array of class lists
+ */
+export interface RecipesConfig {
+  [name: string]: string | string[];
+}
+
 export interface GeneratorConfig {
   tailwind: {
     version: string;
     configFile: string;
     inputCss: string;
     testContent: string;
+    /**
+     * Scan the built CSS in chunks instead of parsing it into one AST, keeping memory bounded
+     * by the largest single rule for very large outputs
+     */
+    streaming?: boolean;
   };
   java: {
     package: string;
     className: string;
+    /**
+     * Emit each top-level category as its own top-level class (e.g. TwSpacing), with the main
+     * class as a thin facade extending them. Requires grouping.
+     */
+    split?: boolean;
+    /**
+     * Also emit the constants of each category class as an enum implementing TwUtility,
+     * e.g. TW.Spacing.Padding.Utility.P_4, for EnumSet-based style state. Requires grouping.
+     */
+    enums?: boolean;
   };
   output: {
     directory: string;
@@ -32,6 +63,36 @@ export interface GeneratorConfig {
     [key: string]: string;
   };
   grouping?: GroupingConfig;
+  variantConstants?: VariantConstantsConfig;
+  /** Named utility bundles emitted as pre-joined constants, e.g. TW.Recipe.CARD */
+  recipes?: RecipesConfig;
+  /**
+   * Variants of this config generated in the same run, e.g. one per brand. Each target overrides
+   * sections of this config; targets with the same tailwind section share one Tailwind build.
+   */
+  targets?: TargetConfig[];
+  /** Name of the target this config was resolved from */
+  name?: string;
+  /** Name of the Tailwind build of a target with its own tailwind section, unset for the base build */
+  build?: string;
+  /** Rerun every stage even if its inputs are unchanged (--force, not read from the config file) */
+  force?: boolean;
+  /** Only run the target of this name (--target, not read from the config file) */
+  onlyTarget?: string;
+}
+
+/**
+ * Overrides of one generation target, merged section by section over the base config
+ */
+export interface TargetConfig {
+  name: string;
+  tailwind?: Partial<GeneratorConfig['tailwind']>;
+  java?: Partial<GeneratorConfig['java']>;
+  output?: Partial<GeneratorConfig['output']>;
+  breakpoints?: { [key: string]: string };
+  grouping?: GroupingConfig;
+  variantConstants?: VariantConstantsConfig;
+  recipes?: RecipesConfig;
 }
 
 export interface Metadata {
@@ -118,6 +179,26 @@ function parseCliArgs() {
       type: 'string',
       description: 'Java class name'
     })
+    .option('force', {
+      type: 'boolean',
+      description: 'Rerun every stage even if its inputs are unchanged'
+    })
+    .option('streaming', {
+      type: 'boolean',
+      description: 'Scan the built CSS in chunks instead of parsing it into one AST'
+    })
+    .option('target', {
+      type: 'string',
+      description: 'Only run the target of this name'
+    })
+    .option('split', {
+      type: 'boolean',
+      description: 'Emit top-level categories as separate top-level classes'
+    })
+    .option('enums', {
+      type: 'boolean',
+      description: 'Also emit the constants of each category class as a TwUtility enum'
+    })
     .help()
     .parseSync();
 }
@@ -157,6 +238,25 @@ export function loadConfig(): GeneratorConfig {
     console.log(`  Overriding class name: ${args['class-name']}`);
     config.java.className = args['class-name'] as string;
   }
+  if (args.streaming !== undefined) {
+    console.log(`  Overriding streaming: ${args.streaming}`);
+    config.tailwind.streaming = args.streaming as boolean;
+  }
+  if (args.split !== undefined) {
+    console.log(`  Overriding split: ${args.split}`);
+    config.java.split = args.split as boolean;
+  }
+  if (args.enums !== undefined) {
+    console.log(`  Overriding enums: ${args.enums}`);
+    config.java.enums = args.enums as boolean;
+  }
+
+  if (args.force) {
+    config.force = true;
+  }
+  if (args.target) {
+    config.onlyTarget = args.target as string;
+  }
 
   // Auto-detect Tailwind version if needed
   if (config.tailwind.version === 'auto') {
@@ -167,6 +267,90 @@ export function loadConfig(): GeneratorConfig {
   return config;
 }
 
+/**
+ * Loads the configuration and resolves its targets: one config per target, or just the loaded
+ * config without targets. CLI overrides apply to the base config, so targets can override them.
+ */
+export function loadConfigs(): GeneratorConfig[] {
+  const base = loadConfig();
+  if (!base.targets || base.targets.length === 0) {
+    return [base];
+  }
+
+  const names = new Set<string>();
+  for (const target of base.targets) {
+    if (!target.name || names.has(target.name)) {
+      throw new Error(`Every target needs a unique name, got "${target.name}"`);
+    }
+    names.add(target.name);
+  }
+  if (base.onlyTarget && !names.has(base.onlyTarget)) {
+    throw new Error(`Unknown target "${base.onlyTarget}", expected one of: ${[...names].join(', ')}`);
+  }
+
+  // Targets with the same tailwind section share a build, the one of the base config if equal
+  const builds = new Map<string, string | undefined>([[JSON.stringify(base.tailwind), undefined]]);
+  const outputRoots = new Map<string, string>();
+  const configs: GeneratorConfig[] = [];
+
+  for (const target of base.targets) {
+    const config = resolveTarget(base, target);
+
+    const tailwindKey = JSON.stringify(config.tailwind);
+    if (!builds.has(tailwindKey)) {
+      builds.set(tailwindKey, target.name);
+    }
+    config.build = builds.get(tailwindKey);
+
+    // Supporting classes and the CDS class list have fixed names within an output directory
+    const outputRoot = path.resolve(__dirname, '..', config.output.directory);
+    const clash = outputRoots.get(outputRoot);
+    if (clash) {
+      throw new Error(`Targets "${clash}" and "${target.name}" share the output directory ${outputRoot}`);
+    }
+    outputRoots.set(outputRoot, target.name);
+
+    if (!base.onlyTarget || base.onlyTarget === target.name) {
+      configs.push(config);
+    }
+  }
+
+  return configs;
+}
+
+function resolveTarget(base: GeneratorConfig, target: TargetConfig): GeneratorConfig {
+  const config: GeneratorConfig = {
+    ...base,
+    tailwind: { ...base.tailwind, ...target.tailwind },
+    java: { ...base.java, ...target.java },
+    output: { ...base.output, ...target.output },
+    breakpoints: target.breakpoints ?? base.breakpoints,
+    grouping: target.grouping ?? base.grouping,
+    variantConstants: target.variantConstants ?? base.variantConstants,
+    recipes: target.recipes ?? base.recipes,
+    targets: undefined,
+    name: target.name
+  };
+
+  if (config.tailwind.version === 'auto') {
+    config.tailwind.version = getTailwindVersion();
+  }
+
+  return config;
+}
+
+/**
+ * Returns the name of a file of the Tailwind build a config uses, e.g. "utility-css.json" or,
+ * for a target with its own build, "utility-css.brand.json"
+ */
+export function buildFile(fileName: string, config: GeneratorConfig): string {
+  if (!config.build) {
+    return fileName;
+  }
+  const extension = path.extname(fileName);
+  return `${fileName.slice(0, -extension.length)}.${config.build}${extension}`;
+}
+
 /**
  * Creates metadata object
  */
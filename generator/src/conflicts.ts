@@ -0,0 +1,399 @@
+interface CategorizedUtilities {
+  [category: string]: string[];
+}
+
+/**
+ * Assigns utilities whose (non-negated) class name matches a pattern to a conflict group.
+ * Utilities in the same group set the same CSS properties, so only the last one applied wins.
+ */
+interface ConflictRule {
+  group: string;
+  pattern: RegExp;
+}
+
+export interface ConflictGroups {
+  groupNames: string[];            // e.g., ["padding-x", ...]
+  groupOf: number[];               // group index per utility ID
+  conflicts: number[][];           // groups overridden by each group, besides itself
+  prefixGroups: Map<string, number>; // class name prefix -> group, for values outside the universe
+  typedPrefixes: Map<string, TypedGroups>; // prefixes whose group depends on the value type
+}
+
+/**
+ * Groups of the color and length values of a prefix shared by several groups, e.g. "bg" or
+ * "text"; -1 if no known utility of the prefix has a value of that type
+ */
+export interface TypedGroups {
+  color: number;
+  length: number;
+}
+
+const COLOR = '(inherit|current|transparent|black|white|(slate|gray|zinc|neutral|stone|red|orange|amber|yellow|lime|green|emerald|teal|cyan|sky|blue|indigo|violet|purple|fuchsia|pink|rose)-\\d+)';
+
+/** Named color values, e.g. "white" or "red-500" */
+const COLOR_VALUE = new RegExp(`^${COLOR}$`);
+
+/** Named length values of the spacing, radius, width and font size scales, e.g. "2" or "lg" */
+const LENGTH_VALUE = /^(\d+(\.\d+)?|px|xs|sm|base|md|lg|\d?xl|full)$/;
+
+/**
+ * Creates a rule matching every class starting with the given prefix followed by a value
+ */
+function family(group: string, prefix: string = group): ConflictRule {
+  return { group, pattern: new RegExp(`^${prefix}(-|$)`) };
+}
+
+/**
+ * Conflict rules, tried in order. Classes not matched by any rule fall back to their
+ * extracted category, except for the "other" category where each class is its own group.
+ */
+const CONFLICT_RULES: ConflictRule[] = [
+  // Spacing
+  { group: 'p', pattern: /^p-/ },
+  { group: 'px', pattern: /^px-/ },
+  { group: 'py', pattern: /^py-/ },
+  { group: 'ps', pattern: /^ps-/ },
+  { group: 'pe', pattern: /^pe-/ },
+  { group: 'pt', pattern: /^pt-/ },
+  { group: 'pr', pattern: /^pr-/ },
+  { group: 'pb', pattern: /^pb-/ },
+  { group: 'pl', pattern: /^pl-/ },
+  { group: 'm', pattern: /^m-/ },
+  { group: 'mx', pattern: /^mx-/ },
+  { group: 'my', pattern: /^my-/ },
+  { group: 'ms', pattern: /^ms-/ },
+  { group: 'me', pattern: /^me-/ },
+  { group: 'mt', pattern: /^mt-/ },
+  { group: 'mr', pattern: /^mr-/ },
+  { group: 'mb', pattern: /^mb-/ },
+  { group: 'ml', pattern: /^ml-/ },
+  { group: 'scroll-m', pattern: /^scroll-m-/ },
+  { group: 'scroll-mx', pattern: /^scroll-mx-/ },
+  { group: 'scroll-my', pattern: /^scroll-my-/ },
+  { group: 'scroll-mt', pattern: /^scroll-mt-/ },
+  { group: 'scroll-mr', pattern: /^scroll-mr-/ },
+  { group: 'scroll-mb', pattern: /^scroll-mb-/ },
+  { group: 'scroll-ml', pattern: /^scroll-ml-/ },
+  { group: 'scroll-p', pattern: /^scroll-p-/ },
+  { group: 'scroll-px', pattern: /^scroll-px-/ },
+  { group: 'scroll-py', pattern: /^scroll-py-/ },
+  { group: 'scroll-pt', pattern: /^scroll-pt-/ },
+  { group: 'scroll-pr', pattern: /^scroll-pr-/ },
+  { group: 'scroll-pb', pattern: /^scroll-pb-/ },
+  { group: 'scroll-pl', pattern: /^scroll-pl-/ },
+  { group: 'scroll-behavior', pattern: /^scroll-(auto|smooth)$/ },
+  { group: 'gap-x', pattern: /^gap-x-/ },
+  { group: 'gap-y', pattern: /^gap-y-/ },
+  { group: 'gap', pattern: /^gap-/ },
+  { group: 'space-x-reverse', pattern: /^space-x-reverse$/ },
+  { group: 'space-y-reverse', pattern: /^space-y-reverse$/ },
+  { group: 'space-x', pattern: /^space-x-/ },
+  { group: 'space-y', pattern: /^space-y-/ },
+
+  // Position
+  { group: 'position', pattern: /^(static|fixed|absolute|relative|sticky)$/ },
+  { group: 'inset-x', pattern: /^inset-x-/ },
+  { group: 'inset-y', pattern: /^inset-y-/ },
+  { group: 'inset', pattern: /^inset-/ },
+  { group: 'top', pattern: /^top-/ },
+  { group: 'right', pattern: /^right-/ },
+  { group: 'bottom', pattern: /^bottom-/ },
+  { group: 'left', pattern: /^left-/ },
+  { group: 'start', pattern: /^start-/ },
+  { group: 'end', pattern: /^end-/ },
+
+  // Flexbox and grid
+  { group: 'flex', pattern: /^flex-(\d+|auto|initial|none)$/ },
+  { group: 'grow', pattern: /^flex-grow(-|$)/ },
+  { group: 'shrink', pattern: /^flex-shrink(-|$)/ },
+  { group: 'col-start', pattern: /^col-start-/ },
+  { group: 'col-end', pattern: /^col-end-/ },
+  { group: 'col', pattern: /^col-/ },
+  { group: 'row-start', pattern: /^row-start-/ },
+  { group: 'row-end', pattern: /^row-end-/ },
+  { group: 'row', pattern: /^row-/ },
+  { group: 'order', pattern: /^order-/ },
+
+  // Overflow
+  { group: 'overflow-x', pattern: /^overflow-x-/ },
+  { group: 'overflow-y', pattern: /^overflow-y-/ },
+  { group: 'overflow', pattern: /^overflow-/ },
+  { group: 'overscroll-x', pattern: /^overscroll-x-/ },
+  { group: 'overscroll-y', pattern: /^overscroll-y-/ },
+  { group: 'overscroll', pattern: /^overscroll-/ },
+
+  // Borders
+  { group: 'rounded-tl', pattern: /^rounded-tl(-|$)/ },
+  { group: 'rounded-tr', pattern: /^rounded-tr(-|$)/ },
+  { group: 'rounded-br', pattern: /^rounded-br(-|$)/ },
+  { group: 'rounded-bl', pattern: /^rounded-bl(-|$)/ },
+  { group: 'rounded-ss', pattern: /^rounded-ss(-|$)/ },
+  { group: 'rounded-se', pattern: /^rounded-se(-|$)/ },
+  { group: 'rounded-ee', pattern: /^rounded-ee(-|$)/ },
+  { group: 'rounded-es', pattern: /^rounded-es(-|$)/ },
+  { group: 'rounded-t', pattern: /^rounded-t(-|$)/ },
+  { group: 'rounded-r', pattern: /^rounded-r(-|$)/ },
+  { group: 'rounded-b', pattern: /^rounded-b(-|$)/ },
+  { group: 'rounded-l', pattern: /^rounded-l(-|$)/ },
+  { group: 'rounded-s', pattern: /^rounded-s(-|$)/ },
+  { group: 'rounded-e', pattern: /^rounded-e(-|$)/ },
+  { group: 'rounded', pattern: /^rounded(-|$)/ },
+  { group: 'border-w', pattern: /^border(-\d+)?$/ },
+  { group: 'border-w-x', pattern: /^border-x(-\d+)?$/ },
+  { group: 'border-w-y', pattern: /^border-y(-\d+)?$/ },
+  { group: 'border-w-s', pattern: /^border-s(-\d+)?$/ },
+  { group: 'border-w-e', pattern: /^border-e(-\d+)?$/ },
+  { group: 'border-w-t', pattern: /^border-t(-\d+)?$/ },
+  { group: 'border-w-r', pattern: /^border-r(-\d+)?$/ },
+  { group: 'border-w-b', pattern: /^border-b(-\d+)?$/ },
+  { group: 'border-w-l', pattern: /^border-l(-\d+)?$/ },
+  { group: 'border-collapse', pattern: /^border-(collapse|separate)$/ },
+  { group: 'border-spacing-x', pattern: /^border-spacing-x-/ },
+  { group: 'border-spacing-y', pattern: /^border-spacing-y-/ },
+  { group: 'border-spacing', pattern: /^border-spacing-/ },
+  { group: 'divide-x-reverse', pattern: /^divide-x-reverse$/ },
+  { group: 'divide-y-reverse', pattern: /^divide-y-reverse$/ },
+  { group: 'divide-x', pattern: /^divide-x(-\d+)?$/ },
+  { group: 'divide-y', pattern: /^divide-y(-\d+)?$/ },
+  { group: 'divide-style', pattern: /^divide-(solid|dashed|dotted|double|none)$/ },
+  { group: 'divide-color', pattern: new RegExp(`^divide-${COLOR}$`) },
+  { group: 'outline-w', pattern: /^outline(-\d+)?$/ },
+  { group: 'outline-offset', pattern: /^outline-offset-/ },
+  { group: 'outline-style', pattern: /^outline-(solid|dashed|dotted|double|none)$/ },
+  { group: 'outline-color', pattern: new RegExp(`^outline-${COLOR}$`) },
+  { group: 'ring-w', pattern: /^ring(-\d+)?$/ },
+  { group: 'ring-inset', pattern: /^ring-inset$/ },
+  { group: 'ring-offset-w', pattern: /^ring-offset-\d+$/ },
+  { group: 'ring-offset-color', pattern: new RegExp(`^ring-offset-${COLOR}$`) },
+  { group: 'ring-color', pattern: new RegExp(`^ring-${COLOR}$`) },
+
+  // Effects
+  { group: 'shadow-color', pattern: new RegExp(`^shadow-${COLOR}$`) },
+  { group: 'scale-x', pattern: /^scale-x-/ },
+  { group: 'scale-y', pattern: /^scale-y-/ },
+  { group: 'translate-x', pattern: /^translate-x-/ },
+  { group: 'translate-y', pattern: /^translate-y-/ },
+  { group: 'skew-x', pattern: /^skew-x-/ },
+  { group: 'skew-y', pattern: /^skew-y-/ },
+
+  // Typography
+  { group: 'decoration-thickness', pattern: /^decoration-(\d+|auto|from-font)$/ },
+  { group: 'text-wrap', pattern: /^text-(wrap|nowrap|balance|pretty)$/ },
+  { group: 'text-overflow', pattern: /^(text-ellipsis|text-clip|truncate)$/ },
+  { group: 'word-break', pattern: /^break-(normal|words|all|keep)$/ },
+  { group: 'fvn-normal', pattern: /^normal-nums$/ },
+  { group: 'fvn-ordinal', pattern: /^ordinal$/ },
+  { group: 'fvn-slashed-zero', pattern: /^slashed-zero$/ },
+  { group: 'fvn-figure', pattern: /^(lining|oldstyle)-nums$/ },
+  { group: 'fvn-spacing', pattern: /^(proportional|tabular)-nums$/ },
+  { group: 'fvn-fraction', pattern: /^(diagonal|stacked)-fractions$/ },
+  { group: 'list-position', pattern: /^list-(inside|outside)$/ },
+  { group: 'list-type', pattern: /^list-(none|disc|decimal)$/ },
+
+  // Backgrounds
+  { group: 'bg-attachment', pattern: /^bg-(fixed|local|scroll)$/ },
+  { group: 'bg-clip', pattern: /^bg-clip-/ },
+  { group: 'bg-origin', pattern: /^bg-origin-/ },
+  { group: 'bg-blend', pattern: /^bg-blend-/ },
+  { group: 'bg-repeat', pattern: /^bg-(no-repeat|repeat)(-|$)/ },
+  { group: 'bg-size', pattern: /^bg-(auto|cover|contain)$/ },
+  { group: 'bg-position', pattern: /^bg-(bottom|center|left|right|top)(-|$)/ },
+  { group: 'object-fit', pattern: /^object-(contain|cover|fill|none|scale-down)$/ },
+  { group: 'object-position', pattern: /^object-/ },
+
+  // Interactivity
+  { group: 'snap-align', pattern: /^snap-(start|end|center|align-none)$/ },
+  { group: 'snap-stop', pattern: /^snap-(normal|always)$/ },
+  { group: 'snap-type', pattern: /^snap-(none|x|y|both)$/ },
+  { group: 'snap-strictness', pattern: /^snap-(mandatory|proximity)$/ },
+  { group: 'touch-x', pattern: /^touch-pan-(x|left|right)$/ },
+  { group: 'touch-y', pattern: /^touch-pan-(y|up|down)$/ },
+  { group: 'touch-pz', pattern: /^touch-pinch-zoom$/ },
+  { group: 'touch', pattern: /^touch-/ },
+  { group: 'stroke-w', pattern: /^stroke-\d+$/ },
+  { group: 'sr', pattern: /^(not-)?sr-only$/ },
+  { group: 'isolation', pattern: /^(isolate|isolation-auto)$/ },
+  { group: 'table-layout', pattern: /^table-(auto|fixed)$/ },
+  { group: 'box-sizing', pattern: /^box-(border|content)$/ },
+  { group: 'box-decoration', pattern: /^box-decoration-/ },
+  family('break-after'),
+  family('break-before'),
+  family('break-inside'),
+
+  // Single-property families
+  family('accent'),
+  family('align'),
+  family('appearance'),
+  family('aspect'),
+  family('backdrop-blur'),
+  family('blur'),
+  family('brightness'),
+  family('caption'),
+  family('caret'),
+  family('clear'),
+  family('columns'),
+  family('contrast'),
+  family('drop-shadow'),
+  family('fill'),
+  family('float'),
+  family('forced-color-adjust'),
+  family('grayscale'),
+  family('hue-rotate'),
+  family('hyphens'),
+  family('indent'),
+  family('invert'),
+  family('leading'),
+  family('mix-blend'),
+  family('origin'),
+  family('pointer-events'),
+  family('resize'),
+  family('saturate'),
+  family('select'),
+  family('sepia'),
+  family('stroke'),
+  family('underline-offset'),
+  family('whitespace'),
+  family('will-change')
+];
+
+/**
+ * Groups overridden by a group in addition to itself, e.g. a later "p-4" overrides an earlier "px-2"
+ */
+const CONFLICTING_GROUPS: { [group: string]: string[] } = {
+  'p': ['px', 'py', 'ps', 'pe', 'pt', 'pr', 'pb', 'pl'],
+  'px': ['pr', 'pl'],
+  'py': ['pt', 'pb'],
+  'm': ['mx', 'my', 'ms', 'me', 'mt', 'mr', 'mb', 'ml'],
+  'mx': ['mr', 'ml'],
+  'my': ['mt', 'mb'],
+  'scroll-m': ['scroll-mx', 'scroll-my', 'scroll-mt', 'scroll-mr', 'scroll-mb', 'scroll-ml'],
+  'scroll-mx': ['scroll-mr', 'scroll-ml'],
+  'scroll-my': ['scroll-mt', 'scroll-mb'],
+  'scroll-p': ['scroll-px', 'scroll-py', 'scroll-pt', 'scroll-pr', 'scroll-pb', 'scroll-pl'],
+  'scroll-px': ['scroll-pr', 'scroll-pl'],
+  'scroll-py': ['scroll-pt', 'scroll-pb'],
+  'gap': ['gap-x', 'gap-y'],
+  'inset': ['inset-x', 'inset-y', 'top', 'right', 'bottom', 'left', 'start', 'end'],
+  'inset-x': ['right', 'left'],
+  'inset-y': ['top', 'bottom'],
+  'size': ['width', 'height'],
+  'flex': ['grow', 'shrink', 'flex-basis'],
+  'overflow': ['overflow-x', 'overflow-y'],
+  'overscroll': ['overscroll-x', 'overscroll-y'],
+  'rounded': ['rounded-t', 'rounded-r', 'rounded-b', 'rounded-l', 'rounded-s', 'rounded-e',
+              'rounded-tl', 'rounded-tr', 'rounded-br', 'rounded-bl', 'rounded-ss', 'rounded-se', 'rounded-ee', 'rounded-es'],
+  'rounded-t': ['rounded-tl', 'rounded-tr'],
+  'rounded-r': ['rounded-tr', 'rounded-br'],
+  'rounded-b': ['rounded-br', 'rounded-bl'],
+  'rounded-l': ['rounded-tl', 'rounded-bl'],
+  'rounded-s': ['rounded-ss', 'rounded-es'],
+  'rounded-e': ['rounded-se', 'rounded-ee'],
+  'border-w': ['border-w-x', 'border-w-y', 'border-w-s', 'border-w-e', 'border-w-t', 'border-w-r', 'border-w-b', 'border-w-l'],
+  'border-w-x': ['border-w-r', 'border-w-l'],
+  'border-w-y': ['border-w-t', 'border-w-b'],
+  'border-spacing': ['border-spacing-x', 'border-spacing-y'],
+  'scale': ['scale-x', 'scale-y'],
+  'fvn-normal': ['fvn-ordinal', 'fvn-slashed-zero', 'fvn-figure', 'fvn-spacing', 'fvn-fraction'],
+  'touch': ['touch-x', 'touch-y', 'touch-pz']
+};
+
+/**
+ * Determines the conflict group of a utility
+ */
+export function resolveConflictGroup(category: string, className: string): string {
+  const withoutNeg = className.startsWith('-') ? className.substring(1) : className;
+
+  for (const rule of CONFLICT_RULES) {
+    if (rule.pattern.test(withoutNeg)) {
+      return rule.group;
+    }
+  }
+
+  // Unclassified utilities only conflict with themselves
+  return category === 'other' ? className : category;
+}
+
+/**
+ * Computes conflict groups for all utilities, indexed by utility ID
+ */
+export function computeConflictGroups(categorized: CategorizedUtilities, classNames: string[]): ConflictGroups {
+  const categoryOf = new Map<string, string>();
+  for (const [category, utilities] of Object.entries(categorized)) {
+    for (const className of utilities) {
+      categoryOf.set(className.replace(/\\/g, ''), category);
+    }
+  }
+
+  const groupNames: string[] = [];
+  const groupIndex = new Map<string, number>();
+  const groupOf = classNames.map(className => {
+    const group = resolveConflictGroup(categoryOf.get(className)!, className);
+    if (!groupIndex.has(group)) {
+      groupIndex.set(group, groupNames.length);
+      groupNames.push(group);
+    }
+    return groupIndex.get(group)!;
+  });
+
+  const conflicts = groupNames.map(group =>
+    (CONFLICTING_GROUPS[group] || [])
+      .filter(other => groupIndex.has(other))
+      .map(other => groupIndex.get(other)!)
+  );
+
+  // Map "prefix" of "prefix-value" to a group when at least two known utilities share the
+  // prefix and all of them agree, so values outside the universe (e.g. "p-[13px]") still
+  // resolve to a group
+  const prefixCandidates = new Map<string, { group: number; count: number }>();
+  classNames.forEach((className, id) => {
+    const separator = className.lastIndexOf('-');
+    if (separator <= 0) {
+      return;
+    }
+    const prefix = className.substring(0, separator);
+    const existing = prefixCandidates.get(prefix);
+    if (!existing) {
+      prefixCandidates.set(prefix, { group: groupOf[id], count: 1 });
+    } else {
+      existing.group = existing.group === groupOf[id] ? existing.group : -1;
+      existing.count++;
+    }
+  });
+
+  const prefixGroups = new Map<string, number>();
+  for (const [prefix, candidate] of prefixCandidates) {
+    // Skip groups of unclassified utilities, which are named after their only class
+    if (candidate.group >= 0 && candidate.count > 1 && !classNames.includes(groupNames[candidate.group])) {
+      prefixGroups.set(prefix, candidate.group);
+    }
+  }
+
+  // Prefixes shared by several groups are resolved by the type of the value instead, e.g.
+  // "bg-[#fff]" conflicts with the colors of "bg" and "text-[14px]" with the sizes of "text"
+  const typedCandidates = new Map<string, { color: number; length: number; count: number }>();
+  classNames.forEach((className, id) => {
+    for (let separator = className.indexOf('-', 1); separator > 0; separator = className.indexOf('-', separator + 1)) {
+      const prefix = className.substring(0, separator);
+      const value = className.substring(separator + 1);
+      const type = COLOR_VALUE.test(value) ? 'color' : LENGTH_VALUE.test(value) ? 'length' : undefined;
+      if (!type || prefixGroups.has(prefix)) {
+        continue;
+      }
+      const candidate = typedCandidates.get(prefix) ?? { color: -2, length: -2, count: 0 };
+      candidate[type] = candidate[type] === -2 || candidate[type] === groupOf[id] ? groupOf[id] : -1;
+      candidate.count++;
+      typedCandidates.set(prefix, candidate);
+    }
+  });
+
+  const typedPrefixes = new Map<string, TypedGroups>();
+  for (const [prefix, candidate] of typedCandidates) {
+    const color = Math.max(candidate.color, -1);
+    const length = Math.max(candidate.length, -1);
+    if (candidate.count > 1 && (color >= 0 || length >= 0)) {
+      typedPrefixes.set(prefix, { color, length });
+    }
+  }
+
+  return { groupNames, groupOf, conflicts, prefixGroups, typedPrefixes };
+}
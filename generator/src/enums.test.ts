@@ -0,0 +1,136 @@
+/**
+ * Checks the output of java.enums, run with "npm test"; needs javac and java on the PATH.
+ * <p>
+ * The checked-in output is generated without enums, so this generates a target with java.enums
+ * into a temporary directory, compiles it together with a small Java check and runs that check.
+ * The check converts EnumSets of utility constants with TwUtility.toClassString(Set).
+ */
+
+import * as assert from 'assert';
+import { execFileSync } from 'child_process';
+import * as fs from 'fs';
+import * as os from 'os';
+import * as path from 'path';
+import { GeneratorConfig } from './config';
+import { UTILITY_ENUM } from './enums';
+import { generateTarget } from './generate';
+import { UTILITY_INTERFACE } from './registry';
+
+const generatorDir = path.join(__dirname, '..');
+
+const CHECK_CLASS = 'EnumsCheck';
+
+/**
+ * Returns the base config with java.enums, generating into the given directory
+ */
+function enumsConfig(dir: string): GeneratorConfig {
+  const base: GeneratorConfig = JSON.parse(fs.readFileSync(path.join(generatorDir, 'generator.config.json'), 'utf-8'));
+  return {
+    ...base,
+    tailwind: { ...base.tailwind, version: '4.1.18' },
+    java: { ...base.java, enums: true },
+    // Output directories are relative to the generator directory
+    output: { ...base.output, directory: path.relative(generatorDir, dir) }
+  };
+}
+
+/**
+ * Returns the Java check of TwUtility.toClassString(Set) for EnumSets of padding utilities
+ */
+function checkSource(config: GeneratorConfig): string {
+  const padding = `${config.java.className}.Spacing.Padding.${UTILITY_ENUM}`;
+  return [
+    `import ${config.java.package}.${config.java.className};`,
+    `import ${config.java.package}.${UTILITY_INTERFACE};`,
+    '',
+    'import java.util.EnumSet;',
+    'import java.util.HashSet;',
+    '',
+    `public class ${CHECK_CLASS} {`,
+    '',
+    '    static void check(boolean condition, String message) {',
+    '        if (!condition) {',
+    '            throw new AssertionError(message);',
+    '        }',
+    '    }',
+    '',
+    '    public static void main(String[] args) {',
+    `        EnumSet<${padding}> padding = EnumSet.of(${padding}.X_2, ${padding}.P_4);`,
+    `        String classString = ${UTILITY_INTERFACE}.toClassString(padding);`,
+    '        check(classString.equals("p-4 px-2"), "ordered by utility ID: " + classString);',
+    `        check(${UTILITY_INTERFACE}.toClassString(EnumSet.of(${padding}.P_4, ${padding}.X_2)) == classString,`,
+    '            "an equal set returns the cached String");',
+    `        check(${UTILITY_INTERFACE}.toClassString(new HashSet<>(padding)) == classString,`,
+    '            "an equal set of another type returns the cached String");',
+    '',
+    `        padding.add(${padding}.Y_4);`,
+    `        String added = ${UTILITY_INTERFACE}.toClassString(padding);`,
+    '        check(added.equals("p-4 px-2 py-4"), "a changed set is converted again: " + added);',
+    `        check(${UTILITY_INTERFACE}.toClassString(EnumSet.of(${padding}.P_4, ${padding}.X_2)) == classString,`,
+    '            "changing a converted set does not change its cached String");',
+    '',
+    `        check(${UTILITY_INTERFACE}.toClassString(EnumSet.noneOf(${padding}.class)).isEmpty(), "empty set");`,
+    `        check(${UTILITY_INTERFACE}.toClassString(EnumSet.allOf(${padding}.class)).split(" ").length`,
+    `            == ${padding}.values().length, "all constants");`,
+    `        check(${padding}.P_4.className().equals("p-4") && ${padding}.P_4.info().className().equals("p-4"),`,
+    '            "constant and info agree");',
+    '    }',
+    '}',
+    ''
+  ].join('\n');
+}
+
+/**
+ * Returns the Java sources below a directory
+ */
+function javaSources(dir: string): string[] {
+  return fs.readdirSync(dir, { recursive: true, encoding: 'utf-8' })
+    .filter(file => file.endsWith('.java'))
+    .map(file => path.join(dir, file));
+}
+
+function testEnumsCompileAndConvert(): void {
+  const dir = fs.mkdtempSync(path.join(os.tmpdir(), 'generator-enums-'));
+  try {
+    const config = enumsConfig(path.join(dir, 'src'));
+    generateTarget(config);
+
+    const sources = path.join(dir, 'src');
+    const tw = fs.readFileSync(path.join(sources, ...config.java.package.split('.'), `${config.java.className}.java`), 'utf-8');
+    assert.ok(tw.includes(`public enum ${UTILITY_ENUM} implements ${UTILITY_INTERFACE}`), 'category enums generated');
+    fs.writeFileSync(path.join(sources, `${CHECK_CLASS}.java`), checkSource(config));
+
+    const classes = path.join(dir, 'classes');
+    execFileSync('javac', ['-d', classes, ...javaSources(sources)], { stdio: 'pipe' });
+    execFileSync('java', ['-cp', classes, CHECK_CLASS], { stdio: 'pipe' });
+  } catch (error: any) {
+    // Show the compiler or check output instead of the command line
+    throw error.stderr?.length ? new Error(error.stderr.toString()) : error;
+  } finally {
+    fs.rmSync(dir, { recursive: true, force: true });
+  }
+}
+
+const tests: [string, () => void][] = [
+  ['generated enums compile and convert EnumSets to class strings', testEnumsCompileAndConvert]
+];
+
+// Generation logs progress, keep the test output to the results
+const log = console.log;
+let failed = 0;
+for (const [name, test] of tests) {
+  try {
+    console.log = () => undefined;
+    test();
+    console.log = log;
+    console.log(`ok - ${name}`);
+  } catch (error) {
+    console.log = log;
+    failed++;
+    console.log(`not ok - ${name}`);
+    console.log(error instanceof Error ? error.message : error);
+  }
+}
+if (failed > 0) {
+  process.exit(1);
+}
@@ -0,0 +1,135 @@
+import { ClassifiedUtility } from './classifier';
+import { CLASS_SET_CLASS } from './classset';
+import { GeneratorConfig } from './config';
+import { UTILITY_INFO_CLASS } from './lookup';
+import { MERGE_CLASS } from './merge';
+import { REGISTRY_CLASS, UTILITY_INTERFACE } from './registry';
+
+/**
+ * Name of the enum nested in each category class, e.g. TW.Spacing.Padding.Utility
+ */
+export const UTILITY_ENUM = 'Utility';
+
+/**
+ * Generates the interface of a known utility
+ */
+export function generateUtilityInterface(config: GeneratorConfig): string {
+  const lines: string[] = [];
+  const name = UTILITY_INTERFACE;
+  const tw = config.java.className;
+
+  lines.push(`package ${config.java.package};`);
+  lines.push('');
+  lines.push('import java.util.Set;');
+  lines.push('');
+  lines.push('/**');
+  lines.push(` * A known utility: a {@link ${UTILITY_INFO_CLASS}}, or a constant of a category enum such as`);
+  lines.push(` * {@code ${tw}.Spacing.Padding.${UTILITY_ENUM}} when the generator runs with {@code java.enums}.`);
+  lines.push(' * <p>');
+  if (config.java.enums) {
+    lines.push(' * Utilities of one category can be kept in an {@link java.util.EnumSet}, which is a single');
+    lines.push(' * {@code long} for up to 64 constants, and turned into a class attribute value with');
+    lines.push(' * {@link #toClassString(Set)}:');
+    lines.push(' *');
+    lines.push(' * <pre>{@code');
+    lines.push(` * EnumSet<${tw}.Spacing.Padding.${UTILITY_ENUM}> padding = EnumSet.of(${tw}.Spacing.Padding.${UTILITY_ENUM}.P_4);`);
+    lines.push(` * padding.add(${tw}.Spacing.Padding.${UTILITY_ENUM}.X_2);`);
+  } else {
+    lines.push(' * Sets of utilities are turned into a class attribute value with {@link #toClassString(Set)}:');
+    lines.push(' *');
+    lines.push(' * <pre>{@code');
+    lines.push(` * Set<${name}> padding = new LinkedHashSet<>();`);
+    lines.push(` * padding.add(${tw}.lookup("p-4"));`);
+    lines.push(` * padding.add(${tw}.lookup("px-2"));`);
+  }
+  lines.push(` * div.setClassName(${name}.toClassString(padding)); // "p-4 px-2"`);
+  lines.push(' * }</pre>');
+  lines.push(' */');
+  lines.push(`public interface ${name} {`);
+  lines.push('');
+  lines.push('    /** Class name, e.g. {@code "p-4"} */');
+  lines.push('    String className();');
+  lines.push('');
+  lines.push(`    /** Utility ID, see {@link ${REGISTRY_CLASS}} */`);
+  lines.push('    int id();');
+  lines.push('');
+  lines.push('    /**');
+  lines.push(`     * Conflict group. Of utilities in the same group and variants, {@link ${MERGE_CLASS}} keeps the last.`);
+  lines.push('     */');
+  lines.push('    default String group() {');
+  lines.push(`        return ${MERGE_CLASS}.GROUP_NAMES[${MERGE_CLASS}.GROUP_OF[id()]];`);
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /** Category and constant of this utility */');
+  lines.push(`    default ${UTILITY_INFO_CLASS} info() {`);
+  lines.push(`        return ${UTILITY_INFO_CLASS}.of(id());`);
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the utilities as a space-separated class attribute value, ordered by utility ID.');
+  lines.push('     * <p>');
+  lines.push(`     * Results are cached per set content (up to {@link ${CLASS_SET_CLASS}#CACHE_SIZE} sets), so converting`);
+  lines.push('     * an equal set again returns the same String without building it.');
+  lines.push('     */');
+  lines.push(`    static String toClassString(Set<? extends ${name}> utilities) {`);
+  lines.push(`        return ${CLASS_SET_CLASS}.toClassString(utilities);`);
+  lines.push('    }');
+  lines.push('}');
+
+  return lines.join('\n');
+}
+
+/**
+ * Generates the enum of the utilities declared directly in a category class, with the same
+ * constant names as the String constants
+ */
+export function generateUtilityEnum(
+  lines: string[],
+  utilities: ClassifiedUtility[],
+  ids: Map<string, number>,
+  indent: string
+): void {
+  const memberIndent = indent + '    ';
+
+  lines.push(`${indent}/**`);
+  lines.push(`${indent} * The utilities of this class as enum constants, for {@link java.util.EnumSet}s of them`);
+  lines.push(`${indent} */`);
+  lines.push(`${indent}public enum ${UTILITY_ENUM} implements ${UTILITY_INTERFACE} {`);
+  lines.push('');
+
+  utilities.forEach((utility, index) => {
+    const id = ids.get(utility.className);
+    if (id === undefined) {
+      throw new Error(`No utility ID for ${utility.className}`);
+    }
+    const separator = index < utilities.length - 1 ? ',' : ';';
+    lines.push(`${memberIndent}/** Tailwind class: {@code ${utility.className}} */`);
+    lines.push(`${memberIndent}${utility.constantName}("${utility.className}", ${id})${separator}`);
+    lines.push('');
+  });
+
+  lines.push(`${memberIndent}private final String className;`);
+  lines.push(`${memberIndent}private final int id;`);
+  lines.push('');
+  lines.push(`${memberIndent}${UTILITY_ENUM}(String className, int id) {`);
+  lines.push(`${memberIndent}    this.className = className;`);
+  lines.push(`${memberIndent}    this.id = id;`);
+  lines.push(`${memberIndent}}`);
+  lines.push('');
+  lines.push(`${memberIndent}@Override`);
+  lines.push(`${memberIndent}public String className() {`);
+  lines.push(`${memberIndent}    return className;`);
+  lines.push(`${memberIndent}}`);
+  lines.push('');
+  lines.push(`${memberIndent}@Override`);
+  lines.push(`${memberIndent}public int id() {`);
+  lines.push(`${memberIndent}    return id;`);
+  lines.push(`${memberIndent}}`);
+  lines.push('');
+  lines.push(`${memberIndent}@Override`);
+  lines.push(`${memberIndent}public String toString() {`);
+  lines.push(`${memberIndent}    return className;`);
+  lines.push(`${memberIndent}}`);
+  lines.push(`${indent}}`);
+  lines.push('');
+}
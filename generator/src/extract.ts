@@ -2,7 +2,12 @@ import { execSync } from 'child_process';
 import * as fs from 'fs';
 import * as path from 'path';
 import * as csstree from 'css-tree';
-import { loadConfig, createMetadata, GeneratorConfig } from './config';
+import { loadConfigs, buildFile, createMetadata, GeneratorConfig } from './config';
+import { isUpToDate, recordStage, stageKey, writeIfChanged } from './cache';
+import { categorize } from './rules';
+import { UTILITY_CSS_FILE, UtilityCss } from './stylesheet';
+import { formatScanStats, scanCssFile } from './tokenizer';
+import { UNEXPANDED_COMPOUND_VARIANTS, VARIANTS_FILE } from './variants';
 
 interface UtilityClass {
   className: string;
@@ -14,15 +19,20 @@ interface CategorizedUtilities {
   [category: string]: string[];
 }
 
+export interface Extraction {
+  utilities: Set<string>;
+  utilityCss: UtilityCss;
+}
+
 /**
- * Builds Tailwind CSS and returns the output CSS content
+ * Builds Tailwind CSS and returns the path of the output CSS
  */
 function buildTailwindCSS(config: GeneratorConfig): string {
   console.log('Building Tailwind CSS...');
 
   try {
     // Use Tailwind CLI to build CSS
-    const outputPath = path.join(__dirname, '..', 'output.css');
+    const outputPath = path.join(__dirname, '..', buildFile('output.css', config));
     const inputPath = path.join(__dirname, '..', config.tailwind.inputCss);
     const configPath = path.join(__dirname, '..', config.tailwind.configFile);
 
@@ -34,20 +44,29 @@ function buildTailwindCSS(config: GeneratorConfig): string {
     console.log(`Running: ${command}`);
     execSync(command, { stdio: 'inherit' });
 
-    const cssContent = fs.readFileSync(outputPath, 'utf-8');
-    console.log(`Generated CSS size: ${(cssContent.length / 1024).toFixed(2)} KB`);
+    console.log(`Generated CSS size: ${(fs.statSync(outputPath).size / 1024).toFixed(2)} KB`);
 
-    return cssContent;
+    return outputPath;
   } catch (error) {
     console.error('Error building Tailwind CSS:', error);
     throw error;
   }
 }
 
+/**
+ * Returns whether a class name (escapes removed) is a utility, not a group/peer marker or a
+ * variant (hover:, focus:, etc.)
+ */
+function isUtilityClass(className: string): boolean {
+  return !className.startsWith('group') &&
+    !className.startsWith('peer') &&
+    !className.includes(':');
+}
+
 /**
  * Parses CSS and extracts utility class names
  */
-function extractUtilityClasses(cssContent: string): Set<string> {
+export function extractUtilityClasses(cssContent: string): Set<string> {
   console.log('Parsing CSS and extracting utility classes...');
 
   const utilities = new Set<string>();
@@ -67,9 +86,7 @@ function extractUtilityClasses(cssContent: string): Set<string> {
                 const className = classNode.name.replace(/\\/g, '');
 
                 // Filter out non-utility classes
-                if (!className.startsWith('group') &&
-                    !className.startsWith('peer') &&
-                    !className.includes(':')) {  // Skip modifiers (hover:, focus:, etc.)
+                if (isUtilityClass(className)) {
                   utilities.add(className);
                 }
               }
@@ -88,7 +105,125 @@ function extractUtilityClasses(cssContent: string): Set<string> {
 }
 
 /**
- * Categorizes utility classes by pattern
+ * Collects the rules of a block by the utility they belong to, with the utility selector
+ * replaced by "&" and the enclosing at-rules as openers
+ */
+function collectUtilityRules(block: any, openers: string[], isUtility: (className: string) => boolean,
+                             rules: Map<string, string[]>): void {
+  block.children.forEach((node: any) => {
+    if (node.type === 'Atrule' && node.block) {
+      const prelude = node.prelude ? ' ' + csstree.generate(node.prelude) : '';
+      collectUtilityRules(node.block, [...openers, `@${node.name}${prelude}{`], isUtility, rules);
+    } else if (node.type === 'Rule' && node.prelude.type === 'SelectorList') {
+      node.prelude.children.forEach((selector: any) => {
+        // Replace the first utility class of the selector with the placeholder
+        const template = csstree.clone(selector);
+        let owner: string | undefined;
+
+        csstree.walk(template, {
+          visit: 'ClassSelector',
+          enter(classNode: any, item: any, list: any) {
+            const className = classNode.name.replace(/\\/g, '');
+            if (owner === undefined && isUtility(className)) {
+              owner = className;
+              list.replace(item, list.createItem({ type: 'NestingSelector' }));
+            }
+          }
+        });
+
+        if (owner !== undefined) {
+          const rule = openers.join('') + csstree.generate(template) + csstree.generate(node.block) + '}'.repeat(openers.length);
+          if (!rules.has(owner)) {
+            rules.set(owner, []);
+          }
+          rules.get(owner)!.push(rule);
+        }
+      });
+    }
+  });
+}
+
+function toUtilityCss(preamble: string[], rules: Map<string, string[]>): UtilityCss {
+  const result: UtilityCss = { preamble: preamble.join(''), rules: {}, order: [] };
+  rules.forEach((utilityRules, className) => {
+    result.rules[className] = utilityRules.join('');
+    result.order.push(className);
+  });
+
+  console.log(`Captured CSS for ${result.order.length} utilities (preamble: ${(result.preamble.length / 1024).toFixed(2)} KB)`);
+  return result;
+}
+
+/**
+ * Captures the CSS rules of every utility, with the utility selector replaced by "&".
+ * Rules in the utilities layer keep their at-rule wrappers (e.g. @supports), everything
+ * else (theme variables, base styles, keyframes) is kept as the preamble.
+ */
+export function extractUtilityRules(cssContent: string, utilities: Set<string>): UtilityCss {
+  console.log('Capturing utility CSS rules...');
+
+  const preamble: string[] = [];
+  const rules = new Map<string, string[]>();
+
+  try {
+    const ast: any = csstree.parse(cssContent);
+
+    ast.children.forEach((node: any) => {
+      const isUtilitiesLayer = node.type === 'Atrule' && node.name === 'layer' && node.block &&
+        node.prelude && csstree.generate(node.prelude) === 'utilities';
+
+      if (isUtilitiesLayer) {
+        collectUtilityRules(node.block, [], className => utilities.has(className), rules);
+      } else {
+        preamble.push(csstree.generate(node));
+      }
+    });
+  } catch (error) {
+    console.error('Error capturing utility CSS:', error);
+    throw error;
+  }
+
+  return toUtilityCss(preamble, rules);
+}
+
+/**
+ * Extracts utility class names and captures utility CSS in one chunked pass over the CSS file.
+ * Only one statement of the utilities layer is parsed at a time, so memory stays bounded by the
+ * largest rule rather than the whole stylesheet. Every class passing isUtilityClass in a rule
+ * prelude is a utility, so rules can be attributed before the whole set is known.
+ */
+export function extractStreaming(cssPath: string, chunkSize?: number): Extraction {
+  console.log('Scanning CSS for utility classes and rules (streaming)...');
+
+  const utilities = new Set<string>();
+  const preamble: string[] = [];
+  const rules = new Map<string, string[]>();
+
+  const stats = scanCssFile(cssPath, {
+    classSelector(rawName) {
+      const className = rawName.replace(/\\/g, '');
+      if (isUtilityClass(className)) {
+        utilities.add(className);
+      }
+    },
+    statement(text, inLayer) {
+      const ast: any = csstree.parse(text);
+      if (inLayer) {
+        collectUtilityRules(ast, [], isUtilityClass, rules);
+      } else {
+        preamble.push(csstree.generate(ast));
+      }
+    }
+  }, { layer: 'utilities', chunkSize });
+
+  console.log(`Scanned ${formatScanStats(stats)}`);
+  console.log(`Extracted ${utilities.size} unique utility classes`);
+
+  return { utilities, utilityCss: toUtilityCss(preamble, rules) };
+}
+
+/**
+ * Categorizes utility classes by the prefix rules in rules.ts
  */
 function categorizeUtilities(utilities: Set<string>): CategorizedUtilities {
   console.log('Categorizing utilities...');
@@ -271,302 +406,8 @@ function categorizeUtilities(utilities: Set<string>): CategorizedUtilities {
   };
 
   utilities.forEach(className => {
-    let categorized = false;
-
-    // Display
-    if (['block', 'inline', 'inline-block', 'flex', 'inline-flex', 'grid', 'inline-grid', 'table', 'inline-table', 'table-caption', 'table-cell', 'table-column', 'table-column-group', 'table-footer-group', 'table-header-group', 'table-row-group', 'table-row', 'flow-root', 'contents', 'list-item', 'hidden'].includes(className)) {
-      categories.display.push(className);
-      categorized = true;
-    }
-    // Position
-    else if (['static', 'fixed', 'absolute', 'relative', 'sticky'].includes(className)) {
-      categories.position.push(className);
-      categorized = true;
-    }
-    // Position values
-    else if (className.startsWith('inset-') || className.startsWith('top-') || className.startsWith('right-') || className.startsWith('bottom-') || className.startsWith('left-') || className.startsWith('start-') || className.startsWith('end-')) {
-      categories.position.push(className);
-      categorized = true;
-    }
-    // Visibility
-    else if (['visible', 'invisible', 'collapse'].includes(className)) {
-      categories.visibility.push(className);
-      categorized = true;
-    }
-    // Z-index
-    else if (className.startsWith('z-')) {
-      categories['z-index'].push(className);
-      categorized = true;
-    }
-    // Flexbox
-    else if (className.startsWith('flex-row') || className.startsWith('flex-col')) {
-      categories['flex-direction'].push(className);
-      categorized = true;
-    }
-    else if (className.startsWith('flex-wrap') || className.startsWith('flex-nowrap')) {
-      categories['flex-wrap'].push(className);
-      categorized = true;
-    }
-    else if (className.startsWith('flex-grow') || className.startsWith('flex-shrink') || ['flex-1', 'flex-auto', 'flex-initial', 'flex-none'].includes(className)) {
-      categories['flex-grow-shrink'].push(className);
-      categorized = true;
-    }
-    else if (className.startsWith('basis-')) {
-      categories['flex-basis'].push(className);
-      categorized = true;
-    }
-    else if (className.startsWith('items-')) {
-      categories['align-items'].push(className);
-      categorized = true;
-    }
-    else if (className.startsWith('content-')) {
-      categories['align-content'].push(className);
-      categorized = true;
-    }
-    else if (className.startsWith('self-')) {
-      categories['align-self'].push(className);
-      categorized = true;
-    }
-    else if (className.startsWith('justify-content-') || (className.startsWith('justify-') && !className.startsWith('justify-items-') && !className.startsWith('justify-self-'))) {
-      categories['justify-content'].push(className);
-      categorized = true;
-    }
-    else if (className.startsWith('justify-items-')) {
-      categories['justify-items'].push(className);
-      categorized = true;
-    }
-    else if (className.startsWith('justify-self-')) {
-      categories['justify-self'].push(className);
-      categorized = true;
-    }
-    else if (className.startsWith('place-content-')) {
-      categories['place-content'].push(className);
-      categorized = true;
-    }
-    else if (className.startsWith('place-items-')) {
-      categories['place-items'].push(className);
-      categorized = true;
-    }
-    else if (className.startsWith('place-self-')) {
-      categories['place-self'].push(className);
-      categorized = true;
-    }
-    // Grid
-    else if (className.startsWith('grid-cols-')) {
-      categories['grid-template-columns'].push(className);
-      categorized = true;
-    }
-    else if (className.startsWith('grid-rows-')) {
-      categories['grid-template-rows'].push(className);
-      categorized = true;
-    }
-    else if (className.startsWith('col-')) {
-      categories['grid-column'].push(className);
-      categorized = true;
-    }
-    else if (className.startsWith('row-')) {
-      categories['grid-row'].push(className);
-      categorized = true;
-    }
-    else if (className.startsWith('grid-flow-')) {
-      categories['grid-flow'].push(className);
-      categorized = true;
-    }
-    else if (className.startsWith('auto-cols-')) {
-      categories['grid-auto-columns'].push(className);
-      categorized = true;
-    }
-    else if (className.startsWith('auto-rows-')) {
-      categories['grid-auto-rows'].push(className);
-      categorized = true;
-    }
-    else if (className.startsWith('gap-')) {
-      categories.gap.push(className);
-      categorized = true;
-    }
-    // Padding
-    else if (className.startsWith('p-') || className.startsWith('px-') || className.startsWith('py-') || className.startsWith('pt-') || className.startsWith('pr-') || className.startsWith('pb-') || className.startsWith('pl-') || className.startsWith('ps-') || className.startsWith('pe-')) {
-      categories.padding.push(className);
-      categorized = true;
-    }
-    // Margin
-    else if (className.startsWith('m-') || className.startsWith('mx-') || className.startsWith('my-') || className.startsWith('mt-') || className.startsWith('mr-') || className.startsWith('mb-') || className.startsWith('ml-') || className.startsWith('ms-') || className.startsWith('me-') || className.startsWith('-m-') || className.startsWith('-mx-') || className.startsWith('-my-') || className.startsWith('-mt-') || className.startsWith('-mr-') || className.startsWith('-mb-') || className.startsWith('-ml-')) {
-      categories.margin.push(className);
-      categorized = true;
-    }
-    // Space between
-    else if (className.startsWith('space-x-') || className.startsWith('space-y-')) {
-      categories['space-between'].push(className);
-      categorized = true;
-    }
-    // Width
-    else if (className.startsWith('w-')) {
-      categories.width.push(className);
-      categorized = true;
-    }
-    else if (className.startsWith('min-w-')) {
-      categories['min-width'].push(className);
-      categorized = true;
-    }
-    else if (className.startsWith('max-w-')) {
-      categories['max-width'].push(className);
-      categorized = true;
-    }
-    // Height
-    else if (className.startsWith('h-')) {
-      categories.height.push(className);
-      categorized = true;
-    }
-    else if (className.startsWith('min-h-')) {
-      categories['min-height'].push(className);
-      categorized = true;
-    }
-    else if (className.startsWith('max-h-')) {
-      categories['max-height'].push(className);
-      categorized = true;
-    }
-    // Size
-    else if (className.startsWith('size-')) {
-      categories.size.push(className);
-      categorized = true;
-    }
-    // Font
-    else if (className.startsWith('font-sans') || className.startsWith('font-serif') || className.startsWith('font-mono')) {
-      categories['font-family'].push(className);
-      categorized = true;
-    }
-    else if (className.startsWith('text-xs') || className.startsWith('text-sm') || className.startsWith('text-base') || className.startsWith('text-lg') || className.startsWith('text-xl') || className.startsWith('text-2xl') || className.startsWith('text-3xl') || className.startsWith('text-4xl') || className.startsWith('text-5xl') || className.startsWith('text-6xl') || className.startsWith('text-7xl') || className.startsWith('text-8xl') || className.startsWith('text-9xl')) {
-      categories['font-size'].push(className);
-      categorized = true;
-    }
-    else if (className.startsWith('font-thin') || className.startsWith('font-extralight') || className.startsWith('font-light') || className.startsWith('font-normal') || className.startsWith('font-medium') || className.startsWith('font-semibold') || className.startsWith('font-bold') || className.startsWith('font-extrabold') || className.startsWith('font-black')) {
-      categories['font-weight'].push(className);
-      categorized = true;
-    }
-    else if (['italic', 'not-italic'].includes(className)) {
-      categories['font-style'].push(className);
-      categorized = true;
-    }
-    // Text color
-    else if (className.startsWith('text-') && !className.startsWith('text-xs') && !className.startsWith('text-sm') && !className.startsWith('text-base') && !className.startsWith('text-lg') && !className.startsWith('text-xl') && !className.startsWith('text-left') && !className.startsWith('text-center') && !className.startsWith('text-right') && !className.startsWith('text-justify') && !className.startsWith('text-start') && !className.startsWith('text-end') && !className.startsWith('text-ellipsis') && !className.startsWith('text-clip') && !className.startsWith('text-wrap') && !className.startsWith('text-nowrap') && !className.startsWith('text-balance') && !className.startsWith('text-pretty')) {
-      categories['text-color'].push(className);
-      categorized = true;
-    }
-    // Text alignment
-    else if (className.startsWith('text-left') || className.startsWith('text-center') || className.startsWith('text-right') || className.startsWith('text-justify') || className.startsWith('text-start') || className.startsWith('text-end')) {
-      categories['text-align'].push(className);
-      categorized = true;
-    }
-    // Text decoration
-    else if (['underline', 'overline', 'line-through', 'no-underline'].includes(className)) {
-      categories['text-decoration'].push(className);
-      categorized = true;
-    }
-    else if (className.startsWith('decoration-') && !className.startsWith('decoration-solid') && !className.startsWith('decoration-double') && !className.startsWith('decoration-dotted') && !className.startsWith('decoration-dashed') && !className.startsWith('decoration-wavy')) {
-      categories['text-decoration-color'].push(className);
-      categorized = true;
-    }
-    else if (className.startsWith('decoration-solid') || className.startsWith('decoration-double') || className.startsWith('decoration-dotted') || className.startsWith('decoration-dashed') || className.startsWith('decoration-wavy')) {
-      categories['text-decoration-style'].push(className);
-      categorized = true;
-    }
-    // Text transform
-    else if (['uppercase', 'lowercase', 'capitalize', 'normal-case'].includes(className)) {
-      categories['text-transform'].push(className);
-      categorized = true;
-    }
-    // Background color
-    else if (className.startsWith('bg-') && !className.startsWith('bg-clip-') && !className.startsWith('bg-origin-') && !className.startsWith('bg-repeat') && !className.startsWith('bg-no-repeat') && !className.startsWith('bg-auto') && !className.startsWith('bg-cover') && !className.startsWith('bg-contain') && !className.startsWith('bg-fixed') && !className.startsWith('bg-local') && !className.startsWith('bg-scroll') && !className.startsWith('bg-bottom') && !className.startsWith('bg-center') && !className.startsWith('bg-left') && !className.startsWith('bg-right') && !className.startsWith('bg-top') && !className.startsWith('bg-blend-')) {
-      categories['background-color'].push(className);
-      categorized = true;
-    }
-    // Border radius
-    else if (className.startsWith('rounded-') || className === 'rounded') {
-      categories['border-radius'].push(className);
-      categorized = true;
-    }
-    // Border width
-    else if (className.startsWith('border-') && !className.startsWith('border-solid') && !className.startsWith('border-dashed') && !className.startsWith('border-dotted') && !className.startsWith('border-double') && !className.startsWith('border-hidden') && !className.startsWith('border-none') && !className.startsWith('border-collapse') && !className.startsWith('border-separate') && !className.startsWith('border-spacing-') && className.match(/^border-(\d|x-|y-|t-|r-|b-|l-|s-|e-)/)) {
-      categories['border-width'].push(className);
-      categorized = true;
-    }
-    else if (className === 'border') {
-      categories['border-width'].push(className);
-      categorized = true;
-    }
-    // Border color
-    else if (className.startsWith('border-') && !className.match(/^border-(\d|x-|y-|t-|r-|b-|l-|s-|e-|solid|dashed|dotted|double|hidden|none|collapse|separate|spacing)/)) {
-      categories['border-color'].push(className);
-      categorized = true;
-    }
-    // Border style
-    else if (className.startsWith('border-solid') || className.startsWith('border-dashed') || className.startsWith('border-dotted') || className.startsWith('border-double') || className.startsWith('border-hidden') || className.startsWith('border-none')) {
-      categories['border-style'].push(className);
-      categorized = true;
-    }
-    // Shadow
-    else if (className.startsWith('shadow-') || className === 'shadow') {
-      categories['box-shadow'].push(className);
-      categorized = true;
-    }
-    // Opacity
-    else if (className.startsWith('opacity-')) {
-      categories.opacity.push(className);
-      categorized = true;
-    }
-    // Transitions
-    else if (className.startsWith('transition-') || className === 'transition') {
-      categories.transition.push(className);
-      categorized = true;
-    }
-    else if (className.startsWith('duration-')) {
-      categories.duration.push(className);
-      categorized = true;
-    }
-    else if (className.startsWith('ease-')) {
-      categories.ease.push(className);
-      categorized = true;
-    }
-    else if (className.startsWith('delay-')) {
-      categories.delay.push(className);
-      categorized = true;
-    }
-    // Animation
-    else if (className.startsWith('animate-')) {
-      categories.animation.push(className);
-      categorized = true;
-    }
-    // Transforms
-    else if (className.startsWith('scale-')) {
-      categories.scale.push(className);
-      categorized = true;
-    }
-    else if (className.startsWith('rotate-') || className.startsWith('-rotate-')) {
-      categories.rotate.push(className);
-      categorized = true;
-    }
-    else if (className.startsWith('translate-') || className.startsWith('-translate-')) {
-      categories.translate.push(className);
-      categorized = true;
-    }
-    else if (className.startsWith('skew-') || className.startsWith('-skew-')) {
-      categories.skew.push(className);
-      categorized = true;
-    }
-    // Cursor
-    else if (className.startsWith('cursor-')) {
-      categories.cursor.push(className);
-      categorized = true;
-    }
-    // Overflow
-    else if (className.startsWith('overflow-')) {
-      categories.overflow.push(className);
-      categorized = true;
-    }
-
-    if (!categorized) {
-      categories.other.push(className);
-    }
+    const category = categorize(className);
+    (categories[category] ??= []).push(className);
   });
 
   // Remove empty categories
@@ -586,19 +427,84 @@ function categorizeUtilities(utilities: Set<string>): CategorizedUtilities {
 }
 
 /**
- * Main extraction function
+ * Lists the variants of a Tailwind build from its design system: static variants by name, and
+ * functional ones once per known value (e.g. "aria-checked", "group-hover", "@md"). Returns
+ * undefined if the design system cannot be loaded, so the built-in variant list is used.
  */
-function main() {
-  console.log('=== Tailwind CSS Utility Extractor ===\n');
+async function extractVariantNames(config: GeneratorConfig): Promise<string[] | undefined> {
+  const inputPath = path.join(__dirname, '..', config.tailwind.inputCss);
 
-  // Load configuration
-  const config = loadConfig();
+  // The design system loader is an unstable export, @tailwindcss/node is pinned in package.json
+  let designSystem: any;
+  try {
+    const { __unstable__loadDesignSystem } = require('@tailwindcss/node');
+    if (typeof __unstable__loadDesignSystem !== 'function') {
+      throw new Error('@tailwindcss/node no longer exports __unstable__loadDesignSystem');
+    }
+    designSystem = await __unstable__loadDesignSystem(fs.readFileSync(inputPath, 'utf-8'), {
+      base: path.dirname(inputPath)
+    });
+  } catch (error) {
+    console.warn(`WARNING: could not load the Tailwind design system, no variants were extracted (${error})`);
+    console.warn('WARNING: generation falls back to the built-in Tailwind v4 core variants');
+    return undefined;
+  }
 
-  // Build Tailwind CSS
-  const cssContent = buildTailwindCSS(config);
+  const names: string[] = [];
+  for (const variant of designSystem.getVariants()) {
+    if (!variant.isArbitrary) {
+      names.push(variant.name);
+    }
+    if (UNEXPANDED_COMPOUND_VARIANTS.includes(variant.name)) {
+      continue;
+    }
+    for (const value of variant.values) {
+      names.push(variant.hasDash ? `${variant.name}-${value}` : `${variant.name}${value}`);
+    }
+  }
+
+  // Keep names that can become constants, dropping "*" and arbitrary values
+  const variants = [...new Set(names)].filter(name => /^@?[a-z0-9]+(-[a-z0-9]+)*$/.test(name));
+  console.log(`Extracted ${variants.length} variants`);
+  return variants;
+}
+
+/**
+ * Runs one Tailwind build and extracts its utilities, shared by every target using it
+ */
+async function extractBuild(config: GeneratorConfig): Promise<void> {
+  if (config.build) {
+    console.log(`\n--- Tailwind build "${config.build}" ---`);
+  }
+
+  // Skip the Tailwind build if nothing it depends on changed
+  const root = path.join(__dirname, '..');
+  const outputPath = path.join(root, buildFile('categorized-utilities.json', config));
+  const cssPath = path.join(root, buildFile(UTILITY_CSS_FILE, config));
+  const variantsPath = path.join(root, buildFile(VARIANTS_FILE, config));
+  const inputs = [config.tailwind.inputCss, config.tailwind.configFile, config.tailwind.testContent, 'package-lock.json']
+    .map(file => path.join(root, file));
+  const key = stageKey(inputs, [config.tailwind]);
+  const stage = config.build ? `extract:${config.build}` : 'extract';
+
+  if (!config.force && isUpToDate(stage, key)) {
+    console.log('Inputs unchanged, skipping extraction (use --force to rerun)');
+    return;
+  }
 
-  // Extract utility classes
-  const utilities = extractUtilityClasses(cssContent);
+  // Build Tailwind CSS
+  const builtCssPath = buildTailwindCSS(config);
+
+  // Extract utility classes and their CSS, either from one AST or in a single streaming pass
+  let utilities: Set<string>;
+  let utilityCss: UtilityCss;
+  if (config.tailwind.streaming) {
+    ({ utilities, utilityCss } = extractStreaming(builtCssPath));
+  } else {
+    const cssContent = fs.readFileSync(builtCssPath, 'utf-8');
+    utilities = extractUtilityClasses(cssContent);
+    utilityCss = extractUtilityRules(cssContent, utilities);
+  }
 
   // Categorize utilities
   const categorized = categorizeUtilities(utilities);
@@ -606,14 +512,28 @@ function main() {
   // Create metadata
   const metadata = createMetadata(config.tailwind.version, utilities.size);
 
-  // Write output with metadata
-  const outputPath = path.join(__dirname, '..', 'categorized-utilities.json');
+  // Write output with metadata, leaving unchanged files untouched
   const output = {
     metadata,
     utilities: categorized
   };
-  fs.writeFileSync(outputPath, JSON.stringify(output, null, 2));
-  console.log(`\nWrote categorized utilities to: ${outputPath}`);
+  const outputChanged = writeIfChanged(outputPath, JSON.stringify(output, null, 2));
+  console.log(`\n${outputChanged ? 'Wrote' : 'Unchanged'} categorized utilities: ${outputPath}`);
+
+  // Write the CSS of each utility for on-demand stylesheets
+  const cssChanged = writeIfChanged(cssPath, JSON.stringify(utilityCss));
+  console.log(`${cssChanged ? 'Wrote' : 'Unchanged'} utility CSS: ${cssPath}`);
+
+  // Write the variants of the build, if its design system could be loaded
+  const variants = await extractVariantNames(config);
+  const outputs = [outputPath, cssPath];
+  if (variants) {
+    const variantsChanged = writeIfChanged(variantsPath, JSON.stringify(variants, null, 2));
+    console.log(`${variantsChanged ? 'Wrote' : 'Unchanged'} variants: ${variantsPath}`);
+    outputs.push(variantsPath);
+  }
+
+  recordStage(stage, key, outputs);
 
   // Print statistics
   console.log('\n=== Statistics ===');
@@ -626,8 +546,37 @@ function main() {
     .forEach(([category, utils]) => {
       console.log(`  ${category}: ${utils.length}`);
     });
+}
 
-  console.log('\n=== Extraction complete! ===');
+/**
+ * Main extraction function
+ */
+function main(): Promise<void> {
+  console.log('=== Tailwind CSS Utility Extractor ===\n');
+
+  // Load configuration, one Tailwind build per distinct tailwind section of the targets
+  const builds = new Map<string | undefined, GeneratorConfig>();
+  for (const config of loadConfigs()) {
+    if (!builds.has(config.build)) {
+      builds.set(config.build, config);
+    }
+  }
+
+  // One build after the other, as each runs the Tailwind CLI
+  let extracted = Promise.resolve();
+  builds.forEach(config => {
+    extracted = extracted.then(() => extractBuild(config));
+  });
+
+  return extracted.then(() => {
+    console.log('\n=== Extraction complete! ===');
+  });
 }
 
-main();
+// Only when run as a script, not when imported by the tests
+if (require.main === module) {
+  main().catch(error => {
+    console.error(error);
+    process.exit(1);
+  });
+}
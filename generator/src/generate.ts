@@ -1,12 +1,48 @@
 import * as fs from 'fs';
+import * as os from 'os';
 import * as path from 'path';
-import { loadConfig, GeneratorConfig, Metadata, GroupingConfig } from './config';
+import { isMainThread, parentPort, Worker } from 'worker_threads';
+import { loadConfigs, buildFile, GeneratorConfig, Metadata, GroupingConfig } from './config';
 import { classifyUtility, ClassifiedUtility } from './classifier';
+import { buildUtilityIndex, generateRegistryClass, REGISTRY_CLASS, UTILITY_INTERFACE } from './registry';
+import { CLASS_SET_CLASS, generateClassSetClass } from './classset';
+import { computeConflictGroups } from './conflicts';
+import { MERGE_CLASS, generateMergeClass } from './merge';
+import { STYLESHEET_CLASS, UTILITY_CSS_FILE, UtilityCss, generateStylesheetClass } from './stylesheet';
+import { isUpToDate, recordStage, stageKey, writeIfChanged } from './cache';
+import { CDS_CLASS_LIST_FILE, generateClassList } from './cds';
+import { METRICS_CLASS, generateMetricsClass } from './metrics';
+import { Recipe, generateRecipeClass, resolveRecipes } from './recipes';
+import { STYLE_CLASS, generateStyleClass } from './style';
+import { INTERN_POOL_CLASS, generateInternPoolClass } from './intern';
+import { RESULT_CACHE_CLASS, generateResultCacheClass } from './resultcache';
+import { UTILITY_INFO_CLASS, UtilityMetadata, generateUtilityInfoClass } from './lookup';
+import { UTILITY_ENUM, generateUtilityEnum, generateUtilityInterface } from './enums';
+import { PALETTE_CLASS, generatePaletteClass, generateScaleAccessors } from './scales';
+import { TOKENIZER_CLASS, generateTokenizerClass } from './classlist';
+import {
+  STATE_VARIANTS, VARIANTS_CLASS, VARIANTS_FILE, VARIANT_CLASS, VariantDefinition,
+  generateVariantClass, generateVariantsClass, getAllVariants, getBreakpointVariants
+} from './variants';
+
+/** Prefix of the top-level category classes in split mode, e.g. TwSpacing */
+const SPLIT_CLASS_PREFIX = 'Tw';
+
+/** Name of the list of all utilities in a category class, e.g. TW.Spacing.Padding.ALL */
+const ALL_CONSTANT = 'ALL';
+
+/** Name of the nested class indexing the category lists, TW.Index */
+const INDEX_CLASS = 'Index';
 
 interface CategorizedUtilities {
   [category: string]: string[];
 }
 
+interface VariantConstantHolder {
+  variant: VariantDefinition;
+  categories: string[];
+}
+
 /**
  * Normalizes a class name by removing escape characters
  */
@@ -85,13 +121,33 @@ function groupByPrefix(utilities: string[]): Map<string, string[]> {
 /**
  * Generates the main TW.java class
  */
-function generateTWClass(categorized: CategorizedUtilities, config: GeneratorConfig, metadata: Metadata): string {
+function generateTWClass(
+  categorized: CategorizedUtilities,
+  config: GeneratorConfig,
+  metadata: Metadata,
+  recipes: Recipe[],
+  ids?: Map<string, number>
+): string {
   const lines: string[] = [];
 
   // Package and imports
   lines.push(`package ${config.java.package};`);
   lines.push('');
   lines.push('import java.io.Serializable;');
+  if (config.grouping?.enabled) {
+    lines.push('import java.util.Collections;');
+    lines.push('import java.util.LinkedHashMap;');
+  }
+  if (recipes.length > 0 || config.grouping?.enabled) {
+    lines.push('import java.util.List;');
+  }
+  if (config.grouping?.enabled) {
+    lines.push('import java.util.Map;');
+  }
+  if (config.grouping?.enabled && !config.java.split) {
+    // Null checks of the color accessors
+    lines.push('import java.util.Objects;');
+  }
   lines.push('');
 
   // Class JavaDoc
@@ -136,10 +192,14 @@ function generateTWClass(categorized: CategorizedUtilities, config: GeneratorCon
   lines.push('');
 
   // Check if grouping is enabled
-  if (config.grouping?.enabled) {
+  if (config.grouping?.enabled && config.java.split) {
+    // Categories are separate top-level classes, only reachable through the facade here
+    const grouped = groupUtilities(categorized, config.grouping);
+    generateFacadeStructure(lines, grouped, config);
+  } else if (config.grouping?.enabled) {
     // Use nested structure
     const grouped = groupUtilities(categorized, config.grouping);
-    generateNestedStructure(lines, grouped, config);
+    generateNestedStructure(lines, grouped, config, ids);
   } else {
     // Use flat structure (current behavior)
     // Sort categories for better organization
@@ -181,6 +241,9 @@ function generateTWClass(categorized: CategorizedUtilities, config: GeneratorCon
 
   // Add nested classes
   lines.push('');
+  if (recipes.length > 0) {
+    generateRecipeClass(lines, recipes, config);
+  }
   lines.push('    // ========== RESPONSIVE MODIFIERS ==========');
   lines.push('');
   lines.push('    /**');
@@ -191,20 +254,15 @@ function generateTWClass(categorized: CategorizedUtilities, config: GeneratorCon
   lines.push(`     * div.addClassName(${config.java.className}.Responsive.md(${config.java.className}.FLEX));`);
   lines.push('     * // Result: "md:flex"');
   lines.push('     * }</pre>');
+  lines.push('     * <p>');
+  lines.push('     * Results for known utilities are cached, so repeated calls return the same instance.');
   lines.push('     */');
   lines.push('    public static final class Responsive {');
   lines.push('');
 
   // Generate breakpoint methods from config
-  Object.entries(config.breakpoints).forEach(([name, value]) => {
-    const methodName = name === '2xl' ? 'xxl' : name;
-    const description = name.charAt(0).toUpperCase() + name.slice(1);
-
-    lines.push(`        /** ${description} breakpoint (${value}) - prefix: {@code ${name}:} */`);
-    lines.push(`        public static String ${methodName}(String utility) {`);
-    lines.push(`            return "${name}:" + utility;`);
-    lines.push('        }');
-    lines.push('');
+  getBreakpointVariants(config).forEach(variant => {
+    generateVariantMethod(lines, variant);
   });
 
   lines.push('        private Responsive() {}');
@@ -221,35 +279,52 @@ function generateTWClass(categorized: CategorizedUtilities, config: GeneratorCon
   lines.push(`     * button.addClassName(${config.java.className}.State.hover(${config.java.className}.BG_BLUE_600));`);
   lines.push('     * // Result: "hover:bg-blue-600"');
   lines.push('     * }</pre>');
+  lines.push('     * <p>');
+  lines.push('     * Results for known utilities are cached, so repeated calls return the same instance.');
   lines.push('     */');
   lines.push('    public static final class State {');
   lines.push('');
-  lines.push('        /** Hover state - prefix: {@code hover:} */');
-  lines.push('        public static String hover(String utility) {');
-  lines.push('            return "hover:" + utility;');
-  lines.push('        }');
-  lines.push('');
-  lines.push('        /** Focus state - prefix: {@code focus:} */');
-  lines.push('        public static String focus(String utility) {');
-  lines.push('            return "focus:" + utility;');
-  lines.push('        }');
+
+  STATE_VARIANTS.forEach(variant => {
+    generateVariantMethod(lines, variant);
+  });
+
+  lines.push('        private State() {}');
+  lines.push('    }');
   lines.push('');
-  lines.push('        /** Active state - prefix: {@code active:} */');
-  lines.push('        public static String active(String utility) {');
-  lines.push('            return "active:" + utility;');
-  lines.push('        }');
+
+  lines.push('    // ========== CLASS MERGING ==========');
   lines.push('');
-  lines.push('        /** Dark mode - prefix: {@code dark:} */');
-  lines.push('        public static String dark(String utility) {');
-  lines.push('            return "dark:" + utility;');
-  lines.push('        }');
+  lines.push('    /**');
+  lines.push('     * Merges class lists, dropping utilities overridden by a later utility of the same conflict group.');
+  lines.push('     * <p>');
+  lines.push('     * <pre>{@code');
+  lines.push('     * // Compose defaults with per-instance overrides');
+  lines.push(`     * div.setClassName(${config.java.className}.merge("p-4 bg-white", "p-6 px-2 bg-gray-100"));`);
+  lines.push('     * // Result: "p-6 px-2 bg-gray-100"');
+  lines.push('     * }</pre>');
+  lines.push('     *');
+  lines.push(`     * @see ${MERGE_CLASS}`);
+  lines.push('     */');
+  lines.push('    public static String merge(String... classLists) {');
+  lines.push(`        return ${MERGE_CLASS}.merge(classLists);`);
+  lines.push('    }');
   lines.push('');
-  lines.push('        /** Disabled state - prefix: {@code disabled:} */');
-  lines.push('        public static String disabled(String utility) {');
-  lines.push('            return "disabled:" + utility;');
-  lines.push('        }');
+
+  lines.push('    // ========== LOOKUP ==========');
   lines.push('');
-  lines.push('        private State() {}');
+  lines.push('    /**');
+  lines.push('     * Returns the utility with the given class name, or {@code null} if it is not a known utility.');
+  lines.push('     * <p>');
+  lines.push('     * <pre>{@code');
+  lines.push(`     * ${UTILITY_INFO_CLASS} info = ${config.java.className}.lookup("pl-4");`);
+  lines.push('     * info.category(); // "padding"');
+  lines.push('     * }</pre>');
+  lines.push('     * <p>');
+  lines.push('     * Resolved with a perfect hash computed by the generator, without reflection or allocation.');
+  lines.push('     */');
+  lines.push(`    public static ${UTILITY_INFO_CLASS} lookup(CharSequence className) {`);
+  lines.push(`        return ${UTILITY_INFO_CLASS}.of(className);`);
   lines.push('    }');
   lines.push('');
 
@@ -262,6 +337,17 @@ function generateTWClass(categorized: CategorizedUtilities, config: GeneratorCon
   return lines.join('\n');
 }
 
+/**
+ * Generates a method that prefixes a utility with the given variant
+ */
+function generateVariantMethod(lines: string[], variant: VariantDefinition): void {
+  lines.push(`        /** ${variant.description} - prefix: {@code ${variant.name}:} */`);
+  lines.push(`        public static String ${variant.methodName}(String utility) {`);
+  lines.push(`            return ${VARIANTS_CLASS}.apply(${VARIANTS_CLASS}.${variant.constantName}, utility);`);
+  lines.push('        }');
+  lines.push('');
+}
+
 /**
  * Generates a section for a specific category
  */
@@ -326,15 +412,11 @@ function groupUtilities(
 }
 
 /**
- * Generates constants within a category
+ * Sorts the utilities of a category class in constant order
  */
-function generateConstants(
-  lines: string[],
-  utilities: ClassifiedUtility[],
-  indent: string
-): void {
+function sortUtilities(utilities: ClassifiedUtility[]): ClassifiedUtility[] {
   // Sort by constant name for consistent output
-  const sorted = [...utilities].sort((a, b) => {
+  return [...utilities].sort((a, b) => {
     // Sort by numeric value if present, otherwise alphabetically
     const aMatch = a.constantName.match(/\d+/);
     const bMatch = b.constantName.match(/\d+/);
@@ -349,10 +431,21 @@ function generateConstants(
 
     return a.constantName.localeCompare(b.constantName);
   });
+}
 
-  for (const utility of sorted) {
-    const javaDoc = `${indent}/** Tailwind class: {@code ${utility.className}} */`;
-    const constant = `${indent}public static final String ${utility.constantName} = "${utility.className}";`;
+/**
+ * Generates constants within a category
+ */
+function generateConstants(
+  lines: string[],
+  utilities: ClassifiedUtility[],
+  indent: string,
+  prefix: string = ''
+): void {
+  for (const utility of sortUtilities(utilities)) {
+    const className = prefix + utility.className;
+    const javaDoc = `${indent}/** Tailwind class: {@code ${className}} */`;
+    const constant = `${indent}public static final String ${utility.constantName} = "${className}";`;
 
     lines.push(javaDoc);
     lines.push(constant);
@@ -361,13 +454,9 @@ function generateConstants(
 }
 
 /**
- * Generates nested class structure
+ * Sorts top-level categories by the defined order, with unspecified ones at the end
  */
-function generateNestedStructure(
-  lines: string[],
-  grouped: Map<string, Map<string | undefined, ClassifiedUtility[]>>,
-  config: GeneratorConfig
-): void {
+function sortTopLevelCategories(categories: string[]): string[] {
   // Define category order for consistent output
   const categoryOrder = [
     'Spacing', 'Layout', 'Sizing', 'Background', 'Text', 'Border',
@@ -375,8 +464,7 @@ function generateNestedStructure(
     'Transitions', 'Transforms'
   ];
 
-  // Sort categories by defined order, with unspecified at the end
-  const sortedCategories = [...grouped.keys()].sort((a, b) => {
+  return [...categories].sort((a, b) => {
     const aIndex = categoryOrder.indexOf(a);
     const bIndex = categoryOrder.indexOf(b);
 
@@ -385,74 +473,485 @@ function generateNestedStructure(
     if (bIndex === -1) return -1;
     return aIndex - bIndex;
   });
+}
 
-  for (const topLevel of sortedCategories) {
-    const subCategories = grouped.get(topLevel)!;
+/**
+ * Returns the class name of a variant constant holder, e.g. "Md" or "Xxl"
+ */
+function holderName(variant: VariantDefinition): string {
+  return variant.methodName.charAt(0).toUpperCase() + variant.methodName.slice(1);
+}
+
+/**
+ * Generates nested class structure
+ */
+function generateNestedStructure(
+  lines: string[],
+  grouped: Map<string, Map<string | undefined, ClassifiedUtility[]>>,
+  config: GeneratorConfig,
+  ids?: Map<string, number>
+): void {
+  const sortedCategories = sortTopLevelCategories([...grouped.keys()]);
 
+  for (const topLevel of sortedCategories) {
     lines.push('');
     lines.push(`    // ========== ${topLevel.toUpperCase()} ==========`);
     lines.push('');
-    lines.push(`    /**`);
-    lines.push(`     * ${topLevel} utilities`);
-    lines.push(`     */`);
-    lines.push(`    public static final class ${topLevel} {`);
+    generateCategoryClass(lines, topLevel, grouped.get(topLevel)!, '    ', '', undefined, ids);
+  }
+  generateIndexClass(lines, grouped, sortedCategories, config);
+
+  // Variant holders with the prefix folded into each constant
+  const holders = resolveVariantConstants(config, sortedCategories);
+  if (holders.length === 0) {
+    return;
+  }
+
+  lines.push('');
+  lines.push('    // ========== VARIANT CONSTANTS ==========');
+
+  for (const holder of holders) {
     lines.push('');
+    generateVariantHolder(lines, holder, grouped, '    ', config);
+  }
+}
 
-    // Check if we have only one subcategory that is undefined (no nesting needed)
-    if (subCategories.size === 1 && subCategories.has(undefined)) {
-      // Direct constants without subcategories
-      const utilities = subCategories.get(undefined)!;
-      generateConstants(lines, utilities, '        ');
-    } else {
-      // Sort subcategories: undefined first, then alphabetically
-      const sortedSubCategories = [...subCategories.entries()].sort((a, b) => {
-        if (a[0] === undefined) return -1;
-        if (b[0] === undefined) return 1;
-        return a[0].localeCompare(b[0]);
-      });
+/**
+ * Generates the facade classes of split mode, e.g. TW.Spacing extending TwSpacing.
+ * <p>
+ * Member classes and constants are inherited, so TW.Spacing.Padding.P_4 still resolves
+ * and is still a compile-time constant.
+ */
+function generateFacadeStructure(
+  lines: string[],
+  grouped: Map<string, Map<string | undefined, ClassifiedUtility[]>>,
+  config: GeneratorConfig
+): void {
+  const sortedCategories = sortTopLevelCategories([...grouped.keys()]);
+  const holders = resolveVariantConstants(config, sortedCategories).map(holder => holderName(holder.variant));
+
+  lines.push('');
+  lines.push('    // ========== CATEGORIES ==========');
+
+  for (const name of [...sortedCategories, ...holders]) {
+    lines.push('');
+    lines.push('    /**');
+    lines.push(`     * See {@link ${splitClassName(name)}}`);
+    lines.push('     */');
+    lines.push(`    public static final class ${name} extends ${splitClassName(name)} {`);
+    lines.push(`        private ${name}() {}`);
+    lines.push('    }');
+  }
+  generateIndexClass(lines, grouped, sortedCategories, config);
+  lines.push('');
+}
+
+/**
+ * Generates the top-level classes of split mode, one per top-level category and variant holder,
+ * mapped by class name
+ */
+function generateSplitClasses(
+  categorized: CategorizedUtilities,
+  config: GeneratorConfig,
+  ids?: Map<string, number>
+): Map<string, string> {
+  if (!config.grouping?.enabled) {
+    throw new Error('java.split requires grouping.enabled');
+  }
+
+  const grouped = groupUtilities(categorized, config.grouping);
+  const sortedCategories = sortTopLevelCategories([...grouped.keys()]);
+  const reserved = [config.java.className, REGISTRY_CLASS, VARIANTS_CLASS, CLASS_SET_CLASS, MERGE_CLASS, STYLE_CLASS, VARIANT_CLASS, INTERN_POOL_CLASS, RESULT_CACHE_CLASS, STYLESHEET_CLASS, METRICS_CLASS, UTILITY_INFO_CLASS, UTILITY_INTERFACE, PALETTE_CLASS, TOKENIZER_CLASS];
+  const classes = new Map<string, string>();
+
+  function addClass(name: string, generate: (lines: string[]) => void, imports: string[] = []): void {
+    const className = splitClassName(name);
+    if (reserved.includes(className) || classes.has(className)) {
+      throw new Error(`Split class ${className} for ${name} clashes with another generated class`);
+    }
+
+    const body: string[] = [];
+    generate(body);
+    const code = body.join('\n');
+    const used = imports.filter(imported => code.includes(imported.substring(imported.lastIndexOf('.') + 1) + '.'));
+
+    const lines: string[] = [];
+    lines.push(`package ${config.java.package};`);
+    lines.push('');
+    if (used.length > 0) {
+      lines.push(...used.map(imported => `import ${imported};`));
+      lines.push('');
+    }
+    lines.push(code);
+    classes.set(className, lines.join('\n'));
+  }
+
+  for (const topLevel of sortedCategories) {
+    addClass(topLevel, lines =>
+      generateCategoryClass(lines, topLevel, grouped.get(topLevel)!, '', '', config, ids), ['java.util.List', 'java.util.Objects']);
+  }
+
+  for (const holder of resolveVariantConstants(config, sortedCategories)) {
+    addClass(holderName(holder.variant), lines =>
+      generateVariantHolder(lines, holder, grouped, '', config, true));
+  }
+
+  return classes;
+}
+
+/**
+ * Returns the top-level class name of a category in split mode, e.g. "TwSpacing"
+ */
+function splitClassName(name: string): string {
+  return `${SPLIT_CLASS_PREFIX}${name}`;
+}
+
+/**
+ * Generates a variant holder with the prefix folded into each constant, e.g. TW.Md
+ */
+function generateVariantHolder(
+  lines: string[],
+  holder: VariantConstantHolder,
+  grouped: Map<string, Map<string | undefined, ClassifiedUtility[]>>,
+  indent: string,
+  config: GeneratorConfig,
+  split: boolean = false
+): void {
+  const { variant, categories } = holder;
+  const name = holderName(variant);
+  const className = split ? splitClassName(name) : name;
+  const helper = (split ? `${config.java.className}.` : '')
+    + (STATE_VARIANTS.includes(variant) ? 'State' : 'Responsive');
+
+  lines.push(`${indent}/**`);
+  lines.push(`${indent} * ${variant.description} - constants prefixed with {@code ${variant.name}:}`);
+  lines.push(`${indent} * <p>`);
+  lines.push(`${indent} * Same values as {@link ${helper}#${variant.methodName}(String)}, but compile-time constants,`);
+  lines.push(`${indent} * so they can be used in annotations and switch labels.`);
+  if (split) {
+    lines.push(`${indent} * Usually used through {@code ${config.java.className}.${name}}.`);
+  }
+  lines.push(`${indent} */`);
+  lines.push(split
+    ? `${indent}public class ${className} {`
+    : `${indent}public static final class ${className} {`);
+
+  for (const topLevel of categories) {
+    lines.push('');
+    generateCategoryClass(lines, topLevel, grouped.get(topLevel)!, indent + '    ', `${variant.name}:`);
+  }
+
+  lines.push('');
+  lines.push(split
+    ? `${indent}    ${className}() {}`
+    : `${indent}    private ${className}() {}`);
+  lines.push(`${indent}}`);
+}
+
+/**
+ * Generates the immutable list of the utilities of a category class, in declaration order
+ */
+function generateAllList(
+  lines: string[],
+  utilities: ClassifiedUtility[],
+  indent: string,
+  nested: boolean
+): void {
+  if (utilities.some(utility => utility.constantName === ALL_CONSTANT)) {
+    throw new Error(`A utility constant clashes with the ${ALL_CONSTANT} list of its class`);
+  }
+
+  lines.push(`${indent}/** All utilities of this class${nested ? ' and its nested classes' : ''}, in declaration order. Immutable. */`);
+  lines.push(`${indent}public static final List<String> ${ALL_CONSTANT} = List.of(`);
+  lines.push(...formatStrings(utilities.map(utility => utility.className), indent + '        '));
+  lines.push(`${indent});`);
+  lines.push('');
+}
+
+/**
+ * Formats strings as quoted, comma-separated rows of at most 100 columns
+ */
+function formatStrings(values: string[], indent: string): string[] {
+  const rows: string[] = [];
+  let row = '';
+  values.forEach((value, index) => {
+    const item = `"${value}"${index < values.length - 1 ? ',' : ''}`;
+    if (row.length > 0 && indent.length + row.length + 1 + item.length > 100) {
+      rows.push(indent + row);
+      row = '';
+    }
+    row += (row.length > 0 ? ' ' : '') + item;
+  });
+  if (row.length > 0) {
+    rows.push(indent + row);
+  }
+  return rows;
+}
+
+/**
+ * Generates the class indexing the ALL lists of the category classes by class path
+ */
+function generateIndexClass(
+  lines: string[],
+  grouped: Map<string, Map<string | undefined, ClassifiedUtility[]>>,
+  sortedCategories: string[],
+  config: GeneratorConfig
+): void {
+  if (sortedCategories.includes(INDEX_CLASS)) {
+    throw new Error(`Category ${INDEX_CLASS} clashes with the index class`);
+  }
+  const twClass = config.java.className;
+
+  lines.push('');
+  lines.push('    // ========== INDEX ==========');
+  lines.push('');
+  lines.push('    /**');
+  lines.push(`     * The {@code ${ALL_CONSTANT}} lists of the category classes, keyed by their path below {@link ${twClass}}, so`);
+  lines.push('     * utilities can be enumerated without reflection.');
+  lines.push('     * <p>');
+  lines.push('     * <pre>{@code');
+  lines.push(`     * ${twClass}.${INDEX_CLASS}.CATEGORIES.get("Spacing.Padding"); // same as ${twClass}.Spacing.Padding.${ALL_CONSTANT}`);
+  lines.push('     * }</pre>');
+  lines.push('     * <p>');
+  lines.push('     * Using this class loads all category classes.');
+  lines.push('     */');
+  lines.push(`    public static final class ${INDEX_CLASS} {`);
+  lines.push('');
+  lines.push(`        /** All utilities, ordered by utility ID. Immutable. */`);
+  lines.push(`        public static final List<String> ${ALL_CONSTANT} = List.of(${REGISTRY_CLASS}.NAMES);`);
+  lines.push('');
+  lines.push(`        /** Category class paths mapped to their {@code ${ALL_CONSTANT}} lists, in declaration order. Immutable. */`);
+  lines.push('        public static final Map<String, List<String>> CATEGORIES;');
+  lines.push('');
+  lines.push('        static {');
+  lines.push('            Map<String, List<String>> categories = new LinkedHashMap<>();');
+  for (const topLevel of sortedCategories) {
+    lines.push(`            categories.put("${topLevel}", ${topLevel}.${ALL_CONSTANT});`);
+    const subCategories = ([...grouped.get(topLevel)!.keys()]
+      .filter(subCategory => subCategory !== undefined) as string[])
+      .sort((a, b) => a.localeCompare(b));
+    for (const subCategory of subCategories) {
+      lines.push(`            categories.put("${topLevel}.${subCategory}", ${topLevel}.${subCategory}.${ALL_CONSTANT});`);
+    }
+  }
+  lines.push('            CATEGORIES = Collections.unmodifiableMap(categories);');
+  lines.push('        }');
+  lines.push('');
+  lines.push(`        private ${INDEX_CLASS}() {}`);
+  lines.push('    }');
+}
+
+/**
+ * Generates the class for a top-level category, with its subcategories nested inside
+ */
+function generateCategoryClass(
+  lines: string[],
+  topLevel: string,
+  subCategories: Map<string | undefined, ClassifiedUtility[]>,
+  indent: string,
+  prefix: string,
+  splitConfig?: GeneratorConfig,
+  ids?: Map<string, number>
+): void {
+  const memberIndent = indent + '    ';
+
+  // Constants, followed by their enum in enum mode and their scale accessors
+  function generateMembers(utilities: ClassifiedUtility[], indent: string): void {
+    generateConstants(lines, utilities, indent, prefix);
+    if (ids) {
+      generateUtilityEnum(lines, sortUtilities(utilities), ids, indent);
+    }
+    if (prefix === '') {
+      generateScaleAccessors(lines, sortUtilities(utilities), indent);
+    }
+  }
 
-      for (const [subCategory, utilities] of sortedSubCategories) {
-        if (subCategory === undefined) {
-          // Top-level constants in this category (no subcategory)
-          generateConstants(lines, utilities, '        ');
-        } else {
-          // Nested subcategory
-          lines.push(`        /**`);
-          lines.push(`         * ${subCategory} utilities`);
-          lines.push(`         */`);
-          lines.push(`        public static final class ${subCategory} {`);
-          lines.push('');
-          generateConstants(lines, utilities, '            ');
-          lines.push(`            private ${subCategory}() {}`);
-          lines.push('        }');
-          lines.push('');
+  // In split mode the category is a top-level class extended by the facade
+  const className = splitConfig ? splitClassName(topLevel) : topLevel;
+
+  lines.push(`${indent}/**`);
+  lines.push(`${indent} * ${topLevel} utilities`);
+  if (splitConfig) {
+    lines.push(`${indent} * <p>`);
+    lines.push(`${indent} * Usually used through {@code ${splitConfig.java.className}.${topLevel}}.`);
+  }
+  lines.push(`${indent} */`);
+  lines.push(splitConfig
+    ? `${indent}public class ${className} {`
+    : `${indent}public static final class ${className} {`);
+  lines.push('');
+
+  // Check if we have only one subcategory that is undefined (no nesting needed)
+  if (subCategories.size === 1 && subCategories.has(undefined)) {
+    // Direct constants without subcategories
+    const utilities = subCategories.get(undefined)!;
+    generateMembers(utilities, memberIndent);
+    if (prefix === '') {
+      generateAllList(lines, sortUtilities(utilities), memberIndent, false);
+    }
+  } else {
+    // Sort subcategories: undefined first, then alphabetically
+    const sortedSubCategories = [...subCategories.entries()].sort((a, b) => {
+      if (a[0] === undefined) return -1;
+      if (b[0] === undefined) return 1;
+      return a[0].localeCompare(b[0]);
+    });
+
+    for (const [subCategory, utilities] of sortedSubCategories) {
+      if (subCategory === undefined) {
+        // Top-level constants in this category (no subcategory)
+        generateMembers(utilities, memberIndent);
+      } else {
+        // Nested subcategory
+        if (ids && subCategory === UTILITY_ENUM) {
+          throw new Error(`Subcategory ${topLevel}.${subCategory} clashes with the enums of java.enums`);
         }
+        lines.push(`${memberIndent}/**`);
+        lines.push(`${memberIndent} * ${subCategory} utilities`);
+        lines.push(`${memberIndent} */`);
+        lines.push(`${memberIndent}public static final class ${subCategory} {`);
+        lines.push('');
+        generateMembers(utilities, memberIndent + '    ');
+        if (prefix === '') {
+          generateAllList(lines, sortUtilities(utilities), memberIndent + '    ', false);
+        }
+        lines.push(`${memberIndent}    private ${subCategory}() {}`);
+        lines.push(`${memberIndent}}`);
+        lines.push('');
       }
     }
 
-    lines.push(`        private ${topLevel}() {}`);
-    lines.push('    }');
+    // The constants of the class itself come first, as declared
+    if (prefix === '') {
+      const all = sortedSubCategories.flatMap(([, utilities]) => sortUtilities(utilities));
+      generateAllList(lines, all, memberIndent, true);
+    }
   }
+
+  lines.push(splitConfig
+    ? `${memberIndent}${className}() {}`
+    : `${memberIndent}private ${className}() {}`);
+  lines.push(`${indent}}`);
 }
 
 /**
- * Main generation function
+ * Resolves the configured variant constant holders, in variant order
  */
-function main() {
-  console.log('=== Tailwind CSS Java Generator ===\n');
+function resolveVariantConstants(
+  config: GeneratorConfig,
+  categories: string[]
+): VariantConstantHolder[] {
+  const requested = config.variantConstants ?? {};
+  const variants = [...getBreakpointVariants(config), ...STATE_VARIANTS];
+
+  for (const name of Object.keys(requested)) {
+    if (!variants.some(variant => variant.name === name)) {
+      throw new Error(`Unknown variant in variantConstants: ${name}`);
+    }
+  }
 
-  // Load configuration
-  const config = loadConfig();
+  return variants
+    .filter(variant => requested[variant.name])
+    .map(variant => {
+      const selection = requested[variant.name];
+      if (selection === true) {
+        return { variant, categories };
+      }
 
-  // Read categorized utilities with metadata
-  const inputPath = path.join(__dirname, '..', 'categorized-utilities.json');
-  console.log(`Reading: ${inputPath}`);
+      const selected = selection as string[];
+      for (const category of selected) {
+        if (!categories.includes(category)) {
+          throw new Error(`Unknown category in variantConstants.${variant.name}: ${category}`);
+        }
+      }
+      // Keep the order of the top-level categories
+      return { variant, categories: categories.filter(category => selected.includes(category)) };
+    });
+}
 
-  if (!fs.existsSync(inputPath)) {
-    console.error('Error: categorized-utilities.json not found. Run extract script first.');
-    process.exit(1);
+/**
+ * Resolves the category and the constant of every utility, indexed by utility ID
+ */
+function describeUtilities(
+  categorized: CategorizedUtilities,
+  classNames: string[],
+  config: GeneratorConfig
+): UtilityMetadata {
+  const categories = Object.keys(categorized).sort();
+  const categoryOf = new Map<string, number>();
+  const constants = new Map<string, string>();
+  const twClass = config.java.className;
+
+  categories.forEach((category, index) => {
+    for (const className of categorized[category]) {
+      const normalized = normalizeClassName(className);
+      if (!categoryOf.has(normalized)) {
+        categoryOf.set(normalized, index);
+      }
+    }
+  });
+
+  if (config.grouping?.enabled) {
+    // Split mode reaches the same constants through the facade classes
+    const grouped = groupUtilities(categorized, config.grouping);
+    for (const [topLevel, subCategories] of grouped) {
+      for (const [subCategory, utilities] of subCategories) {
+        const owner = subCategory === undefined ? `${twClass}.${topLevel}` : `${twClass}.${topLevel}.${subCategory}`;
+        for (const utility of utilities) {
+          const normalized = normalizeClassName(utility.className);
+          if (!constants.has(normalized)) {
+            constants.set(normalized, `${owner}.${utility.constantName}`);
+          }
+        }
+      }
+    }
+  } else {
+    for (const className of classNames) {
+      constants.set(className, `${twClass}.${toConstantName(className)}`);
+    }
+  }
+
+  return {
+    categories,
+    categoryOf: classNames.map(className => categoryOf.get(className)!),
+    constants: classNames.map(className => constants.get(className)!)
+  };
+}
+
+/**
+ * Writes a supporting Java class next to the main class, unless unchanged, and records its source
+ */
+function writeJavaClass(outputDir: string, className: string, javaCode: string, sources: Map<string, string>): void {
+  const outputPath = path.join(outputDir, `${className}.java`);
+  const changed = writeIfChanged(outputPath, javaCode);
+  sources.set(className, javaCode);
+  console.log(`${changed ? 'Wrote' : 'Unchanged'} ${className}.java (${(javaCode.length / 1024).toFixed(2)} KB)`);
+}
+
+/**
+ * Removes a supporting Java class left over from an earlier run that is no longer generated
+ */
+function removeJavaClass(outputDir: string, className: string): void {
+  const outputPath = path.join(outputDir, `${className}.java`);
+  if (fs.existsSync(outputPath)) {
+    fs.unlinkSync(outputPath);
+    console.log(`Removed ${className}.java`);
+  }
+}
+
+/**
+ * Generates the Java classes of one config and returns the files it wrote or left unchanged
+ */
+export function generateTarget(config: GeneratorConfig): string[] {
+  if (config.name) {
+    console.log(`\n--- Target "${config.name}" ---`);
   }
 
+  // Read categorized utilities with metadata
+  const inputPath = path.join(__dirname, '..', buildFile('categorized-utilities.json', config));
+  const cssPath = path.join(__dirname, '..', buildFile(UTILITY_CSS_FILE, config));
+  console.log(`Reading: ${inputPath}`);
+
   const data = JSON.parse(fs.readFileSync(inputPath, 'utf-8'));
 
   // Handle both old format (just utilities) and new format (with metadata)
@@ -480,26 +979,234 @@ function main() {
   console.log(`Package: ${config.java.package}`);
   console.log(`Class name: ${config.java.className}`);
 
+  // Variants of the Tailwind build, or the built-in v4 list if none were extracted
+  const variantsPath = path.join(__dirname, '..', buildFile(VARIANTS_FILE, config));
+  const extractedVariants: string[] | undefined = fs.existsSync(variantsPath)
+    ? JSON.parse(fs.readFileSync(variantsPath, 'utf-8'))
+    : undefined;
+  const allVariants = getAllVariants(config, extractedVariants);
+  console.log(`Variants: ${allVariants.length}${extractedVariants ? '' : ' (built-in list)'}`);
+  if (!extractedVariants) {
+    console.warn(`Warning: ${path.basename(variantsPath)} not found, using the built-in Tailwind v4 core variants. ` +
+      'Variants of plugins or of a customized theme are missing; run the extract script and regenerate.');
+  }
+
+  // Recipes are validated against the utilities, variants and conflict groups
+  const classNames = buildUtilityIndex(categorized);
+  const groups = computeConflictGroups(categorized, classNames);
+  const recipes = resolveRecipes(config, classNames, allVariants, groups);
+
+  // Utility IDs of the enum constants, in enum mode
+  if (config.java.enums && !config.grouping?.enabled) {
+    throw new Error('java.enums requires grouping.enabled');
+  }
+  const ids = config.java.enums
+    ? new Map<string, number>(classNames.map((className, id) => [className, id]))
+    : undefined;
+
   // Generate Java class
   console.log(`\nGenerating ${config.java.className}.java...`);
-  const javaCode = generateTWClass(categorized, config, metadata);
+  const javaCode = generateTWClass(categorized, config, metadata, recipes, ids);
 
   // Write output - use config for path
   const packageParts = config.java.package.split('.');
+  const outputRoot = path.join(__dirname, '..', config.output.directory);
   const outputDir = config.output.createPackageStructure
-    ? path.join(__dirname, '..', config.output.directory, ...packageParts)
-    : path.join(__dirname, '..', config.output.directory);
-
-  fs.mkdirSync(outputDir, { recursive: true });
+    ? path.join(outputRoot, ...packageParts)
+    : outputRoot;
 
+  // Unchanged files are left untouched, so dependent modules are not recompiled
   const outputPath = path.join(outputDir, `${config.java.className}.java`);
-  fs.writeFileSync(outputPath, javaCode);
+  const changed = writeIfChanged(outputPath, javaCode);
 
-  console.log(`\nWrote Java class to: ${outputPath}`);
+  console.log(`\n${changed ? 'Wrote' : 'Unchanged'} Java class: ${outputPath}`);
   console.log(`File size: ${(javaCode.length / 1024).toFixed(2)} KB`);
   console.log(`Lines of code: ${javaCode.split('\n').length}`);
 
-  console.log('\n=== Generation complete! ===');
+  // Every generated source, for the CDS class list
+  const sources = new Map<string, string>([[config.java.className, javaCode]]);
+
+  if (config.java.split) {
+    for (const [className, code] of generateSplitClasses(categorized, config, ids)) {
+      writeJavaClass(outputDir, className, code, sources);
+    }
+  }
+
+  // Generate supporting classes; the style builder has a method per breakpoint and state variant
+  const variants = [...getBreakpointVariants(config), ...STATE_VARIANTS];
+
+  writeJavaClass(outputDir, REGISTRY_CLASS, generateRegistryClass(classNames, config), sources);
+  writeJavaClass(outputDir, UTILITY_INTERFACE, generateUtilityInterface(config), sources);
+  if (config.grouping?.enabled) {
+    writeJavaClass(outputDir, PALETTE_CLASS, generatePaletteClass(config), sources);
+  }
+  writeJavaClass(outputDir, UTILITY_INFO_CLASS,
+    generateUtilityInfoClass(classNames, describeUtilities(categorized, classNames, config), config), sources);
+  writeJavaClass(outputDir, VARIANTS_CLASS, generateVariantsClass(allVariants, config), sources);
+  writeJavaClass(outputDir, VARIANT_CLASS, generateVariantClass(allVariants, config), sources);
+  writeJavaClass(outputDir, INTERN_POOL_CLASS, generateInternPoolClass(config), sources);
+  writeJavaClass(outputDir, RESULT_CACHE_CLASS, generateResultCacheClass(config), sources);
+  writeJavaClass(outputDir, CLASS_SET_CLASS, generateClassSetClass(config), sources);
+  writeJavaClass(outputDir, TOKENIZER_CLASS, generateTokenizerClass(config), sources);
+  writeJavaClass(outputDir, MERGE_CLASS, generateMergeClass(groups, config), sources);
+  writeJavaClass(outputDir, STYLE_CLASS, generateStyleClass(variants, config), sources);
+
+  // Utility CSS is optional: the stylesheet and metrics classes are only generated when it was captured
+  if (fs.existsSync(cssPath)) {
+    const utilityCss: UtilityCss = JSON.parse(fs.readFileSync(cssPath, 'utf-8'));
+    writeJavaClass(outputDir, STYLESHEET_CLASS, generateStylesheetClass(classNames, utilityCss, allVariants, config), sources);
+    writeJavaClass(outputDir, METRICS_CLASS, generateMetricsClass(classNames, utilityCss, config), sources);
+  } else {
+    console.log(`Warning: ${path.basename(cssPath)} not found, skipping ${STYLESHEET_CLASS} and ${METRICS_CLASS}. Run extract script to capture it.`);
+    removeJavaClass(outputDir, STYLESHEET_CLASS);
+    removeJavaClass(outputDir, METRICS_CLASS);
+  }
+
+  // Class list for AppCDS archives, packaged into the runtime jar
+  const classListPath = path.join(outputRoot, CDS_CLASS_LIST_FILE);
+  const classList = generateClassList(sources, config);
+  const classListChanged = writeIfChanged(classListPath, classList);
+  console.log(`${classListChanged ? 'Wrote' : 'Unchanged'} ${CDS_CLASS_LIST_FILE} (${classList.split('\n').length - 3} classes)`);
+
+  const outputs = [...sources.keys()].map(className => path.join(outputDir, `${className}.java`));
+  return [...outputs, classListPath];
 }
 
-main();
+/**
+ * A target to generate, with its cache entry
+ */
+interface TargetStage {
+  config: GeneratorConfig;
+  stage: string;
+  key: string;
+}
+
+/** Message to a generator worker: a target to generate, or null to exit */
+interface WorkerTask {
+  index: number;
+  config: GeneratorConfig;
+}
+
+interface WorkerResult {
+  index: number;
+  outputs: string[];
+}
+
+/**
+ * Source of a generator worker: this module, under ts-node when run from TypeScript
+ */
+function workerSource(): string {
+  const preload = path.extname(__filename) === '.ts' ? [require.resolve('ts-node/register/transpile-only')] : [];
+  return [...preload, __filename].map(file => `require(${JSON.stringify(file)});`).join('\n');
+}
+
+/**
+ * Generates targets on a pool of worker threads, one per CPU at most, and returns their outputs
+ * in the order of the targets. Targets write to distinct output directories, and the cache is
+ * only updated by the main thread once all are done.
+ */
+export function generateInWorkers(configs: GeneratorConfig[]): Promise<string[][]> {
+  const workerCount = Math.min(configs.length, os.cpus().length);
+  console.log(`Generating ${configs.length} targets on ${workerCount} worker threads...`);
+
+  const source = workerSource();
+  const results: string[][] = [];
+  let next = 0;
+
+  const workers = Array.from({ length: workerCount }, () => new Promise<void>((resolve, reject) => {
+    const worker = new Worker(source, { eval: true });
+
+    const dispatch = () => {
+      if (next < configs.length) {
+        const task: WorkerTask = { index: next, config: configs[next] };
+        next++;
+        worker.postMessage(task);
+      } else {
+        worker.postMessage(null);
+      }
+    };
+
+    worker.on('message', (result: WorkerResult) => {
+      results[result.index] = result.outputs;
+      dispatch();
+    });
+    worker.on('error', reject);
+    worker.on('exit', code => {
+      if (code === 0) {
+        resolve();
+      } else {
+        reject(new Error(`Generator worker exited with code ${code}`));
+      }
+    });
+
+    dispatch();
+  }));
+
+  return Promise.all(workers).then(() => results);
+}
+
+/**
+ * Worker thread entry point: generates the targets posted by the main thread
+ */
+function serveWorker(): void {
+  parentPort.on('message', (task: WorkerTask) => {
+    if (task === null) {
+      parentPort.close();
+      return;
+    }
+    const result: WorkerResult = { index: task.index, outputs: generateTarget(task.config) };
+    parentPort.postMessage(result);
+  });
+}
+
+/**
+ * Main generation function
+ */
+function main(): Promise<void> {
+  console.log('=== Tailwind CSS Java Generator ===\n');
+
+  // Load configuration, one per target
+  const configs = loadConfigs();
+
+  const stale: TargetStage[] = [];
+  for (const config of configs) {
+    const label = config.name ? `${config.name}: ` : '';
+    const inputPath = path.join(__dirname, '..', buildFile('categorized-utilities.json', config));
+    if (!fs.existsSync(inputPath)) {
+      console.error(`Error: ${label}${path.basename(inputPath)} not found. Run extract script first.`);
+      process.exit(1);
+    }
+
+    // Skip generation if neither the extracted data nor the effective config changed
+    const cssPath = path.join(__dirname, '..', buildFile(UTILITY_CSS_FILE, config));
+    const variantsPath = path.join(__dirname, '..', buildFile(VARIANTS_FILE, config));
+    const key = stageKey([inputPath, cssPath, variantsPath], [{ ...config, force: undefined, onlyTarget: undefined }]);
+    const stage = config.name ? `generate:${config.name}` : 'generate';
+    if (!config.force && isUpToDate(stage, key)) {
+      console.log(`${label}Inputs unchanged, skipping generation (use --force to rerun)`);
+      continue;
+    }
+
+    stale.push({ config, stage, key });
+  }
+
+  // Several targets are classified and emitted concurrently, a single one in this thread
+  const generated = stale.length > 1
+    ? generateInWorkers(stale.map(target => target.config))
+    : Promise.resolve(stale.map(target => generateTarget(target.config)));
+
+  return generated.then(outputs => {
+    stale.forEach((target, index) => recordStage(target.stage, target.key, outputs[index]));
+    console.log('\n=== Generation complete! ===');
+  });
+}
+
+// Only when run as a script, not when imported by the tests
+if (!isMainThread) {
+  serveWorker();
+} else if (require.main === module) {
+  main().catch(error => {
+    console.error(error);
+    process.exit(1);
+  });
+}
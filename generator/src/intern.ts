@@ -0,0 +1,173 @@
+import { GeneratorConfig } from './config';
+
+/**
+ * Name of the generated intern pool class
+ */
+export const INTERN_POOL_CLASS = 'TwInternPool';
+
+/**
+ * Generates a lock-free, size-bounded pool of composed class names with clock eviction
+ */
+export function generateInternPoolClass(config: GeneratorConfig): string {
+  const lines: string[] = [];
+  const name = INTERN_POOL_CLASS;
+  const tw = config.java.className;
+
+  lines.push(`package ${config.java.package};`);
+  lines.push('');
+  lines.push('import java.util.concurrent.atomic.AtomicReferenceArray;');
+  lines.push('import java.util.concurrent.atomic.LongAdder;');
+  lines.push('');
+  lines.push('/**');
+  lines.push(' * A lock-free, size-bounded pool of composed class names, e.g. {@code "hover:bg-[#1e40af]"}.');
+  lines.push(' * <p>');
+  lines.push(` * Used by {@link ${tw}.Responsive}, {@link ${tw}.State} and the style builder for compositions that`);
+  lines.push(' * have no precomputed entry: arbitrary values, unknown classes and stacked variants. Equal');
+  lines.push(' * compositions return the same instance while pooled.');
+  lines.push(' * <p>');
+  lines.push(' * Entries live in an open-addressed table that is only updated by compare-and-set, so readers');
+  lines.push(' * never block and writers never wait for each other. When all slots a new entry may use are');
+  lines.push(' * taken, a clock sweep over them evicts the first entry that was not used since the last sweep.');
+  lines.push(' */');
+  lines.push(`public final class ${name} {`);
+  lines.push('');
+  lines.push('    /** Maximum number of pooled strings */');
+  lines.push('    public static final int CAPACITY = 4096;');
+  lines.push('');
+  lines.push('    /** Number of slots a string may be stored in, probed on lookup and swept on eviction */');
+  lines.push('    private static final int PROBES = 8;');
+  lines.push('');
+  lines.push('    private static final int MASK = CAPACITY - 1;');
+  lines.push('');
+  lines.push('    private static final AtomicReferenceArray<Entry> TABLE = new AtomicReferenceArray<>(CAPACITY);');
+  lines.push('');
+  lines.push('    private static final LongAdder HITS = new LongAdder();');
+  lines.push('    private static final LongAdder MISSES = new LongAdder();');
+  lines.push('    private static final LongAdder EVICTIONS = new LongAdder();');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the pooled instance of {@code prefix + value}, adding it if it is not pooled yet.');
+  lines.push('     */');
+  lines.push('    static String intern(String prefix, String value) {');
+  lines.push('        int hash = hash(prefix, value);');
+  lines.push('        int start = hash & MASK;');
+  lines.push('        for (int i = 0; i < PROBES; i++) {');
+  lines.push('            Entry entry = TABLE.get((start + i) & MASK);');
+  lines.push('            if (entry == null) {');
+  lines.push('                // Slots are never cleared, so the string is not stored further on');
+  lines.push('                break;');
+  lines.push('            }');
+  lines.push('            if (entry.matches(hash, prefix, value)) {');
+  lines.push('                if (!entry.referenced) {');
+  lines.push('                    entry.referenced = true;');
+  lines.push('                }');
+  lines.push('                HITS.increment();');
+  lines.push('                return entry.composed;');
+  lines.push('            }');
+  lines.push('        }');
+  lines.push('');
+  lines.push('        MISSES.increment();');
+  lines.push('        return insert(new Entry(hash, prefix, value), start);');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Stores an entry in the first free slot, or else evicts with up to two clock sweeps. An entry');
+  lines.push('     * that loses every race is returned without being pooled.');
+  lines.push('     */');
+  lines.push('    private static String insert(Entry created, int start) {');
+  lines.push('        for (int sweep = 0; sweep < 3; sweep++) {');
+  lines.push('            for (int i = 0; i < PROBES; i++) {');
+  lines.push('                int slot = (start + i) & MASK;');
+  lines.push('                Entry entry = TABLE.get(slot);');
+  lines.push('                if (entry == null) {');
+  lines.push('                    if (TABLE.compareAndSet(slot, null, created)) {');
+  lines.push('                        return created.composed;');
+  lines.push('                    }');
+  lines.push('                    entry = TABLE.get(slot);');
+  lines.push('                }');
+  lines.push('                if (entry.matches(created.hash, created.prefix, created.value)) {');
+  lines.push('                    // Another thread pooled the same string first');
+  lines.push('                    return entry.composed;');
+  lines.push('                }');
+  lines.push('                if (sweep == 0) {');
+  lines.push('                    continue;');
+  lines.push('                }');
+  lines.push('                if (entry.referenced) {');
+  lines.push('                    // Second chance: evicted by the next sweep unless used again before');
+  lines.push('                    entry.referenced = false;');
+  lines.push('                } else if (TABLE.compareAndSet(slot, entry, created)) {');
+  lines.push('                    EVICTIONS.increment();');
+  lines.push('                    return created.composed;');
+  lines.push('                }');
+  lines.push('            }');
+  lines.push('        }');
+  lines.push('        return created.composed;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    private static int hash(String prefix, String value) {');
+  lines.push('        int hash = prefix.hashCode() * 31 + value.hashCode();');
+  lines.push('        return hash ^ (hash >>> 16);');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the number of lookups served from the pool.');
+  lines.push('     */');
+  lines.push('    public static long hits() {');
+  lines.push('        return HITS.sum();');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the number of lookups that composed a new string.');
+  lines.push('     */');
+  lines.push('    public static long misses() {');
+  lines.push('        return MISSES.sum();');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the number of pooled strings replaced by newer ones.');
+  lines.push('     */');
+  lines.push('    public static long evictions() {');
+  lines.push('        return EVICTIONS.sum();');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the number of pooled strings. Scans the whole pool.');
+  lines.push('     */');
+  lines.push('    public static int size() {');
+  lines.push('        int size = 0;');
+  lines.push('        for (int i = 0; i < CAPACITY; i++) {');
+  lines.push('            if (TABLE.get(i) != null) {');
+  lines.push('                size++;');
+  lines.push('            }');
+  lines.push('        }');
+  lines.push('        return size;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * A pooled composition. Immutable except for the clock reference bit.');
+  lines.push('     */');
+  lines.push('    private static final class Entry {');
+  lines.push('');
+  lines.push('        final int hash;');
+  lines.push('        final String prefix;');
+  lines.push('        final String value;');
+  lines.push('        final String composed;');
+  lines.push('        volatile boolean referenced;');
+  lines.push('');
+  lines.push('        Entry(int hash, String prefix, String value) {');
+  lines.push('            this.hash = hash;');
+  lines.push('            this.prefix = prefix;');
+  lines.push('            this.value = value;');
+  lines.push('            this.composed = prefix.concat(value);');
+  lines.push('        }');
+  lines.push('');
+  lines.push('        boolean matches(int hash, String prefix, String value) {');
+  lines.push('            return this.hash == hash && this.prefix.equals(prefix) && this.value.equals(value);');
+  lines.push('        }');
+  lines.push('    }');
+  lines.push('');
+  lines.push(`    private ${name}() {}`);
+  lines.push('}');
+
+  return lines.join('\n');
+}
@@ -0,0 +1,137 @@
+import { GeneratorConfig } from './config';
+import { REGISTRY_CLASS, UTILITY_INTERFACE, formatNumbers } from './registry';
+
+/**
+ * Name of the generated utility metadata class
+ */
+export const UTILITY_INFO_CLASS = 'TwUtilityInfo';
+
+/**
+ * Where each utility comes from, indexed by utility ID
+ */
+export interface UtilityMetadata {
+  categories: string[];  // extracted categories, e.g. ["padding", ...]
+  categoryOf: number[];  // category index per utility ID
+  constants: string[];   // constant per utility ID, e.g. "TW.Spacing.Padding.P_4"
+}
+
+/**
+ * Generates the class describing each utility, resolved from class names by the perfect hash
+ * of the registry
+ */
+export function generateUtilityInfoClass(
+  classNames: string[],
+  metadata: UtilityMetadata,
+  config: GeneratorConfig
+): string {
+  const lines: string[] = [];
+  const name = UTILITY_INFO_CLASS;
+  const tw = config.java.className;
+
+  // Example utility for the docs
+  const example = Math.max(0, classNames.indexOf('pl-4'));
+  const exampleCategory = metadata.categories[metadata.categoryOf[example]];
+  const exampleConstant = metadata.constants[example];
+
+  lines.push(`package ${config.java.package};`);
+  lines.push('');
+  lines.push('/**');
+  lines.push(` * A known utility with its category, conflict group and constant, as returned by`);
+  lines.push(` * {@link ${tw}#lookup(CharSequence)}.`);
+  lines.push(' * <p>');
+  lines.push(' * There is one instance per utility, created when this class is initialized, so lookups do not');
+  lines.push(' * allocate and instances can be compared with {@code ==}.');
+  lines.push(' *');
+  lines.push(' * <pre>{@code');
+  lines.push(` * ${name} info = ${tw}.lookup("${classNames[example]}");`);
+  lines.push(` * info.category(); // "${exampleCategory}"`);
+  lines.push(` * info.constant(); // "${exampleConstant}"`);
+  lines.push(' * }</pre>');
+  lines.push(' */');
+  lines.push(`public final class ${name} implements ${UTILITY_INTERFACE} {`);
+  lines.push('');
+  lines.push('    /** Categories of the extracted utilities */');
+  lines.push('    private static final String[] CATEGORIES = {');
+  metadata.categories.forEach((category, index) => {
+    const separator = index < metadata.categories.length - 1 ? ',' : '';
+    lines.push(`        "${category}"${separator}`);
+  });
+  lines.push('    };');
+  lines.push('');
+  lines.push('    /** Category of each utility, indexed by utility ID */');
+  lines.push('    private static final short[] CATEGORY_OF = {');
+  lines.push(...formatNumbers(metadata.categoryOf, '        '));
+  lines.push('    };');
+  lines.push('');
+  lines.push('    /** Constant of each utility, indexed by utility ID */');
+  lines.push('    private static final String[] CONSTANTS = {');
+  metadata.constants.forEach((constant, index) => {
+    const separator = index < metadata.constants.length - 1 ? ',' : '';
+    lines.push(`        "${constant}"${separator}`);
+  });
+  lines.push('    };');
+  lines.push('');
+  lines.push(`    private static final ${name}[] INFOS = new ${name}[${REGISTRY_CLASS}.COUNT];`);
+  lines.push('');
+  lines.push('    static {');
+  lines.push('        for (int id = 0; id < INFOS.length; id++) {');
+  lines.push(`            INFOS[id] = new ${name}(id);`);
+  lines.push('        }');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    private final int id;');
+  lines.push('');
+  lines.push(`    private ${name}(int id) {`);
+  lines.push('        this.id = id;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the utility with the given class name, or {@code null} if it is not a known utility.');
+  lines.push('     */');
+  lines.push(`    public static ${name} of(CharSequence className) {`);
+  lines.push(`        int id = ${REGISTRY_CLASS}.id(className);`);
+  lines.push('        return id < 0 ? null : INFOS[id];');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the utility with the given ID.');
+  lines.push('     *');
+  lines.push(`     * @throws IndexOutOfBoundsException if the ID is not in {@code [0, ${REGISTRY_CLASS}.COUNT)}`);
+  lines.push('     */');
+  lines.push(`    public static ${name} of(int id) {`);
+  lines.push('        return INFOS[id];');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    @Override');
+  lines.push('    public int id() {');
+  lines.push('        return id;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    @Override');
+  lines.push('    public String className() {');
+  lines.push(`        return ${REGISTRY_CLASS}.NAMES[id];`);
+  lines.push('    }');
+  lines.push('');
+  lines.push('    @Override');
+  lines.push(`    public ${name} info() {`);
+  lines.push('        return this;');
+  lines.push('    }');
+  lines.push('');
+  lines.push(`    /** Category the utility was extracted under, e.g. {@code "${exampleCategory}"} */`);
+  lines.push('    public String category() {');
+  lines.push('        return CATEGORIES[CATEGORY_OF[id]];');
+  lines.push('    }');
+  lines.push('');
+  lines.push(`    /** Qualified name of the constant holding the class name, e.g. {@code "${exampleConstant}"} */`);
+  lines.push('    public String constant() {');
+  lines.push('        return CONSTANTS[id];');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    @Override');
+  lines.push('    public String toString() {');
+  lines.push('        return className();');
+  lines.push('    }');
+  lines.push('}');
+
+  return lines.join('\n');
+}
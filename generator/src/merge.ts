@@ -0,0 +1,407 @@
+import { GeneratorConfig } from './config';
+import { ConflictGroups } from './conflicts';
+import { REGISTRY_CLASS, formatNumbers } from './registry';
+import { RESULT_CACHE_CLASS } from './resultcache';
+
+/**
+ * Name of the generated merge engine class
+ */
+export const MERGE_CLASS = 'TwMerge';
+
+/**
+ * Generates the class that merges class lists by dropping overridden utilities
+ */
+export function generateMergeClass(groups: ConflictGroups, config: GeneratorConfig): string {
+  const lines: string[] = [];
+  const prefixes = [...groups.prefixGroups.keys()].sort();
+  const typedPrefixes = [...groups.typedPrefixes.keys()].sort();
+
+  lines.push(`package ${config.java.package};`);
+  lines.push('');
+  lines.push('import java.util.ArrayList;');
+  lines.push('import java.util.Arrays;');
+  lines.push('import java.util.HashMap;');
+  lines.push('import java.util.HashSet;');
+  lines.push('import java.util.List;');
+  lines.push('import java.util.Map;');
+  lines.push('import java.util.Set;');
+  lines.push('');
+  lines.push('/**');
+  lines.push(' * Merges Tailwind CSS class lists, dropping utilities overridden by a later utility.');
+  lines.push(' * <p>');
+  lines.push(' * Every utility belongs to a conflict group of utilities setting the same CSS properties,');
+  lines.push(' * e.g. {@code p-4} and {@code p-6}. Some groups also override others, e.g. {@code p-6}');
+  lines.push(' * overrides an earlier {@code px-2} but not a later one. Conflicts only apply between classes');
+  lines.push(' * with the same variants, so {@code md:p-4} and {@code p-2} are both kept. Unknown classes');
+  lines.push(' * are kept as they are, with exact duplicates removed.');
+  lines.push(' * <p>');
+  lines.push(' * Arbitrary values belong to the group of their prefix, e.g. {@code p-[13px]} to the group of');
+  lines.push(' * {@code p-4}. Prefixes shared by several groups are resolved by the type of the value, like');
+  lines.push(' * tailwind-merge does: colors such as {@code bg-[#fff]} or {@code text-[rgb(0,0,0)]} conflict');
+  lines.push(' * with the color utilities of the prefix, lengths such as {@code text-[14px]} or');
+  lines.push(' * {@code border-[3px]} with its size utilities. Values of other types are kept.');
+  lines.push(' *');
+  lines.push(' * <pre>{@code');
+  lines.push(` * ${MERGE_CLASS}.merge("p-4 p-6 px-2", "bg-white bg-gray-100", "md:p-4 md:p-2");`);
+  lines.push(' * // Result: "p-6 px-2 bg-gray-100 md:p-2"');
+  lines.push(' * }</pre>');
+  lines.push(' * <p>');
+  lines.push(' * The conflict tables are computed by the generator. Results are kept in a bounded, lock-free');
+  lines.push(' * cache keyed on the arguments, so merging the same lists again is a lookup without locking or');
+  lines.push(' * allocation.');
+  lines.push(' */');
+  lines.push(`public final class ${MERGE_CLASS} {`);
+  lines.push('');
+  lines.push('    /** Maximum number of cached merge results */');
+  lines.push('    public static final int CACHE_SIZE = 1024;');
+  lines.push('');
+  lines.push('    /** Conflict group names, indexed by group */');
+  lines.push('    static final String[] GROUP_NAMES = {');
+  groups.groupNames.forEach((group, index) => {
+    const separator = index < groups.groupNames.length - 1 ? ',' : '';
+    lines.push(`        "${group}"${separator}`);
+  });
+  lines.push('    };');
+  lines.push('');
+  lines.push('    /** Conflict group of each utility, indexed by utility ID */');
+  lines.push('    static final short[] GROUP_OF = {');
+  lines.push(...formatNumbers(groups.groupOf, '        '));
+  lines.push('    };');
+  lines.push('');
+  lines.push('    /** Groups overridden by each group in addition to itself, indexed by group */');
+  lines.push('    private static final short[][] CONFLICTS = {');
+  groups.conflicts.forEach((conflicting, index) => {
+    const separator = index < groups.conflicts.length - 1 ? ',' : '';
+    const comment = conflicting.length > 0 ? ` // ${groups.groupNames[index]}` : '';
+    lines.push(`        { ${conflicting.join(', ')} }${separator}${comment}`.replace('{  }', '{}'));
+  });
+  lines.push('    };');
+  lines.push('');
+  lines.push('    /** Class name prefixes whose values all belong to one group, e.g. "p" for "p-[13px]" */');
+  lines.push('    private static final String[] PREFIXES = {');
+  prefixes.forEach((prefix, index) => {
+    const separator = index < prefixes.length - 1 ? ',' : '';
+    lines.push(`        "${prefix}"${separator}`);
+  });
+  lines.push('    };');
+  lines.push('');
+  lines.push('    /** Group of each entry in {@link #PREFIXES} */');
+  lines.push('    private static final short[] PREFIX_GROUPS = {');
+  lines.push(...formatNumbers(prefixes.map(prefix => groups.prefixGroups.get(prefix)!), '        '));
+  lines.push('    };');
+  lines.push('');
+  lines.push('    /** Class name prefixes shared by several groups, resolved by the type of the value */');
+  lines.push('    private static final String[] TYPED_PREFIXES = {');
+  typedPrefixes.forEach((prefix, index) => {
+    const separator = index < typedPrefixes.length - 1 ? ',' : '';
+    lines.push(`        "${prefix}"${separator}`);
+  });
+  lines.push('    };');
+  lines.push('');
+  lines.push('    /** Group of the color values of each entry in {@link #TYPED_PREFIXES}, or -1 */');
+  lines.push('    private static final short[] TYPED_COLOR_GROUPS = {');
+  lines.push(...formatNumbers(typedPrefixes.map(prefix => groups.typedPrefixes.get(prefix)!.color), '        '));
+  lines.push('    };');
+  lines.push('');
+  lines.push('    /** Group of the length values of each entry in {@link #TYPED_PREFIXES}, or -1 */');
+  lines.push('    private static final short[] TYPED_LENGTH_GROUPS = {');
+  lines.push(...formatNumbers(typedPrefixes.map(prefix => groups.typedPrefixes.get(prefix)!.length), '        '));
+  lines.push('    };');
+  lines.push('');
+  lines.push('    /** Functions of arbitrary color values */');
+  lines.push('    private static final String[] COLOR_FUNCTIONS = {');
+  lines.push('        "rgb(", "rgba(", "hsl(", "hsla(", "hwb(", "lab(", "lch(", "oklab(", "oklch(", "color(",');
+  lines.push('        "color-mix(", "light-dark(", "var(--color-"');
+  lines.push('    };');
+  lines.push('');
+  lines.push('    /** Functions of arbitrary length values */');
+  lines.push('    private static final String[] LENGTH_FUNCTIONS = {"calc(", "min(", "max(", "clamp("};');
+  lines.push('');
+  lines.push('    /** CSS length units */');
+  lines.push('    private static final Set<String> LENGTH_UNITS = new HashSet<>(Arrays.asList(');
+  lines.push('        "px", "rem", "em", "%", "ch", "ex", "lh", "rlh", "cap", "ic", "vw", "vh", "vi", "vb",');
+  lines.push('        "vmin", "vmax", "dvw", "dvh", "svw", "svh", "lvw", "lvh", "cqw", "cqh", "cqi", "cqb",');
+  lines.push('        "cqmin", "cqmax", "pt", "pc", "in", "cm", "mm", "q"));');
+  lines.push('');
+  lines.push('    private static final int COLOR = 0;');
+  lines.push('    private static final int LENGTH = 1;');
+  lines.push('');
+  lines.push('    private static final int GROUP_WORDS = (GROUP_NAMES.length + 63) >>> 6;');
+  lines.push('');
+  lines.push('    private static final Map<String, Integer> PREFIX_INDEX = new HashMap<>(PREFIXES.length * 2);');
+  lines.push('');
+  lines.push('    private static final Map<String, Integer> TYPED_INDEX = new HashMap<>(TYPED_PREFIXES.length * 2);');
+  lines.push('');
+  lines.push('    /** Merge results keyed on the argument arrays, which are copied when cached */');
+  lines.push(`    private static final ${RESULT_CACHE_CLASS}<String[], String> CACHE = new ${RESULT_CACHE_CLASS}<String[], String>(CACHE_SIZE) {`);
+  lines.push('        @Override');
+  lines.push('        int hash(String[] classLists) {');
+  lines.push('            return Arrays.hashCode(classLists);');
+  lines.push('        }');
+  lines.push('');
+  lines.push('        @Override');
+  lines.push('        boolean matches(String[] cached, String[] classLists) {');
+  lines.push('            return Arrays.equals(cached, classLists);');
+  lines.push('        }');
+  lines.push('    };');
+  lines.push('');
+  lines.push('    static {');
+  lines.push('        for (int i = 0; i < PREFIXES.length; i++) {');
+  lines.push('            PREFIX_INDEX.put(PREFIXES[i], (int) PREFIX_GROUPS[i]);');
+  lines.push('        }');
+  lines.push('        for (int i = 0; i < TYPED_PREFIXES.length; i++) {');
+  lines.push('            TYPED_INDEX.put(TYPED_PREFIXES[i], i);');
+  lines.push('        }');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Merges class lists into a single space-separated class list.');
+  lines.push('     * <p>');
+  lines.push('     * Each argument may contain several space-separated classes. {@code null} arguments are');
+  lines.push('     * ignored, which allows conditional classes to be passed inline.');
+  lines.push('     *');
+  lines.push('     * @return the classes that are not overridden by a later class, in their original order');
+  lines.push('     */');
+  lines.push('    public static String merge(String... classLists) {');
+  lines.push('        String merged = CACHE.get(classLists);');
+  lines.push('        if (merged == null) {');
+  lines.push('            merged = CACHE.put(classLists.clone(), mergeUncached(join(classLists)));');
+  lines.push('        }');
+  lines.push('        return merged;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the conflict group of a utility without variants, or {@code -1} if it is unknown.');
+  lines.push('     */');
+  lines.push('    static int groupOf(String utility) {');
+  lines.push(`        int id = ${REGISTRY_CLASS}.id(utility);`);
+  lines.push('        if (id >= 0) {');
+  lines.push('            return GROUP_OF[id];');
+  lines.push('        }');
+  lines.push('');
+  lines.push('        // Opacity modifier, e.g. "bg-blue-500/50"');
+  lines.push('        int slash = utility.lastIndexOf(\'/\');');
+  lines.push('        if (slash > 0 && utility.indexOf(\'[\') < 0) {');
+  lines.push(`            id = ${REGISTRY_CLASS}.id(utility.substring(0, slash));`);
+  lines.push('            if (id >= 0) {');
+  lines.push('                return GROUP_OF[id];');
+  lines.push('            }');
+  lines.push('        }');
+  lines.push('');
+  lines.push('        // Arbitrary or unknown value, e.g. "p-[13px]" or "bg-red-550"');
+  lines.push('        int bracket = utility.indexOf("-[");');
+  lines.push('        int separator = bracket > 0 ? bracket : utility.lastIndexOf(\'-\');');
+  lines.push('        if (separator > 0) {');
+  lines.push('            Integer group = PREFIX_INDEX.get(utility.substring(0, separator));');
+  lines.push('            if (group != null) {');
+  lines.push('                return group;');
+  lines.push('            }');
+  lines.push('        }');
+  lines.push('');
+  lines.push('        // Prefix shared by several groups, e.g. "bg-[#fff]" or "text-[14px]"; unknown named');
+  lines.push('        // values may follow any dash, e.g. "bg-teal-500"');
+  lines.push('        for (int dash = separator; dash > 0; dash = bracket > 0 ? -1 : utility.lastIndexOf(\'-\', dash - 1)) {');
+  lines.push('            Integer typed = TYPED_INDEX.get(utility.substring(0, dash));');
+  lines.push('            if (typed != null) {');
+  lines.push('                int type = valueType(utility.substring(dash + 1));');
+  lines.push('                return type == COLOR ? TYPED_COLOR_GROUPS[typed] : type == LENGTH ? TYPED_LENGTH_GROUPS[typed] : -1;');
+  lines.push('            }');
+  lines.push('        }');
+  lines.push('        return -1;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns whether a value is a {@link #COLOR} or a {@link #LENGTH}, or {@code -1} if it is');
+  lines.push('     * neither or cannot be told, e.g. {@code [#fff]}, {@code [14px]}, {@code teal-500} or {@code 3}.');
+  lines.push('     * Arbitrary values may be marked with a type, e.g. {@code [color:var(--brand)]}.');
+  lines.push('     */');
+  lines.push('    static int valueType(String value) {');
+  lines.push('        if (value.length() > 2 && value.charAt(0) == \'[\' && value.charAt(value.length() - 1) == \']\') {');
+  lines.push('            String arbitrary = value.substring(1, value.length() - 1);');
+  lines.push('            if (arbitrary.startsWith("color:") || arbitrary.startsWith("#")) {');
+  lines.push('                return COLOR;');
+  lines.push('            }');
+  lines.push('            if (arbitrary.startsWith("length:")) {');
+  lines.push('                return LENGTH;');
+  lines.push('            }');
+  lines.push('            for (String function : COLOR_FUNCTIONS) {');
+  lines.push('                if (arbitrary.startsWith(function)) {');
+  lines.push('                    return COLOR;');
+  lines.push('                }');
+  lines.push('            }');
+  lines.push('            for (String function : LENGTH_FUNCTIONS) {');
+  lines.push('                if (arbitrary.startsWith(function)) {');
+  lines.push('                    return LENGTH;');
+  lines.push('                }');
+  lines.push('            }');
+  lines.push('            int end = numberEnd(arbitrary, 0);');
+  lines.push('            String unit = arbitrary.substring(end);');
+  lines.push('            boolean length = unit.isEmpty() ? arbitrary.equals("0") : LENGTH_UNITS.contains(unit);');
+  lines.push('            return end > 0 && length ? LENGTH : -1;');
+  lines.push('        }');
+  lines.push('');
+  lines.push('        // Named values: a palette color and shade, or a step of a scale');
+  lines.push('        int dash = value.lastIndexOf(\'-\');');
+  lines.push('        if (dash > 0 && numberEnd(value, dash + 1) == value.length()) {');
+  lines.push('            for (int i = 0; i < dash; i++) {');
+  lines.push('                if (value.charAt(i) < \'a\' || value.charAt(i) > \'z\') {');
+  lines.push('                    return -1;');
+  lines.push('                }');
+  lines.push('            }');
+  lines.push('            return COLOR;');
+  lines.push('        }');
+  lines.push('        return !value.isEmpty() && numberEnd(value, 0) == value.length() ? LENGTH : -1;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the end of the decimal number at {@code start}, or {@code start} if there is none.');
+  lines.push('     */');
+  lines.push('    private static int numberEnd(String value, int start) {');
+  lines.push('        int i = start;');
+  lines.push('        if (i < value.length() && (value.charAt(i) == \'-\' || value.charAt(i) == \'+\')) {');
+  lines.push('            i++;');
+  lines.push('        }');
+  lines.push('        boolean digits = false;');
+  lines.push('        boolean point = false;');
+  lines.push('        for (; i < value.length(); i++) {');
+  lines.push('            char c = value.charAt(i);');
+  lines.push('            if (c >= \'0\' && c <= \'9\') {');
+  lines.push('                digits = true;');
+  lines.push('            } else if (c == \'.\' && !point) {');
+  lines.push('                point = true;');
+  lines.push('            } else {');
+  lines.push('                break;');
+  lines.push('            }');
+  lines.push('        }');
+  lines.push('        return digits ? i : start;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Merges a space-separated class list without the cache, for callers that cache the result');
+  lines.push('     * themselves.');
+  lines.push('     */');
+  lines.push('    static String mergeUncached(String classList) {');
+  lines.push('        List<String> tokens = split(classList);');
+  lines.push('        boolean[] keep = new boolean[tokens.size()];');
+  lines.push('        Map<String, long[]> claimed = new HashMap<>();');
+  lines.push('        Set<String> unknown = null;');
+  lines.push('');
+  lines.push('        // Walk backwards: the last class of a group wins and claims the groups it overrides');
+  lines.push('        for (int i = tokens.size() - 1; i >= 0; i--) {');
+  lines.push('            String token = tokens.get(i);');
+  lines.push('            int variantEnd = variantEnd(token);');
+  lines.push('            String utility = token.substring(variantEnd);');
+  lines.push('');
+  lines.push('            // Important modifier: "!p-4" (v3) or "p-4!" (v4)');
+  lines.push('            boolean important = false;');
+  lines.push('            if (utility.length() > 1 && utility.charAt(0) == \'!\') {');
+  lines.push('                utility = utility.substring(1);');
+  lines.push('                important = true;');
+  lines.push('            } else if (utility.length() > 1 && utility.charAt(utility.length() - 1) == \'!\') {');
+  lines.push('                utility = utility.substring(0, utility.length() - 1);');
+  lines.push('                important = true;');
+  lines.push('            }');
+  lines.push('');
+  lines.push('            int group = groupOf(utility);');
+  lines.push('            if (group < 0) {');
+  lines.push('                if (unknown == null) {');
+  lines.push('                    unknown = new HashSet<>();');
+  lines.push('                }');
+  lines.push('                keep[i] = unknown.add(token);');
+  lines.push('                continue;');
+  lines.push('            }');
+  lines.push('');
+  lines.push('            String variantKey = variantKey(token, variantEnd, important);');
+  lines.push('            long[] bits = claimed.computeIfAbsent(variantKey, k -> new long[GROUP_WORDS]);');
+  lines.push('            if ((bits[group >>> 6] & (1L << group)) != 0) {');
+  lines.push('                continue;');
+  lines.push('            }');
+  lines.push('');
+  lines.push('            keep[i] = true;');
+  lines.push('            bits[group >>> 6] |= 1L << group;');
+  lines.push('            for (short overridden : CONFLICTS[group]) {');
+  lines.push('                bits[overridden >>> 6] |= 1L << overridden;');
+  lines.push('            }');
+  lines.push('        }');
+  lines.push('');
+  lines.push('        StringBuilder builder = new StringBuilder(classList.length());');
+  lines.push('        for (int i = 0; i < keep.length; i++) {');
+  lines.push('            if (keep[i]) {');
+  lines.push('                if (builder.length() > 0) {');
+  lines.push("                    builder.append(' ');");
+  lines.push('                }');
+  lines.push('                builder.append(tokens.get(i));');
+  lines.push('            }');
+  lines.push('        }');
+  lines.push('        return builder.toString();');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the index after the last variant separator, ignoring colons inside brackets.');
+  lines.push('     */');
+  lines.push('    private static int variantEnd(String token) {');
+  lines.push('        int end = 0;');
+  lines.push('        int depth = 0;');
+  lines.push('        for (int i = 0; i < token.length(); i++) {');
+  lines.push('            char c = token.charAt(i);');
+  lines.push("            if (c == '[' || c == '(') {");
+  lines.push('                depth++;');
+  lines.push("            } else if (c == ']' || c == ')') {");
+  lines.push('                depth--;');
+  lines.push("            } else if (c == ':' && depth == 0) {");
+  lines.push('                end = i + 1;');
+  lines.push('            }');
+  lines.push('        }');
+  lines.push('        return end;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns a key identifying the variants of a token, independent of their order.');
+  lines.push('     */');
+  lines.push('    private static String variantKey(String token, int variantEnd, boolean important) {');
+  lines.push('        String variants = token.substring(0, variantEnd);');
+  lines.push("        if (variants.indexOf(':') < variants.length() - 1) {");
+  lines.push('            // Several stacked variants: "md:hover:" and "hover:md:" are equivalent');
+  lines.push('            String[] parts = variants.split(":");');
+  lines.push('            Arrays.sort(parts);');
+  lines.push('            variants = String.join(":", parts) + ":";');
+  lines.push('        }');
+  lines.push('        return important ? variants + "!" : variants;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    private static List<String> split(String classList) {');
+  lines.push('        List<String> tokens = new ArrayList<>();');
+  lines.push('        int start = -1;');
+  lines.push('        for (int i = 0; i <= classList.length(); i++) {');
+  lines.push('            boolean whitespace = i == classList.length() || Character.isWhitespace(classList.charAt(i));');
+  lines.push('            if (whitespace && start >= 0) {');
+  lines.push('                tokens.add(classList.substring(start, i));');
+  lines.push('                start = -1;');
+  lines.push('            } else if (!whitespace && start < 0) {');
+  lines.push('                start = i;');
+  lines.push('            }');
+  lines.push('        }');
+  lines.push('        return tokens;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    private static String join(String[] classLists) {');
+  lines.push('        if (classLists.length == 1 && classLists[0] != null) {');
+  lines.push('            return classLists[0];');
+  lines.push('        }');
+  lines.push('        StringBuilder builder = new StringBuilder();');
+  lines.push('        for (String classList : classLists) {');
+  lines.push('            if (classList != null) {');
+  lines.push('                if (builder.length() > 0) {');
+  lines.push("                    builder.append(' ');");
+  lines.push('                }');
+  lines.push('                builder.append(classList);');
+  lines.push('            }');
+  lines.push('        }');
+  lines.push('        return builder.toString();');
+  lines.push('    }');
+  lines.push('');
+  lines.push(`    private ${MERGE_CLASS}() {}`);
+  lines.push('}');
+
+  return lines.join('\n');
+}
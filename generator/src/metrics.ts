@@ -0,0 +1,414 @@
+import { GeneratorConfig } from './config';
+import { REGISTRY_CLASS, formatNumbers } from './registry';
+import { CLASS_SET_CLASS } from './classset';
+import { STYLESHEET_CLASS, UtilityCss } from './stylesheet';
+
+/**
+ * Name of the generated class describing the size and rendering cost of the CSS of each utility
+ */
+export const METRICS_CLASS = 'TwCssMetrics';
+
+/**
+ * Rendering stages a property change invalidates, from cheapest to most expensive.
+ * A change re-runs its stage and every later one: layout, then paint, then composite.
+ */
+const NONE = 0;
+const COMPOSITE = 1;
+const PAINT = 2;
+const LAYOUT = 3;
+
+/** Properties that only affect compositing */
+const COMPOSITE_PROPERTIES = [
+  'opacity', 'transform', 'translate', 'rotate', 'scale', 'perspective', 'perspective-origin',
+  'transform-origin', 'transform-style', 'backface-visibility', 'will-change'
+];
+
+/** Properties that do not affect rendering at all */
+const INERT_PROPERTIES = [
+  'cursor', 'pointer-events', 'user-select', 'touch-action', 'scroll-behavior', 'scroll-snap-stop',
+  'transition', 'transition-property', 'transition-duration', 'transition-timing-function',
+  'transition-delay', 'transition-behavior', 'animation-delay', 'animation-duration'
+];
+
+/**
+ * Paint-only properties, property prefixes, and suffixes of border properties (border-x-color
+ * paints, border-x-width lays out); anything else is assumed to affect layout
+ */
+const PAINT_PROPERTIES = [
+  'color', 'visibility', 'fill', 'stroke', 'filter', 'backdrop-filter', 'box-shadow', 'text-shadow',
+  'mix-blend-mode', 'isolation', 'caret-color', 'accent-color', 'outline-color', 'outline-style',
+  'outline-offset', 'color-scheme', 'forced-color-adjust', 'clip-path', 'mask', 'resize', 'appearance',
+  'animation', 'animation-name'
+];
+const PAINT_PREFIXES = ['background', 'text-decoration', 'text-underline', 'mask-', 'scrollbar-', 'stroke-', 'fill-'];
+const PAINT_BORDER_SUFFIXES = ['-color', '-style', '-radius'];
+
+/**
+ * Properties of expensive paint effects: filters and shadows are rasterized per frame and blend
+ * modes force extra compositing, so many of them in a large list slow down client rendering
+ */
+const EXPENSIVE_PROPERTIES = ['filter', 'backdrop-filter', 'box-shadow', 'text-shadow', 'mix-blend-mode'];
+
+/**
+ * Returns the properties declared by utility rules, in order of first declaration.
+ * Segments ending with "{" are selectors or at-rule preludes, those ending with ";" or "}" are
+ * declarations; semicolons and braces in strings and parentheses (e.g. url(data:...)) are skipped.
+ */
+export function declaredProperties(rules: string): string[] {
+  const properties: string[] = [];
+  let segment = '';
+  let parens = 0;
+  let quote = '';
+
+  for (let i = 0; i < rules.length; i++) {
+    const char = rules[i];
+
+    if (quote) {
+      if (char === '\\') {
+        segment += char + rules[++i];
+        continue;
+      }
+      if (char === quote) {
+        quote = '';
+      }
+      segment += char;
+      continue;
+    }
+
+    if (char === '"' || char === '\'') {
+      quote = char;
+    } else if (char === '(') {
+      parens++;
+    } else if (char === ')') {
+      parens = Math.max(0, parens - 1);
+    } else if (parens === 0 && (char === '{' || char === ';' || char === '}')) {
+      const declaration = char !== '{' ? segment.match(/^\s*(-{0,2}[A-Za-z][\w-]*)\s*:/) : null;
+      if (declaration && !properties.includes(declaration[1].toLowerCase())) {
+        properties.push(declaration[1].toLowerCase());
+      }
+      segment = '';
+      continue;
+    }
+    segment += char;
+  }
+
+  return properties;
+}
+
+/** Vendor prefixes, removed before classifying a property (-webkit-backdrop-filter) */
+const VENDOR_PREFIX = /^-(webkit|moz|ms)-/;
+
+/**
+ * Returns the earliest rendering stage a change of the properties invalidates.
+ * Custom properties are ignored: they only have an effect through the properties using them.
+ */
+export function renderingStage(properties: string[]): number {
+  let stage = NONE;
+
+  for (const declared of properties) {
+    const property = declared.replace(VENDOR_PREFIX, '');
+    if (property.startsWith('--') || INERT_PROPERTIES.includes(property)) {
+      continue;
+    }
+    if (COMPOSITE_PROPERTIES.includes(property)) {
+      stage = Math.max(stage, COMPOSITE);
+    } else if (PAINT_PROPERTIES.includes(property) ||
+        PAINT_PREFIXES.some(prefix => property.startsWith(prefix)) ||
+        (property.startsWith('border') && PAINT_BORDER_SUFFIXES.some(suffix => property.endsWith(suffix)))) {
+      stage = Math.max(stage, PAINT);
+    } else {
+      return LAYOUT;
+    }
+  }
+
+  return stage;
+}
+
+/**
+ * Escapes a class name for a CSS class selector, like TwStylesheet.escape
+ */
+function escapeClassName(className: string): string {
+  let escaped = '';
+  for (let i = 0; i < className.length; i++) {
+    const char = className[i];
+    const digit = char >= '0' && char <= '9';
+    if (digit && (i === 0 || (i === 1 && className[0] === '-'))) {
+      escaped += '\\' + char.charCodeAt(0).toString(16) + ' ';
+    } else if (digit || /[A-Za-z_-]/.test(char) || char.charCodeAt(0) >= 0x80) {
+      escaped += char;
+    } else {
+      escaped += '\\' + char;
+    }
+  }
+  return escaped;
+}
+
+/**
+ * Generates the class holding the CSS size and rendering cost of every utility. Like the
+ * stylesheet class, it is only generated when CSS was captured.
+ */
+export function generateMetricsClass(classNames: string[], css: UtilityCss, config: GeneratorConfig): string {
+  const lines: string[] = [];
+
+  // Per utility: UTF-8 size of its rules as TwStylesheet writes them, properties, stage, cost
+  const bytes: number[] = [];
+  const stages: number[] = [];
+  const propertyLists: string[][] = [];
+  const expensive: number[] = [];
+
+  classNames.forEach((className, id) => {
+    const rules = css.rules[className];
+    const properties = rules ? declaredProperties(rules) : [];
+    bytes.push(rules ? Buffer.byteLength(rules.split('&').join('.' + escapeClassName(className)), 'utf8') : 0);
+    stages.push(renderingStage(properties));
+    propertyLists.push(properties);
+    if (properties.some(property => EXPENSIVE_PROPERTIES.includes(property.replace(VENDOR_PREFIX, '')))) {
+      expensive.push(id);
+    }
+  });
+
+  const allProperties = [...new Set(propertyLists.flat())].sort();
+  const propertyIndex = new Map(allProperties.map((property, index) => [property, index]));
+  const propertyStart: number[] = [0];
+  const propertyIds: number[] = [];
+  for (const properties of propertyLists) {
+    propertyIds.push(...properties.map(property => propertyIndex.get(property)!));
+    propertyStart.push(propertyIds.length);
+  }
+
+  lines.push(`package ${config.java.package};`);
+  lines.push('');
+  lines.push('import java.util.Arrays;');
+  lines.push('import java.util.Collections;');
+  lines.push('import java.util.List;');
+  lines.push('');
+  lines.push('/**');
+  lines.push(' * Size and rendering cost of the CSS of every Tailwind CSS utility.');
+  lines.push(' * <p>');
+  lines.push(' * Derived at generation time from the CSS captured by the extract script: the bytes of the');
+  lines.push(` * rules {@link ${STYLESHEET_CLASS}} writes for a utility, the properties they declare, and the`);
+  lines.push(' * earliest rendering stage a change of those properties invalidates. Utilities with expensive');
+  lines.push(' * paint effects (filters, backdrop filters, shadows, blend modes) are flagged, since many of');
+  lines.push(' * them in a large list slow down rendering on the client.');
+  lines.push(' *');
+  lines.push(' * <pre>{@code');
+  lines.push(` * ${CLASS_SET_CLASS} used = ${CLASS_SET_CLASS}.of("p-4", "shadow-lg", "backdrop-blur-sm");`);
+  lines.push(` * if (!${METRICS_CLASS}.expensive(used).isEmpty()) { ... }`);
+  lines.push(' * }</pre>');
+  lines.push(' * <p>');
+  lines.push(' * This class is only generated when the extract script captured the utility CSS.');
+  lines.push(' */');
+  lines.push(`public final class ${METRICS_CLASS} {`);
+  lines.push('');
+  lines.push('    /** Rendering stage of utilities without rendering effect */');
+  lines.push(`    public static final int NONE = ${NONE};`);
+  lines.push('    /** Rendering stage of utilities only affecting compositing, e.g. opacity and transforms */');
+  lines.push(`    public static final int COMPOSITE = ${COMPOSITE};`);
+  lines.push('    /** Rendering stage of utilities affecting paint but not layout, e.g. colors and shadows */');
+  lines.push(`    public static final int PAINT = ${PAINT};`);
+  lines.push('    /** Rendering stage of utilities affecting layout, e.g. sizes and spacing */');
+  lines.push(`    public static final int LAYOUT = ${LAYOUT};`);
+  lines.push('');
+  lines.push('    /** Declared properties, sorted */');
+  if (allProperties.length > 0) {
+    lines.push('    static final String[] PROPERTIES = {');
+    allProperties.forEach((property, index) => {
+      const separator = index < allProperties.length - 1 ? ',' : '';
+      lines.push(`        "${property}"${separator}`);
+    });
+    lines.push('    };');
+  } else {
+    lines.push('    static final String[] PROPERTIES = {};');
+  }
+  lines.push('');
+  lines.push('    /** UTF-8 size of the rules of each utility, indexed by utility ID */');
+  lines.push('    private static final int[] BYTES = {');
+  lines.push(...formatNumbers(bytes, '        '));
+  lines.push('    };');
+  lines.push('');
+  lines.push('    /** Rendering stage of each utility, indexed by utility ID */');
+  lines.push('    private static final byte[] STAGES = {');
+  lines.push(...formatNumbers(stages, '        ', 40));
+  lines.push('    };');
+  lines.push('');
+  lines.push('    /** Start of the properties of each utility in {@link #PROPERTY_IDS}, indexed by utility ID */');
+  lines.push('    private static final int[] PROPERTY_START = {');
+  lines.push(...formatNumbers(propertyStart, '        '));
+  lines.push('    };');
+  lines.push('');
+  lines.push('    /** Indexes into {@link #PROPERTIES}, in order of declaration */');
+  lines.push('    private static final short[] PROPERTY_IDS = {');
+  lines.push(...formatNumbers(propertyIds, '        '));
+  lines.push('    };');
+  lines.push('');
+  lines.push('    /** IDs of the utilities with expensive paint effects */');
+  if (expensive.length > 0) {
+    lines.push('    private static final short[] EXPENSIVE_IDS = {');
+    lines.push(...formatNumbers(expensive, '        '));
+    lines.push('    };');
+  } else {
+    lines.push('    private static final short[] EXPENSIVE_IDS = {};');
+  }
+  lines.push('');
+  lines.push(`    private static final ${CLASS_SET_CLASS} EXPENSIVE = new ${CLASS_SET_CLASS}();`);
+  lines.push('');
+  lines.push('    static {');
+  lines.push('        for (short id : EXPENSIVE_IDS) {');
+  lines.push('            EXPENSIVE.add(id);');
+  lines.push('        }');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push(`     * Returns the size in bytes of the rules {@link ${STYLESHEET_CLASS}} writes for a utility, without variants.`);
+  lines.push('     *');
+  lines.push(`     * @param id the utility ID, see {@link ${REGISTRY_CLASS}}`);
+  lines.push('     * @return the UTF-8 size of the rules, 0 if none were captured for the utility');
+  lines.push('     * @throws IndexOutOfBoundsException if the ID is not a utility ID');
+  lines.push('     */');
+  lines.push('    public static int bytes(int id) {');
+  lines.push('        checkId(id);');
+  lines.push('        return BYTES[id];');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the size in bytes of the rules of a utility, by class name.');
+  lines.push('     *');
+  lines.push('     * @param className the class name of the utility, without variants');
+  lines.push('     * @return the UTF-8 size of the rules, 0 if none were captured for the utility');
+  lines.push('     * @throws IllegalArgumentException if the class name is not a known utility');
+  lines.push('     */');
+  lines.push('    public static int bytes(String className) {');
+  lines.push('        return bytes(id(className));');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the total size in bytes of the rules of a set of utilities.');
+  lines.push('     *');
+  lines.push('     * @param utilities the utilities');
+  lines.push('     * @return the sum of the sizes of their rules');
+  lines.push('     */');
+  lines.push(`    public static int bytes(${CLASS_SET_CLASS} utilities) {`);
+  lines.push('        int total = 0;');
+  lines.push('        for (int id = utilities.nextId(0); id >= 0; id = utilities.nextId(id + 1)) {');
+  lines.push('            total += BYTES[id];');
+  lines.push('        }');
+  lines.push('        return total;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the properties a utility declares, custom properties included, in order of declaration.');
+  lines.push('     *');
+  lines.push(`     * @param id the utility ID, see {@link ${REGISTRY_CLASS}}`);
+  lines.push('     * @return an unmodifiable list of the property names');
+  lines.push('     * @throws IndexOutOfBoundsException if the ID is not a utility ID');
+  lines.push('     */');
+  lines.push('    public static List<String> properties(int id) {');
+  lines.push('        checkId(id);');
+  lines.push('        String[] properties = new String[PROPERTY_START[id + 1] - PROPERTY_START[id]];');
+  lines.push('        for (int i = 0; i < properties.length; i++) {');
+  lines.push('            properties[i] = PROPERTIES[PROPERTY_IDS[PROPERTY_START[id] + i]];');
+  lines.push('        }');
+  lines.push('        return Collections.unmodifiableList(Arrays.asList(properties));');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the properties a utility declares, by class name.');
+  lines.push('     *');
+  lines.push('     * @param className the class name of the utility, without variants');
+  lines.push('     * @return an unmodifiable list of the property names');
+  lines.push('     * @throws IllegalArgumentException if the class name is not a known utility');
+  lines.push('     */');
+  lines.push('    public static List<String> properties(String className) {');
+  lines.push('        return properties(id(className));');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the earliest rendering stage a utility invalidates when it is applied or removed.');
+  lines.push('     *');
+  lines.push(`     * @param id the utility ID, see {@link ${REGISTRY_CLASS}}`);
+  lines.push('     * @return {@link #LAYOUT}, {@link #PAINT}, {@link #COMPOSITE} or {@link #NONE}, also without captured CSS');
+  lines.push('     * @throws IndexOutOfBoundsException if the ID is not a utility ID');
+  lines.push('     */');
+  lines.push('    public static int stage(int id) {');
+  lines.push('        checkId(id);');
+  lines.push('        return STAGES[id];');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the earliest rendering stage a utility invalidates, by class name.');
+  lines.push('     *');
+  lines.push('     * @param className the class name of the utility, without variants');
+  lines.push('     * @return {@link #LAYOUT}, {@link #PAINT}, {@link #COMPOSITE} or {@link #NONE}, also without captured CSS');
+  lines.push('     * @throws IllegalArgumentException if the class name is not a known utility');
+  lines.push('     */');
+  lines.push('    public static int stage(String className) {');
+  lines.push('        return stage(id(className));');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the earliest rendering stage any utility of a set invalidates.');
+  lines.push('     *');
+  lines.push('     * @param utilities the utilities');
+  lines.push('     * @return the earliest stage, {@link #NONE} for an empty set');
+  lines.push('     */');
+  lines.push(`    public static int stage(${CLASS_SET_CLASS} utilities) {`);
+  lines.push('        int stage = NONE;');
+  lines.push('        for (int id = utilities.nextId(0); id >= 0 && stage < LAYOUT; id = utilities.nextId(id + 1)) {');
+  lines.push('            stage = Math.max(stage, STAGES[id]);');
+  lines.push('        }');
+  lines.push('        return stage;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Checks whether a utility has expensive paint effects, such as {@code blur-*},');
+  lines.push('     * {@code backdrop-*} or {@code shadow-*}.');
+  lines.push('     *');
+  lines.push(`     * @param id the utility ID, see {@link ${REGISTRY_CLASS}}`);
+  lines.push('     * @return whether the utility declares filters, shadows or blend modes');
+  lines.push('     * @throws IndexOutOfBoundsException if the ID is not a utility ID');
+  lines.push('     */');
+  lines.push('    public static boolean isExpensive(int id) {');
+  lines.push('        checkId(id);');
+  lines.push('        return EXPENSIVE.contains(id);');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Checks whether a utility has expensive paint effects, by class name.');
+  lines.push('     *');
+  lines.push('     * @param className the class name of the utility, without variants');
+  lines.push('     * @return whether the utility declares filters, shadows or blend modes');
+  lines.push('     * @throws IllegalArgumentException if the class name is not a known utility');
+  lines.push('     */');
+  lines.push('    public static boolean isExpensive(String className) {');
+  lines.push('        return isExpensive(id(className));');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the utilities of a set that have expensive paint effects.');
+  lines.push('     *');
+  lines.push('     * @param utilities the utilities');
+  lines.push('     * @return a new set of the expensive ones');
+  lines.push('     */');
+  lines.push(`    public static ${CLASS_SET_CLASS} expensive(${CLASS_SET_CLASS} utilities) {`);
+  lines.push('        return utilities.intersect(EXPENSIVE);');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    private static int id(String className) {');
+  lines.push(`        int id = ${REGISTRY_CLASS}.id(className);`);
+  lines.push('        if (id < 0) {');
+  lines.push('            throw new IllegalArgumentException("Unknown Tailwind utility: " + className);');
+  lines.push('        }');
+  lines.push('        return id;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    private static void checkId(int id) {');
+  lines.push(`        if (id < 0 || id >= ${REGISTRY_CLASS}.COUNT) {`);
+  lines.push('            throw new IndexOutOfBoundsException("Invalid utility ID: " + id);');
+  lines.push('        }');
+  lines.push('    }');
+  lines.push('');
+  lines.push(`    private ${METRICS_CLASS}() {}`);
+  lines.push('}');
+
+  return lines.join('\n');
+}
@@ -0,0 +1,111 @@
+/**
+ * Checks that targets generated on worker threads equal a serial run, run with "npm test".
+ * <p>
+ * Several targets of generator.config.json, with different Java settings and output directories,
+ * are generated once in this thread and once by generateInWorkers. Every written file must be
+ * identical, and so must the output lists recorded in the cache.
+ */
+
+import * as assert from 'assert';
+import * as fs from 'fs';
+import * as os from 'os';
+import * as path from 'path';
+import { GeneratorConfig } from './config';
+import { generateInWorkers, generateTarget } from './generate';
+
+const generatorDir = path.join(__dirname, '..');
+
+/**
+ * Returns the base config with targets resolved into the given directory, like loadConfigs
+ */
+function targetConfigs(dir: string): GeneratorConfig[] {
+  const base: GeneratorConfig = JSON.parse(fs.readFileSync(path.join(generatorDir, 'generator.config.json'), 'utf-8'));
+  const targets: [string, Partial<GeneratorConfig['java']>][] = [
+    ['default', {}],
+    ['enums', { enums: true }],
+    ['brand', { package: 'com.example.brand', className: 'Brand' }],
+    ['split', { split: true }]
+  ];
+
+  return targets.map(([name, java]) => ({
+    ...base,
+    tailwind: { ...base.tailwind, version: '4.1.18' },
+    java: { ...base.java, ...java },
+    // Output directories are relative to the generator directory
+    output: { ...base.output, directory: path.relative(generatorDir, path.join(dir, name)) },
+    name
+  }));
+}
+
+/**
+ * Returns the content of every file below a directory, by relative path
+ */
+function readTree(dir: string): Map<string, string> {
+  const files = new Map<string, string>();
+  const walk = (current: string) => {
+    for (const entry of fs.readdirSync(current, { withFileTypes: true })) {
+      const entryPath = path.join(current, entry.name);
+      if (entry.isDirectory()) {
+        walk(entryPath);
+      } else {
+        files.set(path.relative(dir, entryPath), fs.readFileSync(entryPath, 'utf-8'));
+      }
+    }
+  };
+  walk(dir);
+  return files;
+}
+
+async function testWorkersMatchSerialRun(): Promise<void> {
+  const dir = fs.mkdtempSync(path.join(os.tmpdir(), 'generator-parallel-'));
+  try {
+    const serialDir = path.join(dir, 'serial');
+    const parallelDir = path.join(dir, 'parallel');
+
+    const serialOutputs = targetConfigs(serialDir).map(config => generateTarget(config));
+    const parallelOutputs = await generateInWorkers(targetConfigs(parallelDir));
+
+    const relative = (root: string, outputs: string[][]) =>
+      outputs.map(files => files.map(file => path.relative(root, path.resolve(generatorDir, file))));
+    assert.deepStrictEqual(relative(parallelDir, parallelOutputs), relative(serialDir, serialOutputs));
+
+    const serial = readTree(serialDir);
+    const parallel = readTree(parallelDir);
+    assert.deepStrictEqual([...parallel.keys()].sort(), [...serial.keys()].sort());
+    const differing = [...serial.keys()].filter(file => serial.get(file) !== parallel.get(file));
+    assert.deepStrictEqual(differing, [], 'files differing between the serial and the parallel run');
+    assert.ok(serial.size > 4 * 10, `${serial.size} files generated`);
+  } finally {
+    fs.rmSync(dir, { recursive: true, force: true });
+  }
+}
+
+const tests: [string, () => Promise<void>][] = [
+  ['workers generate the same files as a serial run', testWorkersMatchSerialRun]
+];
+
+// Generation logs progress, also from the workers, keep the test output to the results
+const write = process.stdout.write;
+async function run(): Promise<number> {
+  let failed = 0;
+  for (const [name, test] of tests) {
+    try {
+      process.stdout.write = () => true;
+      await test();
+      process.stdout.write = write;
+      console.log(`ok - ${name}`);
+    } catch (error) {
+      process.stdout.write = write;
+      failed++;
+      console.log(`not ok - ${name}`);
+      console.log(error instanceof Error ? error.message : error);
+    }
+  }
+  return failed;
+}
+
+run().then(failed => {
+  if (failed > 0) {
+    process.exit(1);
+  }
+});
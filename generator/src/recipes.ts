@@ -0,0 +1,179 @@
+import { GeneratorConfig } from './config';
+import { ConflictGroups } from './conflicts';
+import { VariantDefinition } from './variants';
+
+/**
+ * A recipe after validation and conflict resolution
+ */
+export interface Recipe {
+  name: string;          // e.g., "primary-button"
+  constantName: string;  // e.g., "PRIMARY_BUTTON"
+  classes: string[];     // surviving classes, in declaration order
+}
+
+/**
+ * Name of the nested class holding the recipe constants, e.g. TW.Recipe.CARD
+ */
+export const RECIPE_CLASS = 'Recipe';
+
+/** Suffix of the pre-split list constant of a recipe, e.g. CARD_CLASSES */
+const CLASSES_SUFFIX = '_CLASSES';
+
+/**
+ * Returns the index after the last variant separator, ignoring colons inside brackets,
+ * the same way TwMerge splits a token
+ */
+function variantEnd(token: string): number {
+  let end = 0;
+  let depth = 0;
+  for (let i = 0; i < token.length; i++) {
+    const c = token.charAt(i);
+    if (c === '[' || c === '(') {
+      depth++;
+    } else if (c === ']' || c === ')') {
+      depth--;
+    } else if (c === ':' && depth === 0) {
+      end = i + 1;
+    }
+  }
+  return end;
+}
+
+/**
+ * Returns known utilities sharing the longest prefix with an unknown one, for error messages
+ */
+function suggest(utility: string, classNames: string[]): string[] {
+  for (let length = utility.length - 1; length > 0; length--) {
+    const prefix = utility.substring(0, length);
+    const matches = classNames.filter(className => className.startsWith(prefix));
+    if (matches.length > 0) {
+      return matches.slice(0, 5);
+    }
+  }
+  return [];
+}
+
+/**
+ * Expands, validates and conflict-resolves the configured recipes. Every class must be a known
+ * utility with known variants; of classes in the same conflict group and variants, the last
+ * one wins, like TwMerge.merge at runtime.
+ */
+export function resolveRecipes(
+  config: GeneratorConfig,
+  classNames: string[],
+  variantDefinitions: VariantDefinition[],
+  groups: ConflictGroups
+): Recipe[] {
+  const recipes = config.recipes ?? {};
+  const ids = new Map<string, number>(classNames.map((className, id) => [className, id]));
+  const variants = new Set(variantDefinitions.map(variant => variant.name));
+  const constantNames = new Map<string, string>();
+
+  return Object.entries(recipes).map(([name, value]) => {
+    if (!/^[a-z][a-z0-9]*(-[a-z0-9]+)*$/.test(name)) {
+      throw new Error(`Recipe name "${name}" must be lowercase words separated by hyphens`);
+    }
+    const constantName = name.replace(/-/g, '_').toUpperCase();
+    const clash = constantNames.get(constantName);
+    if (clash) {
+      throw new Error(`Recipes "${clash}" and "${name}" both map to the constant ${constantName}`);
+    }
+    constantNames.set(constantName, name);
+
+    const tokens = (Array.isArray(value) ? value : [value])
+      .join(' ')
+      .split(/\s+/)
+      .filter(token => token.length > 0);
+    if (tokens.length === 0) {
+      throw new Error(`Recipe "${name}" has no classes`);
+    }
+
+    // Walk backwards: the last class of a group wins and claims the groups it overrides
+    const keep = tokens.map(() => false);
+    const claimed = new Map<string, Map<number, string>>();
+    for (let i = tokens.length - 1; i >= 0; i--) {
+      const token = tokens[i];
+      const end = variantEnd(token);
+      const prefixes = token.substring(0, end).split(':').filter(prefix => prefix.length > 0);
+      for (const prefix of prefixes) {
+        if (!variants.has(prefix)) {
+          throw new Error(`Unknown variant "${prefix}:" in recipe "${name}": ${token}`);
+        }
+      }
+
+      let utility = token.substring(end);
+      const important = utility.length > 1 && (utility.startsWith('!') || utility.endsWith('!'));
+      if (important) {
+        utility = utility.startsWith('!') ? utility.substring(1) : utility.slice(0, -1);
+      }
+
+      const id = ids.get(utility);
+      if (id === undefined) {
+        const suggestions = suggest(utility, classNames);
+        throw new Error(`Unknown utility "${utility}" in recipe "${name}"`
+          + (suggestions.length > 0 ? `, did you mean: ${suggestions.join(', ')}?` : ''));
+      }
+
+      // Variants apply regardless of their order, so "md:hover:" and "hover:md:" are the same key
+      const key = [...prefixes].sort().join(':') + (important ? '!' : '');
+      if (!claimed.has(key)) {
+        claimed.set(key, new Map());
+      }
+      const winners = claimed.get(key)!;
+      const group = groups.groupOf[id];
+      const winner = winners.get(group);
+      if (winner !== undefined) {
+        console.log(`  Recipe "${name}": dropped ${token}, overridden by ${winner}`);
+        continue;
+      }
+
+      keep[i] = true;
+      winners.set(group, token);
+      for (const overridden of groups.conflicts[group]) {
+        if (!winners.has(overridden)) {
+          winners.set(overridden, token);
+        }
+      }
+    }
+
+    return { name, constantName, classes: tokens.filter((token, i) => keep[i]) };
+  });
+}
+
+/**
+ * Generates the nested class holding a pre-joined constant and a pre-split list per recipe
+ */
+export function generateRecipeClass(lines: string[], recipes: Recipe[], config: GeneratorConfig): void {
+  const twClass = config.java.className;
+
+  lines.push('    // ========== RECIPES ==========');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Utility bundles declared under {@code recipes} in the generator config, validated and');
+  lines.push('     * conflict-resolved at generation time.');
+  lines.push('     * <p>');
+  lines.push('     * <pre>{@code');
+  lines.push(`     * card.setClassName(${twClass}.${RECIPE_CLASS}.${recipes[0].constantName});`);
+  lines.push('     * // or, keeping the classes already set');
+  lines.push(`     * card.getClassNames().addAll(${twClass}.${RECIPE_CLASS}.${recipes[0].constantName}${CLASSES_SUFFIX});`);
+  lines.push('     * }</pre>');
+  lines.push('     */');
+  lines.push(`    public static final class ${RECIPE_CLASS} {`);
+  lines.push('');
+
+  for (const recipe of recipes) {
+    const joined = recipe.classes.join(' ');
+    const quoted = recipe.classes.map(className => `"${className}"`).join(', ');
+
+    lines.push(`        /** Recipe {@code ${recipe.name}}: {@code ${joined}} */`);
+    lines.push(`        public static final String ${recipe.constantName} = "${joined}";`);
+    lines.push('');
+    lines.push(`        /** Classes of {@link #${recipe.constantName}}, in order. Immutable. */`);
+    lines.push(`        public static final List<String> ${recipe.constantName}${CLASSES_SUFFIX} = List.of(${quoted});`);
+    lines.push('');
+  }
+
+  lines.push(`        private ${RECIPE_CLASS}() {}`);
+  lines.push('    }');
+  lines.push('');
+}
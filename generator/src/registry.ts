@@ -0,0 +1,286 @@
+import { GeneratorConfig } from './config';
+
+interface CategorizedUtilities {
+  [category: string]: string[];
+}
+
+/**
+ * Name of the generated class holding the utility universe
+ */
+export const REGISTRY_CLASS = 'TwUtilities';
+
+/**
+ * Name of the generated interface of a single utility, implemented by the utility enums and
+ * TwUtilityInfo
+ */
+export const UTILITY_INTERFACE = 'TwUtility';
+
+/**
+ * A minimal perfect hash over the utility universe: every class name maps to its own slot in
+ * {@code [0, COUNT)}, found with two hash evaluations and one table read
+ */
+export interface PerfectHash {
+  seeds: number[];   // seed of each bucket
+  slots: number[];   // utility ID in each slot
+}
+
+/**
+ * Formats numbers as comma-separated rows for a Java array initializer
+ */
+export function formatNumbers(values: number[], indent: string, perLine: number = 20): string[] {
+  const rows: string[] = [];
+  for (let i = 0; i < values.length; i += perLine) {
+    const row = values.slice(i, i + perLine).join(', ');
+    rows.push(`${indent}${row}${i + perLine < values.length ? ',' : ''}`);
+  }
+  return rows;
+}
+
+/** Average number of class names per bucket; smaller is faster to build, larger is smaller */
+const BUCKET_SIZE = 4;
+
+/** Upper bound of seeds tried per bucket before giving up */
+const MAX_SEED = 1 << 20;
+
+/**
+ * FNV-1a over the UTF-16 units of a string, in 32-bit Java int arithmetic
+ */
+function hashChars(value: string): number {
+  let hash = 0x811c9dc5 | 0;
+  for (let i = 0; i < value.length; i++) {
+    hash = Math.imul(hash ^ value.charCodeAt(i), 0x01000193);
+  }
+  return hash;
+}
+
+/**
+ * The 32-bit MurmurHash3 finalizer, spreading every input bit over the whole hash
+ */
+function mix(hash: number): number {
+  hash = Math.imul(hash ^ (hash >>> 16), 0x85ebca6b);
+  hash = Math.imul(hash ^ (hash >>> 13), 0xc2b2ae35);
+  return hash ^ (hash >>> 16);
+}
+
+/**
+ * Maps a hash to an index in a table of the given size by multiplying instead of dividing, like
+ * {@code (int) (((hash & 0xffffffffL) * size) >>> 32)} in Java. Exact, as the product stays below 2^53.
+ */
+function indexOf(hash: number, size: number): number {
+  return Math.floor((hash >>> 0) * size / 0x100000000);
+}
+
+/**
+ * Slot of a class name hash under a bucket seed
+ */
+function slotOf(hash: number, seed: number, size: number): number {
+  return indexOf(mix(hash ^ Math.imul(seed, 0x9e3779b9)), size);
+}
+
+/**
+ * Builds a minimal perfect hash with hash-and-displace: class names are spread over buckets,
+ * and for each bucket, largest first, the smallest seed is searched that moves all its names
+ * to free slots.
+ */
+export function buildPerfectHash(classNames: string[]): PerfectHash {
+  const size = classNames.length;
+  const hashes = classNames.map(hashChars);
+  const bucketCount = Math.max(1, Math.ceil(size / BUCKET_SIZE));
+
+  const owners = new Map<number, number>();
+  hashes.forEach((hash, id) => {
+    const owner = owners.get(hash);
+    if (owner !== undefined) {
+      throw new Error(`Class names "${classNames[owner]}" and "${classNames[id]}" have the same hash`);
+    }
+    owners.set(hash, id);
+  });
+
+  const buckets: number[][] = Array.from({ length: bucketCount }, () => []);
+  hashes.forEach((hash, id) => buckets[indexOf(mix(hash), bucketCount)].push(id));
+
+  const seeds = new Array<number>(bucketCount).fill(0);
+  const slots = new Array<number>(size).fill(-1);
+  const order = buckets.map((ids, bucket) => bucket).sort((a, b) => buckets[b].length - buckets[a].length || a - b);
+
+  for (const bucket of order) {
+    const ids = buckets[bucket];
+    if (ids.length === 0) {
+      break;
+    }
+
+    let seed = 1;
+    for (; seed < MAX_SEED; seed++) {
+      const taken = ids.map(id => slotOf(hashes[id], seed, size));
+      if (taken.every((slot, i) => slots[slot] < 0 && taken.indexOf(slot) === i)) {
+        taken.forEach((slot, i) => slots[slot] = ids[i]);
+        break;
+      }
+    }
+    if (seed === MAX_SEED) {
+      throw new Error(`No perfect hash seed found for bucket ${bucket} (${ids.length} class names)`);
+    }
+    seeds[bucket] = seed;
+  }
+
+  return { seeds, slots };
+}
+
+/**
+ * Generates the seed and slot tables of a perfect hash, for generatePerfectHashLookup
+ */
+export function generatePerfectHashTables(lines: string[], hash: PerfectHash, slotContent: string): void {
+  const slotType = hash.slots.length <= 0x7fff ? 'short' : 'int';
+
+  lines.push('    /** Perfect hash seed of each bucket */');
+  lines.push('    private static final int[] SEEDS = {');
+  lines.push(...formatNumbers(hash.seeds, '        '));
+  lines.push('    };');
+  lines.push('');
+  lines.push(`    /** ${slotContent} in each perfect hash slot */`);
+  lines.push(`    private static final ${slotType}[] SLOTS = {`);
+  lines.push(...formatNumbers(hash.slots, '        '));
+  lines.push('    };');
+  lines.push('');
+}
+
+/**
+ * Generates the method resolving a range of characters to its index in the hashed names, or -1,
+ * with the hash helpers it uses
+ */
+export function generatePerfectHashLookup(
+  lines: string[],
+  method: string,
+  names: string,
+  count: string,
+  doc: string[]
+): void {
+  lines.push('    /**');
+  for (const line of doc) {
+    lines.push(`     * ${line}`);
+  }
+  lines.push('     */');
+  lines.push(`    static int ${method}(CharSequence chars, int start, int end) {`);
+  lines.push('        // FNV-1a, finalized per table; must match buildPerfectHash in the generator');
+  lines.push('        int hash = 0x811c9dc5;');
+  lines.push('        for (int i = start; i < end; i++) {');
+  lines.push('            hash = (hash ^ chars.charAt(i)) * 0x01000193;');
+  lines.push('        }');
+  lines.push('        int seed = SEEDS[indexOf(mix(hash), SEEDS.length)];');
+  lines.push(`        int index = SLOTS[indexOf(mix(hash ^ seed * 0x9e3779b9), ${count})];`);
+  lines.push('');
+  lines.push('        // Any string hashes to some slot, so the name in it must still be compared');
+  lines.push(`        String name = ${names}[index];`);
+  lines.push('        if (name.length() != end - start) {');
+  lines.push('            return -1;');
+  lines.push('        }');
+  lines.push('        for (int i = 0; i < name.length(); i++) {');
+  lines.push('            if (name.charAt(i) != chars.charAt(start + i)) {');
+  lines.push('                return -1;');
+  lines.push('            }');
+  lines.push('        }');
+  lines.push('        return index;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Maps a hash to an index in {@code [0, size)}, multiplying instead of dividing');
+  lines.push('     */');
+  lines.push('    private static int indexOf(int hash, int size) {');
+  lines.push('        return (int) (((hash & 0xffffffffL) * size) >>> 32);');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * The MurmurHash3 finalizer');
+  lines.push('     */');
+  lines.push('    private static int mix(int hash) {');
+  lines.push('        hash = (hash ^ (hash >>> 16)) * 0x85ebca6b;');
+  lines.push('        hash = (hash ^ (hash >>> 13)) * 0xc2b2ae35;');
+  lines.push('        return hash ^ (hash >>> 16);');
+  lines.push('    }');
+  lines.push('');
+}
+
+/**
+ * Collects every utility class name into a single sorted list.
+ * The position of a class name in this list is its utility ID.
+ */
+export function buildUtilityIndex(categorized: CategorizedUtilities): string[] {
+  const all = new Set<string>();
+
+  for (const utilities of Object.values(categorized)) {
+    for (const className of utilities) {
+      // Remove backslash escapes that come from CSS parsing
+      all.add(className.replace(/\\/g, ''));
+    }
+  }
+
+  return [...all].sort();
+}
+
+/**
+ * Generates the class holding the closed universe of utility class names
+ */
+export function generateRegistryClass(classNames: string[], config: GeneratorConfig): string {
+  const lines: string[] = [];
+  const hash = buildPerfectHash(classNames);
+
+  lines.push(`package ${config.java.package};`);
+  lines.push('');
+  lines.push('/**');
+  lines.push(` * All Tailwind CSS utility class names known to {@link ${config.java.className}}.`);
+  lines.push(' * <p>');
+  lines.push(' * Every utility has a dense integer ID in the range {@code [0, COUNT)}. IDs follow the');
+  lines.push(' * sorted order of the class names and are stable for a given set of utilities, which');
+  lines.push(' * allows per-utility data to be kept in plain arrays and sets of utilities in bitsets');
+  lines.push(' * (see {@link TwClassSet}).');
+  lines.push(' * <p>');
+  lines.push(' * Class names, including ranges of other character sequences, are resolved to IDs with a');
+  lines.push(' * minimal perfect hash computed by the generator: one pass over the characters, two table reads');
+  lines.push(' * and one comparison, without boxing or allocating.');
+  lines.push(' */');
+  lines.push(`public final class ${REGISTRY_CLASS} {`);
+  lines.push('');
+  lines.push('    /** Number of known utilities */');
+  lines.push(`    public static final int COUNT = ${classNames.length};`);
+  lines.push('');
+  lines.push('    /** Utility class names, indexed by utility ID */');
+  lines.push('    static final String[] NAMES = {');
+  classNames.forEach((className, index) => {
+    const separator = index < classNames.length - 1 ? ',' : '';
+    lines.push(`        "${className}"${separator}`);
+  });
+  lines.push('    };');
+  lines.push('');
+  generatePerfectHashTables(lines, hash, 'Utility ID');
+  lines.push('    /**');
+  lines.push('     * Returns the utility ID of a class name, or {@code -1} if it is not a known utility.');
+  lines.push('     */');
+  lines.push('    public static int id(String className) {');
+  lines.push('        return className == null ? -1 : id(className, 0, className.length());');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the utility ID of a class name, or {@code -1} if it is not a known utility.');
+  lines.push('     */');
+  lines.push('    public static int id(CharSequence className) {');
+  lines.push('        return className == null ? -1 : id(className, 0, className.length());');
+  lines.push('    }');
+  lines.push('');
+  generatePerfectHashLookup(lines, 'id', 'NAMES', 'COUNT', [
+    'Returns the utility ID of the class name in {@code chars} from {@code start} to',
+    '{@code end}, or {@code -1} if it is not a known utility.'
+  ]);
+  lines.push('    /**');
+  lines.push('     * Returns the class name of a utility ID.');
+  lines.push('     *');
+  lines.push('     * @throws IndexOutOfBoundsException if the ID is not in {@code [0, COUNT)}');
+  lines.push('     */');
+  lines.push('    public static String className(int id) {');
+  lines.push('        return NAMES[id];');
+  lines.push('    }');
+  lines.push('');
+  lines.push(`    private ${REGISTRY_CLASS}() {}`);
+  lines.push('}');
+
+  return lines.join('\n');
+}
@@ -0,0 +1,167 @@
+import { GeneratorConfig } from './config';
+import { INTERN_POOL_CLASS } from './intern';
+
+/**
+ * Name of the generated result cache class
+ */
+export const RESULT_CACHE_CLASS = 'TwCache';
+
+/**
+ * Generates a lock-free, size-bounded cache with clock eviction, shared by the classes that
+ * memoize computed class lists
+ */
+export function generateResultCacheClass(config: GeneratorConfig): string {
+  const lines: string[] = [];
+  const name = RESULT_CACHE_CLASS;
+
+  lines.push(`package ${config.java.package};`);
+  lines.push('');
+  lines.push('import java.util.concurrent.atomic.AtomicReferenceArray;');
+  lines.push('');
+  lines.push('/**');
+  lines.push(' * A lock-free, size-bounded cache of computed results, e.g. merged class lists.');
+  lines.push(' * <p>');
+  lines.push(` * Works like {@link ${INTERN_POOL_CLASS}}: entries live in an open-addressed table that is only`);
+  lines.push(' * updated by compare-and-set, so lookups never block, and when all slots a new entry may use are');
+  lines.push(' * taken, a clock sweep over them evicts the first entry that was not used since the last sweep.');
+  lines.push(' * <p>');
+  lines.push(' * Keys are compared with {@link #hash(Object)} and {@link #matches(Object, Object)}, which');
+  lines.push(' * subclasses override to look up keys such as arrays without wrapping them.');
+  lines.push(' *');
+  lines.push(' * @param <K> the key type');
+  lines.push(' * @param <V> the value type');
+  lines.push(' */');
+  lines.push(`class ${name}<K, V> {`);
+  lines.push('');
+  lines.push('    /** Number of slots a key may be stored in, probed on lookup and swept on eviction */');
+  lines.push('    private static final int PROBES = 8;');
+  lines.push('');
+  lines.push('    private final AtomicReferenceArray<Entry<K, V>> table;');
+  lines.push('');
+  lines.push('    private final int mask;');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Creates a cache of at most {@code capacity} entries.');
+  lines.push('     *');
+  lines.push('     * @throws IllegalArgumentException if the capacity is not a positive power of two');
+  lines.push('     */');
+  lines.push(`    ${name}(int capacity) {`);
+  lines.push('        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {');
+  lines.push('            throw new IllegalArgumentException("Capacity must be a positive power of two: " + capacity);');
+  lines.push('        }');
+  lines.push('        table = new AtomicReferenceArray<>(capacity);');
+  lines.push('        mask = capacity - 1;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the cached value of a key, or {@code null} if it is not cached. Does not allocate.');
+  lines.push('     */');
+  lines.push('    final V get(K key) {');
+  lines.push('        int hash = spread(hash(key));');
+  lines.push('        int start = hash & mask;');
+  lines.push('        for (int i = 0; i < PROBES; i++) {');
+  lines.push('            Entry<K, V> entry = table.get((start + i) & mask);');
+  lines.push('            if (entry == null) {');
+  lines.push('                // Slots are never cleared, so the key is not stored further on');
+  lines.push('                break;');
+  lines.push('            }');
+  lines.push('            if (entry.hash == hash && matches(entry.key, key)) {');
+  lines.push('                if (!entry.referenced) {');
+  lines.push('                    entry.referenced = true;');
+  lines.push('                }');
+  lines.push('                return entry.value;');
+  lines.push('            }');
+  lines.push('        }');
+  lines.push('        return null;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Caches a value, in the first free slot or else by evicting with up to two clock sweeps.');
+  lines.push('     * The key must not change afterwards.');
+  lines.push('     *');
+  lines.push('     * @return the value cached for an equal key by another thread first, or else {@code value},');
+  lines.push('     *         which is returned without being cached if it loses every race');
+  lines.push('     */');
+  lines.push('    final V put(K key, V value) {');
+  lines.push('        int hash = spread(hash(key));');
+  lines.push('        int start = hash & mask;');
+  lines.push('        Entry<K, V> created = new Entry<>(hash, key, value);');
+  lines.push('        for (int sweep = 0; sweep < 3; sweep++) {');
+  lines.push('            for (int i = 0; i < PROBES; i++) {');
+  lines.push('                int slot = (start + i) & mask;');
+  lines.push('                Entry<K, V> entry = table.get(slot);');
+  lines.push('                if (entry == null) {');
+  lines.push('                    if (table.compareAndSet(slot, null, created)) {');
+  lines.push('                        return value;');
+  lines.push('                    }');
+  lines.push('                    entry = table.get(slot);');
+  lines.push('                }');
+  lines.push('                if (entry.hash == hash && matches(entry.key, key)) {');
+  lines.push('                    return entry.value;');
+  lines.push('                }');
+  lines.push('                if (sweep == 0) {');
+  lines.push('                    continue;');
+  lines.push('                }');
+  lines.push('                if (entry.referenced) {');
+  lines.push('                    // Second chance: evicted by the next sweep unless used again before');
+  lines.push('                    entry.referenced = false;');
+  lines.push('                } else if (table.compareAndSet(slot, entry, created)) {');
+  lines.push('                    return value;');
+  lines.push('                }');
+  lines.push('            }');
+  lines.push('        }');
+  lines.push('        return value;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the hash code of a key, {@link Object#hashCode()} unless overridden.');
+  lines.push('     */');
+  lines.push('    int hash(K key) {');
+  lines.push('        return key.hashCode();');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns whether a cached key equals a looked up key, {@link Object#equals(Object)} unless');
+  lines.push('     * overridden.');
+  lines.push('     */');
+  lines.push('    boolean matches(K cached, K key) {');
+  lines.push('        return cached.equals(key);');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the number of cached entries. Scans the whole table.');
+  lines.push('     */');
+  lines.push('    final int size() {');
+  lines.push('        int size = 0;');
+  lines.push('        for (int i = 0; i < table.length(); i++) {');
+  lines.push('            if (table.get(i) != null) {');
+  lines.push('                size++;');
+  lines.push('            }');
+  lines.push('        }');
+  lines.push('        return size;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    private static int spread(int hash) {');
+  lines.push('        return hash ^ (hash >>> 16);');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * A cached result. Immutable except for the clock reference bit.');
+  lines.push('     */');
+  lines.push('    private static final class Entry<K, V> {');
+  lines.push('');
+  lines.push('        final int hash;');
+  lines.push('        final K key;');
+  lines.push('        final V value;');
+  lines.push('        volatile boolean referenced;');
+  lines.push('');
+  lines.push('        Entry(int hash, K key, V value) {');
+  lines.push('            this.hash = hash;');
+  lines.push('            this.key = key;');
+  lines.push('            this.value = value;');
+  lines.push('        }');
+  lines.push('    }');
+  lines.push('}');
+
+  return lines.join('\n');
+}
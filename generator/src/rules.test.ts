@@ -0,0 +1,334 @@
+/**
+ * Checks the rules trie against the startsWith/includes chain it replaced, run with "npm test".
+ * <p>
+ * The chain below is the categorization of extract.ts before the rules table, kept as the
+ * reference. Every class name of the extracted universe, plus synthetic palette, plugin and
+ * numeric variants of them, must land in the same category.
+ */
+
+import * as assert from 'assert';
+import * as fs from 'fs';
+import * as path from 'path';
+import { CATEGORY_RULES, OTHER_CATEGORY, categorize, compileRules } from './rules';
+
+/**
+ * Category of a class name by the former matcher chain of extract.ts
+ */
+function legacyCategory(className: string): string {
+  // Display
+  if (['block', 'inline', 'inline-block', 'flex', 'inline-flex', 'grid', 'inline-grid', 'table', 'inline-table', 'table-caption', 'table-cell', 'table-column', 'table-column-group', 'table-footer-group', 'table-header-group', 'table-row-group', 'table-row', 'flow-root', 'contents', 'list-item', 'hidden'].includes(className)) {
+    return 'display';
+  }
+  // Position
+  else if (['static', 'fixed', 'absolute', 'relative', 'sticky'].includes(className)) {
+    return 'position';
+  }
+  // Position values
+  else if (className.startsWith('inset-') || className.startsWith('top-') || className.startsWith('right-') || className.startsWith('bottom-') || className.startsWith('left-') || className.startsWith('start-') || className.startsWith('end-')) {
+    return 'position';
+  }
+  // Visibility
+  else if (['visible', 'invisible', 'collapse'].includes(className)) {
+    return 'visibility';
+  }
+  // Z-index
+  else if (className.startsWith('z-')) {
+    return 'z-index';
+  }
+  // Flexbox
+  else if (className.startsWith('flex-row') || className.startsWith('flex-col')) {
+    return 'flex-direction';
+  }
+  else if (className.startsWith('flex-wrap') || className.startsWith('flex-nowrap')) {
+    return 'flex-wrap';
+  }
+  else if (className.startsWith('flex-grow') || className.startsWith('flex-shrink') || ['flex-1', 'flex-auto', 'flex-initial', 'flex-none'].includes(className)) {
+    return 'flex-grow-shrink';
+  }
+  else if (className.startsWith('basis-')) {
+    return 'flex-basis';
+  }
+  else if (className.startsWith('items-')) {
+    return 'align-items';
+  }
+  else if (className.startsWith('content-')) {
+    return 'align-content';
+  }
+  else if (className.startsWith('self-')) {
+    return 'align-self';
+  }
+  else if (className.startsWith('justify-content-') || (className.startsWith('justify-') && !className.startsWith('justify-items-') && !className.startsWith('justify-self-'))) {
+    return 'justify-content';
+  }
+  else if (className.startsWith('justify-items-')) {
+    return 'justify-items';
+  }
+  else if (className.startsWith('justify-self-')) {
+    return 'justify-self';
+  }
+  else if (className.startsWith('place-content-')) {
+    return 'place-content';
+  }
+  else if (className.startsWith('place-items-')) {
+    return 'place-items';
+  }
+  else if (className.startsWith('place-self-')) {
+    return 'place-self';
+  }
+  // Grid
+  else if (className.startsWith('grid-cols-')) {
+    return 'grid-template-columns';
+  }
+  else if (className.startsWith('grid-rows-')) {
+    return 'grid-template-rows';
+  }
+  else if (className.startsWith('col-')) {
+    return 'grid-column';
+  }
+  else if (className.startsWith('row-')) {
+    return 'grid-row';
+  }
+  else if (className.startsWith('grid-flow-')) {
+    return 'grid-flow';
+  }
+  else if (className.startsWith('auto-cols-')) {
+    return 'grid-auto-columns';
+  }
+  else if (className.startsWith('auto-rows-')) {
+    return 'grid-auto-rows';
+  }
+  else if (className.startsWith('gap-')) {
+    return 'gap';
+  }
+  // Padding
+  else if (className.startsWith('p-') || className.startsWith('px-') || className.startsWith('py-') || className.startsWith('pt-') || className.startsWith('pr-') || className.startsWith('pb-') || className.startsWith('pl-') || className.startsWith('ps-') || className.startsWith('pe-')) {
+    return 'padding';
+  }
+  // Margin
+  else if (className.startsWith('m-') || className.startsWith('mx-') || className.startsWith('my-') || className.startsWith('mt-') || className.startsWith('mr-') || className.startsWith('mb-') || className.startsWith('ml-') || className.startsWith('ms-') || className.startsWith('me-') || className.startsWith('-m-') || className.startsWith('-mx-') || className.startsWith('-my-') || className.startsWith('-mt-') || className.startsWith('-mr-') || className.startsWith('-mb-') || className.startsWith('-ml-')) {
+    return 'margin';
+  }
+  // Space between
+  else if (className.startsWith('space-x-') || className.startsWith('space-y-')) {
+    return 'space-between';
+  }
+  // Width
+  else if (className.startsWith('w-')) {
+    return 'width';
+  }
+  else if (className.startsWith('min-w-')) {
+    return 'min-width';
+  }
+  else if (className.startsWith('max-w-')) {
+    return 'max-width';
+  }
+  // Height
+  else if (className.startsWith('h-')) {
+    return 'height';
+  }
+  else if (className.startsWith('min-h-')) {
+    return 'min-height';
+  }
+  else if (className.startsWith('max-h-')) {
+    return 'max-height';
+  }
+  // Size
+  else if (className.startsWith('size-')) {
+    return 'size';
+  }
+  // Font
+  else if (className.startsWith('font-sans') || className.startsWith('font-serif') || className.startsWith('font-mono')) {
+    return 'font-family';
+  }
+  else if (className.startsWith('text-xs') || className.startsWith('text-sm') || className.startsWith('text-base') || className.startsWith('text-lg') || className.startsWith('text-xl') || className.startsWith('text-2xl') || className.startsWith('text-3xl') || className.startsWith('text-4xl') || className.startsWith('text-5xl') || className.startsWith('text-6xl') || className.startsWith('text-7xl') || className.startsWith('text-8xl') || className.startsWith('text-9xl')) {
+    return 'font-size';
+  }
+  else if (className.startsWith('font-thin') || className.startsWith('font-extralight') || className.startsWith('font-light') || className.startsWith('font-normal') || className.startsWith('font-medium') || className.startsWith('font-semibold') || className.startsWith('font-bold') || className.startsWith('font-extrabold') || className.startsWith('font-black')) {
+    return 'font-weight';
+  }
+  else if (['italic', 'not-italic'].includes(className)) {
+    return 'font-style';
+  }
+  // Text color
+  else if (className.startsWith('text-') && !className.startsWith('text-xs') && !className.startsWith('text-sm') && !className.startsWith('text-base') && !className.startsWith('text-lg') && !className.startsWith('text-xl') && !className.startsWith('text-left') && !className.startsWith('text-center') && !className.startsWith('text-right') && !className.startsWith('text-justify') && !className.startsWith('text-start') && !className.startsWith('text-end') && !className.startsWith('text-ellipsis') && !className.startsWith('text-clip') && !className.startsWith('text-wrap') && !className.startsWith('text-nowrap') && !className.startsWith('text-balance') && !className.startsWith('text-pretty')) {
+    return 'text-color';
+  }
+  // Text alignment
+  else if (className.startsWith('text-left') || className.startsWith('text-center') || className.startsWith('text-right') || className.startsWith('text-justify') || className.startsWith('text-start') || className.startsWith('text-end')) {
+    return 'text-align';
+  }
+  // Text decoration
+  else if (['underline', 'overline', 'line-through', 'no-underline'].includes(className)) {
+    return 'text-decoration';
+  }
+  else if (className.startsWith('decoration-') && !className.startsWith('decoration-solid') && !className.startsWith('decoration-double') && !className.startsWith('decoration-dotted') && !className.startsWith('decoration-dashed') && !className.startsWith('decoration-wavy')) {
+    return 'text-decoration-color';
+  }
+  else if (className.startsWith('decoration-solid') || className.startsWith('decoration-double') || className.startsWith('decoration-dotted') || className.startsWith('decoration-dashed') || className.startsWith('decoration-wavy')) {
+    return 'text-decoration-style';
+  }
+  // Text transform
+  else if (['uppercase', 'lowercase', 'capitalize', 'normal-case'].includes(className)) {
+    return 'text-transform';
+  }
+  // Background color
+  else if (className.startsWith('bg-') && !className.startsWith('bg-clip-') && !className.startsWith('bg-origin-') && !className.startsWith('bg-repeat') && !className.startsWith('bg-no-repeat') && !className.startsWith('bg-auto') && !className.startsWith('bg-cover') && !className.startsWith('bg-contain') && !className.startsWith('bg-fixed') && !className.startsWith('bg-local') && !className.startsWith('bg-scroll') && !className.startsWith('bg-bottom') && !className.startsWith('bg-center') && !className.startsWith('bg-left') && !className.startsWith('bg-right') && !className.startsWith('bg-top') && !className.startsWith('bg-blend-')) {
+    return 'background-color';
+  }
+  // Border radius
+  else if (className.startsWith('rounded-') || className === 'rounded') {
+    return 'border-radius';
+  }
+  // Border width
+  else if (className.startsWith('border-') && !className.startsWith('border-solid') && !className.startsWith('border-dashed') && !className.startsWith('border-dotted') && !className.startsWith('border-double') && !className.startsWith('border-hidden') && !className.startsWith('border-none') && !className.startsWith('border-collapse') && !className.startsWith('border-separate') && !className.startsWith('border-spacing-') && className.match(/^border-(\d|x-|y-|t-|r-|b-|l-|s-|e-)/)) {
+    return 'border-width';
+  }
+  else if (className === 'border') {
+    return 'border-width';
+  }
+  // Border color
+  else if (className.startsWith('border-') && !className.match(/^border-(\d|x-|y-|t-|r-|b-|l-|s-|e-|solid|dashed|dotted|double|hidden|none|collapse|separate|spacing)/)) {
+    return 'border-color';
+  }
+  // Border style
+  else if (className.startsWith('border-solid') || className.startsWith('border-dashed') || className.startsWith('border-dotted') || className.startsWith('border-double') || className.startsWith('border-hidden') || className.startsWith('border-none')) {
+    return 'border-style';
+  }
+  // Shadow
+  else if (className.startsWith('shadow-') || className === 'shadow') {
+    return 'box-shadow';
+  }
+  // Opacity
+  else if (className.startsWith('opacity-')) {
+    return 'opacity';
+  }
+  // Transitions
+  else if (className.startsWith('transition-') || className === 'transition') {
+    return 'transition';
+  }
+  else if (className.startsWith('duration-')) {
+    return 'duration';
+  }
+  else if (className.startsWith('ease-')) {
+    return 'ease';
+  }
+  else if (className.startsWith('delay-')) {
+    return 'delay';
+  }
+  // Animation
+  else if (className.startsWith('animate-')) {
+    return 'animation';
+  }
+  // Transforms
+  else if (className.startsWith('scale-')) {
+    return 'scale';
+  }
+  else if (className.startsWith('rotate-') || className.startsWith('-rotate-')) {
+    return 'rotate';
+  }
+  else if (className.startsWith('translate-') || className.startsWith('-translate-')) {
+    return 'translate';
+  }
+  else if (className.startsWith('skew-') || className.startsWith('-skew-')) {
+    return 'skew';
+  }
+  // Cursor
+  else if (className.startsWith('cursor-')) {
+    return 'cursor';
+  }
+  // Overflow
+  else if (className.startsWith('overflow-')) {
+    return 'overflow';
+  }
+
+  return OTHER_CATEGORY;
+}
+
+/** Class names without a generated utility that sit on rule boundaries */
+const BOUNDARY_CLASSES = [
+  'border-t', 'border-x', 'text-ellipsis', 'bg-clip-text', 'border-spacing-2', 'justify-items-center',
+  'justify-self-end', 'flex', 'flex-1', 'shadow', 'rounded', 'border', 'bg-blend-multiply', 'text-balance',
+  'decoration-wavy', 'decoration-red-500', 'table-auto', 'pointer-events-none', 'max-w-md', 'min-h-0', '-mt-4',
+  'mix-blend-multiply', 'hue-rotate-15', 'columns-2', 'text-2xl', 'font-stretch-50', 'border-s-2',
+  'border-solid', 'border-collapse', 'transition', 'translate-x-4', '-translate-y-2', 'content-none', 'x', '',
+  '-', 'bg-', 'text-', 'border-'
+];
+
+/** Suffixes standing in for custom palette colors, plugins and opacity modifiers */
+const SYNTHETIC_SUFFIXES = ['-brand-500', '-x', 'x', '-ocean-50/50'];
+
+function testUniverse(): Set<string> {
+  const file = path.join(__dirname, '..', 'categorized-utilities.json');
+  const data = JSON.parse(fs.readFileSync(file, 'utf-8'));
+  const extracted: string[] = [].concat(...Object.values(data.utilities));
+
+  const universe = new Set<string>();
+  for (const className of [...extracted, ...BOUNDARY_CLASSES]) {
+    universe.add(className);
+    for (const suffix of SYNTHETIC_SUFFIXES) {
+      universe.add(className + suffix);
+    }
+  }
+  // Other numeric values, e.g. "p-40" to "p-48" next to "p-4"
+  for (let digit = 0; digit < 10; digit++) {
+    for (const className of extracted) {
+      universe.add(className.replace(/(\d+)$/, value => value + digit));
+    }
+  }
+  return universe;
+}
+
+function testMatchesLegacyChain(): void {
+  const universe = testUniverse();
+  const differences: string[] = [];
+  for (const className of universe) {
+    const expected = legacyCategory(className);
+    const actual = categorize(className);
+    if (actual !== expected) {
+      differences.push(`"${className}": ${actual}, expected ${expected}`);
+    }
+  }
+  assert.deepStrictEqual(differences.slice(0, 20), [], `${differences.length} of ${universe.size} class names differ`);
+  console.log(`  ${universe.size} class names categorized as by the former chain`);
+}
+
+function testExactBeforeLongestPrefix(): void {
+  const matcher = compileRules([
+    { category: 'a', prefixes: ['p-'] },
+    { category: 'b', prefixes: ['p-x-'], exact: ['p-y'] }
+  ]);
+  assert.strictEqual(categorize('p-4', matcher), 'a');
+  assert.strictEqual(categorize('p-x-4', matcher), 'b');
+  assert.strictEqual(categorize('p-y', matcher), 'b');
+  assert.strictEqual(categorize('p-', matcher), 'a');
+  assert.strictEqual(categorize('q-4', matcher), OTHER_CATEGORY);
+}
+
+function testConflictingRules(): void {
+  assert.throws(() => compileRules([
+    { category: 'a', prefixes: ['p-'] },
+    { category: 'b', prefixes: ['p-'] }
+  ]), /Conflicting category rules/);
+  assert.doesNotThrow(() => compileRules(CATEGORY_RULES));
+}
+
+const tests: [string, () => void][] = [
+  ['categories match the former matcher chain', testMatchesLegacyChain],
+  ['exact match before the longest prefix', testExactBeforeLongestPrefix],
+  ['conflicting rules are rejected', testConflictingRules]
+];
+
+let failed = 0;
+for (const [name, test] of tests) {
+  try {
+    test();
+    console.log(`ok - ${name}`);
+  } catch (error) {
+    failed++;
+    console.log(`not ok - ${name}`);
+    console.log(error instanceof Error ? error.message : error);
+  }
+}
+if (failed > 0) {
+  process.exit(1);
+}
@@ -0,0 +1,227 @@
+/**
+ * Declarative category rules for utility class names, compiled into a prefix trie.
+ * Shared by the extractor, which assigns a category to every class name, and the classifier,
+ * which maps categories to the subcategory classes of the generated Java code.
+ */
+
+export interface CategoryRule {
+  category: string;
+  /** Class names belonging to the category as a whole, e.g. "flex" */
+  exact?: string[];
+  /** Class name prefixes, e.g. "pl-"; when several match, the longest one wins */
+  prefixes?: string[];
+  /** Subcategory class within the top-level group, e.g. "Padding" */
+  subcategory?: string;
+}
+
+/** Category of class names no rule matches */
+export const OTHER_CATEGORY = 'other';
+
+const BORDER_STYLES = ['solid', 'dashed', 'dotted', 'double', 'hidden', 'none'];
+const BORDER_SIDES = ['x', 'y', 't', 'r', 'b', 'l', 's', 'e'];
+const FONT_SIZES = ['xs', 'sm', 'base', 'lg', 'xl', '2xl', '3xl', '4xl', '5xl', '6xl', '7xl', '8xl', '9xl'];
+const FONT_WEIGHTS = ['thin', 'extralight', 'light', 'normal', 'medium', 'semibold', 'bold', 'extrabold', 'black'];
+const TEXT_ALIGNS = ['left', 'center', 'right', 'justify', 'start', 'end'];
+const DECORATION_STYLES = ['solid', 'double', 'dotted', 'dashed', 'wavy'];
+
+export const CATEGORY_RULES: CategoryRule[] = [
+  // Layout
+  {
+    category: 'display',
+    exact: ['block', 'inline', 'inline-block', 'flex', 'inline-flex', 'grid', 'inline-grid', 'table', 'inline-table', 'table-caption', 'table-cell', 'table-column', 'table-column-group', 'table-footer-group', 'table-header-group', 'table-row-group', 'table-row', 'flow-root', 'contents', 'list-item', 'hidden']
+  },
+  {
+    category: 'position',
+    exact: ['static', 'fixed', 'absolute', 'relative', 'sticky'],
+    prefixes: ['inset-', 'top-', 'right-', 'bottom-', 'left-', 'start-', 'end-']
+  },
+  { category: 'visibility', exact: ['visible', 'invisible', 'collapse'] },
+  { category: 'z-index', prefixes: ['z-'] },
+  { category: 'overflow', prefixes: ['overflow-'] },
+
+  // Flexbox
+  { category: 'flex-direction', prefixes: ['flex-row', 'flex-col'] },
+  { category: 'flex-wrap', prefixes: ['flex-wrap', 'flex-nowrap'] },
+  { category: 'flex-grow-shrink', exact: ['flex-1', 'flex-auto', 'flex-initial', 'flex-none'], prefixes: ['flex-grow', 'flex-shrink'] },
+  { category: 'flex-basis', prefixes: ['basis-'] },
+  { category: 'align-items', prefixes: ['items-'], subcategory: 'AlignItems' },
+  { category: 'align-content', prefixes: ['content-'], subcategory: 'AlignContent' },
+  { category: 'align-self', prefixes: ['self-'], subcategory: 'AlignSelf' },
+  { category: 'justify-content', prefixes: ['justify-'], subcategory: 'JustifyContent' },
+  { category: 'justify-items', prefixes: ['justify-items-'] },
+  { category: 'justify-self', prefixes: ['justify-self-'] },
+  { category: 'place-content', prefixes: ['place-content-'] },
+  { category: 'place-items', prefixes: ['place-items-'] },
+  { category: 'place-self', prefixes: ['place-self-'] },
+
+  // Grid
+  { category: 'grid-template-columns', prefixes: ['grid-cols-'] },
+  { category: 'grid-template-rows', prefixes: ['grid-rows-'] },
+  { category: 'grid-column', prefixes: ['col-'] },
+  { category: 'grid-row', prefixes: ['row-'] },
+  { category: 'grid-flow', prefixes: ['grid-flow-'] },
+  { category: 'grid-auto-columns', prefixes: ['auto-cols-'] },
+  { category: 'grid-auto-rows', prefixes: ['auto-rows-'] },
+  { category: 'gap', prefixes: ['gap-'], subcategory: 'Gap' },
+
+  // Spacing
+  { category: 'padding', prefixes: ['p-', 'px-', 'py-', 'pt-', 'pr-', 'pb-', 'pl-', 'ps-', 'pe-'], subcategory: 'Padding' },
+  {
+    category: 'margin',
+    prefixes: ['m-', 'mx-', 'my-', 'mt-', 'mr-', 'mb-', 'ml-', 'ms-', 'me-', '-m-', '-mx-', '-my-', '-mt-', '-mr-', '-mb-', '-ml-'],
+    subcategory: 'Margin'
+  },
+  { category: 'space-between', prefixes: ['space-x-', 'space-y-'], subcategory: 'Space' },
+
+  // Sizing
+  { category: 'width', prefixes: ['w-'], subcategory: 'Width' },
+  { category: 'min-width', prefixes: ['min-w-'], subcategory: 'MinWidth' },
+  { category: 'max-width', prefixes: ['max-w-'], subcategory: 'MaxWidth' },
+  { category: 'height', prefixes: ['h-'], subcategory: 'Height' },
+  { category: 'min-height', prefixes: ['min-h-'], subcategory: 'MinHeight' },
+  { category: 'max-height', prefixes: ['max-h-'], subcategory: 'MaxHeight' },
+  { category: 'size', prefixes: ['size-'], subcategory: 'Size' },
+
+  // Typography
+  { category: 'font-family', prefixes: ['font-sans', 'font-serif', 'font-mono'], subcategory: 'FontFamily' },
+  { category: 'font-size', prefixes: FONT_SIZES.map(size => `text-${size}`), subcategory: 'FontSize' },
+  { category: 'font-weight', prefixes: FONT_WEIGHTS.map(weight => `font-${weight}`), subcategory: 'FontWeight' },
+  { category: 'font-style', exact: ['italic', 'not-italic'], subcategory: 'FontStyle' },
+  { category: 'line-height', subcategory: 'LineHeight' },
+  { category: 'text-color', prefixes: ['text-'] },
+  { category: 'text-align', prefixes: TEXT_ALIGNS.map(align => `text-${align}`), subcategory: 'TextAlign' },
+  { category: 'text-decoration', exact: ['underline', 'overline', 'line-through', 'no-underline'], subcategory: 'TextDecoration' },
+  { category: 'text-decoration-color', prefixes: ['decoration-'], subcategory: 'TextDecoration' },
+  { category: 'text-decoration-style', prefixes: DECORATION_STYLES.map(style => `decoration-${style}`), subcategory: 'TextDecoration' },
+  { category: 'text-transform', exact: ['uppercase', 'lowercase', 'capitalize', 'normal-case'], subcategory: 'TextTransform' },
+
+  // Backgrounds
+  { category: 'background-color', prefixes: ['bg-'] },
+
+  // Borders
+  { category: 'border-radius', exact: ['rounded'], prefixes: ['rounded-'] },
+  {
+    category: 'border-width',
+    exact: ['border'],
+    prefixes: [
+      ...[0, 1, 2, 3, 4, 5, 6, 7, 8, 9].map(digit => `border-${digit}`),
+      ...BORDER_SIDES.map(side => `border-${side}-`)
+    ]
+  },
+  { category: 'border-color', prefixes: ['border-'] },
+  { category: 'border-style', prefixes: BORDER_STYLES.map(style => `border-${style}`) },
+
+  // Effects
+  { category: 'box-shadow', exact: ['shadow'], prefixes: ['shadow-'], subcategory: 'Shadow' },
+  { category: 'opacity', prefixes: ['opacity-'], subcategory: 'Opacity' },
+
+  // Transitions & Animations
+  { category: 'transition', exact: ['transition'], prefixes: ['transition-'] },
+  { category: 'duration', prefixes: ['duration-'] },
+  { category: 'ease', prefixes: ['ease-'] },
+  { category: 'delay', prefixes: ['delay-'] },
+  { category: 'animation', prefixes: ['animate-'] },
+
+  // Transforms
+  { category: 'scale', prefixes: ['scale-'] },
+  { category: 'rotate', prefixes: ['rotate-', '-rotate-'] },
+  { category: 'translate', prefixes: ['translate-', '-translate-'] },
+  { category: 'skew', prefixes: ['skew-', '-skew-'] },
+
+  // Interactivity
+  { category: 'cursor', prefixes: ['cursor-'] },
+
+  // More specific prefixes of the color rules above that are not colors
+  {
+    category: OTHER_CATEGORY,
+    prefixes: [
+      'text-ellipsis', 'text-clip', 'text-wrap', 'text-nowrap', 'text-balance', 'text-pretty',
+      'bg-clip-', 'bg-origin-', 'bg-repeat', 'bg-no-repeat', 'bg-auto', 'bg-cover', 'bg-contain',
+      'bg-fixed', 'bg-local', 'bg-scroll', 'bg-bottom', 'bg-center', 'bg-left', 'bg-right', 'bg-top',
+      'bg-blend-', 'border-collapse', 'border-separate', 'border-spacing'
+    ]
+  }
+];
+
+interface TrieNode {
+  children: Map<string, TrieNode>;
+  /** Category of the prefix ending at this node */
+  prefix?: string;
+  /** Category of the class name ending at this node */
+  exact?: string;
+}
+
+/**
+ * Rules compiled for lookups in one walk over the class name, whatever the number of rules
+ */
+export interface CategoryMatcher {
+  root: TrieNode;
+  subcategories: Map<string, string>;
+}
+
+/**
+ * Compiles category rules into a prefix trie
+ */
+export function compileRules(rules: CategoryRule[]): CategoryMatcher {
+  const matcher: CategoryMatcher = { root: { children: new Map() }, subcategories: new Map() };
+
+  for (const rule of rules) {
+    for (const className of rule.exact ?? []) {
+      insertRule(matcher.root, className, 'exact', rule.category);
+    }
+    for (const prefix of rule.prefixes ?? []) {
+      insertRule(matcher.root, prefix, 'prefix', rule.category);
+    }
+    if (rule.subcategory) {
+      matcher.subcategories.set(rule.category, rule.subcategory);
+    }
+  }
+
+  return matcher;
+}
+
+function insertRule(root: TrieNode, key: string, kind: 'exact' | 'prefix', category: string): void {
+  let node = root;
+  for (const char of key) {
+    let child = node.children.get(char);
+    if (!child) {
+      child = { children: new Map() };
+      node.children.set(char, child);
+    }
+    node = child;
+  }
+
+  const existing = node[kind];
+  if (existing && existing !== category) {
+    throw new Error(`Conflicting category rules for ${kind} "${key}": ${existing} and ${category}`);
+  }
+  node[kind] = category;
+}
+
+/**
+ * Returns the category of a class name: an exact match, else the longest matching prefix,
+ * else OTHER_CATEGORY
+ */
+export function categorize(className: string, matcher: CategoryMatcher = CATEGORY_MATCHER): string {
+  let node: TrieNode | undefined = matcher.root;
+  let category = OTHER_CATEGORY;
+
+  for (let i = 0; i < className.length && node; i++) {
+    node = node.children.get(className[i]);
+    if (node?.prefix) {
+      category = node.prefix;
+    }
+  }
+
+  return node?.exact ?? category;
+}
+
+/**
+ * Returns the subcategory class of a category, e.g. "Padding" for "padding"
+ */
+export function subcategoryOf(category: string, matcher: CategoryMatcher = CATEGORY_MATCHER): string | undefined {
+  return matcher.subcategories.get(category);
+}
+
+/** Compiled CATEGORY_RULES */
+export const CATEGORY_MATCHER = compileRules(CATEGORY_RULES);
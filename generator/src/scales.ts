@@ -0,0 +1,268 @@
+import { ClassifiedUtility } from './classifier';
+import { GeneratorConfig } from './config';
+import { categorize } from './rules';
+
+/**
+ * Name of the generated color palette enum
+ */
+export const PALETTE_CLASS = 'TwPalette';
+
+/** Tailwind colors with shades, in Tailwind order */
+const PALETTE = [
+  'slate', 'gray', 'zinc', 'neutral', 'stone', 'red', 'orange', 'amber', 'yellow', 'lime', 'green',
+  'emerald', 'teal', 'cyan', 'sky', 'blue', 'indigo', 'violet', 'purple', 'fuchsia', 'pink', 'rose'
+];
+
+/** Shades of each color, lightest first */
+const SHADES = [50, 100, 200, 300, 400, 500, 600, 700, 800, 900, 950];
+
+/** Extracted categories whose integer steps get an accessor, e.g. p(int) */
+const STEP_CATEGORIES = new Set([
+  'padding', 'margin', 'gap', 'space-between',
+  'width', 'min-width', 'max-width', 'height', 'min-height', 'max-height', 'size'
+]);
+
+const STEP_PATTERN = /^(-?)([a-z]+(?:-[a-z]+)*)-(\d+)$/;
+const COLOR_PATTERN = new RegExp(`^([a-z]+(?:-[a-z]+)*)-(${PALETTE.join('|')})-(\\d+)$`);
+
+/**
+ * Utilities of one class sharing a prefix, e.g. "p-0" to "p-96", accessed by step or color
+ */
+interface ScaleFamily {
+  prefix: string;                          // e.g., "p" or "bg"
+  utilities: Map<string, ClassifiedUtility>; // step, or color and shade, e.g. "4" or "blue-500"
+}
+
+/**
+ * Converts a class name prefix to a method name, e.g. "gap-x" to "gapX"
+ */
+function toMethodName(prefix: string): string {
+  return prefix.replace(/-([a-z])/g, (match, letter) => letter.toUpperCase());
+}
+
+/**
+ * Collects the step or color families of a class with at least two utilities, ordered by prefix
+ */
+function collectFamilies(utilities: ClassifiedUtility[], kind: 'step' | 'color'): ScaleFamily[] {
+  const families = new Map<string, ScaleFamily>();
+  for (const utility of utilities) {
+    let prefix: string;
+    let value: string;
+    if (kind === 'step') {
+      const match = utility.className.match(STEP_PATTERN);
+      // "-m-0" is the same as "m-0", which is the one returned
+      if (!match || !STEP_CATEGORIES.has(categorize(utility.className)) || match[0] === `-${match[2]}-0`) {
+        continue;
+      }
+      prefix = match[2];
+      value = `${match[1] === '-' ? -parseInt(match[3]) : parseInt(match[3])}`;
+    } else {
+      const match = utility.className.match(COLOR_PATTERN);
+      if (!match || !SHADES.includes(parseInt(match[3]))) {
+        continue;
+      }
+      prefix = match[1];
+      value = `${match[2]}-${parseInt(match[3])}`;
+    }
+    if (!families.has(prefix)) {
+      families.set(prefix, { prefix, utilities: new Map() });
+    }
+    families.get(prefix)!.utilities.set(value, utility);
+  }
+  return [...families.values()]
+    .filter(family => family.utilities.size > 1)
+    .sort((a, b) => a.prefix.localeCompare(b.prefix));
+}
+
+/**
+ * Describes the steps of a family for error messages, e.g. "0 to 12, 14, 16"
+ */
+function describeSteps(steps: number[]): string {
+  const ranges: string[] = [];
+  for (let i = 0; i < steps.length; i++) {
+    let end = i;
+    while (end + 1 < steps.length && steps[end + 1] === steps[end] + 1) {
+      end++;
+    }
+    if (end - i >= 2) {
+      ranges.push(`${steps[i]} to ${steps[end]}`);
+      i = end;
+    } else {
+      ranges.push(`${steps[i]}`);
+    }
+  }
+  return ranges.join(', ');
+}
+
+/**
+ * Throws if a generated table would clash with a utility constant of the class
+ */
+function checkTableName(utilities: ClassifiedUtility[], tableName: string): void {
+  if (utilities.some(utility => utility.constantName === tableName)) {
+    throw new Error(`A utility constant clashes with the scale table ${tableName}`);
+  }
+}
+
+/**
+ * Generates the step accessors of the spacing and sizing utilities of a class, e.g.
+ * p(int) returning "p-4" for 4, and the color accessors of its color utilities, e.g.
+ * color(TwPalette, int) returning "bg-blue-500" for BLUE and 500. Both look the constant up
+ * in a table built here, so they return the same String instances as the constants.
+ */
+export function generateScaleAccessors(lines: string[], utilities: ClassifiedUtility[], indent: string): void {
+  const stepFamilies = collectFamilies(utilities, 'step');
+  const colorFamilies = collectFamilies(utilities, 'color');
+
+  for (const family of stepFamilies) {
+    const steps = [...family.utilities.keys()].map(step => parseInt(step)).sort((a, b) => a - b);
+    const min = steps[0];
+    const max = steps[steps.length - 1];
+    const method = toMethodName(family.prefix);
+    const table = `${family.prefix.replace(/-/g, '_').toUpperCase()}_STEPS`;
+    checkTableName(utilities, table);
+
+    function constantOf(step: number): string | undefined {
+      return family.utilities.get(`${step}`)?.constantName;
+    }
+    const example = steps.includes(4) ? 4 : steps[steps.length - 1];
+    const index = min === 0 ? 'step' : `step - ${min > 0 ? min : `(${min})`}`;
+
+    lines.push(`${indent}private static final String[] ${table} = {`);
+    const entries: string[] = [];
+    for (let step = min; step <= max; step++) {
+      entries.push(constantOf(step) ?? 'null');
+    }
+    lines.push(...formatEntries(entries, indent + '        '));
+    lines.push(`${indent}};`);
+    lines.push('');
+    lines.push(`${indent}/**`);
+    lines.push(`${indent} * Returns the {@code ${family.prefix}-} utility of the given step, e.g. {@code ${method}(${example})} returns`);
+    lines.push(`${indent} * {@link #${constantOf(example)}}.`);
+    lines.push(`${indent} *`);
+    lines.push(`${indent} * @throws IllegalArgumentException if there is no such utility; steps are ${describeSteps(steps)}`);
+    lines.push(`${indent} */`);
+    lines.push(`${indent}public static String ${method}(int step) {`);
+    lines.push(`${indent}    String className = step >= ${min} && step <= ${max} ? ${table}[${index}] : null;`);
+    lines.push(`${indent}    if (className == null) {`);
+    lines.push(`${indent}        throw new IllegalArgumentException("No ${family.prefix}- utility for step " + step`);
+    lines.push(`${indent}            + ", steps are ${describeSteps(steps)}");`);
+    lines.push(`${indent}    }`);
+    lines.push(`${indent}    return className;`);
+    lines.push(`${indent}}`);
+    lines.push('');
+  }
+
+  for (const family of colorFamilies) {
+    // A class usually has one color family, e.g. the bg- colors of Background
+    const method = colorFamilies.length === 1 ? 'color' : `${toMethodName(family.prefix)}Color`;
+    const table = `${method.replace(/([A-Z])/g, '_$1').toUpperCase()}_SHADES`;
+    checkTableName(utilities, table);
+    const example = family.utilities.has('blue-500') ? 'blue-500' : [...family.utilities.keys()][0];
+    const exampleUtility = family.utilities.get(example)!;
+    const exampleColor = example.substring(0, example.lastIndexOf('-'));
+    const exampleShade = example.substring(example.lastIndexOf('-') + 1);
+
+    lines.push(`${indent}/** Constants by {@link ${PALETTE_CLASS}} ordinal and shade index, null rows for colors without any */`);
+    lines.push(`${indent}private static final String[][] ${table} = {`);
+    PALETTE.forEach((color, colorIndex) => {
+      const separator = colorIndex < PALETTE.length - 1 ? ',' : '';
+      const shades = SHADES.map(shade => family.utilities.get(`${color}-${shade}`)?.constantName ?? 'null');
+      const row = shades.every(shade => shade === 'null') ? 'null' : `{${shades.join(', ')}}`;
+      lines.push(`${indent}    ${row}${separator} // ${color}`);
+    });
+    lines.push(`${indent}};`);
+    lines.push('');
+    lines.push(`${indent}/**`);
+    lines.push(`${indent} * Returns the {@code ${family.prefix}-} utility of the given color and shade, e.g.`);
+    lines.push(`${indent} * {@code ${method}(${PALETTE_CLASS}.${exampleColor.toUpperCase()}, ${exampleShade})} returns {@link #${exampleUtility.constantName}}.`);
+    lines.push(`${indent} *`);
+    lines.push(`${indent} * @throws IllegalArgumentException if there is no such utility`);
+    lines.push(`${indent} * @throws NullPointerException if the color is null`);
+    lines.push(`${indent} */`);
+    lines.push(`${indent}public static String ${method}(${PALETTE_CLASS} color, int shade) {`);
+    lines.push(`${indent}    String[] shades = ${table}[Objects.requireNonNull(color, "color").ordinal()];`);
+    lines.push(`${indent}    int index = ${PALETTE_CLASS}.shadeIndex(shade);`);
+    lines.push(`${indent}    String className = shades != null && index >= 0 ? shades[index] : null;`);
+    lines.push(`${indent}    if (className == null) {`);
+    lines.push(`${indent}        throw new IllegalArgumentException("No ${family.prefix}- utility for " + color + "-" + shade);`);
+    lines.push(`${indent}    }`);
+    lines.push(`${indent}    return className;`);
+    lines.push(`${indent}}`);
+    lines.push('');
+  }
+}
+
+/**
+ * Formats table entries as comma-separated rows of at most 100 columns
+ */
+function formatEntries(values: string[], indent: string): string[] {
+  const rows: string[] = [];
+  let row = '';
+  values.forEach((value, index) => {
+    const item = `${value}${index < values.length - 1 ? ',' : ''}`;
+    if (row.length > 0 && indent.length + row.length + 1 + item.length > 100) {
+      rows.push(indent + row);
+      row = '';
+    }
+    row += (row.length > 0 ? ' ' : '') + item;
+  });
+  if (row.length > 0) {
+    rows.push(indent + row);
+  }
+  return rows;
+}
+
+/**
+ * Generates the enum of the Tailwind colors taken by the color accessors
+ */
+export function generatePaletteClass(config: GeneratorConfig): string {
+  const lines: string[] = [];
+  const name = PALETTE_CLASS;
+  const tw = config.java.className;
+
+  lines.push(`package ${config.java.package};`);
+  lines.push('');
+  lines.push('/**');
+  lines.push(' * The Tailwind colors with shades, for the color accessors of the category classes:');
+  lines.push(' *');
+  lines.push(' * <pre>{@code');
+  lines.push(` * div.addClassName(${tw}.Background.color(${name}.BLUE, 500)); // "bg-blue-500"`);
+  lines.push(' * }</pre>');
+  lines.push(' * <p>');
+  lines.push(` * Shades are ${SHADES.join(', ')}. The accessors only return generated utilities, so they throw`);
+  lines.push(' * for combinations that were not extracted.');
+  lines.push(' */');
+  lines.push(`public enum ${name} {`);
+  lines.push('');
+  PALETTE.forEach((color, index) => {
+    lines.push(`    ${color.toUpperCase()}("${color}")${index < PALETTE.length - 1 ? ',' : ';'}`);
+  });
+  lines.push('');
+  lines.push('    private final String colorName;');
+  lines.push('');
+  lines.push(`    ${name}(String colorName) {`);
+  lines.push('        this.colorName = colorName;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push(`     * Returns the index of a shade in {@code [${SHADES.join(', ')}]}, or -1 if it is not one of them.`);
+  lines.push('     */');
+  lines.push('    static int shadeIndex(int shade) {');
+  lines.push(`        if (shade == ${SHADES[0]}) {`);
+  lines.push('            return 0;');
+  lines.push('        }');
+  lines.push(`        if (shade == ${SHADES[SHADES.length - 1]}) {`);
+  lines.push(`            return ${SHADES.length - 1};`);
+  lines.push('        }');
+  lines.push('        return shade >= 100 && shade <= 900 && shade % 100 == 0 ? shade / 100 : -1;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /** Color name as used in class names, e.g. {@code "blue"} */');
+  lines.push('    @Override');
+  lines.push('    public String toString() {');
+  lines.push('        return colorName;');
+  lines.push('    }');
+  lines.push('}');
+
+  return lines.join('\n');
+}
@@ -0,0 +1,246 @@
+import { GeneratorConfig } from './config';
+import { MERGE_CLASS } from './merge';
+import { RESULT_CACHE_CLASS } from './resultcache';
+import { VARIANT_CLASS, VariantDefinition } from './variants';
+
+/**
+ * Name of the generated style builder class
+ */
+export const STYLE_CLASS = 'TwStyle';
+
+/**
+ * Generates an immutable style builder with memoized, conflict-resolved results
+ */
+export function generateStyleClass(variants: VariantDefinition[], config: GeneratorConfig): string {
+  const lines: string[] = [];
+  const name = STYLE_CLASS;
+  const tw = config.java.className;
+
+  // Example constants, nested or flat
+  function ex(nested: string, flat: string): string {
+    return config.grouping?.enabled ? `${tw}.${nested}` : `${tw}.${flat}`;
+  }
+
+  lines.push(`package ${config.java.package};`);
+  lines.push('');
+  lines.push('import java.io.Serializable;');
+  lines.push('import java.util.Arrays;');
+  lines.push('import java.util.List;');
+  lines.push('');
+  lines.push('/**');
+  lines.push(' * An immutable component style: utilities, utilities grouped under stacked variants and');
+  lines.push(' * conditional parts, resolved into one class list by {@link #build()}.');
+  lines.push(' * <p>');
+  lines.push(' * Every method returns a new instance, so styles can be kept in constants and extended per');
+  lines.push(' * component. Results are memoized in a bounded, lock-free cache keyed on the structure of the');
+  lines.push(' * style, so equal styles built by any number of threads share one class String and one class');
+  lines.push(' * list while cached.');
+  lines.push(' *');
+  lines.push(' * <pre>{@code');
+  lines.push(` * ${name} button = ${name}.of(${ex('Spacing.Padding.X_4', 'PX_4')}, ${ex('Background.BLUE_600', 'BG_BLUE_600')})`);
+  lines.push(` *     .hover(${ex('Background.BLUE_700', 'BG_BLUE_700')})`);
+  lines.push(` *     .dark(${name}.of(${ex('Background.GRAY_800', 'BG_GRAY_800')}).md(${name}.of().hover(${ex('Background.GRAY_700', 'BG_GRAY_700')})))`);
+  lines.push(` *     .when(disabled, ${ex('Effects.Opacity.OPACITY_50', 'OPACITY_50')});`);
+  lines.push(' * component.setClassName(button.build());');
+  lines.push(' * // "px-4 bg-blue-600 hover:bg-blue-700 dark:bg-gray-800 dark:md:hover:bg-gray-700 opacity-50"');
+  lines.push(' * }</pre>');
+  lines.push(' * <p>');
+  lines.push(` * Any other variant or stack of variants is applied with {@link #variant(${VARIANT_CLASS}, String...)}.`);
+  lines.push(' * <p>');
+  lines.push(` * Conflicts are resolved like {@link ${tw}#merge(String...)}: of the utilities in the same conflict`);
+  lines.push(' * group and variants, the last one wins.');
+  lines.push(' */');
+  lines.push(`public final class ${name} implements Serializable {`);
+  lines.push('');
+  lines.push('    private static final long serialVersionUID = 1L;');
+  lines.push('');
+  lines.push('    /** Maximum number of memoized results; results not used recently are evicted */');
+  lines.push('    public static final int CACHE_SIZE = 4096;');
+  lines.push('');
+  lines.push(`    private static final ${name} EMPTY = new ${name}(new String[0]);`);
+  lines.push('');
+  lines.push(`    private static final ${RESULT_CACHE_CLASS}<${name}, Result> CACHE = new ${RESULT_CACHE_CLASS}<>(CACHE_SIZE);`);
+  lines.push('');
+  lines.push('    /** Classes with their variant prefixes applied, in the order they were added */');
+  lines.push('    private final String[] classes;');
+  lines.push('');
+  lines.push('    private final int hash;');
+  lines.push('');
+  lines.push('    private transient volatile Result result;');
+  lines.push('');
+  lines.push(`    private ${name}(String[] classes) {`);
+  lines.push('        this.classes = classes;');
+  lines.push('        this.hash = Arrays.hashCode(classes);');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns a style with the given classes.');
+  lines.push('     * <p>');
+  lines.push('     * Each argument may contain several space-separated classes. {@code null} arguments are');
+  lines.push('     * ignored.');
+  lines.push('     */');
+  lines.push(`    public static ${name} of(String... classes) {`);
+  lines.push('        return EMPTY.with(classes);');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns this style with the given classes added.');
+  lines.push('     */');
+  lines.push(`    public ${name} with(String... classes) {`);
+  lines.push('        return append(null, classes);');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns this style with the classes of {@code style} added.');
+  lines.push('     */');
+  lines.push(`    public ${name} with(${name} style) {`);
+  lines.push('        return append(null, style.classes);');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns this style with the given classes added if {@code condition} is true, otherwise');
+  lines.push('     * this style.');
+  lines.push('     */');
+  lines.push(`    public ${name} when(boolean condition, String... classes) {`);
+  lines.push('        return condition ? with(classes) : this;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns this style with the classes of {@code style} added if {@code condition} is true,');
+  lines.push('     * otherwise this style.');
+  lines.push('     */');
+  lines.push(`    public ${name} when(boolean condition, ${name} style) {`);
+  lines.push('        return condition ? with(style) : this;');
+  lines.push('    }');
+  lines.push('');
+
+  lines.push('    /**');
+  lines.push('     * Returns this style with the given classes added under {@code variant}, which may be a stack');
+  lines.push('     * or any other variant not covered by a method of its own.');
+  lines.push('     */');
+  lines.push(`    public ${name} variant(${VARIANT_CLASS} variant, String... classes) {`);
+  lines.push('        return append(variant, classes);');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns this style with the classes of {@code style} added under {@code variant}, in front of');
+  lines.push('     * their own variants.');
+  lines.push('     */');
+  lines.push(`    public ${name} variant(${VARIANT_CLASS} variant, ${name} style) {`);
+  lines.push('        return append(variant, style.classes);');
+  lines.push('    }');
+  lines.push('');
+
+  for (const variant of variants) {
+    lines.push(`    /** ${variant.description} - adds the classes prefixed with {@code ${variant.name}:} */`);
+    lines.push(`    public ${name} ${variant.methodName}(String... classes) {`);
+    lines.push(`        return append(${VARIANT_CLASS}.${variant.constantName}, classes);`);
+    lines.push('    }');
+    lines.push('');
+    lines.push(`    /** ${variant.description} - adds the classes of {@code style} with {@code ${variant.name}:} in front of their variants */`);
+    lines.push(`    public ${name} ${variant.methodName}(${name} style) {`);
+    lines.push(`        return append(${VARIANT_CLASS}.${variant.constantName}, style.classes);`);
+    lines.push('    }');
+    lines.push('');
+  }
+
+  lines.push('    /**');
+  lines.push('     * Returns the class attribute value of this style: the classes not overridden by a later');
+  lines.push('     * class, in the order they were added. Equal styles return the same instance.');
+  lines.push('     */');
+  lines.push('    public String build() {');
+  lines.push('        return result().className;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the classes of {@link #build()} as an immutable list. Equal styles return the same');
+  lines.push('     * instance.');
+  lines.push('     */');
+  lines.push('    public List<String> toList() {');
+  lines.push('        return result().classes;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    private Result result() {');
+  lines.push('        Result resolved = result;');
+  lines.push('        if (resolved != null) {');
+  lines.push('            return resolved;');
+  lines.push('        }');
+  lines.push('');
+  lines.push('        resolved = CACHE.get(this);');
+  lines.push('        if (resolved == null) {');
+  lines.push('            // Cached here, so not in the merge cache as well');
+  lines.push(`            resolved = CACHE.put(this, new Result(${MERGE_CLASS}.mergeUncached(String.join(" ", classes))));`);
+  lines.push('        }');
+  lines.push('        result = resolved;');
+  lines.push('        return resolved;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns a style with the whitespace-separated classes of {@code classLists} added, prefixed');
+  lines.push('     * with the given variant unless it is {@code null}.');
+  lines.push('     */');
+  lines.push(`    private ${name} append(${VARIANT_CLASS} variant, String[] classLists) {`);
+  lines.push('        String[] added = Arrays.copyOf(classes, classes.length + classLists.length);');
+  lines.push('        int size = classes.length;');
+  lines.push('        for (String classList : classLists) {');
+  lines.push('            if (classList == null) {');
+  lines.push('                continue;');
+  lines.push('            }');
+  lines.push('            int start = -1;');
+  lines.push('            for (int i = 0; i <= classList.length(); i++) {');
+  lines.push('                boolean whitespace = i == classList.length() || Character.isWhitespace(classList.charAt(i));');
+  lines.push('                if (whitespace && start >= 0) {');
+  lines.push('                    // A single class, the usual case, is added without copying');
+  lines.push('                    String token = start == 0 && i == classList.length() ? classList : classList.substring(start, i);');
+  lines.push('                    if (size == added.length) {');
+  lines.push('                        added = Arrays.copyOf(added, size * 2);');
+  lines.push('                    }');
+  lines.push('                    added[size++] = variant == null ? token : variant.apply(token);');
+  lines.push('                    start = -1;');
+  lines.push('                } else if (!whitespace && start < 0) {');
+  lines.push('                    start = i;');
+  lines.push('                }');
+  lines.push('            }');
+  lines.push('        }');
+  lines.push('');
+  lines.push('        if (size == classes.length) {');
+  lines.push('            return this;');
+  lines.push('        }');
+  lines.push(`        return new ${name}(size == added.length ? added : Arrays.copyOf(added, size));`);
+  lines.push('    }');
+  lines.push('');
+  lines.push('    @Override');
+  lines.push('    public boolean equals(Object obj) {');
+  lines.push('        if (this == obj) {');
+  lines.push('            return true;');
+  lines.push('        }');
+  lines.push(`        return obj instanceof ${name} && hash == ((${name}) obj).hash && Arrays.equals(classes, ((${name}) obj).classes);`);
+  lines.push('    }');
+  lines.push('');
+  lines.push('    @Override');
+  lines.push('    public int hashCode() {');
+  lines.push('        return hash;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    @Override');
+  lines.push('    public String toString() {');
+  lines.push('        return "[" + String.join(" ", classes) + "]";');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * The resolved class String and list of a style, shared by all equal styles');
+  lines.push('     */');
+  lines.push('    private static final class Result {');
+  lines.push('');
+  lines.push('        final String className;');
+  lines.push('        final List<String> classes;');
+  lines.push('');
+  lines.push('        Result(String className) {');
+  lines.push('            this.className = className;');
+  lines.push('            this.classes = className.isEmpty() ? List.of() : List.of(className.split(" "));');
+  lines.push('        }');
+  lines.push('    }');
+  lines.push('}');
+
+  return lines.join('\n');
+}
@@ -0,0 +1,524 @@
+import { GeneratorConfig } from './config';
+import { REGISTRY_CLASS, formatNumbers } from './registry';
+import { CLASS_SET_CLASS } from './classset';
+import { VARIANTS_CLASS, VARIANT_CLASS, VariantDefinition } from './variants';
+
+/**
+ * CSS of every utility as captured from the Tailwind build by the extract script
+ */
+export interface UtilityCss {
+  preamble: string;                       // Everything outside the utilities layer (theme, base, keyframes, ...)
+  rules: { [className: string]: string }; // Rules of each utility, with its selector replaced by "&"
+  order: string[];                        // Utilities in stylesheet order
+}
+
+/**
+ * How a variant changes the rules of a utility
+ */
+interface VariantCss {
+  selector?: string;  // Template applied to the selector so far ("&"), e.g. "&:hover"
+  atRule?: string;    // At-rule wrapped around the rules, e.g. "@media (hover:hover)"
+}
+
+/**
+ * Name of the generated stylesheet class
+ */
+export const STYLESHEET_CLASS = 'TwStylesheet';
+
+/**
+ * File the extract script writes the captured utility CSS to
+ */
+export const UTILITY_CSS_FILE = 'utility-css.json';
+
+/**
+ * Selectors of the Tailwind v4 pseudo-class variants, also used by their group- and peer- forms
+ */
+const PSEUDO_CLASS_SELECTORS: { [name: string]: string } = {
+  'first': ':first-child', 'last': ':last-child', 'only': ':only-child', 'odd': ':nth-child(odd)',
+  'even': ':nth-child(even)', 'first-of-type': ':first-of-type', 'last-of-type': ':last-of-type',
+  'only-of-type': ':only-of-type', 'visited': ':visited', 'target': ':target',
+  'open': ':is([open], :popover-open, :open)', 'default': ':default', 'checked': ':checked',
+  'indeterminate': ':indeterminate', 'placeholder-shown': ':placeholder-shown', 'autofill': ':autofill',
+  'optional': ':optional', 'required': ':required', 'valid': ':valid', 'invalid': ':invalid',
+  'user-valid': ':user-valid', 'user-invalid': ':user-invalid', 'in-range': ':in-range',
+  'out-of-range': ':out-of-range', 'read-only': ':read-only', 'empty': ':empty',
+  'focus-within': ':focus-within', 'hover': ':hover', 'focus': ':focus', 'focus-visible': ':focus-visible',
+  'active': ':active', 'enabled': ':enabled', 'disabled': ':disabled', 'inert': ':is([inert], [inert] *)'
+};
+
+/** Selector templates of the Tailwind v4 pseudo-element variants */
+const PSEUDO_ELEMENT_SELECTORS: { [name: string]: string } = {
+  'first-letter': '&::first-letter', 'first-line': '&::first-line', 'marker': '& *::marker, &::marker',
+  'selection': '& *::selection, &::selection', 'file': '&::file-selector-button', 'placeholder': '&::placeholder',
+  'backdrop': '&::backdrop', 'details-content': '&::details-content', 'before': '&::before', 'after': '&::after'
+};
+
+/** At-rules of the Tailwind v4 media and environment variants */
+const MEDIA_AT_RULES: { [name: string]: string } = {
+  'motion-safe': '@media (prefers-reduced-motion:no-preference)',
+  'motion-reduce': '@media (prefers-reduced-motion:reduce)',
+  'contrast-more': '@media (prefers-contrast:more)',
+  'contrast-less': '@media (prefers-contrast:less)',
+  'portrait': '@media (orientation:portrait)',
+  'landscape': '@media (orientation:landscape)',
+  'dark': '@media (prefers-color-scheme:dark)',
+  'starting': '@starting-style',
+  'print': '@media print',
+  'forced-colors': '@media (forced-colors:active)',
+  'inverted-colors': '@media (inverted-colors:inverted)',
+  'pointer-none': '@media (pointer:none)',
+  'pointer-coarse': '@media (pointer:coarse)',
+  'pointer-fine': '@media (pointer:fine)',
+  'any-pointer-none': '@media (any-pointer:none)',
+  'any-pointer-coarse': '@media (any-pointer:coarse)',
+  'any-pointer-fine': '@media (any-pointer:fine)',
+  'noscript': '@media (scripting:none)'
+};
+
+/** Selector templates of the writing direction variants */
+const DIRECTION_SELECTORS: { [name: string]: string } = {
+  ltr: '&:where(:dir(ltr), [dir="ltr"], [dir="ltr"] *)',
+  rtl: '&:where(:dir(rtl), [dir="rtl"], [dir="rtl"] *)'
+};
+
+/** Widths of the Tailwind v4 container sizes of the @ variants */
+const CONTAINER_WIDTHS: { [size: string]: string } = {
+  '3xs': '16rem', '2xs': '18rem', 'xs': '20rem', 'sm': '24rem', 'md': '28rem', 'lg': '32rem',
+  'xl': '36rem', '2xl': '42rem', '3xl': '48rem', '4xl': '56rem', '5xl': '64rem', '6xl': '72rem', '7xl': '80rem'
+};
+
+/**
+ * Returns the selector a state variant adds to the group or peer it refers to, e.g. ":hover" for
+ * "hover" or "[aria-busy=\"true\"]" for "aria-busy"
+ */
+function stateSelector(name: string): string | undefined {
+  if (name.startsWith('aria-')) {
+    return `[${name}="true"]`;
+  }
+  return PSEUDO_CLASS_SELECTORS[name];
+}
+
+/**
+ * Returns the CSS of a Tailwind v4 core variant, or undefined for other variants, e.g. those of
+ * plugins, whose classes the stylesheet skips
+ */
+function getVariantCss(name: string, config: GeneratorConfig): VariantCss | undefined {
+  const hover = '@media (hover:hover)';
+  if (config.breakpoints[name]) {
+    return { atRule: `@media (width>=${config.breakpoints[name]})` };
+  }
+  if (name.startsWith('max-') && config.breakpoints[name.substring(4)]) {
+    return { atRule: `@media (width<${config.breakpoints[name.substring(4)]})` };
+  }
+  if (name.startsWith('@max-') && CONTAINER_WIDTHS[name.substring(5)]) {
+    return { atRule: `@container (width<${CONTAINER_WIDTHS[name.substring(5)]})` };
+  }
+  if (name.startsWith('@') && CONTAINER_WIDTHS[name.substring(1)]) {
+    return { atRule: `@container (width>=${CONTAINER_WIDTHS[name.substring(1)]})` };
+  }
+  for (const marker of ['group', 'peer']) {
+    const state = name.startsWith(`${marker}-`) ? name.substring(marker.length + 1) : undefined;
+    const selector = state !== undefined ? stateSelector(state) : undefined;
+    if (selector) {
+      const relation = marker === 'group' ? ' *' : ' ~ *';
+      return { selector: `&:is(:where(.${marker})${selector}${relation})`, atRule: state === 'hover' ? hover : undefined };
+    }
+  }
+  if (stateSelector(name)) {
+    return { selector: `&${stateSelector(name)}`, atRule: name === 'hover' ? hover : undefined };
+  }
+  if (PSEUDO_ELEMENT_SELECTORS[name]) {
+    return { selector: PSEUDO_ELEMENT_SELECTORS[name] };
+  }
+  if (DIRECTION_SELECTORS[name]) {
+    return { selector: DIRECTION_SELECTORS[name] };
+  }
+  if (MEDIA_AT_RULES[name]) {
+    return { atRule: MEDIA_AT_RULES[name] };
+  }
+  return undefined;
+}
+
+/**
+ * Returns the position of a state in the pseudo-class order, aria- states following the pseudo-classes
+ */
+function stateRank(name: string): number {
+  return name.startsWith('aria-') ? 100 : Object.keys(PSEUDO_CLASS_SELECTORS).indexOf(name);
+}
+
+/**
+ * Returns a sort key following Tailwind v4's variant order, which decides the order of the rules:
+ * group- and peer- variants, pseudo-elements, pseudo-classes and aria, user preferences,
+ * breakpoints, container queries, then the remaining environment variants such as dark mode
+ */
+function variantRank(name: string, config: GeneratorConfig): number {
+  const media = Object.keys(MEDIA_AT_RULES);
+  const breakpoints = Object.keys(config.breakpoints);
+  const containers = Object.keys(CONTAINER_WIDTHS);
+
+  if (name.startsWith('group-') || name.startsWith('peer-')) {
+    return (name.startsWith('group-') ? 0 : 1000) + stateRank(name.substring(name.indexOf('-') + 1));
+  }
+  if (PSEUDO_ELEMENT_SELECTORS[name]) {
+    return 2000 + Object.keys(PSEUDO_ELEMENT_SELECTORS).indexOf(name);
+  }
+  if (stateSelector(name)) {
+    return 3000 + stateRank(name);
+  }
+  // Preferences come before the breakpoints, the other media variants after the container queries
+  if (MEDIA_AT_RULES[name] && media.indexOf(name) <= media.indexOf('contrast-less')) {
+    return 4000 + media.indexOf(name);
+  }
+  if (name.startsWith('max-')) {
+    return 5000 + breakpoints.indexOf(name.substring(4));
+  }
+  if (config.breakpoints[name]) {
+    return 5100 + breakpoints.indexOf(name);
+  }
+  if (name.startsWith('@max-')) {
+    return 5200 + containers.indexOf(name.substring(5));
+  }
+  if (name.startsWith('@')) {
+    return 5300 + containers.indexOf(name.substring(1));
+  }
+  // Orientation, then writing direction, then dark mode and the rest
+  if (DIRECTION_SELECTORS[name]) {
+    return 6000 + Object.keys(DIRECTION_SELECTORS).indexOf(name);
+  }
+  return (media.indexOf(name) < media.indexOf('dark') ? 5900 : 6100) + media.indexOf(name);
+}
+
+/**
+ * Maximum length of a single string literal, well below the class file limit of 65535 bytes
+ */
+const MAX_LITERAL_LENGTH = 16000;
+
+/**
+ * Converts a string to a Java string literal
+ */
+function javaString(value: string | undefined): string {
+  if (value === undefined) {
+    return 'null';
+  }
+
+  let literal = '"';
+  for (let i = 0; i < value.length; i++) {
+    const char = value.charAt(i);
+    const code = value.charCodeAt(i);
+    if (char === '\\' || char === '"') {
+      literal += '\\' + char;
+    } else if (code < 0x20 || code > 0x7e) {
+      literal += '\\u' + code.toString(16).padStart(4, '0');
+    } else {
+      literal += char;
+    }
+  }
+  return literal + '"';
+}
+
+/**
+ * Splits a string into parts that each fit into a single string literal
+ */
+function splitLiteral(value: string): string[] {
+  const parts: string[] = [];
+  for (let start = 0; start < value.length;) {
+    let end = Math.min(start + MAX_LITERAL_LENGTH, value.length);
+    // Do not split surrogate pairs
+    if (end < value.length && /[\ud800-\udbff]/.test(value.charAt(end - 1))) {
+      end--;
+    }
+    parts.push(value.substring(start, end));
+    start = end;
+  }
+  return parts;
+}
+
+/**
+ * Generates the class that builds minimal stylesheets from the captured utility CSS. It is only
+ * generated when CSS was captured, so it never has to fail for lack of data. The variant tables are
+ * indexed like the generated variant index, so every precomputed variant with known CSS is supported.
+ */
+export function generateStylesheetClass(
+  classNames: string[],
+  css: UtilityCss,
+  variants: VariantDefinition[],
+  config: GeneratorConfig
+): string {
+  const lines: string[] = [];
+  const ids = new Map(classNames.map((className, index) => [className, index]));
+  const order = css.order.filter(className => ids.has(className)).map(className => ids.get(className)!);
+
+  // Variants with known CSS, in Tailwind's variant order; the others get rank -1
+  const variantCss = variants.map(variant => getVariantCss(variant.name, config));
+  const supported = variants
+    .map((variant, index) => index)
+    .filter(index => variantCss[index] !== undefined)
+    .sort((a, b) => variantRank(variants[a].name, config) - variantRank(variants[b].name, config) ||
+      variants[a].name.localeCompare(variants[b].name));
+  const ranks = variants.map((variant, index) => supported.indexOf(index));
+
+  lines.push(`package ${config.java.package};`);
+  lines.push('');
+  lines.push('import java.util.ArrayList;');
+  lines.push('import java.util.Arrays;');
+  lines.push('import java.util.Collections;');
+  lines.push('import java.util.HashSet;');
+  lines.push('import java.util.List;');
+  lines.push('import java.util.Set;');
+  lines.push('');
+  lines.push('/**');
+  lines.push(' * Builds stylesheets containing only the Tailwind CSS utilities an application uses.');
+  lines.push(' * <p>');
+  lines.push(' * The CSS of every utility is captured from the Tailwind build by the extract script, so the');
+  lines.push(' * full stylesheet does not have to be shipped. Given the class names actually used, the');
+  lines.push(' * result contains the theme and base styles followed by the rules of just those utilities, in');
+  lines.push(' * the same order as in the Tailwind build. Variants are applied to the captured rules.');
+  lines.push(' *');
+  lines.push(' * <pre>{@code');
+  lines.push(` * String css = ${STYLESHEET_CLASS}.css("flex", "p-4", "md:p-6", "group-hover:bg-blue-600");`);
+  lines.push(' * }</pre>');
+  lines.push(' * <p>');
+  lines.push(` * Variants are looked up in the variant index of {@link ${VARIANT_CLASS}}; ${supported.length} of its ${variants.length} variants`);
+  lines.push(' * are Tailwind v4 core variants whose CSS is known. Class names that are not generated utilities,');
+  lines.push(' * such as arbitrary values, and class names with other variants are skipped. This class is only');
+  lines.push(' * generated when the extract script captured the utility CSS.');
+  lines.push(' */');
+  lines.push(`public final class ${STYLESHEET_CLASS} {`);
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Selector template of each variant, applied to the selector so far ({@code &}), or null if');
+  lines.push(`     * the variant only adds an at-rule; indexed by variant index, see {@link ${VARIANT_CLASS}}`);
+  lines.push('     */');
+  lines.push('    private static final String[] VARIANT_SELECTORS = {');
+  variants.forEach((variant, index) => {
+    const separator = index < variants.length - 1 ? ',' : '';
+    lines.push(`        ${javaString(variantCss[index]?.selector)}${separator} // ${variant.name}`);
+  });
+  lines.push('    };');
+  lines.push('');
+  lines.push('    /** At-rule wrapped around the rules of each variant, or null; indexed by variant index */');
+  lines.push('    private static final String[] VARIANT_AT_RULES = {');
+  variants.forEach((variant, index) => {
+    const separator = index < variants.length - 1 ? ',' : '';
+    lines.push(`        ${javaString(variantCss[index]?.atRule)}${separator} // ${variant.name}`);
+  });
+  lines.push('    };');
+  lines.push('');
+  lines.push('    /** Position of each variant in Tailwind\'s variant order, or -1 if it is not supported; indexed by variant index */');
+  lines.push('    private static final short[] VARIANT_RANKS = {');
+  lines.push(...formatNumbers(ranks, '        '));
+  lines.push('    };');
+  lines.push('');
+  lines.push('    /** Variant indexes of the supported variants, in Tailwind\'s variant order */');
+  lines.push('    private static final short[] VARIANT_ORDER = {');
+  lines.push(...formatNumbers(supported, '        '));
+  lines.push('    };');
+  lines.push('');
+  lines.push('    /** Theme, base styles and everything else outside the utilities layer, split into literals */');
+  const parts = splitLiteral(css.preamble);
+  lines.push('    private static final String[] PREAMBLE = {');
+  parts.forEach((part, index) => {
+    const separator = index < parts.length - 1 ? ',' : '';
+    lines.push(`        ${javaString(part)}${separator}`);
+  });
+  lines.push('    };');
+  lines.push('');
+  lines.push('    /** Rules of each utility with its selector replaced by {@code &}, indexed by utility ID */');
+  lines.push('    private static final String[] RULES = {');
+  classNames.forEach((className, index) => {
+    const separator = index < classNames.length - 1 ? ',' : '';
+    lines.push(`        ${javaString(css.rules[className])}${separator}`);
+  });
+  lines.push('    };');
+  lines.push('');
+  lines.push('    /** Utility IDs in stylesheet order */');
+  if (order.length > 0) {
+    lines.push('    private static final short[] ORDER = {');
+    lines.push(...formatNumbers(order, '        '));
+    lines.push('    };');
+  } else {
+    lines.push('    private static final short[] ORDER = {};');
+  }
+  lines.push('');
+  lines.push('    /** Position of each utility in {@link #ORDER}, indexed by utility ID */');
+  lines.push(`    private static final int[] RANK = new int[${REGISTRY_CLASS}.COUNT];`);
+  lines.push('');
+  lines.push('    /** Words of a variant mask, one bit per supported variant by rank */');
+  lines.push('    private static final int MASK_WORDS = (VARIANT_ORDER.length + 63) / 64;');
+  lines.push('');
+  lines.push('    private static final int[] NO_VARIANTS = {};');
+  lines.push('');
+  lines.push('    static {');
+  lines.push('        Arrays.fill(RANK, Integer.MAX_VALUE);');
+  lines.push('        for (int i = 0; i < ORDER.length; i++) {');
+  lines.push('            RANK[ORDER[i]] = i;');
+  lines.push('        }');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns a stylesheet for the given class names.');
+  lines.push('     */');
+  lines.push('    public static String css(String... classNames) {');
+  lines.push('        return css(Arrays.asList(classNames));');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns a stylesheet for the given class names.');
+  lines.push('     * <p>');
+  lines.push('     * Class names may be prefixed with variants, e.g. {@code md:group-hover:bg-blue-600}.');
+  lines.push('     */');
+  lines.push('    public static String css(Iterable<String> classNames) {');
+  lines.push('        List<Entry> entries = new ArrayList<>();');
+  lines.push('        Set<String> seen = new HashSet<>();');
+  lines.push('        for (String className : classNames) {');
+  lines.push('            if (seen.add(className)) {');
+  lines.push('                Entry entry = entry(className);');
+  lines.push('                if (entry != null) {');
+  lines.push('                    entries.add(entry);');
+  lines.push('                }');
+  lines.push('            }');
+  lines.push('        }');
+  lines.push('        return write(entries);');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns a stylesheet for the given utilities.');
+  lines.push('     */');
+  lines.push(`    public static String css(${CLASS_SET_CLASS} utilities) {`);
+  lines.push('        List<Entry> entries = new ArrayList<>(utilities.size());');
+  lines.push('        for (int id = utilities.nextId(0); id >= 0; id = utilities.nextId(id + 1)) {');
+  lines.push('            if (RULES[id] != null) {');
+  lines.push(`                entries.add(new Entry(${REGISTRY_CLASS}.className(id), id, NO_VARIANTS));`);
+  lines.push('            }');
+  lines.push('        }');
+  lines.push('        return write(entries);');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Escapes a class name for use in a CSS class selector.');
+  lines.push('     */');
+  lines.push('    static String escape(String className) {');
+  lines.push('        StringBuilder escaped = new StringBuilder(className.length() + 8);');
+  lines.push('        for (int i = 0; i < className.length(); i++) {');
+  lines.push('            char c = className.charAt(i);');
+  lines.push('            boolean digit = c >= \'0\' && c <= \'9\';');
+  lines.push('            if (digit && (i == 0 || (i == 1 && className.charAt(0) == \'-\'))) {');
+  lines.push('                // Identifiers cannot start with a digit, so it is written as a code point');
+  lines.push('                escaped.append(\'\\\\\').append(Integer.toHexString(c)).append(\' \');');
+  lines.push('            } else if (digit || (c >= \'a\' && c <= \'z\') || (c >= \'A\' && c <= \'Z\')');
+  lines.push('                    || c == \'-\' || c == \'_\' || c >= 0x80) {');
+  lines.push('                escaped.append(c);');
+  lines.push('            } else {');
+  lines.push('                escaped.append(\'\\\\\').append(c);');
+  lines.push('            }');
+  lines.push('        }');
+  lines.push('        return escaped.toString();');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    private static Entry entry(String className) {');
+  lines.push('        int[] variants = NO_VARIANTS;');
+  lines.push('        int start = 0;');
+  lines.push('        int colon;');
+  lines.push('        while ((colon = className.indexOf(\':\', start)) >= 0) {');
+  lines.push(`            int variant = ${VARIANTS_CLASS}.index(className, start, colon + 1);`);
+  lines.push('            if (variant < 0 || VARIANT_RANKS[variant] < 0) {');
+  lines.push('                return null;');
+  lines.push('            }');
+  lines.push('            variants = Arrays.copyOf(variants, variants.length + 1);');
+  lines.push('            variants[variants.length - 1] = variant;');
+  lines.push('            start = colon + 1;');
+  lines.push('        }');
+  lines.push('');
+  lines.push(`        int id = ${REGISTRY_CLASS}.id(start == 0 ? className : className.substring(start));`);
+  lines.push('        return id < 0 || RULES[id] == null ? null : new Entry(className, id, variants);');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    private static String write(List<Entry> entries) {');
+  lines.push('        // Base rules first, then rules with variants in variant order, like Tailwind');
+  lines.push('        Collections.sort(entries);');
+  lines.push('');
+  lines.push('        StringBuilder css = new StringBuilder();');
+  lines.push('        for (String part : PREAMBLE) {');
+  lines.push('            css.append(part);');
+  lines.push('        }');
+  lines.push('        css.append("@layer utilities{");');
+  lines.push('');
+  lines.push('        long[] mask = new long[MASK_WORDS];');
+  lines.push('        for (Entry entry : entries) {');
+  lines.push('            if (!Arrays.equals(entry.mask, mask)) {');
+  lines.push('                closeAtRules(css, mask);');
+  lines.push('                openAtRules(css, entry.mask);');
+  lines.push('                mask = entry.mask;');
+  lines.push('            }');
+  lines.push('');
+  lines.push('            // Variants apply to the selector in the order they are written');
+  lines.push('            String selector = "." + escape(entry.className);');
+  lines.push('            for (int variant : entry.variants) {');
+  lines.push('                if (VARIANT_SELECTORS[variant] != null) {');
+  lines.push('                    selector = VARIANT_SELECTORS[variant].replace("&", selector);');
+  lines.push('                }');
+  lines.push('            }');
+  lines.push('            css.append(RULES[entry.id].replace("&", selector));');
+  lines.push('        }');
+  lines.push('        closeAtRules(css, mask);');
+  lines.push('');
+  lines.push('        return css.append(\'}\').toString();');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    private static void openAtRules(StringBuilder css, long[] mask) {');
+  lines.push('        for (int rank = 0; rank < VARIANT_ORDER.length; rank++) {');
+  lines.push('            String atRule = VARIANT_AT_RULES[VARIANT_ORDER[rank]];');
+  lines.push('            if ((mask[rank >>> 6] & (1L << rank)) != 0 && atRule != null) {');
+  lines.push('                css.append(atRule).append(\'{\');');
+  lines.push('            }');
+  lines.push('        }');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    private static void closeAtRules(StringBuilder css, long[] mask) {');
+  lines.push('        for (int rank = 0; rank < VARIANT_ORDER.length; rank++) {');
+  lines.push('            if ((mask[rank >>> 6] & (1L << rank)) != 0 && VARIANT_AT_RULES[VARIANT_ORDER[rank]] != null) {');
+  lines.push('                css.append(\'}\');');
+  lines.push('            }');
+  lines.push('        }');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    private static final class Entry implements Comparable<Entry> {');
+  lines.push('');
+  lines.push('        final String className;');
+  lines.push('        final int id;');
+  lines.push('');
+  lines.push('        /** Variant indexes, in the order they are written */');
+  lines.push('        final int[] variants;');
+  lines.push('');
+  lines.push('        /** Variants by rank, compared like a number as Tailwind sorts variant rules */');
+  lines.push('        final long[] mask = new long[MASK_WORDS];');
+  lines.push('');
+  lines.push('        Entry(String className, int id, int[] variants) {');
+  lines.push('            this.className = className;');
+  lines.push('            this.id = id;');
+  lines.push('            this.variants = variants;');
+  lines.push('            for (int variant : variants) {');
+  lines.push('                int rank = VARIANT_RANKS[variant];');
+  lines.push('                mask[rank >>> 6] |= 1L << rank;');
+  lines.push('            }');
+  lines.push('        }');
+  lines.push('');
+  lines.push('        @Override');
+  lines.push('        public int compareTo(Entry other) {');
+  lines.push('            for (int i = MASK_WORDS - 1; i >= 0; i--) {');
+  lines.push('                if (mask[i] != other.mask[i]) {');
+  lines.push('                    return Long.compareUnsigned(mask[i], other.mask[i]);');
+  lines.push('                }');
+  lines.push('            }');
+  lines.push('            if (RANK[id] != RANK[other.id]) {');
+  lines.push('                return Integer.compare(RANK[id], RANK[other.id]);');
+  lines.push('            }');
+  lines.push('            return className.compareTo(other.className);');
+  lines.push('        }');
+  lines.push('    }');
+  lines.push('');
+  lines.push(`    private ${STYLESHEET_CLASS}() {}`);
+  lines.push('}');
+
+  return lines.join('\n');
+}
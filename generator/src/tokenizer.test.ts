@@ -0,0 +1,159 @@
+/**
+ * Checks the streaming CSS scanner against the whole-AST extraction it replaces, run with "npm test".
+ * <p>
+ * The streaming mode of extract.ts scans the CSS in chunks and splits the utilities layer into
+ * single statements; the default mode parses the whole file into one css-tree AST. Both must find
+ * the same utilities and capture the same utility CSS, whatever the chunk size. The CSS below
+ * covers what the scanner has to skip or keep apart: comments, strings, escapes, numbers, at-rule
+ * preludes, nested at-rules and statements split across chunks. A built Tailwind stylesheet is
+ * checked as well when one exists.
+ */
+
+import * as assert from 'assert';
+import * as fs from 'fs';
+import * as os from 'os';
+import * as path from 'path';
+import { extractStreaming, extractUtilityClasses, extractUtilityRules } from './extract';
+import { scanCssFile } from './tokenizer';
+
+const CSS = [
+  '/*! tailwindcss v4.1.18 | MIT License | https://tailwindcss.com */',
+  '@layer properties{@supports (((-webkit-hyphens:none)) and (not (margin-trim:inline))){*,:before,:after{--tw-translate-x:0}}}',
+  '@layer theme,base,components,utilities;',
+  '@layer theme{:root,:host{--spacing:.25rem;--font-sans:ui-sans-serif,"Segoe UI.x",sans-serif;--text-sm:.875rem}}',
+  '@layer base{*,:after,:before{box-sizing:border-box;margin:0}abbr:where([title]){text-decoration:underline dotted}',
+  '[hidden]:where(:not([hidden="until-found"])){display:none!important}}',
+  '@layer utilities{',
+  '  /* .commented-out{display:none} */',
+  '  .visible{visibility:visible}.absolute{position:absolute}',
+  '  .m-2{margin:calc(var(--spacing)*2)}.-mt-4{margin-top:calc(var(--spacing)*-4)}',
+  '  .w-1\\/2{width:50%}.w-\\[13px\\]{width:13px}.p-1\\.5{padding:calc(var(--spacing)*1.5)}',
+  '  .bg-\\[\\#1e40af\\]{background-color:#1e40af}.opacity-50{opacity:.5}',
+  '  .content-\\[\\\'\\.x\\\'\\]{--tw-content:".x";content:var(--tw-content)}',
+  '  .bg-\\[url\\(a\\.png\\)\\]{background-image:url(a.png)}',
+  '  .translate-x-2{--tw-translate-x:calc(var(--spacing)*2);translate:var(--tw-translate-x) var(--tw-translate-y)}',
+  '  .space-y-2{:where(&>:not(:last-child)){margin-block-start:calc(var(--spacing)*2)}}',
+  '  .group-hover\\:p-4{&:is(:where(.group):hover *){@media (hover:hover){padding:calc(var(--spacing)*4)}}}',
+  '  .hover\\:bg-blue-600{&:hover{@media (hover:hover){background-color:var(--color-blue-600)}}}',
+  '  .md\\:flex{@media (width>=48rem){display:flex}}',
+  '  .\\32 xl\\:p-4{@media (width>=96rem){padding:calc(var(--spacing)*4)}}',
+  '  .dark\\:text-white{@media (prefers-color-scheme:dark){color:var(--color-white)}}',
+  '  .peer{}.group{}',
+  '  @supports (backdrop-filter:blur(0)){.backdrop-blur-sm{--tw-backdrop-blur:blur(8px);backdrop-filter:var(--tw-backdrop-blur)}}',
+  '  .animate-spin{animation:var(--animate-spin)}',
+  '}',
+  '@property --tw-translate-x{syntax:"*";inherits:false;initial-value:0}',
+  '@keyframes spin{to{transform:rotate(360deg)}}',
+  '@keyframes pulse{50%{opacity:.5}}'
+].join('\n');
+
+/** Class selectors the scanner must report, raw and in order */
+const CLASS_SELECTORS = [
+  'visible', 'absolute', 'm-2', '-mt-4', 'w-1\\/2', 'w-\\[13px\\]', 'p-1\\.5', 'bg-\\[\\#1e40af\\]', 'opacity-50',
+  'content-\\[\\\'\\.x\\\'\\]', 'bg-\\[url\\(a\\.png\\)\\]', 'translate-x-2', 'space-y-2', 'group-hover\\:p-4',
+  'group', 'hover\\:bg-blue-600', 'md\\:flex', '\\32 xl\\:p-4', 'dark\\:text-white', 'peer', 'group',
+  'backdrop-blur-sm', 'animate-spin'
+];
+
+const CHUNK_SIZES = [1, 2, 3, 7, 64, 1024, 64 * 1024];
+
+/**
+ * Runs a test with CSS written to a temporary file
+ */
+function withCssFile(css: string, test: (cssPath: string) => void): void {
+  const dir = fs.mkdtempSync(path.join(os.tmpdir(), 'generator-tokenizer-'));
+  try {
+    const cssPath = path.join(dir, 'output.css');
+    fs.writeFileSync(cssPath, css);
+    test(cssPath);
+  } finally {
+    fs.rmSync(dir, { recursive: true, force: true });
+  }
+}
+
+/**
+ * Checks that the streaming extraction of a file equals the whole-AST extraction
+ */
+function assertSameExtraction(cssPath: string, chunkSizes: number[]): void {
+  const cssContent = fs.readFileSync(cssPath, 'utf-8');
+  const utilities = extractUtilityClasses(cssContent);
+  const utilityCss = extractUtilityRules(cssContent, utilities);
+
+  for (const chunkSize of chunkSizes) {
+    const streamed = extractStreaming(cssPath, chunkSize);
+    assert.deepStrictEqual([...streamed.utilities].sort(), [...utilities].sort(), `utilities, chunk size ${chunkSize}`);
+    assert.deepStrictEqual(streamed.utilityCss, utilityCss, `utility CSS, chunk size ${chunkSize}`);
+  }
+}
+
+function testClassSelectors(): void {
+  withCssFile(CSS, cssPath => {
+    for (const chunkSize of CHUNK_SIZES) {
+      const found: string[] = [];
+      scanCssFile(cssPath, { classSelector: name => found.push(name) }, { chunkSize });
+      assert.deepStrictEqual(found, CLASS_SELECTORS, `chunk size ${chunkSize}`);
+    }
+  });
+}
+
+function testStatements(): void {
+  withCssFile(CSS, cssPath => {
+    const expected: [string, boolean][] = [];
+    scanCssFile(cssPath, { statement: (text, inLayer) => expected.push([text, inLayer]) }, { layer: 'utilities' });
+
+    // Statements outside of the layer are kept whole, those inside it are split per rule;
+    // comments belong to the statement they precede
+    assert.strictEqual(expected.filter(([, inLayer]) => !inLayer).length, 7);
+    assert.strictEqual(expected.filter(([, inLayer]) => inLayer).length, 22);
+    assert.ok(expected.some(([text, inLayer]) => inLayer && text === '.md\\:flex{@media (width>=48rem){display:flex}}'));
+    assert.ok(expected.some(([text, inLayer]) => inLayer && text.startsWith('@supports (backdrop-filter:blur(0))')));
+    assert.ok(expected.every(([text]) => !text.includes('commented-out') || text.startsWith('/*')));
+
+    for (const chunkSize of CHUNK_SIZES) {
+      const statements: [string, boolean][] = [];
+      scanCssFile(cssPath, { statement: (text, inLayer) => statements.push([text, inLayer]) },
+        { layer: 'utilities', chunkSize });
+      assert.deepStrictEqual(statements, expected, `chunk size ${chunkSize}`);
+    }
+  });
+}
+
+function testMatchesWholeAstExtraction(): void {
+  withCssFile(CSS, cssPath => assertSameExtraction(cssPath, CHUNK_SIZES));
+}
+
+function testMatchesWholeAstExtractionOfBuiltCss(): void {
+  const cssPath = path.join(__dirname, '..', 'output.css');
+  if (!fs.existsSync(cssPath)) {
+    console.warn('  no output.css, run "npm run extract" to check a full Tailwind build');
+    return;
+  }
+  assertSameExtraction(cssPath, [4096, 64 * 1024]);
+}
+
+const tests: [string, () => void][] = [
+  ['class selectors at any chunk size', testClassSelectors],
+  ['statements at any chunk size', testStatements],
+  ['streaming extraction matches the whole-AST extraction', testMatchesWholeAstExtraction],
+  ['streaming extraction matches the whole-AST extraction of the built CSS', testMatchesWholeAstExtractionOfBuiltCss]
+];
+
+// The extraction logs progress, keep the test output to the results
+const log = console.log;
+let failed = 0;
+for (const [name, test] of tests) {
+  try {
+    console.log = () => undefined;
+    test();
+    console.log = log;
+    console.log(`ok - ${name}`);
+  } catch (error) {
+    console.log = log;
+    failed++;
+    console.log(`not ok - ${name}`);
+    console.log(error instanceof Error ? error.message : error);
+  }
+}
+if (failed > 0) {
+  process.exit(1);
+}
@@ -0,0 +1,330 @@
+import * as fs from 'fs';
+import { StringDecoder } from 'string_decoder';
+
+/**
+ * Streaming CSS scanner for the extractor.
+ *
+ * Reads the CSS in fixed-size chunks and emits class selectors as it scans, without building an
+ * AST, so memory is bounded by the largest single statement instead of the file size.
+ */
+
+export interface CssScanHandler {
+  /** A class selector in the prelude of a style rule, raw (escapes kept), e.g. "hover\:p-4" */
+  classSelector?(rawName: string): void;
+  /**
+   * A complete statement: a top-level rule or at-rule, or a direct child of the layer given
+   * in the scan options, with inLayer set
+   */
+  statement?(text: string, inLayer: boolean): void;
+}
+
+export interface CssScanOptions {
+  /** Layer to emit the children of as separate statements, e.g. "utilities" */
+  layer?: string;
+  chunkSize?: number;
+}
+
+export interface CssScanStats {
+  bytes: number;
+  elapsedMs: number;
+  classSelectors: number;
+  styleRules: number;
+  statements: number;
+  /** Largest statement buffered at once, in characters */
+  maxStatementLength: number;
+}
+
+const DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+/** Enough of an at-rule prelude to match "@layer <name>" */
+const PRELUDE_HEAD_LENGTH = 256;
+
+/**
+ * Scanner states: outside of comments, strings and class names, or after a "." that may start a
+ * class name, or inside a class name, one of its escapes or a hex escape
+ */
+type State = 'default' | 'comment' | 'string' | 'dot' | 'className' | 'escape' | 'hexEscape';
+
+function isHex(code: number): boolean {
+  return (code >= 48 && code <= 57) || (code >= 65 && code <= 70) || (code >= 97 && code <= 102);
+}
+
+function isNameChar(code: number): boolean {
+  return isHex(code) || (code >= 65 && code <= 90) || (code >= 97 && code <= 122) ||
+    code === 45 || code === 95 || code >= 0x80;
+}
+
+function isNameStart(code: number): boolean {
+  // Letters, "_", "-", "\\" and non-ASCII; a digit after "." is a number, not a class name
+  return isNameChar(code) && !(code >= 48 && code <= 57) || code === 92;
+}
+
+/**
+ * Scans a CSS file, calling the handler for every class selector and statement
+ */
+export function scanCssFile(filePath: string, handler: CssScanHandler, options: CssScanOptions = {}): CssScanStats {
+  const started = Date.now();
+  const stats: CssScanStats = {
+    bytes: 0, elapsedMs: 0, classSelectors: 0, styleRules: 0, statements: 0, maxStatementLength: 0
+  };
+  const collectStatements = handler.statement !== undefined;
+  const layerPrelude = options.layer ? `@layer ${options.layer}` : undefined;
+
+  let state: State = 'default';
+  let quote = '';
+  let previous = '';
+  let hexDigits = 0;
+
+  let depth = 0;
+  let parens = 0;
+  // Depth of the children of the descended layer, or -1 outside of it
+  let layerDepth = -1;
+
+  // Whether the current prelude is an at-rule (undefined until its first character), the start
+  // of an at-rule prelude, and the class selectors found in the prelude so far
+  let atRule: boolean | undefined;
+  let preludeHead = '';
+  let candidates: string[] = [];
+  let className = '';
+
+  // The current chunk and position in it; the current statement is its text carried over from
+  // previous chunks plus the chunk from statementStart
+  let chunk = '';
+  let position = 0;
+  let statement = '';
+  let statementStart = 0;
+
+  const statementLevel = () => (layerDepth >= 0 ? layerDepth : 0);
+
+  const carryStatement = (end: number) => {
+    statement += chunk.slice(statementStart, end);
+    statementStart = end;
+    stats.maxStatementLength = Math.max(stats.maxStatementLength, statement.length);
+  };
+
+  /** Ends the current statement, up to and including the current character unless excluded */
+  const endStatement = (includeCurrent = true) => {
+    carryStatement(position + (includeCurrent ? 1 : 0));
+    const text = statement.trim();
+    statement = '';
+    statementStart = position + 1;
+    if (text) {
+      stats.statements++;
+      handler.statement?.(text, layerDepth >= 0);
+    }
+  };
+
+  const endPrelude = () => {
+    atRule = undefined;
+    preludeHead = '';
+    candidates = [];
+  };
+
+  const openBlock = () => {
+    // The head ends with the opening brace
+    const head = preludeHead.slice(0, -1).trim();
+    if (!atRule) {
+      stats.styleRules++;
+      for (const candidate of candidates) {
+        stats.classSelectors++;
+        handler.classSelector?.(candidate);
+      }
+    }
+
+    const descend = layerPrelude !== undefined && layerDepth < 0 && depth === 0 && head === layerPrelude;
+    endPrelude();
+    depth++;
+    if (descend) {
+      // The layer wrapper is not part of any statement, its children are
+      layerDepth = depth;
+      statement = '';
+      statementStart = position + 1;
+    }
+  };
+
+  const closeBlock = () => {
+    endPrelude();
+    if (depth === layerDepth) {
+      // Closing the descended layer, whose brace belongs to no statement
+      if (collectStatements) {
+        endStatement(false);
+      }
+      layerDepth = -1;
+      depth--;
+      return;
+    }
+    depth--;
+    if (collectStatements && depth === statementLevel()) {
+      endStatement();
+    }
+  };
+
+  function scan(char: string): void {
+    switch (state) {
+      case 'comment':
+        if (previous === '*' && char === '/') {
+          state = 'default';
+          // Do not let "*/" start another comment with a following "*"
+          previous = '';
+          return;
+        }
+        previous = char;
+        return;
+
+      case 'string':
+        if (previous === '\\') {
+          previous = '';
+        } else if (char === quote) {
+          state = 'default';
+          previous = '';
+        } else {
+          previous = char;
+        }
+        return;
+
+      case 'dot':
+        state = 'default';
+        if (isNameStart(char.charCodeAt(0))) {
+          state = 'className';
+          className = '';
+          scan(char);
+          return;
+        }
+        break;
+
+      case 'className':
+        if (char === '\\') {
+          className += char;
+          state = 'escape';
+          return;
+        }
+        if (isNameChar(char.charCodeAt(0))) {
+          className += char;
+          return;
+        }
+        candidates.push(className);
+        state = 'default';
+        break;
+
+      case 'escape':
+        className += char;
+        if (isHex(char.charCodeAt(0))) {
+          hexDigits = 1;
+          state = 'hexEscape';
+        } else {
+          state = 'className';
+        }
+        return;
+
+      case 'hexEscape':
+        if (isHex(char.charCodeAt(0)) && hexDigits < 6) {
+          className += char;
+          hexDigits++;
+          return;
+        }
+        state = 'className';
+        if (char === ' ' || char === '\t' || char === '\n') {
+          // A single whitespace terminates a hex escape and belongs to it
+          className += char;
+          return;
+        }
+        scan(char);
+        return;
+    }
+
+    // Outside of comments, strings and class names
+    if (previous === '/' && char === '*') {
+      state = 'comment';
+      previous = '';
+      return;
+    }
+    if (previous === '\\') {
+      // Escaped character outside of a class name, e.g. in an attribute selector
+      previous = '';
+      return;
+    }
+    previous = char;
+
+    if (atRule === undefined && char !== ' ' && char !== '\n' && char !== '\t' && char !== '\r' && char !== '/') {
+      atRule = char === '@';
+    }
+    if (atRule && preludeHead.length < PRELUDE_HEAD_LENGTH) {
+      preludeHead += char;
+    }
+
+    switch (char) {
+      case '"':
+      case '\'':
+        quote = char;
+        state = 'string';
+        previous = '';
+        break;
+      case '.':
+        state = 'dot';
+        break;
+      case '(':
+        parens++;
+        break;
+      case ')':
+        parens = Math.max(0, parens - 1);
+        break;
+      case ';':
+        if (parens === 0) {
+          endPrelude();
+          if (collectStatements && depth === statementLevel()) {
+            endStatement();
+          }
+        }
+        break;
+      case '{':
+        parens = 0;
+        openBlock();
+        break;
+      case '}':
+        parens = 0;
+        closeBlock();
+        break;
+    }
+  }
+
+  const decoder = new StringDecoder('utf8');
+  const buffer = Buffer.alloc(options.chunkSize ?? DEFAULT_CHUNK_SIZE);
+  const fd = fs.openSync(filePath, 'r');
+
+  try {
+    let read: number;
+    while ((read = fs.readSync(fd, buffer, 0, buffer.length, null)) > 0) {
+      stats.bytes += read;
+      chunk = decoder.write(buffer.subarray(0, read));
+      statementStart = 0;
+
+      for (position = 0; position < chunk.length; position++) {
+        scan(chunk[position]);
+      }
+      if (collectStatements) {
+        carryStatement(chunk.length);
+      }
+    }
+  } finally {
+    fs.closeSync(fd);
+  }
+
+  if (collectStatements) {
+    position = chunk.length - 1;
+    endStatement();
+  }
+
+  stats.elapsedMs = Date.now() - started;
+  return stats;
+}
+
+/**
+ * Formats scan statistics for the console, e.g. "12.50 MB in 420 ms (29.76 MB/s), ..."
+ */
+export function formatScanStats(stats: CssScanStats): string {
+  const megabytes = stats.bytes / (1024 * 1024);
+  const seconds = Math.max(stats.elapsedMs, 1) / 1000;
+  return `${megabytes.toFixed(2)} MB in ${stats.elapsedMs} ms (${(megabytes / seconds).toFixed(2)} MB/s), ` +
+    `${stats.styleRules} style rules, ${stats.classSelectors} class selectors, ${stats.statements} statements, ` +
+    `largest statement ${(stats.maxStatementLength / 1024).toFixed(2)} KB`;
+}
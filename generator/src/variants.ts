@@ -0,0 +1,510 @@
+import { GeneratorConfig } from './config';
+import { INTERN_POOL_CLASS } from './intern';
+import { REGISTRY_CLASS, buildPerfectHash, generatePerfectHashLookup, generatePerfectHashTables } from './registry';
+
+/**
+ * A variant that can be applied to a utility, e.g. {@code md:} or {@code hover:}
+ */
+export interface VariantDefinition {
+  name: string;          // e.g., "2xl"
+  methodName: string;    // e.g., "xxl"
+  constantName: string;  // e.g., "XXL"
+  description: string;   // e.g., "2xl breakpoint (1536px)"
+}
+
+/**
+ * Name of the generated class holding the variant tables
+ */
+export const VARIANTS_CLASS = 'TwVariants';
+
+/**
+ * Name of the generated class of typed, stackable variants
+ */
+export const VARIANT_CLASS = 'TwVariant';
+
+/**
+ * State variants exposed through the State helper class
+ */
+export const STATE_VARIANTS: VariantDefinition[] = [
+  { name: 'hover', methodName: 'hover', constantName: 'HOVER', description: 'Hover state' },
+  { name: 'focus', methodName: 'focus', constantName: 'FOCUS', description: 'Focus state' },
+  { name: 'active', methodName: 'active', constantName: 'ACTIVE', description: 'Active state' },
+  { name: 'dark', methodName: 'dark', constantName: 'DARK', description: 'Dark mode' },
+  { name: 'disabled', methodName: 'disabled', constantName: 'DISABLED', description: 'Disabled state' }
+];
+
+/**
+ * Creates breakpoint variants from the configured breakpoints
+ */
+export function getBreakpointVariants(config: GeneratorConfig): VariantDefinition[] {
+  return Object.entries(config.breakpoints).map(([name, value]) => {
+    const methodName = name === '2xl' ? 'xxl' : name;
+    const description = name.charAt(0).toUpperCase() + name.slice(1);
+
+    return {
+      name,
+      methodName,
+      constantName: methodName.toUpperCase(),
+      description: `${description} breakpoint (${value})`
+    };
+  });
+}
+
+/**
+ * File the extract script writes the variant names of the Tailwind build to
+ */
+export const VARIANTS_FILE = 'variants.json';
+
+/**
+ * Tailwind v4 core pseudo-class variants, also compounded with group- and peer-
+ */
+const PSEUDO_CLASS_VARIANTS = [
+  'first', 'last', 'only', 'odd', 'even', 'first-of-type', 'last-of-type', 'only-of-type',
+  'visited', 'target', 'open', 'default', 'checked', 'indeterminate', 'placeholder-shown',
+  'autofill', 'optional', 'required', 'valid', 'invalid', 'user-valid', 'user-invalid',
+  'in-range', 'out-of-range', 'read-only', 'empty', 'focus-within', 'hover', 'focus',
+  'focus-visible', 'active', 'enabled', 'disabled', 'inert'
+];
+
+const PSEUDO_ELEMENT_VARIANTS = [
+  'before', 'after', 'first-letter', 'first-line', 'marker', 'selection', 'file', 'backdrop',
+  'placeholder', 'details-content'
+];
+
+const MEDIA_VARIANTS = [
+  'motion-safe', 'motion-reduce', 'contrast-more', 'contrast-less', 'print', 'portrait',
+  'landscape', 'forced-colors', 'inverted-colors', 'pointer-fine', 'pointer-coarse',
+  'pointer-none', 'any-pointer-fine', 'any-pointer-coarse', 'any-pointer-none', 'noscript',
+  'starting', 'dark', 'ltr', 'rtl'
+];
+
+const ARIA_VARIANTS = [
+  'aria-busy', 'aria-checked', 'aria-disabled', 'aria-expanded', 'aria-hidden', 'aria-pressed',
+  'aria-readonly', 'aria-required', 'aria-selected'
+];
+
+const CONTAINER_SIZES = ['3xs', '2xs', 'xs', 'sm', 'md', 'lg', 'xl', '2xl', '3xl', '4xl', '5xl', '6xl', '7xl'];
+
+/**
+ * Variants whose values are every other variant, e.g. "not-hover". Only reachable through
+ * TwVariant.of, as they would multiply the number of generated variants.
+ */
+export const UNEXPANDED_COMPOUND_VARIANTS = ['not', 'has', 'in'];
+
+/**
+ * Returns the Tailwind v4 core variants, used when no variant list was extracted. This is a
+ * fallback: variants of plugins and of a customized theme are only known from the extracted list.
+ */
+export function getBuiltInVariantNames(config: GeneratorConfig): string[] {
+  const breakpoints = Object.keys(config.breakpoints);
+  const compoundable = [...PSEUDO_CLASS_VARIANTS, ...ARIA_VARIANTS];
+
+  return [
+    ...PSEUDO_CLASS_VARIANTS,
+    ...PSEUDO_ELEMENT_VARIANTS,
+    ...MEDIA_VARIANTS,
+    ...breakpoints,
+    ...breakpoints.map(breakpoint => `max-${breakpoint}`),
+    ...CONTAINER_SIZES.map(size => `@${size}`),
+    ...CONTAINER_SIZES.map(size => `@max-${size}`),
+    ...ARIA_VARIANTS,
+    ...compoundable.map(variant => `group-${variant}`),
+    ...compoundable.map(variant => `peer-${variant}`)
+  ];
+}
+
+/**
+ * Returns the Java constant name of a variant, e.g. "GROUP_HOVER", "MAX_XXL" or "AT_SM" for "@sm"
+ */
+function variantConstantName(name: string): string {
+  return name
+    .replace(/^@/, 'at-')
+    .split('-')
+    .map(part => part === '2xl' ? 'xxl' : part)
+    .join('_')
+    .toUpperCase();
+}
+
+/**
+ * Describes a variant for the generated documentation
+ */
+function describeVariant(name: string, config: GeneratorConfig): string {
+  const breakpoint = name.startsWith('max-') ? config.breakpoints[name.substring(4)] : undefined;
+  if (breakpoint) {
+    return `Below the ${name.substring(4)} breakpoint (${breakpoint})`;
+  }
+  if (name.startsWith('@max-')) {
+    return `Container narrower than the ${name.substring(5)} container size`;
+  }
+  if (name.startsWith('@')) {
+    return `Container at least as wide as the ${name.substring(1)} container size`;
+  }
+  if (name.startsWith('group-')) {
+    return `Parent marked with group in ${name.substring(6)} state`;
+  }
+  if (name.startsWith('peer-')) {
+    return `Previous sibling marked with peer in ${name.substring(5)} state`;
+  }
+  if (name.startsWith('aria-')) {
+    return `Element with ${name}="true"`;
+  }
+  return `Variant ${name}`;
+}
+
+/**
+ * Returns every variant with a precomputed prefix: the breakpoints and state variants first, so
+ * their indices do not depend on the Tailwind build, then the extracted or built-in variants
+ */
+export function getAllVariants(config: GeneratorConfig, extracted?: string[]): VariantDefinition[] {
+  const variants = [...getBreakpointVariants(config), ...STATE_VARIANTS];
+  const names = new Set(variants.map(variant => variant.name));
+  const constantNames = new Set(variants.map(variant => variant.constantName));
+
+  for (const name of extracted ?? getBuiltInVariantNames(config)) {
+    const constantName = variantConstantName(name);
+    if (names.has(name) || !/^[A-Z][A-Z0-9_]*$/.test(constantName) || constantNames.has(constantName)) {
+      continue;
+    }
+    names.add(name);
+    constantNames.add(constantName);
+    variants.push({
+      name,
+      methodName: constantName.toLowerCase().replace(/_([a-z0-9])/g, (match, letter) => letter.toUpperCase()),
+      constantName,
+      description: describeVariant(name, config)
+    });
+  }
+
+  return variants;
+}
+
+/**
+ * Generates the class that composes and caches variant-prefixed class names
+ */
+export function generateVariantsClass(variants: VariantDefinition[], config: GeneratorConfig): string {
+  const lines: string[] = [];
+
+  lines.push(`package ${config.java.package};`);
+  lines.push('');
+  lines.push('import java.util.Objects;');
+  lines.push('');
+  lines.push('/**');
+  lines.push(` * Variant-prefixed class names used by {@link ${config.java.className}.Responsive} and {@link ${config.java.className}.State}.`);
+  lines.push(' * <p>');
+  lines.push(' * For known utilities the prefixed class name is stored in a per-variant table indexed by');
+  lines.push(' * utility ID. Each entry is created once and then shared, so repeated calls return the same');
+  lines.push(' * String instance without allocating. Tables are created on first use of their variant. Other');
+  lines.push(` * strings (arbitrary values, already prefixed classes) go through the bounded {@link ${INTERN_POOL_CLASS}}`);
+  lines.push(' * instead.');
+  lines.push(' */');
+  lines.push(`final class ${VARIANTS_CLASS} {`);
+  lines.push('');
+
+  variants.forEach((variant, index) => {
+    lines.push(`    /** Variant index of {@code ${variant.name}:} */`);
+    lines.push(`    static final int ${variant.constantName} = ${index};`);
+    lines.push('');
+  });
+
+  lines.push('    /** Variant prefixes, indexed by variant index */');
+  lines.push('    static final String[] PREFIXES = {');
+  variants.forEach((variant, index) => {
+    const separator = index < variants.length - 1 ? ',' : '';
+    lines.push(`        "${variant.name}:"${separator}`);
+  });
+  lines.push('    };');
+  lines.push('');
+  lines.push('    private static final String[][] TABLE = new String[PREFIXES.length][];');
+  lines.push('');
+  generatePerfectHashTables(lines, buildPerfectHash(variants.map(variant => `${variant.name}:`)), 'Variant index');
+  lines.push('    /**');
+  lines.push('     * Returns the canonical instance of {@code utility} prefixed with the given variant.');
+  lines.push('     */');
+  lines.push('    static String apply(int variant, String utility) {');
+  lines.push('        Objects.requireNonNull(utility, "utility");');
+  lines.push(`        int id = ${REGISTRY_CLASS}.id(utility);`);
+  lines.push('        if (id < 0) {');
+  lines.push(`            return ${INTERN_POOL_CLASS}.intern(PREFIXES[variant], utility);`);
+  lines.push('        }');
+  lines.push('');
+  lines.push('        String[] row = TABLE[variant];');
+  lines.push('        if (row == null) {');
+  lines.push('            // A row replaced by a racing thread only loses entries that are recreated on demand');
+  lines.push(`            row = new String[${REGISTRY_CLASS}.COUNT];`);
+  lines.push('            TABLE[variant] = row;');
+  lines.push('        }');
+  lines.push('        String prefixed = row[id];');
+  lines.push('        if (prefixed == null) {');
+  lines.push('            // Racing threads may both get here; intern() makes them agree on one instance');
+  lines.push('            prefixed = (PREFIXES[variant] + utility).intern();');
+  lines.push('            row[id] = prefixed;');
+  lines.push('        }');
+  lines.push('        return prefixed;');
+  lines.push('    }');
+  lines.push('');
+  generatePerfectHashLookup(lines, 'index', 'PREFIXES', 'PREFIXES.length', [
+    'Returns the variant index of the prefix in {@code chars} from {@code start} to {@code end},',
+    'including its colon, or {@code -1} if it is not a precomputed variant.'
+  ]);
+  lines.push(`    private ${VARIANTS_CLASS}() {}`);
+  lines.push('}');
+
+  return lines.join('\n');
+}
+
+/**
+ * Generates the typed variants, with a constant per precomputed variant, that stack in order
+ */
+export function generateVariantClass(variants: VariantDefinition[], config: GeneratorConfig): string {
+  const lines: string[] = [];
+  const name = VARIANT_CLASS;
+  const tw = config.java.className;
+  const example = config.grouping?.enabled ? `${tw}.Background.GRAY_700` : `${tw}.BG_GRAY_700`;
+
+  lines.push(`package ${config.java.package};`);
+  lines.push('');
+  lines.push('import java.io.Serializable;');
+  lines.push('import java.util.Arrays;');
+  lines.push('import java.util.HashMap;');
+  lines.push('import java.util.Map;');
+  lines.push('import java.util.Objects;');
+  lines.push('');
+  lines.push('/**');
+  lines.push(' * A Tailwind CSS variant, or a stack of variants, that can be applied to utilities.');
+  lines.push(' * <p>');
+  lines.push(' * Every variant of the Tailwind build has a constant. Variants stack in the order they are');
+  lines.push(' * combined, and other variants, such as arbitrary ones, are created by name:');
+  lines.push(' *');
+  lines.push(' * <pre>{@code');
+  lines.push(` * ${name} variant = ${name}.DARK.then(${name}.MD).then(${name}.GROUP_HOVER);`);
+  lines.push(` * div.addClassName(variant.apply(${example}));`);
+  lines.push(' * // "dark:md:group-hover:bg-gray-700"');
+  lines.push(` * ${name} open = ${name}.of("data-[state=open]");`);
+  lines.push(' * }</pre>');
+  lines.push(' * <p>');
+  lines.push(' * Applying a variant to a known utility returns a shared instance without allocating: single');
+  lines.push(` * variants use the tables of {@link ${VARIANTS_CLASS}}, stacks keep a table of their own. Stacks`);
+  lines.push(' * are memoized, so repeating {@link #then(TwVariant)} does not allocate either. Other strings go');
+  lines.push(` * through {@link ${INTERN_POOL_CLASS}}. Instances are immutable and thread-safe.`);
+  lines.push(' */');
+  lines.push(`public final class ${name} implements Serializable {`);
+  lines.push('');
+  lines.push('    private static final long serialVersionUID = 1L;');
+  lines.push('');
+
+  for (const variant of variants) {
+    lines.push(`    /** {@code ${variant.name}:} - ${variant.description} */`);
+    lines.push(`    public static final ${name} ${variant.constantName} = new ${name}(${VARIANTS_CLASS}.${variant.constantName});`);
+    lines.push('');
+  }
+
+  lines.push('    /** Precomputed variants, indexed by variant index */');
+  lines.push(`    private static final ${name}[] VARIANTS = {`);
+  variants.forEach((variant, index) => {
+    const separator = index < variants.length - 1 ? ',' : '';
+    lines.push(`        ${variant.constantName}${separator}`);
+  });
+  lines.push('    };');
+  lines.push('');
+  lines.push(`    private static final Map<String, ${name}> BY_NAME = new HashMap<>(VARIANTS.length * 2);`);
+  lines.push('');
+  lines.push('    static {');
+  lines.push(`        for (${name} variant : VARIANTS) {`);
+  lines.push('            BY_NAME.put(variant.name(), variant);');
+  lines.push('        }');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /** Prefix applied to utilities, e.g. {@code "dark:md:"} */');
+  lines.push('    private final String prefix;');
+  lines.push('');
+  lines.push('    /** Variant index of a precomputed variant, or -1 */');
+  lines.push('    private final int index;');
+  lines.push('');
+  lines.push('    /** Single variants of a stack, in order, or {@code null} for a single variant */');
+  lines.push(`    private final ${name}[] parts;`);
+  lines.push('');
+  lines.push('    /** Prefixed class names of a stack, indexed by utility ID and created on first use */');
+  lines.push('    private transient volatile String[] table;');
+  lines.push('');
+  lines.push('    /** Stacks of this variant followed by a precomputed variant, indexed by variant index */');
+  lines.push(`    private transient volatile ${name}[] stacks;`);
+  lines.push('');
+  lines.push(`    private ${name}(int index) {`);
+  lines.push(`        this(${VARIANTS_CLASS}.PREFIXES[index], index, null);`);
+  lines.push('    }');
+  lines.push('');
+  lines.push(`    private ${name}(String prefix, int index, ${name}[] parts) {`);
+  lines.push('        this.prefix = prefix;');
+  lines.push('        this.index = index;');
+  lines.push('        this.parts = parts;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the precomputed variant of a name without the trailing colon, e.g.');
+  lines.push('     * {@link #GROUP_HOVER} for {@code "group-hover"}, or {@code null} if it is not a variant of');
+  lines.push('     * this build, e.g. an arbitrary variant, a stack or a typo. Does not allocate.');
+  lines.push('     */');
+  lines.push(`    public static ${name} lookup(String name) {`);
+  lines.push('        return BY_NAME.get(name);');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the variant of a name without the trailing colon, e.g. {@code "group-hover"},');
+  lines.push('     * {@code "data-[state=open]"} or a stack such as {@code "dark:md"}. Precomputed variants');
+  lines.push('     * return their constant.');
+  lines.push('     *');
+  lines.push('     * @throws IllegalArgumentException if the name is empty or contains whitespace');
+  lines.push('     */');
+  lines.push(`    public static ${name} of(String name) {`);
+  lines.push(`        ${name} known = BY_NAME.get(name);`);
+  lines.push('        if (known != null) {');
+  lines.push('            return known;');
+  lines.push('        }');
+  lines.push('');
+  lines.push('        // Split stacks on colons outside brackets, allowing a trailing colon');
+  lines.push(`        ${name} stack = null;`);
+  lines.push('        int start = 0;');
+  lines.push('        int depth = 0;');
+  lines.push('        for (int i = 0; i <= name.length(); i++) {');
+  lines.push("            char c = i < name.length() ? name.charAt(i) : ':';");
+  lines.push("            if (c == '[' || c == '(') {");
+  lines.push('                depth++;');
+  lines.push("            } else if (c == ']' || c == ')') {");
+  lines.push('                depth--;');
+  lines.push('            } else if (Character.isWhitespace(c)) {');
+  lines.push('                throw new IllegalArgumentException("Invalid Tailwind variant: " + name);');
+  lines.push("            } else if (c == ':' && depth == 0) {");
+  lines.push('                if (i == start) {');
+  lines.push('                    if (i == name.length() && stack != null) {');
+  lines.push('                        break;');
+  lines.push('                    }');
+  lines.push('                    throw new IllegalArgumentException("Invalid Tailwind variant: " + name);');
+  lines.push('                }');
+  lines.push('                String part = name.substring(start, i);');
+  lines.push(`                ${name} variant = BY_NAME.get(part);`);
+  lines.push('                if (variant == null) {');
+  lines.push(`                    variant = new ${name}(part + ":", -1, null);`);
+  lines.push('                }');
+  lines.push('                stack = stack == null ? variant : stack.then(variant);');
+  lines.push('                start = i + 1;');
+  lines.push('            }');
+  lines.push('        }');
+  lines.push('        return stack;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the stack of this variant followed by {@code next}, e.g. {@code dark:md:} for');
+  lines.push(`     * {@code DARK.then(MD)}.`);
+  lines.push('     */');
+  lines.push(`    public ${name} then(${name} next) {`);
+  lines.push('        if (next.parts == null) {');
+  lines.push('            return push(next);');
+  lines.push('        }');
+  lines.push(`        ${name} stack = this;`);
+  lines.push(`        for (${name} part : next.parts) {`);
+  lines.push('            stack = stack.push(part);');
+  lines.push('        }');
+  lines.push('        return stack;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the canonical instance of {@code utility} with this variant applied.');
+  lines.push('     */');
+  lines.push('    public String apply(String utility) {');
+  lines.push('        Objects.requireNonNull(utility, "utility");');
+  lines.push('        if (index >= 0) {');
+  lines.push(`            return ${VARIANTS_CLASS}.apply(index, utility);`);
+  lines.push('        }');
+  lines.push(`        int id = ${REGISTRY_CLASS}.id(utility);`);
+  lines.push('        if (id < 0 || parts == null) {');
+  lines.push(`            return ${INTERN_POOL_CLASS}.intern(prefix, utility);`);
+  lines.push('        }');
+  lines.push('');
+  lines.push('        String[] row = table;');
+  lines.push('        if (row == null) {');
+  lines.push(`            row = new String[${REGISTRY_CLASS}.COUNT];`);
+  lines.push('            table = row;');
+  lines.push('        }');
+  lines.push('        String prefixed = row[id];');
+  lines.push('        if (prefixed == null) {');
+  lines.push('            // Racing threads may both get here; intern() makes them agree on one instance');
+  lines.push('            prefixed = (prefix + utility).intern();');
+  lines.push('            row[id] = prefixed;');
+  lines.push('        }');
+  lines.push('        return prefixed;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the prefix applied to utilities, e.g. {@code "dark:md:"}.');
+  lines.push('     */');
+  lines.push('    public String prefix() {');
+  lines.push('        return prefix;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the name of the variant, the prefix without the trailing colon.');
+  lines.push('     */');
+  lines.push('    public String name() {');
+  lines.push('        return prefix.substring(0, prefix.length() - 1);');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push(`     * Returns the precomputed variant of a variant index of {@link ${VARIANTS_CLASS}}`);
+  lines.push('     */');
+  lines.push(`    static ${name} byIndex(int index) {`);
+  lines.push('        return VARIANTS[index];');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    /**');
+  lines.push('     * Returns the stack of this variant followed by a single variant, memoized for precomputed ones');
+  lines.push('     */');
+  lines.push(`    private ${name} push(${name} variant) {`);
+  lines.push('        if (variant.index < 0) {');
+  lines.push('            return extend(variant);');
+  lines.push('        }');
+  lines.push(`        ${name}[] cached = stacks;`);
+  lines.push('        if (cached == null) {');
+  lines.push(`            cached = new ${name}[${VARIANTS_CLASS}.PREFIXES.length];`);
+  lines.push('            stacks = cached;');
+  lines.push('        }');
+  lines.push(`        ${name} stack = cached[variant.index];`);
+  lines.push('        if (stack == null) {');
+  lines.push('            stack = extend(variant);');
+  lines.push('            cached[variant.index] = stack;');
+  lines.push('        }');
+  lines.push('        return stack;');
+  lines.push('    }');
+  lines.push('');
+  lines.push(`    private ${name} extend(${name} variant) {`);
+  lines.push(`        ${name}[] stacked;`);
+  lines.push('        if (parts == null) {');
+  lines.push(`            stacked = new ${name}[] {this, variant};`);
+  lines.push('        } else {');
+  lines.push('            stacked = Arrays.copyOf(parts, parts.length + 1);');
+  lines.push('            stacked[parts.length] = variant;');
+  lines.push('        }');
+  lines.push(`        return new ${name}(prefix + variant.prefix, -1, stacked);`);
+  lines.push('    }');
+  lines.push('');
+  lines.push('    private Object readResolve() {');
+  lines.push('        return index >= 0 ? VARIANTS[index] : this;');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    @Override');
+  lines.push('    public boolean equals(Object obj) {');
+  lines.push(`        return obj instanceof ${name} && prefix.equals(((${name}) obj).prefix);`);
+  lines.push('    }');
+  lines.push('');
+  lines.push('    @Override');
+  lines.push('    public int hashCode() {');
+  lines.push('        return prefix.hashCode();');
+  lines.push('    }');
+  lines.push('');
+  lines.push('    @Override');
+  lines.push('    public String toString() {');
+  lines.push('        return prefix;');
+  lines.push('    }');
+  lines.push('}');
+
+  return lines.join('\n');
+}
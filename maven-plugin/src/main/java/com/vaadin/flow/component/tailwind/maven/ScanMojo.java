@@ -0,0 +1,72 @@
+package com.vaadin.flow.component.tailwind.maven;
+
+import java.io.File;
+import java.io.IOException;
+
+import com.vaadin.flow.component.tailwind.scanner.UsageManifest;
+import com.vaadin.flow.component.tailwind.scanner.UsageScanner;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+/**
+ * Writes a manifest of the Tailwind CSS utilities used by the compiled classes of a project.
+ *
+ * <pre>{@code
+ * <plugin>
+ *     <groupId>com.vaadin.flow.component.tailwind</groupId>
+ *     <artifactId>tailwind-maven-plugin</artifactId>
+ *     <executions>
+ *         <execution>
+ *             <goals>
+ *                 <goal>scan</goal>
+ *             </goals>
+ *         </execution>
+ *     </executions>
+ * </plugin>
+ * }</pre>
+ *
+ * @see UsageScanner
+ */
+@Mojo(name = "scan", defaultPhase = LifecyclePhase.PROCESS_CLASSES, threadSafe = true)
+public class ScanMojo extends AbstractMojo {
+
+    /** Directory of the compiled classes to scan */
+    @Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+    private File classesDirectory;
+
+    /** File the manifest is written to */
+    @Parameter(property = "tailwind.manifestFile",
+            defaultValue = "${project.build.outputDirectory}/META-INF/tailwind/used-utilities.txt", required = true)
+    private File manifestFile;
+
+    /** Skips the scan */
+    @Parameter(property = "tailwind.scan.skip", defaultValue = "false")
+    private boolean skip;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        if (skip) {
+            getLog().info("Skipping Tailwind utility scan");
+            return;
+        }
+        if (!classesDirectory.isDirectory()) {
+            getLog().info("No classes to scan in " + classesDirectory);
+            return;
+        }
+
+        try {
+            UsageScanner scanner = new UsageScanner();
+            scanner.scan(classesDirectory.toPath());
+            UsageManifest manifest = scanner.manifest();
+            manifest.write(manifestFile.toPath());
+
+            getLog().info("Found " + manifest.utilities().size() + " Tailwind utilities in "
+                    + manifest.scannedClasses() + " classes, wrote " + manifestFile);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Cannot scan " + classesDirectory + " for Tailwind utilities", e);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.vaadin.flow.component.tailwind.maven;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import com.vaadin.flow.component.tailwind.TW;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Manifests {@link ScanMojo} writes for compiled fixture classes.
+ */
+class ScanMojoTest {
+
+    @TempDir
+    Path temp;
+
+    @Test
+    void writesTheManifest() throws Exception {
+        Path classes = compile("class View {\n"
+                + "    static final String CARD = TW.Layout.FLEX + \" p-4 url:block\";\n"
+                + "    String md(String utility) { return TW.Responsive.md(utility); }\n"
+                + "}\n");
+        Path manifest = temp.resolve("META-INF/tailwind/used-utilities.txt");
+        mojo(classes, manifest, false).execute();
+
+        assertEquals(List.of("# Tailwind CSS utilities used by 1 classes",
+                "# Variants applied through TW.Responsive/TW.State/TwVariant: md",
+                "flex", "md:flex", "md:p-4", "p-4"), Files.readAllLines(manifest));
+    }
+
+    @Test
+    void skipsWhenDisabledOrWithoutClasses() throws Exception {
+        Path manifest = temp.resolve("used-utilities.txt");
+        mojo(compile("class View { static final String CARD = \"flex\"; }\n"), manifest, true).execute();
+        assertFalse(Files.exists(manifest));
+
+        mojo(temp.resolve("missing"), manifest, false).execute();
+        assertFalse(Files.exists(manifest));
+    }
+
+    @Test
+    void failsOnInvalidClassFiles() throws Exception {
+        Path classes = Files.createDirectories(temp.resolve("classes"));
+        Files.writeString(classes.resolve("Invalid.class"), "flex");
+        assertThrows(MojoExecutionException.class,
+                () -> mojo(classes, temp.resolve("used-utilities.txt"), false).execute());
+    }
+
+    /**
+     * Creates the mojo with the parameters Maven would inject.
+     */
+    private static ScanMojo mojo(Path classesDirectory, Path manifestFile, boolean skip) throws Exception {
+        ScanMojo mojo = new ScanMojo();
+        set(mojo, "classesDirectory", classesDirectory.toFile());
+        set(mojo, "manifestFile", manifestFile.toFile());
+        set(mojo, "skip", skip);
+        return mojo;
+    }
+
+    private static void set(ScanMojo mojo, String name, Object value) throws ReflectiveOperationException {
+        Field field = ScanMojo.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(mojo, value);
+    }
+
+    /**
+     * Compiles a class of the {@code test} package against the generated classes.
+     */
+    private Path compile(String source) throws IOException, URISyntaxException {
+        String content = "package test;\nimport com.vaadin.flow.component.tailwind.*;\n" + source;
+        JavaFileObject file = new SimpleJavaFileObject(URI.create("string:///test/View.java"),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return content;
+            }
+        };
+
+        Path classes = Files.createDirectories(temp.resolve("classes"));
+        File generated = Paths.get(TW.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toFile();
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        boolean compiled = compiler.getTask(null, compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8),
+                null, List.of("-d", classes.toString(), "-classpath", generated.toString(), "-proc:none"), null,
+                List.of(file)).call();
+        if (!compiled) {
+            throw new IllegalStateException("Cannot compile " + source);
+        }
+        return classes;
+    }
+}
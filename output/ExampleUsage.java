@@ -1,4 +1,10 @@
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 import com.vaadin.flow.component.tailwind.TW;
+import com.vaadin.flow.component.tailwind.TwPalette;
+import com.vaadin.flow.component.tailwind.TwTokenizer;
+import com.vaadin.flow.component.tailwind.TwUtility;
 
 /**
  * Example usage of the generated Tailwind CSS constants.
@@ -67,6 +73,18 @@ public class ExampleUsage {
         System.out.println("  dark:bg-gray-800 = " + TW.State.dark(TW.Background.GRAY_800));
         System.out.println();
 
+        // Variant constants
+        System.out.println("Variant constants:");
+        System.out.println("  TW.Md.Flex.ROW = " + TW.Md.Flex.ROW);
+        System.out.println("  TW.Hover.Background.BLUE_600 = " + TW.Hover.Background.BLUE_600);
+        System.out.println();
+
+        // Class merging
+        System.out.println("Class merging:");
+        System.out.println("  merge(p-4 p-6 px-2, bg-white bg-gray-100) = "
+                + TW.merge("p-4 p-6 px-2", "bg-white bg-gray-100"));
+        System.out.println();
+
         // Example: Building a card component
         System.out.println("Example: Card component classes");
         String[] cardClasses = {
@@ -80,6 +98,40 @@ public class ExampleUsage {
         System.out.println("  " + String.join(" ", cardClasses));
         System.out.println();
 
+        // Example: The same card as a recipe, joined and conflict-resolved at generation time
+        System.out.println("Example: Card recipe");
+        System.out.println("  TW.Recipe.CARD = " + TW.Recipe.CARD);
+        System.out.println();
+
+        // Example: Resolve a stored class name back to its constant
+        System.out.println("Example: Lookup");
+        System.out.println("  TW.lookup(\"pl-4\").constant() = " + TW.lookup("pl-4").constant());
+        System.out.println();
+
+        // Example: Walk a stored class attribute without splitting it
+        System.out.println("Example: Tokenizer");
+        TwTokenizer tokens = new TwTokenizer("flex md:p-4 hover:bg-blue-600 p-[13px]");
+        while (tokens.next()) {
+            System.out.println("  " + tokens.token() + " -> utility " + tokens.utility()
+                + ", " + tokens.variantCount() + " variant(s)");
+        }
+        System.out.println();
+
+        // Example: Spacing and color computed at runtime
+        System.out.println("Example: Scale accessors");
+        int density = 2;
+        System.out.println("  TW.Spacing.Padding.p(density * 2) = " + TW.Spacing.Padding.p(density * 2));
+        System.out.println("  TW.Background.color(TwPalette.BLUE, 500) = " + TW.Background.color(TwPalette.BLUE, 500));
+        System.out.println();
+
+        // Example: Padding state as a set of utilities
+        System.out.println("Example: Utility sets");
+        Set<TwUtility> padding = new LinkedHashSet<>();
+        padding.add(TW.lookup(TW.Spacing.Padding.P_4));
+        padding.add(TW.lookup(TW.Spacing.Padding.X_2));
+        System.out.println("  TwUtility.toClassString(padding) = " + TwUtility.toClassString(padding));
+        System.out.println();
+
         System.out.println("=== Example Complete ===");
     }
 }
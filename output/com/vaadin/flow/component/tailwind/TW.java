@@ -1,6 +1,11 @@
 package com.vaadin.flow.component.tailwind;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Tailwind CSS utility class constants for type-safe styling in Vaadin Flow.
@@ -170,6 +175,81 @@ public final class TW implements Serializable {
             /** Tailwind class: {@code gap-px} */
             public static final String GAP_PX = "gap-px";
 
+            private static final String[] GAP_STEPS = {
+                    GAP_0, GAP_1, GAP_2, GAP_3, GAP_4, GAP_5, GAP_6, GAP_7, GAP_8, GAP_9, GAP_10,
+                    GAP_11, GAP_12, null, GAP_14, null, GAP_16, null, null, null, GAP_20, null,
+                    null, null, GAP_24, null, null, null, GAP_28, null, null, null, GAP_32, null,
+                    null, null, GAP_36, null, null, null, GAP_40, null, null, null, GAP_44, null,
+                    null, null, GAP_48, null, null, null, GAP_52, null, null, null, GAP_56, null,
+                    null, null, GAP_60, null, null, null, GAP_64, null, null, null, null, null,
+                    null, null, GAP_72, null, null, null, null, null, null, null, GAP_80, null,
+                    null, null, null, null, null, null, null, null, null, null, null, null, null,
+                    null, GAP_96
+            };
+
+            /**
+             * Returns the {@code gap-} utility of the given step, e.g. {@code gap(4)} returns
+             * {@link #GAP_4}.
+             *
+             * @throws IllegalArgumentException if there is no such utility; steps are 0 to 12, 14, 16, 20, 24, 28, 32, 36, 40, 44, 48, 52, 56, 60, 64, 72, 80, 96
+             */
+            public static String gap(int step) {
+                String className = step >= 0 && step <= 96 ? GAP_STEPS[step] : null;
+                if (className == null) {
+                    throw new IllegalArgumentException("No gap- utility for step " + step
+                        + ", steps are 0 to 12, 14, 16, 20, 24, 28, 32, 36, 40, 44, 48, 52, 56, 60, 64, 72, 80, 96");
+                }
+                return className;
+            }
+
+            private static final String[] GAP_X_STEPS = {
+                    X_0, X_1, X_2, null, X_4
+            };
+
+            /**
+             * Returns the {@code gap-x-} utility of the given step, e.g. {@code gapX(4)} returns
+             * {@link #X_4}.
+             *
+             * @throws IllegalArgumentException if there is no such utility; steps are 0 to 2, 4
+             */
+            public static String gapX(int step) {
+                String className = step >= 0 && step <= 4 ? GAP_X_STEPS[step] : null;
+                if (className == null) {
+                    throw new IllegalArgumentException("No gap-x- utility for step " + step
+                        + ", steps are 0 to 2, 4");
+                }
+                return className;
+            }
+
+            private static final String[] GAP_Y_STEPS = {
+                    Y_0, Y_1, Y_2, null, Y_4
+            };
+
+            /**
+             * Returns the {@code gap-y-} utility of the given step, e.g. {@code gapY(4)} returns
+             * {@link #Y_4}.
+             *
+             * @throws IllegalArgumentException if there is no such utility; steps are 0 to 2, 4
+             */
+            public static String gapY(int step) {
+                String className = step >= 0 && step <= 4 ? GAP_Y_STEPS[step] : null;
+                if (className == null) {
+                    throw new IllegalArgumentException("No gap-y- utility for step " + step
+                        + ", steps are 0 to 2, 4");
+                }
+                return className;
+            }
+
+            /** All utilities of this class, in declaration order. Immutable. */
+            public static final List<String> ALL = List.of(
+                    "gap-0", "gap-0.5", "gap-x-0", "gap-y-0", "gap-1", "gap-1.5", "gap-x-1",
+                    "gap-y-1", "gap-2", "gap-2.5", "gap-x-2", "gap-y-2", "gap-3", "gap-3.5",
+                    "gap-4", "gap-x-4", "gap-y-4", "gap-5", "gap-6", "gap-7", "gap-8", "gap-9",
+                    "gap-10", "gap-11", "gap-12", "gap-14", "gap-16", "gap-20", "gap-24", "gap-28",
+                    "gap-32", "gap-36", "gap-40", "gap-44", "gap-48", "gap-52", "gap-56", "gap-60",
+                    "gap-64", "gap-72", "gap-80", "gap-96", "gap-px"
+            );
+
             private Gap() {}
         }
 
@@ -388,6 +468,158 @@ public final class TW implements Serializable {
             /** Tailwind class: {@code my-auto} */
             public static final String Y_AUTO = "my-auto";
 
+            private static final String[] M_STEPS = {
+                    NEG_M_4, null, NEG_M_2, NEG_M_1, M_0, M_1, M_2, M_3, M_4, M_5, M_6, M_7, M_8,
+                    M_9, M_10, M_11, M_12, null, M_14, null, M_16, null, null, null, M_20, null,
+                    null, null, M_24, null, null, null, M_28, null, null, null, M_32, null, null,
+                    null, M_36, null, null, null, M_40, null, null, null, M_44, null, null, null,
+                    M_48, null, null, null, M_52, null, null, null, M_56, null, null, null, M_60,
+                    null, null, null, M_64, null, null, null, null, null, null, null, M_72, null,
+                    null, null, null, null, null, null, M_80, null, null, null, null, null, null,
+                    null, null, null, null, null, null, null, null, null, M_96
+            };
+
+            /**
+             * Returns the {@code m-} utility of the given step, e.g. {@code m(4)} returns
+             * {@link #M_4}.
+             *
+             * @throws IllegalArgumentException if there is no such utility; steps are -4, -2 to 12, 14, 16, 20, 24, 28, 32, 36, 40, 44, 48, 52, 56, 60, 64, 72, 80, 96
+             */
+            public static String m(int step) {
+                String className = step >= -4 && step <= 96 ? M_STEPS[step - (-4)] : null;
+                if (className == null) {
+                    throw new IllegalArgumentException("No m- utility for step " + step
+                        + ", steps are -4, -2 to 12, 14, 16, 20, 24, 28, 32, 36, 40, 44, 48, 52, 56, 60, 64, 72, 80, 96");
+                }
+                return className;
+            }
+
+            private static final String[] MB_STEPS = {
+                    NEG_BOTTOM_1, BOTTOM_0, BOTTOM_1, BOTTOM_2
+            };
+
+            /**
+             * Returns the {@code mb-} utility of the given step, e.g. {@code mb(2)} returns
+             * {@link #BOTTOM_2}.
+             *
+             * @throws IllegalArgumentException if there is no such utility; steps are -1 to 2
+             */
+            public static String mb(int step) {
+                String className = step >= -1 && step <= 2 ? MB_STEPS[step - (-1)] : null;
+                if (className == null) {
+                    throw new IllegalArgumentException("No mb- utility for step " + step
+                        + ", steps are -1 to 2");
+                }
+                return className;
+            }
+
+            private static final String[] ML_STEPS = {
+                    NEG_LEFT_4, null, null, NEG_LEFT_1, LEFT_0, LEFT_1, LEFT_2, null, LEFT_4
+            };
+
+            /**
+             * Returns the {@code ml-} utility of the given step, e.g. {@code ml(4)} returns
+             * {@link #LEFT_4}.
+             *
+             * @throws IllegalArgumentException if there is no such utility; steps are -4, -1 to 2, 4
+             */
+            public static String ml(int step) {
+                String className = step >= -4 && step <= 4 ? ML_STEPS[step - (-4)] : null;
+                if (className == null) {
+                    throw new IllegalArgumentException("No ml- utility for step " + step
+                        + ", steps are -4, -1 to 2, 4");
+                }
+                return className;
+            }
+
+            private static final String[] MR_STEPS = {
+                    NEG_RIGHT_1, RIGHT_0, RIGHT_1, RIGHT_2
+            };
+
+            /**
+             * Returns the {@code mr-} utility of the given step, e.g. {@code mr(2)} returns
+             * {@link #RIGHT_2}.
+             *
+             * @throws IllegalArgumentException if there is no such utility; steps are -1 to 2
+             */
+            public static String mr(int step) {
+                String className = step >= -1 && step <= 2 ? MR_STEPS[step - (-1)] : null;
+                if (className == null) {
+                    throw new IllegalArgumentException("No mr- utility for step " + step
+                        + ", steps are -1 to 2");
+                }
+                return className;
+            }
+
+            private static final String[] MT_STEPS = {
+                    NEG_TOP_1, TOP_0, TOP_1, TOP_2, null, TOP_4
+            };
+
+            /**
+             * Returns the {@code mt-} utility of the given step, e.g. {@code mt(4)} returns
+             * {@link #TOP_4}.
+             *
+             * @throws IllegalArgumentException if there is no such utility; steps are -1 to 2, 4
+             */
+            public static String mt(int step) {
+                String className = step >= -1 && step <= 4 ? MT_STEPS[step - (-1)] : null;
+                if (className == null) {
+                    throw new IllegalArgumentException("No mt- utility for step " + step
+                        + ", steps are -1 to 2, 4");
+                }
+                return className;
+            }
+
+            private static final String[] MX_STEPS = {
+                    NEG_X_1, X_0, X_1, X_2, null, X_4
+            };
+
+            /**
+             * Returns the {@code mx-} utility of the given step, e.g. {@code mx(4)} returns
+             * {@link #X_4}.
+             *
+             * @throws IllegalArgumentException if there is no such utility; steps are -1 to 2, 4
+             */
+            public static String mx(int step) {
+                String className = step >= -1 && step <= 4 ? MX_STEPS[step - (-1)] : null;
+                if (className == null) {
+                    throw new IllegalArgumentException("No mx- utility for step " + step
+                        + ", steps are -1 to 2, 4");
+                }
+                return className;
+            }
+
+            private static final String[] MY_STEPS = {
+                    NEG_Y_1, Y_0, Y_1, Y_2
+            };
+
+            /**
+             * Returns the {@code my-} utility of the given step, e.g. {@code my(2)} returns
+             * {@link #Y_2}.
+             *
+             * @throws IllegalArgumentException if there is no such utility; steps are -1 to 2
+             */
+            public static String my(int step) {
+                String className = step >= -1 && step <= 2 ? MY_STEPS[step - (-1)] : null;
+                if (className == null) {
+                    throw new IllegalArgumentException("No my- utility for step " + step
+                        + ", steps are -1 to 2");
+                }
+                return className;
+            }
+
+            /** All utilities of this class, in declaration order. Immutable. */
+            public static final List<String> ALL = List.of(
+                    "mb-0", "ml-0", "m-0", "m-0.5", "-m-0", "mr-0", "mt-0", "mx-0", "my-0", "mb-1",
+                    "ml-1", "m-1", "m-1.5", "-mb-1", "-ml-1", "-m-1", "-mr-1", "-mt-1", "-mx-1",
+                    "-my-1", "mr-1", "mt-1", "mx-1", "my-1", "mb-2", "ml-2", "m-2", "m-2.5", "-m-2",
+                    "mr-2", "mt-2", "mx-2", "my-2", "m-3", "m-3.5", "ml-4", "m-4", "-ml-4", "-m-4",
+                    "mt-4", "mx-4", "m-5", "m-6", "m-7", "m-8", "m-9", "m-10", "m-11", "m-12",
+                    "m-14", "m-16", "m-20", "m-24", "m-28", "m-32", "m-36", "m-40", "m-44", "m-48",
+                    "m-52", "m-56", "m-60", "m-64", "m-72", "m-80", "m-96", "m-auto", "m-px",
+                    "mx-auto", "my-auto"
+            );
+
             private Margin() {}
         }
 
@@ -591,6 +823,195 @@ public final class TW implements Serializable {
             /** Tailwind class: {@code p-80} */
             public static final String P_80 = "p-80";
 
+            private static final String[] P_STEPS = {
+                    P_0, P_1, P_2, P_3, P_4, P_5, P_6, P_7, P_8, P_9, P_10, P_11, P_12, null, P_14,
+                    null, P_16, null, null, null, P_20, null, null, null, P_24, null, null, null,
+                    P_28, null, null, null, P_32, null, null, null, P_36, null, null, null, P_40,
+                    null, null, null, P_44, null, null, null, P_48, null, null, null, P_52, null,
+                    null, null, P_56, null, null, null, P_60, null, null, null, P_64, null, null,
+                    null, null, null, null, null, P_72, null, null, null, null, null, null, null,
+                    P_80, null, null, null, null, null, null, null, null, null, null, null, null,
+                    null, null, null, P_96
+            };
+
+            /**
+             * Returns the {@code p-} utility of the given step, e.g. {@code p(4)} returns
+             * {@link #P_4}.
+             *
+             * @throws IllegalArgumentException if there is no such utility; steps are 0 to 12, 14, 16, 20, 24, 28, 32, 36, 40, 44, 48, 52, 56, 60, 64, 72, 80, 96
+             */
+            public static String p(int step) {
+                String className = step >= 0 && step <= 96 ? P_STEPS[step] : null;
+                if (className == null) {
+                    throw new IllegalArgumentException("No p- utility for step " + step
+                        + ", steps are 0 to 12, 14, 16, 20, 24, 28, 32, 36, 40, 44, 48, 52, 56, 60, 64, 72, 80, 96");
+                }
+                return className;
+            }
+
+            private static final String[] PB_STEPS = {
+                    BOTTOM_0, BOTTOM_1, BOTTOM_2
+            };
+
+            /**
+             * Returns the {@code pb-} utility of the given step, e.g. {@code pb(2)} returns
+             * {@link #BOTTOM_2}.
+             *
+             * @throws IllegalArgumentException if there is no such utility; steps are 0 to 2
+             */
+            public static String pb(int step) {
+                String className = step >= 0 && step <= 2 ? PB_STEPS[step] : null;
+                if (className == null) {
+                    throw new IllegalArgumentException("No pb- utility for step " + step
+                        + ", steps are 0 to 2");
+                }
+                return className;
+            }
+
+            private static final String[] PE_STEPS = {
+                    PE_0, PE_1, PE_2
+            };
+
+            /**
+             * Returns the {@code pe-} utility of the given step, e.g. {@code pe(2)} returns
+             * {@link #PE_2}.
+             *
+             * @throws IllegalArgumentException if there is no such utility; steps are 0 to 2
+             */
+            public static String pe(int step) {
+                String className = step >= 0 && step <= 2 ? PE_STEPS[step] : null;
+                if (className == null) {
+                    throw new IllegalArgumentException("No pe- utility for step " + step
+                        + ", steps are 0 to 2");
+                }
+                return className;
+            }
+
+            private static final String[] PL_STEPS = {
+                    LEFT_0, LEFT_1, LEFT_2, null, LEFT_4
+            };
+
+            /**
+             * Returns the {@code pl-} utility of the given step, e.g. {@code pl(4)} returns
+             * {@link #LEFT_4}.
+             *
+             * @throws IllegalArgumentException if there is no such utility; steps are 0 to 2, 4
+             */
+            public static String pl(int step) {
+                String className = step >= 0 && step <= 4 ? PL_STEPS[step] : null;
+                if (className == null) {
+                    throw new IllegalArgumentException("No pl- utility for step " + step
+                        + ", steps are 0 to 2, 4");
+                }
+                return className;
+            }
+
+            private static final String[] PR_STEPS = {
+                    RIGHT_0, RIGHT_1, RIGHT_2
+            };
+
+            /**
+             * Returns the {@code pr-} utility of the given step, e.g. {@code pr(2)} returns
+             * {@link #RIGHT_2}.
+             *
+             * @throws IllegalArgumentException if there is no such utility; steps are 0 to 2
+             */
+            public static String pr(int step) {
+                String className = step >= 0 && step <= 2 ? PR_STEPS[step] : null;
+                if (className == null) {
+                    throw new IllegalArgumentException("No pr- utility for step " + step
+                        + ", steps are 0 to 2");
+                }
+                return className;
+            }
+
+            private static final String[] PS_STEPS = {
+                    PS_0, PS_1, PS_2
+            };
+
+            /**
+             * Returns the {@code ps-} utility of the given step, e.g. {@code ps(2)} returns
+             * {@link #PS_2}.
+             *
+             * @throws IllegalArgumentException if there is no such utility; steps are 0 to 2
+             */
+            public static String ps(int step) {
+                String className = step >= 0 && step <= 2 ? PS_STEPS[step] : null;
+                if (className == null) {
+                    throw new IllegalArgumentException("No ps- utility for step " + step
+                        + ", steps are 0 to 2");
+                }
+                return className;
+            }
+
+            private static final String[] PT_STEPS = {
+                    TOP_0, TOP_1, TOP_2, null, TOP_4
+            };
+
+            /**
+             * Returns the {@code pt-} utility of the given step, e.g. {@code pt(4)} returns
+             * {@link #TOP_4}.
+             *
+             * @throws IllegalArgumentException if there is no such utility; steps are 0 to 2, 4
+             */
+            public static String pt(int step) {
+                String className = step >= 0 && step <= 4 ? PT_STEPS[step] : null;
+                if (className == null) {
+                    throw new IllegalArgumentException("No pt- utility for step " + step
+                        + ", steps are 0 to 2, 4");
+                }
+                return className;
+            }
+
+            private static final String[] PX_STEPS = {
+                    X_0, X_1, X_2, null, X_4, null, X_6, null, X_8
+            };
+
+            /**
+             * Returns the {@code px-} utility of the given step, e.g. {@code px(4)} returns
+             * {@link #X_4}.
+             *
+             * @throws IllegalArgumentException if there is no such utility; steps are 0 to 2, 4, 6, 8
+             */
+            public static String px(int step) {
+                String className = step >= 0 && step <= 8 ? PX_STEPS[step] : null;
+                if (className == null) {
+                    throw new IllegalArgumentException("No px- utility for step " + step
+                        + ", steps are 0 to 2, 4, 6, 8");
+                }
+                return className;
+            }
+
+            private static final String[] PY_STEPS = {
+                    Y_0, Y_1, Y_2, null, Y_4
+            };
+
+            /**
+             * Returns the {@code py-} utility of the given step, e.g. {@code py(4)} returns
+             * {@link #Y_4}.
+             *
+             * @throws IllegalArgumentException if there is no such utility; steps are 0 to 2, 4
+             */
+            public static String py(int step) {
+                String className = step >= 0 && step <= 4 ? PY_STEPS[step] : null;
+                if (className == null) {
+                    throw new IllegalArgumentException("No py- utility for step " + step
+                        + ", steps are 0 to 2, 4");
+                }
+                return className;
+            }
+
+            /** All utilities of this class, in declaration order. Immutable. */
+            public static final List<String> ALL = List.of(
+                    "pb-0", "pl-0", "p-0", "p-0.5", "pe-0", "ps-0", "pr-0", "pt-0", "px-0", "py-0",
+                    "pb-1", "pl-1", "p-1", "p-1.5", "pe-1", "ps-1", "pr-1", "pt-1", "px-1", "py-1",
+                    "pb-2", "pl-2", "p-2", "p-2.5", "pe-2", "ps-2", "pr-2", "pt-2", "px-2", "py-2",
+                    "p-3", "p-3.5", "pl-4", "p-4", "pt-4", "py-4", "px-6", "px-8", "p-96", "p-px",
+                    "px-4", "p-5", "p-6", "p-7", "p-8", "p-9", "p-10", "p-11", "p-12", "p-14",
+                    "p-16", "p-20", "p-24", "p-28", "p-32", "p-36", "p-40", "p-44", "p-48", "p-52",
+                    "p-56", "p-60", "p-64", "p-72", "p-80"
+            );
+
             private Padding() {}
         }
 
@@ -629,9 +1050,78 @@ public final class TW implements Serializable {
             /** Tailwind class: {@code space-y-4} */
             public static final String Y_4 = "space-y-4";
 
+            private static final String[] SPACE_X_STEPS = {
+                    X_0, X_1, X_2, null, X_4
+            };
+
+            /**
+             * Returns the {@code space-x-} utility of the given step, e.g. {@code spaceX(4)} returns
+             * {@link #X_4}.
+             *
+             * @throws IllegalArgumentException if there is no such utility; steps are 0 to 2, 4
+             */
+            public static String spaceX(int step) {
+                String className = step >= 0 && step <= 4 ? SPACE_X_STEPS[step] : null;
+                if (className == null) {
+                    throw new IllegalArgumentException("No space-x- utility for step " + step
+                        + ", steps are 0 to 2, 4");
+                }
+                return className;
+            }
+
+            private static final String[] SPACE_Y_STEPS = {
+                    Y_0, Y_1, Y_2, null, Y_4
+            };
+
+            /**
+             * Returns the {@code space-y-} utility of the given step, e.g. {@code spaceY(4)} returns
+             * {@link #Y_4}.
+             *
+             * @throws IllegalArgumentException if there is no such utility; steps are 0 to 2, 4
+             */
+            public static String spaceY(int step) {
+                String className = step >= 0 && step <= 4 ? SPACE_Y_STEPS[step] : null;
+                if (className == null) {
+                    throw new IllegalArgumentException("No space-y- utility for step " + step
+                        + ", steps are 0 to 2, 4");
+                }
+                return className;
+            }
+
+            /** All utilities of this class, in declaration order. Immutable. */
+            public static final List<String> ALL = List.of(
+                    "space-x-reverse", "space-x-0", "space-y-reverse", "space-y-0", "space-x-1",
+                    "space-y-1", "space-x-2", "space-y-2", "space-x-4", "space-y-4"
+            );
+
             private Space() {}
         }
 
+        /** All utilities of this class and its nested classes, in declaration order. Immutable. */
+        public static final List<String> ALL = List.of(
+                "gap-0", "gap-0.5", "gap-x-0", "gap-y-0", "gap-1", "gap-1.5", "gap-x-1", "gap-y-1",
+                "gap-2", "gap-2.5", "gap-x-2", "gap-y-2", "gap-3", "gap-3.5", "gap-4", "gap-x-4",
+                "gap-y-4", "gap-5", "gap-6", "gap-7", "gap-8", "gap-9", "gap-10", "gap-11",
+                "gap-12", "gap-14", "gap-16", "gap-20", "gap-24", "gap-28", "gap-32", "gap-36",
+                "gap-40", "gap-44", "gap-48", "gap-52", "gap-56", "gap-60", "gap-64", "gap-72",
+                "gap-80", "gap-96", "gap-px", "mb-0", "ml-0", "m-0", "m-0.5", "-m-0", "mr-0",
+                "mt-0", "mx-0", "my-0", "mb-1", "ml-1", "m-1", "m-1.5", "-mb-1", "-ml-1", "-m-1",
+                "-mr-1", "-mt-1", "-mx-1", "-my-1", "mr-1", "mt-1", "mx-1", "my-1", "mb-2", "ml-2",
+                "m-2", "m-2.5", "-m-2", "mr-2", "mt-2", "mx-2", "my-2", "m-3", "m-3.5", "ml-4",
+                "m-4", "-ml-4", "-m-4", "mt-4", "mx-4", "m-5", "m-6", "m-7", "m-8", "m-9", "m-10",
+                "m-11", "m-12", "m-14", "m-16", "m-20", "m-24", "m-28", "m-32", "m-36", "m-40",
+                "m-44", "m-48", "m-52", "m-56", "m-60", "m-64", "m-72", "m-80", "m-96", "m-auto",
+                "m-px", "mx-auto", "my-auto", "pb-0", "pl-0", "p-0", "p-0.5", "pe-0", "ps-0",
+                "pr-0", "pt-0", "px-0", "py-0", "pb-1", "pl-1", "p-1", "p-1.5", "pe-1", "ps-1",
+                "pr-1", "pt-1", "px-1", "py-1", "pb-2", "pl-2", "p-2", "p-2.5", "pe-2", "ps-2",
+                "pr-2", "pt-2", "px-2", "py-2", "p-3", "p-3.5", "pl-4", "p-4", "pt-4", "py-4",
+                "px-6", "px-8", "p-96", "p-px", "px-4", "p-5", "p-6", "p-7", "p-8", "p-9", "p-10",
+                "p-11", "p-12", "p-14", "p-16", "p-20", "p-24", "p-28", "p-32", "p-36", "p-40",
+                "p-44", "p-48", "p-52", "p-56", "p-60", "p-64", "p-72", "p-80", "space-x-reverse",
+                "space-x-0", "space-y-reverse", "space-y-0", "space-x-1", "space-y-1", "space-x-2",
+                "space-y-2", "space-x-4", "space-y-4"
+        );
+
         private Spacing() {}
     }
 
@@ -705,6 +1195,14 @@ public final class TW implements Serializable {
         /** Tailwind class: {@code table-row-group} */
         public static final String TABLE_ROW_GROUP = "table-row-group";
 
+        /** All utilities of this class, in declaration order. Immutable. */
+        public static final List<String> ALL = List.of(
+                "block", "contents", "flex", "flow-root", "grid", "hidden", "inline",
+                "inline-block", "inline-flex", "inline-grid", "inline-table", "list-item", "table",
+                "table-caption", "table-cell", "table-column", "table-column-group",
+                "table-footer-group", "table-header-group", "table-row", "table-row-group"
+        );
+
         private Layout() {}
     }
 
@@ -828,6 +1326,40 @@ public final class TW implements Serializable {
             /** Tailwind class: {@code h-screen} */
             public static final String SCREEN = "h-screen";
 
+            private static final String[] H_STEPS = {
+                    H_0, H_1, H_2, H_3, H_4, H_5, H_6, null, H_8, null, H_10, null, H_12, null,
+                    null, null, H_16, null, null, null, H_20, null, null, null, H_24, null, null,
+                    null, null, null, null, null, H_32, null, null, null, null, null, null, null,
+                    H_40, null, null, null, null, null, null, null, H_48, null, null, null, null,
+                    null, null, null, H_56, null, null, null, null, null, null, null, H_64, null,
+                    null, null, null, null, null, null, H_72, null, null, null, null, null, null,
+                    null, H_80, null, null, null, null, null, null, null, null, null, null, null,
+                    null, null, null, null, H_96
+            };
+
+            /**
+             * Returns the {@code h-} utility of the given step, e.g. {@code h(4)} returns
+             * {@link #H_4}.
+             *
+             * @throws IllegalArgumentException if there is no such utility; steps are 0 to 6, 8, 10, 12, 16, 20, 24, 32, 40, 48, 56, 64, 72, 80, 96
+             */
+            public static String h(int step) {
+                String className = step >= 0 && step <= 96 ? H_STEPS[step] : null;
+                if (className == null) {
+                    throw new IllegalArgumentException("No h- utility for step " + step
+                        + ", steps are 0 to 6, 8, 10, 12, 16, 20, 24, 32, 40, 48, 56, 64, 72, 80, 96");
+                }
+                return className;
+            }
+
+            /** All utilities of this class, in declaration order. Immutable. */
+            public static final List<String> ALL = List.of(
+                    "h-auto", "h-fit", "h-full", "h-0", "h-0.5", "h-1", "h-1/2", "h-1/3", "h-1/4",
+                    "h-1/5", "h-1/6", "h-2", "h-2/3", "h-3", "h-3/4", "h-4", "h-5", "h-6", "h-8",
+                    "h-10", "h-12", "h-16", "h-20", "h-24", "h-32", "h-40", "h-48", "h-56", "h-64",
+                    "h-72", "h-80", "h-96", "h-px", "h-max", "h-min", "h-screen"
+            );
+
             private Height() {}
         }
 
@@ -854,6 +1386,11 @@ public final class TW implements Serializable {
             /** Tailwind class: {@code max-h-screen} */
             public static final String SCREEN = "max-h-screen";
 
+            /** All utilities of this class, in declaration order. Immutable. */
+            public static final List<String> ALL = List.of(
+                    "max-h-fit", "max-h-full", "max-h-0", "max-h-max", "max-h-min", "max-h-screen"
+            );
+
             private MaxHeight() {}
         }
 
@@ -931,6 +1468,15 @@ public final class TW implements Serializable {
             /** Tailwind class: {@code max-w-xs} */
             public static final String W_XS = "max-w-xs";
 
+            /** All utilities of this class, in declaration order. Immutable. */
+            public static final List<String> ALL = List.of(
+                    "max-w-fit", "max-w-full", "max-w-max", "max-w-min", "max-w-screen-lg",
+                    "max-w-0", "max-w-screen-2xl", "max-w-screen-md", "max-w-screen-sm",
+                    "max-w-screen-xl", "max-w-2xl", "max-w-3xl", "max-w-4xl", "max-w-5xl",
+                    "max-w-6xl", "max-w-7xl", "max-w-lg", "max-w-md", "max-w-none", "max-w-prose",
+                    "max-w-sm", "max-w-xl", "max-w-xs"
+            );
+
             private MaxWidth() {}
         }
 
@@ -957,6 +1503,11 @@ public final class TW implements Serializable {
             /** Tailwind class: {@code min-h-screen} */
             public static final String SCREEN = "min-h-screen";
 
+            /** All utilities of this class, in declaration order. Immutable. */
+            public static final List<String> ALL = List.of(
+                    "min-h-fit", "min-h-full", "min-h-0", "min-h-max", "min-h-min", "min-h-screen"
+            );
+
             private MinHeight() {}
         }
 
@@ -980,6 +1531,11 @@ public final class TW implements Serializable {
             /** Tailwind class: {@code min-w-0} */
             public static final String W_0 = "min-w-0";
 
+            /** All utilities of this class, in declaration order. Immutable. */
+            public static final List<String> ALL = List.of(
+                    "min-w-fit", "min-w-full", "min-w-max", "min-w-min", "min-w-0"
+            );
+
             private MinWidth() {}
         }
 
@@ -1009,6 +1565,30 @@ public final class TW implements Serializable {
             /** Tailwind class: {@code size-full} */
             public static final String SIZE_FULL = "size-full";
 
+            private static final String[] SIZE_STEPS = {
+                    SIZE_0, SIZE_1, SIZE_2, null, SIZE_4, null, null, null, SIZE_8
+            };
+
+            /**
+             * Returns the {@code size-} utility of the given step, e.g. {@code size(4)} returns
+             * {@link #SIZE_4}.
+             *
+             * @throws IllegalArgumentException if there is no such utility; steps are 0 to 2, 4, 8
+             */
+            public static String size(int step) {
+                String className = step >= 0 && step <= 8 ? SIZE_STEPS[step] : null;
+                if (className == null) {
+                    throw new IllegalArgumentException("No size- utility for step " + step
+                        + ", steps are 0 to 2, 4, 8");
+                }
+                return className;
+            }
+
+            /** All utilities of this class, in declaration order. Immutable. */
+            public static final List<String> ALL = List.of(
+                    "size-0", "size-1", "size-2", "size-4", "size-8", "size-auto", "size-full"
+            );
+
             private Size() {}
         }
 
@@ -1140,9 +1720,65 @@ public final class TW implements Serializable {
             /** Tailwind class: {@code w-px} */
             public static final String W_PX = "w-px";
 
+            private static final String[] W_STEPS = {
+                    W_0, W_1, W_2, W_3, W_4, W_5, W_6, null, W_8, null, W_10, null, W_12, null,
+                    null, null, W_16, null, null, null, W_20, null, null, null, W_24, null, null,
+                    null, null, null, null, null, W_32, null, null, null, null, null, null, null,
+                    W_40, null, null, null, null, null, null, null, W_48, null, null, null, null,
+                    null, null, null, W_56, null, null, null, null, null, null, null, W_64, null,
+                    null, null, null, null, null, null, W_72, null, null, null, null, null, null,
+                    null, W_80, null, null, null, null, null, null, null, null, null, null, null,
+                    null, null, null, null, W_96
+            };
+
+            /**
+             * Returns the {@code w-} utility of the given step, e.g. {@code w(4)} returns
+             * {@link #W_4}.
+             *
+             * @throws IllegalArgumentException if there is no such utility; steps are 0 to 6, 8, 10, 12, 16, 20, 24, 32, 40, 48, 56, 64, 72, 80, 96
+             */
+            public static String w(int step) {
+                String className = step >= 0 && step <= 96 ? W_STEPS[step] : null;
+                if (className == null) {
+                    throw new IllegalArgumentException("No w- utility for step " + step
+                        + ", steps are 0 to 6, 8, 10, 12, 16, 20, 24, 32, 40, 48, 56, 64, 72, 80, 96");
+                }
+                return className;
+            }
+
+            /** All utilities of this class, in declaration order. Immutable. */
+            public static final List<String> ALL = List.of(
+                    "w-auto", "w-fit", "w-full", "w-max", "w-min", "w-screen", "w-0", "w-0.5",
+                    "w-1", "w-1/12", "w-1/2", "w-1/3", "w-1/4", "w-1/5", "w-1/6", "w-2", "w-2/3",
+                    "w-2/4", "w-2/5", "w-3", "w-3/4", "w-3/5", "w-4", "w-4/5", "w-5", "w-6", "w-8",
+                    "w-10", "w-12", "w-16", "w-20", "w-24", "w-32", "w-40", "w-48", "w-56", "w-64",
+                    "w-72", "w-80", "w-96", "w-px"
+            );
+
             private Width() {}
         }
 
+        /** All utilities of this class and its nested classes, in declaration order. Immutable. */
+        public static final List<String> ALL = List.of(
+                "h-auto", "h-fit", "h-full", "h-0", "h-0.5", "h-1", "h-1/2", "h-1/3", "h-1/4",
+                "h-1/5", "h-1/6", "h-2", "h-2/3", "h-3", "h-3/4", "h-4", "h-5", "h-6", "h-8",
+                "h-10", "h-12", "h-16", "h-20", "h-24", "h-32", "h-40", "h-48", "h-56", "h-64",
+                "h-72", "h-80", "h-96", "h-px", "h-max", "h-min", "h-screen", "max-h-fit",
+                "max-h-full", "max-h-0", "max-h-max", "max-h-min", "max-h-screen", "max-w-fit",
+                "max-w-full", "max-w-max", "max-w-min", "max-w-screen-lg", "max-w-0",
+                "max-w-screen-2xl", "max-w-screen-md", "max-w-screen-sm", "max-w-screen-xl",
+                "max-w-2xl", "max-w-3xl", "max-w-4xl", "max-w-5xl", "max-w-6xl", "max-w-7xl",
+                "max-w-lg", "max-w-md", "max-w-none", "max-w-prose", "max-w-sm", "max-w-xl",
+                "max-w-xs", "min-h-fit", "min-h-full", "min-h-0", "min-h-max", "min-h-min",
+                "min-h-screen", "min-w-fit", "min-w-full", "min-w-max", "min-w-min", "min-w-0",
+                "size-0", "size-1", "size-2", "size-4", "size-8", "size-auto", "size-full",
+                "w-auto", "w-fit", "w-full", "w-max", "w-min", "w-screen", "w-0", "w-0.5", "w-1",
+                "w-1/12", "w-1/2", "w-1/3", "w-1/4", "w-1/5", "w-1/6", "w-2", "w-2/3", "w-2/4",
+                "w-2/5", "w-3", "w-3/4", "w-3/5", "w-4", "w-4/5", "w-5", "w-6", "w-8", "w-10",
+                "w-12", "w-16", "w-20", "w-24", "w-32", "w-40", "w-48", "w-56", "w-64", "w-72",
+                "w-80", "w-96", "w-px"
+        );
+
         private Sizing() {}
     }
 
@@ -1270,6 +1906,61 @@ public final class TW implements Serializable {
         /** Tailwind class: {@code bg-zinc-950} */
         public static final String ZINC_950 = "bg-zinc-950";
 
+        /** Constants by {@link TwPalette} ordinal and shade index, null rows for colors without any */
+        private static final String[][] COLOR_SHADES = {
+            {SLATE_50, SLATE_100, null, null, null, SLATE_500, null, null, null, null, SLATE_950}, // slate
+            {GRAY_50, GRAY_100, GRAY_200, GRAY_300, GRAY_400, GRAY_500, GRAY_600, GRAY_700, GRAY_800, GRAY_900, GRAY_950}, // gray
+            {ZINC_50, null, null, null, null, ZINC_500, null, null, null, null, ZINC_950}, // zinc
+            null, // neutral
+            null, // stone
+            {RED_50, RED_100, null, null, null, RED_500, null, null, null, null, RED_950}, // red
+            {ORANGE_50, null, null, null, null, ORANGE_500, null, null, null, null, ORANGE_950}, // orange
+            null, // amber
+            null, // yellow
+            null, // lime
+            {GREEN_50, null, null, null, null, GREEN_500, null, null, null, null, GREEN_950}, // green
+            null, // emerald
+            null, // teal
+            null, // cyan
+            null, // sky
+            {BLUE_50, BLUE_100, null, null, null, BLUE_500, BLUE_600, BLUE_700, null, null, BLUE_950}, // blue
+            null, // indigo
+            null, // violet
+            null, // purple
+            null, // fuchsia
+            null, // pink
+            null // rose
+        };
+
+        /**
+         * Returns the {@code bg-} utility of the given color and shade, e.g.
+         * {@code color(TwPalette.BLUE, 500)} returns {@link #BLUE_500}.
+         *
+         * @throws IllegalArgumentException if there is no such utility
+         * @throws NullPointerException if the color is null
+         */
+        public static String color(TwPalette color, int shade) {
+            String[] shades = COLOR_SHADES[Objects.requireNonNull(color, "color").ordinal()];
+            int index = TwPalette.shadeIndex(shade);
+            String className = shades != null && index >= 0 ? shades[index] : null;
+            if (className == null) {
+                throw new IllegalArgumentException("No bg- utility for " + color + "-" + shade);
+            }
+            return className;
+        }
+
+        /** All utilities of this class, in declaration order. Immutable. */
+        public static final List<String> ALL = List.of(
+                "bg-black", "bg-blue-50", "bg-gray-50", "bg-green-50", "bg-orange-50", "bg-red-50",
+                "bg-slate-50", "bg-zinc-50", "bg-blue-100", "bg-gray-100", "bg-red-100",
+                "bg-slate-100", "bg-gray-200", "bg-gray-300", "bg-gray-400", "bg-blue-500",
+                "bg-gray-500", "bg-green-500", "bg-orange-500", "bg-red-500", "bg-slate-500",
+                "bg-blue-600", "bg-gray-600", "bg-blue-700", "bg-gray-700", "bg-gray-800",
+                "bg-gray-900", "bg-blue-950", "bg-current", "bg-gray-950", "bg-green-950",
+                "bg-inherit", "bg-zinc-500", "bg-orange-950", "bg-red-950", "bg-slate-950",
+                "bg-transparent", "bg-white", "bg-zinc-950"
+        );
+
         private Background() {}
     }
 
@@ -1571,6 +2262,76 @@ public final class TW implements Serializable {
         /** Tailwind class: {@code text-zinc-950} */
         public static final String ZINC_950 = "text-zinc-950";
 
+        /** Constants by {@link TwPalette} ordinal and shade index, null rows for colors without any */
+        private static final String[][] COLOR_SHADES = {
+            {SLATE_50, SLATE_100, SLATE_200, SLATE_300, SLATE_400, SLATE_500, SLATE_600, SLATE_700, SLATE_800, SLATE_900, SLATE_950}, // slate
+            {GRAY_50, GRAY_100, GRAY_200, GRAY_300, GRAY_400, GRAY_500, GRAY_600, GRAY_700, GRAY_800, GRAY_900, GRAY_950}, // gray
+            {ZINC_50, ZINC_100, null, null, null, ZINC_500, null, null, null, null, ZINC_950}, // zinc
+            {NEUTRAL_50, null, null, null, null, NEUTRAL_500, null, null, null, null, NEUTRAL_950}, // neutral
+            {STONE_50, null, null, null, null, STONE_500, null, null, null, null, STONE_950}, // stone
+            {RED_50, RED_100, RED_200, RED_300, RED_400, RED_500, RED_600, RED_700, RED_800, RED_900, RED_950}, // red
+            {ORANGE_50, null, null, null, null, ORANGE_500, null, null, null, null, ORANGE_950}, // orange
+            {AMBER_50, null, null, null, null, AMBER_500, null, null, null, null, AMBER_950}, // amber
+            {YELLOW_50, null, null, null, null, YELLOW_500, null, null, null, null, YELLOW_950}, // yellow
+            {LIME_50, null, null, null, null, LIME_500, null, null, null, null, LIME_950}, // lime
+            {GREEN_50, null, null, null, null, GREEN_500, null, null, null, null, GREEN_950}, // green
+            {EMERALD_50, null, null, null, null, EMERALD_500, null, null, null, null, EMERALD_950}, // emerald
+            {TEAL_50, null, null, null, null, TEAL_500, null, null, null, null, TEAL_950}, // teal
+            {CYAN_50, null, null, null, null, CYAN_500, null, null, null, null, CYAN_950}, // cyan
+            {SKY_50, null, null, null, null, SKY_500, null, null, null, null, SKY_950}, // sky
+            {BLUE_50, BLUE_100, null, null, null, BLUE_500, null, null, null, null, BLUE_950}, // blue
+            {INDIGO_50, null, null, null, null, INDIGO_500, null, null, null, null, INDIGO_950}, // indigo
+            {VIOLET_50, null, null, null, null, VIOLET_500, null, null, null, null, VIOLET_950}, // violet
+            {PURPLE_50, null, null, null, null, PURPLE_500, null, null, null, null, PURPLE_950}, // purple
+            {FUCHSIA_50, null, null, null, null, FUCHSIA_500, null, null, null, null, FUCHSIA_950}, // fuchsia
+            {PINK_50, null, null, null, null, PINK_500, null, null, null, null, PINK_950}, // pink
+            {ROSE_50, null, null, null, null, ROSE_500, null, null, null, null, ROSE_950} // rose
+        };
+
+        /**
+         * Returns the {@code text-} utility of the given color and shade, e.g.
+         * {@code color(TwPalette.BLUE, 500)} returns {@link #BLUE_500}.
+         *
+         * @throws IllegalArgumentException if there is no such utility
+         * @throws NullPointerException if the color is null
+         */
+        public static String color(TwPalette color, int shade) {
+            String[] shades = COLOR_SHADES[Objects.requireNonNull(color, "color").ordinal()];
+            int index = TwPalette.shadeIndex(shade);
+            String className = shades != null && index >= 0 ? shades[index] : null;
+            if (className == null) {
+                throw new IllegalArgumentException("No text- utility for " + color + "-" + shade);
+            }
+            return className;
+        }
+
+        /** All utilities of this class, in declaration order. Immutable. */
+        public static final List<String> ALL = List.of(
+                "text-amber-50", "text-blue-50", "text-cyan-50", "text-emerald-50",
+                "text-fuchsia-50", "text-gray-50", "text-green-50", "text-indigo-50",
+                "text-orange-50", "text-pink-50", "text-purple-50", "text-gray-100",
+                "text-gray-200", "text-gray-300", "text-gray-400", "text-amber-500",
+                "text-blue-500", "text-cyan-500", "text-fuchsia-500", "text-green-500",
+                "text-amber-950", "text-black", "text-lime-50", "text-neutral-50", "text-blue-100",
+                "text-emerald-500", "text-gray-600", "text-gray-700", "text-gray-800",
+                "text-blue-950", "text-current", "text-gray-500", "text-indigo-500",
+                "text-lime-500", "text-neutral-500", "text-orange-500", "text-pink-500",
+                "text-gray-900", "text-cyan-950", "text-emerald-950", "text-fuchsia-950",
+                "text-gray-950", "text-green-950", "text-indigo-950", "text-inherit", "text-red-50",
+                "text-rose-50", "text-sky-50", "text-slate-50", "text-stone-50", "text-teal-50",
+                "text-violet-50", "text-yellow-50", "text-zinc-50", "text-red-100",
+                "text-slate-100", "text-zinc-100", "text-red-200", "text-slate-200", "text-red-300",
+                "text-slate-300", "text-red-400", "text-slate-400", "text-purple-500",
+                "text-red-500", "text-rose-500", "text-sky-500", "text-slate-500", "text-stone-500",
+                "text-teal-500", "text-violet-500", "text-yellow-500", "text-zinc-500",
+                "text-red-600", "text-slate-600", "text-red-700", "text-slate-700", "text-red-800",
+                "text-slate-800", "text-red-900", "text-slate-900", "text-lime-950",
+                "text-neutral-950", "text-orange-950", "text-pink-950", "text-purple-950",
+                "text-red-950", "text-rose-950", "text-sky-950", "text-slate-950", "text-stone-950",
+                "text-teal-950", "text-transparent", "text-violet-950", "text-white",
+                "text-yellow-950", "text-zinc-950"
+        );
+
         private Text() {}
     }
 
@@ -1770,6 +2531,67 @@ public final class TW implements Serializable {
         /** Tailwind class: {@code border-white} */
         public static final String WHITE = "border-white";
 
+        /** Constants by {@link TwPalette} ordinal and shade index, null rows for colors without any */
+        private static final String[][] COLOR_SHADES = {
+            {SLATE_50, null, null, null, null, SLATE_500, null, null, null, null, SLATE_950}, // slate
+            {GRAY_50, GRAY_100, null, null, null, GRAY_500, null, null, null, null, GRAY_950}, // gray
+            null, // zinc
+            null, // neutral
+            null, // stone
+            {RED_50, null, null, null, null, RED_500, null, null, null, null, RED_950}, // red
+            null, // orange
+            null, // amber
+            null, // yellow
+            null, // lime
+            null, // green
+            null, // emerald
+            null, // teal
+            null, // cyan
+            null, // sky
+            {BLUE_50, null, null, null, null, BLUE_500, null, null, null, null, BLUE_950}, // blue
+            null, // indigo
+            null, // violet
+            null, // purple
+            null, // fuchsia
+            null, // pink
+            null // rose
+        };
+
+        /**
+         * Returns the {@code border-} utility of the given color and shade, e.g.
+         * {@code color(TwPalette.BLUE, 500)} returns {@link #BLUE_500}.
+         *
+         * @throws IllegalArgumentException if there is no such utility
+         * @throws NullPointerException if the color is null
+         */
+        public static String color(TwPalette color, int shade) {
+            String[] shades = COLOR_SHADES[Objects.requireNonNull(color, "color").ordinal()];
+            int index = TwPalette.shadeIndex(shade);
+            String className = shades != null && index >= 0 ? shades[index] : null;
+            if (className == null) {
+                throw new IllegalArgumentException("No border- utility for " + color + "-" + shade);
+            }
+            return className;
+        }
+
+        /** All utilities of this class, in declaration order. Immutable. */
+        public static final List<String> ALL = List.of(
+                "border-black", "border", "border-0", "border-b-0", "border-e-0", "border-l-0",
+                "border-r-0", "border-s-0", "border-t-0", "border-x-0", "border-y-0", "border-2",
+                "border-t-2", "border-x-2", "border-y-2", "border-4", "rounded", "rounded-2xl",
+                "rounded-3xl", "border-8", "border-blue-50", "border-gray-50", "border-red-50",
+                "border-slate-50", "border-gray-100", "border-blue-500", "border-red-500",
+                "border-blue-950", "border-current", "border-dashed", "border-dotted",
+                "border-double", "border-gray-500", "border-gray-950", "border-hidden",
+                "border-inherit", "border-none", "border-red-950", "rounded-b-none",
+                "rounded-bl-none", "rounded-br-none", "rounded-ee-none", "rounded-es-none",
+                "rounded-full", "rounded-l-none", "rounded-lg", "rounded-md", "rounded-none",
+                "rounded-r-none", "rounded-se-none", "rounded-sm", "rounded-ss-none", "rounded-t",
+                "rounded-t-none", "rounded-t-sm", "rounded-tl-none", "rounded-tr-none",
+                "rounded-xl", "border-slate-500", "border-slate-950", "border-solid",
+                "border-transparent", "border-white"
+        );
+
         private Border() {}
     }
 
@@ -1878,6 +2700,13 @@ public final class TW implements Serializable {
             /** Tailwind class: {@code content-stretch} */
             public static final String STRETCH = "content-stretch";
 
+            /** All utilities of this class, in declaration order. Immutable. */
+            public static final List<String> ALL = List.of(
+                    "content-around", "content-baseline", "content-between", "content-center",
+                    "content-end", "content-evenly", "content-none", "content-start",
+                    "content-stretch"
+            );
+
             private AlignContent() {}
         }
 
@@ -1901,6 +2730,11 @@ public final class TW implements Serializable {
             /** Tailwind class: {@code items-stretch} */
             public static final String STRETCH = "items-stretch";
 
+            /** All utilities of this class, in declaration order. Immutable. */
+            public static final List<String> ALL = List.of(
+                    "items-baseline", "items-center", "items-end", "items-start", "items-stretch"
+            );
+
             private AlignItems() {}
         }
 
@@ -1927,6 +2761,12 @@ public final class TW implements Serializable {
             /** Tailwind class: {@code self-stretch} */
             public static final String STRETCH = "self-stretch";
 
+            /** All utilities of this class, in declaration order. Immutable. */
+            public static final List<String> ALL = List.of(
+                    "self-auto", "self-baseline", "self-center", "self-end", "self-start",
+                    "self-stretch"
+            );
+
             private AlignSelf() {}
         }
 
@@ -1956,9 +2796,29 @@ public final class TW implements Serializable {
             /** Tailwind class: {@code justify-stretch} */
             public static final String STRETCH = "justify-stretch";
 
+            /** All utilities of this class, in declaration order. Immutable. */
+            public static final List<String> ALL = List.of(
+                    "justify-around", "justify-between", "justify-center", "justify-end",
+                    "justify-evenly", "justify-start", "justify-stretch"
+            );
+
             private JustifyContent() {}
         }
 
+        /** All utilities of this class and its nested classes, in declaration order. Immutable. */
+        public static final List<String> ALL = List.of(
+                "basis-0", "basis-1", "basis-auto", "basis-full", "flex-col", "flex-col-reverse",
+                "flex-grow-0", "flex-1", "basis-2", "basis-4", "basis-8", "flex-auto", "flex-grow",
+                "flex-initial", "flex-none", "flex-shrink", "flex-shrink-0", "flex-nowrap",
+                "flex-row", "flex-row-reverse", "flex-wrap", "flex-wrap-reverse", "content-around",
+                "content-baseline", "content-between", "content-center", "content-end",
+                "content-evenly", "content-none", "content-start", "content-stretch",
+                "items-baseline", "items-center", "items-end", "items-start", "items-stretch",
+                "self-auto", "self-baseline", "self-center", "self-end", "self-start",
+                "self-stretch", "justify-around", "justify-between", "justify-center",
+                "justify-end", "justify-evenly", "justify-start", "justify-stretch"
+        );
+
         private Flex() {}
     }
 
@@ -2170,6 +3030,25 @@ public final class TW implements Serializable {
         /** Tailwind class: {@code grid-rows-subgrid} */
         public static final String ROWS_SUBGRID = "grid-rows-subgrid";
 
+        /** All utilities of this class, in declaration order. Immutable. */
+        public static final List<String> ALL = List.of(
+                "auto-cols-auto", "auto-cols-fr", "auto-cols-max", "auto-cols-min",
+                "auto-rows-auto", "auto-rows-fr", "auto-rows-max", "auto-rows-min", "col-auto",
+                "col-end-1", "col-end-auto", "col-span-1", "col-start-1", "grid-cols-1",
+                "row-end-1", "row-span-1", "row-start-1", "grid-rows-1", "col-span-2",
+                "col-start-2", "grid-cols-2", "row-span-2", "grid-rows-2", "col-span-3",
+                "grid-cols-3", "row-span-3", "grid-rows-3", "col-span-4", "grid-cols-4",
+                "grid-rows-4", "col-span-5", "grid-cols-5", "grid-rows-5", "col-span-6",
+                "grid-cols-6", "grid-rows-6", "col-span-7", "grid-cols-7", "grid-rows-7",
+                "col-span-8", "grid-cols-8", "grid-rows-8", "col-span-9", "grid-cols-9",
+                "grid-rows-9", "col-span-10", "col-span-12", "col-span-full", "col-start-auto",
+                "grid-cols-10", "grid-rows-10", "col-span-11", "grid-cols-11", "grid-cols-12",
+                "grid-cols-none", "grid-cols-subgrid", "grid-flow-col", "grid-flow-col-dense",
+                "grid-flow-dense", "grid-flow-row", "grid-flow-row-dense", "row-auto",
+                "row-span-full", "grid-rows-11", "grid-rows-12", "grid-rows-none",
+                "grid-rows-subgrid"
+        );
+
         private Grid() {}
     }
 
@@ -2194,6 +3073,11 @@ public final class TW implements Serializable {
             /** Tailwind class: {@code font-serif} */
             public static final String SERIF = "font-serif";
 
+            /** All utilities of this class, in declaration order. Immutable. */
+            public static final List<String> ALL = List.of(
+                    "font-mono", "font-sans", "font-serif"
+            );
+
             private FontFamily() {}
         }
 
@@ -2241,6 +3125,12 @@ public final class TW implements Serializable {
             /** Tailwind class: {@code text-9xl} */
             public static final String XXXXXXXXXLARGE = "text-9xl";
 
+            /** All utilities of this class, in declaration order. Immutable. */
+            public static final List<String> ALL = List.of(
+                    "text-base", "text-lg", "text-sm", "text-xl", "text-xs", "text-2xl", "text-3xl",
+                    "text-4xl", "text-5xl", "text-6xl", "text-7xl", "text-8xl", "text-9xl"
+            );
+
             private FontSize() {}
         }
 
@@ -2255,6 +3145,11 @@ public final class TW implements Serializable {
             /** Tailwind class: {@code not-italic} */
             public static final String NOT_ITALIC = "not-italic";
 
+            /** All utilities of this class, in declaration order. Immutable. */
+            public static final List<String> ALL = List.of(
+                    "italic", "not-italic"
+            );
+
             private FontStyle() {}
         }
 
@@ -2290,6 +3185,12 @@ public final class TW implements Serializable {
             /** Tailwind class: {@code font-thin} */
             public static final String THIN = "font-thin";
 
+            /** All utilities of this class, in declaration order. Immutable. */
+            public static final List<String> ALL = List.of(
+                    "font-black", "font-bold", "font-extrabold", "font-extralight", "font-light",
+                    "font-medium", "font-normal", "font-semibold", "font-thin"
+            );
+
             private FontWeight() {}
         }
 
@@ -2316,6 +3217,12 @@ public final class TW implements Serializable {
             /** Tailwind class: {@code text-start} */
             public static final String START = "text-start";
 
+            /** All utilities of this class, in declaration order. Immutable. */
+            public static final List<String> ALL = List.of(
+                    "text-center", "text-end", "text-justify", "text-left", "text-right",
+                    "text-start"
+            );
+
             private TextAlign() {}
         }
 
@@ -2384,6 +3291,59 @@ public final class TW implements Serializable {
             /** Tailwind class: {@code underline} */
             public static final String UNDERLINE = "underline";
 
+            /** Constants by {@link TwPalette} ordinal and shade index, null rows for colors without any */
+            private static final String[][] COLOR_SHADES = {
+                {null, null, null, null, null, DECORATION_SLATE_500, null, null, null, null, null}, // slate
+                {null, null, null, null, null, DECORATION_GRAY_500, null, null, null, null, null}, // gray
+                null, // zinc
+                null, // neutral
+                null, // stone
+                {null, null, null, null, null, DECORATION_RED_500, null, null, null, null, null}, // red
+                null, // orange
+                null, // amber
+                null, // yellow
+                null, // lime
+                null, // green
+                null, // emerald
+                null, // teal
+                null, // cyan
+                null, // sky
+                {null, null, null, null, null, DECORATION_BLUE_500, null, null, null, null, null}, // blue
+                null, // indigo
+                null, // violet
+                null, // purple
+                null, // fuchsia
+                null, // pink
+                null // rose
+            };
+
+            /**
+             * Returns the {@code decoration-} utility of the given color and shade, e.g.
+             * {@code color(TwPalette.BLUE, 500)} returns {@link #DECORATION_BLUE_500}.
+             *
+             * @throws IllegalArgumentException if there is no such utility
+             * @throws NullPointerException if the color is null
+             */
+            public static String color(TwPalette color, int shade) {
+                String[] shades = COLOR_SHADES[Objects.requireNonNull(color, "color").ordinal()];
+                int index = TwPalette.shadeIndex(shade);
+                String className = shades != null && index >= 0 ? shades[index] : null;
+                if (className == null) {
+                    throw new IllegalArgumentException("No decoration- utility for " + color + "-" + shade);
+                }
+                return className;
+            }
+
+            /** All utilities of this class, in declaration order. Immutable. */
+            public static final List<String> ALL = List.of(
+                    "decoration-0", "decoration-1", "decoration-2", "decoration-4", "decoration-8",
+                    "decoration-auto", "decoration-blue-500", "decoration-dashed",
+                    "decoration-dotted", "decoration-double", "decoration-from-font",
+                    "decoration-gray-500", "decoration-red-500", "decoration-slate-500",
+                    "decoration-solid", "decoration-wavy", "line-through", "no-underline",
+                    "overline", "underline"
+            );
+
             private TextDecoration() {}
         }
 
@@ -2404,9 +3364,30 @@ public final class TW implements Serializable {
             /** Tailwind class: {@code uppercase} */
             public static final String UPPERCASE = "uppercase";
 
+            /** All utilities of this class, in declaration order. Immutable. */
+            public static final List<String> ALL = List.of(
+                    "capitalize", "lowercase", "normal-case", "uppercase"
+            );
+
             private TextTransform() {}
         }
 
+        /** All utilities of this class and its nested classes, in declaration order. Immutable. */
+        public static final List<String> ALL = List.of(
+                "font-mono", "font-sans", "font-serif", "text-base", "text-lg", "text-sm",
+                "text-xl", "text-xs", "text-2xl", "text-3xl", "text-4xl", "text-5xl", "text-6xl",
+                "text-7xl", "text-8xl", "text-9xl", "italic", "not-italic", "font-black",
+                "font-bold", "font-extrabold", "font-extralight", "font-light", "font-medium",
+                "font-normal", "font-semibold", "font-thin", "text-center", "text-end",
+                "text-justify", "text-left", "text-right", "text-start", "decoration-0",
+                "decoration-1", "decoration-2", "decoration-4", "decoration-8", "decoration-auto",
+                "decoration-blue-500", "decoration-dashed", "decoration-dotted",
+                "decoration-double", "decoration-from-font", "decoration-gray-500",
+                "decoration-red-500", "decoration-slate-500", "decoration-solid", "decoration-wavy",
+                "line-through", "no-underline", "overline", "underline", "capitalize", "lowercase",
+                "normal-case", "uppercase"
+        );
+
         private Typography() {}
     }
 
@@ -2470,6 +3451,14 @@ public final class TW implements Serializable {
             /** Tailwind class: {@code opacity-100} */
             public static final String OPACITY_100 = "opacity-100";
 
+            /** All utilities of this class, in declaration order. Immutable. */
+            public static final List<String> ALL = List.of(
+                    "opacity-0", "opacity-5", "opacity-10", "opacity-15", "opacity-20",
+                    "opacity-25", "opacity-30", "opacity-40", "opacity-50", "opacity-60",
+                    "opacity-70", "opacity-75", "opacity-80", "opacity-90", "opacity-95",
+                    "opacity-100"
+            );
+
             private Opacity() {}
         }
 
@@ -2514,9 +3503,68 @@ public final class TW implements Serializable {
             /** Tailwind class: {@code shadow-xl} */
             public static final String XL = "shadow-xl";
 
+            /** Constants by {@link TwPalette} ordinal and shade index, null rows for colors without any */
+            private static final String[][] COLOR_SHADES = {
+                {null, null, null, null, null, SLATE_500, null, null, null, null, null}, // slate
+                {null, null, null, null, null, GRAY_500, null, null, null, null, null}, // gray
+                null, // zinc
+                null, // neutral
+                null, // stone
+                {null, null, null, null, null, RED_500, null, null, null, null, null}, // red
+                null, // orange
+                null, // amber
+                null, // yellow
+                null, // lime
+                null, // green
+                null, // emerald
+                null, // teal
+                null, // cyan
+                null, // sky
+                {null, null, null, null, null, BLUE_500, null, null, null, null, null}, // blue
+                null, // indigo
+                null, // violet
+                null, // purple
+                null, // fuchsia
+                null, // pink
+                null // rose
+            };
+
+            /**
+             * Returns the {@code shadow-} utility of the given color and shade, e.g.
+             * {@code color(TwPalette.BLUE, 500)} returns {@link #BLUE_500}.
+             *
+             * @throws IllegalArgumentException if there is no such utility
+             * @throws NullPointerException if the color is null
+             */
+            public static String color(TwPalette color, int shade) {
+                String[] shades = COLOR_SHADES[Objects.requireNonNull(color, "color").ordinal()];
+                int index = TwPalette.shadeIndex(shade);
+                String className = shades != null && index >= 0 ? shades[index] : null;
+                if (className == null) {
+                    throw new IllegalArgumentException("No shadow- utility for " + color + "-" + shade);
+                }
+                return className;
+            }
+
+            /** All utilities of this class, in declaration order. Immutable. */
+            public static final List<String> ALL = List.of(
+                    "shadow", "shadow-2xl", "shadow-blue-500", "shadow-gray-500", "shadow-inner",
+                    "shadow-lg", "shadow-md", "shadow-none", "shadow-red-500", "shadow-slate-500",
+                    "shadow-sm", "shadow-xl"
+            );
+
             private Shadow() {}
         }
 
+        /** All utilities of this class and its nested classes, in declaration order. Immutable. */
+        public static final List<String> ALL = List.of(
+                "opacity-0", "opacity-5", "opacity-10", "opacity-15", "opacity-20", "opacity-25",
+                "opacity-30", "opacity-40", "opacity-50", "opacity-60", "opacity-70", "opacity-75",
+                "opacity-80", "opacity-90", "opacity-95", "opacity-100", "shadow", "shadow-2xl",
+                "shadow-blue-500", "shadow-gray-500", "shadow-inner", "shadow-lg", "shadow-md",
+                "shadow-none", "shadow-red-500", "shadow-slate-500", "shadow-sm", "shadow-xl"
+        );
+
         private Effects() {}
     }
 
@@ -2713,6 +3761,19 @@ public final class TW implements Serializable {
         /** Tailwind class: {@code top-px} */
         public static final String TOP_PX = "top-px";
 
+        /** All utilities of this class, in declaration order. Immutable. */
+        public static final List<String> ALL = List.of(
+                "absolute", "z-auto", "bottom-0", "fixed", "inset-0", "inset-0.5", "inset-x-0",
+                "inset-y-0", "left-0", "right-0", "top-0", "top-0.5", "z-0", "inset-1", "inset-1.5",
+                "top-1", "inset-2", "inset-2.5", "top-2", "inset-3", "inset-3.5", "inset-4",
+                "left-4", "top-4", "inset-5", "inset-6", "inset-7", "inset-8", "top-8", "inset-9",
+                "inset-10", "z-10", "inset-11", "inset-12", "inset-14", "inset-16", "top-16",
+                "inset-20", "z-20", "inset-24", "inset-28", "z-30", "inset-32", "inset-36",
+                "inset-40", "z-40", "inset-44", "inset-48", "z-50", "inset-52", "inset-56",
+                "inset-60", "inset-64", "inset-72", "inset-80", "inset-96", "inset-px", "relative",
+                "static", "sticky", "top-auto", "top-px"
+        );
+
         private Position() {}
     }
 
@@ -2768,6 +3829,14 @@ public final class TW implements Serializable {
         /** Tailwind class: {@code overflow-y-visible} */
         public static final String OVERFLOW_Y_VISIBLE = "overflow-y-visible";
 
+        /** All utilities of this class, in declaration order. Immutable. */
+        public static final List<String> ALL = List.of(
+                "overflow-auto", "overflow-clip", "overflow-hidden", "overflow-scroll",
+                "overflow-visible", "overflow-x-auto", "overflow-x-clip", "overflow-x-hidden",
+                "overflow-x-scroll", "overflow-x-visible", "overflow-y-auto", "overflow-y-clip",
+                "overflow-y-hidden", "overflow-y-scroll", "overflow-y-visible"
+        );
+
         private Overflow() {}
     }
 
@@ -2880,6 +3949,17 @@ public final class TW implements Serializable {
         /** Tailwind class: {@code transition-transform} */
         public static final String TRANSITION_TRANSFORM = "transition-transform";
 
+        /** All utilities of this class, in declaration order. Immutable. */
+        public static final List<String> ALL = List.of(
+                "animate-bounce", "animate-none", "animate-ping", "animate-pulse", "animate-spin",
+                "delay-0", "duration-0", "delay-75", "duration-75", "delay-100", "duration-100",
+                "delay-150", "duration-150", "delay-200", "duration-200", "delay-300",
+                "duration-300", "delay-500", "duration-500", "delay-700", "duration-700",
+                "delay-1000", "duration-1000", "ease-in", "ease-in-out", "ease-linear", "ease-out",
+                "transition", "transition-all", "transition-colors", "transition-none",
+                "transition-opacity", "transition-shadow", "transition-transform"
+        );
+
         private Transitions() {}
     }
 
@@ -3025,6 +4105,18 @@ public final class TW implements Serializable {
         /** Tailwind class: {@code rotate-180} */
         public static final String ROTATE_180 = "rotate-180";
 
+        /** All utilities of this class, in declaration order. Immutable. */
+        public static final List<String> ALL = List.of(
+                "rotate-0", "scale-0", "scale-x-0", "scale-y-0", "skew-x-0", "skew-y-0",
+                "translate-x-0", "translate-y-0", "-rotate-1", "-translate-x-1", "-translate-y-1",
+                "rotate-1", "skew-x-1", "skew-y-1", "translate-x-1", "translate-y-1", "rotate-2",
+                "skew-x-2", "translate-x-2", "translate-y-2", "rotate-3", "skew-x-3", "rotate-6",
+                "skew-x-6", "rotate-12", "skew-x-12", "-rotate-45", "rotate-45", "scale-50",
+                "scale-x-50", "scale-y-50", "scale-75", "-rotate-90", "rotate-90", "scale-90",
+                "scale-95", "scale-100", "scale-x-100", "scale-y-100", "scale-105", "scale-110",
+                "scale-125", "scale-150", "-rotate-180", "rotate-180"
+        );
+
         private Transforms() {}
     }
 
@@ -4610,89 +5702,3560 @@ public final class TW implements Serializable {
         /** Tailwind class: {@code will-change-transform} */
         public static final String WILL_CHANGE_TRANSFORM = "will-change-transform";
 
-        private Other() {}
-    }
+        /** Constants by {@link TwPalette} ordinal and shade index, null rows for colors without any */
+        private static final String[][] ACCENT_COLOR_SHADES = {
+            {null, null, null, null, null, ACCENT_SLATE_500, null, null, null, null, null}, // slate
+            null, // gray
+            null, // zinc
+            null, // neutral
+            null, // stone
+            {null, null, null, null, null, ACCENT_RED_500, null, null, null, null, null}, // red
+            null, // orange
+            null, // amber
+            null, // yellow
+            null, // lime
+            null, // green
+            null, // emerald
+            null, // teal
+            null, // cyan
+            null, // sky
+            {null, null, null, null, null, ACCENT_BLUE_500, null, null, null, null, null}, // blue
+            null, // indigo
+            null, // violet
+            null, // purple
+            null, // fuchsia
+            null, // pink
+            null // rose
+        };
 
-    // ========== RESPONSIVE MODIFIERS ==========
+        /**
+         * Returns the {@code accent-} utility of the given color and shade, e.g.
+         * {@code accentColor(TwPalette.BLUE, 500)} returns {@link #ACCENT_BLUE_500}.
+         *
+         * @throws IllegalArgumentException if there is no such utility
+         * @throws NullPointerException if the color is null
+         */
+        public static String accentColor(TwPalette color, int shade) {
+            String[] shades = ACCENT_COLOR_SHADES[Objects.requireNonNull(color, "color").ordinal()];
+            int index = TwPalette.shadeIndex(shade);
+            String className = shades != null && index >= 0 ? shades[index] : null;
+            if (className == null) {
+                throw new IllegalArgumentException("No accent- utility for " + color + "-" + shade);
+            }
+            return className;
+        }
 
-    /**
-     * Responsive modifier utilities for different breakpoints.
-     * <p>
-     * <pre>{@code
-     * // Apply flex on medium screens and up
-     * div.addClassName(TW.Responsive.md(TW.FLEX));
-     * // Result: "md:flex"
-     * }</pre>
-     */
-    public static final class Responsive {
+        /** Constants by {@link TwPalette} ordinal and shade index, null rows for colors without any */
+        private static final String[][] CARET_COLOR_SHADES = {
+            {null, null, null, null, null, CARET_SLATE_500, null, null, null, null, null}, // slate
+            null, // gray
+            null, // zinc
+            null, // neutral
+            null, // stone
+            {null, null, null, null, null, CARET_RED_500, null, null, null, null, null}, // red
+            null, // orange
+            null, // amber
+            null, // yellow
+            null, // lime
+            null, // green
+            null, // emerald
+            null, // teal
+            null, // cyan
+            null, // sky
+            {null, null, null, null, null, CARET_BLUE_500, null, null, null, null, null}, // blue
+            null, // indigo
+            null, // violet
+            null, // purple
+            null, // fuchsia
+            null, // pink
+            null // rose
+        };
 
-        /** Sm breakpoint (640px) - prefix: {@code sm:} */
-        public static String sm(String utility) {
-            return "sm:" + utility;
+        /**
+         * Returns the {@code caret-} utility of the given color and shade, e.g.
+         * {@code caretColor(TwPalette.BLUE, 500)} returns {@link #CARET_BLUE_500}.
+         *
+         * @throws IllegalArgumentException if there is no such utility
+         * @throws NullPointerException if the color is null
+         */
+        public static String caretColor(TwPalette color, int shade) {
+            String[] shades = CARET_COLOR_SHADES[Objects.requireNonNull(color, "color").ordinal()];
+            int index = TwPalette.shadeIndex(shade);
+            String className = shades != null && index >= 0 ? shades[index] : null;
+            if (className == null) {
+                throw new IllegalArgumentException("No caret- utility for " + color + "-" + shade);
+            }
+            return className;
         }
 
-        /** Md breakpoint (768px) - prefix: {@code md:} */
-        public static String md(String utility) {
-            return "md:" + utility;
+        /** Constants by {@link TwPalette} ordinal and shade index, null rows for colors without any */
+        private static final String[][] DIVIDE_COLOR_SHADES = {
+            null, // slate
+            {null, null, null, null, null, DIVIDE_GRAY_500, null, null, null, null, null}, // gray
+            null, // zinc
+            null, // neutral
+            null, // stone
+            {null, null, null, null, null, DIVIDE_RED_500, null, null, null, null, null}, // red
+            null, // orange
+            null, // amber
+            null, // yellow
+            null, // lime
+            null, // green
+            null, // emerald
+            null, // teal
+            null, // cyan
+            null, // sky
+            {null, null, null, null, null, DIVIDE_BLUE_500, null, null, null, null, null}, // blue
+            null, // indigo
+            null, // violet
+            null, // purple
+            null, // fuchsia
+            null, // pink
+            null // rose
+        };
+
+        /**
+         * Returns the {@code divide-} utility of the given color and shade, e.g.
+         * {@code divideColor(TwPalette.BLUE, 500)} returns {@link #DIVIDE_BLUE_500}.
+         *
+         * @throws IllegalArgumentException if there is no such utility
+         * @throws NullPointerException if the color is null
+         */
+        public static String divideColor(TwPalette color, int shade) {
+            String[] shades = DIVIDE_COLOR_SHADES[Objects.requireNonNull(color, "color").ordinal()];
+            int index = TwPalette.shadeIndex(shade);
+            String className = shades != null && index >= 0 ? shades[index] : null;
+            if (className == null) {
+                throw new IllegalArgumentException("No divide- utility for " + color + "-" + shade);
+            }
+            return className;
         }
 
-        /** Lg breakpoint (1024px) - prefix: {@code lg:} */
-        public static String lg(String utility) {
-            return "lg:" + utility;
+        /** Constants by {@link TwPalette} ordinal and shade index, null rows for colors without any */
+        private static final String[][] FILL_COLOR_SHADES = {
+            {null, null, null, null, null, FILL_SLATE_500, null, null, null, null, null}, // slate
+            null, // gray
+            null, // zinc
+            null, // neutral
+            null, // stone
+            {null, null, null, null, null, FILL_RED_500, null, null, null, null, null}, // red
+            null, // orange
+            null, // amber
+            null, // yellow
+            null, // lime
+            null, // green
+            null, // emerald
+            null, // teal
+            null, // cyan
+            null, // sky
+            {null, null, null, null, null, FILL_BLUE_500, null, null, null, null, null}, // blue
+            null, // indigo
+            null, // violet
+            null, // purple
+            null, // fuchsia
+            null, // pink
+            null // rose
+        };
+
+        /**
+         * Returns the {@code fill-} utility of the given color and shade, e.g.
+         * {@code fillColor(TwPalette.BLUE, 500)} returns {@link #FILL_BLUE_500}.
+         *
+         * @throws IllegalArgumentException if there is no such utility
+         * @throws NullPointerException if the color is null
+         */
+        public static String fillColor(TwPalette color, int shade) {
+            String[] shades = FILL_COLOR_SHADES[Objects.requireNonNull(color, "color").ordinal()];
+            int index = TwPalette.shadeIndex(shade);
+            String className = shades != null && index >= 0 ? shades[index] : null;
+            if (className == null) {
+                throw new IllegalArgumentException("No fill- utility for " + color + "-" + shade);
+            }
+            return className;
         }
 
-        /** Xl breakpoint (1280px) - prefix: {@code xl:} */
-        public static String xl(String utility) {
-            return "xl:" + utility;
+        /** Constants by {@link TwPalette} ordinal and shade index, null rows for colors without any */
+        private static final String[][] OUTLINE_COLOR_SHADES = {
+            {null, null, null, null, null, OUTLINE_SLATE_500, null, null, null, null, null}, // slate
+            {null, null, null, null, null, OUTLINE_GRAY_500, null, null, null, null, null}, // gray
+            null, // zinc
+            null, // neutral
+            null, // stone
+            {null, null, null, null, null, OUTLINE_RED_500, null, null, null, null, null}, // red
+            null, // orange
+            null, // amber
+            null, // yellow
+            null, // lime
+            null, // green
+            null, // emerald
+            null, // teal
+            null, // cyan
+            null, // sky
+            {null, null, null, null, null, OUTLINE_BLUE_500, null, null, null, null, null}, // blue
+            null, // indigo
+            null, // violet
+            null, // purple
+            null, // fuchsia
+            null, // pink
+            null // rose
+        };
+
+        /**
+         * Returns the {@code outline-} utility of the given color and shade, e.g.
+         * {@code outlineColor(TwPalette.BLUE, 500)} returns {@link #OUTLINE_BLUE_500}.
+         *
+         * @throws IllegalArgumentException if there is no such utility
+         * @throws NullPointerException if the color is null
+         */
+        public static String outlineColor(TwPalette color, int shade) {
+            String[] shades = OUTLINE_COLOR_SHADES[Objects.requireNonNull(color, "color").ordinal()];
+            int index = TwPalette.shadeIndex(shade);
+            String className = shades != null && index >= 0 ? shades[index] : null;
+            if (className == null) {
+                throw new IllegalArgumentException("No outline- utility for " + color + "-" + shade);
+            }
+            return className;
         }
 
-        /** 2xl breakpoint (1536px) - prefix: {@code 2xl:} */
-        public static String xxl(String utility) {
-            return "2xl:" + utility;
+        /** Constants by {@link TwPalette} ordinal and shade index, null rows for colors without any */
+        private static final String[][] RING_COLOR_SHADES = {
+            {null, null, null, null, null, RING_SLATE_500, null, null, null, null, null}, // slate
+            {null, null, null, null, null, RING_GRAY_500, null, null, null, null, null}, // gray
+            null, // zinc
+            null, // neutral
+            null, // stone
+            {null, null, null, null, null, RING_RED_500, null, null, null, null, null}, // red
+            null, // orange
+            null, // amber
+            null, // yellow
+            null, // lime
+            null, // green
+            null, // emerald
+            null, // teal
+            null, // cyan
+            null, // sky
+            {null, null, null, null, null, RING_BLUE_500, null, null, null, null, null}, // blue
+            null, // indigo
+            null, // violet
+            null, // purple
+            null, // fuchsia
+            null, // pink
+            null // rose
+        };
+
+        /**
+         * Returns the {@code ring-} utility of the given color and shade, e.g.
+         * {@code ringColor(TwPalette.BLUE, 500)} returns {@link #RING_BLUE_500}.
+         *
+         * @throws IllegalArgumentException if there is no such utility
+         * @throws NullPointerException if the color is null
+         */
+        public static String ringColor(TwPalette color, int shade) {
+            String[] shades = RING_COLOR_SHADES[Objects.requireNonNull(color, "color").ordinal()];
+            int index = TwPalette.shadeIndex(shade);
+            String className = shades != null && index >= 0 ? shades[index] : null;
+            if (className == null) {
+                throw new IllegalArgumentException("No ring- utility for " + color + "-" + shade);
+            }
+            return className;
         }
 
-        private Responsive() {}
+        /** Constants by {@link TwPalette} ordinal and shade index, null rows for colors without any */
+        private static final String[][] STROKE_COLOR_SHADES = {
+            {null, null, null, null, null, STROKE_SLATE_500, null, null, null, null, null}, // slate
+            null, // gray
+            null, // zinc
+            null, // neutral
+            null, // stone
+            {null, null, null, null, null, STROKE_RED_500, null, null, null, null, null}, // red
+            null, // orange
+            null, // amber
+            null, // yellow
+            null, // lime
+            null, // green
+            null, // emerald
+            null, // teal
+            null, // cyan
+            null, // sky
+            {null, null, null, null, null, STROKE_BLUE_500, null, null, null, null, null}, // blue
+            null, // indigo
+            null, // violet
+            null, // purple
+            null, // fuchsia
+            null, // pink
+            null // rose
+        };
+
+        /**
+         * Returns the {@code stroke-} utility of the given color and shade, e.g.
+         * {@code strokeColor(TwPalette.BLUE, 500)} returns {@link #STROKE_BLUE_500}.
+         *
+         * @throws IllegalArgumentException if there is no such utility
+         * @throws NullPointerException if the color is null
+         */
+        public static String strokeColor(TwPalette color, int shade) {
+            String[] shades = STROKE_COLOR_SHADES[Objects.requireNonNull(color, "color").ordinal()];
+            int index = TwPalette.shadeIndex(shade);
+            String className = shades != null && index >= 0 ? shades[index] : null;
+            if (className == null) {
+                throw new IllegalArgumentException("No stroke- utility for " + color + "-" + shade);
+            }
+            return className;
+        }
+
+        /** All utilities of this class, in declaration order. Immutable. */
+        public static final List<String> ALL = List.of(
+                "accent-auto", "accent-black", "accent-current", "accent-inherit",
+                "accent-transparent", "accent-white", "align-baseline", "align-bottom",
+                "align-middle", "align-sub", "align-super", "align-text-bottom", "align-text-top",
+                "align-top", "appearance-auto", "appearance-none", "aspect-auto", "aspect-square",
+                "aspect-video", "backdrop-blur", "backdrop-blur-none", "backdrop-blur-sm",
+                "bg-auto", "bg-blend-darken", "border-spacing-x-0", "border-spacing-y-0",
+                "box-border", "box-content", "box-decoration-clone", "box-decoration-slice",
+                "break-after-all", "break-after-auto", "break-after-avoid",
+                "break-after-avoid-page", "break-after-column", "break-after-left",
+                "break-after-page", "break-after-right", "break-all", "break-before-all",
+                "break-before-auto", "break-before-avoid", "break-before-avoid-page",
+                "break-before-column", "break-before-left", "break-before-page",
+                "break-before-right", "break-inside-auto", "break-inside-avoid",
+                "break-inside-avoid-column", "break-inside-avoid-page", "break-keep",
+                "break-normal", "break-words", "brightness-0", "-inset-0", "-inset-1", "-left-1",
+                "-right-1", "-top-1", "-inset-2", "columns-5xl", "brightness-50", "brightness-75",
+                "brightness-90", "brightness-95", "brightness-100", "brightness-105",
+                "brightness-110", "brightness-125", "brightness-150", "accent-blue-500",
+                "accent-red-500", "accent-slate-500", "bg-blend-lighten", "bg-blend-multiply",
+                "bg-blend-normal", "bg-blend-overlay", "bg-blend-screen", "bg-bottom", "bg-center",
+                "bg-clip-border", "bg-clip-content", "bg-clip-padding", "bg-clip-text",
+                "bg-contain", "bg-cover", "bg-fixed", "bg-left", "bg-left-bottom", "bg-left-top",
+                "bg-local", "bg-no-repeat", "bg-origin-border", "bg-origin-content",
+                "bg-origin-padding", "bg-repeat", "bg-repeat-round", "bg-repeat-space",
+                "bg-repeat-x", "bg-repeat-y", "bg-right", "bg-right-bottom", "bg-right-top",
+                "bg-scroll", "bg-top", "blur", "blur-2xl", "blur-3xl", "blur-lg", "blur-md",
+                "blur-none", "blur-sm", "blur-xl", "border-collapse", "border-separate",
+                "border-spacing-0", "border-spacing-1", "border-spacing-2", "caption-bottom",
+                "caption-top", "caret-black", "caret-blue-500", "caret-current", "caret-inherit",
+                "caret-red-500", "caret-slate-500", "caret-transparent", "caret-white",
+                "clear-both", "clear-end", "clear-left", "clear-none", "clear-right", "clear-start",
+                "collapse", "columns-1", "columns-2", "columns-2xl", "columns-2xs", "columns-3",
+                "columns-3xl", "columns-3xs", "columns-4", "columns-4xl", "columns-5", "columns-6",
+                "columns-6xl", "columns-7", "columns-7xl", "columns-8", "columns-9", "columns-10",
+                "columns-11", "columns-12", "columns-auto", "columns-lg", "columns-md",
+                "columns-sm", "columns-xl", "columns-xs", "container", "contrast-0", "divide-x-0",
+                "divide-x-2", "contrast-50", "contrast-75", "contrast-100", "contrast-125",
+                "contrast-150", "brightness-200", "contrast-200", "cursor-alias",
+                "cursor-all-scroll", "cursor-auto", "cursor-cell", "cursor-col-resize",
+                "cursor-context-menu", "cursor-copy", "cursor-crosshair", "cursor-default",
+                "cursor-e-resize", "cursor-ew-resize", "cursor-grab", "cursor-grabbing",
+                "cursor-help", "cursor-move", "cursor-n-resize", "cursor-ne-resize",
+                "cursor-nesw-resize", "cursor-no-drop", "cursor-none", "cursor-not-allowed",
+                "cursor-ns-resize", "cursor-nw-resize", "cursor-nwse-resize", "cursor-pointer",
+                "cursor-progress", "cursor-row-resize", "cursor-s-resize", "cursor-se-resize",
+                "cursor-sw-resize", "cursor-text", "cursor-vertical-text", "cursor-w-resize",
+                "cursor-wait", "cursor-zoom-in", "cursor-zoom-out", "diagonal-fractions",
+                "divide-blue-500", "divide-dashed", "divide-dotted", "divide-double",
+                "divide-gray-500", "divide-none", "divide-red-500", "divide-solid",
+                "divide-x-reverse", "divide-y-0", "divide-y-2", "divide-y-reverse", "drop-shadow",
+                "drop-shadow-2xl", "drop-shadow-lg", "drop-shadow-md", "drop-shadow-none",
+                "drop-shadow-sm", "drop-shadow-xl", "fill-black", "hue-rotate-30", "hue-rotate-60",
+                "fill-blue-500", "fill-current", "fill-inherit", "fill-none", "fill-red-500",
+                "fill-slate-500", "fill-transparent", "fill-white", "float-end", "float-left",
+                "float-none", "float-right", "float-start", "forced-color-adjust-auto",
+                "forced-color-adjust-none", "grayscale", "grayscale-0", "hue-rotate-0",
+                "hue-rotate-15", "hue-rotate-90", "hyphens-auto", "hyphens-manual", "hyphens-none",
+                "indent-0", "indent-1", "indent-2", "leading-3", "indent-4", "leading-7",
+                "indent-8", "invert", "invert-0", "invisible", "isolate", "isolation-auto",
+                "justify-items-center", "justify-items-end", "justify-items-start",
+                "justify-items-stretch", "justify-self-auto", "justify-self-center",
+                "justify-self-end", "justify-self-start", "justify-self-stretch", "-bottom-1",
+                "leading-4", "leading-5", "leading-6", "leading-8", "leading-9", "leading-10",
+                "hue-rotate-180", "leading-loose", "leading-none", "leading-normal",
+                "leading-relaxed", "leading-snug", "leading-tight", "lining-nums", "list-decimal",
+                "list-disc", "list-inside", "list-none", "list-outside", "mix-blend-color",
+                "mix-blend-color-burn", "mix-blend-color-dodge", "mix-blend-darken",
+                "mix-blend-difference", "mix-blend-exclusion", "mix-blend-hard-light",
+                "mix-blend-hue", "mix-blend-lighten", "mix-blend-luminosity", "mix-blend-multiply",
+                "mix-blend-normal", "mix-blend-overlay", "mix-blend-plus-darker",
+                "mix-blend-plus-lighter", "mix-blend-saturation", "mix-blend-screen",
+                "mix-blend-soft-light", "normal-nums", "not-sr-only", "object-bottom",
+                "object-center", "object-contain", "object-cover", "object-fill", "object-left",
+                "object-left-bottom", "object-left-top", "object-none", "object-right",
+                "object-right-bottom", "object-right-top", "object-scale-down", "object-top",
+                "oldstyle-nums", "order-1", "order-2", "order-3", "order-4", "order-5", "order-6",
+                "order-7", "order-8", "order-9", "order-10", "order-11", "order-first",
+                "order-last", "order-none", "ordinal", "origin-bottom", "origin-bottom-left",
+                "origin-bottom-right", "origin-center", "origin-left", "origin-right", "origin-top",
+                "origin-top-left", "origin-top-right", "outline", "outline-0",
+                "place-content-around", "place-content-baseline", "place-content-between",
+                "place-content-center", "place-content-end", "place-content-evenly",
+                "place-content-start", "place-content-stretch", "place-items-baseline",
+                "place-items-center", "place-items-end", "place-items-start", "place-items-stretch",
+                "place-self-auto", "place-self-center", "place-self-end", "place-self-start",
+                "place-self-stretch", "saturate-0", "scroll-m-0", "scroll-mb-0", "scroll-ml-0",
+                "scroll-mr-0", "scroll-mt-0", "scroll-mx-0", "scroll-my-0", "scroll-p-0",
+                "scroll-pb-0", "scroll-pl-0", "scroll-pr-0", "scroll-pt-0", "scroll-px-0",
+                "scroll-py-0", "sepia-0", "outline-1", "scroll-m-1", "scroll-p-1", "outline-2",
+                "scroll-m-2", "scroll-p-2", "outline-4", "outline-8", "outline-black",
+                "saturate-50", "saturate-100", "saturate-150", "saturate-200", "outline-blue-500",
+                "outline-dashed", "outline-dotted", "outline-double", "outline-gray-500",
+                "outline-none", "outline-offset-0", "outline-offset-1", "outline-offset-2",
+                "outline-offset-4", "outline-offset-8", "outline-red-500", "outline-slate-500",
+                "outline-white", "overscroll-auto", "overscroll-contain", "overscroll-none",
+                "overscroll-x-auto", "overscroll-x-contain", "overscroll-x-none",
+                "overscroll-y-auto", "overscroll-y-contain", "overscroll-y-none",
+                "pointer-events-auto", "pointer-events-none", "proportional-nums", "resize",
+                "resize-none", "resize-x", "resize-y", "ring", "ring-0", "ring-1", "ring-2",
+                "ring-4", "ring-8", "ring-blue-500", "ring-gray-500", "ring-inset", "ring-offset-0",
+                "ring-offset-1", "ring-offset-2", "ring-offset-4", "ring-offset-8", "order-12",
+                "ring-offset-black", "ring-offset-gray-500", "ring-offset-white", "ring-red-500",
+                "ring-slate-500", "scroll-auto", "scroll-smooth", "select-all", "select-auto",
+                "select-none", "select-text", "sepia", "slashed-zero", "snap-align-none",
+                "snap-always", "snap-both", "snap-center", "snap-end", "snap-mandatory",
+                "snap-none", "snap-normal", "snap-proximity", "snap-start", "snap-x", "snap-y",
+                "sr-only", "stacked-fractions", "stroke-0", "stroke-1", "stroke-2", "stroke-black",
+                "stroke-blue-500", "stroke-current", "stroke-inherit", "stroke-none",
+                "stroke-red-500", "stroke-slate-500", "stroke-transparent", "stroke-white",
+                "table-auto", "table-fixed", "tabular-nums", "text-balance", "text-clip",
+                "text-ellipsis", "text-nowrap", "text-pretty", "text-wrap", "touch-auto",
+                "touch-manipulation", "touch-none", "touch-pan-down", "touch-pan-left",
+                "touch-pan-right", "touch-pan-up", "touch-pan-x", "touch-pan-y", "touch-pinch-zoom",
+                "transform", "truncate", "underline-offset-0", "underline-offset-1",
+                "underline-offset-2", "underline-offset-4", "underline-offset-8",
+                "underline-offset-auto", "visible", "whitespace-break-spaces", "whitespace-normal",
+                "whitespace-nowrap", "whitespace-pre", "whitespace-pre-line", "whitespace-pre-wrap",
+                "will-change-auto", "will-change-contents", "will-change-scroll",
+                "will-change-transform"
+        );
+
+        private Other() {}
     }
 
-    // ========== STATE VARIANTS ==========
+    // ========== INDEX ==========
 
     /**
-     * State variant utilities (hover, focus, active, etc.)
+     * The {@code ALL} lists of the category classes, keyed by their path below {@link TW}, so
+     * utilities can be enumerated without reflection.
      * <p>
      * <pre>{@code
-     * // Apply blue background on hover
-     * button.addClassName(TW.State.hover(TW.BG_BLUE_600));
-     * // Result: "hover:bg-blue-600"
+     * TW.Index.CATEGORIES.get("Spacing.Padding"); // same as TW.Spacing.Padding.ALL
      * }</pre>
+     * <p>
+     * Using this class loads all category classes.
      */
-    public static final class State {
-
-        /** Hover state - prefix: {@code hover:} */
-        public static String hover(String utility) {
-            return "hover:" + utility;
+    public static final class Index {
+
+        /** All utilities, ordered by utility ID. Immutable. */
+        public static final List<String> ALL = List.of(TwUtilities.NAMES);
+
+        /** Category class paths mapped to their {@code ALL} lists, in declaration order. Immutable. */
+        public static final Map<String, List<String>> CATEGORIES;
+
+        static {
+            Map<String, List<String>> categories = new LinkedHashMap<>();
+            categories.put("Spacing", Spacing.ALL);
+            categories.put("Spacing.Gap", Spacing.Gap.ALL);
+            categories.put("Spacing.Margin", Spacing.Margin.ALL);
+            categories.put("Spacing.Padding", Spacing.Padding.ALL);
+            categories.put("Spacing.Space", Spacing.Space.ALL);
+            categories.put("Layout", Layout.ALL);
+            categories.put("Sizing", Sizing.ALL);
+            categories.put("Sizing.Height", Sizing.Height.ALL);
+            categories.put("Sizing.MaxHeight", Sizing.MaxHeight.ALL);
+            categories.put("Sizing.MaxWidth", Sizing.MaxWidth.ALL);
+            categories.put("Sizing.MinHeight", Sizing.MinHeight.ALL);
+            categories.put("Sizing.MinWidth", Sizing.MinWidth.ALL);
+            categories.put("Sizing.Size", Sizing.Size.ALL);
+            categories.put("Sizing.Width", Sizing.Width.ALL);
+            categories.put("Background", Background.ALL);
+            categories.put("Text", Text.ALL);
+            categories.put("Border", Border.ALL);
+            categories.put("Flex", Flex.ALL);
+            categories.put("Flex.AlignContent", Flex.AlignContent.ALL);
+            categories.put("Flex.AlignItems", Flex.AlignItems.ALL);
+            categories.put("Flex.AlignSelf", Flex.AlignSelf.ALL);
+            categories.put("Flex.JustifyContent", Flex.JustifyContent.ALL);
+            categories.put("Grid", Grid.ALL);
+            categories.put("Typography", Typography.ALL);
+            categories.put("Typography.FontFamily", Typography.FontFamily.ALL);
+            categories.put("Typography.FontSize", Typography.FontSize.ALL);
+            categories.put("Typography.FontStyle", Typography.FontStyle.ALL);
+            categories.put("Typography.FontWeight", Typography.FontWeight.ALL);
+            categories.put("Typography.TextAlign", Typography.TextAlign.ALL);
+            categories.put("Typography.TextDecoration", Typography.TextDecoration.ALL);
+            categories.put("Typography.TextTransform", Typography.TextTransform.ALL);
+            categories.put("Effects", Effects.ALL);
+            categories.put("Effects.Opacity", Effects.Opacity.ALL);
+            categories.put("Effects.Shadow", Effects.Shadow.ALL);
+            categories.put("Position", Position.ALL);
+            categories.put("Overflow", Overflow.ALL);
+            categories.put("Transitions", Transitions.ALL);
+            categories.put("Transforms", Transforms.ALL);
+            categories.put("Other", Other.ALL);
+            CATEGORIES = Collections.unmodifiableMap(categories);
         }
 
-        /** Focus state - prefix: {@code focus:} */
-        public static String focus(String utility) {
-            return "focus:" + utility;
-        }
+        private Index() {}
+    }
 
-        /** Active state - prefix: {@code active:} */
-        public static String active(String utility) {
-            return "active:" + utility;
-        }
+    // ========== VARIANT CONSTANTS ==========
 
-        /** Dark mode - prefix: {@code dark:} */
-        public static String dark(String utility) {
-            return "dark:" + utility;
+    /**
+     * Sm breakpoint (640px) - constants prefixed with {@code sm:}
+     * <p>
+     * Same values as {@link Responsive#sm(String)}, but compile-time constants,
+     * so they can be used in annotations and switch labels.
+     */
+    public static final class Sm {
+
+        /**
+         * Layout utilities
+         */
+        public static final class Layout {
+
+            /** Tailwind class: {@code sm:block} */
+            public static final String BLOCK = "sm:block";
+
+            /** Tailwind class: {@code sm:contents} */
+            public static final String CONTENTS = "sm:contents";
+
+            /** Tailwind class: {@code sm:flex} */
+            public static final String FLEX = "sm:flex";
+
+            /** Tailwind class: {@code sm:flow-root} */
+            public static final String FLOW_ROOT = "sm:flow-root";
+
+            /** Tailwind class: {@code sm:grid} */
+            public static final String GRID = "sm:grid";
+
+            /** Tailwind class: {@code sm:hidden} */
+            public static final String HIDDEN = "sm:hidden";
+
+            /** Tailwind class: {@code sm:inline} */
+            public static final String INLINE = "sm:inline";
+
+            /** Tailwind class: {@code sm:inline-block} */
+            public static final String INLINE_BLOCK = "sm:inline-block";
+
+            /** Tailwind class: {@code sm:inline-flex} */
+            public static final String INLINE_FLEX = "sm:inline-flex";
+
+            /** Tailwind class: {@code sm:inline-grid} */
+            public static final String INLINE_GRID = "sm:inline-grid";
+
+            /** Tailwind class: {@code sm:inline-table} */
+            public static final String INLINE_TABLE = "sm:inline-table";
+
+            /** Tailwind class: {@code sm:list-item} */
+            public static final String LIST_ITEM = "sm:list-item";
+
+            /** Tailwind class: {@code sm:table} */
+            public static final String TABLE = "sm:table";
+
+            /** Tailwind class: {@code sm:table-caption} */
+            public static final String TABLE_CAPTION = "sm:table-caption";
+
+            /** Tailwind class: {@code sm:table-cell} */
+            public static final String TABLE_CELL = "sm:table-cell";
+
+            /** Tailwind class: {@code sm:table-column} */
+            public static final String TABLE_COLUMN = "sm:table-column";
+
+            /** Tailwind class: {@code sm:table-column-group} */
+            public static final String TABLE_COLUMN_GROUP = "sm:table-column-group";
+
+            /** Tailwind class: {@code sm:table-footer-group} */
+            public static final String TABLE_FOOTER_GROUP = "sm:table-footer-group";
+
+            /** Tailwind class: {@code sm:table-header-group} */
+            public static final String TABLE_HEADER_GROUP = "sm:table-header-group";
+
+            /** Tailwind class: {@code sm:table-row} */
+            public static final String TABLE_ROW = "sm:table-row";
+
+            /** Tailwind class: {@code sm:table-row-group} */
+            public static final String TABLE_ROW_GROUP = "sm:table-row-group";
+
+            private Layout() {}
         }
 
-        /** Disabled state - prefix: {@code disabled:} */
-        public static String disabled(String utility) {
-            return "disabled:" + utility;
+        /**
+         * Flex utilities
+         */
+        public static final class Flex {
+
+            /** Tailwind class: {@code sm:basis-0} */
+            public static final String BASIS_0 = "sm:basis-0";
+
+            /** Tailwind class: {@code sm:basis-1} */
+            public static final String BASIS_1 = "sm:basis-1";
+
+            /** Tailwind class: {@code sm:basis-auto} */
+            public static final String BASIS_AUTO = "sm:basis-auto";
+
+            /** Tailwind class: {@code sm:basis-full} */
+            public static final String BASIS_FULL = "sm:basis-full";
+
+            /** Tailwind class: {@code sm:flex-col} */
+            public static final String COL = "sm:flex-col";
+
+            /** Tailwind class: {@code sm:flex-col-reverse} */
+            public static final String COL_REVERSE = "sm:flex-col-reverse";
+
+            /** Tailwind class: {@code sm:flex-grow-0} */
+            public static final String FLEX_GROW_0 = "sm:flex-grow-0";
+
+            /** Tailwind class: {@code sm:flex-1} */
+            public static final String FLEX_1 = "sm:flex-1";
+
+            /** Tailwind class: {@code sm:basis-2} */
+            public static final String BASIS_2 = "sm:basis-2";
+
+            /** Tailwind class: {@code sm:basis-4} */
+            public static final String BASIS_4 = "sm:basis-4";
+
+            /** Tailwind class: {@code sm:basis-8} */
+            public static final String BASIS_8 = "sm:basis-8";
+
+            /** Tailwind class: {@code sm:flex-auto} */
+            public static final String FLEX_AUTO = "sm:flex-auto";
+
+            /** Tailwind class: {@code sm:flex-grow} */
+            public static final String FLEX_GROW = "sm:flex-grow";
+
+            /** Tailwind class: {@code sm:flex-initial} */
+            public static final String FLEX_INITIAL = "sm:flex-initial";
+
+            /** Tailwind class: {@code sm:flex-none} */
+            public static final String FLEX_NONE = "sm:flex-none";
+
+            /** Tailwind class: {@code sm:flex-shrink} */
+            public static final String FLEX_SHRINK = "sm:flex-shrink";
+
+            /** Tailwind class: {@code sm:flex-shrink-0} */
+            public static final String FLEX_SHRINK_0 = "sm:flex-shrink-0";
+
+            /** Tailwind class: {@code sm:flex-nowrap} */
+            public static final String NOWRAP = "sm:flex-nowrap";
+
+            /** Tailwind class: {@code sm:flex-row} */
+            public static final String ROW = "sm:flex-row";
+
+            /** Tailwind class: {@code sm:flex-row-reverse} */
+            public static final String ROW_REVERSE = "sm:flex-row-reverse";
+
+            /** Tailwind class: {@code sm:flex-wrap} */
+            public static final String WRAP = "sm:flex-wrap";
+
+            /** Tailwind class: {@code sm:flex-wrap-reverse} */
+            public static final String WRAP_REVERSE = "sm:flex-wrap-reverse";
+
+            /**
+             * AlignContent utilities
+             */
+            public static final class AlignContent {
+
+                /** Tailwind class: {@code sm:content-around} */
+                public static final String AROUND = "sm:content-around";
+
+                /** Tailwind class: {@code sm:content-baseline} */
+                public static final String BASELINE = "sm:content-baseline";
+
+                /** Tailwind class: {@code sm:content-between} */
+                public static final String BETWEEN = "sm:content-between";
+
+                /** Tailwind class: {@code sm:content-center} */
+                public static final String CENTER = "sm:content-center";
+
+                /** Tailwind class: {@code sm:content-end} */
+                public static final String END = "sm:content-end";
+
+                /** Tailwind class: {@code sm:content-evenly} */
+                public static final String EVENLY = "sm:content-evenly";
+
+                /** Tailwind class: {@code sm:content-none} */
+                public static final String NONE = "sm:content-none";
+
+                /** Tailwind class: {@code sm:content-start} */
+                public static final String START = "sm:content-start";
+
+                /** Tailwind class: {@code sm:content-stretch} */
+                public static final String STRETCH = "sm:content-stretch";
+
+                private AlignContent() {}
+            }
+
+            /**
+             * AlignItems utilities
+             */
+            public static final class AlignItems {
+
+                /** Tailwind class: {@code sm:items-baseline} */
+                public static final String BASELINE = "sm:items-baseline";
+
+                /** Tailwind class: {@code sm:items-center} */
+                public static final String CENTER = "sm:items-center";
+
+                /** Tailwind class: {@code sm:items-end} */
+                public static final String END = "sm:items-end";
+
+                /** Tailwind class: {@code sm:items-start} */
+                public static final String START = "sm:items-start";
+
+                /** Tailwind class: {@code sm:items-stretch} */
+                public static final String STRETCH = "sm:items-stretch";
+
+                private AlignItems() {}
+            }
+
+            /**
+             * AlignSelf utilities
+             */
+            public static final class AlignSelf {
+
+                /** Tailwind class: {@code sm:self-auto} */
+                public static final String AUTO = "sm:self-auto";
+
+                /** Tailwind class: {@code sm:self-baseline} */
+                public static final String BASELINE = "sm:self-baseline";
+
+                /** Tailwind class: {@code sm:self-center} */
+                public static final String CENTER = "sm:self-center";
+
+                /** Tailwind class: {@code sm:self-end} */
+                public static final String END = "sm:self-end";
+
+                /** Tailwind class: {@code sm:self-start} */
+                public static final String START = "sm:self-start";
+
+                /** Tailwind class: {@code sm:self-stretch} */
+                public static final String STRETCH = "sm:self-stretch";
+
+                private AlignSelf() {}
+            }
+
+            /**
+             * JustifyContent utilities
+             */
+            public static final class JustifyContent {
+
+                /** Tailwind class: {@code sm:justify-around} */
+                public static final String AROUND = "sm:justify-around";
+
+                /** Tailwind class: {@code sm:justify-between} */
+                public static final String BETWEEN = "sm:justify-between";
+
+                /** Tailwind class: {@code sm:justify-center} */
+                public static final String CENTER = "sm:justify-center";
+
+                /** Tailwind class: {@code sm:justify-end} */
+                public static final String END = "sm:justify-end";
+
+                /** Tailwind class: {@code sm:justify-evenly} */
+                public static final String EVENLY = "sm:justify-evenly";
+
+                /** Tailwind class: {@code sm:justify-start} */
+                public static final String START = "sm:justify-start";
+
+                /** Tailwind class: {@code sm:justify-stretch} */
+                public static final String STRETCH = "sm:justify-stretch";
+
+                private JustifyContent() {}
+            }
+
+            private Flex() {}
         }
 
-        private State() {}
+        /**
+         * Grid utilities
+         */
+        public static final class Grid {
+
+            /** Tailwind class: {@code sm:auto-cols-auto} */
+            public static final String AUTO_COLS_AUTO = "sm:auto-cols-auto";
+
+            /** Tailwind class: {@code sm:auto-cols-fr} */
+            public static final String AUTO_COLS_FR = "sm:auto-cols-fr";
+
+            /** Tailwind class: {@code sm:auto-cols-max} */
+            public static final String AUTO_COLS_MAX = "sm:auto-cols-max";
+
+            /** Tailwind class: {@code sm:auto-cols-min} */
+            public static final String AUTO_COLS_MIN = "sm:auto-cols-min";
+
+            /** Tailwind class: {@code sm:auto-rows-auto} */
+            public static final String AUTO_ROWS_AUTO = "sm:auto-rows-auto";
+
+            /** Tailwind class: {@code sm:auto-rows-fr} */
+            public static final String AUTO_ROWS_FR = "sm:auto-rows-fr";
+
+            /** Tailwind class: {@code sm:auto-rows-max} */
+            public static final String AUTO_ROWS_MAX = "sm:auto-rows-max";
+
+            /** Tailwind class: {@code sm:auto-rows-min} */
+            public static final String AUTO_ROWS_MIN = "sm:auto-rows-min";
+
+            /** Tailwind class: {@code sm:col-auto} */
+            public static final String COL_AUTO = "sm:col-auto";
+
+            /** Tailwind class: {@code sm:col-end-1} */
+            public static final String COL_END_1 = "sm:col-end-1";
+
+            /** Tailwind class: {@code sm:col-end-auto} */
+            public static final String COL_END_AUTO = "sm:col-end-auto";
+
+            /** Tailwind class: {@code sm:col-span-1} */
+            public static final String COL_SPAN_1 = "sm:col-span-1";
+
+            /** Tailwind class: {@code sm:col-start-1} */
+            public static final String COL_START_1 = "sm:col-start-1";
+
+            /** Tailwind class: {@code sm:grid-cols-1} */
+            public static final String COLS_1 = "sm:grid-cols-1";
+
+            /** Tailwind class: {@code sm:row-end-1} */
+            public static final String ROW_END_1 = "sm:row-end-1";
+
+            /** Tailwind class: {@code sm:row-span-1} */
+            public static final String ROW_SPAN_1 = "sm:row-span-1";
+
+            /** Tailwind class: {@code sm:row-start-1} */
+            public static final String ROW_START_1 = "sm:row-start-1";
+
+            /** Tailwind class: {@code sm:grid-rows-1} */
+            public static final String ROWS_1 = "sm:grid-rows-1";
+
+            /** Tailwind class: {@code sm:col-span-2} */
+            public static final String COL_SPAN_2 = "sm:col-span-2";
+
+            /** Tailwind class: {@code sm:col-start-2} */
+            public static final String COL_START_2 = "sm:col-start-2";
+
+            /** Tailwind class: {@code sm:grid-cols-2} */
+            public static final String COLS_2 = "sm:grid-cols-2";
+
+            /** Tailwind class: {@code sm:row-span-2} */
+            public static final String ROW_SPAN_2 = "sm:row-span-2";
+
+            /** Tailwind class: {@code sm:grid-rows-2} */
+            public static final String ROWS_2 = "sm:grid-rows-2";
+
+            /** Tailwind class: {@code sm:col-span-3} */
+            public static final String COL_SPAN_3 = "sm:col-span-3";
+
+            /** Tailwind class: {@code sm:grid-cols-3} */
+            public static final String COLS_3 = "sm:grid-cols-3";
+
+            /** Tailwind class: {@code sm:row-span-3} */
+            public static final String ROW_SPAN_3 = "sm:row-span-3";
+
+            /** Tailwind class: {@code sm:grid-rows-3} */
+            public static final String ROWS_3 = "sm:grid-rows-3";
+
+            /** Tailwind class: {@code sm:col-span-4} */
+            public static final String COL_SPAN_4 = "sm:col-span-4";
+
+            /** Tailwind class: {@code sm:grid-cols-4} */
+            public static final String COLS_4 = "sm:grid-cols-4";
+
+            /** Tailwind class: {@code sm:grid-rows-4} */
+            public static final String ROWS_4 = "sm:grid-rows-4";
+
+            /** Tailwind class: {@code sm:col-span-5} */
+            public static final String COL_SPAN_5 = "sm:col-span-5";
+
+            /** Tailwind class: {@code sm:grid-cols-5} */
+            public static final String COLS_5 = "sm:grid-cols-5";
+
+            /** Tailwind class: {@code sm:grid-rows-5} */
+            public static final String ROWS_5 = "sm:grid-rows-5";
+
+            /** Tailwind class: {@code sm:col-span-6} */
+            public static final String COL_SPAN_6 = "sm:col-span-6";
+
+            /** Tailwind class: {@code sm:grid-cols-6} */
+            public static final String COLS_6 = "sm:grid-cols-6";
+
+            /** Tailwind class: {@code sm:grid-rows-6} */
+            public static final String ROWS_6 = "sm:grid-rows-6";
+
+            /** Tailwind class: {@code sm:col-span-7} */
+            public static final String COL_SPAN_7 = "sm:col-span-7";
+
+            /** Tailwind class: {@code sm:grid-cols-7} */
+            public static final String COLS_7 = "sm:grid-cols-7";
+
+            /** Tailwind class: {@code sm:grid-rows-7} */
+            public static final String ROWS_7 = "sm:grid-rows-7";
+
+            /** Tailwind class: {@code sm:col-span-8} */
+            public static final String COL_SPAN_8 = "sm:col-span-8";
+
+            /** Tailwind class: {@code sm:grid-cols-8} */
+            public static final String COLS_8 = "sm:grid-cols-8";
+
+            /** Tailwind class: {@code sm:grid-rows-8} */
+            public static final String ROWS_8 = "sm:grid-rows-8";
+
+            /** Tailwind class: {@code sm:col-span-9} */
+            public static final String COL_SPAN_9 = "sm:col-span-9";
+
+            /** Tailwind class: {@code sm:grid-cols-9} */
+            public static final String COLS_9 = "sm:grid-cols-9";
+
+            /** Tailwind class: {@code sm:grid-rows-9} */
+            public static final String ROWS_9 = "sm:grid-rows-9";
+
+            /** Tailwind class: {@code sm:col-span-10} */
+            public static final String COL_SPAN_10 = "sm:col-span-10";
+
+            /** Tailwind class: {@code sm:col-span-12} */
+            public static final String COL_SPAN_12 = "sm:col-span-12";
+
+            /** Tailwind class: {@code sm:col-span-full} */
+            public static final String COL_SPAN_FULL = "sm:col-span-full";
+
+            /** Tailwind class: {@code sm:col-start-auto} */
+            public static final String COL_START_AUTO = "sm:col-start-auto";
+
+            /** Tailwind class: {@code sm:grid-cols-10} */
+            public static final String COLS_10 = "sm:grid-cols-10";
+
+            /** Tailwind class: {@code sm:grid-rows-10} */
+            public static final String ROWS_10 = "sm:grid-rows-10";
+
+            /** Tailwind class: {@code sm:col-span-11} */
+            public static final String COL_SPAN_11 = "sm:col-span-11";
+
+            /** Tailwind class: {@code sm:grid-cols-11} */
+            public static final String COLS_11 = "sm:grid-cols-11";
+
+            /** Tailwind class: {@code sm:grid-cols-12} */
+            public static final String COLS_12 = "sm:grid-cols-12";
+
+            /** Tailwind class: {@code sm:grid-cols-none} */
+            public static final String COLS_NONE = "sm:grid-cols-none";
+
+            /** Tailwind class: {@code sm:grid-cols-subgrid} */
+            public static final String COLS_SUBGRID = "sm:grid-cols-subgrid";
+
+            /** Tailwind class: {@code sm:grid-flow-col} */
+            public static final String FLOW_COL = "sm:grid-flow-col";
+
+            /** Tailwind class: {@code sm:grid-flow-col-dense} */
+            public static final String FLOW_COL_DENSE = "sm:grid-flow-col-dense";
+
+            /** Tailwind class: {@code sm:grid-flow-dense} */
+            public static final String FLOW_DENSE = "sm:grid-flow-dense";
+
+            /** Tailwind class: {@code sm:grid-flow-row} */
+            public static final String FLOW_ROW = "sm:grid-flow-row";
+
+            /** Tailwind class: {@code sm:grid-flow-row-dense} */
+            public static final String FLOW_ROW_DENSE = "sm:grid-flow-row-dense";
+
+            /** Tailwind class: {@code sm:row-auto} */
+            public static final String ROW_AUTO = "sm:row-auto";
+
+            /** Tailwind class: {@code sm:row-span-full} */
+            public static final String ROW_SPAN_FULL = "sm:row-span-full";
+
+            /** Tailwind class: {@code sm:grid-rows-11} */
+            public static final String ROWS_11 = "sm:grid-rows-11";
+
+            /** Tailwind class: {@code sm:grid-rows-12} */
+            public static final String ROWS_12 = "sm:grid-rows-12";
+
+            /** Tailwind class: {@code sm:grid-rows-none} */
+            public static final String ROWS_NONE = "sm:grid-rows-none";
+
+            /** Tailwind class: {@code sm:grid-rows-subgrid} */
+            public static final String ROWS_SUBGRID = "sm:grid-rows-subgrid";
+
+            private Grid() {}
+        }
+
+        private Sm() {}
+    }
+
+    /**
+     * Md breakpoint (768px) - constants prefixed with {@code md:}
+     * <p>
+     * Same values as {@link Responsive#md(String)}, but compile-time constants,
+     * so they can be used in annotations and switch labels.
+     */
+    public static final class Md {
+
+        /**
+         * Layout utilities
+         */
+        public static final class Layout {
+
+            /** Tailwind class: {@code md:block} */
+            public static final String BLOCK = "md:block";
+
+            /** Tailwind class: {@code md:contents} */
+            public static final String CONTENTS = "md:contents";
+
+            /** Tailwind class: {@code md:flex} */
+            public static final String FLEX = "md:flex";
+
+            /** Tailwind class: {@code md:flow-root} */
+            public static final String FLOW_ROOT = "md:flow-root";
+
+            /** Tailwind class: {@code md:grid} */
+            public static final String GRID = "md:grid";
+
+            /** Tailwind class: {@code md:hidden} */
+            public static final String HIDDEN = "md:hidden";
+
+            /** Tailwind class: {@code md:inline} */
+            public static final String INLINE = "md:inline";
+
+            /** Tailwind class: {@code md:inline-block} */
+            public static final String INLINE_BLOCK = "md:inline-block";
+
+            /** Tailwind class: {@code md:inline-flex} */
+            public static final String INLINE_FLEX = "md:inline-flex";
+
+            /** Tailwind class: {@code md:inline-grid} */
+            public static final String INLINE_GRID = "md:inline-grid";
+
+            /** Tailwind class: {@code md:inline-table} */
+            public static final String INLINE_TABLE = "md:inline-table";
+
+            /** Tailwind class: {@code md:list-item} */
+            public static final String LIST_ITEM = "md:list-item";
+
+            /** Tailwind class: {@code md:table} */
+            public static final String TABLE = "md:table";
+
+            /** Tailwind class: {@code md:table-caption} */
+            public static final String TABLE_CAPTION = "md:table-caption";
+
+            /** Tailwind class: {@code md:table-cell} */
+            public static final String TABLE_CELL = "md:table-cell";
+
+            /** Tailwind class: {@code md:table-column} */
+            public static final String TABLE_COLUMN = "md:table-column";
+
+            /** Tailwind class: {@code md:table-column-group} */
+            public static final String TABLE_COLUMN_GROUP = "md:table-column-group";
+
+            /** Tailwind class: {@code md:table-footer-group} */
+            public static final String TABLE_FOOTER_GROUP = "md:table-footer-group";
+
+            /** Tailwind class: {@code md:table-header-group} */
+            public static final String TABLE_HEADER_GROUP = "md:table-header-group";
+
+            /** Tailwind class: {@code md:table-row} */
+            public static final String TABLE_ROW = "md:table-row";
+
+            /** Tailwind class: {@code md:table-row-group} */
+            public static final String TABLE_ROW_GROUP = "md:table-row-group";
+
+            private Layout() {}
+        }
+
+        /**
+         * Flex utilities
+         */
+        public static final class Flex {
+
+            /** Tailwind class: {@code md:basis-0} */
+            public static final String BASIS_0 = "md:basis-0";
+
+            /** Tailwind class: {@code md:basis-1} */
+            public static final String BASIS_1 = "md:basis-1";
+
+            /** Tailwind class: {@code md:basis-auto} */
+            public static final String BASIS_AUTO = "md:basis-auto";
+
+            /** Tailwind class: {@code md:basis-full} */
+            public static final String BASIS_FULL = "md:basis-full";
+
+            /** Tailwind class: {@code md:flex-col} */
+            public static final String COL = "md:flex-col";
+
+            /** Tailwind class: {@code md:flex-col-reverse} */
+            public static final String COL_REVERSE = "md:flex-col-reverse";
+
+            /** Tailwind class: {@code md:flex-grow-0} */
+            public static final String FLEX_GROW_0 = "md:flex-grow-0";
+
+            /** Tailwind class: {@code md:flex-1} */
+            public static final String FLEX_1 = "md:flex-1";
+
+            /** Tailwind class: {@code md:basis-2} */
+            public static final String BASIS_2 = "md:basis-2";
+
+            /** Tailwind class: {@code md:basis-4} */
+            public static final String BASIS_4 = "md:basis-4";
+
+            /** Tailwind class: {@code md:basis-8} */
+            public static final String BASIS_8 = "md:basis-8";
+
+            /** Tailwind class: {@code md:flex-auto} */
+            public static final String FLEX_AUTO = "md:flex-auto";
+
+            /** Tailwind class: {@code md:flex-grow} */
+            public static final String FLEX_GROW = "md:flex-grow";
+
+            /** Tailwind class: {@code md:flex-initial} */
+            public static final String FLEX_INITIAL = "md:flex-initial";
+
+            /** Tailwind class: {@code md:flex-none} */
+            public static final String FLEX_NONE = "md:flex-none";
+
+            /** Tailwind class: {@code md:flex-shrink} */
+            public static final String FLEX_SHRINK = "md:flex-shrink";
+
+            /** Tailwind class: {@code md:flex-shrink-0} */
+            public static final String FLEX_SHRINK_0 = "md:flex-shrink-0";
+
+            /** Tailwind class: {@code md:flex-nowrap} */
+            public static final String NOWRAP = "md:flex-nowrap";
+
+            /** Tailwind class: {@code md:flex-row} */
+            public static final String ROW = "md:flex-row";
+
+            /** Tailwind class: {@code md:flex-row-reverse} */
+            public static final String ROW_REVERSE = "md:flex-row-reverse";
+
+            /** Tailwind class: {@code md:flex-wrap} */
+            public static final String WRAP = "md:flex-wrap";
+
+            /** Tailwind class: {@code md:flex-wrap-reverse} */
+            public static final String WRAP_REVERSE = "md:flex-wrap-reverse";
+
+            /**
+             * AlignContent utilities
+             */
+            public static final class AlignContent {
+
+                /** Tailwind class: {@code md:content-around} */
+                public static final String AROUND = "md:content-around";
+
+                /** Tailwind class: {@code md:content-baseline} */
+                public static final String BASELINE = "md:content-baseline";
+
+                /** Tailwind class: {@code md:content-between} */
+                public static final String BETWEEN = "md:content-between";
+
+                /** Tailwind class: {@code md:content-center} */
+                public static final String CENTER = "md:content-center";
+
+                /** Tailwind class: {@code md:content-end} */
+                public static final String END = "md:content-end";
+
+                /** Tailwind class: {@code md:content-evenly} */
+                public static final String EVENLY = "md:content-evenly";
+
+                /** Tailwind class: {@code md:content-none} */
+                public static final String NONE = "md:content-none";
+
+                /** Tailwind class: {@code md:content-start} */
+                public static final String START = "md:content-start";
+
+                /** Tailwind class: {@code md:content-stretch} */
+                public static final String STRETCH = "md:content-stretch";
+
+                private AlignContent() {}
+            }
+
+            /**
+             * AlignItems utilities
+             */
+            public static final class AlignItems {
+
+                /** Tailwind class: {@code md:items-baseline} */
+                public static final String BASELINE = "md:items-baseline";
+
+                /** Tailwind class: {@code md:items-center} */
+                public static final String CENTER = "md:items-center";
+
+                /** Tailwind class: {@code md:items-end} */
+                public static final String END = "md:items-end";
+
+                /** Tailwind class: {@code md:items-start} */
+                public static final String START = "md:items-start";
+
+                /** Tailwind class: {@code md:items-stretch} */
+                public static final String STRETCH = "md:items-stretch";
+
+                private AlignItems() {}
+            }
+
+            /**
+             * AlignSelf utilities
+             */
+            public static final class AlignSelf {
+
+                /** Tailwind class: {@code md:self-auto} */
+                public static final String AUTO = "md:self-auto";
+
+                /** Tailwind class: {@code md:self-baseline} */
+                public static final String BASELINE = "md:self-baseline";
+
+                /** Tailwind class: {@code md:self-center} */
+                public static final String CENTER = "md:self-center";
+
+                /** Tailwind class: {@code md:self-end} */
+                public static final String END = "md:self-end";
+
+                /** Tailwind class: {@code md:self-start} */
+                public static final String START = "md:self-start";
+
+                /** Tailwind class: {@code md:self-stretch} */
+                public static final String STRETCH = "md:self-stretch";
+
+                private AlignSelf() {}
+            }
+
+            /**
+             * JustifyContent utilities
+             */
+            public static final class JustifyContent {
+
+                /** Tailwind class: {@code md:justify-around} */
+                public static final String AROUND = "md:justify-around";
+
+                /** Tailwind class: {@code md:justify-between} */
+                public static final String BETWEEN = "md:justify-between";
+
+                /** Tailwind class: {@code md:justify-center} */
+                public static final String CENTER = "md:justify-center";
+
+                /** Tailwind class: {@code md:justify-end} */
+                public static final String END = "md:justify-end";
+
+                /** Tailwind class: {@code md:justify-evenly} */
+                public static final String EVENLY = "md:justify-evenly";
+
+                /** Tailwind class: {@code md:justify-start} */
+                public static final String START = "md:justify-start";
+
+                /** Tailwind class: {@code md:justify-stretch} */
+                public static final String STRETCH = "md:justify-stretch";
+
+                private JustifyContent() {}
+            }
+
+            private Flex() {}
+        }
+
+        /**
+         * Grid utilities
+         */
+        public static final class Grid {
+
+            /** Tailwind class: {@code md:auto-cols-auto} */
+            public static final String AUTO_COLS_AUTO = "md:auto-cols-auto";
+
+            /** Tailwind class: {@code md:auto-cols-fr} */
+            public static final String AUTO_COLS_FR = "md:auto-cols-fr";
+
+            /** Tailwind class: {@code md:auto-cols-max} */
+            public static final String AUTO_COLS_MAX = "md:auto-cols-max";
+
+            /** Tailwind class: {@code md:auto-cols-min} */
+            public static final String AUTO_COLS_MIN = "md:auto-cols-min";
+
+            /** Tailwind class: {@code md:auto-rows-auto} */
+            public static final String AUTO_ROWS_AUTO = "md:auto-rows-auto";
+
+            /** Tailwind class: {@code md:auto-rows-fr} */
+            public static final String AUTO_ROWS_FR = "md:auto-rows-fr";
+
+            /** Tailwind class: {@code md:auto-rows-max} */
+            public static final String AUTO_ROWS_MAX = "md:auto-rows-max";
+
+            /** Tailwind class: {@code md:auto-rows-min} */
+            public static final String AUTO_ROWS_MIN = "md:auto-rows-min";
+
+            /** Tailwind class: {@code md:col-auto} */
+            public static final String COL_AUTO = "md:col-auto";
+
+            /** Tailwind class: {@code md:col-end-1} */
+            public static final String COL_END_1 = "md:col-end-1";
+
+            /** Tailwind class: {@code md:col-end-auto} */
+            public static final String COL_END_AUTO = "md:col-end-auto";
+
+            /** Tailwind class: {@code md:col-span-1} */
+            public static final String COL_SPAN_1 = "md:col-span-1";
+
+            /** Tailwind class: {@code md:col-start-1} */
+            public static final String COL_START_1 = "md:col-start-1";
+
+            /** Tailwind class: {@code md:grid-cols-1} */
+            public static final String COLS_1 = "md:grid-cols-1";
+
+            /** Tailwind class: {@code md:row-end-1} */
+            public static final String ROW_END_1 = "md:row-end-1";
+
+            /** Tailwind class: {@code md:row-span-1} */
+            public static final String ROW_SPAN_1 = "md:row-span-1";
+
+            /** Tailwind class: {@code md:row-start-1} */
+            public static final String ROW_START_1 = "md:row-start-1";
+
+            /** Tailwind class: {@code md:grid-rows-1} */
+            public static final String ROWS_1 = "md:grid-rows-1";
+
+            /** Tailwind class: {@code md:col-span-2} */
+            public static final String COL_SPAN_2 = "md:col-span-2";
+
+            /** Tailwind class: {@code md:col-start-2} */
+            public static final String COL_START_2 = "md:col-start-2";
+
+            /** Tailwind class: {@code md:grid-cols-2} */
+            public static final String COLS_2 = "md:grid-cols-2";
+
+            /** Tailwind class: {@code md:row-span-2} */
+            public static final String ROW_SPAN_2 = "md:row-span-2";
+
+            /** Tailwind class: {@code md:grid-rows-2} */
+            public static final String ROWS_2 = "md:grid-rows-2";
+
+            /** Tailwind class: {@code md:col-span-3} */
+            public static final String COL_SPAN_3 = "md:col-span-3";
+
+            /** Tailwind class: {@code md:grid-cols-3} */
+            public static final String COLS_3 = "md:grid-cols-3";
+
+            /** Tailwind class: {@code md:row-span-3} */
+            public static final String ROW_SPAN_3 = "md:row-span-3";
+
+            /** Tailwind class: {@code md:grid-rows-3} */
+            public static final String ROWS_3 = "md:grid-rows-3";
+
+            /** Tailwind class: {@code md:col-span-4} */
+            public static final String COL_SPAN_4 = "md:col-span-4";
+
+            /** Tailwind class: {@code md:grid-cols-4} */
+            public static final String COLS_4 = "md:grid-cols-4";
+
+            /** Tailwind class: {@code md:grid-rows-4} */
+            public static final String ROWS_4 = "md:grid-rows-4";
+
+            /** Tailwind class: {@code md:col-span-5} */
+            public static final String COL_SPAN_5 = "md:col-span-5";
+
+            /** Tailwind class: {@code md:grid-cols-5} */
+            public static final String COLS_5 = "md:grid-cols-5";
+
+            /** Tailwind class: {@code md:grid-rows-5} */
+            public static final String ROWS_5 = "md:grid-rows-5";
+
+            /** Tailwind class: {@code md:col-span-6} */
+            public static final String COL_SPAN_6 = "md:col-span-6";
+
+            /** Tailwind class: {@code md:grid-cols-6} */
+            public static final String COLS_6 = "md:grid-cols-6";
+
+            /** Tailwind class: {@code md:grid-rows-6} */
+            public static final String ROWS_6 = "md:grid-rows-6";
+
+            /** Tailwind class: {@code md:col-span-7} */
+            public static final String COL_SPAN_7 = "md:col-span-7";
+
+            /** Tailwind class: {@code md:grid-cols-7} */
+            public static final String COLS_7 = "md:grid-cols-7";
+
+            /** Tailwind class: {@code md:grid-rows-7} */
+            public static final String ROWS_7 = "md:grid-rows-7";
+
+            /** Tailwind class: {@code md:col-span-8} */
+            public static final String COL_SPAN_8 = "md:col-span-8";
+
+            /** Tailwind class: {@code md:grid-cols-8} */
+            public static final String COLS_8 = "md:grid-cols-8";
+
+            /** Tailwind class: {@code md:grid-rows-8} */
+            public static final String ROWS_8 = "md:grid-rows-8";
+
+            /** Tailwind class: {@code md:col-span-9} */
+            public static final String COL_SPAN_9 = "md:col-span-9";
+
+            /** Tailwind class: {@code md:grid-cols-9} */
+            public static final String COLS_9 = "md:grid-cols-9";
+
+            /** Tailwind class: {@code md:grid-rows-9} */
+            public static final String ROWS_9 = "md:grid-rows-9";
+
+            /** Tailwind class: {@code md:col-span-10} */
+            public static final String COL_SPAN_10 = "md:col-span-10";
+
+            /** Tailwind class: {@code md:col-span-12} */
+            public static final String COL_SPAN_12 = "md:col-span-12";
+
+            /** Tailwind class: {@code md:col-span-full} */
+            public static final String COL_SPAN_FULL = "md:col-span-full";
+
+            /** Tailwind class: {@code md:col-start-auto} */
+            public static final String COL_START_AUTO = "md:col-start-auto";
+
+            /** Tailwind class: {@code md:grid-cols-10} */
+            public static final String COLS_10 = "md:grid-cols-10";
+
+            /** Tailwind class: {@code md:grid-rows-10} */
+            public static final String ROWS_10 = "md:grid-rows-10";
+
+            /** Tailwind class: {@code md:col-span-11} */
+            public static final String COL_SPAN_11 = "md:col-span-11";
+
+            /** Tailwind class: {@code md:grid-cols-11} */
+            public static final String COLS_11 = "md:grid-cols-11";
+
+            /** Tailwind class: {@code md:grid-cols-12} */
+            public static final String COLS_12 = "md:grid-cols-12";
+
+            /** Tailwind class: {@code md:grid-cols-none} */
+            public static final String COLS_NONE = "md:grid-cols-none";
+
+            /** Tailwind class: {@code md:grid-cols-subgrid} */
+            public static final String COLS_SUBGRID = "md:grid-cols-subgrid";
+
+            /** Tailwind class: {@code md:grid-flow-col} */
+            public static final String FLOW_COL = "md:grid-flow-col";
+
+            /** Tailwind class: {@code md:grid-flow-col-dense} */
+            public static final String FLOW_COL_DENSE = "md:grid-flow-col-dense";
+
+            /** Tailwind class: {@code md:grid-flow-dense} */
+            public static final String FLOW_DENSE = "md:grid-flow-dense";
+
+            /** Tailwind class: {@code md:grid-flow-row} */
+            public static final String FLOW_ROW = "md:grid-flow-row";
+
+            /** Tailwind class: {@code md:grid-flow-row-dense} */
+            public static final String FLOW_ROW_DENSE = "md:grid-flow-row-dense";
+
+            /** Tailwind class: {@code md:row-auto} */
+            public static final String ROW_AUTO = "md:row-auto";
+
+            /** Tailwind class: {@code md:row-span-full} */
+            public static final String ROW_SPAN_FULL = "md:row-span-full";
+
+            /** Tailwind class: {@code md:grid-rows-11} */
+            public static final String ROWS_11 = "md:grid-rows-11";
+
+            /** Tailwind class: {@code md:grid-rows-12} */
+            public static final String ROWS_12 = "md:grid-rows-12";
+
+            /** Tailwind class: {@code md:grid-rows-none} */
+            public static final String ROWS_NONE = "md:grid-rows-none";
+
+            /** Tailwind class: {@code md:grid-rows-subgrid} */
+            public static final String ROWS_SUBGRID = "md:grid-rows-subgrid";
+
+            private Grid() {}
+        }
+
+        private Md() {}
+    }
+
+    /**
+     * Lg breakpoint (1024px) - constants prefixed with {@code lg:}
+     * <p>
+     * Same values as {@link Responsive#lg(String)}, but compile-time constants,
+     * so they can be used in annotations and switch labels.
+     */
+    public static final class Lg {
+
+        /**
+         * Layout utilities
+         */
+        public static final class Layout {
+
+            /** Tailwind class: {@code lg:block} */
+            public static final String BLOCK = "lg:block";
+
+            /** Tailwind class: {@code lg:contents} */
+            public static final String CONTENTS = "lg:contents";
+
+            /** Tailwind class: {@code lg:flex} */
+            public static final String FLEX = "lg:flex";
+
+            /** Tailwind class: {@code lg:flow-root} */
+            public static final String FLOW_ROOT = "lg:flow-root";
+
+            /** Tailwind class: {@code lg:grid} */
+            public static final String GRID = "lg:grid";
+
+            /** Tailwind class: {@code lg:hidden} */
+            public static final String HIDDEN = "lg:hidden";
+
+            /** Tailwind class: {@code lg:inline} */
+            public static final String INLINE = "lg:inline";
+
+            /** Tailwind class: {@code lg:inline-block} */
+            public static final String INLINE_BLOCK = "lg:inline-block";
+
+            /** Tailwind class: {@code lg:inline-flex} */
+            public static final String INLINE_FLEX = "lg:inline-flex";
+
+            /** Tailwind class: {@code lg:inline-grid} */
+            public static final String INLINE_GRID = "lg:inline-grid";
+
+            /** Tailwind class: {@code lg:inline-table} */
+            public static final String INLINE_TABLE = "lg:inline-table";
+
+            /** Tailwind class: {@code lg:list-item} */
+            public static final String LIST_ITEM = "lg:list-item";
+
+            /** Tailwind class: {@code lg:table} */
+            public static final String TABLE = "lg:table";
+
+            /** Tailwind class: {@code lg:table-caption} */
+            public static final String TABLE_CAPTION = "lg:table-caption";
+
+            /** Tailwind class: {@code lg:table-cell} */
+            public static final String TABLE_CELL = "lg:table-cell";
+
+            /** Tailwind class: {@code lg:table-column} */
+            public static final String TABLE_COLUMN = "lg:table-column";
+
+            /** Tailwind class: {@code lg:table-column-group} */
+            public static final String TABLE_COLUMN_GROUP = "lg:table-column-group";
+
+            /** Tailwind class: {@code lg:table-footer-group} */
+            public static final String TABLE_FOOTER_GROUP = "lg:table-footer-group";
+
+            /** Tailwind class: {@code lg:table-header-group} */
+            public static final String TABLE_HEADER_GROUP = "lg:table-header-group";
+
+            /** Tailwind class: {@code lg:table-row} */
+            public static final String TABLE_ROW = "lg:table-row";
+
+            /** Tailwind class: {@code lg:table-row-group} */
+            public static final String TABLE_ROW_GROUP = "lg:table-row-group";
+
+            private Layout() {}
+        }
+
+        /**
+         * Flex utilities
+         */
+        public static final class Flex {
+
+            /** Tailwind class: {@code lg:basis-0} */
+            public static final String BASIS_0 = "lg:basis-0";
+
+            /** Tailwind class: {@code lg:basis-1} */
+            public static final String BASIS_1 = "lg:basis-1";
+
+            /** Tailwind class: {@code lg:basis-auto} */
+            public static final String BASIS_AUTO = "lg:basis-auto";
+
+            /** Tailwind class: {@code lg:basis-full} */
+            public static final String BASIS_FULL = "lg:basis-full";
+
+            /** Tailwind class: {@code lg:flex-col} */
+            public static final String COL = "lg:flex-col";
+
+            /** Tailwind class: {@code lg:flex-col-reverse} */
+            public static final String COL_REVERSE = "lg:flex-col-reverse";
+
+            /** Tailwind class: {@code lg:flex-grow-0} */
+            public static final String FLEX_GROW_0 = "lg:flex-grow-0";
+
+            /** Tailwind class: {@code lg:flex-1} */
+            public static final String FLEX_1 = "lg:flex-1";
+
+            /** Tailwind class: {@code lg:basis-2} */
+            public static final String BASIS_2 = "lg:basis-2";
+
+            /** Tailwind class: {@code lg:basis-4} */
+            public static final String BASIS_4 = "lg:basis-4";
+
+            /** Tailwind class: {@code lg:basis-8} */
+            public static final String BASIS_8 = "lg:basis-8";
+
+            /** Tailwind class: {@code lg:flex-auto} */
+            public static final String FLEX_AUTO = "lg:flex-auto";
+
+            /** Tailwind class: {@code lg:flex-grow} */
+            public static final String FLEX_GROW = "lg:flex-grow";
+
+            /** Tailwind class: {@code lg:flex-initial} */
+            public static final String FLEX_INITIAL = "lg:flex-initial";
+
+            /** Tailwind class: {@code lg:flex-none} */
+            public static final String FLEX_NONE = "lg:flex-none";
+
+            /** Tailwind class: {@code lg:flex-shrink} */
+            public static final String FLEX_SHRINK = "lg:flex-shrink";
+
+            /** Tailwind class: {@code lg:flex-shrink-0} */
+            public static final String FLEX_SHRINK_0 = "lg:flex-shrink-0";
+
+            /** Tailwind class: {@code lg:flex-nowrap} */
+            public static final String NOWRAP = "lg:flex-nowrap";
+
+            /** Tailwind class: {@code lg:flex-row} */
+            public static final String ROW = "lg:flex-row";
+
+            /** Tailwind class: {@code lg:flex-row-reverse} */
+            public static final String ROW_REVERSE = "lg:flex-row-reverse";
+
+            /** Tailwind class: {@code lg:flex-wrap} */
+            public static final String WRAP = "lg:flex-wrap";
+
+            /** Tailwind class: {@code lg:flex-wrap-reverse} */
+            public static final String WRAP_REVERSE = "lg:flex-wrap-reverse";
+
+            /**
+             * AlignContent utilities
+             */
+            public static final class AlignContent {
+
+                /** Tailwind class: {@code lg:content-around} */
+                public static final String AROUND = "lg:content-around";
+
+                /** Tailwind class: {@code lg:content-baseline} */
+                public static final String BASELINE = "lg:content-baseline";
+
+                /** Tailwind class: {@code lg:content-between} */
+                public static final String BETWEEN = "lg:content-between";
+
+                /** Tailwind class: {@code lg:content-center} */
+                public static final String CENTER = "lg:content-center";
+
+                /** Tailwind class: {@code lg:content-end} */
+                public static final String END = "lg:content-end";
+
+                /** Tailwind class: {@code lg:content-evenly} */
+                public static final String EVENLY = "lg:content-evenly";
+
+                /** Tailwind class: {@code lg:content-none} */
+                public static final String NONE = "lg:content-none";
+
+                /** Tailwind class: {@code lg:content-start} */
+                public static final String START = "lg:content-start";
+
+                /** Tailwind class: {@code lg:content-stretch} */
+                public static final String STRETCH = "lg:content-stretch";
+
+                private AlignContent() {}
+            }
+
+            /**
+             * AlignItems utilities
+             */
+            public static final class AlignItems {
+
+                /** Tailwind class: {@code lg:items-baseline} */
+                public static final String BASELINE = "lg:items-baseline";
+
+                /** Tailwind class: {@code lg:items-center} */
+                public static final String CENTER = "lg:items-center";
+
+                /** Tailwind class: {@code lg:items-end} */
+                public static final String END = "lg:items-end";
+
+                /** Tailwind class: {@code lg:items-start} */
+                public static final String START = "lg:items-start";
+
+                /** Tailwind class: {@code lg:items-stretch} */
+                public static final String STRETCH = "lg:items-stretch";
+
+                private AlignItems() {}
+            }
+
+            /**
+             * AlignSelf utilities
+             */
+            public static final class AlignSelf {
+
+                /** Tailwind class: {@code lg:self-auto} */
+                public static final String AUTO = "lg:self-auto";
+
+                /** Tailwind class: {@code lg:self-baseline} */
+                public static final String BASELINE = "lg:self-baseline";
+
+                /** Tailwind class: {@code lg:self-center} */
+                public static final String CENTER = "lg:self-center";
+
+                /** Tailwind class: {@code lg:self-end} */
+                public static final String END = "lg:self-end";
+
+                /** Tailwind class: {@code lg:self-start} */
+                public static final String START = "lg:self-start";
+
+                /** Tailwind class: {@code lg:self-stretch} */
+                public static final String STRETCH = "lg:self-stretch";
+
+                private AlignSelf() {}
+            }
+
+            /**
+             * JustifyContent utilities
+             */
+            public static final class JustifyContent {
+
+                /** Tailwind class: {@code lg:justify-around} */
+                public static final String AROUND = "lg:justify-around";
+
+                /** Tailwind class: {@code lg:justify-between} */
+                public static final String BETWEEN = "lg:justify-between";
+
+                /** Tailwind class: {@code lg:justify-center} */
+                public static final String CENTER = "lg:justify-center";
+
+                /** Tailwind class: {@code lg:justify-end} */
+                public static final String END = "lg:justify-end";
+
+                /** Tailwind class: {@code lg:justify-evenly} */
+                public static final String EVENLY = "lg:justify-evenly";
+
+                /** Tailwind class: {@code lg:justify-start} */
+                public static final String START = "lg:justify-start";
+
+                /** Tailwind class: {@code lg:justify-stretch} */
+                public static final String STRETCH = "lg:justify-stretch";
+
+                private JustifyContent() {}
+            }
+
+            private Flex() {}
+        }
+
+        /**
+         * Grid utilities
+         */
+        public static final class Grid {
+
+            /** Tailwind class: {@code lg:auto-cols-auto} */
+            public static final String AUTO_COLS_AUTO = "lg:auto-cols-auto";
+
+            /** Tailwind class: {@code lg:auto-cols-fr} */
+            public static final String AUTO_COLS_FR = "lg:auto-cols-fr";
+
+            /** Tailwind class: {@code lg:auto-cols-max} */
+            public static final String AUTO_COLS_MAX = "lg:auto-cols-max";
+
+            /** Tailwind class: {@code lg:auto-cols-min} */
+            public static final String AUTO_COLS_MIN = "lg:auto-cols-min";
+
+            /** Tailwind class: {@code lg:auto-rows-auto} */
+            public static final String AUTO_ROWS_AUTO = "lg:auto-rows-auto";
+
+            /** Tailwind class: {@code lg:auto-rows-fr} */
+            public static final String AUTO_ROWS_FR = "lg:auto-rows-fr";
+
+            /** Tailwind class: {@code lg:auto-rows-max} */
+            public static final String AUTO_ROWS_MAX = "lg:auto-rows-max";
+
+            /** Tailwind class: {@code lg:auto-rows-min} */
+            public static final String AUTO_ROWS_MIN = "lg:auto-rows-min";
+
+            /** Tailwind class: {@code lg:col-auto} */
+            public static final String COL_AUTO = "lg:col-auto";
+
+            /** Tailwind class: {@code lg:col-end-1} */
+            public static final String COL_END_1 = "lg:col-end-1";
+
+            /** Tailwind class: {@code lg:col-end-auto} */
+            public static final String COL_END_AUTO = "lg:col-end-auto";
+
+            /** Tailwind class: {@code lg:col-span-1} */
+            public static final String COL_SPAN_1 = "lg:col-span-1";
+
+            /** Tailwind class: {@code lg:col-start-1} */
+            public static final String COL_START_1 = "lg:col-start-1";
+
+            /** Tailwind class: {@code lg:grid-cols-1} */
+            public static final String COLS_1 = "lg:grid-cols-1";
+
+            /** Tailwind class: {@code lg:row-end-1} */
+            public static final String ROW_END_1 = "lg:row-end-1";
+
+            /** Tailwind class: {@code lg:row-span-1} */
+            public static final String ROW_SPAN_1 = "lg:row-span-1";
+
+            /** Tailwind class: {@code lg:row-start-1} */
+            public static final String ROW_START_1 = "lg:row-start-1";
+
+            /** Tailwind class: {@code lg:grid-rows-1} */
+            public static final String ROWS_1 = "lg:grid-rows-1";
+
+            /** Tailwind class: {@code lg:col-span-2} */
+            public static final String COL_SPAN_2 = "lg:col-span-2";
+
+            /** Tailwind class: {@code lg:col-start-2} */
+            public static final String COL_START_2 = "lg:col-start-2";
+
+            /** Tailwind class: {@code lg:grid-cols-2} */
+            public static final String COLS_2 = "lg:grid-cols-2";
+
+            /** Tailwind class: {@code lg:row-span-2} */
+            public static final String ROW_SPAN_2 = "lg:row-span-2";
+
+            /** Tailwind class: {@code lg:grid-rows-2} */
+            public static final String ROWS_2 = "lg:grid-rows-2";
+
+            /** Tailwind class: {@code lg:col-span-3} */
+            public static final String COL_SPAN_3 = "lg:col-span-3";
+
+            /** Tailwind class: {@code lg:grid-cols-3} */
+            public static final String COLS_3 = "lg:grid-cols-3";
+
+            /** Tailwind class: {@code lg:row-span-3} */
+            public static final String ROW_SPAN_3 = "lg:row-span-3";
+
+            /** Tailwind class: {@code lg:grid-rows-3} */
+            public static final String ROWS_3 = "lg:grid-rows-3";
+
+            /** Tailwind class: {@code lg:col-span-4} */
+            public static final String COL_SPAN_4 = "lg:col-span-4";
+
+            /** Tailwind class: {@code lg:grid-cols-4} */
+            public static final String COLS_4 = "lg:grid-cols-4";
+
+            /** Tailwind class: {@code lg:grid-rows-4} */
+            public static final String ROWS_4 = "lg:grid-rows-4";
+
+            /** Tailwind class: {@code lg:col-span-5} */
+            public static final String COL_SPAN_5 = "lg:col-span-5";
+
+            /** Tailwind class: {@code lg:grid-cols-5} */
+            public static final String COLS_5 = "lg:grid-cols-5";
+
+            /** Tailwind class: {@code lg:grid-rows-5} */
+            public static final String ROWS_5 = "lg:grid-rows-5";
+
+            /** Tailwind class: {@code lg:col-span-6} */
+            public static final String COL_SPAN_6 = "lg:col-span-6";
+
+            /** Tailwind class: {@code lg:grid-cols-6} */
+            public static final String COLS_6 = "lg:grid-cols-6";
+
+            /** Tailwind class: {@code lg:grid-rows-6} */
+            public static final String ROWS_6 = "lg:grid-rows-6";
+
+            /** Tailwind class: {@code lg:col-span-7} */
+            public static final String COL_SPAN_7 = "lg:col-span-7";
+
+            /** Tailwind class: {@code lg:grid-cols-7} */
+            public static final String COLS_7 = "lg:grid-cols-7";
+
+            /** Tailwind class: {@code lg:grid-rows-7} */
+            public static final String ROWS_7 = "lg:grid-rows-7";
+
+            /** Tailwind class: {@code lg:col-span-8} */
+            public static final String COL_SPAN_8 = "lg:col-span-8";
+
+            /** Tailwind class: {@code lg:grid-cols-8} */
+            public static final String COLS_8 = "lg:grid-cols-8";
+
+            /** Tailwind class: {@code lg:grid-rows-8} */
+            public static final String ROWS_8 = "lg:grid-rows-8";
+
+            /** Tailwind class: {@code lg:col-span-9} */
+            public static final String COL_SPAN_9 = "lg:col-span-9";
+
+            /** Tailwind class: {@code lg:grid-cols-9} */
+            public static final String COLS_9 = "lg:grid-cols-9";
+
+            /** Tailwind class: {@code lg:grid-rows-9} */
+            public static final String ROWS_9 = "lg:grid-rows-9";
+
+            /** Tailwind class: {@code lg:col-span-10} */
+            public static final String COL_SPAN_10 = "lg:col-span-10";
+
+            /** Tailwind class: {@code lg:col-span-12} */
+            public static final String COL_SPAN_12 = "lg:col-span-12";
+
+            /** Tailwind class: {@code lg:col-span-full} */
+            public static final String COL_SPAN_FULL = "lg:col-span-full";
+
+            /** Tailwind class: {@code lg:col-start-auto} */
+            public static final String COL_START_AUTO = "lg:col-start-auto";
+
+            /** Tailwind class: {@code lg:grid-cols-10} */
+            public static final String COLS_10 = "lg:grid-cols-10";
+
+            /** Tailwind class: {@code lg:grid-rows-10} */
+            public static final String ROWS_10 = "lg:grid-rows-10";
+
+            /** Tailwind class: {@code lg:col-span-11} */
+            public static final String COL_SPAN_11 = "lg:col-span-11";
+
+            /** Tailwind class: {@code lg:grid-cols-11} */
+            public static final String COLS_11 = "lg:grid-cols-11";
+
+            /** Tailwind class: {@code lg:grid-cols-12} */
+            public static final String COLS_12 = "lg:grid-cols-12";
+
+            /** Tailwind class: {@code lg:grid-cols-none} */
+            public static final String COLS_NONE = "lg:grid-cols-none";
+
+            /** Tailwind class: {@code lg:grid-cols-subgrid} */
+            public static final String COLS_SUBGRID = "lg:grid-cols-subgrid";
+
+            /** Tailwind class: {@code lg:grid-flow-col} */
+            public static final String FLOW_COL = "lg:grid-flow-col";
+
+            /** Tailwind class: {@code lg:grid-flow-col-dense} */
+            public static final String FLOW_COL_DENSE = "lg:grid-flow-col-dense";
+
+            /** Tailwind class: {@code lg:grid-flow-dense} */
+            public static final String FLOW_DENSE = "lg:grid-flow-dense";
+
+            /** Tailwind class: {@code lg:grid-flow-row} */
+            public static final String FLOW_ROW = "lg:grid-flow-row";
+
+            /** Tailwind class: {@code lg:grid-flow-row-dense} */
+            public static final String FLOW_ROW_DENSE = "lg:grid-flow-row-dense";
+
+            /** Tailwind class: {@code lg:row-auto} */
+            public static final String ROW_AUTO = "lg:row-auto";
+
+            /** Tailwind class: {@code lg:row-span-full} */
+            public static final String ROW_SPAN_FULL = "lg:row-span-full";
+
+            /** Tailwind class: {@code lg:grid-rows-11} */
+            public static final String ROWS_11 = "lg:grid-rows-11";
+
+            /** Tailwind class: {@code lg:grid-rows-12} */
+            public static final String ROWS_12 = "lg:grid-rows-12";
+
+            /** Tailwind class: {@code lg:grid-rows-none} */
+            public static final String ROWS_NONE = "lg:grid-rows-none";
+
+            /** Tailwind class: {@code lg:grid-rows-subgrid} */
+            public static final String ROWS_SUBGRID = "lg:grid-rows-subgrid";
+
+            private Grid() {}
+        }
+
+        private Lg() {}
+    }
+
+    /**
+     * Hover state - constants prefixed with {@code hover:}
+     * <p>
+     * Same values as {@link State#hover(String)}, but compile-time constants,
+     * so they can be used in annotations and switch labels.
+     */
+    public static final class Hover {
+
+        /**
+         * Background utilities
+         */
+        public static final class Background {
+
+            /** Tailwind class: {@code hover:bg-black} */
+            public static final String BLACK = "hover:bg-black";
+
+            /** Tailwind class: {@code hover:bg-blue-50} */
+            public static final String BLUE_50 = "hover:bg-blue-50";
+
+            /** Tailwind class: {@code hover:bg-gray-50} */
+            public static final String GRAY_50 = "hover:bg-gray-50";
+
+            /** Tailwind class: {@code hover:bg-green-50} */
+            public static final String GREEN_50 = "hover:bg-green-50";
+
+            /** Tailwind class: {@code hover:bg-orange-50} */
+            public static final String ORANGE_50 = "hover:bg-orange-50";
+
+            /** Tailwind class: {@code hover:bg-red-50} */
+            public static final String RED_50 = "hover:bg-red-50";
+
+            /** Tailwind class: {@code hover:bg-slate-50} */
+            public static final String SLATE_50 = "hover:bg-slate-50";
+
+            /** Tailwind class: {@code hover:bg-zinc-50} */
+            public static final String ZINC_50 = "hover:bg-zinc-50";
+
+            /** Tailwind class: {@code hover:bg-blue-100} */
+            public static final String BLUE_100 = "hover:bg-blue-100";
+
+            /** Tailwind class: {@code hover:bg-gray-100} */
+            public static final String GRAY_100 = "hover:bg-gray-100";
+
+            /** Tailwind class: {@code hover:bg-red-100} */
+            public static final String RED_100 = "hover:bg-red-100";
+
+            /** Tailwind class: {@code hover:bg-slate-100} */
+            public static final String SLATE_100 = "hover:bg-slate-100";
+
+            /** Tailwind class: {@code hover:bg-gray-200} */
+            public static final String GRAY_200 = "hover:bg-gray-200";
+
+            /** Tailwind class: {@code hover:bg-gray-300} */
+            public static final String GRAY_300 = "hover:bg-gray-300";
+
+            /** Tailwind class: {@code hover:bg-gray-400} */
+            public static final String GRAY_400 = "hover:bg-gray-400";
+
+            /** Tailwind class: {@code hover:bg-blue-500} */
+            public static final String BLUE_500 = "hover:bg-blue-500";
+
+            /** Tailwind class: {@code hover:bg-gray-500} */
+            public static final String GRAY_500 = "hover:bg-gray-500";
+
+            /** Tailwind class: {@code hover:bg-green-500} */
+            public static final String GREEN_500 = "hover:bg-green-500";
+
+            /** Tailwind class: {@code hover:bg-orange-500} */
+            public static final String ORANGE_500 = "hover:bg-orange-500";
+
+            /** Tailwind class: {@code hover:bg-red-500} */
+            public static final String RED_500 = "hover:bg-red-500";
+
+            /** Tailwind class: {@code hover:bg-slate-500} */
+            public static final String SLATE_500 = "hover:bg-slate-500";
+
+            /** Tailwind class: {@code hover:bg-blue-600} */
+            public static final String BLUE_600 = "hover:bg-blue-600";
+
+            /** Tailwind class: {@code hover:bg-gray-600} */
+            public static final String GRAY_600 = "hover:bg-gray-600";
+
+            /** Tailwind class: {@code hover:bg-blue-700} */
+            public static final String BLUE_700 = "hover:bg-blue-700";
+
+            /** Tailwind class: {@code hover:bg-gray-700} */
+            public static final String GRAY_700 = "hover:bg-gray-700";
+
+            /** Tailwind class: {@code hover:bg-gray-800} */
+            public static final String GRAY_800 = "hover:bg-gray-800";
+
+            /** Tailwind class: {@code hover:bg-gray-900} */
+            public static final String GRAY_900 = "hover:bg-gray-900";
+
+            /** Tailwind class: {@code hover:bg-blue-950} */
+            public static final String BLUE_950 = "hover:bg-blue-950";
+
+            /** Tailwind class: {@code hover:bg-current} */
+            public static final String CURRENT = "hover:bg-current";
+
+            /** Tailwind class: {@code hover:bg-gray-950} */
+            public static final String GRAY_950 = "hover:bg-gray-950";
+
+            /** Tailwind class: {@code hover:bg-green-950} */
+            public static final String GREEN_950 = "hover:bg-green-950";
+
+            /** Tailwind class: {@code hover:bg-inherit} */
+            public static final String INHERIT = "hover:bg-inherit";
+
+            /** Tailwind class: {@code hover:bg-zinc-500} */
+            public static final String ZINC_500 = "hover:bg-zinc-500";
+
+            /** Tailwind class: {@code hover:bg-orange-950} */
+            public static final String ORANGE_950 = "hover:bg-orange-950";
+
+            /** Tailwind class: {@code hover:bg-red-950} */
+            public static final String RED_950 = "hover:bg-red-950";
+
+            /** Tailwind class: {@code hover:bg-slate-950} */
+            public static final String SLATE_950 = "hover:bg-slate-950";
+
+            /** Tailwind class: {@code hover:bg-transparent} */
+            public static final String TRANSPARENT = "hover:bg-transparent";
+
+            /** Tailwind class: {@code hover:bg-white} */
+            public static final String WHITE = "hover:bg-white";
+
+            /** Tailwind class: {@code hover:bg-zinc-950} */
+            public static final String ZINC_950 = "hover:bg-zinc-950";
+
+            private Background() {}
+        }
+
+        /**
+         * Text utilities
+         */
+        public static final class Text {
+
+            /** Tailwind class: {@code hover:text-amber-50} */
+            public static final String AMBER_50 = "hover:text-amber-50";
+
+            /** Tailwind class: {@code hover:text-blue-50} */
+            public static final String BLUE_50 = "hover:text-blue-50";
+
+            /** Tailwind class: {@code hover:text-cyan-50} */
+            public static final String CYAN_50 = "hover:text-cyan-50";
+
+            /** Tailwind class: {@code hover:text-emerald-50} */
+            public static final String EMERALD_50 = "hover:text-emerald-50";
+
+            /** Tailwind class: {@code hover:text-fuchsia-50} */
+            public static final String FUCHSIA_50 = "hover:text-fuchsia-50";
+
+            /** Tailwind class: {@code hover:text-gray-50} */
+            public static final String GRAY_50 = "hover:text-gray-50";
+
+            /** Tailwind class: {@code hover:text-green-50} */
+            public static final String GREEN_50 = "hover:text-green-50";
+
+            /** Tailwind class: {@code hover:text-indigo-50} */
+            public static final String INDIGO_50 = "hover:text-indigo-50";
+
+            /** Tailwind class: {@code hover:text-orange-50} */
+            public static final String ORANGE_50 = "hover:text-orange-50";
+
+            /** Tailwind class: {@code hover:text-pink-50} */
+            public static final String PINK_50 = "hover:text-pink-50";
+
+            /** Tailwind class: {@code hover:text-purple-50} */
+            public static final String PURPLE_50 = "hover:text-purple-50";
+
+            /** Tailwind class: {@code hover:text-gray-100} */
+            public static final String GRAY_100 = "hover:text-gray-100";
+
+            /** Tailwind class: {@code hover:text-gray-200} */
+            public static final String GRAY_200 = "hover:text-gray-200";
+
+            /** Tailwind class: {@code hover:text-gray-300} */
+            public static final String GRAY_300 = "hover:text-gray-300";
+
+            /** Tailwind class: {@code hover:text-gray-400} */
+            public static final String GRAY_400 = "hover:text-gray-400";
+
+            /** Tailwind class: {@code hover:text-amber-500} */
+            public static final String AMBER_500 = "hover:text-amber-500";
+
+            /** Tailwind class: {@code hover:text-blue-500} */
+            public static final String BLUE_500 = "hover:text-blue-500";
+
+            /** Tailwind class: {@code hover:text-cyan-500} */
+            public static final String CYAN_500 = "hover:text-cyan-500";
+
+            /** Tailwind class: {@code hover:text-fuchsia-500} */
+            public static final String FUCHSIA_500 = "hover:text-fuchsia-500";
+
+            /** Tailwind class: {@code hover:text-green-500} */
+            public static final String GREEN_500 = "hover:text-green-500";
+
+            /** Tailwind class: {@code hover:text-amber-950} */
+            public static final String AMBER_950 = "hover:text-amber-950";
+
+            /** Tailwind class: {@code hover:text-black} */
+            public static final String BLACK = "hover:text-black";
+
+            /** Tailwind class: {@code hover:text-lime-50} */
+            public static final String LIME_50 = "hover:text-lime-50";
+
+            /** Tailwind class: {@code hover:text-neutral-50} */
+            public static final String NEUTRAL_50 = "hover:text-neutral-50";
+
+            /** Tailwind class: {@code hover:text-blue-100} */
+            public static final String BLUE_100 = "hover:text-blue-100";
+
+            /** Tailwind class: {@code hover:text-emerald-500} */
+            public static final String EMERALD_500 = "hover:text-emerald-500";
+
+            /** Tailwind class: {@code hover:text-gray-600} */
+            public static final String GRAY_600 = "hover:text-gray-600";
+
+            /** Tailwind class: {@code hover:text-gray-700} */
+            public static final String GRAY_700 = "hover:text-gray-700";
+
+            /** Tailwind class: {@code hover:text-gray-800} */
+            public static final String GRAY_800 = "hover:text-gray-800";
+
+            /** Tailwind class: {@code hover:text-blue-950} */
+            public static final String BLUE_950 = "hover:text-blue-950";
+
+            /** Tailwind class: {@code hover:text-current} */
+            public static final String CURRENT = "hover:text-current";
+
+            /** Tailwind class: {@code hover:text-gray-500} */
+            public static final String GRAY_500 = "hover:text-gray-500";
+
+            /** Tailwind class: {@code hover:text-indigo-500} */
+            public static final String INDIGO_500 = "hover:text-indigo-500";
+
+            /** Tailwind class: {@code hover:text-lime-500} */
+            public static final String LIME_500 = "hover:text-lime-500";
+
+            /** Tailwind class: {@code hover:text-neutral-500} */
+            public static final String NEUTRAL_500 = "hover:text-neutral-500";
+
+            /** Tailwind class: {@code hover:text-orange-500} */
+            public static final String ORANGE_500 = "hover:text-orange-500";
+
+            /** Tailwind class: {@code hover:text-pink-500} */
+            public static final String PINK_500 = "hover:text-pink-500";
+
+            /** Tailwind class: {@code hover:text-gray-900} */
+            public static final String GRAY_900 = "hover:text-gray-900";
+
+            /** Tailwind class: {@code hover:text-cyan-950} */
+            public static final String CYAN_950 = "hover:text-cyan-950";
+
+            /** Tailwind class: {@code hover:text-emerald-950} */
+            public static final String EMERALD_950 = "hover:text-emerald-950";
+
+            /** Tailwind class: {@code hover:text-fuchsia-950} */
+            public static final String FUCHSIA_950 = "hover:text-fuchsia-950";
+
+            /** Tailwind class: {@code hover:text-gray-950} */
+            public static final String GRAY_950 = "hover:text-gray-950";
+
+            /** Tailwind class: {@code hover:text-green-950} */
+            public static final String GREEN_950 = "hover:text-green-950";
+
+            /** Tailwind class: {@code hover:text-indigo-950} */
+            public static final String INDIGO_950 = "hover:text-indigo-950";
+
+            /** Tailwind class: {@code hover:text-inherit} */
+            public static final String INHERIT = "hover:text-inherit";
+
+            /** Tailwind class: {@code hover:text-red-50} */
+            public static final String RED_50 = "hover:text-red-50";
+
+            /** Tailwind class: {@code hover:text-rose-50} */
+            public static final String ROSE_50 = "hover:text-rose-50";
+
+            /** Tailwind class: {@code hover:text-sky-50} */
+            public static final String SKY_50 = "hover:text-sky-50";
+
+            /** Tailwind class: {@code hover:text-slate-50} */
+            public static final String SLATE_50 = "hover:text-slate-50";
+
+            /** Tailwind class: {@code hover:text-stone-50} */
+            public static final String STONE_50 = "hover:text-stone-50";
+
+            /** Tailwind class: {@code hover:text-teal-50} */
+            public static final String TEAL_50 = "hover:text-teal-50";
+
+            /** Tailwind class: {@code hover:text-violet-50} */
+            public static final String VIOLET_50 = "hover:text-violet-50";
+
+            /** Tailwind class: {@code hover:text-yellow-50} */
+            public static final String YELLOW_50 = "hover:text-yellow-50";
+
+            /** Tailwind class: {@code hover:text-zinc-50} */
+            public static final String ZINC_50 = "hover:text-zinc-50";
+
+            /** Tailwind class: {@code hover:text-red-100} */
+            public static final String RED_100 = "hover:text-red-100";
+
+            /** Tailwind class: {@code hover:text-slate-100} */
+            public static final String SLATE_100 = "hover:text-slate-100";
+
+            /** Tailwind class: {@code hover:text-zinc-100} */
+            public static final String ZINC_100 = "hover:text-zinc-100";
+
+            /** Tailwind class: {@code hover:text-red-200} */
+            public static final String RED_200 = "hover:text-red-200";
+
+            /** Tailwind class: {@code hover:text-slate-200} */
+            public static final String SLATE_200 = "hover:text-slate-200";
+
+            /** Tailwind class: {@code hover:text-red-300} */
+            public static final String RED_300 = "hover:text-red-300";
+
+            /** Tailwind class: {@code hover:text-slate-300} */
+            public static final String SLATE_300 = "hover:text-slate-300";
+
+            /** Tailwind class: {@code hover:text-red-400} */
+            public static final String RED_400 = "hover:text-red-400";
+
+            /** Tailwind class: {@code hover:text-slate-400} */
+            public static final String SLATE_400 = "hover:text-slate-400";
+
+            /** Tailwind class: {@code hover:text-purple-500} */
+            public static final String PURPLE_500 = "hover:text-purple-500";
+
+            /** Tailwind class: {@code hover:text-red-500} */
+            public static final String RED_500 = "hover:text-red-500";
+
+            /** Tailwind class: {@code hover:text-rose-500} */
+            public static final String ROSE_500 = "hover:text-rose-500";
+
+            /** Tailwind class: {@code hover:text-sky-500} */
+            public static final String SKY_500 = "hover:text-sky-500";
+
+            /** Tailwind class: {@code hover:text-slate-500} */
+            public static final String SLATE_500 = "hover:text-slate-500";
+
+            /** Tailwind class: {@code hover:text-stone-500} */
+            public static final String STONE_500 = "hover:text-stone-500";
+
+            /** Tailwind class: {@code hover:text-teal-500} */
+            public static final String TEAL_500 = "hover:text-teal-500";
+
+            /** Tailwind class: {@code hover:text-violet-500} */
+            public static final String VIOLET_500 = "hover:text-violet-500";
+
+            /** Tailwind class: {@code hover:text-yellow-500} */
+            public static final String YELLOW_500 = "hover:text-yellow-500";
+
+            /** Tailwind class: {@code hover:text-zinc-500} */
+            public static final String ZINC_500 = "hover:text-zinc-500";
+
+            /** Tailwind class: {@code hover:text-red-600} */
+            public static final String RED_600 = "hover:text-red-600";
+
+            /** Tailwind class: {@code hover:text-slate-600} */
+            public static final String SLATE_600 = "hover:text-slate-600";
+
+            /** Tailwind class: {@code hover:text-red-700} */
+            public static final String RED_700 = "hover:text-red-700";
+
+            /** Tailwind class: {@code hover:text-slate-700} */
+            public static final String SLATE_700 = "hover:text-slate-700";
+
+            /** Tailwind class: {@code hover:text-red-800} */
+            public static final String RED_800 = "hover:text-red-800";
+
+            /** Tailwind class: {@code hover:text-slate-800} */
+            public static final String SLATE_800 = "hover:text-slate-800";
+
+            /** Tailwind class: {@code hover:text-red-900} */
+            public static final String RED_900 = "hover:text-red-900";
+
+            /** Tailwind class: {@code hover:text-slate-900} */
+            public static final String SLATE_900 = "hover:text-slate-900";
+
+            /** Tailwind class: {@code hover:text-lime-950} */
+            public static final String LIME_950 = "hover:text-lime-950";
+
+            /** Tailwind class: {@code hover:text-neutral-950} */
+            public static final String NEUTRAL_950 = "hover:text-neutral-950";
+
+            /** Tailwind class: {@code hover:text-orange-950} */
+            public static final String ORANGE_950 = "hover:text-orange-950";
+
+            /** Tailwind class: {@code hover:text-pink-950} */
+            public static final String PINK_950 = "hover:text-pink-950";
+
+            /** Tailwind class: {@code hover:text-purple-950} */
+            public static final String PURPLE_950 = "hover:text-purple-950";
+
+            /** Tailwind class: {@code hover:text-red-950} */
+            public static final String RED_950 = "hover:text-red-950";
+
+            /** Tailwind class: {@code hover:text-rose-950} */
+            public static final String ROSE_950 = "hover:text-rose-950";
+
+            /** Tailwind class: {@code hover:text-sky-950} */
+            public static final String SKY_950 = "hover:text-sky-950";
+
+            /** Tailwind class: {@code hover:text-slate-950} */
+            public static final String SLATE_950 = "hover:text-slate-950";
+
+            /** Tailwind class: {@code hover:text-stone-950} */
+            public static final String STONE_950 = "hover:text-stone-950";
+
+            /** Tailwind class: {@code hover:text-teal-950} */
+            public static final String TEAL_950 = "hover:text-teal-950";
+
+            /** Tailwind class: {@code hover:text-transparent} */
+            public static final String TRANSPARENT = "hover:text-transparent";
+
+            /** Tailwind class: {@code hover:text-violet-950} */
+            public static final String VIOLET_950 = "hover:text-violet-950";
+
+            /** Tailwind class: {@code hover:text-white} */
+            public static final String WHITE = "hover:text-white";
+
+            /** Tailwind class: {@code hover:text-yellow-950} */
+            public static final String YELLOW_950 = "hover:text-yellow-950";
+
+            /** Tailwind class: {@code hover:text-zinc-950} */
+            public static final String ZINC_950 = "hover:text-zinc-950";
+
+            private Text() {}
+        }
+
+        /**
+         * Border utilities
+         */
+        public static final class Border {
+
+            /** Tailwind class: {@code hover:border-black} */
+            public static final String BLACK = "hover:border-black";
+
+            /** Tailwind class: {@code hover:border} */
+            public static final String BORDER = "hover:border";
+
+            /** Tailwind class: {@code hover:border-0} */
+            public static final String BORDER_0 = "hover:border-0";
+
+            /** Tailwind class: {@code hover:border-b-0} */
+            public static final String BORDER_B_0 = "hover:border-b-0";
+
+            /** Tailwind class: {@code hover:border-e-0} */
+            public static final String BORDER_E_0 = "hover:border-e-0";
+
+            /** Tailwind class: {@code hover:border-l-0} */
+            public static final String BORDER_L_0 = "hover:border-l-0";
+
+            /** Tailwind class: {@code hover:border-r-0} */
+            public static final String BORDER_R_0 = "hover:border-r-0";
+
+            /** Tailwind class: {@code hover:border-s-0} */
+            public static final String BORDER_S_0 = "hover:border-s-0";
+
+            /** Tailwind class: {@code hover:border-t-0} */
+            public static final String BORDER_T_0 = "hover:border-t-0";
+
+            /** Tailwind class: {@code hover:border-x-0} */
+            public static final String BORDER_X_0 = "hover:border-x-0";
+
+            /** Tailwind class: {@code hover:border-y-0} */
+            public static final String BORDER_Y_0 = "hover:border-y-0";
+
+            /** Tailwind class: {@code hover:border-2} */
+            public static final String BORDER_2 = "hover:border-2";
+
+            /** Tailwind class: {@code hover:border-t-2} */
+            public static final String BORDER_T_2 = "hover:border-t-2";
+
+            /** Tailwind class: {@code hover:border-x-2} */
+            public static final String BORDER_X_2 = "hover:border-x-2";
+
+            /** Tailwind class: {@code hover:border-y-2} */
+            public static final String BORDER_Y_2 = "hover:border-y-2";
+
+            /** Tailwind class: {@code hover:border-4} */
+            public static final String BORDER_4 = "hover:border-4";
+
+            /** Tailwind class: {@code hover:rounded} */
+            public static final String ROUNDED = "hover:rounded";
+
+            /** Tailwind class: {@code hover:rounded-2xl} */
+            public static final String ROUNDED_2XL = "hover:rounded-2xl";
+
+            /** Tailwind class: {@code hover:rounded-3xl} */
+            public static final String ROUNDED_3XL = "hover:rounded-3xl";
+
+            /** Tailwind class: {@code hover:border-8} */
+            public static final String BORDER_8 = "hover:border-8";
+
+            /** Tailwind class: {@code hover:border-blue-50} */
+            public static final String BLUE_50 = "hover:border-blue-50";
+
+            /** Tailwind class: {@code hover:border-gray-50} */
+            public static final String GRAY_50 = "hover:border-gray-50";
+
+            /** Tailwind class: {@code hover:border-red-50} */
+            public static final String RED_50 = "hover:border-red-50";
+
+            /** Tailwind class: {@code hover:border-slate-50} */
+            public static final String SLATE_50 = "hover:border-slate-50";
+
+            /** Tailwind class: {@code hover:border-gray-100} */
+            public static final String GRAY_100 = "hover:border-gray-100";
+
+            /** Tailwind class: {@code hover:border-blue-500} */
+            public static final String BLUE_500 = "hover:border-blue-500";
+
+            /** Tailwind class: {@code hover:border-red-500} */
+            public static final String RED_500 = "hover:border-red-500";
+
+            /** Tailwind class: {@code hover:border-blue-950} */
+            public static final String BLUE_950 = "hover:border-blue-950";
+
+            /** Tailwind class: {@code hover:border-current} */
+            public static final String CURRENT = "hover:border-current";
+
+            /** Tailwind class: {@code hover:border-dashed} */
+            public static final String DASHED = "hover:border-dashed";
+
+            /** Tailwind class: {@code hover:border-dotted} */
+            public static final String DOTTED = "hover:border-dotted";
+
+            /** Tailwind class: {@code hover:border-double} */
+            public static final String DOUBLE = "hover:border-double";
+
+            /** Tailwind class: {@code hover:border-gray-500} */
+            public static final String GRAY_500 = "hover:border-gray-500";
+
+            /** Tailwind class: {@code hover:border-gray-950} */
+            public static final String GRAY_950 = "hover:border-gray-950";
+
+            /** Tailwind class: {@code hover:border-hidden} */
+            public static final String HIDDEN = "hover:border-hidden";
+
+            /** Tailwind class: {@code hover:border-inherit} */
+            public static final String INHERIT = "hover:border-inherit";
+
+            /** Tailwind class: {@code hover:border-none} */
+            public static final String NONE = "hover:border-none";
+
+            /** Tailwind class: {@code hover:border-red-950} */
+            public static final String RED_950 = "hover:border-red-950";
+
+            /** Tailwind class: {@code hover:rounded-b-none} */
+            public static final String ROUNDED_B_NONE = "hover:rounded-b-none";
+
+            /** Tailwind class: {@code hover:rounded-bl-none} */
+            public static final String ROUNDED_BL_NONE = "hover:rounded-bl-none";
+
+            /** Tailwind class: {@code hover:rounded-br-none} */
+            public static final String ROUNDED_BR_NONE = "hover:rounded-br-none";
+
+            /** Tailwind class: {@code hover:rounded-ee-none} */
+            public static final String ROUNDED_EE_NONE = "hover:rounded-ee-none";
+
+            /** Tailwind class: {@code hover:rounded-es-none} */
+            public static final String ROUNDED_ES_NONE = "hover:rounded-es-none";
+
+            /** Tailwind class: {@code hover:rounded-full} */
+            public static final String ROUNDED_FULL = "hover:rounded-full";
+
+            /** Tailwind class: {@code hover:rounded-l-none} */
+            public static final String ROUNDED_L_NONE = "hover:rounded-l-none";
+
+            /** Tailwind class: {@code hover:rounded-lg} */
+            public static final String ROUNDED_LG = "hover:rounded-lg";
+
+            /** Tailwind class: {@code hover:rounded-md} */
+            public static final String ROUNDED_MD = "hover:rounded-md";
+
+            /** Tailwind class: {@code hover:rounded-none} */
+            public static final String ROUNDED_NONE = "hover:rounded-none";
+
+            /** Tailwind class: {@code hover:rounded-r-none} */
+            public static final String ROUNDED_R_NONE = "hover:rounded-r-none";
+
+            /** Tailwind class: {@code hover:rounded-se-none} */
+            public static final String ROUNDED_SE_NONE = "hover:rounded-se-none";
+
+            /** Tailwind class: {@code hover:rounded-sm} */
+            public static final String ROUNDED_SM = "hover:rounded-sm";
+
+            /** Tailwind class: {@code hover:rounded-ss-none} */
+            public static final String ROUNDED_SS_NONE = "hover:rounded-ss-none";
+
+            /** Tailwind class: {@code hover:rounded-t} */
+            public static final String ROUNDED_T = "hover:rounded-t";
+
+            /** Tailwind class: {@code hover:rounded-t-none} */
+            public static final String ROUNDED_T_NONE = "hover:rounded-t-none";
+
+            /** Tailwind class: {@code hover:rounded-t-sm} */
+            public static final String ROUNDED_T_SM = "hover:rounded-t-sm";
+
+            /** Tailwind class: {@code hover:rounded-tl-none} */
+            public static final String ROUNDED_TL_NONE = "hover:rounded-tl-none";
+
+            /** Tailwind class: {@code hover:rounded-tr-none} */
+            public static final String ROUNDED_TR_NONE = "hover:rounded-tr-none";
+
+            /** Tailwind class: {@code hover:rounded-xl} */
+            public static final String ROUNDED_XL = "hover:rounded-xl";
+
+            /** Tailwind class: {@code hover:border-slate-500} */
+            public static final String SLATE_500 = "hover:border-slate-500";
+
+            /** Tailwind class: {@code hover:border-slate-950} */
+            public static final String SLATE_950 = "hover:border-slate-950";
+
+            /** Tailwind class: {@code hover:border-solid} */
+            public static final String SOLID = "hover:border-solid";
+
+            /** Tailwind class: {@code hover:border-transparent} */
+            public static final String TRANSPARENT = "hover:border-transparent";
+
+            /** Tailwind class: {@code hover:border-white} */
+            public static final String WHITE = "hover:border-white";
+
+            private Border() {}
+        }
+
+        private Hover() {}
+    }
+
+    /**
+     * Focus state - constants prefixed with {@code focus:}
+     * <p>
+     * Same values as {@link State#focus(String)}, but compile-time constants,
+     * so they can be used in annotations and switch labels.
+     */
+    public static final class Focus {
+
+        /**
+         * Border utilities
+         */
+        public static final class Border {
+
+            /** Tailwind class: {@code focus:border-black} */
+            public static final String BLACK = "focus:border-black";
+
+            /** Tailwind class: {@code focus:border} */
+            public static final String BORDER = "focus:border";
+
+            /** Tailwind class: {@code focus:border-0} */
+            public static final String BORDER_0 = "focus:border-0";
+
+            /** Tailwind class: {@code focus:border-b-0} */
+            public static final String BORDER_B_0 = "focus:border-b-0";
+
+            /** Tailwind class: {@code focus:border-e-0} */
+            public static final String BORDER_E_0 = "focus:border-e-0";
+
+            /** Tailwind class: {@code focus:border-l-0} */
+            public static final String BORDER_L_0 = "focus:border-l-0";
+
+            /** Tailwind class: {@code focus:border-r-0} */
+            public static final String BORDER_R_0 = "focus:border-r-0";
+
+            /** Tailwind class: {@code focus:border-s-0} */
+            public static final String BORDER_S_0 = "focus:border-s-0";
+
+            /** Tailwind class: {@code focus:border-t-0} */
+            public static final String BORDER_T_0 = "focus:border-t-0";
+
+            /** Tailwind class: {@code focus:border-x-0} */
+            public static final String BORDER_X_0 = "focus:border-x-0";
+
+            /** Tailwind class: {@code focus:border-y-0} */
+            public static final String BORDER_Y_0 = "focus:border-y-0";
+
+            /** Tailwind class: {@code focus:border-2} */
+            public static final String BORDER_2 = "focus:border-2";
+
+            /** Tailwind class: {@code focus:border-t-2} */
+            public static final String BORDER_T_2 = "focus:border-t-2";
+
+            /** Tailwind class: {@code focus:border-x-2} */
+            public static final String BORDER_X_2 = "focus:border-x-2";
+
+            /** Tailwind class: {@code focus:border-y-2} */
+            public static final String BORDER_Y_2 = "focus:border-y-2";
+
+            /** Tailwind class: {@code focus:border-4} */
+            public static final String BORDER_4 = "focus:border-4";
+
+            /** Tailwind class: {@code focus:rounded} */
+            public static final String ROUNDED = "focus:rounded";
+
+            /** Tailwind class: {@code focus:rounded-2xl} */
+            public static final String ROUNDED_2XL = "focus:rounded-2xl";
+
+            /** Tailwind class: {@code focus:rounded-3xl} */
+            public static final String ROUNDED_3XL = "focus:rounded-3xl";
+
+            /** Tailwind class: {@code focus:border-8} */
+            public static final String BORDER_8 = "focus:border-8";
+
+            /** Tailwind class: {@code focus:border-blue-50} */
+            public static final String BLUE_50 = "focus:border-blue-50";
+
+            /** Tailwind class: {@code focus:border-gray-50} */
+            public static final String GRAY_50 = "focus:border-gray-50";
+
+            /** Tailwind class: {@code focus:border-red-50} */
+            public static final String RED_50 = "focus:border-red-50";
+
+            /** Tailwind class: {@code focus:border-slate-50} */
+            public static final String SLATE_50 = "focus:border-slate-50";
+
+            /** Tailwind class: {@code focus:border-gray-100} */
+            public static final String GRAY_100 = "focus:border-gray-100";
+
+            /** Tailwind class: {@code focus:border-blue-500} */
+            public static final String BLUE_500 = "focus:border-blue-500";
+
+            /** Tailwind class: {@code focus:border-red-500} */
+            public static final String RED_500 = "focus:border-red-500";
+
+            /** Tailwind class: {@code focus:border-blue-950} */
+            public static final String BLUE_950 = "focus:border-blue-950";
+
+            /** Tailwind class: {@code focus:border-current} */
+            public static final String CURRENT = "focus:border-current";
+
+            /** Tailwind class: {@code focus:border-dashed} */
+            public static final String DASHED = "focus:border-dashed";
+
+            /** Tailwind class: {@code focus:border-dotted} */
+            public static final String DOTTED = "focus:border-dotted";
+
+            /** Tailwind class: {@code focus:border-double} */
+            public static final String DOUBLE = "focus:border-double";
+
+            /** Tailwind class: {@code focus:border-gray-500} */
+            public static final String GRAY_500 = "focus:border-gray-500";
+
+            /** Tailwind class: {@code focus:border-gray-950} */
+            public static final String GRAY_950 = "focus:border-gray-950";
+
+            /** Tailwind class: {@code focus:border-hidden} */
+            public static final String HIDDEN = "focus:border-hidden";
+
+            /** Tailwind class: {@code focus:border-inherit} */
+            public static final String INHERIT = "focus:border-inherit";
+
+            /** Tailwind class: {@code focus:border-none} */
+            public static final String NONE = "focus:border-none";
+
+            /** Tailwind class: {@code focus:border-red-950} */
+            public static final String RED_950 = "focus:border-red-950";
+
+            /** Tailwind class: {@code focus:rounded-b-none} */
+            public static final String ROUNDED_B_NONE = "focus:rounded-b-none";
+
+            /** Tailwind class: {@code focus:rounded-bl-none} */
+            public static final String ROUNDED_BL_NONE = "focus:rounded-bl-none";
+
+            /** Tailwind class: {@code focus:rounded-br-none} */
+            public static final String ROUNDED_BR_NONE = "focus:rounded-br-none";
+
+            /** Tailwind class: {@code focus:rounded-ee-none} */
+            public static final String ROUNDED_EE_NONE = "focus:rounded-ee-none";
+
+            /** Tailwind class: {@code focus:rounded-es-none} */
+            public static final String ROUNDED_ES_NONE = "focus:rounded-es-none";
+
+            /** Tailwind class: {@code focus:rounded-full} */
+            public static final String ROUNDED_FULL = "focus:rounded-full";
+
+            /** Tailwind class: {@code focus:rounded-l-none} */
+            public static final String ROUNDED_L_NONE = "focus:rounded-l-none";
+
+            /** Tailwind class: {@code focus:rounded-lg} */
+            public static final String ROUNDED_LG = "focus:rounded-lg";
+
+            /** Tailwind class: {@code focus:rounded-md} */
+            public static final String ROUNDED_MD = "focus:rounded-md";
+
+            /** Tailwind class: {@code focus:rounded-none} */
+            public static final String ROUNDED_NONE = "focus:rounded-none";
+
+            /** Tailwind class: {@code focus:rounded-r-none} */
+            public static final String ROUNDED_R_NONE = "focus:rounded-r-none";
+
+            /** Tailwind class: {@code focus:rounded-se-none} */
+            public static final String ROUNDED_SE_NONE = "focus:rounded-se-none";
+
+            /** Tailwind class: {@code focus:rounded-sm} */
+            public static final String ROUNDED_SM = "focus:rounded-sm";
+
+            /** Tailwind class: {@code focus:rounded-ss-none} */
+            public static final String ROUNDED_SS_NONE = "focus:rounded-ss-none";
+
+            /** Tailwind class: {@code focus:rounded-t} */
+            public static final String ROUNDED_T = "focus:rounded-t";
+
+            /** Tailwind class: {@code focus:rounded-t-none} */
+            public static final String ROUNDED_T_NONE = "focus:rounded-t-none";
+
+            /** Tailwind class: {@code focus:rounded-t-sm} */
+            public static final String ROUNDED_T_SM = "focus:rounded-t-sm";
+
+            /** Tailwind class: {@code focus:rounded-tl-none} */
+            public static final String ROUNDED_TL_NONE = "focus:rounded-tl-none";
+
+            /** Tailwind class: {@code focus:rounded-tr-none} */
+            public static final String ROUNDED_TR_NONE = "focus:rounded-tr-none";
+
+            /** Tailwind class: {@code focus:rounded-xl} */
+            public static final String ROUNDED_XL = "focus:rounded-xl";
+
+            /** Tailwind class: {@code focus:border-slate-500} */
+            public static final String SLATE_500 = "focus:border-slate-500";
+
+            /** Tailwind class: {@code focus:border-slate-950} */
+            public static final String SLATE_950 = "focus:border-slate-950";
+
+            /** Tailwind class: {@code focus:border-solid} */
+            public static final String SOLID = "focus:border-solid";
+
+            /** Tailwind class: {@code focus:border-transparent} */
+            public static final String TRANSPARENT = "focus:border-transparent";
+
+            /** Tailwind class: {@code focus:border-white} */
+            public static final String WHITE = "focus:border-white";
+
+            private Border() {}
+        }
+
+        private Focus() {}
+    }
+
+    /**
+     * Dark mode - constants prefixed with {@code dark:}
+     * <p>
+     * Same values as {@link State#dark(String)}, but compile-time constants,
+     * so they can be used in annotations and switch labels.
+     */
+    public static final class Dark {
+
+        /**
+         * Background utilities
+         */
+        public static final class Background {
+
+            /** Tailwind class: {@code dark:bg-black} */
+            public static final String BLACK = "dark:bg-black";
+
+            /** Tailwind class: {@code dark:bg-blue-50} */
+            public static final String BLUE_50 = "dark:bg-blue-50";
+
+            /** Tailwind class: {@code dark:bg-gray-50} */
+            public static final String GRAY_50 = "dark:bg-gray-50";
+
+            /** Tailwind class: {@code dark:bg-green-50} */
+            public static final String GREEN_50 = "dark:bg-green-50";
+
+            /** Tailwind class: {@code dark:bg-orange-50} */
+            public static final String ORANGE_50 = "dark:bg-orange-50";
+
+            /** Tailwind class: {@code dark:bg-red-50} */
+            public static final String RED_50 = "dark:bg-red-50";
+
+            /** Tailwind class: {@code dark:bg-slate-50} */
+            public static final String SLATE_50 = "dark:bg-slate-50";
+
+            /** Tailwind class: {@code dark:bg-zinc-50} */
+            public static final String ZINC_50 = "dark:bg-zinc-50";
+
+            /** Tailwind class: {@code dark:bg-blue-100} */
+            public static final String BLUE_100 = "dark:bg-blue-100";
+
+            /** Tailwind class: {@code dark:bg-gray-100} */
+            public static final String GRAY_100 = "dark:bg-gray-100";
+
+            /** Tailwind class: {@code dark:bg-red-100} */
+            public static final String RED_100 = "dark:bg-red-100";
+
+            /** Tailwind class: {@code dark:bg-slate-100} */
+            public static final String SLATE_100 = "dark:bg-slate-100";
+
+            /** Tailwind class: {@code dark:bg-gray-200} */
+            public static final String GRAY_200 = "dark:bg-gray-200";
+
+            /** Tailwind class: {@code dark:bg-gray-300} */
+            public static final String GRAY_300 = "dark:bg-gray-300";
+
+            /** Tailwind class: {@code dark:bg-gray-400} */
+            public static final String GRAY_400 = "dark:bg-gray-400";
+
+            /** Tailwind class: {@code dark:bg-blue-500} */
+            public static final String BLUE_500 = "dark:bg-blue-500";
+
+            /** Tailwind class: {@code dark:bg-gray-500} */
+            public static final String GRAY_500 = "dark:bg-gray-500";
+
+            /** Tailwind class: {@code dark:bg-green-500} */
+            public static final String GREEN_500 = "dark:bg-green-500";
+
+            /** Tailwind class: {@code dark:bg-orange-500} */
+            public static final String ORANGE_500 = "dark:bg-orange-500";
+
+            /** Tailwind class: {@code dark:bg-red-500} */
+            public static final String RED_500 = "dark:bg-red-500";
+
+            /** Tailwind class: {@code dark:bg-slate-500} */
+            public static final String SLATE_500 = "dark:bg-slate-500";
+
+            /** Tailwind class: {@code dark:bg-blue-600} */
+            public static final String BLUE_600 = "dark:bg-blue-600";
+
+            /** Tailwind class: {@code dark:bg-gray-600} */
+            public static final String GRAY_600 = "dark:bg-gray-600";
+
+            /** Tailwind class: {@code dark:bg-blue-700} */
+            public static final String BLUE_700 = "dark:bg-blue-700";
+
+            /** Tailwind class: {@code dark:bg-gray-700} */
+            public static final String GRAY_700 = "dark:bg-gray-700";
+
+            /** Tailwind class: {@code dark:bg-gray-800} */
+            public static final String GRAY_800 = "dark:bg-gray-800";
+
+            /** Tailwind class: {@code dark:bg-gray-900} */
+            public static final String GRAY_900 = "dark:bg-gray-900";
+
+            /** Tailwind class: {@code dark:bg-blue-950} */
+            public static final String BLUE_950 = "dark:bg-blue-950";
+
+            /** Tailwind class: {@code dark:bg-current} */
+            public static final String CURRENT = "dark:bg-current";
+
+            /** Tailwind class: {@code dark:bg-gray-950} */
+            public static final String GRAY_950 = "dark:bg-gray-950";
+
+            /** Tailwind class: {@code dark:bg-green-950} */
+            public static final String GREEN_950 = "dark:bg-green-950";
+
+            /** Tailwind class: {@code dark:bg-inherit} */
+            public static final String INHERIT = "dark:bg-inherit";
+
+            /** Tailwind class: {@code dark:bg-zinc-500} */
+            public static final String ZINC_500 = "dark:bg-zinc-500";
+
+            /** Tailwind class: {@code dark:bg-orange-950} */
+            public static final String ORANGE_950 = "dark:bg-orange-950";
+
+            /** Tailwind class: {@code dark:bg-red-950} */
+            public static final String RED_950 = "dark:bg-red-950";
+
+            /** Tailwind class: {@code dark:bg-slate-950} */
+            public static final String SLATE_950 = "dark:bg-slate-950";
+
+            /** Tailwind class: {@code dark:bg-transparent} */
+            public static final String TRANSPARENT = "dark:bg-transparent";
+
+            /** Tailwind class: {@code dark:bg-white} */
+            public static final String WHITE = "dark:bg-white";
+
+            /** Tailwind class: {@code dark:bg-zinc-950} */
+            public static final String ZINC_950 = "dark:bg-zinc-950";
+
+            private Background() {}
+        }
+
+        /**
+         * Text utilities
+         */
+        public static final class Text {
+
+            /** Tailwind class: {@code dark:text-amber-50} */
+            public static final String AMBER_50 = "dark:text-amber-50";
+
+            /** Tailwind class: {@code dark:text-blue-50} */
+            public static final String BLUE_50 = "dark:text-blue-50";
+
+            /** Tailwind class: {@code dark:text-cyan-50} */
+            public static final String CYAN_50 = "dark:text-cyan-50";
+
+            /** Tailwind class: {@code dark:text-emerald-50} */
+            public static final String EMERALD_50 = "dark:text-emerald-50";
+
+            /** Tailwind class: {@code dark:text-fuchsia-50} */
+            public static final String FUCHSIA_50 = "dark:text-fuchsia-50";
+
+            /** Tailwind class: {@code dark:text-gray-50} */
+            public static final String GRAY_50 = "dark:text-gray-50";
+
+            /** Tailwind class: {@code dark:text-green-50} */
+            public static final String GREEN_50 = "dark:text-green-50";
+
+            /** Tailwind class: {@code dark:text-indigo-50} */
+            public static final String INDIGO_50 = "dark:text-indigo-50";
+
+            /** Tailwind class: {@code dark:text-orange-50} */
+            public static final String ORANGE_50 = "dark:text-orange-50";
+
+            /** Tailwind class: {@code dark:text-pink-50} */
+            public static final String PINK_50 = "dark:text-pink-50";
+
+            /** Tailwind class: {@code dark:text-purple-50} */
+            public static final String PURPLE_50 = "dark:text-purple-50";
+
+            /** Tailwind class: {@code dark:text-gray-100} */
+            public static final String GRAY_100 = "dark:text-gray-100";
+
+            /** Tailwind class: {@code dark:text-gray-200} */
+            public static final String GRAY_200 = "dark:text-gray-200";
+
+            /** Tailwind class: {@code dark:text-gray-300} */
+            public static final String GRAY_300 = "dark:text-gray-300";
+
+            /** Tailwind class: {@code dark:text-gray-400} */
+            public static final String GRAY_400 = "dark:text-gray-400";
+
+            /** Tailwind class: {@code dark:text-amber-500} */
+            public static final String AMBER_500 = "dark:text-amber-500";
+
+            /** Tailwind class: {@code dark:text-blue-500} */
+            public static final String BLUE_500 = "dark:text-blue-500";
+
+            /** Tailwind class: {@code dark:text-cyan-500} */
+            public static final String CYAN_500 = "dark:text-cyan-500";
+
+            /** Tailwind class: {@code dark:text-fuchsia-500} */
+            public static final String FUCHSIA_500 = "dark:text-fuchsia-500";
+
+            /** Tailwind class: {@code dark:text-green-500} */
+            public static final String GREEN_500 = "dark:text-green-500";
+
+            /** Tailwind class: {@code dark:text-amber-950} */
+            public static final String AMBER_950 = "dark:text-amber-950";
+
+            /** Tailwind class: {@code dark:text-black} */
+            public static final String BLACK = "dark:text-black";
+
+            /** Tailwind class: {@code dark:text-lime-50} */
+            public static final String LIME_50 = "dark:text-lime-50";
+
+            /** Tailwind class: {@code dark:text-neutral-50} */
+            public static final String NEUTRAL_50 = "dark:text-neutral-50";
+
+            /** Tailwind class: {@code dark:text-blue-100} */
+            public static final String BLUE_100 = "dark:text-blue-100";
+
+            /** Tailwind class: {@code dark:text-emerald-500} */
+            public static final String EMERALD_500 = "dark:text-emerald-500";
+
+            /** Tailwind class: {@code dark:text-gray-600} */
+            public static final String GRAY_600 = "dark:text-gray-600";
+
+            /** Tailwind class: {@code dark:text-gray-700} */
+            public static final String GRAY_700 = "dark:text-gray-700";
+
+            /** Tailwind class: {@code dark:text-gray-800} */
+            public static final String GRAY_800 = "dark:text-gray-800";
+
+            /** Tailwind class: {@code dark:text-blue-950} */
+            public static final String BLUE_950 = "dark:text-blue-950";
+
+            /** Tailwind class: {@code dark:text-current} */
+            public static final String CURRENT = "dark:text-current";
+
+            /** Tailwind class: {@code dark:text-gray-500} */
+            public static final String GRAY_500 = "dark:text-gray-500";
+
+            /** Tailwind class: {@code dark:text-indigo-500} */
+            public static final String INDIGO_500 = "dark:text-indigo-500";
+
+            /** Tailwind class: {@code dark:text-lime-500} */
+            public static final String LIME_500 = "dark:text-lime-500";
+
+            /** Tailwind class: {@code dark:text-neutral-500} */
+            public static final String NEUTRAL_500 = "dark:text-neutral-500";
+
+            /** Tailwind class: {@code dark:text-orange-500} */
+            public static final String ORANGE_500 = "dark:text-orange-500";
+
+            /** Tailwind class: {@code dark:text-pink-500} */
+            public static final String PINK_500 = "dark:text-pink-500";
+
+            /** Tailwind class: {@code dark:text-gray-900} */
+            public static final String GRAY_900 = "dark:text-gray-900";
+
+            /** Tailwind class: {@code dark:text-cyan-950} */
+            public static final String CYAN_950 = "dark:text-cyan-950";
+
+            /** Tailwind class: {@code dark:text-emerald-950} */
+            public static final String EMERALD_950 = "dark:text-emerald-950";
+
+            /** Tailwind class: {@code dark:text-fuchsia-950} */
+            public static final String FUCHSIA_950 = "dark:text-fuchsia-950";
+
+            /** Tailwind class: {@code dark:text-gray-950} */
+            public static final String GRAY_950 = "dark:text-gray-950";
+
+            /** Tailwind class: {@code dark:text-green-950} */
+            public static final String GREEN_950 = "dark:text-green-950";
+
+            /** Tailwind class: {@code dark:text-indigo-950} */
+            public static final String INDIGO_950 = "dark:text-indigo-950";
+
+            /** Tailwind class: {@code dark:text-inherit} */
+            public static final String INHERIT = "dark:text-inherit";
+
+            /** Tailwind class: {@code dark:text-red-50} */
+            public static final String RED_50 = "dark:text-red-50";
+
+            /** Tailwind class: {@code dark:text-rose-50} */
+            public static final String ROSE_50 = "dark:text-rose-50";
+
+            /** Tailwind class: {@code dark:text-sky-50} */
+            public static final String SKY_50 = "dark:text-sky-50";
+
+            /** Tailwind class: {@code dark:text-slate-50} */
+            public static final String SLATE_50 = "dark:text-slate-50";
+
+            /** Tailwind class: {@code dark:text-stone-50} */
+            public static final String STONE_50 = "dark:text-stone-50";
+
+            /** Tailwind class: {@code dark:text-teal-50} */
+            public static final String TEAL_50 = "dark:text-teal-50";
+
+            /** Tailwind class: {@code dark:text-violet-50} */
+            public static final String VIOLET_50 = "dark:text-violet-50";
+
+            /** Tailwind class: {@code dark:text-yellow-50} */
+            public static final String YELLOW_50 = "dark:text-yellow-50";
+
+            /** Tailwind class: {@code dark:text-zinc-50} */
+            public static final String ZINC_50 = "dark:text-zinc-50";
+
+            /** Tailwind class: {@code dark:text-red-100} */
+            public static final String RED_100 = "dark:text-red-100";
+
+            /** Tailwind class: {@code dark:text-slate-100} */
+            public static final String SLATE_100 = "dark:text-slate-100";
+
+            /** Tailwind class: {@code dark:text-zinc-100} */
+            public static final String ZINC_100 = "dark:text-zinc-100";
+
+            /** Tailwind class: {@code dark:text-red-200} */
+            public static final String RED_200 = "dark:text-red-200";
+
+            /** Tailwind class: {@code dark:text-slate-200} */
+            public static final String SLATE_200 = "dark:text-slate-200";
+
+            /** Tailwind class: {@code dark:text-red-300} */
+            public static final String RED_300 = "dark:text-red-300";
+
+            /** Tailwind class: {@code dark:text-slate-300} */
+            public static final String SLATE_300 = "dark:text-slate-300";
+
+            /** Tailwind class: {@code dark:text-red-400} */
+            public static final String RED_400 = "dark:text-red-400";
+
+            /** Tailwind class: {@code dark:text-slate-400} */
+            public static final String SLATE_400 = "dark:text-slate-400";
+
+            /** Tailwind class: {@code dark:text-purple-500} */
+            public static final String PURPLE_500 = "dark:text-purple-500";
+
+            /** Tailwind class: {@code dark:text-red-500} */
+            public static final String RED_500 = "dark:text-red-500";
+
+            /** Tailwind class: {@code dark:text-rose-500} */
+            public static final String ROSE_500 = "dark:text-rose-500";
+
+            /** Tailwind class: {@code dark:text-sky-500} */
+            public static final String SKY_500 = "dark:text-sky-500";
+
+            /** Tailwind class: {@code dark:text-slate-500} */
+            public static final String SLATE_500 = "dark:text-slate-500";
+
+            /** Tailwind class: {@code dark:text-stone-500} */
+            public static final String STONE_500 = "dark:text-stone-500";
+
+            /** Tailwind class: {@code dark:text-teal-500} */
+            public static final String TEAL_500 = "dark:text-teal-500";
+
+            /** Tailwind class: {@code dark:text-violet-500} */
+            public static final String VIOLET_500 = "dark:text-violet-500";
+
+            /** Tailwind class: {@code dark:text-yellow-500} */
+            public static final String YELLOW_500 = "dark:text-yellow-500";
+
+            /** Tailwind class: {@code dark:text-zinc-500} */
+            public static final String ZINC_500 = "dark:text-zinc-500";
+
+            /** Tailwind class: {@code dark:text-red-600} */
+            public static final String RED_600 = "dark:text-red-600";
+
+            /** Tailwind class: {@code dark:text-slate-600} */
+            public static final String SLATE_600 = "dark:text-slate-600";
+
+            /** Tailwind class: {@code dark:text-red-700} */
+            public static final String RED_700 = "dark:text-red-700";
+
+            /** Tailwind class: {@code dark:text-slate-700} */
+            public static final String SLATE_700 = "dark:text-slate-700";
+
+            /** Tailwind class: {@code dark:text-red-800} */
+            public static final String RED_800 = "dark:text-red-800";
+
+            /** Tailwind class: {@code dark:text-slate-800} */
+            public static final String SLATE_800 = "dark:text-slate-800";
+
+            /** Tailwind class: {@code dark:text-red-900} */
+            public static final String RED_900 = "dark:text-red-900";
+
+            /** Tailwind class: {@code dark:text-slate-900} */
+            public static final String SLATE_900 = "dark:text-slate-900";
+
+            /** Tailwind class: {@code dark:text-lime-950} */
+            public static final String LIME_950 = "dark:text-lime-950";
+
+            /** Tailwind class: {@code dark:text-neutral-950} */
+            public static final String NEUTRAL_950 = "dark:text-neutral-950";
+
+            /** Tailwind class: {@code dark:text-orange-950} */
+            public static final String ORANGE_950 = "dark:text-orange-950";
+
+            /** Tailwind class: {@code dark:text-pink-950} */
+            public static final String PINK_950 = "dark:text-pink-950";
+
+            /** Tailwind class: {@code dark:text-purple-950} */
+            public static final String PURPLE_950 = "dark:text-purple-950";
+
+            /** Tailwind class: {@code dark:text-red-950} */
+            public static final String RED_950 = "dark:text-red-950";
+
+            /** Tailwind class: {@code dark:text-rose-950} */
+            public static final String ROSE_950 = "dark:text-rose-950";
+
+            /** Tailwind class: {@code dark:text-sky-950} */
+            public static final String SKY_950 = "dark:text-sky-950";
+
+            /** Tailwind class: {@code dark:text-slate-950} */
+            public static final String SLATE_950 = "dark:text-slate-950";
+
+            /** Tailwind class: {@code dark:text-stone-950} */
+            public static final String STONE_950 = "dark:text-stone-950";
+
+            /** Tailwind class: {@code dark:text-teal-950} */
+            public static final String TEAL_950 = "dark:text-teal-950";
+
+            /** Tailwind class: {@code dark:text-transparent} */
+            public static final String TRANSPARENT = "dark:text-transparent";
+
+            /** Tailwind class: {@code dark:text-violet-950} */
+            public static final String VIOLET_950 = "dark:text-violet-950";
+
+            /** Tailwind class: {@code dark:text-white} */
+            public static final String WHITE = "dark:text-white";
+
+            /** Tailwind class: {@code dark:text-yellow-950} */
+            public static final String YELLOW_950 = "dark:text-yellow-950";
+
+            /** Tailwind class: {@code dark:text-zinc-950} */
+            public static final String ZINC_950 = "dark:text-zinc-950";
+
+            private Text() {}
+        }
+
+        /**
+         * Border utilities
+         */
+        public static final class Border {
+
+            /** Tailwind class: {@code dark:border-black} */
+            public static final String BLACK = "dark:border-black";
+
+            /** Tailwind class: {@code dark:border} */
+            public static final String BORDER = "dark:border";
+
+            /** Tailwind class: {@code dark:border-0} */
+            public static final String BORDER_0 = "dark:border-0";
+
+            /** Tailwind class: {@code dark:border-b-0} */
+            public static final String BORDER_B_0 = "dark:border-b-0";
+
+            /** Tailwind class: {@code dark:border-e-0} */
+            public static final String BORDER_E_0 = "dark:border-e-0";
+
+            /** Tailwind class: {@code dark:border-l-0} */
+            public static final String BORDER_L_0 = "dark:border-l-0";
+
+            /** Tailwind class: {@code dark:border-r-0} */
+            public static final String BORDER_R_0 = "dark:border-r-0";
+
+            /** Tailwind class: {@code dark:border-s-0} */
+            public static final String BORDER_S_0 = "dark:border-s-0";
+
+            /** Tailwind class: {@code dark:border-t-0} */
+            public static final String BORDER_T_0 = "dark:border-t-0";
+
+            /** Tailwind class: {@code dark:border-x-0} */
+            public static final String BORDER_X_0 = "dark:border-x-0";
+
+            /** Tailwind class: {@code dark:border-y-0} */
+            public static final String BORDER_Y_0 = "dark:border-y-0";
+
+            /** Tailwind class: {@code dark:border-2} */
+            public static final String BORDER_2 = "dark:border-2";
+
+            /** Tailwind class: {@code dark:border-t-2} */
+            public static final String BORDER_T_2 = "dark:border-t-2";
+
+            /** Tailwind class: {@code dark:border-x-2} */
+            public static final String BORDER_X_2 = "dark:border-x-2";
+
+            /** Tailwind class: {@code dark:border-y-2} */
+            public static final String BORDER_Y_2 = "dark:border-y-2";
+
+            /** Tailwind class: {@code dark:border-4} */
+            public static final String BORDER_4 = "dark:border-4";
+
+            /** Tailwind class: {@code dark:rounded} */
+            public static final String ROUNDED = "dark:rounded";
+
+            /** Tailwind class: {@code dark:rounded-2xl} */
+            public static final String ROUNDED_2XL = "dark:rounded-2xl";
+
+            /** Tailwind class: {@code dark:rounded-3xl} */
+            public static final String ROUNDED_3XL = "dark:rounded-3xl";
+
+            /** Tailwind class: {@code dark:border-8} */
+            public static final String BORDER_8 = "dark:border-8";
+
+            /** Tailwind class: {@code dark:border-blue-50} */
+            public static final String BLUE_50 = "dark:border-blue-50";
+
+            /** Tailwind class: {@code dark:border-gray-50} */
+            public static final String GRAY_50 = "dark:border-gray-50";
+
+            /** Tailwind class: {@code dark:border-red-50} */
+            public static final String RED_50 = "dark:border-red-50";
+
+            /** Tailwind class: {@code dark:border-slate-50} */
+            public static final String SLATE_50 = "dark:border-slate-50";
+
+            /** Tailwind class: {@code dark:border-gray-100} */
+            public static final String GRAY_100 = "dark:border-gray-100";
+
+            /** Tailwind class: {@code dark:border-blue-500} */
+            public static final String BLUE_500 = "dark:border-blue-500";
+
+            /** Tailwind class: {@code dark:border-red-500} */
+            public static final String RED_500 = "dark:border-red-500";
+
+            /** Tailwind class: {@code dark:border-blue-950} */
+            public static final String BLUE_950 = "dark:border-blue-950";
+
+            /** Tailwind class: {@code dark:border-current} */
+            public static final String CURRENT = "dark:border-current";
+
+            /** Tailwind class: {@code dark:border-dashed} */
+            public static final String DASHED = "dark:border-dashed";
+
+            /** Tailwind class: {@code dark:border-dotted} */
+            public static final String DOTTED = "dark:border-dotted";
+
+            /** Tailwind class: {@code dark:border-double} */
+            public static final String DOUBLE = "dark:border-double";
+
+            /** Tailwind class: {@code dark:border-gray-500} */
+            public static final String GRAY_500 = "dark:border-gray-500";
+
+            /** Tailwind class: {@code dark:border-gray-950} */
+            public static final String GRAY_950 = "dark:border-gray-950";
+
+            /** Tailwind class: {@code dark:border-hidden} */
+            public static final String HIDDEN = "dark:border-hidden";
+
+            /** Tailwind class: {@code dark:border-inherit} */
+            public static final String INHERIT = "dark:border-inherit";
+
+            /** Tailwind class: {@code dark:border-none} */
+            public static final String NONE = "dark:border-none";
+
+            /** Tailwind class: {@code dark:border-red-950} */
+            public static final String RED_950 = "dark:border-red-950";
+
+            /** Tailwind class: {@code dark:rounded-b-none} */
+            public static final String ROUNDED_B_NONE = "dark:rounded-b-none";
+
+            /** Tailwind class: {@code dark:rounded-bl-none} */
+            public static final String ROUNDED_BL_NONE = "dark:rounded-bl-none";
+
+            /** Tailwind class: {@code dark:rounded-br-none} */
+            public static final String ROUNDED_BR_NONE = "dark:rounded-br-none";
+
+            /** Tailwind class: {@code dark:rounded-ee-none} */
+            public static final String ROUNDED_EE_NONE = "dark:rounded-ee-none";
+
+            /** Tailwind class: {@code dark:rounded-es-none} */
+            public static final String ROUNDED_ES_NONE = "dark:rounded-es-none";
+
+            /** Tailwind class: {@code dark:rounded-full} */
+            public static final String ROUNDED_FULL = "dark:rounded-full";
+
+            /** Tailwind class: {@code dark:rounded-l-none} */
+            public static final String ROUNDED_L_NONE = "dark:rounded-l-none";
+
+            /** Tailwind class: {@code dark:rounded-lg} */
+            public static final String ROUNDED_LG = "dark:rounded-lg";
+
+            /** Tailwind class: {@code dark:rounded-md} */
+            public static final String ROUNDED_MD = "dark:rounded-md";
+
+            /** Tailwind class: {@code dark:rounded-none} */
+            public static final String ROUNDED_NONE = "dark:rounded-none";
+
+            /** Tailwind class: {@code dark:rounded-r-none} */
+            public static final String ROUNDED_R_NONE = "dark:rounded-r-none";
+
+            /** Tailwind class: {@code dark:rounded-se-none} */
+            public static final String ROUNDED_SE_NONE = "dark:rounded-se-none";
+
+            /** Tailwind class: {@code dark:rounded-sm} */
+            public static final String ROUNDED_SM = "dark:rounded-sm";
+
+            /** Tailwind class: {@code dark:rounded-ss-none} */
+            public static final String ROUNDED_SS_NONE = "dark:rounded-ss-none";
+
+            /** Tailwind class: {@code dark:rounded-t} */
+            public static final String ROUNDED_T = "dark:rounded-t";
+
+            /** Tailwind class: {@code dark:rounded-t-none} */
+            public static final String ROUNDED_T_NONE = "dark:rounded-t-none";
+
+            /** Tailwind class: {@code dark:rounded-t-sm} */
+            public static final String ROUNDED_T_SM = "dark:rounded-t-sm";
+
+            /** Tailwind class: {@code dark:rounded-tl-none} */
+            public static final String ROUNDED_TL_NONE = "dark:rounded-tl-none";
+
+            /** Tailwind class: {@code dark:rounded-tr-none} */
+            public static final String ROUNDED_TR_NONE = "dark:rounded-tr-none";
+
+            /** Tailwind class: {@code dark:rounded-xl} */
+            public static final String ROUNDED_XL = "dark:rounded-xl";
+
+            /** Tailwind class: {@code dark:border-slate-500} */
+            public static final String SLATE_500 = "dark:border-slate-500";
+
+            /** Tailwind class: {@code dark:border-slate-950} */
+            public static final String SLATE_950 = "dark:border-slate-950";
+
+            /** Tailwind class: {@code dark:border-solid} */
+            public static final String SOLID = "dark:border-solid";
+
+            /** Tailwind class: {@code dark:border-transparent} */
+            public static final String TRANSPARENT = "dark:border-transparent";
+
+            /** Tailwind class: {@code dark:border-white} */
+            public static final String WHITE = "dark:border-white";
+
+            private Border() {}
+        }
+
+        private Dark() {}
+    }
+
+    // ========== RECIPES ==========
+
+    /**
+     * Utility bundles declared under {@code recipes} in the generator config, validated and
+     * conflict-resolved at generation time.
+     * <p>
+     * <pre>{@code
+     * card.setClassName(TW.Recipe.CARD);
+     * // or, keeping the classes already set
+     * card.getClassNames().addAll(TW.Recipe.CARD_CLASSES);
+     * }</pre>
+     */
+    public static final class Recipe {
+
+        /** Recipe {@code card}: {@code flex flex-col gap-4 p-6 max-w-sm md:max-w-md bg-white rounded-lg shadow-lg} */
+        public static final String CARD = "flex flex-col gap-4 p-6 max-w-sm md:max-w-md bg-white rounded-lg shadow-lg";
+
+        /** Classes of {@link #CARD}, in order. Immutable. */
+        public static final List<String> CARD_CLASSES = List.of("flex", "flex-col", "gap-4", "p-6", "max-w-sm", "md:max-w-md", "bg-white", "rounded-lg", "shadow-lg");
+
+        /** Recipe {@code button}: {@code inline-flex items-center justify-center gap-2 px-4 py-2 rounded-md bg-blue-600 text-white text-sm font-medium transition-colors cursor-pointer hover:bg-blue-700 focus:ring-2 disabled:opacity-50} */
+        public static final String BUTTON = "inline-flex items-center justify-center gap-2 px-4 py-2 rounded-md bg-blue-600 text-white text-sm font-medium transition-colors cursor-pointer hover:bg-blue-700 focus:ring-2 disabled:opacity-50";
+
+        /** Classes of {@link #BUTTON}, in order. Immutable. */
+        public static final List<String> BUTTON_CLASSES = List.of("inline-flex", "items-center", "justify-center", "gap-2", "px-4", "py-2", "rounded-md", "bg-blue-600", "text-white", "text-sm", "font-medium", "transition-colors", "cursor-pointer", "hover:bg-blue-700", "focus:ring-2", "disabled:opacity-50");
+
+        /** Recipe {@code badge}: {@code inline-flex items-center px-2 py-1 rounded-full bg-gray-100 text-gray-800 text-xs font-medium} */
+        public static final String BADGE = "inline-flex items-center px-2 py-1 rounded-full bg-gray-100 text-gray-800 text-xs font-medium";
+
+        /** Classes of {@link #BADGE}, in order. Immutable. */
+        public static final List<String> BADGE_CLASSES = List.of("inline-flex", "items-center", "px-2", "py-1", "rounded-full", "bg-gray-100", "text-gray-800", "text-xs", "font-medium");
+
+        private Recipe() {}
+    }
+
+    // ========== RESPONSIVE MODIFIERS ==========
+
+    /**
+     * Responsive modifier utilities for different breakpoints.
+     * <p>
+     * <pre>{@code
+     * // Apply flex on medium screens and up
+     * div.addClassName(TW.Responsive.md(TW.FLEX));
+     * // Result: "md:flex"
+     * }</pre>
+     * <p>
+     * Results for known utilities are cached, so repeated calls return the same instance.
+     */
+    public static final class Responsive {
+
+        /** Sm breakpoint (640px) - prefix: {@code sm:} */
+        public static String sm(String utility) {
+            return TwVariants.apply(TwVariants.SM, utility);
+        }
+
+        /** Md breakpoint (768px) - prefix: {@code md:} */
+        public static String md(String utility) {
+            return TwVariants.apply(TwVariants.MD, utility);
+        }
+
+        /** Lg breakpoint (1024px) - prefix: {@code lg:} */
+        public static String lg(String utility) {
+            return TwVariants.apply(TwVariants.LG, utility);
+        }
+
+        /** Xl breakpoint (1280px) - prefix: {@code xl:} */
+        public static String xl(String utility) {
+            return TwVariants.apply(TwVariants.XL, utility);
+        }
+
+        /** 2xl breakpoint (1536px) - prefix: {@code 2xl:} */
+        public static String xxl(String utility) {
+            return TwVariants.apply(TwVariants.XXL, utility);
+        }
+
+        private Responsive() {}
+    }
+
+    // ========== STATE VARIANTS ==========
+
+    /**
+     * State variant utilities (hover, focus, active, etc.)
+     * <p>
+     * <pre>{@code
+     * // Apply blue background on hover
+     * button.addClassName(TW.State.hover(TW.BG_BLUE_600));
+     * // Result: "hover:bg-blue-600"
+     * }</pre>
+     * <p>
+     * Results for known utilities are cached, so repeated calls return the same instance.
+     */
+    public static final class State {
+
+        /** Hover state - prefix: {@code hover:} */
+        public static String hover(String utility) {
+            return TwVariants.apply(TwVariants.HOVER, utility);
+        }
+
+        /** Focus state - prefix: {@code focus:} */
+        public static String focus(String utility) {
+            return TwVariants.apply(TwVariants.FOCUS, utility);
+        }
+
+        /** Active state - prefix: {@code active:} */
+        public static String active(String utility) {
+            return TwVariants.apply(TwVariants.ACTIVE, utility);
+        }
+
+        /** Dark mode - prefix: {@code dark:} */
+        public static String dark(String utility) {
+            return TwVariants.apply(TwVariants.DARK, utility);
+        }
+
+        /** Disabled state - prefix: {@code disabled:} */
+        public static String disabled(String utility) {
+            return TwVariants.apply(TwVariants.DISABLED, utility);
+        }
+
+        private State() {}
+    }
+
+    // ========== CLASS MERGING ==========
+
+    /**
+     * Merges class lists, dropping utilities overridden by a later utility of the same conflict group.
+     * <p>
+     * <pre>{@code
+     * // Compose defaults with per-instance overrides
+     * div.setClassName(TW.merge("p-4 bg-white", "p-6 px-2 bg-gray-100"));
+     * // Result: "p-6 px-2 bg-gray-100"
+     * }</pre>
+     *
+     * @see TwMerge
+     */
+    public static String merge(String... classLists) {
+        return TwMerge.merge(classLists);
+    }
+
+    // ========== LOOKUP ==========
+
+    /**
+     * Returns the utility with the given class name, or {@code null} if it is not a known utility.
+     * <p>
+     * <pre>{@code
+     * TwUtilityInfo info = TW.lookup("pl-4");
+     * info.category(); // "padding"
+     * }</pre>
+     * <p>
+     * Resolved with a perfect hash computed by the generator, without reflection or allocation.
+     */
+    public static TwUtilityInfo lookup(CharSequence className) {
+        return TwUtilityInfo.of(className);
     }
 
     private TW() {
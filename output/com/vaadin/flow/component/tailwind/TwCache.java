@@ -0,0 +1,148 @@
+package com.vaadin.flow.component.tailwind;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A lock-free, size-bounded cache of computed results, e.g. merged class lists.
+ * <p>
+ * Works like {@link TwInternPool}: entries live in an open-addressed table that is only
+ * updated by compare-and-set, so lookups never block, and when all slots a new entry may use are
+ * taken, a clock sweep over them evicts the first entry that was not used since the last sweep.
+ * <p>
+ * Keys are compared with {@link #hash(Object)} and {@link #matches(Object, Object)}, which
+ * subclasses override to look up keys such as arrays without wrapping them.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+class TwCache<K, V> {
+
+    /** Number of slots a key may be stored in, probed on lookup and swept on eviction */
+    private static final int PROBES = 8;
+
+    private final AtomicReferenceArray<Entry<K, V>> table;
+
+    private final int mask;
+
+    /**
+     * Creates a cache of at most {@code capacity} entries.
+     *
+     * @throws IllegalArgumentException if the capacity is not a positive power of two
+     */
+    TwCache(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two: " + capacity);
+        }
+        table = new AtomicReferenceArray<>(capacity);
+        mask = capacity - 1;
+    }
+
+    /**
+     * Returns the cached value of a key, or {@code null} if it is not cached. Does not allocate.
+     */
+    final V get(K key) {
+        int hash = spread(hash(key));
+        int start = hash & mask;
+        for (int i = 0; i < PROBES; i++) {
+            Entry<K, V> entry = table.get((start + i) & mask);
+            if (entry == null) {
+                // Slots are never cleared, so the key is not stored further on
+                break;
+            }
+            if (entry.hash == hash && matches(entry.key, key)) {
+                if (!entry.referenced) {
+                    entry.referenced = true;
+                }
+                return entry.value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Caches a value, in the first free slot or else by evicting with up to two clock sweeps.
+     * The key must not change afterwards.
+     *
+     * @return the value cached for an equal key by another thread first, or else {@code value},
+     *         which is returned without being cached if it loses every race
+     */
+    final V put(K key, V value) {
+        int hash = spread(hash(key));
+        int start = hash & mask;
+        Entry<K, V> created = new Entry<>(hash, key, value);
+        for (int sweep = 0; sweep < 3; sweep++) {
+            for (int i = 0; i < PROBES; i++) {
+                int slot = (start + i) & mask;
+                Entry<K, V> entry = table.get(slot);
+                if (entry == null) {
+                    if (table.compareAndSet(slot, null, created)) {
+                        return value;
+                    }
+                    entry = table.get(slot);
+                }
+                if (entry.hash == hash && matches(entry.key, key)) {
+                    return entry.value;
+                }
+                if (sweep == 0) {
+                    continue;
+                }
+                if (entry.referenced) {
+                    // Second chance: evicted by the next sweep unless used again before
+                    entry.referenced = false;
+                } else if (table.compareAndSet(slot, entry, created)) {
+                    return value;
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Returns the hash code of a key, {@link Object#hashCode()} unless overridden.
+     */
+    int hash(K key) {
+        return key.hashCode();
+    }
+
+    /**
+     * Returns whether a cached key equals a looked up key, {@link Object#equals(Object)} unless
+     * overridden.
+     */
+    boolean matches(K cached, K key) {
+        return cached.equals(key);
+    }
+
+    /**
+     * Returns the number of cached entries. Scans the whole table.
+     */
+    final int size() {
+        int size = 0;
+        for (int i = 0; i < table.length(); i++) {
+            if (table.get(i) != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * A cached result. Immutable except for the clock reference bit.
+     */
+    private static final class Entry<K, V> {
+
+        final int hash;
+        final K key;
+        final V value;
+        volatile boolean referenced;
+
+        Entry(int hash, K key, V value) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,426 @@
+package com.vaadin.flow.component.tailwind;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A set of Tailwind CSS utilities backed by a bitset over utility IDs.
+ * <p>
+ * Every utility in {@link TwUtilities} maps to one bit, so membership tests are a
+ * single word lookup and set operations run over a fixed, small number of words without
+ * hashing any strings.
+ * <p>
+ * Only generated utilities without variants can be stored. Variant-prefixed classes such as
+ * {@code md:p-4} and arbitrary values such as {@code p-[13px]} have no bit, so they are rejected
+ * when added rather than silently left out of {@link #delta(TwClassSet)} and
+ * {@link #toClassString()}. Keep them next to the set, or merge them with
+ * {@link TW#merge(String...)}.
+ *
+ * <pre>{@code
+ * TwClassSet base = TwClassSet.of(TW.Spacing.Padding.P_4, TW.Background.WHITE);
+ * TwClassSet active = base.union(TwClassSet.of(TW.Effects.Shadow.LG));
+ * component.setClassName(active.toClassString());
+ * }</pre>
+ * <p>
+ * Instances are mutable and not thread-safe.
+ */
+public final class TwClassSet implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Number of 64-bit words needed to hold one bit per utility */
+    static final int WORDS = (TwUtilities.COUNT + 63) >>> 6;
+
+    /**
+     * Maximum number of cached class strings of {@link TwUtility} sets; strings not used
+     * recently are evicted
+     */
+    public static final int CACHE_SIZE = 4096;
+
+    private static final TwCache<Set<?>, String> CLASS_STRINGS = new TwCache<>(CACHE_SIZE);
+
+    private final long[] words;
+
+    /**
+     * Creates an empty set.
+     */
+    public TwClassSet() {
+        this.words = new long[WORDS];
+    }
+
+    private TwClassSet(long[] words) {
+        this.words = words;
+    }
+
+    /**
+     * Creates a set containing the given utilities.
+     *
+     * @throws IllegalArgumentException if a class name is not a known utility, e.g. because it has
+     *         variants
+     * @throws NullPointerException if a class name is null
+     */
+    public static TwClassSet of(String... classNames) {
+        TwClassSet set = new TwClassSet();
+        for (String className : classNames) {
+            set.add(className);
+        }
+        return set;
+    }
+
+    /**
+     * Adds a utility by class name.
+     *
+     * @return {@code true} if the set did not already contain the utility
+     * @throws IllegalArgumentException if the class name is not a known utility, e.g. because it has
+     *         variants
+     * @throws NullPointerException if the class name is null
+     */
+    public boolean add(String className) {
+        int id = TwUtilities.id(Objects.requireNonNull(className, "className"));
+        if (id < 0) {
+            int colon = className.indexOf(':');
+            int bracket = className.indexOf('[');
+            if (colon >= 0 && (bracket < 0 || colon < bracket)) {
+                throw new IllegalArgumentException("Variant-prefixed classes cannot be stored in a "
+                        + "TwClassSet, keep them separately: " + className);
+            }
+            throw new IllegalArgumentException("Unknown Tailwind utility: " + className);
+        }
+        return add(id);
+    }
+
+    /**
+     * Adds a utility by ID.
+     *
+     * @return {@code true} if the set did not already contain the utility
+     */
+    public boolean add(int id) {
+        checkId(id);
+        long mask = 1L << id;
+        long word = words[id >>> 6];
+        words[id >>> 6] = word | mask;
+        return (word & mask) == 0;
+    }
+
+    /**
+     * Removes a utility by class name. Unknown class names are ignored.
+     *
+     * @return {@code true} if the set contained the utility
+     */
+    public boolean remove(String className) {
+        int id = TwUtilities.id(className);
+        return id >= 0 && remove(id);
+    }
+
+    /**
+     * Removes a utility by ID.
+     *
+     * @return {@code true} if the set contained the utility
+     */
+    public boolean remove(int id) {
+        checkId(id);
+        long mask = 1L << id;
+        long word = words[id >>> 6];
+        words[id >>> 6] = word & ~mask;
+        return (word & mask) != 0;
+    }
+
+    /**
+     * Checks whether the set contains a utility. Unknown class names are never contained.
+     */
+    public boolean contains(String className) {
+        int id = TwUtilities.id(className);
+        return id >= 0 && contains(id);
+    }
+
+    /**
+     * Checks whether the set contains a utility ID.
+     */
+    public boolean contains(int id) {
+        if (id < 0 || id >= TwUtilities.COUNT) {
+            return false;
+        }
+        return (words[id >>> 6] & (1L << id)) != 0;
+    }
+
+    /**
+     * Returns a new set with the utilities of this set and {@code other}.
+     */
+    public TwClassSet union(TwClassSet other) {
+        long[] result = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            result[i] = words[i] | other.words[i];
+        }
+        return new TwClassSet(result);
+    }
+
+    /**
+     * Returns a new set with the utilities of this set that are not in {@code other}.
+     */
+    public TwClassSet diff(TwClassSet other) {
+        long[] result = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            result[i] = words[i] & ~other.words[i];
+        }
+        return new TwClassSet(result);
+    }
+
+    /**
+     * Returns a new set with the utilities contained in both this set and {@code other}.
+     */
+    public TwClassSet intersect(TwClassSet other) {
+        long[] result = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            result[i] = words[i] & other.words[i];
+        }
+        return new TwClassSet(result);
+    }
+
+    /**
+     * Returns the changes that turn this set into {@code target}: the utilities to add and the
+     * utilities to remove, and nothing that is in both sets. Classes with variants are never part
+     * of a set, so they are not part of the delta either.
+     * <p>
+     * The changed utilities are found with one XOR per word, then split by the set they come from.
+     *
+     * <pre>{@code
+     * TwClassSet.Delta delta = current.delta(next);
+     * component.removeClassNames(delta.toRemove());
+     * component.addClassNames(delta.toAdd());
+     * }</pre>
+     */
+    public Delta delta(TwClassSet target) {
+        long[] added = new long[WORDS];
+        long[] removed = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            long changed = words[i] ^ target.words[i];
+            added[i] = changed & target.words[i];
+            removed[i] = changed & words[i];
+        }
+        return new Delta(new TwClassSet(added), new TwClassSet(removed));
+    }
+
+    /**
+     * Adds all utilities of {@code other} to this set.
+     */
+    public void addAll(TwClassSet other) {
+        for (int i = 0; i < WORDS; i++) {
+            words[i] |= other.words[i];
+        }
+    }
+
+    /**
+     * Removes all utilities of {@code other} from this set.
+     */
+    public void removeAll(TwClassSet other) {
+        for (int i = 0; i < WORDS; i++) {
+            words[i] &= ~other.words[i];
+        }
+    }
+
+    /**
+     * Removes all utilities.
+     */
+    public void clear() {
+        Arrays.fill(words, 0L);
+    }
+
+    /**
+     * Returns the number of utilities in the set.
+     */
+    public int size() {
+        int size = 0;
+        for (long word : words) {
+            size += Long.bitCount(word);
+        }
+        return size;
+    }
+
+    /**
+     * Checks whether the set is empty.
+     */
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the smallest utility ID in the set that is greater than or equal to
+     * {@code fromId}, or {@code -1} if there is none.
+     * <pre>{@code
+     * for (int id = set.nextId(0); id >= 0; id = set.nextId(id + 1)) {
+     *     ...
+     * }
+     * }</pre>
+     */
+    public int nextId(int fromId) {
+        if (fromId >= TwUtilities.COUNT) {
+            return -1;
+        }
+        int from = Math.max(fromId, 0);
+        int index = from >>> 6;
+        long word = words[index] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                return (index << 6) + Long.numberOfTrailingZeros(word);
+            }
+            if (++index == WORDS) {
+                return -1;
+            }
+            word = words[index];
+        }
+    }
+
+    /**
+     * Returns a copy of this set.
+     */
+    public TwClassSet copy() {
+        return new TwClassSet(words.clone());
+    }
+
+    /**
+     * Returns the class names of the utilities in the set, ordered by utility ID.
+     */
+    public String[] toArray() {
+        String[] result = new String[size()];
+        int i = 0;
+        for (int id = nextId(0); id >= 0; id = nextId(id + 1)) {
+            result[i++] = TwUtilities.NAMES[id];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the utilities as a space-separated class attribute value, ordered by utility ID.
+     */
+    public String toClassString() {
+        StringBuilder builder = new StringBuilder();
+        for (int id = nextId(0); id >= 0; id = nextId(id + 1)) {
+            if (builder.length() > 0) {
+                builder.append(' ');
+            }
+            builder.append(TwUtilities.NAMES[id]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns the class string of a set of utilities, see {@link TwUtility#toClassString(Set)}.
+     * Sets are cached by content: a copy of the set is the key, so later changes to it do not
+     * affect the cache.
+     */
+    static String toClassString(Set<? extends TwUtility> utilities) {
+        String classString = CLASS_STRINGS.get(utilities);
+        if (classString == null) {
+            TwClassSet set = new TwClassSet();
+            for (TwUtility utility : utilities) {
+                set.add(utility.id());
+            }
+            Set<?> key = utilities instanceof EnumSet ? ((EnumSet<?>) utilities).clone() : Set.copyOf(utilities);
+            classString = CLASS_STRINGS.put(key, set.toClassString());
+        }
+        return classString;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof TwClassSet && Arrays.equals(words, ((TwClassSet) obj).words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        return "[" + toClassString() + "]";
+    }
+
+    private static void checkId(int id) {
+        if (id < 0 || id >= TwUtilities.COUNT) {
+            throw new IndexOutOfBoundsException("Invalid utility ID: " + id);
+        }
+    }
+
+    /**
+     * The minimal changes between two sets, see {@link TwClassSet#delta(TwClassSet)}. Immutable.
+     */
+    public static final class Delta implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final TwClassSet added;
+        private final TwClassSet removed;
+
+        Delta(TwClassSet added, TwClassSet removed) {
+            this.added = added;
+            this.removed = removed;
+        }
+
+        /**
+         * Returns a copy of the utilities to add.
+         */
+        public TwClassSet added() {
+            return added.copy();
+        }
+
+        /**
+         * Returns a copy of the utilities to remove.
+         */
+        public TwClassSet removed() {
+            return removed.copy();
+        }
+
+        /**
+         * Returns the class names to add, ordered by utility ID.
+         */
+        public String[] toAdd() {
+            return added.toArray();
+        }
+
+        /**
+         * Returns the class names to remove, ordered by utility ID.
+         */
+        public String[] toRemove() {
+            return removed.toArray();
+        }
+
+        /**
+         * Checks whether both sets were equal, so nothing needs to change.
+         */
+        public boolean isEmpty() {
+            return added.isEmpty() && removed.isEmpty();
+        }
+
+        /**
+         * Applies the changes to a set, turning the source set of the delta into its target.
+         */
+        public void applyTo(TwClassSet set) {
+            set.removeAll(removed);
+            set.addAll(added);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Delta && added.equals(((Delta) obj).added) && removed.equals(((Delta) obj).removed);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * added.hashCode() + removed.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "+" + added + " -" + removed;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,155 @@
+package com.vaadin.flow.component.tailwind;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free, size-bounded pool of composed class names, e.g. {@code "hover:bg-[#1e40af]"}.
+ * <p>
+ * Used by {@link TW.Responsive}, {@link TW.State} and the style builder for compositions that
+ * have no precomputed entry: arbitrary values, unknown classes and stacked variants. Equal
+ * compositions return the same instance while pooled.
+ * <p>
+ * Entries live in an open-addressed table that is only updated by compare-and-set, so readers
+ * never block and writers never wait for each other. When all slots a new entry may use are
+ * taken, a clock sweep over them evicts the first entry that was not used since the last sweep.
+ */
+public final class TwInternPool {
+
+    /** Maximum number of pooled strings */
+    public static final int CAPACITY = 4096;
+
+    /** Number of slots a string may be stored in, probed on lookup and swept on eviction */
+    private static final int PROBES = 8;
+
+    private static final int MASK = CAPACITY - 1;
+
+    private static final AtomicReferenceArray<Entry> TABLE = new AtomicReferenceArray<>(CAPACITY);
+
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder EVICTIONS = new LongAdder();
+
+    /**
+     * Returns the pooled instance of {@code prefix + value}, adding it if it is not pooled yet.
+     */
+    static String intern(String prefix, String value) {
+        int hash = hash(prefix, value);
+        int start = hash & MASK;
+        for (int i = 0; i < PROBES; i++) {
+            Entry entry = TABLE.get((start + i) & MASK);
+            if (entry == null) {
+                // Slots are never cleared, so the string is not stored further on
+                break;
+            }
+            if (entry.matches(hash, prefix, value)) {
+                if (!entry.referenced) {
+                    entry.referenced = true;
+                }
+                HITS.increment();
+                return entry.composed;
+            }
+        }
+
+        MISSES.increment();
+        return insert(new Entry(hash, prefix, value), start);
+    }
+
+    /**
+     * Stores an entry in the first free slot, or else evicts with up to two clock sweeps. An entry
+     * that loses every race is returned without being pooled.
+     */
+    private static String insert(Entry created, int start) {
+        for (int sweep = 0; sweep < 3; sweep++) {
+            for (int i = 0; i < PROBES; i++) {
+                int slot = (start + i) & MASK;
+                Entry entry = TABLE.get(slot);
+                if (entry == null) {
+                    if (TABLE.compareAndSet(slot, null, created)) {
+                        return created.composed;
+                    }
+                    entry = TABLE.get(slot);
+                }
+                if (entry.matches(created.hash, created.prefix, created.value)) {
+                    // Another thread pooled the same string first
+                    return entry.composed;
+                }
+                if (sweep == 0) {
+                    continue;
+                }
+                if (entry.referenced) {
+                    // Second chance: evicted by the next sweep unless used again before
+                    entry.referenced = false;
+                } else if (TABLE.compareAndSet(slot, entry, created)) {
+                    EVICTIONS.increment();
+                    return created.composed;
+                }
+            }
+        }
+        return created.composed;
+    }
+
+    private static int hash(String prefix, String value) {
+        int hash = prefix.hashCode() * 31 + value.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Returns the number of lookups served from the pool.
+     */
+    public static long hits() {
+        return HITS.sum();
+    }
+
+    /**
+     * Returns the number of lookups that composed a new string.
+     */
+    public static long misses() {
+        return MISSES.sum();
+    }
+
+    /**
+     * Returns the number of pooled strings replaced by newer ones.
+     */
+    public static long evictions() {
+        return EVICTIONS.sum();
+    }
+
+    /**
+     * Returns the number of pooled strings. Scans the whole pool.
+     */
+    public static int size() {
+        int size = 0;
+        for (int i = 0; i < CAPACITY; i++) {
+            if (TABLE.get(i) != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * A pooled composition. Immutable except for the clock reference bit.
+     */
+    private static final class Entry {
+
+        final int hash;
+        final String prefix;
+        final String value;
+        final String composed;
+        volatile boolean referenced;
+
+        Entry(int hash, String prefix, String value) {
+            this.hash = hash;
+            this.prefix = prefix;
+            this.value = value;
+            this.composed = prefix.concat(value);
+        }
+
+        boolean matches(int hash, String prefix, String value) {
+            return this.hash == hash && this.prefix.equals(prefix) && this.value.equals(value);
+        }
+    }
+
+    private TwInternPool() {}
+}
\ No newline at end of file
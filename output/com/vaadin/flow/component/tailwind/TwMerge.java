@@ -0,0 +1,1094 @@
+package com.vaadin.flow.component.tailwind;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Merges Tailwind CSS class lists, dropping utilities overridden by a later utility.
+ * <p>
+ * Every utility belongs to a conflict group of utilities setting the same CSS properties,
+ * e.g. {@code p-4} and {@code p-6}. Some groups also override others, e.g. {@code p-6}
+ * overrides an earlier {@code px-2} but not a later one. Conflicts only apply between classes
+ * with the same variants, so {@code md:p-4} and {@code p-2} are both kept. Unknown classes
+ * are kept as they are, with exact duplicates removed.
+ * <p>
+ * Arbitrary values belong to the group of their prefix, e.g. {@code p-[13px]} to the group of
+ * {@code p-4}. Prefixes shared by several groups are resolved by the type of the value, like
+ * tailwind-merge does: colors such as {@code bg-[#fff]} or {@code text-[rgb(0,0,0)]} conflict
+ * with the color utilities of the prefix, lengths such as {@code text-[14px]} or
+ * {@code border-[3px]} with its size utilities. Values of other types are kept.
+ *
+ * <pre>{@code
+ * TwMerge.merge("p-4 p-6 px-2", "bg-white bg-gray-100", "md:p-4 md:p-2");
+ * // Result: "p-6 px-2 bg-gray-100 md:p-2"
+ * }</pre>
+ * <p>
+ * The conflict tables are computed by the generator. Results are kept in a bounded, lock-free
+ * cache keyed on the arguments, so merging the same lists again is a lookup without locking or
+ * allocation.
+ */
+public final class TwMerge {
+
+    /** Maximum number of cached merge results */
+    public static final int CACHE_SIZE = 1024;
+
+    /** Conflict group names, indexed by group */
+    static final String[] GROUP_NAMES = {
+        "bottom",
+        "inset",
+        "left",
+        "m",
+        "mb",
+        "ml",
+        "mr",
+        "mt",
+        "mx",
+        "my",
+        "right",
+        "rotate",
+        "top",
+        "translate-x",
+        "translate-y",
+        "position",
+        "accent",
+        "align",
+        "animation",
+        "appearance",
+        "aspect",
+        "grid-auto-columns",
+        "grid-auto-rows",
+        "backdrop-blur",
+        "flex-basis",
+        "bg-size",
+        "background-color",
+        "bg-blend",
+        "bg-position",
+        "bg-clip",
+        "bg-attachment",
+        "bg-repeat",
+        "bg-origin",
+        "display",
+        "blur",
+        "border-w",
+        "border-w-b",
+        "border-color",
+        "border-collapse",
+        "border-style",
+        "border-w-e",
+        "border-w-l",
+        "border-w-r",
+        "border-w-s",
+        "border-spacing",
+        "border-spacing-x",
+        "border-spacing-y",
+        "border-w-t",
+        "border-w-x",
+        "border-w-y",
+        "box-sizing",
+        "box-decoration",
+        "break-after",
+        "word-break",
+        "break-before",
+        "break-inside",
+        "brightness",
+        "text-transform",
+        "caption",
+        "caret",
+        "clear",
+        "col",
+        "col-end",
+        "col-start",
+        "visibility",
+        "columns",
+        "container",
+        "align-content",
+        "contrast",
+        "cursor",
+        "decoration-thickness",
+        "text-decoration-color",
+        "text-decoration-style",
+        "delay",
+        "fvn-fraction",
+        "divide-color",
+        "divide-style",
+        "divide-x",
+        "divide-x-reverse",
+        "divide-y",
+        "divide-y-reverse",
+        "drop-shadow",
+        "duration",
+        "ease",
+        "fill",
+        "flex",
+        "flex-direction",
+        "grow",
+        "flex-wrap",
+        "shrink",
+        "float",
+        "font-weight",
+        "font-family",
+        "forced-color-adjust",
+        "gap",
+        "gap-x",
+        "gap-y",
+        "grayscale",
+        "grid-template-columns",
+        "grid-flow",
+        "grid-template-rows",
+        "height",
+        "hue-rotate",
+        "hyphens",
+        "indent",
+        "inset-x",
+        "inset-y",
+        "invert",
+        "isolation",
+        "font-style",
+        "align-items",
+        "justify-content",
+        "justify-items",
+        "justify-self",
+        "leading",
+        "text-decoration",
+        "fvn-figure",
+        "list-type",
+        "list-position",
+        "max-height",
+        "max-width",
+        "min-height",
+        "min-width",
+        "mix-blend",
+        "fvn-normal",
+        "sr",
+        "object-position",
+        "object-fit",
+        "opacity",
+        "order",
+        "fvn-ordinal",
+        "origin",
+        "outline-w",
+        "outline-color",
+        "outline-style",
+        "outline-offset",
+        "overflow",
+        "overflow-x",
+        "overflow-y",
+        "overscroll",
+        "overscroll-x",
+        "overscroll-y",
+        "p",
+        "pb",
+        "pe",
+        "pl",
+        "place-content",
+        "place-items",
+        "place-self",
+        "pointer-events",
+        "pr",
+        "fvn-spacing",
+        "ps",
+        "pt",
+        "px",
+        "py",
+        "resize",
+        "ring-w",
+        "ring-color",
+        "ring-inset",
+        "ring-offset-w",
+        "ring-offset-color",
+        "rounded",
+        "rounded-b",
+        "rounded-bl",
+        "rounded-br",
+        "rounded-ee",
+        "rounded-es",
+        "rounded-l",
+        "rounded-r",
+        "rounded-se",
+        "rounded-ss",
+        "rounded-t",
+        "rounded-tl",
+        "rounded-tr",
+        "row",
+        "row-end",
+        "row-start",
+        "saturate",
+        "scale",
+        "scale-x",
+        "scale-y",
+        "scroll-behavior",
+        "scroll-m",
+        "scroll-mb",
+        "scroll-ml",
+        "scroll-mr",
+        "scroll-mt",
+        "scroll-mx",
+        "scroll-my",
+        "scroll-p",
+        "scroll-pb",
+        "scroll-pl",
+        "scroll-pr",
+        "scroll-pt",
+        "scroll-px",
+        "scroll-py",
+        "select",
+        "align-self",
+        "sepia",
+        "box-shadow",
+        "shadow-color",
+        "size",
+        "skew-x",
+        "skew-y",
+        "fvn-slashed-zero",
+        "snap-align",
+        "snap-stop",
+        "snap-type",
+        "snap-strictness",
+        "space-x",
+        "space-x-reverse",
+        "space-y",
+        "space-y-reverse",
+        "stroke-w",
+        "stroke",
+        "table-layout",
+        "font-size",
+        "text-color",
+        "text-wrap",
+        "text-align",
+        "text-overflow",
+        "touch",
+        "touch-y",
+        "touch-x",
+        "touch-pz",
+        "transform",
+        "transition",
+        "underline-offset",
+        "width",
+        "whitespace",
+        "will-change",
+        "z-index"
+    };
+
+    /** Conflict group of each utility, indexed by utility ID */
+    static final short[] GROUP_OF = {
+        0, 1, 1, 1, 2, 3, 3, 3, 3, 4, 5, 5, 6, 7, 8, 9, 10, 11, 11, 11,
+        11, 12, 13, 14, 15, 16, 16, 16, 16, 16, 16, 16, 16, 16, 17, 17, 17, 17, 17, 17,
+        17, 17, 18, 18, 18, 18, 18, 19, 19, 20, 20, 20, 21, 21, 21, 21, 22, 22, 22, 22,
+        23, 23, 23, 24, 24, 24, 24, 24, 24, 24, 25, 26, 27, 27, 27, 27, 27, 27, 26, 26,
+        26, 26, 26, 26, 28, 28, 29, 29, 29, 29, 25, 25, 26, 30, 26, 26, 26, 26, 26, 26,
+        26, 26, 26, 26, 26, 26, 26, 26, 26, 28, 28, 28, 30, 31, 26, 26, 26, 32, 32, 32,
+        26, 26, 26, 26, 31, 31, 31, 31, 31, 28, 28, 28, 30, 26, 26, 26, 26, 28, 26, 26,
+        26, 26, 26, 33, 34, 34, 34, 34, 34, 34, 34, 34, 35, 35, 35, 35, 35, 36, 37, 37,
+        37, 37, 38, 37, 39, 39, 39, 40, 37, 37, 37, 37, 39, 37, 41, 39, 42, 37, 37, 37,
+        43, 38, 37, 37, 37, 39, 44, 44, 44, 45, 46, 47, 47, 37, 37, 48, 48, 49, 49, 0,
+        50, 50, 51, 51, 52, 52, 52, 52, 52, 52, 52, 52, 53, 54, 54, 54, 54, 54, 54, 54,
+        54, 55, 55, 55, 55, 53, 53, 53, 56, 56, 56, 56, 56, 56, 56, 56, 56, 56, 56, 57,
+        58, 58, 59, 59, 59, 59, 59, 59, 59, 59, 60, 60, 60, 60, 60, 60, 61, 62, 62, 61,
+        61, 61, 61, 61, 61, 61, 61, 61, 61, 61, 61, 61, 63, 63, 63, 64, 65, 65, 65, 65,
+        65, 65, 65, 65, 65, 65, 65, 65, 65, 65, 65, 65, 65, 65, 65, 65, 65, 65, 65, 65,
+        65, 65, 66, 67, 67, 67, 67, 67, 67, 67, 67, 67, 33, 68, 68, 68, 68, 68, 68, 68,
+        69, 69, 69, 69, 69, 69, 69, 69, 69, 69, 69, 69, 69, 69, 69, 69, 69, 69, 69, 69,
+        69, 69, 69, 69, 69, 69, 69, 69, 69, 69, 69, 69, 69, 69, 69, 69, 70, 70, 70, 70,
+        70, 70, 71, 72, 72, 72, 70, 71, 71, 71, 72, 72, 73, 73, 73, 73, 73, 73, 73, 73,
+        73, 74, 75, 76, 76, 76, 75, 76, 75, 76, 77, 77, 78, 79, 79, 80, 81, 81, 81, 81,
+        81, 81, 81, 82, 82, 82, 82, 82, 82, 82, 82, 82, 83, 83, 83, 83, 84, 84, 84, 84,
+        84, 84, 84, 84, 84, 15, 33, 85, 85, 86, 86, 87, 87, 85, 85, 88, 86, 86, 89, 89,
+        88, 88, 90, 90, 90, 90, 90, 33, 91, 91, 91, 91, 91, 91, 92, 91, 92, 91, 92, 91,
+        93, 93, 94, 94, 94, 94, 94, 94, 94, 94, 94, 94, 94, 94, 94, 94, 94, 94, 94, 94,
+        94, 94, 94, 94, 94, 94, 94, 94, 94, 94, 94, 94, 94, 94, 94, 94, 94, 95, 95, 95,
+        95, 96, 96, 96, 96, 97, 97, 33, 98, 98, 98, 98, 98, 98, 98, 98, 98, 98, 98, 98,
+        98, 98, 99, 99, 99, 99, 99, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+        100, 101, 101, 101, 101, 101, 101, 101, 101, 101, 101, 101, 101, 101, 101, 101, 101, 101, 101, 101,
+        101, 101, 101, 101, 101, 101, 101, 101, 101, 101, 101, 101, 101, 101, 101, 101, 101, 33, 102, 102,
+        102, 102, 102, 102, 103, 103, 103, 104, 104, 104, 104, 104, 33, 33, 33, 33, 33, 1, 1, 1,
+        1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1,
+        1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 105, 106, 107, 107, 64, 108, 108, 109,
+        110, 110, 110, 110, 110, 111, 111, 111, 111, 111, 112, 112, 112, 112, 113, 113, 113, 113, 113, 111,
+        111, 114, 114, 114, 114, 114, 114, 114, 114, 114, 114, 114, 114, 114, 114, 2, 2, 115, 116, 117,
+        117, 118, 33, 117, 118, 57, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3,
+        3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3,
+        3, 3, 119, 119, 119, 119, 119, 119, 120, 120, 120, 120, 120, 120, 120, 120, 120, 120, 120, 120,
+        120, 120, 120, 120, 120, 120, 120, 120, 120, 120, 120, 4, 4, 4, 121, 121, 121, 121, 121, 121,
+        122, 122, 122, 122, 122, 123, 123, 123, 123, 123, 123, 123, 123, 123, 123, 123, 123, 123, 123, 123,
+        123, 123, 123, 5, 5, 5, 5, 6, 6, 6, 7, 7, 7, 7, 8, 8, 8, 8, 8, 9,
+        9, 9, 9, 115, 57, 124, 109, 125, 126, 126, 127, 127, 127, 126, 126, 126, 127, 126, 126, 126,
+        127, 126, 116, 128, 128, 128, 128, 128, 128, 128, 128, 128, 128, 128, 128, 128, 128, 128, 128, 129,
+        129, 129, 129, 129, 129, 129, 129, 129, 129, 129, 129, 129, 129, 129, 130, 131, 131, 131, 131, 131,
+        131, 131, 131, 131, 132, 132, 132, 132, 132, 132, 133, 133, 134, 134, 134, 133, 134, 135, 135, 135,
+        135, 135, 133, 133, 133, 136, 136, 136, 136, 136, 137, 137, 137, 137, 137, 138, 138, 138, 138, 138,
+        115, 139, 139, 139, 140, 140, 140, 141, 141, 141, 142, 142, 142, 142, 142, 142, 142, 142, 142, 142,
+        142, 142, 142, 142, 142, 142, 142, 142, 142, 142, 142, 142, 142, 142, 142, 142, 142, 142, 142, 142,
+        142, 142, 142, 142, 142, 143, 143, 143, 144, 144, 144, 145, 145, 145, 145, 146, 146, 146, 146, 146,
+        146, 146, 146, 147, 147, 147, 147, 147, 148, 148, 148, 148, 148, 149, 149, 150, 150, 150, 151, 152,
+        152, 152, 153, 153, 153, 153, 154, 154, 154, 154, 154, 154, 155, 155, 155, 155, 15, 156, 156, 156,
+        156, 10, 157, 157, 157, 157, 157, 157, 158, 158, 159, 160, 160, 160, 160, 160, 161, 161, 161, 158,
+        158, 11, 11, 11, 11, 11, 11, 11, 11, 11, 162, 162, 162, 163, 164, 165, 166, 167, 162, 168,
+        162, 162, 162, 169, 170, 162, 171, 172, 172, 172, 173, 174, 162, 175, 176, 175, 175, 175, 175, 177,
+        178, 178, 178, 178, 178, 179, 179, 179, 179, 179, 179, 179, 179, 179, 179, 180, 180, 180, 181, 181,
+        181, 182, 183, 183, 183, 184, 185, 186, 187, 188, 189, 190, 190, 190, 191, 192, 193, 194, 195, 196,
+        182, 197, 197, 197, 197, 198, 198, 198, 198, 198, 198, 199, 199, 200, 200, 201, 201, 200, 200, 200,
+        200, 201, 201, 200, 200, 202, 202, 202, 202, 202, 202, 202, 203, 203, 203, 203, 203, 203, 204, 204,
+        205, 206, 207, 208, 206, 206, 209, 208, 207, 209, 206, 208, 208, 210, 210, 210, 210, 211, 212, 212,
+        212, 212, 213, 125, 74, 15, 15, 214, 214, 214, 215, 215, 215, 215, 215, 215, 215, 215, 215, 33,
+        216, 33, 33, 33, 33, 216, 33, 33, 33, 33, 151, 217, 217, 217, 217, 217, 217, 217, 217, 218,
+        218, 218, 219, 217, 218, 218, 218, 218, 218, 220, 221, 218, 218, 218, 218, 221, 218, 218, 218, 220,
+        218, 218, 218, 218, 218, 218, 218, 218, 218, 218, 218, 218, 218, 218, 218, 218, 218, 218, 218, 218,
+        218, 220, 220, 217, 218, 218, 218, 218, 218, 218, 219, 218, 218, 218, 218, 218, 218, 219, 218, 218,
+        218, 218, 218, 218, 218, 218, 218, 218, 218, 218, 218, 218, 220, 218, 218, 218, 218, 218, 218, 218,
+        218, 218, 218, 218, 218, 218, 218, 218, 218, 218, 217, 220, 218, 218, 218, 218, 218, 218, 218, 218,
+        218, 218, 218, 219, 217, 217, 218, 218, 218, 218, 218, 218, 218, 12, 12, 12, 12, 12, 12, 12,
+        12, 12, 222, 222, 222, 223, 224, 224, 223, 224, 223, 225, 226, 227, 227, 227, 227, 227, 227, 227,
+        13, 13, 13, 14, 14, 14, 221, 115, 228, 228, 228, 228, 228, 228, 57, 64, 229, 229, 229, 229,
+        229, 229, 229, 229, 229, 229, 229, 229, 229, 229, 229, 229, 229, 229, 229, 229, 229, 229, 229, 229,
+        229, 229, 229, 229, 229, 229, 229, 229, 229, 229, 229, 229, 229, 229, 229, 229, 229, 230, 230, 230,
+        230, 230, 230, 231, 231, 231, 231, 232, 232, 232, 232, 232, 232, 232
+    };
+
+    /** Groups overridden by each group in addition to itself, indexed by group */
+    private static final short[][] CONFLICTS = {
+        {},
+        { 105, 106, 12, 10, 0, 2 }, // inset
+        {},
+        { 8, 9, 7, 6, 4, 5 }, // m
+        {},
+        {},
+        {},
+        {},
+        { 6, 5 }, // mx
+        { 7, 4 }, // my
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        { 48, 49, 43, 40, 47, 42, 36, 41 }, // border-w
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        { 45, 46 }, // border-spacing
+        {},
+        {},
+        {},
+        { 42, 41 }, // border-w-x
+        { 47, 36 }, // border-w-y
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        { 87, 89, 24 }, // flex
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        { 95, 96 }, // gap
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        { 10, 2 }, // inset-x
+        { 12, 0 }, // inset-y
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        { 130, 205, 116, 151, 74 }, // fvn-normal
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        { 137, 138 }, // overflow
+        {},
+        {},
+        { 140, 141 }, // overscroll
+        {},
+        {},
+        { 154, 155, 152, 144, 153, 150, 143, 145 }, // p
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        { 150, 145 }, // px
+        { 153, 143 }, // py
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        { 172, 169, 163, 168, 173, 174, 165, 164, 171, 170, 166, 167 }, // rounded
+        { 165, 164 }, // rounded-b
+        {},
+        {},
+        {},
+        {},
+        { 173, 164 }, // rounded-l
+        { 174, 165 }, // rounded-r
+        {},
+        {},
+        { 173, 174 }, // rounded-t
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        { 180, 181 }, // scale
+        {},
+        {},
+        {},
+        { 188, 189, 187, 186, 184, 185 }, // scroll-m
+        {},
+        {},
+        {},
+        {},
+        { 186, 185 }, // scroll-mx
+        { 187, 184 }, // scroll-my
+        { 195, 196, 194, 193, 191, 192 }, // scroll-p
+        {},
+        {},
+        {},
+        {},
+        { 193, 192 }, // scroll-px
+        { 194, 191 }, // scroll-py
+        {},
+        {},
+        {},
+        {},
+        {},
+        { 229, 101 }, // size
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        { 224, 223, 225 }, // touch
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {},
+        {}
+    };
+
+    /** Class name prefixes whose values all belong to one group, e.g. "p" for "p-[13px]" */
+    private static final String[] PREFIXES = {
+        "-inset",
+        "-m",
+        "-ml",
+        "-rotate",
+        "accent",
+        "align",
+        "align-text",
+        "animate",
+        "appearance",
+        "aspect",
+        "auto-cols",
+        "auto-rows",
+        "basis",
+        "bg-blend",
+        "bg-blue",
+        "bg-clip",
+        "bg-gray",
+        "bg-green",
+        "bg-left",
+        "bg-orange",
+        "bg-origin",
+        "bg-red",
+        "bg-right",
+        "bg-slate",
+        "bg-zinc",
+        "border-blue",
+        "border-gray",
+        "border-red",
+        "border-slate",
+        "border-spacing",
+        "border-t",
+        "border-x",
+        "border-y",
+        "box",
+        "box-decoration",
+        "break",
+        "break-after",
+        "break-before",
+        "break-inside",
+        "break-inside-avoid",
+        "brightness",
+        "caption",
+        "caret",
+        "clear",
+        "col-end",
+        "col-span",
+        "col-start",
+        "columns",
+        "content",
+        "contrast",
+        "cursor",
+        "cursor-zoom",
+        "delay",
+        "divide",
+        "duration",
+        "ease",
+        "fill",
+        "float",
+        "forced-color-adjust",
+        "gap",
+        "gap-x",
+        "gap-y",
+        "grid-cols",
+        "grid-flow",
+        "grid-rows",
+        "h",
+        "hue-rotate",
+        "hyphens",
+        "indent",
+        "inline",
+        "inset",
+        "items",
+        "justify",
+        "justify-items",
+        "justify-self",
+        "leading",
+        "left",
+        "m",
+        "max-h",
+        "max-w",
+        "max-w-screen",
+        "mb",
+        "min-h",
+        "min-w",
+        "mix-blend",
+        "mix-blend-color",
+        "mix-blend-plus",
+        "ml",
+        "mr",
+        "mt",
+        "mx",
+        "my",
+        "object-left",
+        "object-right",
+        "opacity",
+        "order",
+        "origin",
+        "origin-bottom",
+        "origin-top",
+        "outline-offset",
+        "overflow",
+        "overflow-x",
+        "overflow-y",
+        "overscroll",
+        "overscroll-x",
+        "overscroll-y",
+        "p",
+        "pb",
+        "pe",
+        "pl",
+        "place-content",
+        "place-items",
+        "place-self",
+        "pointer-events",
+        "pr",
+        "ps",
+        "pt",
+        "px",
+        "py",
+        "rotate",
+        "row-span",
+        "saturate",
+        "scale",
+        "scale-x",
+        "scale-y",
+        "scroll",
+        "scroll-m",
+        "scroll-p",
+        "select",
+        "self",
+        "shadow",
+        "size",
+        "skew-x",
+        "skew-y",
+        "text-amber",
+        "text-blue",
+        "text-cyan",
+        "text-emerald",
+        "text-fuchsia",
+        "text-gray",
+        "text-green",
+        "text-indigo",
+        "text-lime",
+        "text-neutral",
+        "text-orange",
+        "text-pink",
+        "text-purple",
+        "text-red",
+        "text-rose",
+        "text-sky",
+        "text-slate",
+        "text-stone",
+        "text-teal",
+        "text-violet",
+        "text-yellow",
+        "text-zinc",
+        "top",
+        "touch",
+        "translate-x",
+        "translate-y",
+        "underline-offset",
+        "w",
+        "whitespace",
+        "whitespace-pre",
+        "will-change",
+        "z"
+    };
+
+    /** Group of each entry in {@link #PREFIXES} */
+    private static final short[] PREFIX_GROUPS = {
+        1, 3, 5, 11, 16, 17, 17, 18, 19, 20, 21, 22, 24, 27, 26, 29, 26, 26, 28, 26,
+        32, 26, 28, 26, 26, 37, 37, 37, 37, 44, 47, 48, 49, 50, 51, 53, 52, 54, 55, 55,
+        56, 58, 59, 60, 62, 61, 63, 65, 67, 68, 69, 69, 73, 76, 82, 83, 84, 90, 93, 94,
+        95, 96, 98, 99, 100, 101, 102, 103, 104, 33, 1, 110, 111, 112, 113, 114, 2, 3, 119, 120,
+        120, 4, 121, 122, 123, 123, 123, 5, 6, 7, 8, 9, 126, 126, 128, 129, 131, 131, 131, 135,
+        136, 137, 138, 139, 140, 141, 142, 143, 144, 145, 146, 147, 148, 149, 150, 152, 153, 154, 155, 11,
+        175, 178, 179, 180, 181, 182, 183, 190, 197, 198, 200, 202, 203, 204, 218, 218, 218, 218, 218, 218,
+        218, 218, 218, 218, 218, 218, 218, 218, 218, 218, 218, 218, 218, 218, 218, 218, 12, 222, 13, 14,
+        228, 229, 230, 230, 231, 232
+    };
+
+    /** Class name prefixes shared by several groups, resolved by the type of the value */
+    private static final String[] TYPED_PREFIXES = {
+        "bg",
+        "blur",
+        "border",
+        "decoration",
+        "divide-x",
+        "divide-y",
+        "drop-shadow",
+        "outline",
+        "ring",
+        "ring-offset",
+        "rounded",
+        "space-x",
+        "space-y",
+        "stroke",
+        "text"
+    };
+
+    /** Group of the color values of each entry in {@link #TYPED_PREFIXES}, or -1 */
+    private static final short[] TYPED_COLOR_GROUPS = {
+        26, -1, 37, 71, -1, -1, -1, 133, 158, 161, -1, -1, -1, 215, 218
+    };
+
+    /** Group of the length values of each entry in {@link #TYPED_PREFIXES}, or -1 */
+    private static final short[] TYPED_LENGTH_GROUPS = {
+        -1, 34, 35, 70, 77, 79, 81, 132, 157, 160, 162, 210, 212, 214, 217
+    };
+
+    /** Functions of arbitrary color values */
+    private static final String[] COLOR_FUNCTIONS = {
+        "rgb(", "rgba(", "hsl(", "hsla(", "hwb(", "lab(", "lch(", "oklab(", "oklch(", "color(",
+        "color-mix(", "light-dark(", "var(--color-"
+    };
+
+    /** Functions of arbitrary length values */
+    private static final String[] LENGTH_FUNCTIONS = {"calc(", "min(", "max(", "clamp("};
+
+    /** CSS length units */
+    private static final Set<String> LENGTH_UNITS = new HashSet<>(Arrays.asList(
+        "px", "rem", "em", "%", "ch", "ex", "lh", "rlh", "cap", "ic", "vw", "vh", "vi", "vb",
+        "vmin", "vmax", "dvw", "dvh", "svw", "svh", "lvw", "lvh", "cqw", "cqh", "cqi", "cqb",
+        "cqmin", "cqmax", "pt", "pc", "in", "cm", "mm", "q"));
+
+    private static final int COLOR = 0;
+    private static final int LENGTH = 1;
+
+    private static final int GROUP_WORDS = (GROUP_NAMES.length + 63) >>> 6;
+
+    private static final Map<String, Integer> PREFIX_INDEX = new HashMap<>(PREFIXES.length * 2);
+
+    private static final Map<String, Integer> TYPED_INDEX = new HashMap<>(TYPED_PREFIXES.length * 2);
+
+    /** Merge results keyed on the argument arrays, which are copied when cached */
+    private static final TwCache<String[], String> CACHE = new TwCache<String[], String>(CACHE_SIZE) {
+        @Override
+        int hash(String[] classLists) {
+            return Arrays.hashCode(classLists);
+        }
+
+        @Override
+        boolean matches(String[] cached, String[] classLists) {
+            return Arrays.equals(cached, classLists);
+        }
+    };
+
+    static {
+        for (int i = 0; i < PREFIXES.length; i++) {
+            PREFIX_INDEX.put(PREFIXES[i], (int) PREFIX_GROUPS[i]);
+        }
+        for (int i = 0; i < TYPED_PREFIXES.length; i++) {
+            TYPED_INDEX.put(TYPED_PREFIXES[i], i);
+        }
+    }
+
+    /**
+     * Merges class lists into a single space-separated class list.
+     * <p>
+     * Each argument may contain several space-separated classes. {@code null} arguments are
+     * ignored, which allows conditional classes to be passed inline.
+     *
+     * @return the classes that are not overridden by a later class, in their original order
+     */
+    public static String merge(String... classLists) {
+        String merged = CACHE.get(classLists);
+        if (merged == null) {
+            merged = CACHE.put(classLists.clone(), mergeUncached(join(classLists)));
+        }
+        return merged;
+    }
+
+    /**
+     * Returns the conflict group of a utility without variants, or {@code -1} if it is unknown.
+     */
+    static int groupOf(String utility) {
+        int id = TwUtilities.id(utility);
+        if (id >= 0) {
+            return GROUP_OF[id];
+        }
+
+        // Opacity modifier, e.g. "bg-blue-500/50"
+        int slash = utility.lastIndexOf('/');
+        if (slash > 0 && utility.indexOf('[') < 0) {
+            id = TwUtilities.id(utility.substring(0, slash));
+            if (id >= 0) {
+                return GROUP_OF[id];
+            }
+        }
+
+        // Arbitrary or unknown value, e.g. "p-[13px]" or "bg-red-550"
+        int bracket = utility.indexOf("-[");
+        int separator = bracket > 0 ? bracket : utility.lastIndexOf('-');
+        if (separator > 0) {
+            Integer group = PREFIX_INDEX.get(utility.substring(0, separator));
+            if (group != null) {
+                return group;
+            }
+        }
+
+        // Prefix shared by several groups, e.g. "bg-[#fff]" or "text-[14px]"; unknown named
+        // values may follow any dash, e.g. "bg-teal-500"
+        for (int dash = separator; dash > 0; dash = bracket > 0 ? -1 : utility.lastIndexOf('-', dash - 1)) {
+            Integer typed = TYPED_INDEX.get(utility.substring(0, dash));
+            if (typed != null) {
+                int type = valueType(utility.substring(dash + 1));
+                return type == COLOR ? TYPED_COLOR_GROUPS[typed] : type == LENGTH ? TYPED_LENGTH_GROUPS[typed] : -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns whether a value is a {@link #COLOR} or a {@link #LENGTH}, or {@code -1} if it is
+     * neither or cannot be told, e.g. {@code [#fff]}, {@code [14px]}, {@code teal-500} or {@code 3}.
+     * Arbitrary values may be marked with a type, e.g. {@code [color:var(--brand)]}.
+     */
+    static int valueType(String value) {
+        if (value.length() > 2 && value.charAt(0) == '[' && value.charAt(value.length() - 1) == ']') {
+            String arbitrary = value.substring(1, value.length() - 1);
+            if (arbitrary.startsWith("color:") || arbitrary.startsWith("#")) {
+                return COLOR;
+            }
+            if (arbitrary.startsWith("length:")) {
+                return LENGTH;
+            }
+            for (String function : COLOR_FUNCTIONS) {
+                if (arbitrary.startsWith(function)) {
+                    return COLOR;
+                }
+            }
+            for (String function : LENGTH_FUNCTIONS) {
+                if (arbitrary.startsWith(function)) {
+                    return LENGTH;
+                }
+            }
+            int end = numberEnd(arbitrary, 0);
+            String unit = arbitrary.substring(end);
+            boolean length = unit.isEmpty() ? arbitrary.equals("0") : LENGTH_UNITS.contains(unit);
+            return end > 0 && length ? LENGTH : -1;
+        }
+
+        // Named values: a palette color and shade, or a step of a scale
+        int dash = value.lastIndexOf('-');
+        if (dash > 0 && numberEnd(value, dash + 1) == value.length()) {
+            for (int i = 0; i < dash; i++) {
+                if (value.charAt(i) < 'a' || value.charAt(i) > 'z') {
+                    return -1;
+                }
+            }
+            return COLOR;
+        }
+        return !value.isEmpty() && numberEnd(value, 0) == value.length() ? LENGTH : -1;
+    }
+
+    /**
+     * Returns the end of the decimal number at {@code start}, or {@code start} if there is none.
+     */
+    private static int numberEnd(String value, int start) {
+        int i = start;
+        if (i < value.length() && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+            i++;
+        }
+        boolean digits = false;
+        boolean point = false;
+        for (; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits = true;
+            } else if (c == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+        return digits ? i : start;
+    }
+
+    /**
+     * Merges a space-separated class list without the cache, for callers that cache the result
+     * themselves.
+     */
+    static String mergeUncached(String classList) {
+        List<String> tokens = split(classList);
+        boolean[] keep = new boolean[tokens.size()];
+        Map<String, long[]> claimed = new HashMap<>();
+        Set<String> unknown = null;
+
+        // Walk backwards: the last class of a group wins and claims the groups it overrides
+        for (int i = tokens.size() - 1; i >= 0; i--) {
+            String token = tokens.get(i);
+            int variantEnd = variantEnd(token);
+            String utility = token.substring(variantEnd);
+
+            // Important modifier: "!p-4" (v3) or "p-4!" (v4)
+            boolean important = false;
+            if (utility.length() > 1 && utility.charAt(0) == '!') {
+                utility = utility.substring(1);
+                important = true;
+            } else if (utility.length() > 1 && utility.charAt(utility.length() - 1) == '!') {
+                utility = utility.substring(0, utility.length() - 1);
+                important = true;
+            }
+
+            int group = groupOf(utility);
+            if (group < 0) {
+                if (unknown == null) {
+                    unknown = new HashSet<>();
+                }
+                keep[i] = unknown.add(token);
+                continue;
+            }
+
+            String variantKey = variantKey(token, variantEnd, important);
+            long[] bits = claimed.computeIfAbsent(variantKey, k -> new long[GROUP_WORDS]);
+            if ((bits[group >>> 6] & (1L << group)) != 0) {
+                continue;
+            }
+
+            keep[i] = true;
+            bits[group >>> 6] |= 1L << group;
+            for (short overridden : CONFLICTS[group]) {
+                bits[overridden >>> 6] |= 1L << overridden;
+            }
+        }
+
+        StringBuilder builder = new StringBuilder(classList.length());
+        for (int i = 0; i < keep.length; i++) {
+            if (keep[i]) {
+                if (builder.length() > 0) {
+                    builder.append(' ');
+                }
+                builder.append(tokens.get(i));
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns the index after the last variant separator, ignoring colons inside brackets.
+     */
+    private static int variantEnd(String token) {
+        int end = 0;
+        int depth = 0;
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c == '[' || c == '(') {
+                depth++;
+            } else if (c == ']' || c == ')') {
+                depth--;
+            } else if (c == ':' && depth == 0) {
+                end = i + 1;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Returns a key identifying the variants of a token, independent of their order.
+     */
+    private static String variantKey(String token, int variantEnd, boolean important) {
+        String variants = token.substring(0, variantEnd);
+        if (variants.indexOf(':') < variants.length() - 1) {
+            // Several stacked variants: "md:hover:" and "hover:md:" are equivalent
+            String[] parts = variants.split(":");
+            Arrays.sort(parts);
+            variants = String.join(":", parts) + ":";
+        }
+        return important ? variants + "!" : variants;
+    }
+
+    private static List<String> split(String classList) {
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= classList.length(); i++) {
+            boolean whitespace = i == classList.length() || Character.isWhitespace(classList.charAt(i));
+            if (whitespace && start >= 0) {
+                tokens.add(classList.substring(start, i));
+                start = -1;
+            } else if (!whitespace && start < 0) {
+                start = i;
+            }
+        }
+        return tokens;
+    }
+
+    private static String join(String[] classLists) {
+        if (classLists.length == 1 && classLists[0] != null) {
+            return classLists[0];
+        }
+        StringBuilder builder = new StringBuilder();
+        for (String classList : classLists) {
+            if (classList != null) {
+                if (builder.length() > 0) {
+                    builder.append(' ');
+                }
+                builder.append(classList);
+            }
+        }
+        return builder.toString();
+    }
+
+    private TwMerge() {}
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.vaadin.flow.component.tailwind;
+
+/**
+ * The Tailwind colors with shades, for the color accessors of the category classes:
+ *
+ * <pre>{@code
+ * div.addClassName(TW.Background.color(TwPalette.BLUE, 500)); // "bg-blue-500"
+ * }</pre>
+ * <p>
+ * Shades are 50, 100, 200, 300, 400, 500, 600, 700, 800, 900, 950. The accessors only return generated utilities, so they throw
+ * for combinations that were not extracted.
+ */
+public enum TwPalette {
+
+    SLATE("slate"),
+    GRAY("gray"),
+    ZINC("zinc"),
+    NEUTRAL("neutral"),
+    STONE("stone"),
+    RED("red"),
+    ORANGE("orange"),
+    AMBER("amber"),
+    YELLOW("yellow"),
+    LIME("lime"),
+    GREEN("green"),
+    EMERALD("emerald"),
+    TEAL("teal"),
+    CYAN("cyan"),
+    SKY("sky"),
+    BLUE("blue"),
+    INDIGO("indigo"),
+    VIOLET("violet"),
+    PURPLE("purple"),
+    FUCHSIA("fuchsia"),
+    PINK("pink"),
+    ROSE("rose");
+
+    private final String colorName;
+
+    TwPalette(String colorName) {
+        this.colorName = colorName;
+    }
+
+    /**
+     * Returns the index of a shade in {@code [50, 100, 200, 300, 400, 500, 600, 700, 800, 900, 950]}, or -1 if it is not one of them.
+     */
+    static int shadeIndex(int shade) {
+        if (shade == 50) {
+            return 0;
+        }
+        if (shade == 950) {
+            return 10;
+        }
+        return shade >= 100 && shade <= 900 && shade % 100 == 0 ? shade / 100 : -1;
+    }
+
+    /** Color name as used in class names, e.g. {@code "blue"} */
+    @Override
+    public String toString() {
+        return colorName;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,305 @@
+package com.vaadin.flow.component.tailwind;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An immutable component style: utilities, utilities grouped under stacked variants and
+ * conditional parts, resolved into one class list by {@link #build()}.
+ * <p>
+ * Every method returns a new instance, so styles can be kept in constants and extended per
+ * component. Results are memoized in a bounded, lock-free cache keyed on the structure of the
+ * style, so equal styles built by any number of threads share one class String and one class
+ * list while cached.
+ *
+ * <pre>{@code
+ * TwStyle button = TwStyle.of(TW.Spacing.Padding.X_4, TW.Background.BLUE_600)
+ *     .hover(TW.Background.BLUE_700)
+ *     .dark(TwStyle.of(TW.Background.GRAY_800).md(TwStyle.of().hover(TW.Background.GRAY_700)))
+ *     .when(disabled, TW.Effects.Opacity.OPACITY_50);
+ * component.setClassName(button.build());
+ * // "px-4 bg-blue-600 hover:bg-blue-700 dark:bg-gray-800 dark:md:hover:bg-gray-700 opacity-50"
+ * }</pre>
+ * <p>
+ * Any other variant or stack of variants is applied with {@link #variant(TwVariant, String...)}.
+ * <p>
+ * Conflicts are resolved like {@link TW#merge(String...)}: of the utilities in the same conflict
+ * group and variants, the last one wins.
+ */
+public final class TwStyle implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Maximum number of memoized results; results not used recently are evicted */
+    public static final int CACHE_SIZE = 4096;
+
+    private static final TwStyle EMPTY = new TwStyle(new String[0]);
+
+    private static final TwCache<TwStyle, Result> CACHE = new TwCache<>(CACHE_SIZE);
+
+    /** Classes with their variant prefixes applied, in the order they were added */
+    private final String[] classes;
+
+    private final int hash;
+
+    private transient volatile Result result;
+
+    private TwStyle(String[] classes) {
+        this.classes = classes;
+        this.hash = Arrays.hashCode(classes);
+    }
+
+    /**
+     * Returns a style with the given classes.
+     * <p>
+     * Each argument may contain several space-separated classes. {@code null} arguments are
+     * ignored.
+     */
+    public static TwStyle of(String... classes) {
+        return EMPTY.with(classes);
+    }
+
+    /**
+     * Returns this style with the given classes added.
+     */
+    public TwStyle with(String... classes) {
+        return append(null, classes);
+    }
+
+    /**
+     * Returns this style with the classes of {@code style} added.
+     */
+    public TwStyle with(TwStyle style) {
+        return append(null, style.classes);
+    }
+
+    /**
+     * Returns this style with the given classes added if {@code condition} is true, otherwise
+     * this style.
+     */
+    public TwStyle when(boolean condition, String... classes) {
+        return condition ? with(classes) : this;
+    }
+
+    /**
+     * Returns this style with the classes of {@code style} added if {@code condition} is true,
+     * otherwise this style.
+     */
+    public TwStyle when(boolean condition, TwStyle style) {
+        return condition ? with(style) : this;
+    }
+
+    /**
+     * Returns this style with the given classes added under {@code variant}, which may be a stack
+     * or any other variant not covered by a method of its own.
+     */
+    public TwStyle variant(TwVariant variant, String... classes) {
+        return append(variant, classes);
+    }
+
+    /**
+     * Returns this style with the classes of {@code style} added under {@code variant}, in front of
+     * their own variants.
+     */
+    public TwStyle variant(TwVariant variant, TwStyle style) {
+        return append(variant, style.classes);
+    }
+
+    /** Sm breakpoint (640px) - adds the classes prefixed with {@code sm:} */
+    public TwStyle sm(String... classes) {
+        return append(TwVariant.SM, classes);
+    }
+
+    /** Sm breakpoint (640px) - adds the classes of {@code style} with {@code sm:} in front of their variants */
+    public TwStyle sm(TwStyle style) {
+        return append(TwVariant.SM, style.classes);
+    }
+
+    /** Md breakpoint (768px) - adds the classes prefixed with {@code md:} */
+    public TwStyle md(String... classes) {
+        return append(TwVariant.MD, classes);
+    }
+
+    /** Md breakpoint (768px) - adds the classes of {@code style} with {@code md:} in front of their variants */
+    public TwStyle md(TwStyle style) {
+        return append(TwVariant.MD, style.classes);
+    }
+
+    /** Lg breakpoint (1024px) - adds the classes prefixed with {@code lg:} */
+    public TwStyle lg(String... classes) {
+        return append(TwVariant.LG, classes);
+    }
+
+    /** Lg breakpoint (1024px) - adds the classes of {@code style} with {@code lg:} in front of their variants */
+    public TwStyle lg(TwStyle style) {
+        return append(TwVariant.LG, style.classes);
+    }
+
+    /** Xl breakpoint (1280px) - adds the classes prefixed with {@code xl:} */
+    public TwStyle xl(String... classes) {
+        return append(TwVariant.XL, classes);
+    }
+
+    /** Xl breakpoint (1280px) - adds the classes of {@code style} with {@code xl:} in front of their variants */
+    public TwStyle xl(TwStyle style) {
+        return append(TwVariant.XL, style.classes);
+    }
+
+    /** 2xl breakpoint (1536px) - adds the classes prefixed with {@code 2xl:} */
+    public TwStyle xxl(String... classes) {
+        return append(TwVariant.XXL, classes);
+    }
+
+    /** 2xl breakpoint (1536px) - adds the classes of {@code style} with {@code 2xl:} in front of their variants */
+    public TwStyle xxl(TwStyle style) {
+        return append(TwVariant.XXL, style.classes);
+    }
+
+    /** Hover state - adds the classes prefixed with {@code hover:} */
+    public TwStyle hover(String... classes) {
+        return append(TwVariant.HOVER, classes);
+    }
+
+    /** Hover state - adds the classes of {@code style} with {@code hover:} in front of their variants */
+    public TwStyle hover(TwStyle style) {
+        return append(TwVariant.HOVER, style.classes);
+    }
+
+    /** Focus state - adds the classes prefixed with {@code focus:} */
+    public TwStyle focus(String... classes) {
+        return append(TwVariant.FOCUS, classes);
+    }
+
+    /** Focus state - adds the classes of {@code style} with {@code focus:} in front of their variants */
+    public TwStyle focus(TwStyle style) {
+        return append(TwVariant.FOCUS, style.classes);
+    }
+
+    /** Active state - adds the classes prefixed with {@code active:} */
+    public TwStyle active(String... classes) {
+        return append(TwVariant.ACTIVE, classes);
+    }
+
+    /** Active state - adds the classes of {@code style} with {@code active:} in front of their variants */
+    public TwStyle active(TwStyle style) {
+        return append(TwVariant.ACTIVE, style.classes);
+    }
+
+    /** Dark mode - adds the classes prefixed with {@code dark:} */
+    public TwStyle dark(String... classes) {
+        return append(TwVariant.DARK, classes);
+    }
+
+    /** Dark mode - adds the classes of {@code style} with {@code dark:} in front of their variants */
+    public TwStyle dark(TwStyle style) {
+        return append(TwVariant.DARK, style.classes);
+    }
+
+    /** Disabled state - adds the classes prefixed with {@code disabled:} */
+    public TwStyle disabled(String... classes) {
+        return append(TwVariant.DISABLED, classes);
+    }
+
+    /** Disabled state - adds the classes of {@code style} with {@code disabled:} in front of their variants */
+    public TwStyle disabled(TwStyle style) {
+        return append(TwVariant.DISABLED, style.classes);
+    }
+
+    /**
+     * Returns the class attribute value of this style: the classes not overridden by a later
+     * class, in the order they were added. Equal styles return the same instance.
+     */
+    public String build() {
+        return result().className;
+    }
+
+    /**
+     * Returns the classes of {@link #build()} as an immutable list. Equal styles return the same
+     * instance.
+     */
+    public List<String> toList() {
+        return result().classes;
+    }
+
+    private Result result() {
+        Result resolved = result;
+        if (resolved != null) {
+            return resolved;
+        }
+
+        resolved = CACHE.get(this);
+        if (resolved == null) {
+            // Cached here, so not in the merge cache as well
+            resolved = CACHE.put(this, new Result(TwMerge.mergeUncached(String.join(" ", classes))));
+        }
+        result = resolved;
+        return resolved;
+    }
+
+    /**
+     * Returns a style with the whitespace-separated classes of {@code classLists} added, prefixed
+     * with the given variant unless it is {@code null}.
+     */
+    private TwStyle append(TwVariant variant, String[] classLists) {
+        String[] added = Arrays.copyOf(classes, classes.length + classLists.length);
+        int size = classes.length;
+        for (String classList : classLists) {
+            if (classList == null) {
+                continue;
+            }
+            int start = -1;
+            for (int i = 0; i <= classList.length(); i++) {
+                boolean whitespace = i == classList.length() || Character.isWhitespace(classList.charAt(i));
+                if (whitespace && start >= 0) {
+                    // A single class, the usual case, is added without copying
+                    String token = start == 0 && i == classList.length() ? classList : classList.substring(start, i);
+                    if (size == added.length) {
+                        added = Arrays.copyOf(added, size * 2);
+                    }
+                    added[size++] = variant == null ? token : variant.apply(token);
+                    start = -1;
+                } else if (!whitespace && start < 0) {
+                    start = i;
+                }
+            }
+        }
+
+        if (size == classes.length) {
+            return this;
+        }
+        return new TwStyle(size == added.length ? added : Arrays.copyOf(added, size));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        return obj instanceof TwStyle && hash == ((TwStyle) obj).hash && Arrays.equals(classes, ((TwStyle) obj).classes);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + String.join(" ", classes) + "]";
+    }
+
+    /**
+     * The resolved class String and list of a style, shared by all equal styles
+     */
+    private static final class Result {
+
+        final String className;
+        final List<String> classes;
+
+        Result(String className) {
+            this.className = className;
+            this.classes = className.isEmpty() ? List.of() : List.of(className.split(" "));
+        }
+    }
+}
\ No newline at end of file
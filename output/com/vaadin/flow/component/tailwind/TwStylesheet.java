@@ -0,0 +1,2066 @@
+package com.vaadin.flow.component.tailwind;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Builds stylesheets containing only the Tailwind CSS utilities an application uses.
+ * <p>
+ * The CSS of every utility is captured from the Tailwind build by the extract script, so the
+ * full stylesheet does not have to be shipped. Given the class names actually used, the
+ * result contains the theme and base styles followed by the rules of just those utilities, in
+ * the same order as in the Tailwind build. Variants are applied to the captured rules.
+ *
+ * <pre>{@code
+ * String css = TwStylesheet.css("flex", "p-4", "md:p-6", "group-hover:bg-blue-600");
+ * }</pre>
+ * <p>
+ * Variants are looked up in the variant index of {@link TwVariant}; 195 of its 195 variants
+ * are Tailwind v4 core variants whose CSS is known. Class names that are not generated utilities,
+ * such as arbitrary values, and class names with other variants are skipped. This class is only
+ * generated when the extract script captured the utility CSS.
+ */
+public final class TwStylesheet {
+
+    /**
+     * Selector template of each variant, applied to the selector so far ({@code &}), or null if
+     * the variant only adds an at-rule; indexed by variant index, see {@link TwVariant}
+     */
+    private static final String[] VARIANT_SELECTORS = {
+        null, // sm
+        null, // md
+        null, // lg
+        null, // xl
+        null, // 2xl
+        "&:hover", // hover
+        "&:focus", // focus
+        "&:active", // active
+        null, // dark
+        "&:disabled", // disabled
+        "&:first-child", // first
+        "&:last-child", // last
+        "&:only-child", // only
+        "&:nth-child(odd)", // odd
+        "&:nth-child(even)", // even
+        "&:first-of-type", // first-of-type
+        "&:last-of-type", // last-of-type
+        "&:only-of-type", // only-of-type
+        "&:visited", // visited
+        "&:target", // target
+        "&:is([open], :popover-open, :open)", // open
+        "&:default", // default
+        "&:checked", // checked
+        "&:indeterminate", // indeterminate
+        "&:placeholder-shown", // placeholder-shown
+        "&:autofill", // autofill
+        "&:optional", // optional
+        "&:required", // required
+        "&:valid", // valid
+        "&:invalid", // invalid
+        "&:user-valid", // user-valid
+        "&:user-invalid", // user-invalid
+        "&:in-range", // in-range
+        "&:out-of-range", // out-of-range
+        "&:read-only", // read-only
+        "&:empty", // empty
+        "&:focus-within", // focus-within
+        "&:focus-visible", // focus-visible
+        "&:enabled", // enabled
+        "&:is([inert], [inert] *)", // inert
+        "&::before", // before
+        "&::after", // after
+        "&::first-letter", // first-letter
+        "&::first-line", // first-line
+        "& *::marker, &::marker", // marker
+        "& *::selection, &::selection", // selection
+        "&::file-selector-button", // file
+        "&::backdrop", // backdrop
+        "&::placeholder", // placeholder
+        "&::details-content", // details-content
+        null, // motion-safe
+        null, // motion-reduce
+        null, // contrast-more
+        null, // contrast-less
+        null, // print
+        null, // portrait
+        null, // landscape
+        null, // forced-colors
+        null, // inverted-colors
+        null, // pointer-fine
+        null, // pointer-coarse
+        null, // pointer-none
+        null, // any-pointer-fine
+        null, // any-pointer-coarse
+        null, // any-pointer-none
+        null, // noscript
+        null, // starting
+        "&:where(:dir(ltr), [dir=\"ltr\"], [dir=\"ltr\"] *)", // ltr
+        "&:where(:dir(rtl), [dir=\"rtl\"], [dir=\"rtl\"] *)", // rtl
+        null, // max-sm
+        null, // max-md
+        null, // max-lg
+        null, // max-xl
+        null, // max-2xl
+        null, // @3xs
+        null, // @2xs
+        null, // @xs
+        null, // @sm
+        null, // @md
+        null, // @lg
+        null, // @xl
+        null, // @2xl
+        null, // @3xl
+        null, // @4xl
+        null, // @5xl
+        null, // @6xl
+        null, // @7xl
+        null, // @max-3xs
+        null, // @max-2xs
+        null, // @max-xs
+        null, // @max-sm
+        null, // @max-md
+        null, // @max-lg
+        null, // @max-xl
+        null, // @max-2xl
+        null, // @max-3xl
+        null, // @max-4xl
+        null, // @max-5xl
+        null, // @max-6xl
+        null, // @max-7xl
+        "&[aria-busy=\"true\"]", // aria-busy
+        "&[aria-checked=\"true\"]", // aria-checked
+        "&[aria-disabled=\"true\"]", // aria-disabled
+        "&[aria-expanded=\"true\"]", // aria-expanded
+        "&[aria-hidden=\"true\"]", // aria-hidden
+        "&[aria-pressed=\"true\"]", // aria-pressed
+        "&[aria-readonly=\"true\"]", // aria-readonly
+        "&[aria-required=\"true\"]", // aria-required
+        "&[aria-selected=\"true\"]", // aria-selected
+        "&:is(:where(.group):first-child *)", // group-first
+        "&:is(:where(.group):last-child *)", // group-last
+        "&:is(:where(.group):only-child *)", // group-only
+        "&:is(:where(.group):nth-child(odd) *)", // group-odd
+        "&:is(:where(.group):nth-child(even) *)", // group-even
+        "&:is(:where(.group):first-of-type *)", // group-first-of-type
+        "&:is(:where(.group):last-of-type *)", // group-last-of-type
+        "&:is(:where(.group):only-of-type *)", // group-only-of-type
+        "&:is(:where(.group):visited *)", // group-visited
+        "&:is(:where(.group):target *)", // group-target
+        "&:is(:where(.group):is([open], :popover-open, :open) *)", // group-open
+        "&:is(:where(.group):default *)", // group-default
+        "&:is(:where(.group):checked *)", // group-checked
+        "&:is(:where(.group):indeterminate *)", // group-indeterminate
+        "&:is(:where(.group):placeholder-shown *)", // group-placeholder-shown
+        "&:is(:where(.group):autofill *)", // group-autofill
+        "&:is(:where(.group):optional *)", // group-optional
+        "&:is(:where(.group):required *)", // group-required
+        "&:is(:where(.group):valid *)", // group-valid
+        "&:is(:where(.group):invalid *)", // group-invalid
+        "&:is(:where(.group):user-valid *)", // group-user-valid
+        "&:is(:where(.group):user-invalid *)", // group-user-invalid
+        "&:is(:where(.group):in-range *)", // group-in-range
+        "&:is(:where(.group):out-of-range *)", // group-out-of-range
+        "&:is(:where(.group):read-only *)", // group-read-only
+        "&:is(:where(.group):empty *)", // group-empty
+        "&:is(:where(.group):focus-within *)", // group-focus-within
+        "&:is(:where(.group):hover *)", // group-hover
+        "&:is(:where(.group):focus *)", // group-focus
+        "&:is(:where(.group):focus-visible *)", // group-focus-visible
+        "&:is(:where(.group):active *)", // group-active
+        "&:is(:where(.group):enabled *)", // group-enabled
+        "&:is(:where(.group):disabled *)", // group-disabled
+        "&:is(:where(.group):is([inert], [inert] *) *)", // group-inert
+        "&:is(:where(.group)[aria-busy=\"true\"] *)", // group-aria-busy
+        "&:is(:where(.group)[aria-checked=\"true\"] *)", // group-aria-checked
+        "&:is(:where(.group)[aria-disabled=\"true\"] *)", // group-aria-disabled
+        "&:is(:where(.group)[aria-expanded=\"true\"] *)", // group-aria-expanded
+        "&:is(:where(.group)[aria-hidden=\"true\"] *)", // group-aria-hidden
+        "&:is(:where(.group)[aria-pressed=\"true\"] *)", // group-aria-pressed
+        "&:is(:where(.group)[aria-readonly=\"true\"] *)", // group-aria-readonly
+        "&:is(:where(.group)[aria-required=\"true\"] *)", // group-aria-required
+        "&:is(:where(.group)[aria-selected=\"true\"] *)", // group-aria-selected
+        "&:is(:where(.peer):first-child ~ *)", // peer-first
+        "&:is(:where(.peer):last-child ~ *)", // peer-last
+        "&:is(:where(.peer):only-child ~ *)", // peer-only
+        "&:is(:where(.peer):nth-child(odd) ~ *)", // peer-odd
+        "&:is(:where(.peer):nth-child(even) ~ *)", // peer-even
+        "&:is(:where(.peer):first-of-type ~ *)", // peer-first-of-type
+        "&:is(:where(.peer):last-of-type ~ *)", // peer-last-of-type
+        "&:is(:where(.peer):only-of-type ~ *)", // peer-only-of-type
+        "&:is(:where(.peer):visited ~ *)", // peer-visited
+        "&:is(:where(.peer):target ~ *)", // peer-target
+        "&:is(:where(.peer):is([open], :popover-open, :open) ~ *)", // peer-open
+        "&:is(:where(.peer):default ~ *)", // peer-default
+        "&:is(:where(.peer):checked ~ *)", // peer-checked
+        "&:is(:where(.peer):indeterminate ~ *)", // peer-indeterminate
+        "&:is(:where(.peer):placeholder-shown ~ *)", // peer-placeholder-shown
+        "&:is(:where(.peer):autofill ~ *)", // peer-autofill
+        "&:is(:where(.peer):optional ~ *)", // peer-optional
+        "&:is(:where(.peer):required ~ *)", // peer-required
+        "&:is(:where(.peer):valid ~ *)", // peer-valid
+        "&:is(:where(.peer):invalid ~ *)", // peer-invalid
+        "&:is(:where(.peer):user-valid ~ *)", // peer-user-valid
+        "&:is(:where(.peer):user-invalid ~ *)", // peer-user-invalid
+        "&:is(:where(.peer):in-range ~ *)", // peer-in-range
+        "&:is(:where(.peer):out-of-range ~ *)", // peer-out-of-range
+        "&:is(:where(.peer):read-only ~ *)", // peer-read-only
+        "&:is(:where(.peer):empty ~ *)", // peer-empty
+        "&:is(:where(.peer):focus-within ~ *)", // peer-focus-within
+        "&:is(:where(.peer):hover ~ *)", // peer-hover
+        "&:is(:where(.peer):focus ~ *)", // peer-focus
+        "&:is(:where(.peer):focus-visible ~ *)", // peer-focus-visible
+        "&:is(:where(.peer):active ~ *)", // peer-active
+        "&:is(:where(.peer):enabled ~ *)", // peer-enabled
+        "&:is(:where(.peer):disabled ~ *)", // peer-disabled
+        "&:is(:where(.peer):is([inert], [inert] *) ~ *)", // peer-inert
+        "&:is(:where(.peer)[aria-busy=\"true\"] ~ *)", // peer-aria-busy
+        "&:is(:where(.peer)[aria-checked=\"true\"] ~ *)", // peer-aria-checked
+        "&:is(:where(.peer)[aria-disabled=\"true\"] ~ *)", // peer-aria-disabled
+        "&:is(:where(.peer)[aria-expanded=\"true\"] ~ *)", // peer-aria-expanded
+        "&:is(:where(.peer)[aria-hidden=\"true\"] ~ *)", // peer-aria-hidden
+        "&:is(:where(.peer)[aria-pressed=\"true\"] ~ *)", // peer-aria-pressed
+        "&:is(:where(.peer)[aria-readonly=\"true\"] ~ *)", // peer-aria-readonly
+        "&:is(:where(.peer)[aria-required=\"true\"] ~ *)", // peer-aria-required
+        "&:is(:where(.peer)[aria-selected=\"true\"] ~ *)" // peer-aria-selected
+    };
+
+    /** At-rule wrapped around the rules of each variant, or null; indexed by variant index */
+    private static final String[] VARIANT_AT_RULES = {
+        "@media (width>=640px)", // sm
+        "@media (width>=768px)", // md
+        "@media (width>=1024px)", // lg
+        "@media (width>=1280px)", // xl
+        "@media (width>=1536px)", // 2xl
+        "@media (hover:hover)", // hover
+        null, // focus
+        null, // active
+        "@media (prefers-color-scheme:dark)", // dark
+        null, // disabled
+        null, // first
+        null, // last
+        null, // only
+        null, // odd
+        null, // even
+        null, // first-of-type
+        null, // last-of-type
+        null, // only-of-type
+        null, // visited
+        null, // target
+        null, // open
+        null, // default
+        null, // checked
+        null, // indeterminate
+        null, // placeholder-shown
+        null, // autofill
+        null, // optional
+        null, // required
+        null, // valid
+        null, // invalid
+        null, // user-valid
+        null, // user-invalid
+        null, // in-range
+        null, // out-of-range
+        null, // read-only
+        null, // empty
+        null, // focus-within
+        null, // focus-visible
+        null, // enabled
+        null, // inert
+        null, // before
+        null, // after
+        null, // first-letter
+        null, // first-line
+        null, // marker
+        null, // selection
+        null, // file
+        null, // backdrop
+        null, // placeholder
+        null, // details-content
+        "@media (prefers-reduced-motion:no-preference)", // motion-safe
+        "@media (prefers-reduced-motion:reduce)", // motion-reduce
+        "@media (prefers-contrast:more)", // contrast-more
+        "@media (prefers-contrast:less)", // contrast-less
+        "@media print", // print
+        "@media (orientation:portrait)", // portrait
+        "@media (orientation:landscape)", // landscape
+        "@media (forced-colors:active)", // forced-colors
+        "@media (inverted-colors:inverted)", // inverted-colors
+        "@media (pointer:fine)", // pointer-fine
+        "@media (pointer:coarse)", // pointer-coarse
+        "@media (pointer:none)", // pointer-none
+        "@media (any-pointer:fine)", // any-pointer-fine
+        "@media (any-pointer:coarse)", // any-pointer-coarse
+        "@media (any-pointer:none)", // any-pointer-none
+        "@media (scripting:none)", // noscript
+        "@starting-style", // starting
+        null, // ltr
+        null, // rtl
+        "@media (width<640px)", // max-sm
+        "@media (width<768px)", // max-md
+        "@media (width<1024px)", // max-lg
+        "@media (width<1280px)", // max-xl
+        "@media (width<1536px)", // max-2xl
+        "@container (width>=16rem)", // @3xs
+        "@container (width>=18rem)", // @2xs
+        "@container (width>=20rem)", // @xs
+        "@container (width>=24rem)", // @sm
+        "@container (width>=28rem)", // @md
+        "@container (width>=32rem)", // @lg
+        "@container (width>=36rem)", // @xl
+        "@container (width>=42rem)", // @2xl
+        "@container (width>=48rem)", // @3xl
+        "@container (width>=56rem)", // @4xl
+        "@container (width>=64rem)", // @5xl
+        "@container (width>=72rem)", // @6xl
+        "@container (width>=80rem)", // @7xl
+        "@container (width<16rem)", // @max-3xs
+        "@container (width<18rem)", // @max-2xs
+        "@container (width<20rem)", // @max-xs
+        "@container (width<24rem)", // @max-sm
+        "@container (width<28rem)", // @max-md
+        "@container (width<32rem)", // @max-lg
+        "@container (width<36rem)", // @max-xl
+        "@container (width<42rem)", // @max-2xl
+        "@container (width<48rem)", // @max-3xl
+        "@container (width<56rem)", // @max-4xl
+        "@container (width<64rem)", // @max-5xl
+        "@container (width<72rem)", // @max-6xl
+        "@container (width<80rem)", // @max-7xl
+        null, // aria-busy
+        null, // aria-checked
+        null, // aria-disabled
+        null, // aria-expanded
+        null, // aria-hidden
+        null, // aria-pressed
+        null, // aria-readonly
+        null, // aria-required
+        null, // aria-selected
+        null, // group-first
+        null, // group-last
+        null, // group-only
+        null, // group-odd
+        null, // group-even
+        null, // group-first-of-type
+        null, // group-last-of-type
+        null, // group-only-of-type
+        null, // group-visited
+        null, // group-target
+        null, // group-open
+        null, // group-default
+        null, // group-checked
+        null, // group-indeterminate
+        null, // group-placeholder-shown
+        null, // group-autofill
+        null, // group-optional
+        null, // group-required
+        null, // group-valid
+        null, // group-invalid
+        null, // group-user-valid
+        null, // group-user-invalid
+        null, // group-in-range
+        null, // group-out-of-range
+        null, // group-read-only
+        null, // group-empty
+        null, // group-focus-within
+        "@media (hover:hover)", // group-hover
+        null, // group-focus
+        null, // group-focus-visible
+        null, // group-active
+        null, // group-enabled
+        null, // group-disabled
+        null, // group-inert
+        null, // group-aria-busy
+        null, // group-aria-checked
+        null, // group-aria-disabled
+        null, // group-aria-expanded
+        null, // group-aria-hidden
+        null, // group-aria-pressed
+        null, // group-aria-readonly
+        null, // group-aria-required
+        null, // group-aria-selected
+        null, // peer-first
+        null, // peer-last
+        null, // peer-only
+        null, // peer-odd
+        null, // peer-even
+        null, // peer-first-of-type
+        null, // peer-last-of-type
+        null, // peer-only-of-type
+        null, // peer-visited
+        null, // peer-target
+        null, // peer-open
+        null, // peer-default
+        null, // peer-checked
+        null, // peer-indeterminate
+        null, // peer-placeholder-shown
+        null, // peer-autofill
+        null, // peer-optional
+        null, // peer-required
+        null, // peer-valid
+        null, // peer-invalid
+        null, // peer-user-valid
+        null, // peer-user-invalid
+        null, // peer-in-range
+        null, // peer-out-of-range
+        null, // peer-read-only
+        null, // peer-empty
+        null, // peer-focus-within
+        "@media (hover:hover)", // peer-hover
+        null, // peer-focus
+        null, // peer-focus-visible
+        null, // peer-active
+        null, // peer-enabled
+        null, // peer-disabled
+        null, // peer-inert
+        null, // peer-aria-busy
+        null, // peer-aria-checked
+        null, // peer-aria-disabled
+        null, // peer-aria-expanded
+        null, // peer-aria-hidden
+        null, // peer-aria-pressed
+        null, // peer-aria-readonly
+        null, // peer-aria-required
+        null // peer-aria-selected
+    };
+
+    /** Position of each variant in Tailwind's variant order, or -1 if it is not supported; indexed by variant index */
+    private static final short[] VARIANT_RANKS = {
+        148, 149, 150, 151, 152, 123, 124, 126, 183, 128, 96, 97, 98, 99, 100, 101, 102, 103, 104, 105,
+        106, 107, 108, 109, 110, 111, 112, 113, 114, 115, 116, 117, 118, 119, 120, 121, 122, 125, 127, 129,
+        94, 95, 86, 87, 88, 89, 90, 92, 91, 93, 139, 140, 141, 142, 185, 179, 180, 186, 187, 190,
+        189, 188, 193, 192, 191, 194, 184, 181, 182, 143, 144, 145, 146, 147, 166, 167, 168, 169, 170, 171,
+        172, 173, 174, 175, 176, 177, 178, 153, 154, 155, 156, 157, 158, 159, 160, 161, 162, 163, 164, 165,
+        130, 131, 132, 133, 134, 135, 136, 137, 138, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10,
+        11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30,
+        31, 32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47, 48, 49, 50,
+        51, 52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70,
+        71, 72, 73, 74, 75, 76, 77, 78, 79, 80, 81, 82, 83, 84, 85
+    };
+
+    /** Variant indexes of the supported variants, in Tailwind's variant order */
+    private static final short[] VARIANT_ORDER = {
+        109, 110, 111, 112, 113, 114, 115, 116, 117, 118, 119, 120, 121, 122, 123, 124, 125, 126, 127, 128,
+        129, 130, 131, 132, 133, 134, 135, 136, 137, 138, 139, 140, 141, 142, 143, 144, 145, 146, 147, 148,
+        149, 150, 151, 152, 153, 154, 155, 156, 157, 158, 159, 160, 161, 162, 163, 164, 165, 166, 167, 168,
+        169, 170, 171, 172, 173, 174, 175, 176, 177, 178, 179, 180, 181, 182, 183, 184, 185, 186, 187, 188,
+        189, 190, 191, 192, 193, 194, 42, 43, 44, 45, 46, 48, 47, 49, 40, 41, 10, 11, 12, 13,
+        14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32, 33,
+        34, 35, 36, 5, 6, 37, 7, 38, 9, 39, 100, 101, 102, 103, 104, 105, 106, 107, 108, 50,
+        51, 52, 53, 69, 70, 71, 72, 73, 0, 1, 2, 3, 4, 87, 88, 89, 90, 91, 92, 93,
+        94, 95, 96, 97, 98, 99, 74, 75, 76, 77, 78, 79, 80, 81, 82, 83, 84, 85, 86, 55,
+        56, 67, 68, 8, 66, 54, 57, 58, 61, 60, 59, 64, 63, 62, 65
+    };
+
+    /** Theme, base styles and everything else outside the utilities layer, split into literals */
+    private static final String[] PREAMBLE = {
+        "@layer properties{@supports ((-webkit-hyphens:none) and (not (margin-trim:inline))) or ((-moz-orient:inline) and (not (color:rgb(from red r g b)))){*,:before,:after,::backdrop{--tw-translate-x:0;--tw-translate-y:0;--tw-scale-x:1;--tw-scale-y:1;--tw-scale-z:1;--tw-border-style:solid;--tw-font-weight:initial;--tw-shadow:0 0 #0000;--tw-ring-shadow:0 0 #0000;--tw-blur:initial;--tw-backdrop-blur:initial}}}@layer theme,base,components,utilities;@layer theme{:root,:host{--spacing:.25rem;--container-sm:24rem;--text-sm:.875rem;--text-sm--line-height:calc(1.25/.875);--text-lg:1.125rem;--text-lg--line-height:calc(1.75/1.125);--font-weight-medium:500;--radius-md:.375rem;--radius-lg:.5rem;--blur-sm:8px;--color-white:#fff;--color-blue-600:oklch(54.6% .245 262.881);--color-blue-700:oklch(48.8% .243 264.376);--color-gray-100:oklch(96.7% .003 264.542);--color-gray-800:oklch(27.8% .033 256.848);--default-transition-duration:.15s;--default-transition-timing-function:cubic-bezier(.4,0,.2,1)}}@layer base{*,:after,:before,::backdrop{box-sizing:border-box;border:0 solid;margin:0;padding:0}}@property --tw-translate-x{syntax:\"*\";inherits:false;initial-value:0}@property --tw-translate-y{syntax:\"*\";inherits:false;initial-value:0}@property --tw-scale-x{syntax:\"*\";inherits:false;initial-value:1}@property --tw-scale-y{syntax:\"*\";inherits:false;initial-value:1}@property --tw-scale-z{syntax:\"*\";inherits:false;initial-value:1}@property --tw-border-style{syntax:\"*\";inherits:false;initial-value:solid}@property --tw-font-weight{syntax:\"*\";inherits:false}@property --tw-shadow{syntax:\"*\";inherits:false;initial-value:0 0 #0000}@property --tw-ring-shadow{syntax:\"*\";inherits:false;initial-value:0 0 #0000}@property --tw-blur{syntax:\"*\";inherits:false}@property --tw-backdrop-blur{syntax:\"*\";inherits:false}"
+    };
+
+    /** Rules of each utility with its selector replaced by {@code &}, indexed by utility ID */
+    private static final String[] RULES = {
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "&{--tw-backdrop-blur:blur(var(--blur-sm));-webkit-backdrop-filter:var(--tw-backdrop-blur,)var(--tw-backdrop-brightness,)var(--tw-backdrop-contrast,)var(--tw-backdrop-grayscale,)var(--tw-backdrop-hue-rotate,)var(--tw-backdrop-invert,)var(--tw-backdrop-opacity,)var(--tw-backdrop-saturate,)var(--tw-backdrop-sepia,);backdrop-filter:var(--tw-backdrop-blur,)var(--tw-backdrop-brightness,)var(--tw-backdrop-contrast,)var(--tw-backdrop-grayscale,)var(--tw-backdrop-hue-rotate,)var(--tw-backdrop-invert,)var(--tw-backdrop-opacity,)var(--tw-backdrop-saturate,)var(--tw-backdrop-sepia,)}",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "&{background-color:var(--color-blue-600)}",
+        "&{background-color:var(--color-blue-700)}",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "&{background-color:var(--color-gray-100)}",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "&{background-color:var(--color-white)}",
+        null,
+        null,
+        null,
+        "&{display:block}",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "&{--tw-blur:blur(var(--blur-sm));filter:var(--tw-blur,)var(--tw-brightness,)var(--tw-contrast,)var(--tw-grayscale,)var(--tw-hue-rotate,)var(--tw-invert,)var(--tw-saturate,)var(--tw-sepia,)var(--tw-drop-shadow,)}",
+        null,
+        "&{border-style:var(--tw-border-style);border-width:1px}",
+        null,
+        "&{border-style:var(--tw-border-style);border-width:2px}",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "&{cursor:pointer}",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "&{display:flex}",
+        null,
+        null,
+        "&{flex-direction:column}",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "&{--tw-font-weight:var(--font-weight-medium);font-weight:var(--font-weight-medium)}",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "&{gap:calc(var(--spacing)*2)}",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "&{gap:calc(var(--spacing)*4)}",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "&{display:none}",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "&{display:inline-flex}",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "&{align-items:center}",
+        null,
+        null,
+        null,
+        null,
+        null,
+        "&{justify-content:center}",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "&{margin:calc(var(--spacing)*2)}",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "&{max-width:var(--container-sm)}",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "&{mix-blend-mode:multiply}",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "&{opacity:.5}",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "&{padding:calc(var(--spacing)*4)}",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "&{padding:calc(var(--spacing)*6)}",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "&{padding-inline:calc(var(--spacing)*2)}",
+        "&{padding-inline:calc(var(--spacing)*4)}",
+        null,
+        null,
+        null,
+        null,
+        "&{padding-block:calc(var(--spacing)*2)}",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "&{--tw-ring-shadow:var(--tw-ring-inset,)0 0 0 calc(2px + var(--tw-ring-offset-width))var(--tw-ring-color,currentcolor);box-shadow:var(--tw-inset-shadow),var(--tw-inset-ring-shadow),var(--tw-ring-offset-shadow),var(--tw-ring-shadow),var(--tw-shadow)}",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "&{rotate:45deg}",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "&{border-radius:var(--radius-lg)}",
+        "&{border-radius:var(--radius-md)}",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "&{--tw-scale-x:95%;--tw-scale-y:95%;--tw-scale-z:95%;scale:var(--tw-scale-x)var(--tw-scale-y)}",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "&{--tw-shadow:0 10px 15px -3px var(--tw-shadow-color,#0000001a),0 4px 6px -4px var(--tw-shadow-color,#0000001a);box-shadow:var(--tw-inset-shadow),var(--tw-inset-ring-shadow),var(--tw-ring-offset-shadow),var(--tw-ring-shadow),var(--tw-shadow)}",
+        null,
+        null,
+        null,
+        null,
+        "&{--tw-shadow:0 1px 3px 0 var(--tw-shadow-color,#0000001a),0 1px 2px -1px var(--tw-shadow-color,#0000001a);box-shadow:var(--tw-inset-shadow),var(--tw-inset-ring-shadow),var(--tw-ring-offset-shadow),var(--tw-ring-shadow),var(--tw-shadow)}",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "&{color:var(--color-gray-800)}",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "&{font-size:var(--text-lg);line-height:var(--tw-leading,var(--text-lg--line-height))}",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "&{font-size:var(--text-sm);line-height:var(--tw-leading,var(--text-sm--line-height))}",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "&{color:var(--color-white)}",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "&{transform:var(--tw-rotate-x,)var(--tw-rotate-y,)var(--tw-rotate-z,)var(--tw-skew-x,)var(--tw-skew-y,)}",
+        null,
+        null,
+        "&{transition-property:color,background-color,border-color,outline-color,text-decoration-color,fill,stroke,--tw-gradient-from,--tw-gradient-via,--tw-gradient-to;transition-timing-function:var(--tw-ease,var(--default-transition-timing-function));transition-duration:var(--tw-duration,var(--default-transition-duration))}",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "&{--tw-translate-x:calc(var(--spacing)*2);translate:var(--tw-translate-x)var(--tw-translate-y)}",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "&{width:calc(var(--spacing)*4)}",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "&{width:100%}",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null
+    };
+
+    /** Utility IDs in stylesheet order */
+    private static final short[] ORDER = {
+        695, 143, 426, 577, 594, 1378, 1392, 748, 1342, 1074, 1027, 1332, 344, 429, 641, 647, 471, 480, 1040, 1041,
+        152, 154, 81, 82, 94, 139, 928, 935, 988, 989, 994, 1243, 1290, 453, 1231, 1302, 832, 775, 1118, 1123,
+        1005, 150, 62, 1335
+    };
+
+    /** Position of each utility in {@link #ORDER}, indexed by utility ID */
+    private static final int[] RANK = new int[TwUtilities.COUNT];
+
+    /** Words of a variant mask, one bit per supported variant by rank */
+    private static final int MASK_WORDS = (VARIANT_ORDER.length + 63) / 64;
+
+    private static final int[] NO_VARIANTS = {};
+
+    static {
+        Arrays.fill(RANK, Integer.MAX_VALUE);
+        for (int i = 0; i < ORDER.length; i++) {
+            RANK[ORDER[i]] = i;
+        }
+    }
+
+    /**
+     * Returns a stylesheet for the given class names.
+     */
+    public static String css(String... classNames) {
+        return css(Arrays.asList(classNames));
+    }
+
+    /**
+     * Returns a stylesheet for the given class names.
+     * <p>
+     * Class names may be prefixed with variants, e.g. {@code md:group-hover:bg-blue-600}.
+     */
+    public static String css(Iterable<String> classNames) {
+        List<Entry> entries = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (String className : classNames) {
+            if (seen.add(className)) {
+                Entry entry = entry(className);
+                if (entry != null) {
+                    entries.add(entry);
+                }
+            }
+        }
+        return write(entries);
+    }
+
+    /**
+     * Returns a stylesheet for the given utilities.
+     */
+    public static String css(TwClassSet utilities) {
+        List<Entry> entries = new ArrayList<>(utilities.size());
+        for (int id = utilities.nextId(0); id >= 0; id = utilities.nextId(id + 1)) {
+            if (RULES[id] != null) {
+                entries.add(new Entry(TwUtilities.className(id), id, NO_VARIANTS));
+            }
+        }
+        return write(entries);
+    }
+
+    /**
+     * Escapes a class name for use in a CSS class selector.
+     */
+    static String escape(String className) {
+        StringBuilder escaped = new StringBuilder(className.length() + 8);
+        for (int i = 0; i < className.length(); i++) {
+            char c = className.charAt(i);
+            boolean digit = c >= '0' && c <= '9';
+            if (digit && (i == 0 || (i == 1 && className.charAt(0) == '-'))) {
+                // Identifiers cannot start with a digit, so it is written as a code point
+                escaped.append('\\').append(Integer.toHexString(c)).append(' ');
+            } else if (digit || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')
+                    || c == '-' || c == '_' || c >= 0x80) {
+                escaped.append(c);
+            } else {
+                escaped.append('\\').append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static Entry entry(String className) {
+        int[] variants = NO_VARIANTS;
+        int start = 0;
+        int colon;
+        while ((colon = className.indexOf(':', start)) >= 0) {
+            int variant = TwVariants.index(className, start, colon + 1);
+            if (variant < 0 || VARIANT_RANKS[variant] < 0) {
+                return null;
+            }
+            variants = Arrays.copyOf(variants, variants.length + 1);
+            variants[variants.length - 1] = variant;
+            start = colon + 1;
+        }
+
+        int id = TwUtilities.id(start == 0 ? className : className.substring(start));
+        return id < 0 || RULES[id] == null ? null : new Entry(className, id, variants);
+    }
+
+    private static String write(List<Entry> entries) {
+        // Base rules first, then rules with variants in variant order, like Tailwind
+        Collections.sort(entries);
+
+        StringBuilder css = new StringBuilder();
+        for (String part : PREAMBLE) {
+            css.append(part);
+        }
+        css.append("@layer utilities{");
+
+        long[] mask = new long[MASK_WORDS];
+        for (Entry entry : entries) {
+            if (!Arrays.equals(entry.mask, mask)) {
+                closeAtRules(css, mask);
+                openAtRules(css, entry.mask);
+                mask = entry.mask;
+            }
+
+            // Variants apply to the selector in the order they are written
+            String selector = "." + escape(entry.className);
+            for (int variant : entry.variants) {
+                if (VARIANT_SELECTORS[variant] != null) {
+                    selector = VARIANT_SELECTORS[variant].replace("&", selector);
+                }
+            }
+            css.append(RULES[entry.id].replace("&", selector));
+        }
+        closeAtRules(css, mask);
+
+        return css.append('}').toString();
+    }
+
+    private static void openAtRules(StringBuilder css, long[] mask) {
+        for (int rank = 0; rank < VARIANT_ORDER.length; rank++) {
+            String atRule = VARIANT_AT_RULES[VARIANT_ORDER[rank]];
+            if ((mask[rank >>> 6] & (1L << rank)) != 0 && atRule != null) {
+                css.append(atRule).append('{');
+            }
+        }
+    }
+
+    private static void closeAtRules(StringBuilder css, long[] mask) {
+        for (int rank = 0; rank < VARIANT_ORDER.length; rank++) {
+            if ((mask[rank >>> 6] & (1L << rank)) != 0 && VARIANT_AT_RULES[VARIANT_ORDER[rank]] != null) {
+                css.append('}');
+            }
+        }
+    }
+
+    private static final class Entry implements Comparable<Entry> {
+
+        final String className;
+        final int id;
+
+        /** Variant indexes, in the order they are written */
+        final int[] variants;
+
+        /** Variants by rank, compared like a number as Tailwind sorts variant rules */
+        final long[] mask = new long[MASK_WORDS];
+
+        Entry(String className, int id, int[] variants) {
+            this.className = className;
+            this.id = id;
+            this.variants = variants;
+            for (int variant : variants) {
+                int rank = VARIANT_RANKS[variant];
+                mask[rank >>> 6] |= 1L << rank;
+            }
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            for (int i = MASK_WORDS - 1; i >= 0; i--) {
+                if (mask[i] != other.mask[i]) {
+                    return Long.compareUnsigned(mask[i], other.mask[i]);
+                }
+            }
+            if (RANK[id] != RANK[other.id]) {
+                return Integer.compare(RANK[id], RANK[other.id]);
+            }
+            return className.compareTo(other.className);
+        }
+    }
+
+    private TwStylesheet() {}
+}
\ No newline at end of file
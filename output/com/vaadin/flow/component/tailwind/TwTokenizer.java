@@ -0,0 +1,225 @@
+package com.vaadin.flow.component.tailwind;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A tokenizer of class attribute values that resolves each class to its variants and utility
+ * ID in place, without splitting the value or creating substrings.
+ * <p>
+ * A tokenizer is positioned on one class at a time and reused across values, so parsing does not
+ * allocate once its variant arrays have grown to the longest stack seen (4 variants up front):
+ *
+ * <pre>{@code
+ * TwTokenizer tokens = new TwTokenizer();
+ * TwClassSet base = new TwClassSet();
+ * tokens.reset("flex items-center md:p-4 hover:bg-blue-600");
+ * while (tokens.next()) {
+ *     if (tokens.variantCount() == 0 && tokens.utilityId() >= 0) {
+ *         base.add(tokens.utilityId()); // flex, items-center
+ *     }
+ * }
+ * }</pre>
+ * <p>
+ * Classes are split on whitespace, and variants on colons outside brackets and parentheses, like
+ * {@link TW#merge(String...)}. The important modifier is recognized in front of the
+ * utility ({@code !p-4}) and after it ({@code p-4!}). Instances are mutable and not thread-safe.
+ */
+public final class TwTokenizer {
+
+    private CharSequence chars = "";
+    private int length;
+    private int position;
+
+    private int start;
+    private int end;
+    private int utilityStart;
+    private int utilityEnd;
+    private int utilityId = -1;
+    private boolean important;
+
+    /** Variant index of each variant of the current class, see {@link TwVariants} */
+    private int[] variants = new int[4];
+
+    /** End of each variant of the current class, after its colon */
+    private int[] variantEnds = new int[4];
+
+    private int variantCount;
+
+    /**
+     * Creates a tokenizer without input; call {@link #reset(CharSequence)} before {@link #next()}.
+     */
+    public TwTokenizer() {}
+
+    /**
+     * Creates a tokenizer positioned before the first class of {@code chars}.
+     */
+    public TwTokenizer(CharSequence chars) {
+        reset(chars);
+    }
+
+    /**
+     * Positions this tokenizer before the first class of {@code chars}. The characters are read
+     * as {@link #next()} advances, so they must not change in between.
+     */
+    public TwTokenizer reset(CharSequence chars) {
+        this.chars = Objects.requireNonNull(chars, "chars");
+        length = chars.length();
+        position = 0;
+        start = 0;
+        end = 0;
+        utilityStart = 0;
+        utilityEnd = 0;
+        utilityId = -1;
+        important = false;
+        variantCount = 0;
+        return this;
+    }
+
+    /**
+     * Moves to the next class, returning {@code false} if there is none.
+     */
+    public boolean next() {
+        while (position < length && Character.isWhitespace(chars.charAt(position))) {
+            position++;
+        }
+        if (position == length) {
+            start = end = utilityStart = utilityEnd = length;
+            utilityId = -1;
+            important = false;
+            variantCount = 0;
+            return false;
+        }
+
+        start = position;
+        variantCount = 0;
+        int variantStart = start;
+        int depth = 0;
+        for (; position < length; position++) {
+            char c = chars.charAt(position);
+            if (Character.isWhitespace(c)) {
+                break;
+            }
+            if (c == '[' || c == '(') {
+                depth++;
+            } else if (c == ']' || c == ')') {
+                depth--;
+            } else if (c == ':' && depth == 0) {
+                addVariant(variantStart, position + 1);
+                variantStart = position + 1;
+            }
+        }
+        end = position;
+
+        // Important modifier: "!p-4" (v3) or "p-4!" (v4)
+        utilityStart = variantStart;
+        utilityEnd = end;
+        important = false;
+        if (utilityEnd - utilityStart > 1) {
+            if (chars.charAt(utilityStart) == '!') {
+                utilityStart++;
+                important = true;
+            } else if (chars.charAt(utilityEnd - 1) == '!') {
+                utilityEnd--;
+                important = true;
+            }
+        }
+        utilityId = utilityStart < utilityEnd ? TwUtilities.id(chars, utilityStart, utilityEnd) : -1;
+        return true;
+    }
+
+    private void addVariant(int variantStart, int variantEnd) {
+        if (variantCount == variants.length) {
+            variants = Arrays.copyOf(variants, variantCount * 2);
+            variantEnds = Arrays.copyOf(variantEnds, variantCount * 2);
+        }
+        variants[variantCount] = TwVariants.index(chars, variantStart, variantEnd);
+        variantEnds[variantCount] = variantEnd;
+        variantCount++;
+    }
+
+    /** Start of the current class in the characters */
+    public int start() {
+        return start;
+    }
+
+    /** End of the current class in the characters, exclusive */
+    public int end() {
+        return end;
+    }
+
+    /** Start of the utility of the current class, after its variants and important modifier */
+    public int utilityStart() {
+        return utilityStart;
+    }
+
+    /** End of the utility of the current class, before a trailing important modifier, exclusive */
+    public int utilityEnd() {
+        return utilityEnd;
+    }
+
+    /**
+     * Utility ID of the current class without its variants, see {@link TwUtilities}, or {@code -1}
+     * if it is not a known utility, e.g. an arbitrary value or a custom class.
+     */
+    public int utilityId() {
+        return utilityId;
+    }
+
+    /**
+     * Class name of the utility of the current class, e.g. {@code "p-4"} for {@code md:p-4}, or
+     * {@code null} if it is not a known utility. Returns a shared instance.
+     */
+    public String utility() {
+        return utilityId < 0 ? null : TwUtilities.className(utilityId);
+    }
+
+    /** Whether the current class has the important modifier */
+    public boolean important() {
+        return important;
+    }
+
+    /** Number of variants of the current class, e.g. 2 for {@code dark:md:p-4} */
+    public int variantCount() {
+        return variantCount;
+    }
+
+    /**
+     * Returns the variant at {@code index} of the current class, or {@code null} if it is not a
+     * precomputed variant, e.g. an arbitrary one such as {@code data-[state=open]:}.
+     *
+     * @throws IndexOutOfBoundsException if the index is not in {@code [0, variantCount())}
+     */
+    public TwVariant variant(int index) {
+        int variant = variants[Objects.checkIndex(index, variantCount)];
+        return variant < 0 ? null : TwVariant.byIndex(variant);
+    }
+
+    /**
+     * Start of the variant at {@code index} of the current class in the characters.
+     *
+     * @throws IndexOutOfBoundsException if the index is not in {@code [0, variantCount())}
+     */
+    public int variantStart(int index) {
+        Objects.checkIndex(index, variantCount);
+        return index == 0 ? start : variantEnds[index - 1];
+    }
+
+    /**
+     * End of the variant at {@code index} of the current class in the characters, after its colon,
+     * exclusive.
+     *
+     * @throws IndexOutOfBoundsException if the index is not in {@code [0, variantCount())}
+     */
+    public int variantEnd(int index) {
+        return variantEnds[Objects.checkIndex(index, variantCount)];
+    }
+
+    /**
+     * Returns the current class as a new String, e.g. for error messages. Unlike the other
+     * accessors, this allocates.
+     */
+    public String token() {
+        return chars.subSequence(start, end).toString();
+    }
+}
\ No newline at end of file
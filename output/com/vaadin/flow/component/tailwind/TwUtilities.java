@@ -0,0 +1,1601 @@
+package com.vaadin.flow.component.tailwind;
+
+/**
+ * All Tailwind CSS utility class names known to {@link TW}.
+ * <p>
+ * Every utility has a dense integer ID in the range {@code [0, COUNT)}. IDs follow the
+ * sorted order of the class names and are stable for a given set of utilities, which
+ * allows per-utility data to be kept in plain arrays and sets of utilities in bitsets
+ * (see {@link TwClassSet}).
+ * <p>
+ * Class names, including ranges of other character sequences, are resolved to IDs with a
+ * minimal perfect hash computed by the generator: one pass over the characters, two table reads
+ * and one comparison, without boxing or allocating.
+ */
+public final class TwUtilities {
+
+    /** Number of known utilities */
+    public static final int COUNT = 1414;
+
+    /** Utility class names, indexed by utility ID */
+    static final String[] NAMES = {
+        "-bottom-1",
+        "-inset-0",
+        "-inset-1",
+        "-inset-2",
+        "-left-1",
+        "-m-0",
+        "-m-1",
+        "-m-2",
+        "-m-4",
+        "-mb-1",
+        "-ml-1",
+        "-ml-4",
+        "-mr-1",
+        "-mt-1",
+        "-mx-1",
+        "-my-1",
+        "-right-1",
+        "-rotate-1",
+        "-rotate-180",
+        "-rotate-45",
+        "-rotate-90",
+        "-top-1",
+        "-translate-x-1",
+        "-translate-y-1",
+        "absolute",
+        "accent-auto",
+        "accent-black",
+        "accent-blue-500",
+        "accent-current",
+        "accent-inherit",
+        "accent-red-500",
+        "accent-slate-500",
+        "accent-transparent",
+        "accent-white",
+        "align-baseline",
+        "align-bottom",
+        "align-middle",
+        "align-sub",
+        "align-super",
+        "align-text-bottom",
+        "align-text-top",
+        "align-top",
+        "animate-bounce",
+        "animate-none",
+        "animate-ping",
+        "animate-pulse",
+        "animate-spin",
+        "appearance-auto",
+        "appearance-none",
+        "aspect-auto",
+        "aspect-square",
+        "aspect-video",
+        "auto-cols-auto",
+        "auto-cols-fr",
+        "auto-cols-max",
+        "auto-cols-min",
+        "auto-rows-auto",
+        "auto-rows-fr",
+        "auto-rows-max",
+        "auto-rows-min",
+        "backdrop-blur",
+        "backdrop-blur-none",
+        "backdrop-blur-sm",
+        "basis-0",
+        "basis-1",
+        "basis-2",
+        "basis-4",
+        "basis-8",
+        "basis-auto",
+        "basis-full",
+        "bg-auto",
+        "bg-black",
+        "bg-blend-darken",
+        "bg-blend-lighten",
+        "bg-blend-multiply",
+        "bg-blend-normal",
+        "bg-blend-overlay",
+        "bg-blend-screen",
+        "bg-blue-100",
+        "bg-blue-50",
+        "bg-blue-500",
+        "bg-blue-600",
+        "bg-blue-700",
+        "bg-blue-950",
+        "bg-bottom",
+        "bg-center",
+        "bg-clip-border",
+        "bg-clip-content",
+        "bg-clip-padding",
+        "bg-clip-text",
+        "bg-contain",
+        "bg-cover",
+        "bg-current",
+        "bg-fixed",
+        "bg-gray-100",
+        "bg-gray-200",
+        "bg-gray-300",
+        "bg-gray-400",
+        "bg-gray-50",
+        "bg-gray-500",
+        "bg-gray-600",
+        "bg-gray-700",
+        "bg-gray-800",
+        "bg-gray-900",
+        "bg-gray-950",
+        "bg-green-50",
+        "bg-green-500",
+        "bg-green-950",
+        "bg-inherit",
+        "bg-left",
+        "bg-left-bottom",
+        "bg-left-top",
+        "bg-local",
+        "bg-no-repeat",
+        "bg-orange-50",
+        "bg-orange-500",
+        "bg-orange-950",
+        "bg-origin-border",
+        "bg-origin-content",
+        "bg-origin-padding",
+        "bg-red-100",
+        "bg-red-50",
+        "bg-red-500",
+        "bg-red-950",
+        "bg-repeat",
+        "bg-repeat-round",
+        "bg-repeat-space",
+        "bg-repeat-x",
+        "bg-repeat-y",
+        "bg-right",
+        "bg-right-bottom",
+        "bg-right-top",
+        "bg-scroll",
+        "bg-slate-100",
+        "bg-slate-50",
+        "bg-slate-500",
+        "bg-slate-950",
+        "bg-top",
+        "bg-transparent",
+        "bg-white",
+        "bg-zinc-50",
+        "bg-zinc-500",
+        "bg-zinc-950",
+        "block",
+        "blur",
+        "blur-2xl",
+        "blur-3xl",
+        "blur-lg",
+        "blur-md",
+        "blur-none",
+        "blur-sm",
+        "blur-xl",
+        "border",
+        "border-0",
+        "border-2",
+        "border-4",
+        "border-8",
+        "border-b-0",
+        "border-black",
+        "border-blue-50",
+        "border-blue-500",
+        "border-blue-950",
+        "border-collapse",
+        "border-current",
+        "border-dashed",
+        "border-dotted",
+        "border-double",
+        "border-e-0",
+        "border-gray-100",
+        "border-gray-50",
+        "border-gray-500",
+        "border-gray-950",
+        "border-hidden",
+        "border-inherit",
+        "border-l-0",
+        "border-none",
+        "border-r-0",
+        "border-red-50",
+        "border-red-500",
+        "border-red-950",
+        "border-s-0",
+        "border-separate",
+        "border-slate-50",
+        "border-slate-500",
+        "border-slate-950",
+        "border-solid",
+        "border-spacing-0",
+        "border-spacing-1",
+        "border-spacing-2",
+        "border-spacing-x-0",
+        "border-spacing-y-0",
+        "border-t-0",
+        "border-t-2",
+        "border-transparent",
+        "border-white",
+        "border-x-0",
+        "border-x-2",
+        "border-y-0",
+        "border-y-2",
+        "bottom-0",
+        "box-border",
+        "box-content",
+        "box-decoration-clone",
+        "box-decoration-slice",
+        "break-after-all",
+        "break-after-auto",
+        "break-after-avoid",
+        "break-after-avoid-page",
+        "break-after-column",
+        "break-after-left",
+        "break-after-page",
+        "break-after-right",
+        "break-all",
+        "break-before-all",
+        "break-before-auto",
+        "break-before-avoid",
+        "break-before-avoid-page",
+        "break-before-column",
+        "break-before-left",
+        "break-before-page",
+        "break-before-right",
+        "break-inside-auto",
+        "break-inside-avoid",
+        "break-inside-avoid-column",
+        "break-inside-avoid-page",
+        "break-keep",
+        "break-normal",
+        "break-words",
+        "brightness-0",
+        "brightness-100",
+        "brightness-105",
+        "brightness-110",
+        "brightness-125",
+        "brightness-150",
+        "brightness-200",
+        "brightness-50",
+        "brightness-75",
+        "brightness-90",
+        "brightness-95",
+        "capitalize",
+        "caption-bottom",
+        "caption-top",
+        "caret-black",
+        "caret-blue-500",
+        "caret-current",
+        "caret-inherit",
+        "caret-red-500",
+        "caret-slate-500",
+        "caret-transparent",
+        "caret-white",
+        "clear-both",
+        "clear-end",
+        "clear-left",
+        "clear-none",
+        "clear-right",
+        "clear-start",
+        "col-auto",
+        "col-end-1",
+        "col-end-auto",
+        "col-span-1",
+        "col-span-10",
+        "col-span-11",
+        "col-span-12",
+        "col-span-2",
+        "col-span-3",
+        "col-span-4",
+        "col-span-5",
+        "col-span-6",
+        "col-span-7",
+        "col-span-8",
+        "col-span-9",
+        "col-span-full",
+        "col-start-1",
+        "col-start-2",
+        "col-start-auto",
+        "collapse",
+        "columns-1",
+        "columns-10",
+        "columns-11",
+        "columns-12",
+        "columns-2",
+        "columns-2xl",
+        "columns-2xs",
+        "columns-3",
+        "columns-3xl",
+        "columns-3xs",
+        "columns-4",
+        "columns-4xl",
+        "columns-5",
+        "columns-5xl",
+        "columns-6",
+        "columns-6xl",
+        "columns-7",
+        "columns-7xl",
+        "columns-8",
+        "columns-9",
+        "columns-auto",
+        "columns-lg",
+        "columns-md",
+        "columns-sm",
+        "columns-xl",
+        "columns-xs",
+        "container",
+        "content-around",
+        "content-baseline",
+        "content-between",
+        "content-center",
+        "content-end",
+        "content-evenly",
+        "content-none",
+        "content-start",
+        "content-stretch",
+        "contents",
+        "contrast-0",
+        "contrast-100",
+        "contrast-125",
+        "contrast-150",
+        "contrast-200",
+        "contrast-50",
+        "contrast-75",
+        "cursor-alias",
+        "cursor-all-scroll",
+        "cursor-auto",
+        "cursor-cell",
+        "cursor-col-resize",
+        "cursor-context-menu",
+        "cursor-copy",
+        "cursor-crosshair",
+        "cursor-default",
+        "cursor-e-resize",
+        "cursor-ew-resize",
+        "cursor-grab",
+        "cursor-grabbing",
+        "cursor-help",
+        "cursor-move",
+        "cursor-n-resize",
+        "cursor-ne-resize",
+        "cursor-nesw-resize",
+        "cursor-no-drop",
+        "cursor-none",
+        "cursor-not-allowed",
+        "cursor-ns-resize",
+        "cursor-nw-resize",
+        "cursor-nwse-resize",
+        "cursor-pointer",
+        "cursor-progress",
+        "cursor-row-resize",
+        "cursor-s-resize",
+        "cursor-se-resize",
+        "cursor-sw-resize",
+        "cursor-text",
+        "cursor-vertical-text",
+        "cursor-w-resize",
+        "cursor-wait",
+        "cursor-zoom-in",
+        "cursor-zoom-out",
+        "decoration-0",
+        "decoration-1",
+        "decoration-2",
+        "decoration-4",
+        "decoration-8",
+        "decoration-auto",
+        "decoration-blue-500",
+        "decoration-dashed",
+        "decoration-dotted",
+        "decoration-double",
+        "decoration-from-font",
+        "decoration-gray-500",
+        "decoration-red-500",
+        "decoration-slate-500",
+        "decoration-solid",
+        "decoration-wavy",
+        "delay-0",
+        "delay-100",
+        "delay-1000",
+        "delay-150",
+        "delay-200",
+        "delay-300",
+        "delay-500",
+        "delay-700",
+        "delay-75",
+        "diagonal-fractions",
+        "divide-blue-500",
+        "divide-dashed",
+        "divide-dotted",
+        "divide-double",
+        "divide-gray-500",
+        "divide-none",
+        "divide-red-500",
+        "divide-solid",
+        "divide-x-0",
+        "divide-x-2",
+        "divide-x-reverse",
+        "divide-y-0",
+        "divide-y-2",
+        "divide-y-reverse",
+        "drop-shadow",
+        "drop-shadow-2xl",
+        "drop-shadow-lg",
+        "drop-shadow-md",
+        "drop-shadow-none",
+        "drop-shadow-sm",
+        "drop-shadow-xl",
+        "duration-0",
+        "duration-100",
+        "duration-1000",
+        "duration-150",
+        "duration-200",
+        "duration-300",
+        "duration-500",
+        "duration-700",
+        "duration-75",
+        "ease-in",
+        "ease-in-out",
+        "ease-linear",
+        "ease-out",
+        "fill-black",
+        "fill-blue-500",
+        "fill-current",
+        "fill-inherit",
+        "fill-none",
+        "fill-red-500",
+        "fill-slate-500",
+        "fill-transparent",
+        "fill-white",
+        "fixed",
+        "flex",
+        "flex-1",
+        "flex-auto",
+        "flex-col",
+        "flex-col-reverse",
+        "flex-grow",
+        "flex-grow-0",
+        "flex-initial",
+        "flex-none",
+        "flex-nowrap",
+        "flex-row",
+        "flex-row-reverse",
+        "flex-shrink",
+        "flex-shrink-0",
+        "flex-wrap",
+        "flex-wrap-reverse",
+        "float-end",
+        "float-left",
+        "float-none",
+        "float-right",
+        "float-start",
+        "flow-root",
+        "font-black",
+        "font-bold",
+        "font-extrabold",
+        "font-extralight",
+        "font-light",
+        "font-medium",
+        "font-mono",
+        "font-normal",
+        "font-sans",
+        "font-semibold",
+        "font-serif",
+        "font-thin",
+        "forced-color-adjust-auto",
+        "forced-color-adjust-none",
+        "gap-0",
+        "gap-0.5",
+        "gap-1",
+        "gap-1.5",
+        "gap-10",
+        "gap-11",
+        "gap-12",
+        "gap-14",
+        "gap-16",
+        "gap-2",
+        "gap-2.5",
+        "gap-20",
+        "gap-24",
+        "gap-28",
+        "gap-3",
+        "gap-3.5",
+        "gap-32",
+        "gap-36",
+        "gap-4",
+        "gap-40",
+        "gap-44",
+        "gap-48",
+        "gap-5",
+        "gap-52",
+        "gap-56",
+        "gap-6",
+        "gap-60",
+        "gap-64",
+        "gap-7",
+        "gap-72",
+        "gap-8",
+        "gap-80",
+        "gap-9",
+        "gap-96",
+        "gap-px",
+        "gap-x-0",
+        "gap-x-1",
+        "gap-x-2",
+        "gap-x-4",
+        "gap-y-0",
+        "gap-y-1",
+        "gap-y-2",
+        "gap-y-4",
+        "grayscale",
+        "grayscale-0",
+        "grid",
+        "grid-cols-1",
+        "grid-cols-10",
+        "grid-cols-11",
+        "grid-cols-12",
+        "grid-cols-2",
+        "grid-cols-3",
+        "grid-cols-4",
+        "grid-cols-5",
+        "grid-cols-6",
+        "grid-cols-7",
+        "grid-cols-8",
+        "grid-cols-9",
+        "grid-cols-none",
+        "grid-cols-subgrid",
+        "grid-flow-col",
+        "grid-flow-col-dense",
+        "grid-flow-dense",
+        "grid-flow-row",
+        "grid-flow-row-dense",
+        "grid-rows-1",
+        "grid-rows-10",
+        "grid-rows-11",
+        "grid-rows-12",
+        "grid-rows-2",
+        "grid-rows-3",
+        "grid-rows-4",
+        "grid-rows-5",
+        "grid-rows-6",
+        "grid-rows-7",
+        "grid-rows-8",
+        "grid-rows-9",
+        "grid-rows-none",
+        "grid-rows-subgrid",
+        "h-0",
+        "h-0.5",
+        "h-1",
+        "h-1/2",
+        "h-1/3",
+        "h-1/4",
+        "h-1/5",
+        "h-1/6",
+        "h-10",
+        "h-12",
+        "h-16",
+        "h-2",
+        "h-2/3",
+        "h-20",
+        "h-24",
+        "h-3",
+        "h-3/4",
+        "h-32",
+        "h-4",
+        "h-40",
+        "h-48",
+        "h-5",
+        "h-56",
+        "h-6",
+        "h-64",
+        "h-72",
+        "h-8",
+        "h-80",
+        "h-96",
+        "h-auto",
+        "h-fit",
+        "h-full",
+        "h-max",
+        "h-min",
+        "h-px",
+        "h-screen",
+        "hidden",
+        "hue-rotate-0",
+        "hue-rotate-15",
+        "hue-rotate-180",
+        "hue-rotate-30",
+        "hue-rotate-60",
+        "hue-rotate-90",
+        "hyphens-auto",
+        "hyphens-manual",
+        "hyphens-none",
+        "indent-0",
+        "indent-1",
+        "indent-2",
+        "indent-4",
+        "indent-8",
+        "inline",
+        "inline-block",
+        "inline-flex",
+        "inline-grid",
+        "inline-table",
+        "inset-0",
+        "inset-0.5",
+        "inset-1",
+        "inset-1.5",
+        "inset-10",
+        "inset-11",
+        "inset-12",
+        "inset-14",
+        "inset-16",
+        "inset-2",
+        "inset-2.5",
+        "inset-20",
+        "inset-24",
+        "inset-28",
+        "inset-3",
+        "inset-3.5",
+        "inset-32",
+        "inset-36",
+        "inset-4",
+        "inset-40",
+        "inset-44",
+        "inset-48",
+        "inset-5",
+        "inset-52",
+        "inset-56",
+        "inset-6",
+        "inset-60",
+        "inset-64",
+        "inset-7",
+        "inset-72",
+        "inset-8",
+        "inset-80",
+        "inset-9",
+        "inset-96",
+        "inset-px",
+        "inset-x-0",
+        "inset-y-0",
+        "invert",
+        "invert-0",
+        "invisible",
+        "isolate",
+        "isolation-auto",
+        "italic",
+        "items-baseline",
+        "items-center",
+        "items-end",
+        "items-start",
+        "items-stretch",
+        "justify-around",
+        "justify-between",
+        "justify-center",
+        "justify-end",
+        "justify-evenly",
+        "justify-items-center",
+        "justify-items-end",
+        "justify-items-start",
+        "justify-items-stretch",
+        "justify-self-auto",
+        "justify-self-center",
+        "justify-self-end",
+        "justify-self-start",
+        "justify-self-stretch",
+        "justify-start",
+        "justify-stretch",
+        "leading-10",
+        "leading-3",
+        "leading-4",
+        "leading-5",
+        "leading-6",
+        "leading-7",
+        "leading-8",
+        "leading-9",
+        "leading-loose",
+        "leading-none",
+        "leading-normal",
+        "leading-relaxed",
+        "leading-snug",
+        "leading-tight",
+        "left-0",
+        "left-4",
+        "line-through",
+        "lining-nums",
+        "list-decimal",
+        "list-disc",
+        "list-inside",
+        "list-item",
+        "list-none",
+        "list-outside",
+        "lowercase",
+        "m-0",
+        "m-0.5",
+        "m-1",
+        "m-1.5",
+        "m-10",
+        "m-11",
+        "m-12",
+        "m-14",
+        "m-16",
+        "m-2",
+        "m-2.5",
+        "m-20",
+        "m-24",
+        "m-28",
+        "m-3",
+        "m-3.5",
+        "m-32",
+        "m-36",
+        "m-4",
+        "m-40",
+        "m-44",
+        "m-48",
+        "m-5",
+        "m-52",
+        "m-56",
+        "m-6",
+        "m-60",
+        "m-64",
+        "m-7",
+        "m-72",
+        "m-8",
+        "m-80",
+        "m-9",
+        "m-96",
+        "m-auto",
+        "m-px",
+        "max-h-0",
+        "max-h-fit",
+        "max-h-full",
+        "max-h-max",
+        "max-h-min",
+        "max-h-screen",
+        "max-w-0",
+        "max-w-2xl",
+        "max-w-3xl",
+        "max-w-4xl",
+        "max-w-5xl",
+        "max-w-6xl",
+        "max-w-7xl",
+        "max-w-fit",
+        "max-w-full",
+        "max-w-lg",
+        "max-w-max",
+        "max-w-md",
+        "max-w-min",
+        "max-w-none",
+        "max-w-prose",
+        "max-w-screen-2xl",
+        "max-w-screen-lg",
+        "max-w-screen-md",
+        "max-w-screen-sm",
+        "max-w-screen-xl",
+        "max-w-sm",
+        "max-w-xl",
+        "max-w-xs",
+        "mb-0",
+        "mb-1",
+        "mb-2",
+        "min-h-0",
+        "min-h-fit",
+        "min-h-full",
+        "min-h-max",
+        "min-h-min",
+        "min-h-screen",
+        "min-w-0",
+        "min-w-fit",
+        "min-w-full",
+        "min-w-max",
+        "min-w-min",
+        "mix-blend-color",
+        "mix-blend-color-burn",
+        "mix-blend-color-dodge",
+        "mix-blend-darken",
+        "mix-blend-difference",
+        "mix-blend-exclusion",
+        "mix-blend-hard-light",
+        "mix-blend-hue",
+        "mix-blend-lighten",
+        "mix-blend-luminosity",
+        "mix-blend-multiply",
+        "mix-blend-normal",
+        "mix-blend-overlay",
+        "mix-blend-plus-darker",
+        "mix-blend-plus-lighter",
+        "mix-blend-saturation",
+        "mix-blend-screen",
+        "mix-blend-soft-light",
+        "ml-0",
+        "ml-1",
+        "ml-2",
+        "ml-4",
+        "mr-0",
+        "mr-1",
+        "mr-2",
+        "mt-0",
+        "mt-1",
+        "mt-2",
+        "mt-4",
+        "mx-0",
+        "mx-1",
+        "mx-2",
+        "mx-4",
+        "mx-auto",
+        "my-0",
+        "my-1",
+        "my-2",
+        "my-auto",
+        "no-underline",
+        "normal-case",
+        "normal-nums",
+        "not-italic",
+        "not-sr-only",
+        "object-bottom",
+        "object-center",
+        "object-contain",
+        "object-cover",
+        "object-fill",
+        "object-left",
+        "object-left-bottom",
+        "object-left-top",
+        "object-none",
+        "object-right",
+        "object-right-bottom",
+        "object-right-top",
+        "object-scale-down",
+        "object-top",
+        "oldstyle-nums",
+        "opacity-0",
+        "opacity-10",
+        "opacity-100",
+        "opacity-15",
+        "opacity-20",
+        "opacity-25",
+        "opacity-30",
+        "opacity-40",
+        "opacity-5",
+        "opacity-50",
+        "opacity-60",
+        "opacity-70",
+        "opacity-75",
+        "opacity-80",
+        "opacity-90",
+        "opacity-95",
+        "order-1",
+        "order-10",
+        "order-11",
+        "order-12",
+        "order-2",
+        "order-3",
+        "order-4",
+        "order-5",
+        "order-6",
+        "order-7",
+        "order-8",
+        "order-9",
+        "order-first",
+        "order-last",
+        "order-none",
+        "ordinal",
+        "origin-bottom",
+        "origin-bottom-left",
+        "origin-bottom-right",
+        "origin-center",
+        "origin-left",
+        "origin-right",
+        "origin-top",
+        "origin-top-left",
+        "origin-top-right",
+        "outline",
+        "outline-0",
+        "outline-1",
+        "outline-2",
+        "outline-4",
+        "outline-8",
+        "outline-black",
+        "outline-blue-500",
+        "outline-dashed",
+        "outline-dotted",
+        "outline-double",
+        "outline-gray-500",
+        "outline-none",
+        "outline-offset-0",
+        "outline-offset-1",
+        "outline-offset-2",
+        "outline-offset-4",
+        "outline-offset-8",
+        "outline-red-500",
+        "outline-slate-500",
+        "outline-white",
+        "overflow-auto",
+        "overflow-clip",
+        "overflow-hidden",
+        "overflow-scroll",
+        "overflow-visible",
+        "overflow-x-auto",
+        "overflow-x-clip",
+        "overflow-x-hidden",
+        "overflow-x-scroll",
+        "overflow-x-visible",
+        "overflow-y-auto",
+        "overflow-y-clip",
+        "overflow-y-hidden",
+        "overflow-y-scroll",
+        "overflow-y-visible",
+        "overline",
+        "overscroll-auto",
+        "overscroll-contain",
+        "overscroll-none",
+        "overscroll-x-auto",
+        "overscroll-x-contain",
+        "overscroll-x-none",
+        "overscroll-y-auto",
+        "overscroll-y-contain",
+        "overscroll-y-none",
+        "p-0",
+        "p-0.5",
+        "p-1",
+        "p-1.5",
+        "p-10",
+        "p-11",
+        "p-12",
+        "p-14",
+        "p-16",
+        "p-2",
+        "p-2.5",
+        "p-20",
+        "p-24",
+        "p-28",
+        "p-3",
+        "p-3.5",
+        "p-32",
+        "p-36",
+        "p-4",
+        "p-40",
+        "p-44",
+        "p-48",
+        "p-5",
+        "p-52",
+        "p-56",
+        "p-6",
+        "p-60",
+        "p-64",
+        "p-7",
+        "p-72",
+        "p-8",
+        "p-80",
+        "p-9",
+        "p-96",
+        "p-px",
+        "pb-0",
+        "pb-1",
+        "pb-2",
+        "pe-0",
+        "pe-1",
+        "pe-2",
+        "pl-0",
+        "pl-1",
+        "pl-2",
+        "pl-4",
+        "place-content-around",
+        "place-content-baseline",
+        "place-content-between",
+        "place-content-center",
+        "place-content-end",
+        "place-content-evenly",
+        "place-content-start",
+        "place-content-stretch",
+        "place-items-baseline",
+        "place-items-center",
+        "place-items-end",
+        "place-items-start",
+        "place-items-stretch",
+        "place-self-auto",
+        "place-self-center",
+        "place-self-end",
+        "place-self-start",
+        "place-self-stretch",
+        "pointer-events-auto",
+        "pointer-events-none",
+        "pr-0",
+        "pr-1",
+        "pr-2",
+        "proportional-nums",
+        "ps-0",
+        "ps-1",
+        "ps-2",
+        "pt-0",
+        "pt-1",
+        "pt-2",
+        "pt-4",
+        "px-0",
+        "px-1",
+        "px-2",
+        "px-4",
+        "px-6",
+        "px-8",
+        "py-0",
+        "py-1",
+        "py-2",
+        "py-4",
+        "relative",
+        "resize",
+        "resize-none",
+        "resize-x",
+        "resize-y",
+        "right-0",
+        "ring",
+        "ring-0",
+        "ring-1",
+        "ring-2",
+        "ring-4",
+        "ring-8",
+        "ring-blue-500",
+        "ring-gray-500",
+        "ring-inset",
+        "ring-offset-0",
+        "ring-offset-1",
+        "ring-offset-2",
+        "ring-offset-4",
+        "ring-offset-8",
+        "ring-offset-black",
+        "ring-offset-gray-500",
+        "ring-offset-white",
+        "ring-red-500",
+        "ring-slate-500",
+        "rotate-0",
+        "rotate-1",
+        "rotate-12",
+        "rotate-180",
+        "rotate-2",
+        "rotate-3",
+        "rotate-45",
+        "rotate-6",
+        "rotate-90",
+        "rounded",
+        "rounded-2xl",
+        "rounded-3xl",
+        "rounded-b-none",
+        "rounded-bl-none",
+        "rounded-br-none",
+        "rounded-ee-none",
+        "rounded-es-none",
+        "rounded-full",
+        "rounded-l-none",
+        "rounded-lg",
+        "rounded-md",
+        "rounded-none",
+        "rounded-r-none",
+        "rounded-se-none",
+        "rounded-sm",
+        "rounded-ss-none",
+        "rounded-t",
+        "rounded-t-none",
+        "rounded-t-sm",
+        "rounded-tl-none",
+        "rounded-tr-none",
+        "rounded-xl",
+        "row-auto",
+        "row-end-1",
+        "row-span-1",
+        "row-span-2",
+        "row-span-3",
+        "row-span-full",
+        "row-start-1",
+        "saturate-0",
+        "saturate-100",
+        "saturate-150",
+        "saturate-200",
+        "saturate-50",
+        "scale-0",
+        "scale-100",
+        "scale-105",
+        "scale-110",
+        "scale-125",
+        "scale-150",
+        "scale-50",
+        "scale-75",
+        "scale-90",
+        "scale-95",
+        "scale-x-0",
+        "scale-x-100",
+        "scale-x-50",
+        "scale-y-0",
+        "scale-y-100",
+        "scale-y-50",
+        "scroll-auto",
+        "scroll-m-0",
+        "scroll-m-1",
+        "scroll-m-2",
+        "scroll-mb-0",
+        "scroll-ml-0",
+        "scroll-mr-0",
+        "scroll-mt-0",
+        "scroll-mx-0",
+        "scroll-my-0",
+        "scroll-p-0",
+        "scroll-p-1",
+        "scroll-p-2",
+        "scroll-pb-0",
+        "scroll-pl-0",
+        "scroll-pr-0",
+        "scroll-pt-0",
+        "scroll-px-0",
+        "scroll-py-0",
+        "scroll-smooth",
+        "select-all",
+        "select-auto",
+        "select-none",
+        "select-text",
+        "self-auto",
+        "self-baseline",
+        "self-center",
+        "self-end",
+        "self-start",
+        "self-stretch",
+        "sepia",
+        "sepia-0",
+        "shadow",
+        "shadow-2xl",
+        "shadow-blue-500",
+        "shadow-gray-500",
+        "shadow-inner",
+        "shadow-lg",
+        "shadow-md",
+        "shadow-none",
+        "shadow-red-500",
+        "shadow-slate-500",
+        "shadow-sm",
+        "shadow-xl",
+        "size-0",
+        "size-1",
+        "size-2",
+        "size-4",
+        "size-8",
+        "size-auto",
+        "size-full",
+        "skew-x-0",
+        "skew-x-1",
+        "skew-x-12",
+        "skew-x-2",
+        "skew-x-3",
+        "skew-x-6",
+        "skew-y-0",
+        "skew-y-1",
+        "slashed-zero",
+        "snap-align-none",
+        "snap-always",
+        "snap-both",
+        "snap-center",
+        "snap-end",
+        "snap-mandatory",
+        "snap-none",
+        "snap-normal",
+        "snap-proximity",
+        "snap-start",
+        "snap-x",
+        "snap-y",
+        "space-x-0",
+        "space-x-1",
+        "space-x-2",
+        "space-x-4",
+        "space-x-reverse",
+        "space-y-0",
+        "space-y-1",
+        "space-y-2",
+        "space-y-4",
+        "space-y-reverse",
+        "sr-only",
+        "stacked-fractions",
+        "static",
+        "sticky",
+        "stroke-0",
+        "stroke-1",
+        "stroke-2",
+        "stroke-black",
+        "stroke-blue-500",
+        "stroke-current",
+        "stroke-inherit",
+        "stroke-none",
+        "stroke-red-500",
+        "stroke-slate-500",
+        "stroke-transparent",
+        "stroke-white",
+        "table",
+        "table-auto",
+        "table-caption",
+        "table-cell",
+        "table-column",
+        "table-column-group",
+        "table-fixed",
+        "table-footer-group",
+        "table-header-group",
+        "table-row",
+        "table-row-group",
+        "tabular-nums",
+        "text-2xl",
+        "text-3xl",
+        "text-4xl",
+        "text-5xl",
+        "text-6xl",
+        "text-7xl",
+        "text-8xl",
+        "text-9xl",
+        "text-amber-50",
+        "text-amber-500",
+        "text-amber-950",
+        "text-balance",
+        "text-base",
+        "text-black",
+        "text-blue-100",
+        "text-blue-50",
+        "text-blue-500",
+        "text-blue-950",
+        "text-center",
+        "text-clip",
+        "text-current",
+        "text-cyan-50",
+        "text-cyan-500",
+        "text-cyan-950",
+        "text-ellipsis",
+        "text-emerald-50",
+        "text-emerald-500",
+        "text-emerald-950",
+        "text-end",
+        "text-fuchsia-50",
+        "text-fuchsia-500",
+        "text-fuchsia-950",
+        "text-gray-100",
+        "text-gray-200",
+        "text-gray-300",
+        "text-gray-400",
+        "text-gray-50",
+        "text-gray-500",
+        "text-gray-600",
+        "text-gray-700",
+        "text-gray-800",
+        "text-gray-900",
+        "text-gray-950",
+        "text-green-50",
+        "text-green-500",
+        "text-green-950",
+        "text-indigo-50",
+        "text-indigo-500",
+        "text-indigo-950",
+        "text-inherit",
+        "text-justify",
+        "text-left",
+        "text-lg",
+        "text-lime-50",
+        "text-lime-500",
+        "text-lime-950",
+        "text-neutral-50",
+        "text-neutral-500",
+        "text-neutral-950",
+        "text-nowrap",
+        "text-orange-50",
+        "text-orange-500",
+        "text-orange-950",
+        "text-pink-50",
+        "text-pink-500",
+        "text-pink-950",
+        "text-pretty",
+        "text-purple-50",
+        "text-purple-500",
+        "text-purple-950",
+        "text-red-100",
+        "text-red-200",
+        "text-red-300",
+        "text-red-400",
+        "text-red-50",
+        "text-red-500",
+        "text-red-600",
+        "text-red-700",
+        "text-red-800",
+        "text-red-900",
+        "text-red-950",
+        "text-right",
+        "text-rose-50",
+        "text-rose-500",
+        "text-rose-950",
+        "text-sky-50",
+        "text-sky-500",
+        "text-sky-950",
+        "text-slate-100",
+        "text-slate-200",
+        "text-slate-300",
+        "text-slate-400",
+        "text-slate-50",
+        "text-slate-500",
+        "text-slate-600",
+        "text-slate-700",
+        "text-slate-800",
+        "text-slate-900",
+        "text-slate-950",
+        "text-sm",
+        "text-start",
+        "text-stone-50",
+        "text-stone-500",
+        "text-stone-950",
+        "text-teal-50",
+        "text-teal-500",
+        "text-teal-950",
+        "text-transparent",
+        "text-violet-50",
+        "text-violet-500",
+        "text-violet-950",
+        "text-white",
+        "text-wrap",
+        "text-xl",
+        "text-xs",
+        "text-yellow-50",
+        "text-yellow-500",
+        "text-yellow-950",
+        "text-zinc-100",
+        "text-zinc-50",
+        "text-zinc-500",
+        "text-zinc-950",
+        "top-0",
+        "top-0.5",
+        "top-1",
+        "top-16",
+        "top-2",
+        "top-4",
+        "top-8",
+        "top-auto",
+        "top-px",
+        "touch-auto",
+        "touch-manipulation",
+        "touch-none",
+        "touch-pan-down",
+        "touch-pan-left",
+        "touch-pan-right",
+        "touch-pan-up",
+        "touch-pan-x",
+        "touch-pan-y",
+        "touch-pinch-zoom",
+        "transform",
+        "transition",
+        "transition-all",
+        "transition-colors",
+        "transition-none",
+        "transition-opacity",
+        "transition-shadow",
+        "transition-transform",
+        "translate-x-0",
+        "translate-x-1",
+        "translate-x-2",
+        "translate-y-0",
+        "translate-y-1",
+        "translate-y-2",
+        "truncate",
+        "underline",
+        "underline-offset-0",
+        "underline-offset-1",
+        "underline-offset-2",
+        "underline-offset-4",
+        "underline-offset-8",
+        "underline-offset-auto",
+        "uppercase",
+        "visible",
+        "w-0",
+        "w-0.5",
+        "w-1",
+        "w-1/12",
+        "w-1/2",
+        "w-1/3",
+        "w-1/4",
+        "w-1/5",
+        "w-1/6",
+        "w-10",
+        "w-12",
+        "w-16",
+        "w-2",
+        "w-2/3",
+        "w-2/4",
+        "w-2/5",
+        "w-20",
+        "w-24",
+        "w-3",
+        "w-3/4",
+        "w-3/5",
+        "w-32",
+        "w-4",
+        "w-4/5",
+        "w-40",
+        "w-48",
+        "w-5",
+        "w-56",
+        "w-6",
+        "w-64",
+        "w-72",
+        "w-8",
+        "w-80",
+        "w-96",
+        "w-auto",
+        "w-fit",
+        "w-full",
+        "w-max",
+        "w-min",
+        "w-px",
+        "w-screen",
+        "whitespace-break-spaces",
+        "whitespace-normal",
+        "whitespace-nowrap",
+        "whitespace-pre",
+        "whitespace-pre-line",
+        "whitespace-pre-wrap",
+        "will-change-auto",
+        "will-change-contents",
+        "will-change-scroll",
+        "will-change-transform",
+        "z-0",
+        "z-10",
+        "z-20",
+        "z-30",
+        "z-40",
+        "z-50",
+        "z-auto"
+    };
+
+    /** Perfect hash seed of each bucket */
+    private static final int[] SEEDS = {
+        11, 25, 135, 0, 1, 23, 454, 43, 28, 21, 2, 2, 25, 4, 1, 9, 7, 4, 57, 74,
+        24, 95, 27, 62, 17, 2, 12, 1, 1, 61, 383, 197, 31, 1, 88, 29, 1, 5, 3, 73,
+        66, 162, 20, 33, 116, 192, 10, 14, 6, 200, 1, 27, 3, 58, 1, 29, 4, 178, 42, 2,
+        281, 7, 10, 6, 157, 28, 25, 167, 54, 1, 4, 16, 49, 8, 14, 1, 5, 4, 57, 471,
+        48, 13, 2, 1, 45, 44, 113, 25, 3, 275, 3, 5, 42, 2, 1, 10, 6, 111, 1, 58,
+        2, 3, 32, 759, 4, 65, 42, 1, 50, 2, 46, 226, 57, 118, 211, 1, 6, 30, 42, 32,
+        28, 70, 13, 4, 26, 18, 5, 69, 141, 5, 17, 6, 150, 111, 15, 5, 149, 57, 123, 10,
+        118, 4, 17, 334, 57, 206, 275, 1, 5, 107, 30, 38, 1, 35, 1, 24, 1, 3, 400, 2,
+        653, 11, 28, 37, 863, 139, 5, 31, 55, 35, 15, 58, 3, 10, 64, 139, 9, 73, 9, 97,
+        3, 2, 307, 9, 251, 2, 7, 112, 11, 11, 2, 1, 0, 44, 6, 10, 9, 1, 92, 149,
+        218, 69, 196, 134, 126, 34, 2, 35, 21, 33, 35, 192, 142, 197, 368, 3, 18, 30, 104, 1,
+        1, 56, 83, 72, 74, 194, 0, 46, 1, 4, 76, 109, 6, 1, 8, 2, 611, 160, 3, 24,
+        33, 184, 17, 107, 302, 769, 23, 46, 90, 14, 94, 87, 66, 89, 42, 46, 363, 1231, 41, 4,
+        433, 198, 135, 201, 698, 13, 10, 126, 107, 28, 371, 17, 24, 148, 732, 283, 126, 116, 1, 78,
+        6, 509, 183, 1, 1991, 2390, 1510, 126, 229, 2, 142, 414, 1, 147, 158, 2022, 159, 1415, 12, 1080,
+        219, 2, 2, 15, 707, 302, 54, 444, 164, 418, 14, 2206, 5, 5, 3, 18, 288, 183, 2, 4,
+        194, 132, 871, 1202, 296, 9, 3, 284, 0, 16, 517, 6, 14, 13, 5, 578, 1481, 6, 61, 159,
+        62, 162, 29, 603, 8, 68, 3, 1843, 798, 2, 7, 29, 9243, 106
+    };
+
+    /** Utility ID in each perfect hash slot */
+    private static final short[] SLOTS = {
+        310, 650, 1407, 647, 725, 1290, 15, 91, 64, 1155, 366, 1023, 508, 1140, 1123, 370, 1244, 375, 419, 659,
+        822, 624, 1395, 902, 88, 1331, 1398, 248, 526, 89, 733, 1113, 1266, 1004, 781, 1328, 794, 753, 816, 633,
+        463, 477, 918, 887, 929, 710, 1173, 470, 227, 1312, 269, 971, 1279, 135, 1187, 66, 471, 98, 873, 217,
+        558, 525, 347, 373, 92, 1099, 244, 103, 874, 571, 875, 980, 36, 313, 1320, 412, 456, 697, 416, 539,
+        865, 1088, 482, 1361, 1321, 17, 56, 512, 1365, 1311, 157, 1174, 99, 942, 1061, 1017, 745, 1404, 167, 116,
+        1255, 1392, 230, 594, 1322, 1306, 883, 877, 67, 19, 1159, 381, 928, 1288, 490, 1102, 311, 593, 251, 234,
+        702, 1341, 231, 969, 1274, 919, 727, 847, 469, 1193, 131, 789, 655, 566, 1149, 372, 1014, 259, 970, 778,
+        1084, 81, 1224, 1038, 864, 759, 1125, 1152, 743, 640, 133, 589, 1280, 255, 257, 925, 20, 894, 422, 1040,
+        767, 1012, 439, 559, 361, 1156, 1026, 1356, 7, 205, 695, 444, 212, 263, 52, 524, 302, 1281, 634, 1068,
+        1334, 1347, 203, 572, 365, 782, 334, 1184, 207, 1190, 293, 783, 765, 1192, 46, 149, 1141, 703, 318, 1230,
+        686, 211, 1055, 1167, 911, 124, 1305, 603, 885, 844, 48, 1063, 537, 161, 954, 736, 1164, 788, 964, 60,
+        145, 1241, 1292, 8, 978, 1186, 274, 476, 79, 771, 776, 354, 843, 33, 325, 1208, 38, 406, 683, 209,
+        1344, 1162, 1353, 176, 41, 1218, 58, 790, 1089, 826, 741, 973, 1267, 170, 749, 1264, 1049, 523, 867, 306,
+        1251, 1406, 384, 142, 190, 1131, 188, 780, 1045, 974, 1025, 1397, 1326, 641, 1216, 312, 438, 122, 132, 532,
+        14, 458, 672, 531, 21, 787, 270, 643, 1077, 1275, 748, 1276, 1233, 54, 913, 1183, 852, 425, 1376, 511,
+        1240, 332, 536, 1060, 256, 362, 342, 527, 308, 1119, 393, 22, 337, 1075, 44, 955, 13, 889, 824, 561,
+        1325, 5, 271, 557, 265, 1413, 223, 726, 654, 1007, 1039, 433, 245, 735, 1239, 912, 1351, 1221, 289, 1117,
+        677, 260, 1179, 1229, 453, 305, 192, 893, 718, 541, 605, 1086, 414, 1062, 387, 892, 1195, 1198, 443, 401,
+        1248, 314, 101, 111, 687, 1310, 61, 841, 869, 963, 1106, 849, 249, 801, 693, 417, 565, 107, 818, 878,
+        200, 1234, 360, 369, 671, 1112, 910, 1316, 952, 464, 529, 65, 95, 102, 147, 627, 1052, 294, 981, 560,
+        432, 585, 1053, 563, 747, 156, 348, 143, 1122, 1284, 811, 11, 391, 534, 621, 934, 1409, 850, 1066, 1235,
+        888, 1370, 900, 250, 31, 890, 160, 1029, 100, 989, 385, 965, 119, 1391, 938, 618, 1210, 262, 1268, 356,
+        172, 880, 487, 667, 638, 1059, 689, 502, 252, 859, 402, 374, 1282, 1333, 580, 1043, 721, 281, 1340, 235,
+        540, 1019, 221, 10, 610, 26, 165, 751, 803, 1379, 870, 1262, 604, 1411, 1355, 474, 1272, 336, 499, 1120,
+        764, 858, 1317, 239, 210, 1337, 575, 799, 732, 729, 699, 208, 1044, 804, 1362, 298, 990, 1399, 1226, 987,
+        320, 853, 285, 690, 660, 254, 1083, 530, 515, 455, 338, 570, 468, 876, 247, 1158, 83, 411, 758, 1373,
+        543, 452, 396, 766, 90, 583, 675, 236, 1006, 403, 1143, 820, 688, 709, 1348, 280, 219, 1352, 597, 868,
+        1338, 582, 975, 903, 364, 404, 237, 998, 299, 1366, 12, 522, 1203, 43, 620, 930, 1172, 350, 1213, 533,
+        1200, 1412, 509, 924, 480, 74, 241, 1188, 139, 127, 1250, 1396, 331, 297, 611, 599, 556, 429, 363, 707,
+        953, 449, 1018, 494, 1346, 448, 1258, 519, 564, 993, 1277, 1318, 510, 1178, 1076, 454, 940, 424, 478, 39,
+        1256, 243, 435, 819, 326, 1329, 1252, 37, 968, 926, 1036, 1278, 1, 1189, 1150, 193, 126, 378, 28, 1194,
+        112, 355, 1008, 428, 1094, 329, 189, 392, 32, 698, 635, 24, 1345, 300, 777, 1259, 1072, 1103, 941, 917,
+        528, 1001, 491, 823, 682, 1204, 551, 1227, 1401, 579, 166, 407, 232, 717, 1357, 1327, 1069, 653, 898, 1384,
+        27, 569, 1394, 410, 71, 1206, 833, 35, 1011, 108, 1207, 59, 1157, 484, 1360, 708, 662, 174, 1181, 1182,
+        287, 505, 1171, 615, 988, 830, 352, 1022, 53, 856, 588, 746, 109, 460, 1101, 1205, 840, 1031, 1191, 181,
+        631, 770, 1386, 309, 1400, 1082, 376, 6, 545, 451, 976, 485, 275, 1215, 535, 1107, 278, 431, 815, 734,
+        731, 960, 371, 85, 1377, 158, 186, 1166, 155, 1098, 517, 1339, 997, 330, 282, 936, 1024, 1236, 1410, 1071,
+        399, 1104, 222, 1309, 206, 1212, 595, 1148, 25, 415, 1225, 184, 501, 793, 944, 514, 547, 63, 1303, 1142,
+        848, 884, 1289, 554, 933, 436, 1127, 500, 159, 623, 1065, 1335, 68, 1364, 1180, 1124, 229, 907, 684, 473,
+        562, 1202, 813, 1092, 151, 1295, 784, 246, 148, 985, 261, 637, 1254, 1010, 82, 863, 821, 1358, 498, 1093,
+        128, 649, 169, 705, 136, 979, 1097, 1402, 421, 447, 1381, 923, 927, 754, 50, 691, 213, 1343, 1037, 1133,
+        587, 836, 700, 694, 97, 228, 1217, 1199, 922, 1372, 996, 1095, 1336, 1054, 1238, 1374, 380, 507, 368, 286,
+        628, 704, 1380, 283, 773, 405, 279, 1168, 904, 51, 992, 214, 817, 639, 1138, 866, 1247, 1109, 842, 140,
+        991, 791, 345, 831, 1091, 550, 183, 1197, 881, 1144, 1116, 106, 544, 679, 47, 730, 792, 578, 812, 291,
+        1350, 488, 657, 827, 1051, 340, 1111, 357, 914, 851, 1085, 1291, 264, 555, 86, 489, 905, 860, 1130, 756,
+        1002, 1257, 871, 1081, 1042, 1177, 1161, 1299, 757, 538, 1253, 755, 609, 805, 648, 576, 797, 504, 1297, 681,
+        1090, 546, 1028, 150, 573, 854, 18, 949, 829, 779, 1296, 1078, 187, 1034, 1273, 486, 341, 1163, 825, 1261,
+        113, 1260, 199, 1315, 465, 1313, 346, 195, 1389, 622, 1375, 1087, 645, 191, 129, 810, 629, 78, 706, 692,
+        916, 178, 626, 724, 290, 673, 762, 423, 175, 1035, 1176, 862, 568, 34, 496, 798, 218, 1383, 201, 967,
+        1056, 268, 441, 276, 685, 45, 114, 349, 612, 446, 506, 168, 839, 394, 1073, 121, 857, 105, 162, 656,
+        738, 669, 616, 481, 110, 598, 462, 879, 1237, 577, 932, 386, 1271, 70, 625, 72, 284, 1367, 723, 295,
+        1314, 242, 931, 872, 123, 838, 324, 322, 1129, 316, 333, 1249, 666, 552, 390, 962, 958, 69, 379, 961,
+        760, 1146, 1243, 317, 388, 319, 1201, 768, 1151, 1222, 450, 752, 400, 395, 196, 832, 16, 1300, 701, 328,
+        1118, 795, 115, 1270, 1319, 152, 180, 1137, 715, 1145, 809, 1354, 1232, 957, 238, 763, 1304, 377, 808, 30,
+        742, 472, 1330, 1080, 921, 296, 1128, 492, 321, 204, 665, 1132, 728, 591, 719, 351, 959, 664, 194, 716,
+        896, 661, 592, 1324, 601, 642, 358, 1114, 273, 134, 466, 1126, 315, 202, 906, 1070, 1403, 1033, 1209, 1136,
+        389, 1067, 84, 586, 1378, 1287, 3, 216, 740, 1013, 303, 1219, 137, 1134, 712, 141, 323, 966, 1047, 1342,
+        1390, 117, 1269, 972, 986, 118, 1108, 2, 837, 1223, 1147, 802, 327, 1074, 899, 1293, 475, 240, 835, 1139,
+        1196, 272, 1154, 1115, 483, 651, 226, 93, 9, 774, 177, 220, 335, 1160, 307, 956, 461, 442, 785, 614,
+        163, 945, 266, 40, 104, 596, 1032, 1016, 304, 602, 590, 445, 1027, 1175, 769, 521, 674, 984, 947, 739,
+        398, 4, 138, 55, 267, 668, 1057, 983, 1263, 87, 493, 652, 713, 288, 600, 636, 420, 225, 1214, 909,
+        1349, 800, 434, 430, 948, 75, 277, 908, 994, 437, 495, 750, 995, 426, 678, 49, 676, 1110, 233, 153,
+        198, 1220, 1005, 344, 886, 1000, 339, 1211, 891, 62, 173, 171, 1307, 1009, 696, 553, 744, 1393, 834, 806,
+        542, 1408, 670, 711, 1368, 1265, 77, 644, 1385, 1298, 950, 897, 845, 96, 503, 164, 861, 1231, 807, 23,
+        1228, 125, 76, 467, 1302, 1058, 920, 1170, 29, 1283, 772, 632, 1285, 982, 1308, 409, 901, 459, 1371, 567,
+        895, 1246, 185, 144, 617, 1387, 353, 224, 935, 915, 1165, 680, 761, 1363, 367, 1294, 457, 846, 397, 584,
+        606, 937, 80, 1064, 1041, 939, 946, 786, 999, 1388, 258, 1369, 796, 1046, 73, 427, 292, 608, 1096, 1100,
+        977, 301, 1003, 814, 146, 1105, 154, 1359, 1135, 663, 943, 548, 253, 619, 57, 581, 413, 197, 1405, 343,
+        94, 1242, 130, 1048, 1169, 440, 607, 359, 516, 658, 179, 0, 613, 1245, 630, 382, 42, 646, 1015, 1323,
+        408, 1050, 882, 383, 775, 518, 1286, 720, 1382, 120, 1079, 513, 828, 1030, 182, 418, 549, 722, 520, 1021,
+        714, 1121, 737, 1301, 479, 497, 855, 215, 1153, 951, 574, 1332, 1185, 1020
+    };
+
+    /**
+     * Returns the utility ID of a class name, or {@code -1} if it is not a known utility.
+     */
+    public static int id(String className) {
+        return className == null ? -1 : id(className, 0, className.length());
+    }
+
+    /**
+     * Returns the utility ID of a class name, or {@code -1} if it is not a known utility.
+     */
+    public static int id(CharSequence className) {
+        return className == null ? -1 : id(className, 0, className.length());
+    }
+
+    /**
+     * Returns the utility ID of the class name in {@code chars} from {@code start} to
+     * {@code end}, or {@code -1} if it is not a known utility.
+     */
+    static int id(CharSequence chars, int start, int end) {
+        // FNV-1a, finalized per table; must match buildPerfectHash in the generator
+        int hash = 0x811c9dc5;
+        for (int i = start; i < end; i++) {
+            hash = (hash ^ chars.charAt(i)) * 0x01000193;
+        }
+        int seed = SEEDS[indexOf(mix(hash), SEEDS.length)];
+        int index = SLOTS[indexOf(mix(hash ^ seed * 0x9e3779b9), COUNT)];
+
+        // Any string hashes to some slot, so the name in it must still be compared
+        String name = NAMES[index];
+        if (name.length() != end - start) {
+            return -1;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) != chars.charAt(start + i)) {
+                return -1;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Maps a hash to an index in {@code [0, size)}, multiplying instead of dividing
+     */
+    private static int indexOf(int hash, int size) {
+        return (int) (((hash & 0xffffffffL) * size) >>> 32);
+    }
+
+    /**
+     * The MurmurHash3 finalizer
+     */
+    private static int mix(int hash) {
+        hash = (hash ^ (hash >>> 16)) * 0x85ebca6b;
+        hash = (hash ^ (hash >>> 13)) * 0xc2b2ae35;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Returns the class name of a utility ID.
+     *
+     * @throws IndexOutOfBoundsException if the ID is not in {@code [0, COUNT)}
+     */
+    public static String className(int id) {
+        return NAMES[id];
+    }
+
+    private TwUtilities() {}
+}
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.vaadin.flow.component.tailwind;
+
+import java.util.Set;
+
+/**
+ * A known utility: a {@link TwUtilityInfo}, or a constant of a category enum such as
+ * {@code TW.Spacing.Padding.Utility} when the generator runs with {@code java.enums}.
+ * <p>
+ * Sets of utilities are turned into a class attribute value with {@link #toClassString(Set)}:
+ *
+ * <pre>{@code
+ * Set<TwUtility> padding = new LinkedHashSet<>();
+ * padding.add(TW.lookup("p-4"));
+ * padding.add(TW.lookup("px-2"));
+ * div.setClassName(TwUtility.toClassString(padding)); // "p-4 px-2"
+ * }</pre>
+ */
+public interface TwUtility {
+
+    /** Class name, e.g. {@code "p-4"} */
+    String className();
+
+    /** Utility ID, see {@link TwUtilities} */
+    int id();
+
+    /**
+     * Conflict group. Of utilities in the same group and variants, {@link TwMerge} keeps the last.
+     */
+    default String group() {
+        return TwMerge.GROUP_NAMES[TwMerge.GROUP_OF[id()]];
+    }
+
+    /** Category and constant of this utility */
+    default TwUtilityInfo info() {
+        return TwUtilityInfo.of(id());
+    }
+
+    /**
+     * Returns the utilities as a space-separated class attribute value, ordered by utility ID.
+     * <p>
+     * Results are cached per set content (up to {@link TwClassSet#CACHE_SIZE} sets), so converting
+     * an equal set again returns the same String without building it.
+     */
+    static String toClassString(Set<? extends TwUtility> utilities) {
+        return TwClassSet.toClassString(utilities);
+    }
+}
\ No newline at end of file
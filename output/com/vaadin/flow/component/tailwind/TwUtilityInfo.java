@@ -0,0 +1,1639 @@
+package com.vaadin.flow.component.tailwind;
+
+/**
+ * A known utility with its category, conflict group and constant, as returned by
+ * {@link TW#lookup(CharSequence)}.
+ * <p>
+ * There is one instance per utility, created when this class is initialized, so lookups do not
+ * allocate and instances can be compared with {@code ==}.
+ *
+ * <pre>{@code
+ * TwUtilityInfo info = TW.lookup("pl-4");
+ * info.category(); // "padding"
+ * info.constant(); // "TW.Spacing.Padding.LEFT_4"
+ * }</pre>
+ */
+public final class TwUtilityInfo implements TwUtility {
+
+    /** Categories of the extracted utilities */
+    private static final String[] CATEGORIES = {
+        "align-content",
+        "align-items",
+        "align-self",
+        "animation",
+        "background-color",
+        "border-color",
+        "border-radius",
+        "border-style",
+        "border-width",
+        "box-shadow",
+        "cursor",
+        "delay",
+        "display",
+        "duration",
+        "ease",
+        "flex-basis",
+        "flex-direction",
+        "flex-grow-shrink",
+        "flex-wrap",
+        "font-family",
+        "font-size",
+        "font-style",
+        "font-weight",
+        "gap",
+        "grid-auto-columns",
+        "grid-auto-rows",
+        "grid-column",
+        "grid-flow",
+        "grid-row",
+        "grid-template-columns",
+        "grid-template-rows",
+        "height",
+        "justify-content",
+        "justify-items",
+        "justify-self",
+        "margin",
+        "max-height",
+        "max-width",
+        "min-height",
+        "min-width",
+        "opacity",
+        "other",
+        "overflow",
+        "padding",
+        "place-content",
+        "place-items",
+        "place-self",
+        "position",
+        "rotate",
+        "scale",
+        "size",
+        "skew",
+        "space-between",
+        "text-align",
+        "text-color",
+        "text-decoration",
+        "text-decoration-color",
+        "text-decoration-style",
+        "text-transform",
+        "transition",
+        "translate",
+        "visibility",
+        "width",
+        "z-index"
+    };
+
+    /** Category of each utility, indexed by utility ID */
+    private static final short[] CATEGORY_OF = {
+        41, 41, 41, 41, 41, 35, 35, 35, 35, 35, 35, 35, 35, 35, 35, 35, 41, 48, 48, 48,
+        48, 41, 60, 60, 47, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41,
+        41, 41, 3, 3, 3, 3, 3, 41, 41, 41, 41, 41, 24, 24, 24, 24, 25, 25, 25, 25,
+        41, 41, 41, 15, 15, 15, 15, 15, 15, 15, 41, 4, 41, 41, 41, 41, 41, 41, 4, 4,
+        4, 4, 4, 4, 41, 41, 41, 41, 41, 41, 41, 41, 4, 41, 4, 4, 4, 4, 4, 4,
+        4, 4, 4, 4, 4, 4, 4, 4, 4, 41, 41, 41, 41, 41, 4, 4, 4, 41, 41, 41,
+        4, 4, 4, 4, 41, 41, 41, 41, 41, 41, 41, 41, 41, 4, 4, 4, 4, 41, 4, 4,
+        4, 4, 4, 12, 41, 41, 41, 41, 41, 41, 41, 41, 8, 8, 8, 8, 8, 8, 5, 5,
+        5, 5, 41, 5, 7, 7, 7, 8, 5, 5, 5, 5, 7, 5, 8, 7, 8, 5, 5, 5,
+        8, 41, 5, 5, 5, 7, 41, 41, 41, 41, 41, 8, 8, 5, 5, 8, 8, 8, 8, 47,
+        41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41,
+        41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 58,
+        41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 26, 26, 26, 26,
+        26, 26, 26, 26, 26, 26, 26, 26, 26, 26, 26, 26, 26, 26, 26, 61, 41, 41, 41, 41,
+        41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41,
+        41, 41, 41, 0, 0, 0, 0, 0, 0, 0, 0, 0, 12, 41, 41, 41, 41, 41, 41, 41,
+        10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10,
+        10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 56, 56, 56, 56,
+        56, 56, 56, 57, 57, 57, 56, 56, 56, 56, 57, 57, 11, 11, 11, 11, 11, 11, 11, 11,
+        11, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41,
+        41, 41, 41, 13, 13, 13, 13, 13, 13, 13, 13, 13, 14, 14, 14, 14, 41, 41, 41, 41,
+        41, 41, 41, 41, 41, 47, 12, 17, 17, 16, 16, 17, 17, 17, 17, 18, 16, 16, 17, 17,
+        18, 18, 41, 41, 41, 41, 41, 12, 22, 22, 22, 22, 22, 22, 19, 22, 19, 22, 19, 22,
+        41, 41, 23, 23, 23, 23, 23, 23, 23, 23, 23, 23, 23, 23, 23, 23, 23, 23, 23, 23,
+        23, 23, 23, 23, 23, 23, 23, 23, 23, 23, 23, 23, 23, 23, 23, 23, 23, 23, 23, 23,
+        23, 23, 23, 23, 23, 41, 41, 12, 29, 29, 29, 29, 29, 29, 29, 29, 29, 29, 29, 29,
+        29, 29, 27, 27, 27, 27, 27, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30,
+        30, 31, 31, 31, 31, 31, 31, 31, 31, 31, 31, 31, 31, 31, 31, 31, 31, 31, 31, 31,
+        31, 31, 31, 31, 31, 31, 31, 31, 31, 31, 31, 31, 31, 31, 31, 31, 31, 12, 41, 41,
+        41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 12, 12, 12, 12, 12, 47, 47, 47,
+        47, 47, 47, 47, 47, 47, 47, 47, 47, 47, 47, 47, 47, 47, 47, 47, 47, 47, 47, 47,
+        47, 47, 47, 47, 47, 47, 47, 47, 47, 47, 47, 47, 47, 47, 41, 41, 61, 41, 41, 21,
+        1, 1, 1, 1, 1, 32, 32, 32, 32, 32, 33, 33, 33, 33, 34, 34, 34, 34, 34, 32,
+        32, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 47, 47, 55, 41, 41,
+        41, 41, 12, 41, 41, 58, 35, 35, 35, 35, 35, 35, 35, 35, 35, 35, 35, 35, 35, 35,
+        35, 35, 35, 35, 35, 35, 35, 35, 35, 35, 35, 35, 35, 35, 35, 35, 35, 35, 35, 35,
+        35, 35, 36, 36, 36, 36, 36, 36, 37, 37, 37, 37, 37, 37, 37, 37, 37, 37, 37, 37,
+        37, 37, 37, 37, 37, 37, 37, 37, 37, 37, 37, 35, 35, 35, 38, 38, 38, 38, 38, 38,
+        39, 39, 39, 39, 39, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41,
+        41, 41, 41, 35, 35, 35, 35, 35, 35, 35, 35, 35, 35, 35, 35, 35, 35, 35, 35, 35,
+        35, 35, 35, 55, 58, 41, 21, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41,
+        41, 41, 41, 40, 40, 40, 40, 40, 40, 40, 40, 40, 40, 40, 40, 40, 40, 40, 40, 41,
+        41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41,
+        41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41,
+        41, 41, 41, 41, 41, 42, 42, 42, 42, 42, 42, 42, 42, 42, 42, 42, 42, 42, 42, 42,
+        55, 41, 41, 41, 41, 41, 41, 41, 41, 41, 43, 43, 43, 43, 43, 43, 43, 43, 43, 43,
+        43, 43, 43, 43, 43, 43, 43, 43, 43, 43, 43, 43, 43, 43, 43, 43, 43, 43, 43, 43,
+        43, 43, 43, 43, 43, 43, 43, 43, 43, 43, 43, 43, 43, 43, 43, 44, 44, 44, 44, 44,
+        44, 44, 44, 45, 45, 45, 45, 45, 46, 46, 46, 46, 46, 41, 41, 43, 43, 43, 41, 43,
+        43, 43, 43, 43, 43, 43, 43, 43, 43, 43, 43, 43, 43, 43, 43, 43, 47, 41, 41, 41,
+        41, 47, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41,
+        41, 48, 48, 48, 48, 48, 48, 48, 48, 48, 6, 6, 6, 6, 6, 6, 6, 6, 6, 6,
+        6, 6, 6, 6, 6, 6, 6, 6, 6, 6, 6, 6, 6, 28, 28, 28, 28, 28, 28, 28,
+        41, 41, 41, 41, 41, 49, 49, 49, 49, 49, 49, 49, 49, 49, 49, 49, 49, 49, 49, 49,
+        49, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41,
+        41, 41, 41, 41, 41, 2, 2, 2, 2, 2, 2, 41, 41, 9, 9, 9, 9, 9, 9, 9,
+        9, 9, 9, 9, 9, 50, 50, 50, 50, 50, 50, 50, 51, 51, 51, 51, 51, 51, 51, 51,
+        41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 52, 52, 52, 52, 52, 52, 52,
+        52, 52, 52, 41, 41, 47, 47, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 12,
+        41, 12, 12, 12, 12, 41, 12, 12, 12, 12, 41, 20, 20, 20, 20, 20, 20, 20, 20, 54,
+        54, 54, 41, 20, 54, 54, 54, 54, 54, 53, 41, 54, 54, 54, 54, 41, 54, 54, 54, 53,
+        54, 54, 54, 54, 54, 54, 54, 54, 54, 54, 54, 54, 54, 54, 54, 54, 54, 54, 54, 54,
+        54, 53, 53, 20, 54, 54, 54, 54, 54, 54, 41, 54, 54, 54, 54, 54, 54, 41, 54, 54,
+        54, 54, 54, 54, 54, 54, 54, 54, 54, 54, 54, 54, 53, 54, 54, 54, 54, 54, 54, 54,
+        54, 54, 54, 54, 54, 54, 54, 54, 54, 54, 20, 53, 54, 54, 54, 54, 54, 54, 54, 54,
+        54, 54, 54, 41, 20, 20, 54, 54, 54, 54, 54, 54, 54, 47, 47, 47, 47, 47, 47, 47,
+        47, 47, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 59, 59, 59, 59, 59, 59, 59,
+        60, 60, 60, 60, 60, 60, 41, 55, 41, 41, 41, 41, 41, 41, 58, 61, 62, 62, 62, 62,
+        62, 62, 62, 62, 62, 62, 62, 62, 62, 62, 62, 62, 62, 62, 62, 62, 62, 62, 62, 62,
+        62, 62, 62, 62, 62, 62, 62, 62, 62, 62, 62, 62, 62, 62, 62, 62, 62, 41, 41, 41,
+        41, 41, 41, 41, 41, 41, 41, 63, 63, 63, 63, 63, 63, 63
+    };
+
+    /** Constant of each utility, indexed by utility ID */
+    private static final String[] CONSTANTS = {
+        "TW.Other.NEG_BOTTOM_1",
+        "TW.Other.NEG_INSET_0",
+        "TW.Other.NEG_INSET_1",
+        "TW.Other.NEG_INSET_2",
+        "TW.Other.NEG_LEFT_1",
+        "TW.Spacing.Margin.NEG_M_0",
+        "TW.Spacing.Margin.NEG_M_1",
+        "TW.Spacing.Margin.NEG_M_2",
+        "TW.Spacing.Margin.NEG_M_4",
+        "TW.Spacing.Margin.NEG_BOTTOM_1",
+        "TW.Spacing.Margin.NEG_LEFT_1",
+        "TW.Spacing.Margin.NEG_LEFT_4",
+        "TW.Spacing.Margin.NEG_RIGHT_1",
+        "TW.Spacing.Margin.NEG_TOP_1",
+        "TW.Spacing.Margin.NEG_X_1",
+        "TW.Spacing.Margin.NEG_Y_1",
+        "TW.Other.NEG_RIGHT_1",
+        "TW.Transforms.NEG_ROTATE_1",
+        "TW.Transforms.NEG_ROTATE_180",
+        "TW.Transforms.NEG_ROTATE_45",
+        "TW.Transforms.NEG_ROTATE_90",
+        "TW.Other.NEG_TOP_1",
+        "TW.Transforms.NEG_TRANSLATE_X_1",
+        "TW.Transforms.NEG_TRANSLATE_Y_1",
+        "TW.Position.ABSOLUTE",
+        "TW.Other.ACCENT_AUTO",
+        "TW.Other.ACCENT_BLACK",
+        "TW.Other.ACCENT_BLUE_500",
+        "TW.Other.ACCENT_CURRENT",
+        "TW.Other.ACCENT_INHERIT",
+        "TW.Other.ACCENT_RED_500",
+        "TW.Other.ACCENT_SLATE_500",
+        "TW.Other.ACCENT_TRANSPARENT",
+        "TW.Other.ACCENT_WHITE",
+        "TW.Other.ALIGN_BASELINE",
+        "TW.Other.ALIGN_BOTTOM",
+        "TW.Other.ALIGN_MIDDLE",
+        "TW.Other.ALIGN_SUB",
+        "TW.Other.ALIGN_SUPER",
+        "TW.Other.ALIGN_TEXT_BOTTOM",
+        "TW.Other.ALIGN_TEXT_TOP",
+        "TW.Other.ALIGN_TOP",
+        "TW.Transitions.ANIMATE_BOUNCE",
+        "TW.Transitions.ANIMATE_NONE",
+        "TW.Transitions.ANIMATE_PING",
+        "TW.Transitions.ANIMATE_PULSE",
+        "TW.Transitions.ANIMATE_SPIN",
+        "TW.Other.APPEARANCE_AUTO",
+        "TW.Other.APPEARANCE_NONE",
+        "TW.Other.ASPECT_AUTO",
+        "TW.Other.ASPECT_SQUARE",
+        "TW.Other.ASPECT_VIDEO",
+        "TW.Grid.AUTO_COLS_AUTO",
+        "TW.Grid.AUTO_COLS_FR",
+        "TW.Grid.AUTO_COLS_MAX",
+        "TW.Grid.AUTO_COLS_MIN",
+        "TW.Grid.AUTO_ROWS_AUTO",
+        "TW.Grid.AUTO_ROWS_FR",
+        "TW.Grid.AUTO_ROWS_MAX",
+        "TW.Grid.AUTO_ROWS_MIN",
+        "TW.Other.BACKDROP_BLUR",
+        "TW.Other.BACKDROP_BLUR_NONE",
+        "TW.Other.BACKDROP_BLUR_SM",
+        "TW.Flex.BASIS_0",
+        "TW.Flex.BASIS_1",
+        "TW.Flex.BASIS_2",
+        "TW.Flex.BASIS_4",
+        "TW.Flex.BASIS_8",
+        "TW.Flex.BASIS_AUTO",
+        "TW.Flex.BASIS_FULL",
+        "TW.Other.BG_AUTO",
+        "TW.Background.BLACK",
+        "TW.Other.BG_BLEND_DARKEN",
+        "TW.Other.BG_BLEND_LIGHTEN",
+        "TW.Other.BG_BLEND_MULTIPLY",
+        "TW.Other.BG_BLEND_NORMAL",
+        "TW.Other.BG_BLEND_OVERLAY",
+        "TW.Other.BG_BLEND_SCREEN",
+        "TW.Background.BLUE_100",
+        "TW.Background.BLUE_50",
+        "TW.Background.BLUE_500",
+        "TW.Background.BLUE_600",
+        "TW.Background.BLUE_700",
+        "TW.Background.BLUE_950",
+        "TW.Other.BG_BOTTOM",
+        "TW.Other.BG_CENTER",
+        "TW.Other.BG_CLIP_BORDER",
+        "TW.Other.BG_CLIP_CONTENT",
+        "TW.Other.BG_CLIP_PADDING",
+        "TW.Other.BG_CLIP_TEXT",
+        "TW.Other.BG_CONTAIN",
+        "TW.Other.BG_COVER",
+        "TW.Background.CURRENT",
+        "TW.Other.BG_FIXED",
+        "TW.Background.GRAY_100",
+        "TW.Background.GRAY_200",
+        "TW.Background.GRAY_300",
+        "TW.Background.GRAY_400",
+        "TW.Background.GRAY_50",
+        "TW.Background.GRAY_500",
+        "TW.Background.GRAY_600",
+        "TW.Background.GRAY_700",
+        "TW.Background.GRAY_800",
+        "TW.Background.GRAY_900",
+        "TW.Background.GRAY_950",
+        "TW.Background.GREEN_50",
+        "TW.Background.GREEN_500",
+        "TW.Background.GREEN_950",
+        "TW.Background.INHERIT",
+        "TW.Other.BG_LEFT",
+        "TW.Other.BG_LEFT_BOTTOM",
+        "TW.Other.BG_LEFT_TOP",
+        "TW.Other.BG_LOCAL",
+        "TW.Other.BG_NO_REPEAT",
+        "TW.Background.ORANGE_50",
+        "TW.Background.ORANGE_500",
+        "TW.Background.ORANGE_950",
+        "TW.Other.BG_ORIGIN_BORDER",
+        "TW.Other.BG_ORIGIN_CONTENT",
+        "TW.Other.BG_ORIGIN_PADDING",
+        "TW.Background.RED_100",
+        "TW.Background.RED_50",
+        "TW.Background.RED_500",
+        "TW.Background.RED_950",
+        "TW.Other.BG_REPEAT",
+        "TW.Other.BG_REPEAT_ROUND",
+        "TW.Other.BG_REPEAT_SPACE",
+        "TW.Other.BG_REPEAT_X",
+        "TW.Other.BG_REPEAT_Y",
+        "TW.Other.BG_RIGHT",
+        "TW.Other.BG_RIGHT_BOTTOM",
+        "TW.Other.BG_RIGHT_TOP",
+        "TW.Other.BG_SCROLL",
+        "TW.Background.SLATE_100",
+        "TW.Background.SLATE_50",
+        "TW.Background.SLATE_500",
+        "TW.Background.SLATE_950",
+        "TW.Other.BG_TOP",
+        "TW.Background.TRANSPARENT",
+        "TW.Background.WHITE",
+        "TW.Background.ZINC_50",
+        "TW.Background.ZINC_500",
+        "TW.Background.ZINC_950",
+        "TW.Layout.BLOCK",
+        "TW.Other.BLUR",
+        "TW.Other.BLUR_2XL",
+        "TW.Other.BLUR_3XL",
+        "TW.Other.BLUR_LG",
+        "TW.Other.BLUR_MD",
+        "TW.Other.BLUR_NONE",
+        "TW.Other.BLUR_SM",
+        "TW.Other.BLUR_XL",
+        "TW.Border.BORDER",
+        "TW.Border.BORDER_0",
+        "TW.Border.BORDER_2",
+        "TW.Border.BORDER_4",
+        "TW.Border.BORDER_8",
+        "TW.Border.BORDER_B_0",
+        "TW.Border.BLACK",
+        "TW.Border.BLUE_50",
+        "TW.Border.BLUE_500",
+        "TW.Border.BLUE_950",
+        "TW.Other.BORDER_COLLAPSE",
+        "TW.Border.CURRENT",
+        "TW.Border.DASHED",
+        "TW.Border.DOTTED",
+        "TW.Border.DOUBLE",
+        "TW.Border.BORDER_E_0",
+        "TW.Border.GRAY_100",
+        "TW.Border.GRAY_50",
+        "TW.Border.GRAY_500",
+        "TW.Border.GRAY_950",
+        "TW.Border.HIDDEN",
+        "TW.Border.INHERIT",
+        "TW.Border.BORDER_L_0",
+        "TW.Border.NONE",
+        "TW.Border.BORDER_R_0",
+        "TW.Border.RED_50",
+        "TW.Border.RED_500",
+        "TW.Border.RED_950",
+        "TW.Border.BORDER_S_0",
+        "TW.Other.BORDER_SEPARATE",
+        "TW.Border.SLATE_50",
+        "TW.Border.SLATE_500",
+        "TW.Border.SLATE_950",
+        "TW.Border.SOLID",
+        "TW.Other.BORDER_SPACING_0",
+        "TW.Other.BORDER_SPACING_1",
+        "TW.Other.BORDER_SPACING_2",
+        "TW.Other.BORDER_SPACING_X_0",
+        "TW.Other.BORDER_SPACING_Y_0",
+        "TW.Border.BORDER_T_0",
+        "TW.Border.BORDER_T_2",
+        "TW.Border.TRANSPARENT",
+        "TW.Border.WHITE",
+        "TW.Border.BORDER_X_0",
+        "TW.Border.BORDER_X_2",
+        "TW.Border.BORDER_Y_0",
+        "TW.Border.BORDER_Y_2",
+        "TW.Position.BOTTOM_0",
+        "TW.Other.BOX_BORDER",
+        "TW.Other.BOX_CONTENT",
+        "TW.Other.BOX_DECORATION_CLONE",
+        "TW.Other.BOX_DECORATION_SLICE",
+        "TW.Other.BREAK_AFTER_ALL",
+        "TW.Other.BREAK_AFTER_AUTO",
+        "TW.Other.BREAK_AFTER_AVOID",
+        "TW.Other.BREAK_AFTER_AVOID_PAGE",
+        "TW.Other.BREAK_AFTER_COLUMN",
+        "TW.Other.BREAK_AFTER_LEFT",
+        "TW.Other.BREAK_AFTER_PAGE",
+        "TW.Other.BREAK_AFTER_RIGHT",
+        "TW.Other.BREAK_ALL",
+        "TW.Other.BREAK_BEFORE_ALL",
+        "TW.Other.BREAK_BEFORE_AUTO",
+        "TW.Other.BREAK_BEFORE_AVOID",
+        "TW.Other.BREAK_BEFORE_AVOID_PAGE",
+        "TW.Other.BREAK_BEFORE_COLUMN",
+        "TW.Other.BREAK_BEFORE_LEFT",
+        "TW.Other.BREAK_BEFORE_PAGE",
+        "TW.Other.BREAK_BEFORE_RIGHT",
+        "TW.Other.BREAK_INSIDE_AUTO",
+        "TW.Other.BREAK_INSIDE_AVOID",
+        "TW.Other.BREAK_INSIDE_AVOID_COLUMN",
+        "TW.Other.BREAK_INSIDE_AVOID_PAGE",
+        "TW.Other.BREAK_KEEP",
+        "TW.Other.BREAK_NORMAL",
+        "TW.Other.BREAK_WORDS",
+        "TW.Other.BRIGHTNESS_0",
+        "TW.Other.BRIGHTNESS_100",
+        "TW.Other.BRIGHTNESS_105",
+        "TW.Other.BRIGHTNESS_110",
+        "TW.Other.BRIGHTNESS_125",
+        "TW.Other.BRIGHTNESS_150",
+        "TW.Other.BRIGHTNESS_200",
+        "TW.Other.BRIGHTNESS_50",
+        "TW.Other.BRIGHTNESS_75",
+        "TW.Other.BRIGHTNESS_90",
+        "TW.Other.BRIGHTNESS_95",
+        "TW.Typography.TextTransform.CAPITALIZE",
+        "TW.Other.CAPTION_BOTTOM",
+        "TW.Other.CAPTION_TOP",
+        "TW.Other.CARET_BLACK",
+        "TW.Other.CARET_BLUE_500",
+        "TW.Other.CARET_CURRENT",
+        "TW.Other.CARET_INHERIT",
+        "TW.Other.CARET_RED_500",
+        "TW.Other.CARET_SLATE_500",
+        "TW.Other.CARET_TRANSPARENT",
+        "TW.Other.CARET_WHITE",
+        "TW.Other.CLEAR_BOTH",
+        "TW.Other.CLEAR_END",
+        "TW.Other.CLEAR_LEFT",
+        "TW.Other.CLEAR_NONE",
+        "TW.Other.CLEAR_RIGHT",
+        "TW.Other.CLEAR_START",
+        "TW.Grid.COL_AUTO",
+        "TW.Grid.COL_END_1",
+        "TW.Grid.COL_END_AUTO",
+        "TW.Grid.COL_SPAN_1",
+        "TW.Grid.COL_SPAN_10",
+        "TW.Grid.COL_SPAN_11",
+        "TW.Grid.COL_SPAN_12",
+        "TW.Grid.COL_SPAN_2",
+        "TW.Grid.COL_SPAN_3",
+        "TW.Grid.COL_SPAN_4",
+        "TW.Grid.COL_SPAN_5",
+        "TW.Grid.COL_SPAN_6",
+        "TW.Grid.COL_SPAN_7",
+        "TW.Grid.COL_SPAN_8",
+        "TW.Grid.COL_SPAN_9",
+        "TW.Grid.COL_SPAN_FULL",
+        "TW.Grid.COL_START_1",
+        "TW.Grid.COL_START_2",
+        "TW.Grid.COL_START_AUTO",
+        "TW.Other.COLLAPSE",
+        "TW.Other.COLUMNS_1",
+        "TW.Other.COLUMNS_10",
+        "TW.Other.COLUMNS_11",
+        "TW.Other.COLUMNS_12",
+        "TW.Other.COLUMNS_2",
+        "TW.Other.COLUMNS_2XL",
+        "TW.Other.COLUMNS_2XS",
+        "TW.Other.COLUMNS_3",
+        "TW.Other.COLUMNS_3XL",
+        "TW.Other.COLUMNS_3XS",
+        "TW.Other.COLUMNS_4",
+        "TW.Other.COLUMNS_4XL",
+        "TW.Other.COLUMNS_5",
+        "TW.Other.COLUMNS_5XL",
+        "TW.Other.COLUMNS_6",
+        "TW.Other.COLUMNS_6XL",
+        "TW.Other.COLUMNS_7",
+        "TW.Other.COLUMNS_7XL",
+        "TW.Other.COLUMNS_8",
+        "TW.Other.COLUMNS_9",
+        "TW.Other.COLUMNS_AUTO",
+        "TW.Other.COLUMNS_LG",
+        "TW.Other.COLUMNS_MD",
+        "TW.Other.COLUMNS_SM",
+        "TW.Other.COLUMNS_XL",
+        "TW.Other.COLUMNS_XS",
+        "TW.Other.CONTAINER",
+        "TW.Flex.AlignContent.AROUND",
+        "TW.Flex.AlignContent.BASELINE",
+        "TW.Flex.AlignContent.BETWEEN",
+        "TW.Flex.AlignContent.CENTER",
+        "TW.Flex.AlignContent.END",
+        "TW.Flex.AlignContent.EVENLY",
+        "TW.Flex.AlignContent.NONE",
+        "TW.Flex.AlignContent.START",
+        "TW.Flex.AlignContent.STRETCH",
+        "TW.Layout.CONTENTS",
+        "TW.Other.CONTRAST_0",
+        "TW.Other.CONTRAST_100",
+        "TW.Other.CONTRAST_125",
+        "TW.Other.CONTRAST_150",
+        "TW.Other.CONTRAST_200",
+        "TW.Other.CONTRAST_50",
+        "TW.Other.CONTRAST_75",
+        "TW.Other.CURSOR_ALIAS",
+        "TW.Other.CURSOR_ALL_SCROLL",
+        "TW.Other.CURSOR_AUTO",
+        "TW.Other.CURSOR_CELL",
+        "TW.Other.CURSOR_COL_RESIZE",
+        "TW.Other.CURSOR_CONTEXT_MENU",
+        "TW.Other.CURSOR_COPY",
+        "TW.Other.CURSOR_CROSSHAIR",
+        "TW.Other.CURSOR_DEFAULT",
+        "TW.Other.CURSOR_E_RESIZE",
+        "TW.Other.CURSOR_EW_RESIZE",
+        "TW.Other.CURSOR_GRAB",
+        "TW.Other.CURSOR_GRABBING",
+        "TW.Other.CURSOR_HELP",
+        "TW.Other.CURSOR_MOVE",
+        "TW.Other.CURSOR_N_RESIZE",
+        "TW.Other.CURSOR_NE_RESIZE",
+        "TW.Other.CURSOR_NESW_RESIZE",
+        "TW.Other.CURSOR_NO_DROP",
+        "TW.Other.CURSOR_NONE",
+        "TW.Other.CURSOR_NOT_ALLOWED",
+        "TW.Other.CURSOR_NS_RESIZE",
+        "TW.Other.CURSOR_NW_RESIZE",
+        "TW.Other.CURSOR_NWSE_RESIZE",
+        "TW.Other.CURSOR_POINTER",
+        "TW.Other.CURSOR_PROGRESS",
+        "TW.Other.CURSOR_ROW_RESIZE",
+        "TW.Other.CURSOR_S_RESIZE",
+        "TW.Other.CURSOR_SE_RESIZE",
+        "TW.Other.CURSOR_SW_RESIZE",
+        "TW.Other.CURSOR_TEXT",
+        "TW.Other.CURSOR_VERTICAL_TEXT",
+        "TW.Other.CURSOR_W_RESIZE",
+        "TW.Other.CURSOR_WAIT",
+        "TW.Other.CURSOR_ZOOM_IN",
+        "TW.Other.CURSOR_ZOOM_OUT",
+        "TW.Typography.TextDecoration.DECORATION_0",
+        "TW.Typography.TextDecoration.DECORATION_1",
+        "TW.Typography.TextDecoration.DECORATION_2",
+        "TW.Typography.TextDecoration.DECORATION_4",
+        "TW.Typography.TextDecoration.DECORATION_8",
+        "TW.Typography.TextDecoration.DECORATION_AUTO",
+        "TW.Typography.TextDecoration.DECORATION_BLUE_500",
+        "TW.Typography.TextDecoration.DECORATION_DASHED",
+        "TW.Typography.TextDecoration.DECORATION_DOTTED",
+        "TW.Typography.TextDecoration.DECORATION_DOUBLE",
+        "TW.Typography.TextDecoration.DECORATION_FROM_FONT",
+        "TW.Typography.TextDecoration.DECORATION_GRAY_500",
+        "TW.Typography.TextDecoration.DECORATION_RED_500",
+        "TW.Typography.TextDecoration.DECORATION_SLATE_500",
+        "TW.Typography.TextDecoration.DECORATION_SOLID",
+        "TW.Typography.TextDecoration.DECORATION_WAVY",
+        "TW.Transitions.DELAY_0",
+        "TW.Transitions.DELAY_100",
+        "TW.Transitions.DELAY_1000",
+        "TW.Transitions.DELAY_150",
+        "TW.Transitions.DELAY_200",
+        "TW.Transitions.DELAY_300",
+        "TW.Transitions.DELAY_500",
+        "TW.Transitions.DELAY_700",
+        "TW.Transitions.DELAY_75",
+        "TW.Other.DIAGONAL_FRACTIONS",
+        "TW.Other.DIVIDE_BLUE_500",
+        "TW.Other.DIVIDE_DASHED",
+        "TW.Other.DIVIDE_DOTTED",
+        "TW.Other.DIVIDE_DOUBLE",
+        "TW.Other.DIVIDE_GRAY_500",
+        "TW.Other.DIVIDE_NONE",
+        "TW.Other.DIVIDE_RED_500",
+        "TW.Other.DIVIDE_SOLID",
+        "TW.Other.DIVIDE_X_0",
+        "TW.Other.DIVIDE_X_2",
+        "TW.Other.DIVIDE_X_REVERSE",
+        "TW.Other.DIVIDE_Y_0",
+        "TW.Other.DIVIDE_Y_2",
+        "TW.Other.DIVIDE_Y_REVERSE",
+        "TW.Other.DROP_SHADOW",
+        "TW.Other.DROP_SHADOW_2XL",
+        "TW.Other.DROP_SHADOW_LG",
+        "TW.Other.DROP_SHADOW_MD",
+        "TW.Other.DROP_SHADOW_NONE",
+        "TW.Other.DROP_SHADOW_SM",
+        "TW.Other.DROP_SHADOW_XL",
+        "TW.Transitions.DURATION_0",
+        "TW.Transitions.DURATION_100",
+        "TW.Transitions.DURATION_1000",
+        "TW.Transitions.DURATION_150",
+        "TW.Transitions.DURATION_200",
+        "TW.Transitions.DURATION_300",
+        "TW.Transitions.DURATION_500",
+        "TW.Transitions.DURATION_700",
+        "TW.Transitions.DURATION_75",
+        "TW.Transitions.EASE_IN",
+        "TW.Transitions.EASE_IN_OUT",
+        "TW.Transitions.EASE_LINEAR",
+        "TW.Transitions.EASE_OUT",
+        "TW.Other.FILL_BLACK",
+        "TW.Other.FILL_BLUE_500",
+        "TW.Other.FILL_CURRENT",
+        "TW.Other.FILL_INHERIT",
+        "TW.Other.FILL_NONE",
+        "TW.Other.FILL_RED_500",
+        "TW.Other.FILL_SLATE_500",
+        "TW.Other.FILL_TRANSPARENT",
+        "TW.Other.FILL_WHITE",
+        "TW.Position.FIXED",
+        "TW.Layout.FLEX",
+        "TW.Flex.FLEX_1",
+        "TW.Flex.FLEX_AUTO",
+        "TW.Flex.COL",
+        "TW.Flex.COL_REVERSE",
+        "TW.Flex.FLEX_GROW",
+        "TW.Flex.FLEX_GROW_0",
+        "TW.Flex.FLEX_INITIAL",
+        "TW.Flex.FLEX_NONE",
+        "TW.Flex.NOWRAP",
+        "TW.Flex.ROW",
+        "TW.Flex.ROW_REVERSE",
+        "TW.Flex.FLEX_SHRINK",
+        "TW.Flex.FLEX_SHRINK_0",
+        "TW.Flex.WRAP",
+        "TW.Flex.WRAP_REVERSE",
+        "TW.Other.FLOAT_END",
+        "TW.Other.FLOAT_LEFT",
+        "TW.Other.FLOAT_NONE",
+        "TW.Other.FLOAT_RIGHT",
+        "TW.Other.FLOAT_START",
+        "TW.Layout.FLOW_ROOT",
+        "TW.Typography.FontWeight.BLACK",
+        "TW.Typography.FontWeight.BOLD",
+        "TW.Typography.FontWeight.EXTRABOLD",
+        "TW.Typography.FontWeight.EXTRALIGHT",
+        "TW.Typography.FontWeight.LIGHT",
+        "TW.Typography.FontWeight.MEDIUM",
+        "TW.Typography.FontFamily.MONO",
+        "TW.Typography.FontWeight.NORMAL",
+        "TW.Typography.FontFamily.SANS",
+        "TW.Typography.FontWeight.SEMIBOLD",
+        "TW.Typography.FontFamily.SERIF",
+        "TW.Typography.FontWeight.THIN",
+        "TW.Other.FORCED_COLOR_ADJUST_AUTO",
+        "TW.Other.FORCED_COLOR_ADJUST_NONE",
+        "TW.Spacing.Gap.GAP_0",
+        "TW.Spacing.Gap.GAP_0_5",
+        "TW.Spacing.Gap.GAP_1",
+        "TW.Spacing.Gap.GAP_1_5",
+        "TW.Spacing.Gap.GAP_10",
+        "TW.Spacing.Gap.GAP_11",
+        "TW.Spacing.Gap.GAP_12",
+        "TW.Spacing.Gap.GAP_14",
+        "TW.Spacing.Gap.GAP_16",
+        "TW.Spacing.Gap.GAP_2",
+        "TW.Spacing.Gap.GAP_2_5",
+        "TW.Spacing.Gap.GAP_20",
+        "TW.Spacing.Gap.GAP_24",
+        "TW.Spacing.Gap.GAP_28",
+        "TW.Spacing.Gap.GAP_3",
+        "TW.Spacing.Gap.GAP_3_5",
+        "TW.Spacing.Gap.GAP_32",
+        "TW.Spacing.Gap.GAP_36",
+        "TW.Spacing.Gap.GAP_4",
+        "TW.Spacing.Gap.GAP_40",
+        "TW.Spacing.Gap.GAP_44",
+        "TW.Spacing.Gap.GAP_48",
+        "TW.Spacing.Gap.GAP_5",
+        "TW.Spacing.Gap.GAP_52",
+        "TW.Spacing.Gap.GAP_56",
+        "TW.Spacing.Gap.GAP_6",
+        "TW.Spacing.Gap.GAP_60",
+        "TW.Spacing.Gap.GAP_64",
+        "TW.Spacing.Gap.GAP_7",
+        "TW.Spacing.Gap.GAP_72",
+        "TW.Spacing.Gap.GAP_8",
+        "TW.Spacing.Gap.GAP_80",
+        "TW.Spacing.Gap.GAP_9",
+        "TW.Spacing.Gap.GAP_96",
+        "TW.Spacing.Gap.GAP_PX",
+        "TW.Spacing.Gap.X_0",
+        "TW.Spacing.Gap.X_1",
+        "TW.Spacing.Gap.X_2",
+        "TW.Spacing.Gap.X_4",
+        "TW.Spacing.Gap.Y_0",
+        "TW.Spacing.Gap.Y_1",
+        "TW.Spacing.Gap.Y_2",
+        "TW.Spacing.Gap.Y_4",
+        "TW.Other.GRAYSCALE",
+        "TW.Other.GRAYSCALE_0",
+        "TW.Layout.GRID",
+        "TW.Grid.COLS_1",
+        "TW.Grid.COLS_10",
+        "TW.Grid.COLS_11",
+        "TW.Grid.COLS_12",
+        "TW.Grid.COLS_2",
+        "TW.Grid.COLS_3",
+        "TW.Grid.COLS_4",
+        "TW.Grid.COLS_5",
+        "TW.Grid.COLS_6",
+        "TW.Grid.COLS_7",
+        "TW.Grid.COLS_8",
+        "TW.Grid.COLS_9",
+        "TW.Grid.COLS_NONE",
+        "TW.Grid.COLS_SUBGRID",
+        "TW.Grid.FLOW_COL",
+        "TW.Grid.FLOW_COL_DENSE",
+        "TW.Grid.FLOW_DENSE",
+        "TW.Grid.FLOW_ROW",
+        "TW.Grid.FLOW_ROW_DENSE",
+        "TW.Grid.ROWS_1",
+        "TW.Grid.ROWS_10",
+        "TW.Grid.ROWS_11",
+        "TW.Grid.ROWS_12",
+        "TW.Grid.ROWS_2",
+        "TW.Grid.ROWS_3",
+        "TW.Grid.ROWS_4",
+        "TW.Grid.ROWS_5",
+        "TW.Grid.ROWS_6",
+        "TW.Grid.ROWS_7",
+        "TW.Grid.ROWS_8",
+        "TW.Grid.ROWS_9",
+        "TW.Grid.ROWS_NONE",
+        "TW.Grid.ROWS_SUBGRID",
+        "TW.Sizing.Height.H_0",
+        "TW.Sizing.Height.H_0_5",
+        "TW.Sizing.Height.H_1",
+        "TW.Sizing.Height.H_1_2",
+        "TW.Sizing.Height.H_1_3",
+        "TW.Sizing.Height.H_1_4",
+        "TW.Sizing.Height.H_1_5",
+        "TW.Sizing.Height.H_1_6",
+        "TW.Sizing.Height.H_10",
+        "TW.Sizing.Height.H_12",
+        "TW.Sizing.Height.H_16",
+        "TW.Sizing.Height.H_2",
+        "TW.Sizing.Height.H_2_3",
+        "TW.Sizing.Height.H_20",
+        "TW.Sizing.Height.H_24",
+        "TW.Sizing.Height.H_3",
+        "TW.Sizing.Height.H_3_4",
+        "TW.Sizing.Height.H_32",
+        "TW.Sizing.Height.H_4",
+        "TW.Sizing.Height.H_40",
+        "TW.Sizing.Height.H_48",
+        "TW.Sizing.Height.H_5",
+        "TW.Sizing.Height.H_56",
+        "TW.Sizing.Height.H_6",
+        "TW.Sizing.Height.H_64",
+        "TW.Sizing.Height.H_72",
+        "TW.Sizing.Height.H_8",
+        "TW.Sizing.Height.H_80",
+        "TW.Sizing.Height.H_96",
+        "TW.Sizing.Height.AUTO",
+        "TW.Sizing.Height.FIT",
+        "TW.Sizing.Height.FULL",
+        "TW.Sizing.Height.MAX",
+        "TW.Sizing.Height.MIN",
+        "TW.Sizing.Height.H_PX",
+        "TW.Sizing.Height.SCREEN",
+        "TW.Layout.HIDDEN",
+        "TW.Other.HUE_ROTATE_0",
+        "TW.Other.HUE_ROTATE_15",
+        "TW.Other.HUE_ROTATE_180",
+        "TW.Other.HUE_ROTATE_30",
+        "TW.Other.HUE_ROTATE_60",
+        "TW.Other.HUE_ROTATE_90",
+        "TW.Other.HYPHENS_AUTO",
+        "TW.Other.HYPHENS_MANUAL",
+        "TW.Other.HYPHENS_NONE",
+        "TW.Other.INDENT_0",
+        "TW.Other.INDENT_1",
+        "TW.Other.INDENT_2",
+        "TW.Other.INDENT_4",
+        "TW.Other.INDENT_8",
+        "TW.Layout.INLINE",
+        "TW.Layout.INLINE_BLOCK",
+        "TW.Layout.INLINE_FLEX",
+        "TW.Layout.INLINE_GRID",
+        "TW.Layout.INLINE_TABLE",
+        "TW.Position.INSET_0",
+        "TW.Position.INSET_0_5",
+        "TW.Position.INSET_1",
+        "TW.Position.INSET_1_5",
+        "TW.Position.INSET_10",
+        "TW.Position.INSET_11",
+        "TW.Position.INSET_12",
+        "TW.Position.INSET_14",
+        "TW.Position.INSET_16",
+        "TW.Position.INSET_2",
+        "TW.Position.INSET_2_5",
+        "TW.Position.INSET_20",
+        "TW.Position.INSET_24",
+        "TW.Position.INSET_28",
+        "TW.Position.INSET_3",
+        "TW.Position.INSET_3_5",
+        "TW.Position.INSET_32",
+        "TW.Position.INSET_36",
+        "TW.Position.INSET_4",
+        "TW.Position.INSET_40",
+        "TW.Position.INSET_44",
+        "TW.Position.INSET_48",
+        "TW.Position.INSET_5",
+        "TW.Position.INSET_52",
+        "TW.Position.INSET_56",
+        "TW.Position.INSET_6",
+        "TW.Position.INSET_60",
+        "TW.Position.INSET_64",
+        "TW.Position.INSET_7",
+        "TW.Position.INSET_72",
+        "TW.Position.INSET_8",
+        "TW.Position.INSET_80",
+        "TW.Position.INSET_9",
+        "TW.Position.INSET_96",
+        "TW.Position.INSET_PX",
+        "TW.Position.INSET_X_0",
+        "TW.Position.INSET_Y_0",
+        "TW.Other.INVERT",
+        "TW.Other.INVERT_0",
+        "TW.Other.INVISIBLE",
+        "TW.Other.ISOLATE",
+        "TW.Other.ISOLATION_AUTO",
+        "TW.Typography.FontStyle.ITALIC",
+        "TW.Flex.AlignItems.BASELINE",
+        "TW.Flex.AlignItems.CENTER",
+        "TW.Flex.AlignItems.END",
+        "TW.Flex.AlignItems.START",
+        "TW.Flex.AlignItems.STRETCH",
+        "TW.Flex.JustifyContent.AROUND",
+        "TW.Flex.JustifyContent.BETWEEN",
+        "TW.Flex.JustifyContent.CENTER",
+        "TW.Flex.JustifyContent.END",
+        "TW.Flex.JustifyContent.EVENLY",
+        "TW.Other.JUSTIFY_ITEMS_CENTER",
+        "TW.Other.JUSTIFY_ITEMS_END",
+        "TW.Other.JUSTIFY_ITEMS_START",
+        "TW.Other.JUSTIFY_ITEMS_STRETCH",
+        "TW.Other.JUSTIFY_SELF_AUTO",
+        "TW.Other.JUSTIFY_SELF_CENTER",
+        "TW.Other.JUSTIFY_SELF_END",
+        "TW.Other.JUSTIFY_SELF_START",
+        "TW.Other.JUSTIFY_SELF_STRETCH",
+        "TW.Flex.JustifyContent.START",
+        "TW.Flex.JustifyContent.STRETCH",
+        "TW.Other.LEADING_10",
+        "TW.Other.LEADING_3",
+        "TW.Other.LEADING_4",
+        "TW.Other.LEADING_5",
+        "TW.Other.LEADING_6",
+        "TW.Other.LEADING_7",
+        "TW.Other.LEADING_8",
+        "TW.Other.LEADING_9",
+        "TW.Other.LEADING_LOOSE",
+        "TW.Other.LEADING_NONE",
+        "TW.Other.LEADING_NORMAL",
+        "TW.Other.LEADING_RELAXED",
+        "TW.Other.LEADING_SNUG",
+        "TW.Other.LEADING_TIGHT",
+        "TW.Position.LEFT_0",
+        "TW.Position.LEFT_4",
+        "TW.Typography.TextDecoration.LINE_THROUGH",
+        "TW.Other.LINING_NUMS",
+        "TW.Other.LIST_DECIMAL",
+        "TW.Other.LIST_DISC",
+        "TW.Other.LIST_INSIDE",
+        "TW.Layout.LIST_ITEM",
+        "TW.Other.LIST_NONE",
+        "TW.Other.LIST_OUTSIDE",
+        "TW.Typography.TextTransform.LOWERCASE",
+        "TW.Spacing.Margin.M_0",
+        "TW.Spacing.Margin.M_0_5",
+        "TW.Spacing.Margin.M_1",
+        "TW.Spacing.Margin.M_1_5",
+        "TW.Spacing.Margin.M_10",
+        "TW.Spacing.Margin.M_11",
+        "TW.Spacing.Margin.M_12",
+        "TW.Spacing.Margin.M_14",
+        "TW.Spacing.Margin.M_16",
+        "TW.Spacing.Margin.M_2",
+        "TW.Spacing.Margin.M_2_5",
+        "TW.Spacing.Margin.M_20",
+        "TW.Spacing.Margin.M_24",
+        "TW.Spacing.Margin.M_28",
+        "TW.Spacing.Margin.M_3",
+        "TW.Spacing.Margin.M_3_5",
+        "TW.Spacing.Margin.M_32",
+        "TW.Spacing.Margin.M_36",
+        "TW.Spacing.Margin.M_4",
+        "TW.Spacing.Margin.M_40",
+        "TW.Spacing.Margin.M_44",
+        "TW.Spacing.Margin.M_48",
+        "TW.Spacing.Margin.M_5",
+        "TW.Spacing.Margin.M_52",
+        "TW.Spacing.Margin.M_56",
+        "TW.Spacing.Margin.M_6",
+        "TW.Spacing.Margin.M_60",
+        "TW.Spacing.Margin.M_64",
+        "TW.Spacing.Margin.M_7",
+        "TW.Spacing.Margin.M_72",
+        "TW.Spacing.Margin.M_8",
+        "TW.Spacing.Margin.M_80",
+        "TW.Spacing.Margin.M_9",
+        "TW.Spacing.Margin.M_96",
+        "TW.Spacing.Margin.M_AUTO",
+        "TW.Spacing.Margin.M_PX",
+        "TW.Sizing.MaxHeight.H_0",
+        "TW.Sizing.MaxHeight.FIT",
+        "TW.Sizing.MaxHeight.FULL",
+        "TW.Sizing.MaxHeight.MAX",
+        "TW.Sizing.MaxHeight.MIN",
+        "TW.Sizing.MaxHeight.SCREEN",
+        "TW.Sizing.MaxWidth.W_0",
+        "TW.Sizing.MaxWidth.W_2XL",
+        "TW.Sizing.MaxWidth.W_3XL",
+        "TW.Sizing.MaxWidth.W_4XL",
+        "TW.Sizing.MaxWidth.W_5XL",
+        "TW.Sizing.MaxWidth.W_6XL",
+        "TW.Sizing.MaxWidth.W_7XL",
+        "TW.Sizing.MaxWidth.FIT",
+        "TW.Sizing.MaxWidth.FULL",
+        "TW.Sizing.MaxWidth.W_LG",
+        "TW.Sizing.MaxWidth.MAX",
+        "TW.Sizing.MaxWidth.W_MD",
+        "TW.Sizing.MaxWidth.MIN",
+        "TW.Sizing.MaxWidth.W_NONE",
+        "TW.Sizing.MaxWidth.W_PROSE",
+        "TW.Sizing.MaxWidth.SCREEN_2XL",
+        "TW.Sizing.MaxWidth.SCREEN_LG",
+        "TW.Sizing.MaxWidth.SCREEN_MD",
+        "TW.Sizing.MaxWidth.SCREEN_SM",
+        "TW.Sizing.MaxWidth.SCREEN_XL",
+        "TW.Sizing.MaxWidth.W_SM",
+        "TW.Sizing.MaxWidth.W_XL",
+        "TW.Sizing.MaxWidth.W_XS",
+        "TW.Spacing.Margin.BOTTOM_0",
+        "TW.Spacing.Margin.BOTTOM_1",
+        "TW.Spacing.Margin.BOTTOM_2",
+        "TW.Sizing.MinHeight.H_0",
+        "TW.Sizing.MinHeight.FIT",
+        "TW.Sizing.MinHeight.FULL",
+        "TW.Sizing.MinHeight.MAX",
+        "TW.Sizing.MinHeight.MIN",
+        "TW.Sizing.MinHeight.SCREEN",
+        "TW.Sizing.MinWidth.W_0",
+        "TW.Sizing.MinWidth.FIT",
+        "TW.Sizing.MinWidth.FULL",
+        "TW.Sizing.MinWidth.MAX",
+        "TW.Sizing.MinWidth.MIN",
+        "TW.Other.MIX_BLEND_COLOR",
+        "TW.Other.MIX_BLEND_COLOR_BURN",
+        "TW.Other.MIX_BLEND_COLOR_DODGE",
+        "TW.Other.MIX_BLEND_DARKEN",
+        "TW.Other.MIX_BLEND_DIFFERENCE",
+        "TW.Other.MIX_BLEND_EXCLUSION",
+        "TW.Other.MIX_BLEND_HARD_LIGHT",
+        "TW.Other.MIX_BLEND_HUE",
+        "TW.Other.MIX_BLEND_LIGHTEN",
+        "TW.Other.MIX_BLEND_LUMINOSITY",
+        "TW.Other.MIX_BLEND_MULTIPLY",
+        "TW.Other.MIX_BLEND_NORMAL",
+        "TW.Other.MIX_BLEND_OVERLAY",
+        "TW.Other.MIX_BLEND_PLUS_DARKER",
+        "TW.Other.MIX_BLEND_PLUS_LIGHTER",
+        "TW.Other.MIX_BLEND_SATURATION",
+        "TW.Other.MIX_BLEND_SCREEN",
+        "TW.Other.MIX_BLEND_SOFT_LIGHT",
+        "TW.Spacing.Margin.LEFT_0",
+        "TW.Spacing.Margin.LEFT_1",
+        "TW.Spacing.Margin.LEFT_2",
+        "TW.Spacing.Margin.LEFT_4",
+        "TW.Spacing.Margin.RIGHT_0",
+        "TW.Spacing.Margin.RIGHT_1",
+        "TW.Spacing.Margin.RIGHT_2",
+        "TW.Spacing.Margin.TOP_0",
+        "TW.Spacing.Margin.TOP_1",
+        "TW.Spacing.Margin.TOP_2",
+        "TW.Spacing.Margin.TOP_4",
+        "TW.Spacing.Margin.X_0",
+        "TW.Spacing.Margin.X_1",
+        "TW.Spacing.Margin.X_2",
+        "TW.Spacing.Margin.X_4",
+        "TW.Spacing.Margin.X_AUTO",
+        "TW.Spacing.Margin.Y_0",
+        "TW.Spacing.Margin.Y_1",
+        "TW.Spacing.Margin.Y_2",
+        "TW.Spacing.Margin.Y_AUTO",
+        "TW.Typography.TextDecoration.NO_UNDERLINE",
+        "TW.Typography.TextTransform.NORMAL_CASE",
+        "TW.Other.NORMAL_NUMS",
+        "TW.Typography.FontStyle.NOT_ITALIC",
+        "TW.Other.NOT_SR_ONLY",
+        "TW.Other.OBJECT_BOTTOM",
+        "TW.Other.OBJECT_CENTER",
+        "TW.Other.OBJECT_CONTAIN",
+        "TW.Other.OBJECT_COVER",
+        "TW.Other.OBJECT_FILL",
+        "TW.Other.OBJECT_LEFT",
+        "TW.Other.OBJECT_LEFT_BOTTOM",
+        "TW.Other.OBJECT_LEFT_TOP",
+        "TW.Other.OBJECT_NONE",
+        "TW.Other.OBJECT_RIGHT",
+        "TW.Other.OBJECT_RIGHT_BOTTOM",
+        "TW.Other.OBJECT_RIGHT_TOP",
+        "TW.Other.OBJECT_SCALE_DOWN",
+        "TW.Other.OBJECT_TOP",
+        "TW.Other.OLDSTYLE_NUMS",
+        "TW.Effects.Opacity.OPACITY_0",
+        "TW.Effects.Opacity.OPACITY_10",
+        "TW.Effects.Opacity.OPACITY_100",
+        "TW.Effects.Opacity.OPACITY_15",
+        "TW.Effects.Opacity.OPACITY_20",
+        "TW.Effects.Opacity.OPACITY_25",
+        "TW.Effects.Opacity.OPACITY_30",
+        "TW.Effects.Opacity.OPACITY_40",
+        "TW.Effects.Opacity.OPACITY_5",
+        "TW.Effects.Opacity.OPACITY_50",
+        "TW.Effects.Opacity.OPACITY_60",
+        "TW.Effects.Opacity.OPACITY_70",
+        "TW.Effects.Opacity.OPACITY_75",
+        "TW.Effects.Opacity.OPACITY_80",
+        "TW.Effects.Opacity.OPACITY_90",
+        "TW.Effects.Opacity.OPACITY_95",
+        "TW.Other.ORDER_1",
+        "TW.Other.ORDER_10",
+        "TW.Other.ORDER_11",
+        "TW.Other.ORDER_12",
+        "TW.Other.ORDER_2",
+        "TW.Other.ORDER_3",
+        "TW.Other.ORDER_4",
+        "TW.Other.ORDER_5",
+        "TW.Other.ORDER_6",
+        "TW.Other.ORDER_7",
+        "TW.Other.ORDER_8",
+        "TW.Other.ORDER_9",
+        "TW.Other.ORDER_FIRST",
+        "TW.Other.ORDER_LAST",
+        "TW.Other.ORDER_NONE",
+        "TW.Other.ORDINAL",
+        "TW.Other.ORIGIN_BOTTOM",
+        "TW.Other.ORIGIN_BOTTOM_LEFT",
+        "TW.Other.ORIGIN_BOTTOM_RIGHT",
+        "TW.Other.ORIGIN_CENTER",
+        "TW.Other.ORIGIN_LEFT",
+        "TW.Other.ORIGIN_RIGHT",
+        "TW.Other.ORIGIN_TOP",
+        "TW.Other.ORIGIN_TOP_LEFT",
+        "TW.Other.ORIGIN_TOP_RIGHT",
+        "TW.Other.OUTLINE",
+        "TW.Other.OUTLINE_0",
+        "TW.Other.OUTLINE_1",
+        "TW.Other.OUTLINE_2",
+        "TW.Other.OUTLINE_4",
+        "TW.Other.OUTLINE_8",
+        "TW.Other.OUTLINE_BLACK",
+        "TW.Other.OUTLINE_BLUE_500",
+        "TW.Other.OUTLINE_DASHED",
+        "TW.Other.OUTLINE_DOTTED",
+        "TW.Other.OUTLINE_DOUBLE",
+        "TW.Other.OUTLINE_GRAY_500",
+        "TW.Other.OUTLINE_NONE",
+        "TW.Other.OUTLINE_OFFSET_0",
+        "TW.Other.OUTLINE_OFFSET_1",
+        "TW.Other.OUTLINE_OFFSET_2",
+        "TW.Other.OUTLINE_OFFSET_4",
+        "TW.Other.OUTLINE_OFFSET_8",
+        "TW.Other.OUTLINE_RED_500",
+        "TW.Other.OUTLINE_SLATE_500",
+        "TW.Other.OUTLINE_WHITE",
+        "TW.Overflow.OVERFLOW_AUTO",
+        "TW.Overflow.OVERFLOW_CLIP",
+        "TW.Overflow.OVERFLOW_HIDDEN",
+        "TW.Overflow.OVERFLOW_SCROLL",
+        "TW.Overflow.OVERFLOW_VISIBLE",
+        "TW.Overflow.OVERFLOW_X_AUTO",
+        "TW.Overflow.OVERFLOW_X_CLIP",
+        "TW.Overflow.OVERFLOW_X_HIDDEN",
+        "TW.Overflow.OVERFLOW_X_SCROLL",
+        "TW.Overflow.OVERFLOW_X_VISIBLE",
+        "TW.Overflow.OVERFLOW_Y_AUTO",
+        "TW.Overflow.OVERFLOW_Y_CLIP",
+        "TW.Overflow.OVERFLOW_Y_HIDDEN",
+        "TW.Overflow.OVERFLOW_Y_SCROLL",
+        "TW.Overflow.OVERFLOW_Y_VISIBLE",
+        "TW.Typography.TextDecoration.OVERLINE",
+        "TW.Other.OVERSCROLL_AUTO",
+        "TW.Other.OVERSCROLL_CONTAIN",
+        "TW.Other.OVERSCROLL_NONE",
+        "TW.Other.OVERSCROLL_X_AUTO",
+        "TW.Other.OVERSCROLL_X_CONTAIN",
+        "TW.Other.OVERSCROLL_X_NONE",
+        "TW.Other.OVERSCROLL_Y_AUTO",
+        "TW.Other.OVERSCROLL_Y_CONTAIN",
+        "TW.Other.OVERSCROLL_Y_NONE",
+        "TW.Spacing.Padding.P_0",
+        "TW.Spacing.Padding.P_0_5",
+        "TW.Spacing.Padding.P_1",
+        "TW.Spacing.Padding.P_1_5",
+        "TW.Spacing.Padding.P_10",
+        "TW.Spacing.Padding.P_11",
+        "TW.Spacing.Padding.P_12",
+        "TW.Spacing.Padding.P_14",
+        "TW.Spacing.Padding.P_16",
+        "TW.Spacing.Padding.P_2",
+        "TW.Spacing.Padding.P_2_5",
+        "TW.Spacing.Padding.P_20",
+        "TW.Spacing.Padding.P_24",
+        "TW.Spacing.Padding.P_28",
+        "TW.Spacing.Padding.P_3",
+        "TW.Spacing.Padding.P_3_5",
+        "TW.Spacing.Padding.P_32",
+        "TW.Spacing.Padding.P_36",
+        "TW.Spacing.Padding.P_4",
+        "TW.Spacing.Padding.P_40",
+        "TW.Spacing.Padding.P_44",
+        "TW.Spacing.Padding.P_48",
+        "TW.Spacing.Padding.P_5",
+        "TW.Spacing.Padding.P_52",
+        "TW.Spacing.Padding.P_56",
+        "TW.Spacing.Padding.P_6",
+        "TW.Spacing.Padding.P_60",
+        "TW.Spacing.Padding.P_64",
+        "TW.Spacing.Padding.P_7",
+        "TW.Spacing.Padding.P_72",
+        "TW.Spacing.Padding.P_8",
+        "TW.Spacing.Padding.P_80",
+        "TW.Spacing.Padding.P_9",
+        "TW.Spacing.Padding.P_96",
+        "TW.Spacing.Padding.P_PX",
+        "TW.Spacing.Padding.BOTTOM_0",
+        "TW.Spacing.Padding.BOTTOM_1",
+        "TW.Spacing.Padding.BOTTOM_2",
+        "TW.Spacing.Padding.PE_0",
+        "TW.Spacing.Padding.PE_1",
+        "TW.Spacing.Padding.PE_2",
+        "TW.Spacing.Padding.LEFT_0",
+        "TW.Spacing.Padding.LEFT_1",
+        "TW.Spacing.Padding.LEFT_2",
+        "TW.Spacing.Padding.LEFT_4",
+        "TW.Other.PLACE_CONTENT_AROUND",
+        "TW.Other.PLACE_CONTENT_BASELINE",
+        "TW.Other.PLACE_CONTENT_BETWEEN",
+        "TW.Other.PLACE_CONTENT_CENTER",
+        "TW.Other.PLACE_CONTENT_END",
+        "TW.Other.PLACE_CONTENT_EVENLY",
+        "TW.Other.PLACE_CONTENT_START",
+        "TW.Other.PLACE_CONTENT_STRETCH",
+        "TW.Other.PLACE_ITEMS_BASELINE",
+        "TW.Other.PLACE_ITEMS_CENTER",
+        "TW.Other.PLACE_ITEMS_END",
+        "TW.Other.PLACE_ITEMS_START",
+        "TW.Other.PLACE_ITEMS_STRETCH",
+        "TW.Other.PLACE_SELF_AUTO",
+        "TW.Other.PLACE_SELF_CENTER",
+        "TW.Other.PLACE_SELF_END",
+        "TW.Other.PLACE_SELF_START",
+        "TW.Other.PLACE_SELF_STRETCH",
+        "TW.Other.POINTER_EVENTS_AUTO",
+        "TW.Other.POINTER_EVENTS_NONE",
+        "TW.Spacing.Padding.RIGHT_0",
+        "TW.Spacing.Padding.RIGHT_1",
+        "TW.Spacing.Padding.RIGHT_2",
+        "TW.Other.PROPORTIONAL_NUMS",
+        "TW.Spacing.Padding.PS_0",
+        "TW.Spacing.Padding.PS_1",
+        "TW.Spacing.Padding.PS_2",
+        "TW.Spacing.Padding.TOP_0",
+        "TW.Spacing.Padding.TOP_1",
+        "TW.Spacing.Padding.TOP_2",
+        "TW.Spacing.Padding.TOP_4",
+        "TW.Spacing.Padding.X_0",
+        "TW.Spacing.Padding.X_1",
+        "TW.Spacing.Padding.X_2",
+        "TW.Spacing.Padding.X_4",
+        "TW.Spacing.Padding.X_6",
+        "TW.Spacing.Padding.X_8",
+        "TW.Spacing.Padding.Y_0",
+        "TW.Spacing.Padding.Y_1",
+        "TW.Spacing.Padding.Y_2",
+        "TW.Spacing.Padding.Y_4",
+        "TW.Position.RELATIVE",
+        "TW.Other.RESIZE",
+        "TW.Other.RESIZE_NONE",
+        "TW.Other.RESIZE_X",
+        "TW.Other.RESIZE_Y",
+        "TW.Position.RIGHT_0",
+        "TW.Other.RING",
+        "TW.Other.RING_0",
+        "TW.Other.RING_1",
+        "TW.Other.RING_2",
+        "TW.Other.RING_4",
+        "TW.Other.RING_8",
+        "TW.Other.RING_BLUE_500",
+        "TW.Other.RING_GRAY_500",
+        "TW.Other.RING_INSET",
+        "TW.Other.RING_OFFSET_0",
+        "TW.Other.RING_OFFSET_1",
+        "TW.Other.RING_OFFSET_2",
+        "TW.Other.RING_OFFSET_4",
+        "TW.Other.RING_OFFSET_8",
+        "TW.Other.RING_OFFSET_BLACK",
+        "TW.Other.RING_OFFSET_GRAY_500",
+        "TW.Other.RING_OFFSET_WHITE",
+        "TW.Other.RING_RED_500",
+        "TW.Other.RING_SLATE_500",
+        "TW.Transforms.ROTATE_0",
+        "TW.Transforms.ROTATE_1",
+        "TW.Transforms.ROTATE_12",
+        "TW.Transforms.ROTATE_180",
+        "TW.Transforms.ROTATE_2",
+        "TW.Transforms.ROTATE_3",
+        "TW.Transforms.ROTATE_45",
+        "TW.Transforms.ROTATE_6",
+        "TW.Transforms.ROTATE_90",
+        "TW.Border.ROUNDED",
+        "TW.Border.ROUNDED_2XL",
+        "TW.Border.ROUNDED_3XL",
+        "TW.Border.ROUNDED_B_NONE",
+        "TW.Border.ROUNDED_BL_NONE",
+        "TW.Border.ROUNDED_BR_NONE",
+        "TW.Border.ROUNDED_EE_NONE",
+        "TW.Border.ROUNDED_ES_NONE",
+        "TW.Border.ROUNDED_FULL",
+        "TW.Border.ROUNDED_L_NONE",
+        "TW.Border.ROUNDED_LG",
+        "TW.Border.ROUNDED_MD",
+        "TW.Border.ROUNDED_NONE",
+        "TW.Border.ROUNDED_R_NONE",
+        "TW.Border.ROUNDED_SE_NONE",
+        "TW.Border.ROUNDED_SM",
+        "TW.Border.ROUNDED_SS_NONE",
+        "TW.Border.ROUNDED_T",
+        "TW.Border.ROUNDED_T_NONE",
+        "TW.Border.ROUNDED_T_SM",
+        "TW.Border.ROUNDED_TL_NONE",
+        "TW.Border.ROUNDED_TR_NONE",
+        "TW.Border.ROUNDED_XL",
+        "TW.Grid.ROW_AUTO",
+        "TW.Grid.ROW_END_1",
+        "TW.Grid.ROW_SPAN_1",
+        "TW.Grid.ROW_SPAN_2",
+        "TW.Grid.ROW_SPAN_3",
+        "TW.Grid.ROW_SPAN_FULL",
+        "TW.Grid.ROW_START_1",
+        "TW.Other.SATURATE_0",
+        "TW.Other.SATURATE_100",
+        "TW.Other.SATURATE_150",
+        "TW.Other.SATURATE_200",
+        "TW.Other.SATURATE_50",
+        "TW.Transforms.SCALE_0",
+        "TW.Transforms.SCALE_100",
+        "TW.Transforms.SCALE_105",
+        "TW.Transforms.SCALE_110",
+        "TW.Transforms.SCALE_125",
+        "TW.Transforms.SCALE_150",
+        "TW.Transforms.SCALE_50",
+        "TW.Transforms.SCALE_75",
+        "TW.Transforms.SCALE_90",
+        "TW.Transforms.SCALE_95",
+        "TW.Transforms.SCALE_X_0",
+        "TW.Transforms.SCALE_X_100",
+        "TW.Transforms.SCALE_X_50",
+        "TW.Transforms.SCALE_Y_0",
+        "TW.Transforms.SCALE_Y_100",
+        "TW.Transforms.SCALE_Y_50",
+        "TW.Other.SCROLL_AUTO",
+        "TW.Other.SCROLL_M_0",
+        "TW.Other.SCROLL_M_1",
+        "TW.Other.SCROLL_M_2",
+        "TW.Other.SCROLL_MB_0",
+        "TW.Other.SCROLL_ML_0",
+        "TW.Other.SCROLL_MR_0",
+        "TW.Other.SCROLL_MT_0",
+        "TW.Other.SCROLL_MX_0",
+        "TW.Other.SCROLL_MY_0",
+        "TW.Other.SCROLL_P_0",
+        "TW.Other.SCROLL_P_1",
+        "TW.Other.SCROLL_P_2",
+        "TW.Other.SCROLL_PB_0",
+        "TW.Other.SCROLL_PL_0",
+        "TW.Other.SCROLL_PR_0",
+        "TW.Other.SCROLL_PT_0",
+        "TW.Other.SCROLL_PX_0",
+        "TW.Other.SCROLL_PY_0",
+        "TW.Other.SCROLL_SMOOTH",
+        "TW.Other.SELECT_ALL",
+        "TW.Other.SELECT_AUTO",
+        "TW.Other.SELECT_NONE",
+        "TW.Other.SELECT_TEXT",
+        "TW.Flex.AlignSelf.AUTO",
+        "TW.Flex.AlignSelf.BASELINE",
+        "TW.Flex.AlignSelf.CENTER",
+        "TW.Flex.AlignSelf.END",
+        "TW.Flex.AlignSelf.START",
+        "TW.Flex.AlignSelf.STRETCH",
+        "TW.Other.SEPIA",
+        "TW.Other.SEPIA_0",
+        "TW.Effects.Shadow.DEFAULT",
+        "TW.Effects.Shadow.N2XL",
+        "TW.Effects.Shadow.BLUE_500",
+        "TW.Effects.Shadow.GRAY_500",
+        "TW.Effects.Shadow.INNER",
+        "TW.Effects.Shadow.LG",
+        "TW.Effects.Shadow.MD",
+        "TW.Effects.Shadow.NONE",
+        "TW.Effects.Shadow.RED_500",
+        "TW.Effects.Shadow.SLATE_500",
+        "TW.Effects.Shadow.SM",
+        "TW.Effects.Shadow.XL",
+        "TW.Sizing.Size.SIZE_0",
+        "TW.Sizing.Size.SIZE_1",
+        "TW.Sizing.Size.SIZE_2",
+        "TW.Sizing.Size.SIZE_4",
+        "TW.Sizing.Size.SIZE_8",
+        "TW.Sizing.Size.SIZE_AUTO",
+        "TW.Sizing.Size.SIZE_FULL",
+        "TW.Transforms.SKEW_X_0",
+        "TW.Transforms.SKEW_X_1",
+        "TW.Transforms.SKEW_X_12",
+        "TW.Transforms.SKEW_X_2",
+        "TW.Transforms.SKEW_X_3",
+        "TW.Transforms.SKEW_X_6",
+        "TW.Transforms.SKEW_Y_0",
+        "TW.Transforms.SKEW_Y_1",
+        "TW.Other.SLASHED_ZERO",
+        "TW.Other.SNAP_ALIGN_NONE",
+        "TW.Other.SNAP_ALWAYS",
+        "TW.Other.SNAP_BOTH",
+        "TW.Other.SNAP_CENTER",
+        "TW.Other.SNAP_END",
+        "TW.Other.SNAP_MANDATORY",
+        "TW.Other.SNAP_NONE",
+        "TW.Other.SNAP_NORMAL",
+        "TW.Other.SNAP_PROXIMITY",
+        "TW.Other.SNAP_START",
+        "TW.Other.SNAP_X",
+        "TW.Other.SNAP_Y",
+        "TW.Spacing.Space.X_0",
+        "TW.Spacing.Space.X_1",
+        "TW.Spacing.Space.X_2",
+        "TW.Spacing.Space.X_4",
+        "TW.Spacing.Space.X_",
+        "TW.Spacing.Space.Y_0",
+        "TW.Spacing.Space.Y_1",
+        "TW.Spacing.Space.Y_2",
+        "TW.Spacing.Space.Y_4",
+        "TW.Spacing.Space.Y_",
+        "TW.Other.SR_ONLY",
+        "TW.Other.STACKED_FRACTIONS",
+        "TW.Position.STATIC",
+        "TW.Position.STICKY",
+        "TW.Other.STROKE_0",
+        "TW.Other.STROKE_1",
+        "TW.Other.STROKE_2",
+        "TW.Other.STROKE_BLACK",
+        "TW.Other.STROKE_BLUE_500",
+        "TW.Other.STROKE_CURRENT",
+        "TW.Other.STROKE_INHERIT",
+        "TW.Other.STROKE_NONE",
+        "TW.Other.STROKE_RED_500",
+        "TW.Other.STROKE_SLATE_500",
+        "TW.Other.STROKE_TRANSPARENT",
+        "TW.Other.STROKE_WHITE",
+        "TW.Layout.TABLE",
+        "TW.Other.TABLE_AUTO",
+        "TW.Layout.TABLE_CAPTION",
+        "TW.Layout.TABLE_CELL",
+        "TW.Layout.TABLE_COLUMN",
+        "TW.Layout.TABLE_COLUMN_GROUP",
+        "TW.Other.TABLE_FIXED",
+        "TW.Layout.TABLE_FOOTER_GROUP",
+        "TW.Layout.TABLE_HEADER_GROUP",
+        "TW.Layout.TABLE_ROW",
+        "TW.Layout.TABLE_ROW_GROUP",
+        "TW.Other.TABULAR_NUMS",
+        "TW.Typography.FontSize.XXLARGE",
+        "TW.Typography.FontSize.XXXLARGE",
+        "TW.Typography.FontSize.XXXXLARGE",
+        "TW.Typography.FontSize.XXXXXLARGE",
+        "TW.Typography.FontSize.XXXXXXLARGE",
+        "TW.Typography.FontSize.XXXXXXXLARGE",
+        "TW.Typography.FontSize.XXXXXXXXLARGE",
+        "TW.Typography.FontSize.XXXXXXXXXLARGE",
+        "TW.Text.AMBER_50",
+        "TW.Text.AMBER_500",
+        "TW.Text.AMBER_950",
+        "TW.Other.TEXT_BALANCE",
+        "TW.Typography.FontSize.BASE",
+        "TW.Text.BLACK",
+        "TW.Text.BLUE_100",
+        "TW.Text.BLUE_50",
+        "TW.Text.BLUE_500",
+        "TW.Text.BLUE_950",
+        "TW.Typography.TextAlign.CENTER",
+        "TW.Other.TEXT_CLIP",
+        "TW.Text.CURRENT",
+        "TW.Text.CYAN_50",
+        "TW.Text.CYAN_500",
+        "TW.Text.CYAN_950",
+        "TW.Other.TEXT_ELLIPSIS",
+        "TW.Text.EMERALD_50",
+        "TW.Text.EMERALD_500",
+        "TW.Text.EMERALD_950",
+        "TW.Typography.TextAlign.END",
+        "TW.Text.FUCHSIA_50",
+        "TW.Text.FUCHSIA_500",
+        "TW.Text.FUCHSIA_950",
+        "TW.Text.GRAY_100",
+        "TW.Text.GRAY_200",
+        "TW.Text.GRAY_300",
+        "TW.Text.GRAY_400",
+        "TW.Text.GRAY_50",
+        "TW.Text.GRAY_500",
+        "TW.Text.GRAY_600",
+        "TW.Text.GRAY_700",
+        "TW.Text.GRAY_800",
+        "TW.Text.GRAY_900",
+        "TW.Text.GRAY_950",
+        "TW.Text.GREEN_50",
+        "TW.Text.GREEN_500",
+        "TW.Text.GREEN_950",
+        "TW.Text.INDIGO_50",
+        "TW.Text.INDIGO_500",
+        "TW.Text.INDIGO_950",
+        "TW.Text.INHERIT",
+        "TW.Typography.TextAlign.JUSTIFY",
+        "TW.Typography.TextAlign.LEFT",
+        "TW.Typography.FontSize.LG",
+        "TW.Text.LIME_50",
+        "TW.Text.LIME_500",
+        "TW.Text.LIME_950",
+        "TW.Text.NEUTRAL_50",
+        "TW.Text.NEUTRAL_500",
+        "TW.Text.NEUTRAL_950",
+        "TW.Other.TEXT_NOWRAP",
+        "TW.Text.ORANGE_50",
+        "TW.Text.ORANGE_500",
+        "TW.Text.ORANGE_950",
+        "TW.Text.PINK_50",
+        "TW.Text.PINK_500",
+        "TW.Text.PINK_950",
+        "TW.Other.TEXT_PRETTY",
+        "TW.Text.PURPLE_50",
+        "TW.Text.PURPLE_500",
+        "TW.Text.PURPLE_950",
+        "TW.Text.RED_100",
+        "TW.Text.RED_200",
+        "TW.Text.RED_300",
+        "TW.Text.RED_400",
+        "TW.Text.RED_50",
+        "TW.Text.RED_500",
+        "TW.Text.RED_600",
+        "TW.Text.RED_700",
+        "TW.Text.RED_800",
+        "TW.Text.RED_900",
+        "TW.Text.RED_950",
+        "TW.Typography.TextAlign.RIGHT",
+        "TW.Text.ROSE_50",
+        "TW.Text.ROSE_500",
+        "TW.Text.ROSE_950",
+        "TW.Text.SKY_50",
+        "TW.Text.SKY_500",
+        "TW.Text.SKY_950",
+        "TW.Text.SLATE_100",
+        "TW.Text.SLATE_200",
+        "TW.Text.SLATE_300",
+        "TW.Text.SLATE_400",
+        "TW.Text.SLATE_50",
+        "TW.Text.SLATE_500",
+        "TW.Text.SLATE_600",
+        "TW.Text.SLATE_700",
+        "TW.Text.SLATE_800",
+        "TW.Text.SLATE_900",
+        "TW.Text.SLATE_950",
+        "TW.Typography.FontSize.SM",
+        "TW.Typography.TextAlign.START",
+        "TW.Text.STONE_50",
+        "TW.Text.STONE_500",
+        "TW.Text.STONE_950",
+        "TW.Text.TEAL_50",
+        "TW.Text.TEAL_500",
+        "TW.Text.TEAL_950",
+        "TW.Text.TRANSPARENT",
+        "TW.Text.VIOLET_50",
+        "TW.Text.VIOLET_500",
+        "TW.Text.VIOLET_950",
+        "TW.Text.WHITE",
+        "TW.Other.TEXT_WRAP",
+        "TW.Typography.FontSize.XL",
+        "TW.Typography.FontSize.XS",
+        "TW.Text.YELLOW_50",
+        "TW.Text.YELLOW_500",
+        "TW.Text.YELLOW_950",
+        "TW.Text.ZINC_100",
+        "TW.Text.ZINC_50",
+        "TW.Text.ZINC_500",
+        "TW.Text.ZINC_950",
+        "TW.Position.TOP_0",
+        "TW.Position.TOP_0_5",
+        "TW.Position.TOP_1",
+        "TW.Position.TOP_16",
+        "TW.Position.TOP_2",
+        "TW.Position.TOP_4",
+        "TW.Position.TOP_8",
+        "TW.Position.TOP_AUTO",
+        "TW.Position.TOP_PX",
+        "TW.Other.TOUCH_AUTO",
+        "TW.Other.TOUCH_MANIPULATION",
+        "TW.Other.TOUCH_NONE",
+        "TW.Other.TOUCH_PAN_DOWN",
+        "TW.Other.TOUCH_PAN_LEFT",
+        "TW.Other.TOUCH_PAN_RIGHT",
+        "TW.Other.TOUCH_PAN_UP",
+        "TW.Other.TOUCH_PAN_X",
+        "TW.Other.TOUCH_PAN_Y",
+        "TW.Other.TOUCH_PINCH_ZOOM",
+        "TW.Other.TRANSFORM",
+        "TW.Transitions.TRANSITION",
+        "TW.Transitions.TRANSITION_ALL",
+        "TW.Transitions.TRANSITION_COLORS",
+        "TW.Transitions.TRANSITION_NONE",
+        "TW.Transitions.TRANSITION_OPACITY",
+        "TW.Transitions.TRANSITION_SHADOW",
+        "TW.Transitions.TRANSITION_TRANSFORM",
+        "TW.Transforms.TRANSLATE_X_0",
+        "TW.Transforms.TRANSLATE_X_1",
+        "TW.Transforms.TRANSLATE_X_2",
+        "TW.Transforms.TRANSLATE_Y_0",
+        "TW.Transforms.TRANSLATE_Y_1",
+        "TW.Transforms.TRANSLATE_Y_2",
+        "TW.Other.TRUNCATE",
+        "TW.Typography.TextDecoration.UNDERLINE",
+        "TW.Other.UNDERLINE_OFFSET_0",
+        "TW.Other.UNDERLINE_OFFSET_1",
+        "TW.Other.UNDERLINE_OFFSET_2",
+        "TW.Other.UNDERLINE_OFFSET_4",
+        "TW.Other.UNDERLINE_OFFSET_8",
+        "TW.Other.UNDERLINE_OFFSET_AUTO",
+        "TW.Typography.TextTransform.UPPERCASE",
+        "TW.Other.VISIBLE",
+        "TW.Sizing.Width.W_0",
+        "TW.Sizing.Width.W_0_5",
+        "TW.Sizing.Width.W_1",
+        "TW.Sizing.Width.W_1_12",
+        "TW.Sizing.Width.W_1_2",
+        "TW.Sizing.Width.W_1_3",
+        "TW.Sizing.Width.W_1_4",
+        "TW.Sizing.Width.W_1_5",
+        "TW.Sizing.Width.W_1_6",
+        "TW.Sizing.Width.W_10",
+        "TW.Sizing.Width.W_12",
+        "TW.Sizing.Width.W_16",
+        "TW.Sizing.Width.W_2",
+        "TW.Sizing.Width.W_2_3",
+        "TW.Sizing.Width.W_2_4",
+        "TW.Sizing.Width.W_2_5",
+        "TW.Sizing.Width.W_20",
+        "TW.Sizing.Width.W_24",
+        "TW.Sizing.Width.W_3",
+        "TW.Sizing.Width.W_3_4",
+        "TW.Sizing.Width.W_3_5",
+        "TW.Sizing.Width.W_32",
+        "TW.Sizing.Width.W_4",
+        "TW.Sizing.Width.W_4_5",
+        "TW.Sizing.Width.W_40",
+        "TW.Sizing.Width.W_48",
+        "TW.Sizing.Width.W_5",
+        "TW.Sizing.Width.W_56",
+        "TW.Sizing.Width.W_6",
+        "TW.Sizing.Width.W_64",
+        "TW.Sizing.Width.W_72",
+        "TW.Sizing.Width.W_8",
+        "TW.Sizing.Width.W_80",
+        "TW.Sizing.Width.W_96",
+        "TW.Sizing.Width.AUTO",
+        "TW.Sizing.Width.FIT",
+        "TW.Sizing.Width.FULL",
+        "TW.Sizing.Width.MAX",
+        "TW.Sizing.Width.MIN",
+        "TW.Sizing.Width.W_PX",
+        "TW.Sizing.Width.SCREEN",
+        "TW.Other.WHITESPACE_BREAK_SPACES",
+        "TW.Other.WHITESPACE_NORMAL",
+        "TW.Other.WHITESPACE_NOWRAP",
+        "TW.Other.WHITESPACE_PRE",
+        "TW.Other.WHITESPACE_PRE_LINE",
+        "TW.Other.WHITESPACE_PRE_WRAP",
+        "TW.Other.WILL_CHANGE_AUTO",
+        "TW.Other.WILL_CHANGE_CONTENTS",
+        "TW.Other.WILL_CHANGE_SCROLL",
+        "TW.Other.WILL_CHANGE_TRANSFORM",
+        "TW.Position.Z_0",
+        "TW.Position.Z_10",
+        "TW.Position.Z_20",
+        "TW.Position.Z_30",
+        "TW.Position.Z_40",
+        "TW.Position.Z_50",
+        "TW.Position.AUTO"
+    };
+
+    private static final TwUtilityInfo[] INFOS = new TwUtilityInfo[TwUtilities.COUNT];
+
+    static {
+        for (int id = 0; id < INFOS.length; id++) {
+            INFOS[id] = new TwUtilityInfo(id);
+        }
+    }
+
+    private final int id;
+
+    private TwUtilityInfo(int id) {
+        this.id = id;
+    }
+
+    /**
+     * Returns the utility with the given class name, or {@code null} if it is not a known utility.
+     */
+    public static TwUtilityInfo of(CharSequence className) {
+        int id = TwUtilities.id(className);
+        return id < 0 ? null : INFOS[id];
+    }
+
+    /**
+     * Returns the utility with the given ID.
+     *
+     * @throws IndexOutOfBoundsException if the ID is not in {@code [0, TwUtilities.COUNT)}
+     */
+    public static TwUtilityInfo of(int id) {
+        return INFOS[id];
+    }
+
+    @Override
+    public int id() {
+        return id;
+    }
+
+    @Override
+    public String className() {
+        return TwUtilities.NAMES[id];
+    }
+
+    @Override
+    public TwUtilityInfo info() {
+        return this;
+    }
+
+    /** Category the utility was extracted under, e.g. {@code "padding"} */
+    public String category() {
+        return CATEGORIES[CATEGORY_OF[id]];
+    }
+
+    /** Qualified name of the constant holding the class name, e.g. {@code "TW.Spacing.Padding.LEFT_4"} */
+    public String constant() {
+        return CONSTANTS[id];
+    }
+
+    @Override
+    public String toString() {
+        return className();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,1013 @@
+package com.vaadin.flow.component.tailwind;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A Tailwind CSS variant, or a stack of variants, that can be applied to utilities.
+ * <p>
+ * Every variant of the Tailwind build has a constant. Variants stack in the order they are
+ * combined, and other variants, such as arbitrary ones, are created by name:
+ *
+ * <pre>{@code
+ * TwVariant variant = TwVariant.DARK.then(TwVariant.MD).then(TwVariant.GROUP_HOVER);
+ * div.addClassName(variant.apply(TW.Background.GRAY_700));
+ * // "dark:md:group-hover:bg-gray-700"
+ * TwVariant open = TwVariant.of("data-[state=open]");
+ * }</pre>
+ * <p>
+ * Applying a variant to a known utility returns a shared instance without allocating: single
+ * variants use the tables of {@link TwVariants}, stacks keep a table of their own. Stacks
+ * are memoized, so repeating {@link #then(TwVariant)} does not allocate either. Other strings go
+ * through {@link TwInternPool}. Instances are immutable and thread-safe.
+ */
+public final class TwVariant implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** {@code sm:} - Sm breakpoint (640px) */
+    public static final TwVariant SM = new TwVariant(TwVariants.SM);
+
+    /** {@code md:} - Md breakpoint (768px) */
+    public static final TwVariant MD = new TwVariant(TwVariants.MD);
+
+    /** {@code lg:} - Lg breakpoint (1024px) */
+    public static final TwVariant LG = new TwVariant(TwVariants.LG);
+
+    /** {@code xl:} - Xl breakpoint (1280px) */
+    public static final TwVariant XL = new TwVariant(TwVariants.XL);
+
+    /** {@code 2xl:} - 2xl breakpoint (1536px) */
+    public static final TwVariant XXL = new TwVariant(TwVariants.XXL);
+
+    /** {@code hover:} - Hover state */
+    public static final TwVariant HOVER = new TwVariant(TwVariants.HOVER);
+
+    /** {@code focus:} - Focus state */
+    public static final TwVariant FOCUS = new TwVariant(TwVariants.FOCUS);
+
+    /** {@code active:} - Active state */
+    public static final TwVariant ACTIVE = new TwVariant(TwVariants.ACTIVE);
+
+    /** {@code dark:} - Dark mode */
+    public static final TwVariant DARK = new TwVariant(TwVariants.DARK);
+
+    /** {@code disabled:} - Disabled state */
+    public static final TwVariant DISABLED = new TwVariant(TwVariants.DISABLED);
+
+    /** {@code first:} - Variant first */
+    public static final TwVariant FIRST = new TwVariant(TwVariants.FIRST);
+
+    /** {@code last:} - Variant last */
+    public static final TwVariant LAST = new TwVariant(TwVariants.LAST);
+
+    /** {@code only:} - Variant only */
+    public static final TwVariant ONLY = new TwVariant(TwVariants.ONLY);
+
+    /** {@code odd:} - Variant odd */
+    public static final TwVariant ODD = new TwVariant(TwVariants.ODD);
+
+    /** {@code even:} - Variant even */
+    public static final TwVariant EVEN = new TwVariant(TwVariants.EVEN);
+
+    /** {@code first-of-type:} - Variant first-of-type */
+    public static final TwVariant FIRST_OF_TYPE = new TwVariant(TwVariants.FIRST_OF_TYPE);
+
+    /** {@code last-of-type:} - Variant last-of-type */
+    public static final TwVariant LAST_OF_TYPE = new TwVariant(TwVariants.LAST_OF_TYPE);
+
+    /** {@code only-of-type:} - Variant only-of-type */
+    public static final TwVariant ONLY_OF_TYPE = new TwVariant(TwVariants.ONLY_OF_TYPE);
+
+    /** {@code visited:} - Variant visited */
+    public static final TwVariant VISITED = new TwVariant(TwVariants.VISITED);
+
+    /** {@code target:} - Variant target */
+    public static final TwVariant TARGET = new TwVariant(TwVariants.TARGET);
+
+    /** {@code open:} - Variant open */
+    public static final TwVariant OPEN = new TwVariant(TwVariants.OPEN);
+
+    /** {@code default:} - Variant default */
+    public static final TwVariant DEFAULT = new TwVariant(TwVariants.DEFAULT);
+
+    /** {@code checked:} - Variant checked */
+    public static final TwVariant CHECKED = new TwVariant(TwVariants.CHECKED);
+
+    /** {@code indeterminate:} - Variant indeterminate */
+    public static final TwVariant INDETERMINATE = new TwVariant(TwVariants.INDETERMINATE);
+
+    /** {@code placeholder-shown:} - Variant placeholder-shown */
+    public static final TwVariant PLACEHOLDER_SHOWN = new TwVariant(TwVariants.PLACEHOLDER_SHOWN);
+
+    /** {@code autofill:} - Variant autofill */
+    public static final TwVariant AUTOFILL = new TwVariant(TwVariants.AUTOFILL);
+
+    /** {@code optional:} - Variant optional */
+    public static final TwVariant OPTIONAL = new TwVariant(TwVariants.OPTIONAL);
+
+    /** {@code required:} - Variant required */
+    public static final TwVariant REQUIRED = new TwVariant(TwVariants.REQUIRED);
+
+    /** {@code valid:} - Variant valid */
+    public static final TwVariant VALID = new TwVariant(TwVariants.VALID);
+
+    /** {@code invalid:} - Variant invalid */
+    public static final TwVariant INVALID = new TwVariant(TwVariants.INVALID);
+
+    /** {@code user-valid:} - Variant user-valid */
+    public static final TwVariant USER_VALID = new TwVariant(TwVariants.USER_VALID);
+
+    /** {@code user-invalid:} - Variant user-invalid */
+    public static final TwVariant USER_INVALID = new TwVariant(TwVariants.USER_INVALID);
+
+    /** {@code in-range:} - Variant in-range */
+    public static final TwVariant IN_RANGE = new TwVariant(TwVariants.IN_RANGE);
+
+    /** {@code out-of-range:} - Variant out-of-range */
+    public static final TwVariant OUT_OF_RANGE = new TwVariant(TwVariants.OUT_OF_RANGE);
+
+    /** {@code read-only:} - Variant read-only */
+    public static final TwVariant READ_ONLY = new TwVariant(TwVariants.READ_ONLY);
+
+    /** {@code empty:} - Variant empty */
+    public static final TwVariant EMPTY = new TwVariant(TwVariants.EMPTY);
+
+    /** {@code focus-within:} - Variant focus-within */
+    public static final TwVariant FOCUS_WITHIN = new TwVariant(TwVariants.FOCUS_WITHIN);
+
+    /** {@code focus-visible:} - Variant focus-visible */
+    public static final TwVariant FOCUS_VISIBLE = new TwVariant(TwVariants.FOCUS_VISIBLE);
+
+    /** {@code enabled:} - Variant enabled */
+    public static final TwVariant ENABLED = new TwVariant(TwVariants.ENABLED);
+
+    /** {@code inert:} - Variant inert */
+    public static final TwVariant INERT = new TwVariant(TwVariants.INERT);
+
+    /** {@code before:} - Variant before */
+    public static final TwVariant BEFORE = new TwVariant(TwVariants.BEFORE);
+
+    /** {@code after:} - Variant after */
+    public static final TwVariant AFTER = new TwVariant(TwVariants.AFTER);
+
+    /** {@code first-letter:} - Variant first-letter */
+    public static final TwVariant FIRST_LETTER = new TwVariant(TwVariants.FIRST_LETTER);
+
+    /** {@code first-line:} - Variant first-line */
+    public static final TwVariant FIRST_LINE = new TwVariant(TwVariants.FIRST_LINE);
+
+    /** {@code marker:} - Variant marker */
+    public static final TwVariant MARKER = new TwVariant(TwVariants.MARKER);
+
+    /** {@code selection:} - Variant selection */
+    public static final TwVariant SELECTION = new TwVariant(TwVariants.SELECTION);
+
+    /** {@code file:} - Variant file */
+    public static final TwVariant FILE = new TwVariant(TwVariants.FILE);
+
+    /** {@code backdrop:} - Variant backdrop */
+    public static final TwVariant BACKDROP = new TwVariant(TwVariants.BACKDROP);
+
+    /** {@code placeholder:} - Variant placeholder */
+    public static final TwVariant PLACEHOLDER = new TwVariant(TwVariants.PLACEHOLDER);
+
+    /** {@code details-content:} - Variant details-content */
+    public static final TwVariant DETAILS_CONTENT = new TwVariant(TwVariants.DETAILS_CONTENT);
+
+    /** {@code motion-safe:} - Variant motion-safe */
+    public static final TwVariant MOTION_SAFE = new TwVariant(TwVariants.MOTION_SAFE);
+
+    /** {@code motion-reduce:} - Variant motion-reduce */
+    public static final TwVariant MOTION_REDUCE = new TwVariant(TwVariants.MOTION_REDUCE);
+
+    /** {@code contrast-more:} - Variant contrast-more */
+    public static final TwVariant CONTRAST_MORE = new TwVariant(TwVariants.CONTRAST_MORE);
+
+    /** {@code contrast-less:} - Variant contrast-less */
+    public static final TwVariant CONTRAST_LESS = new TwVariant(TwVariants.CONTRAST_LESS);
+
+    /** {@code print:} - Variant print */
+    public static final TwVariant PRINT = new TwVariant(TwVariants.PRINT);
+
+    /** {@code portrait:} - Variant portrait */
+    public static final TwVariant PORTRAIT = new TwVariant(TwVariants.PORTRAIT);
+
+    /** {@code landscape:} - Variant landscape */
+    public static final TwVariant LANDSCAPE = new TwVariant(TwVariants.LANDSCAPE);
+
+    /** {@code forced-colors:} - Variant forced-colors */
+    public static final TwVariant FORCED_COLORS = new TwVariant(TwVariants.FORCED_COLORS);
+
+    /** {@code inverted-colors:} - Variant inverted-colors */
+    public static final TwVariant INVERTED_COLORS = new TwVariant(TwVariants.INVERTED_COLORS);
+
+    /** {@code pointer-fine:} - Variant pointer-fine */
+    public static final TwVariant POINTER_FINE = new TwVariant(TwVariants.POINTER_FINE);
+
+    /** {@code pointer-coarse:} - Variant pointer-coarse */
+    public static final TwVariant POINTER_COARSE = new TwVariant(TwVariants.POINTER_COARSE);
+
+    /** {@code pointer-none:} - Variant pointer-none */
+    public static final TwVariant POINTER_NONE = new TwVariant(TwVariants.POINTER_NONE);
+
+    /** {@code any-pointer-fine:} - Variant any-pointer-fine */
+    public static final TwVariant ANY_POINTER_FINE = new TwVariant(TwVariants.ANY_POINTER_FINE);
+
+    /** {@code any-pointer-coarse:} - Variant any-pointer-coarse */
+    public static final TwVariant ANY_POINTER_COARSE = new TwVariant(TwVariants.ANY_POINTER_COARSE);
+
+    /** {@code any-pointer-none:} - Variant any-pointer-none */
+    public static final TwVariant ANY_POINTER_NONE = new TwVariant(TwVariants.ANY_POINTER_NONE);
+
+    /** {@code noscript:} - Variant noscript */
+    public static final TwVariant NOSCRIPT = new TwVariant(TwVariants.NOSCRIPT);
+
+    /** {@code starting:} - Variant starting */
+    public static final TwVariant STARTING = new TwVariant(TwVariants.STARTING);
+
+    /** {@code ltr:} - Variant ltr */
+    public static final TwVariant LTR = new TwVariant(TwVariants.LTR);
+
+    /** {@code rtl:} - Variant rtl */
+    public static final TwVariant RTL = new TwVariant(TwVariants.RTL);
+
+    /** {@code max-sm:} - Below the sm breakpoint (640px) */
+    public static final TwVariant MAX_SM = new TwVariant(TwVariants.MAX_SM);
+
+    /** {@code max-md:} - Below the md breakpoint (768px) */
+    public static final TwVariant MAX_MD = new TwVariant(TwVariants.MAX_MD);
+
+    /** {@code max-lg:} - Below the lg breakpoint (1024px) */
+    public static final TwVariant MAX_LG = new TwVariant(TwVariants.MAX_LG);
+
+    /** {@code max-xl:} - Below the xl breakpoint (1280px) */
+    public static final TwVariant MAX_XL = new TwVariant(TwVariants.MAX_XL);
+
+    /** {@code max-2xl:} - Below the 2xl breakpoint (1536px) */
+    public static final TwVariant MAX_XXL = new TwVariant(TwVariants.MAX_XXL);
+
+    /** {@code @3xs:} - Container at least as wide as the 3xs container size */
+    public static final TwVariant AT_3XS = new TwVariant(TwVariants.AT_3XS);
+
+    /** {@code @2xs:} - Container at least as wide as the 2xs container size */
+    public static final TwVariant AT_2XS = new TwVariant(TwVariants.AT_2XS);
+
+    /** {@code @xs:} - Container at least as wide as the xs container size */
+    public static final TwVariant AT_XS = new TwVariant(TwVariants.AT_XS);
+
+    /** {@code @sm:} - Container at least as wide as the sm container size */
+    public static final TwVariant AT_SM = new TwVariant(TwVariants.AT_SM);
+
+    /** {@code @md:} - Container at least as wide as the md container size */
+    public static final TwVariant AT_MD = new TwVariant(TwVariants.AT_MD);
+
+    /** {@code @lg:} - Container at least as wide as the lg container size */
+    public static final TwVariant AT_LG = new TwVariant(TwVariants.AT_LG);
+
+    /** {@code @xl:} - Container at least as wide as the xl container size */
+    public static final TwVariant AT_XL = new TwVariant(TwVariants.AT_XL);
+
+    /** {@code @2xl:} - Container at least as wide as the 2xl container size */
+    public static final TwVariant AT_XXL = new TwVariant(TwVariants.AT_XXL);
+
+    /** {@code @3xl:} - Container at least as wide as the 3xl container size */
+    public static final TwVariant AT_3XL = new TwVariant(TwVariants.AT_3XL);
+
+    /** {@code @4xl:} - Container at least as wide as the 4xl container size */
+    public static final TwVariant AT_4XL = new TwVariant(TwVariants.AT_4XL);
+
+    /** {@code @5xl:} - Container at least as wide as the 5xl container size */
+    public static final TwVariant AT_5XL = new TwVariant(TwVariants.AT_5XL);
+
+    /** {@code @6xl:} - Container at least as wide as the 6xl container size */
+    public static final TwVariant AT_6XL = new TwVariant(TwVariants.AT_6XL);
+
+    /** {@code @7xl:} - Container at least as wide as the 7xl container size */
+    public static final TwVariant AT_7XL = new TwVariant(TwVariants.AT_7XL);
+
+    /** {@code @max-3xs:} - Container narrower than the 3xs container size */
+    public static final TwVariant AT_MAX_3XS = new TwVariant(TwVariants.AT_MAX_3XS);
+
+    /** {@code @max-2xs:} - Container narrower than the 2xs container size */
+    public static final TwVariant AT_MAX_2XS = new TwVariant(TwVariants.AT_MAX_2XS);
+
+    /** {@code @max-xs:} - Container narrower than the xs container size */
+    public static final TwVariant AT_MAX_XS = new TwVariant(TwVariants.AT_MAX_XS);
+
+    /** {@code @max-sm:} - Container narrower than the sm container size */
+    public static final TwVariant AT_MAX_SM = new TwVariant(TwVariants.AT_MAX_SM);
+
+    /** {@code @max-md:} - Container narrower than the md container size */
+    public static final TwVariant AT_MAX_MD = new TwVariant(TwVariants.AT_MAX_MD);
+
+    /** {@code @max-lg:} - Container narrower than the lg container size */
+    public static final TwVariant AT_MAX_LG = new TwVariant(TwVariants.AT_MAX_LG);
+
+    /** {@code @max-xl:} - Container narrower than the xl container size */
+    public static final TwVariant AT_MAX_XL = new TwVariant(TwVariants.AT_MAX_XL);
+
+    /** {@code @max-2xl:} - Container narrower than the 2xl container size */
+    public static final TwVariant AT_MAX_XXL = new TwVariant(TwVariants.AT_MAX_XXL);
+
+    /** {@code @max-3xl:} - Container narrower than the 3xl container size */
+    public static final TwVariant AT_MAX_3XL = new TwVariant(TwVariants.AT_MAX_3XL);
+
+    /** {@code @max-4xl:} - Container narrower than the 4xl container size */
+    public static final TwVariant AT_MAX_4XL = new TwVariant(TwVariants.AT_MAX_4XL);
+
+    /** {@code @max-5xl:} - Container narrower than the 5xl container size */
+    public static final TwVariant AT_MAX_5XL = new TwVariant(TwVariants.AT_MAX_5XL);
+
+    /** {@code @max-6xl:} - Container narrower than the 6xl container size */
+    public static final TwVariant AT_MAX_6XL = new TwVariant(TwVariants.AT_MAX_6XL);
+
+    /** {@code @max-7xl:} - Container narrower than the 7xl container size */
+    public static final TwVariant AT_MAX_7XL = new TwVariant(TwVariants.AT_MAX_7XL);
+
+    /** {@code aria-busy:} - Element with aria-busy="true" */
+    public static final TwVariant ARIA_BUSY = new TwVariant(TwVariants.ARIA_BUSY);
+
+    /** {@code aria-checked:} - Element with aria-checked="true" */
+    public static final TwVariant ARIA_CHECKED = new TwVariant(TwVariants.ARIA_CHECKED);
+
+    /** {@code aria-disabled:} - Element with aria-disabled="true" */
+    public static final TwVariant ARIA_DISABLED = new TwVariant(TwVariants.ARIA_DISABLED);
+
+    /** {@code aria-expanded:} - Element with aria-expanded="true" */
+    public static final TwVariant ARIA_EXPANDED = new TwVariant(TwVariants.ARIA_EXPANDED);
+
+    /** {@code aria-hidden:} - Element with aria-hidden="true" */
+    public static final TwVariant ARIA_HIDDEN = new TwVariant(TwVariants.ARIA_HIDDEN);
+
+    /** {@code aria-pressed:} - Element with aria-pressed="true" */
+    public static final TwVariant ARIA_PRESSED = new TwVariant(TwVariants.ARIA_PRESSED);
+
+    /** {@code aria-readonly:} - Element with aria-readonly="true" */
+    public static final TwVariant ARIA_READONLY = new TwVariant(TwVariants.ARIA_READONLY);
+
+    /** {@code aria-required:} - Element with aria-required="true" */
+    public static final TwVariant ARIA_REQUIRED = new TwVariant(TwVariants.ARIA_REQUIRED);
+
+    /** {@code aria-selected:} - Element with aria-selected="true" */
+    public static final TwVariant ARIA_SELECTED = new TwVariant(TwVariants.ARIA_SELECTED);
+
+    /** {@code group-first:} - Parent marked with group in first state */
+    public static final TwVariant GROUP_FIRST = new TwVariant(TwVariants.GROUP_FIRST);
+
+    /** {@code group-last:} - Parent marked with group in last state */
+    public static final TwVariant GROUP_LAST = new TwVariant(TwVariants.GROUP_LAST);
+
+    /** {@code group-only:} - Parent marked with group in only state */
+    public static final TwVariant GROUP_ONLY = new TwVariant(TwVariants.GROUP_ONLY);
+
+    /** {@code group-odd:} - Parent marked with group in odd state */
+    public static final TwVariant GROUP_ODD = new TwVariant(TwVariants.GROUP_ODD);
+
+    /** {@code group-even:} - Parent marked with group in even state */
+    public static final TwVariant GROUP_EVEN = new TwVariant(TwVariants.GROUP_EVEN);
+
+    /** {@code group-first-of-type:} - Parent marked with group in first-of-type state */
+    public static final TwVariant GROUP_FIRST_OF_TYPE = new TwVariant(TwVariants.GROUP_FIRST_OF_TYPE);
+
+    /** {@code group-last-of-type:} - Parent marked with group in last-of-type state */
+    public static final TwVariant GROUP_LAST_OF_TYPE = new TwVariant(TwVariants.GROUP_LAST_OF_TYPE);
+
+    /** {@code group-only-of-type:} - Parent marked with group in only-of-type state */
+    public static final TwVariant GROUP_ONLY_OF_TYPE = new TwVariant(TwVariants.GROUP_ONLY_OF_TYPE);
+
+    /** {@code group-visited:} - Parent marked with group in visited state */
+    public static final TwVariant GROUP_VISITED = new TwVariant(TwVariants.GROUP_VISITED);
+
+    /** {@code group-target:} - Parent marked with group in target state */
+    public static final TwVariant GROUP_TARGET = new TwVariant(TwVariants.GROUP_TARGET);
+
+    /** {@code group-open:} - Parent marked with group in open state */
+    public static final TwVariant GROUP_OPEN = new TwVariant(TwVariants.GROUP_OPEN);
+
+    /** {@code group-default:} - Parent marked with group in default state */
+    public static final TwVariant GROUP_DEFAULT = new TwVariant(TwVariants.GROUP_DEFAULT);
+
+    /** {@code group-checked:} - Parent marked with group in checked state */
+    public static final TwVariant GROUP_CHECKED = new TwVariant(TwVariants.GROUP_CHECKED);
+
+    /** {@code group-indeterminate:} - Parent marked with group in indeterminate state */
+    public static final TwVariant GROUP_INDETERMINATE = new TwVariant(TwVariants.GROUP_INDETERMINATE);
+
+    /** {@code group-placeholder-shown:} - Parent marked with group in placeholder-shown state */
+    public static final TwVariant GROUP_PLACEHOLDER_SHOWN = new TwVariant(TwVariants.GROUP_PLACEHOLDER_SHOWN);
+
+    /** {@code group-autofill:} - Parent marked with group in autofill state */
+    public static final TwVariant GROUP_AUTOFILL = new TwVariant(TwVariants.GROUP_AUTOFILL);
+
+    /** {@code group-optional:} - Parent marked with group in optional state */
+    public static final TwVariant GROUP_OPTIONAL = new TwVariant(TwVariants.GROUP_OPTIONAL);
+
+    /** {@code group-required:} - Parent marked with group in required state */
+    public static final TwVariant GROUP_REQUIRED = new TwVariant(TwVariants.GROUP_REQUIRED);
+
+    /** {@code group-valid:} - Parent marked with group in valid state */
+    public static final TwVariant GROUP_VALID = new TwVariant(TwVariants.GROUP_VALID);
+
+    /** {@code group-invalid:} - Parent marked with group in invalid state */
+    public static final TwVariant GROUP_INVALID = new TwVariant(TwVariants.GROUP_INVALID);
+
+    /** {@code group-user-valid:} - Parent marked with group in user-valid state */
+    public static final TwVariant GROUP_USER_VALID = new TwVariant(TwVariants.GROUP_USER_VALID);
+
+    /** {@code group-user-invalid:} - Parent marked with group in user-invalid state */
+    public static final TwVariant GROUP_USER_INVALID = new TwVariant(TwVariants.GROUP_USER_INVALID);
+
+    /** {@code group-in-range:} - Parent marked with group in in-range state */
+    public static final TwVariant GROUP_IN_RANGE = new TwVariant(TwVariants.GROUP_IN_RANGE);
+
+    /** {@code group-out-of-range:} - Parent marked with group in out-of-range state */
+    public static final TwVariant GROUP_OUT_OF_RANGE = new TwVariant(TwVariants.GROUP_OUT_OF_RANGE);
+
+    /** {@code group-read-only:} - Parent marked with group in read-only state */
+    public static final TwVariant GROUP_READ_ONLY = new TwVariant(TwVariants.GROUP_READ_ONLY);
+
+    /** {@code group-empty:} - Parent marked with group in empty state */
+    public static final TwVariant GROUP_EMPTY = new TwVariant(TwVariants.GROUP_EMPTY);
+
+    /** {@code group-focus-within:} - Parent marked with group in focus-within state */
+    public static final TwVariant GROUP_FOCUS_WITHIN = new TwVariant(TwVariants.GROUP_FOCUS_WITHIN);
+
+    /** {@code group-hover:} - Parent marked with group in hover state */
+    public static final TwVariant GROUP_HOVER = new TwVariant(TwVariants.GROUP_HOVER);
+
+    /** {@code group-focus:} - Parent marked with group in focus state */
+    public static final TwVariant GROUP_FOCUS = new TwVariant(TwVariants.GROUP_FOCUS);
+
+    /** {@code group-focus-visible:} - Parent marked with group in focus-visible state */
+    public static final TwVariant GROUP_FOCUS_VISIBLE = new TwVariant(TwVariants.GROUP_FOCUS_VISIBLE);
+
+    /** {@code group-active:} - Parent marked with group in active state */
+    public static final TwVariant GROUP_ACTIVE = new TwVariant(TwVariants.GROUP_ACTIVE);
+
+    /** {@code group-enabled:} - Parent marked with group in enabled state */
+    public static final TwVariant GROUP_ENABLED = new TwVariant(TwVariants.GROUP_ENABLED);
+
+    /** {@code group-disabled:} - Parent marked with group in disabled state */
+    public static final TwVariant GROUP_DISABLED = new TwVariant(TwVariants.GROUP_DISABLED);
+
+    /** {@code group-inert:} - Parent marked with group in inert state */
+    public static final TwVariant GROUP_INERT = new TwVariant(TwVariants.GROUP_INERT);
+
+    /** {@code group-aria-busy:} - Parent marked with group in aria-busy state */
+    public static final TwVariant GROUP_ARIA_BUSY = new TwVariant(TwVariants.GROUP_ARIA_BUSY);
+
+    /** {@code group-aria-checked:} - Parent marked with group in aria-checked state */
+    public static final TwVariant GROUP_ARIA_CHECKED = new TwVariant(TwVariants.GROUP_ARIA_CHECKED);
+
+    /** {@code group-aria-disabled:} - Parent marked with group in aria-disabled state */
+    public static final TwVariant GROUP_ARIA_DISABLED = new TwVariant(TwVariants.GROUP_ARIA_DISABLED);
+
+    /** {@code group-aria-expanded:} - Parent marked with group in aria-expanded state */
+    public static final TwVariant GROUP_ARIA_EXPANDED = new TwVariant(TwVariants.GROUP_ARIA_EXPANDED);
+
+    /** {@code group-aria-hidden:} - Parent marked with group in aria-hidden state */
+    public static final TwVariant GROUP_ARIA_HIDDEN = new TwVariant(TwVariants.GROUP_ARIA_HIDDEN);
+
+    /** {@code group-aria-pressed:} - Parent marked with group in aria-pressed state */
+    public static final TwVariant GROUP_ARIA_PRESSED = new TwVariant(TwVariants.GROUP_ARIA_PRESSED);
+
+    /** {@code group-aria-readonly:} - Parent marked with group in aria-readonly state */
+    public static final TwVariant GROUP_ARIA_READONLY = new TwVariant(TwVariants.GROUP_ARIA_READONLY);
+
+    /** {@code group-aria-required:} - Parent marked with group in aria-required state */
+    public static final TwVariant GROUP_ARIA_REQUIRED = new TwVariant(TwVariants.GROUP_ARIA_REQUIRED);
+
+    /** {@code group-aria-selected:} - Parent marked with group in aria-selected state */
+    public static final TwVariant GROUP_ARIA_SELECTED = new TwVariant(TwVariants.GROUP_ARIA_SELECTED);
+
+    /** {@code peer-first:} - Previous sibling marked with peer in first state */
+    public static final TwVariant PEER_FIRST = new TwVariant(TwVariants.PEER_FIRST);
+
+    /** {@code peer-last:} - Previous sibling marked with peer in last state */
+    public static final TwVariant PEER_LAST = new TwVariant(TwVariants.PEER_LAST);
+
+    /** {@code peer-only:} - Previous sibling marked with peer in only state */
+    public static final TwVariant PEER_ONLY = new TwVariant(TwVariants.PEER_ONLY);
+
+    /** {@code peer-odd:} - Previous sibling marked with peer in odd state */
+    public static final TwVariant PEER_ODD = new TwVariant(TwVariants.PEER_ODD);
+
+    /** {@code peer-even:} - Previous sibling marked with peer in even state */
+    public static final TwVariant PEER_EVEN = new TwVariant(TwVariants.PEER_EVEN);
+
+    /** {@code peer-first-of-type:} - Previous sibling marked with peer in first-of-type state */
+    public static final TwVariant PEER_FIRST_OF_TYPE = new TwVariant(TwVariants.PEER_FIRST_OF_TYPE);
+
+    /** {@code peer-last-of-type:} - Previous sibling marked with peer in last-of-type state */
+    public static final TwVariant PEER_LAST_OF_TYPE = new TwVariant(TwVariants.PEER_LAST_OF_TYPE);
+
+    /** {@code peer-only-of-type:} - Previous sibling marked with peer in only-of-type state */
+    public static final TwVariant PEER_ONLY_OF_TYPE = new TwVariant(TwVariants.PEER_ONLY_OF_TYPE);
+
+    /** {@code peer-visited:} - Previous sibling marked with peer in visited state */
+    public static final TwVariant PEER_VISITED = new TwVariant(TwVariants.PEER_VISITED);
+
+    /** {@code peer-target:} - Previous sibling marked with peer in target state */
+    public static final TwVariant PEER_TARGET = new TwVariant(TwVariants.PEER_TARGET);
+
+    /** {@code peer-open:} - Previous sibling marked with peer in open state */
+    public static final TwVariant PEER_OPEN = new TwVariant(TwVariants.PEER_OPEN);
+
+    /** {@code peer-default:} - Previous sibling marked with peer in default state */
+    public static final TwVariant PEER_DEFAULT = new TwVariant(TwVariants.PEER_DEFAULT);
+
+    /** {@code peer-checked:} - Previous sibling marked with peer in checked state */
+    public static final TwVariant PEER_CHECKED = new TwVariant(TwVariants.PEER_CHECKED);
+
+    /** {@code peer-indeterminate:} - Previous sibling marked with peer in indeterminate state */
+    public static final TwVariant PEER_INDETERMINATE = new TwVariant(TwVariants.PEER_INDETERMINATE);
+
+    /** {@code peer-placeholder-shown:} - Previous sibling marked with peer in placeholder-shown state */
+    public static final TwVariant PEER_PLACEHOLDER_SHOWN = new TwVariant(TwVariants.PEER_PLACEHOLDER_SHOWN);
+
+    /** {@code peer-autofill:} - Previous sibling marked with peer in autofill state */
+    public static final TwVariant PEER_AUTOFILL = new TwVariant(TwVariants.PEER_AUTOFILL);
+
+    /** {@code peer-optional:} - Previous sibling marked with peer in optional state */
+    public static final TwVariant PEER_OPTIONAL = new TwVariant(TwVariants.PEER_OPTIONAL);
+
+    /** {@code peer-required:} - Previous sibling marked with peer in required state */
+    public static final TwVariant PEER_REQUIRED = new TwVariant(TwVariants.PEER_REQUIRED);
+
+    /** {@code peer-valid:} - Previous sibling marked with peer in valid state */
+    public static final TwVariant PEER_VALID = new TwVariant(TwVariants.PEER_VALID);
+
+    /** {@code peer-invalid:} - Previous sibling marked with peer in invalid state */
+    public static final TwVariant PEER_INVALID = new TwVariant(TwVariants.PEER_INVALID);
+
+    /** {@code peer-user-valid:} - Previous sibling marked with peer in user-valid state */
+    public static final TwVariant PEER_USER_VALID = new TwVariant(TwVariants.PEER_USER_VALID);
+
+    /** {@code peer-user-invalid:} - Previous sibling marked with peer in user-invalid state */
+    public static final TwVariant PEER_USER_INVALID = new TwVariant(TwVariants.PEER_USER_INVALID);
+
+    /** {@code peer-in-range:} - Previous sibling marked with peer in in-range state */
+    public static final TwVariant PEER_IN_RANGE = new TwVariant(TwVariants.PEER_IN_RANGE);
+
+    /** {@code peer-out-of-range:} - Previous sibling marked with peer in out-of-range state */
+    public static final TwVariant PEER_OUT_OF_RANGE = new TwVariant(TwVariants.PEER_OUT_OF_RANGE);
+
+    /** {@code peer-read-only:} - Previous sibling marked with peer in read-only state */
+    public static final TwVariant PEER_READ_ONLY = new TwVariant(TwVariants.PEER_READ_ONLY);
+
+    /** {@code peer-empty:} - Previous sibling marked with peer in empty state */
+    public static final TwVariant PEER_EMPTY = new TwVariant(TwVariants.PEER_EMPTY);
+
+    /** {@code peer-focus-within:} - Previous sibling marked with peer in focus-within state */
+    public static final TwVariant PEER_FOCUS_WITHIN = new TwVariant(TwVariants.PEER_FOCUS_WITHIN);
+
+    /** {@code peer-hover:} - Previous sibling marked with peer in hover state */
+    public static final TwVariant PEER_HOVER = new TwVariant(TwVariants.PEER_HOVER);
+
+    /** {@code peer-focus:} - Previous sibling marked with peer in focus state */
+    public static final TwVariant PEER_FOCUS = new TwVariant(TwVariants.PEER_FOCUS);
+
+    /** {@code peer-focus-visible:} - Previous sibling marked with peer in focus-visible state */
+    public static final TwVariant PEER_FOCUS_VISIBLE = new TwVariant(TwVariants.PEER_FOCUS_VISIBLE);
+
+    /** {@code peer-active:} - Previous sibling marked with peer in active state */
+    public static final TwVariant PEER_ACTIVE = new TwVariant(TwVariants.PEER_ACTIVE);
+
+    /** {@code peer-enabled:} - Previous sibling marked with peer in enabled state */
+    public static final TwVariant PEER_ENABLED = new TwVariant(TwVariants.PEER_ENABLED);
+
+    /** {@code peer-disabled:} - Previous sibling marked with peer in disabled state */
+    public static final TwVariant PEER_DISABLED = new TwVariant(TwVariants.PEER_DISABLED);
+
+    /** {@code peer-inert:} - Previous sibling marked with peer in inert state */
+    public static final TwVariant PEER_INERT = new TwVariant(TwVariants.PEER_INERT);
+
+    /** {@code peer-aria-busy:} - Previous sibling marked with peer in aria-busy state */
+    public static final TwVariant PEER_ARIA_BUSY = new TwVariant(TwVariants.PEER_ARIA_BUSY);
+
+    /** {@code peer-aria-checked:} - Previous sibling marked with peer in aria-checked state */
+    public static final TwVariant PEER_ARIA_CHECKED = new TwVariant(TwVariants.PEER_ARIA_CHECKED);
+
+    /** {@code peer-aria-disabled:} - Previous sibling marked with peer in aria-disabled state */
+    public static final TwVariant PEER_ARIA_DISABLED = new TwVariant(TwVariants.PEER_ARIA_DISABLED);
+
+    /** {@code peer-aria-expanded:} - Previous sibling marked with peer in aria-expanded state */
+    public static final TwVariant PEER_ARIA_EXPANDED = new TwVariant(TwVariants.PEER_ARIA_EXPANDED);
+
+    /** {@code peer-aria-hidden:} - Previous sibling marked with peer in aria-hidden state */
+    public static final TwVariant PEER_ARIA_HIDDEN = new TwVariant(TwVariants.PEER_ARIA_HIDDEN);
+
+    /** {@code peer-aria-pressed:} - Previous sibling marked with peer in aria-pressed state */
+    public static final TwVariant PEER_ARIA_PRESSED = new TwVariant(TwVariants.PEER_ARIA_PRESSED);
+
+    /** {@code peer-aria-readonly:} - Previous sibling marked with peer in aria-readonly state */
+    public static final TwVariant PEER_ARIA_READONLY = new TwVariant(TwVariants.PEER_ARIA_READONLY);
+
+    /** {@code peer-aria-required:} - Previous sibling marked with peer in aria-required state */
+    public static final TwVariant PEER_ARIA_REQUIRED = new TwVariant(TwVariants.PEER_ARIA_REQUIRED);
+
+    /** {@code peer-aria-selected:} - Previous sibling marked with peer in aria-selected state */
+    public static final TwVariant PEER_ARIA_SELECTED = new TwVariant(TwVariants.PEER_ARIA_SELECTED);
+
+    /** Precomputed variants, indexed by variant index */
+    private static final TwVariant[] VARIANTS = {
+        SM,
+        MD,
+        LG,
+        XL,
+        XXL,
+        HOVER,
+        FOCUS,
+        ACTIVE,
+        DARK,
+        DISABLED,
+        FIRST,
+        LAST,
+        ONLY,
+        ODD,
+        EVEN,
+        FIRST_OF_TYPE,
+        LAST_OF_TYPE,
+        ONLY_OF_TYPE,
+        VISITED,
+        TARGET,
+        OPEN,
+        DEFAULT,
+        CHECKED,
+        INDETERMINATE,
+        PLACEHOLDER_SHOWN,
+        AUTOFILL,
+        OPTIONAL,
+        REQUIRED,
+        VALID,
+        INVALID,
+        USER_VALID,
+        USER_INVALID,
+        IN_RANGE,
+        OUT_OF_RANGE,
+        READ_ONLY,
+        EMPTY,
+        FOCUS_WITHIN,
+        FOCUS_VISIBLE,
+        ENABLED,
+        INERT,
+        BEFORE,
+        AFTER,
+        FIRST_LETTER,
+        FIRST_LINE,
+        MARKER,
+        SELECTION,
+        FILE,
+        BACKDROP,
+        PLACEHOLDER,
+        DETAILS_CONTENT,
+        MOTION_SAFE,
+        MOTION_REDUCE,
+        CONTRAST_MORE,
+        CONTRAST_LESS,
+        PRINT,
+        PORTRAIT,
+        LANDSCAPE,
+        FORCED_COLORS,
+        INVERTED_COLORS,
+        POINTER_FINE,
+        POINTER_COARSE,
+        POINTER_NONE,
+        ANY_POINTER_FINE,
+        ANY_POINTER_COARSE,
+        ANY_POINTER_NONE,
+        NOSCRIPT,
+        STARTING,
+        LTR,
+        RTL,
+        MAX_SM,
+        MAX_MD,
+        MAX_LG,
+        MAX_XL,
+        MAX_XXL,
+        AT_3XS,
+        AT_2XS,
+        AT_XS,
+        AT_SM,
+        AT_MD,
+        AT_LG,
+        AT_XL,
+        AT_XXL,
+        AT_3XL,
+        AT_4XL,
+        AT_5XL,
+        AT_6XL,
+        AT_7XL,
+        AT_MAX_3XS,
+        AT_MAX_2XS,
+        AT_MAX_XS,
+        AT_MAX_SM,
+        AT_MAX_MD,
+        AT_MAX_LG,
+        AT_MAX_XL,
+        AT_MAX_XXL,
+        AT_MAX_3XL,
+        AT_MAX_4XL,
+        AT_MAX_5XL,
+        AT_MAX_6XL,
+        AT_MAX_7XL,
+        ARIA_BUSY,
+        ARIA_CHECKED,
+        ARIA_DISABLED,
+        ARIA_EXPANDED,
+        ARIA_HIDDEN,
+        ARIA_PRESSED,
+        ARIA_READONLY,
+        ARIA_REQUIRED,
+        ARIA_SELECTED,
+        GROUP_FIRST,
+        GROUP_LAST,
+        GROUP_ONLY,
+        GROUP_ODD,
+        GROUP_EVEN,
+        GROUP_FIRST_OF_TYPE,
+        GROUP_LAST_OF_TYPE,
+        GROUP_ONLY_OF_TYPE,
+        GROUP_VISITED,
+        GROUP_TARGET,
+        GROUP_OPEN,
+        GROUP_DEFAULT,
+        GROUP_CHECKED,
+        GROUP_INDETERMINATE,
+        GROUP_PLACEHOLDER_SHOWN,
+        GROUP_AUTOFILL,
+        GROUP_OPTIONAL,
+        GROUP_REQUIRED,
+        GROUP_VALID,
+        GROUP_INVALID,
+        GROUP_USER_VALID,
+        GROUP_USER_INVALID,
+        GROUP_IN_RANGE,
+        GROUP_OUT_OF_RANGE,
+        GROUP_READ_ONLY,
+        GROUP_EMPTY,
+        GROUP_FOCUS_WITHIN,
+        GROUP_HOVER,
+        GROUP_FOCUS,
+        GROUP_FOCUS_VISIBLE,
+        GROUP_ACTIVE,
+        GROUP_ENABLED,
+        GROUP_DISABLED,
+        GROUP_INERT,
+        GROUP_ARIA_BUSY,
+        GROUP_ARIA_CHECKED,
+        GROUP_ARIA_DISABLED,
+        GROUP_ARIA_EXPANDED,
+        GROUP_ARIA_HIDDEN,
+        GROUP_ARIA_PRESSED,
+        GROUP_ARIA_READONLY,
+        GROUP_ARIA_REQUIRED,
+        GROUP_ARIA_SELECTED,
+        PEER_FIRST,
+        PEER_LAST,
+        PEER_ONLY,
+        PEER_ODD,
+        PEER_EVEN,
+        PEER_FIRST_OF_TYPE,
+        PEER_LAST_OF_TYPE,
+        PEER_ONLY_OF_TYPE,
+        PEER_VISITED,
+        PEER_TARGET,
+        PEER_OPEN,
+        PEER_DEFAULT,
+        PEER_CHECKED,
+        PEER_INDETERMINATE,
+        PEER_PLACEHOLDER_SHOWN,
+        PEER_AUTOFILL,
+        PEER_OPTIONAL,
+        PEER_REQUIRED,
+        PEER_VALID,
+        PEER_INVALID,
+        PEER_USER_VALID,
+        PEER_USER_INVALID,
+        PEER_IN_RANGE,
+        PEER_OUT_OF_RANGE,
+        PEER_READ_ONLY,
+        PEER_EMPTY,
+        PEER_FOCUS_WITHIN,
+        PEER_HOVER,
+        PEER_FOCUS,
+        PEER_FOCUS_VISIBLE,
+        PEER_ACTIVE,
+        PEER_ENABLED,
+        PEER_DISABLED,
+        PEER_INERT,
+        PEER_ARIA_BUSY,
+        PEER_ARIA_CHECKED,
+        PEER_ARIA_DISABLED,
+        PEER_ARIA_EXPANDED,
+        PEER_ARIA_HIDDEN,
+        PEER_ARIA_PRESSED,
+        PEER_ARIA_READONLY,
+        PEER_ARIA_REQUIRED,
+        PEER_ARIA_SELECTED
+    };
+
+    private static final Map<String, TwVariant> BY_NAME = new HashMap<>(VARIANTS.length * 2);
+
+    static {
+        for (TwVariant variant : VARIANTS) {
+            BY_NAME.put(variant.name(), variant);
+        }
+    }
+
+    /** Prefix applied to utilities, e.g. {@code "dark:md:"} */
+    private final String prefix;
+
+    /** Variant index of a precomputed variant, or -1 */
+    private final int index;
+
+    /** Single variants of a stack, in order, or {@code null} for a single variant */
+    private final TwVariant[] parts;
+
+    /** Prefixed class names of a stack, indexed by utility ID and created on first use */
+    private transient volatile String[] table;
+
+    /** Stacks of this variant followed by a precomputed variant, indexed by variant index */
+    private transient volatile TwVariant[] stacks;
+
+    private TwVariant(int index) {
+        this(TwVariants.PREFIXES[index], index, null);
+    }
+
+    private TwVariant(String prefix, int index, TwVariant[] parts) {
+        this.prefix = prefix;
+        this.index = index;
+        this.parts = parts;
+    }
+
+    /**
+     * Returns the precomputed variant of a name without the trailing colon, e.g.
+     * {@link #GROUP_HOVER} for {@code "group-hover"}, or {@code null} if it is not a variant of
+     * this build, e.g. an arbitrary variant, a stack or a typo. Does not allocate.
+     */
+    public static TwVariant lookup(String name) {
+        return BY_NAME.get(name);
+    }
+
+    /**
+     * Returns the variant of a name without the trailing colon, e.g. {@code "group-hover"},
+     * {@code "data-[state=open]"} or a stack such as {@code "dark:md"}. Precomputed variants
+     * return their constant.
+     *
+     * @throws IllegalArgumentException if the name is empty or contains whitespace
+     */
+    public static TwVariant of(String name) {
+        TwVariant known = BY_NAME.get(name);
+        if (known != null) {
+            return known;
+        }
+
+        // Split stacks on colons outside brackets, allowing a trailing colon
+        TwVariant stack = null;
+        int start = 0;
+        int depth = 0;
+        for (int i = 0; i <= name.length(); i++) {
+            char c = i < name.length() ? name.charAt(i) : ':';
+            if (c == '[' || c == '(') {
+                depth++;
+            } else if (c == ']' || c == ')') {
+                depth--;
+            } else if (Character.isWhitespace(c)) {
+                throw new IllegalArgumentException("Invalid Tailwind variant: " + name);
+            } else if (c == ':' && depth == 0) {
+                if (i == start) {
+                    if (i == name.length() && stack != null) {
+                        break;
+                    }
+                    throw new IllegalArgumentException("Invalid Tailwind variant: " + name);
+                }
+                String part = name.substring(start, i);
+                TwVariant variant = BY_NAME.get(part);
+                if (variant == null) {
+                    variant = new TwVariant(part + ":", -1, null);
+                }
+                stack = stack == null ? variant : stack.then(variant);
+                start = i + 1;
+            }
+        }
+        return stack;
+    }
+
+    /**
+     * Returns the stack of this variant followed by {@code next}, e.g. {@code dark:md:} for
+     * {@code DARK.then(MD)}.
+     */
+    public TwVariant then(TwVariant next) {
+        if (next.parts == null) {
+            return push(next);
+        }
+        TwVariant stack = this;
+        for (TwVariant part : next.parts) {
+            stack = stack.push(part);
+        }
+        return stack;
+    }
+
+    /**
+     * Returns the canonical instance of {@code utility} with this variant applied.
+     */
+    public String apply(String utility) {
+        Objects.requireNonNull(utility, "utility");
+        if (index >= 0) {
+            return TwVariants.apply(index, utility);
+        }
+        int id = TwUtilities.id(utility);
+        if (id < 0 || parts == null) {
+            return TwInternPool.intern(prefix, utility);
+        }
+
+        String[] row = table;
+        if (row == null) {
+            row = new String[TwUtilities.COUNT];
+            table = row;
+        }
+        String prefixed = row[id];
+        if (prefixed == null) {
+            // Racing threads may both get here; intern() makes them agree on one instance
+            prefixed = (prefix + utility).intern();
+            row[id] = prefixed;
+        }
+        return prefixed;
+    }
+
+    /**
+     * Returns the prefix applied to utilities, e.g. {@code "dark:md:"}.
+     */
+    public String prefix() {
+        return prefix;
+    }
+
+    /**
+     * Returns the name of the variant, the prefix without the trailing colon.
+     */
+    public String name() {
+        return prefix.substring(0, prefix.length() - 1);
+    }
+
+    /**
+     * Returns the precomputed variant of a variant index of {@link TwVariants}
+     */
+    static TwVariant byIndex(int index) {
+        return VARIANTS[index];
+    }
+
+    /**
+     * Returns the stack of this variant followed by a single variant, memoized for precomputed ones
+     */
+    private TwVariant push(TwVariant variant) {
+        if (variant.index < 0) {
+            return extend(variant);
+        }
+        TwVariant[] cached = stacks;
+        if (cached == null) {
+            cached = new TwVariant[TwVariants.PREFIXES.length];
+            stacks = cached;
+        }
+        TwVariant stack = cached[variant.index];
+        if (stack == null) {
+            stack = extend(variant);
+            cached[variant.index] = stack;
+        }
+        return stack;
+    }
+
+    private TwVariant extend(TwVariant variant) {
+        TwVariant[] stacked;
+        if (parts == null) {
+            stacked = new TwVariant[] {this, variant};
+        } else {
+            stacked = Arrays.copyOf(parts, parts.length + 1);
+            stacked[parts.length] = variant;
+        }
+        return new TwVariant(prefix + variant.prefix, -1, stacked);
+    }
+
+    private Object readResolve() {
+        return index >= 0 ? VARIANTS[index] : this;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof TwVariant && prefix.equals(((TwVariant) obj).prefix);
+    }
+
+    @Override
+    public int hashCode() {
+        return prefix.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return prefix;
+    }
+}
\ No newline at end of file
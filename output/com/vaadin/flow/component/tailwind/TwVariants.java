@@ -0,0 +1,891 @@
+package com.vaadin.flow.component.tailwind;
+
+import java.util.Objects;
+
+/**
+ * Variant-prefixed class names used by {@link TW.Responsive} and {@link TW.State}.
+ * <p>
+ * For known utilities the prefixed class name is stored in a per-variant table indexed by
+ * utility ID. Each entry is created once and then shared, so repeated calls return the same
+ * String instance without allocating. Tables are created on first use of their variant. Other
+ * strings (arbitrary values, already prefixed classes) go through the bounded {@link TwInternPool}
+ * instead.
+ */
+final class TwVariants {
+
+    /** Variant index of {@code sm:} */
+    static final int SM = 0;
+
+    /** Variant index of {@code md:} */
+    static final int MD = 1;
+
+    /** Variant index of {@code lg:} */
+    static final int LG = 2;
+
+    /** Variant index of {@code xl:} */
+    static final int XL = 3;
+
+    /** Variant index of {@code 2xl:} */
+    static final int XXL = 4;
+
+    /** Variant index of {@code hover:} */
+    static final int HOVER = 5;
+
+    /** Variant index of {@code focus:} */
+    static final int FOCUS = 6;
+
+    /** Variant index of {@code active:} */
+    static final int ACTIVE = 7;
+
+    /** Variant index of {@code dark:} */
+    static final int DARK = 8;
+
+    /** Variant index of {@code disabled:} */
+    static final int DISABLED = 9;
+
+    /** Variant index of {@code first:} */
+    static final int FIRST = 10;
+
+    /** Variant index of {@code last:} */
+    static final int LAST = 11;
+
+    /** Variant index of {@code only:} */
+    static final int ONLY = 12;
+
+    /** Variant index of {@code odd:} */
+    static final int ODD = 13;
+
+    /** Variant index of {@code even:} */
+    static final int EVEN = 14;
+
+    /** Variant index of {@code first-of-type:} */
+    static final int FIRST_OF_TYPE = 15;
+
+    /** Variant index of {@code last-of-type:} */
+    static final int LAST_OF_TYPE = 16;
+
+    /** Variant index of {@code only-of-type:} */
+    static final int ONLY_OF_TYPE = 17;
+
+    /** Variant index of {@code visited:} */
+    static final int VISITED = 18;
+
+    /** Variant index of {@code target:} */
+    static final int TARGET = 19;
+
+    /** Variant index of {@code open:} */
+    static final int OPEN = 20;
+
+    /** Variant index of {@code default:} */
+    static final int DEFAULT = 21;
+
+    /** Variant index of {@code checked:} */
+    static final int CHECKED = 22;
+
+    /** Variant index of {@code indeterminate:} */
+    static final int INDETERMINATE = 23;
+
+    /** Variant index of {@code placeholder-shown:} */
+    static final int PLACEHOLDER_SHOWN = 24;
+
+    /** Variant index of {@code autofill:} */
+    static final int AUTOFILL = 25;
+
+    /** Variant index of {@code optional:} */
+    static final int OPTIONAL = 26;
+
+    /** Variant index of {@code required:} */
+    static final int REQUIRED = 27;
+
+    /** Variant index of {@code valid:} */
+    static final int VALID = 28;
+
+    /** Variant index of {@code invalid:} */
+    static final int INVALID = 29;
+
+    /** Variant index of {@code user-valid:} */
+    static final int USER_VALID = 30;
+
+    /** Variant index of {@code user-invalid:} */
+    static final int USER_INVALID = 31;
+
+    /** Variant index of {@code in-range:} */
+    static final int IN_RANGE = 32;
+
+    /** Variant index of {@code out-of-range:} */
+    static final int OUT_OF_RANGE = 33;
+
+    /** Variant index of {@code read-only:} */
+    static final int READ_ONLY = 34;
+
+    /** Variant index of {@code empty:} */
+    static final int EMPTY = 35;
+
+    /** Variant index of {@code focus-within:} */
+    static final int FOCUS_WITHIN = 36;
+
+    /** Variant index of {@code focus-visible:} */
+    static final int FOCUS_VISIBLE = 37;
+
+    /** Variant index of {@code enabled:} */
+    static final int ENABLED = 38;
+
+    /** Variant index of {@code inert:} */
+    static final int INERT = 39;
+
+    /** Variant index of {@code before:} */
+    static final int BEFORE = 40;
+
+    /** Variant index of {@code after:} */
+    static final int AFTER = 41;
+
+    /** Variant index of {@code first-letter:} */
+    static final int FIRST_LETTER = 42;
+
+    /** Variant index of {@code first-line:} */
+    static final int FIRST_LINE = 43;
+
+    /** Variant index of {@code marker:} */
+    static final int MARKER = 44;
+
+    /** Variant index of {@code selection:} */
+    static final int SELECTION = 45;
+
+    /** Variant index of {@code file:} */
+    static final int FILE = 46;
+
+    /** Variant index of {@code backdrop:} */
+    static final int BACKDROP = 47;
+
+    /** Variant index of {@code placeholder:} */
+    static final int PLACEHOLDER = 48;
+
+    /** Variant index of {@code details-content:} */
+    static final int DETAILS_CONTENT = 49;
+
+    /** Variant index of {@code motion-safe:} */
+    static final int MOTION_SAFE = 50;
+
+    /** Variant index of {@code motion-reduce:} */
+    static final int MOTION_REDUCE = 51;
+
+    /** Variant index of {@code contrast-more:} */
+    static final int CONTRAST_MORE = 52;
+
+    /** Variant index of {@code contrast-less:} */
+    static final int CONTRAST_LESS = 53;
+
+    /** Variant index of {@code print:} */
+    static final int PRINT = 54;
+
+    /** Variant index of {@code portrait:} */
+    static final int PORTRAIT = 55;
+
+    /** Variant index of {@code landscape:} */
+    static final int LANDSCAPE = 56;
+
+    /** Variant index of {@code forced-colors:} */
+    static final int FORCED_COLORS = 57;
+
+    /** Variant index of {@code inverted-colors:} */
+    static final int INVERTED_COLORS = 58;
+
+    /** Variant index of {@code pointer-fine:} */
+    static final int POINTER_FINE = 59;
+
+    /** Variant index of {@code pointer-coarse:} */
+    static final int POINTER_COARSE = 60;
+
+    /** Variant index of {@code pointer-none:} */
+    static final int POINTER_NONE = 61;
+
+    /** Variant index of {@code any-pointer-fine:} */
+    static final int ANY_POINTER_FINE = 62;
+
+    /** Variant index of {@code any-pointer-coarse:} */
+    static final int ANY_POINTER_COARSE = 63;
+
+    /** Variant index of {@code any-pointer-none:} */
+    static final int ANY_POINTER_NONE = 64;
+
+    /** Variant index of {@code noscript:} */
+    static final int NOSCRIPT = 65;
+
+    /** Variant index of {@code starting:} */
+    static final int STARTING = 66;
+
+    /** Variant index of {@code ltr:} */
+    static final int LTR = 67;
+
+    /** Variant index of {@code rtl:} */
+    static final int RTL = 68;
+
+    /** Variant index of {@code max-sm:} */
+    static final int MAX_SM = 69;
+
+    /** Variant index of {@code max-md:} */
+    static final int MAX_MD = 70;
+
+    /** Variant index of {@code max-lg:} */
+    static final int MAX_LG = 71;
+
+    /** Variant index of {@code max-xl:} */
+    static final int MAX_XL = 72;
+
+    /** Variant index of {@code max-2xl:} */
+    static final int MAX_XXL = 73;
+
+    /** Variant index of {@code @3xs:} */
+    static final int AT_3XS = 74;
+
+    /** Variant index of {@code @2xs:} */
+    static final int AT_2XS = 75;
+
+    /** Variant index of {@code @xs:} */
+    static final int AT_XS = 76;
+
+    /** Variant index of {@code @sm:} */
+    static final int AT_SM = 77;
+
+    /** Variant index of {@code @md:} */
+    static final int AT_MD = 78;
+
+    /** Variant index of {@code @lg:} */
+    static final int AT_LG = 79;
+
+    /** Variant index of {@code @xl:} */
+    static final int AT_XL = 80;
+
+    /** Variant index of {@code @2xl:} */
+    static final int AT_XXL = 81;
+
+    /** Variant index of {@code @3xl:} */
+    static final int AT_3XL = 82;
+
+    /** Variant index of {@code @4xl:} */
+    static final int AT_4XL = 83;
+
+    /** Variant index of {@code @5xl:} */
+    static final int AT_5XL = 84;
+
+    /** Variant index of {@code @6xl:} */
+    static final int AT_6XL = 85;
+
+    /** Variant index of {@code @7xl:} */
+    static final int AT_7XL = 86;
+
+    /** Variant index of {@code @max-3xs:} */
+    static final int AT_MAX_3XS = 87;
+
+    /** Variant index of {@code @max-2xs:} */
+    static final int AT_MAX_2XS = 88;
+
+    /** Variant index of {@code @max-xs:} */
+    static final int AT_MAX_XS = 89;
+
+    /** Variant index of {@code @max-sm:} */
+    static final int AT_MAX_SM = 90;
+
+    /** Variant index of {@code @max-md:} */
+    static final int AT_MAX_MD = 91;
+
+    /** Variant index of {@code @max-lg:} */
+    static final int AT_MAX_LG = 92;
+
+    /** Variant index of {@code @max-xl:} */
+    static final int AT_MAX_XL = 93;
+
+    /** Variant index of {@code @max-2xl:} */
+    static final int AT_MAX_XXL = 94;
+
+    /** Variant index of {@code @max-3xl:} */
+    static final int AT_MAX_3XL = 95;
+
+    /** Variant index of {@code @max-4xl:} */
+    static final int AT_MAX_4XL = 96;
+
+    /** Variant index of {@code @max-5xl:} */
+    static final int AT_MAX_5XL = 97;
+
+    /** Variant index of {@code @max-6xl:} */
+    static final int AT_MAX_6XL = 98;
+
+    /** Variant index of {@code @max-7xl:} */
+    static final int AT_MAX_7XL = 99;
+
+    /** Variant index of {@code aria-busy:} */
+    static final int ARIA_BUSY = 100;
+
+    /** Variant index of {@code aria-checked:} */
+    static final int ARIA_CHECKED = 101;
+
+    /** Variant index of {@code aria-disabled:} */
+    static final int ARIA_DISABLED = 102;
+
+    /** Variant index of {@code aria-expanded:} */
+    static final int ARIA_EXPANDED = 103;
+
+    /** Variant index of {@code aria-hidden:} */
+    static final int ARIA_HIDDEN = 104;
+
+    /** Variant index of {@code aria-pressed:} */
+    static final int ARIA_PRESSED = 105;
+
+    /** Variant index of {@code aria-readonly:} */
+    static final int ARIA_READONLY = 106;
+
+    /** Variant index of {@code aria-required:} */
+    static final int ARIA_REQUIRED = 107;
+
+    /** Variant index of {@code aria-selected:} */
+    static final int ARIA_SELECTED = 108;
+
+    /** Variant index of {@code group-first:} */
+    static final int GROUP_FIRST = 109;
+
+    /** Variant index of {@code group-last:} */
+    static final int GROUP_LAST = 110;
+
+    /** Variant index of {@code group-only:} */
+    static final int GROUP_ONLY = 111;
+
+    /** Variant index of {@code group-odd:} */
+    static final int GROUP_ODD = 112;
+
+    /** Variant index of {@code group-even:} */
+    static final int GROUP_EVEN = 113;
+
+    /** Variant index of {@code group-first-of-type:} */
+    static final int GROUP_FIRST_OF_TYPE = 114;
+
+    /** Variant index of {@code group-last-of-type:} */
+    static final int GROUP_LAST_OF_TYPE = 115;
+
+    /** Variant index of {@code group-only-of-type:} */
+    static final int GROUP_ONLY_OF_TYPE = 116;
+
+    /** Variant index of {@code group-visited:} */
+    static final int GROUP_VISITED = 117;
+
+    /** Variant index of {@code group-target:} */
+    static final int GROUP_TARGET = 118;
+
+    /** Variant index of {@code group-open:} */
+    static final int GROUP_OPEN = 119;
+
+    /** Variant index of {@code group-default:} */
+    static final int GROUP_DEFAULT = 120;
+
+    /** Variant index of {@code group-checked:} */
+    static final int GROUP_CHECKED = 121;
+
+    /** Variant index of {@code group-indeterminate:} */
+    static final int GROUP_INDETERMINATE = 122;
+
+    /** Variant index of {@code group-placeholder-shown:} */
+    static final int GROUP_PLACEHOLDER_SHOWN = 123;
+
+    /** Variant index of {@code group-autofill:} */
+    static final int GROUP_AUTOFILL = 124;
+
+    /** Variant index of {@code group-optional:} */
+    static final int GROUP_OPTIONAL = 125;
+
+    /** Variant index of {@code group-required:} */
+    static final int GROUP_REQUIRED = 126;
+
+    /** Variant index of {@code group-valid:} */
+    static final int GROUP_VALID = 127;
+
+    /** Variant index of {@code group-invalid:} */
+    static final int GROUP_INVALID = 128;
+
+    /** Variant index of {@code group-user-valid:} */
+    static final int GROUP_USER_VALID = 129;
+
+    /** Variant index of {@code group-user-invalid:} */
+    static final int GROUP_USER_INVALID = 130;
+
+    /** Variant index of {@code group-in-range:} */
+    static final int GROUP_IN_RANGE = 131;
+
+    /** Variant index of {@code group-out-of-range:} */
+    static final int GROUP_OUT_OF_RANGE = 132;
+
+    /** Variant index of {@code group-read-only:} */
+    static final int GROUP_READ_ONLY = 133;
+
+    /** Variant index of {@code group-empty:} */
+    static final int GROUP_EMPTY = 134;
+
+    /** Variant index of {@code group-focus-within:} */
+    static final int GROUP_FOCUS_WITHIN = 135;
+
+    /** Variant index of {@code group-hover:} */
+    static final int GROUP_HOVER = 136;
+
+    /** Variant index of {@code group-focus:} */
+    static final int GROUP_FOCUS = 137;
+
+    /** Variant index of {@code group-focus-visible:} */
+    static final int GROUP_FOCUS_VISIBLE = 138;
+
+    /** Variant index of {@code group-active:} */
+    static final int GROUP_ACTIVE = 139;
+
+    /** Variant index of {@code group-enabled:} */
+    static final int GROUP_ENABLED = 140;
+
+    /** Variant index of {@code group-disabled:} */
+    static final int GROUP_DISABLED = 141;
+
+    /** Variant index of {@code group-inert:} */
+    static final int GROUP_INERT = 142;
+
+    /** Variant index of {@code group-aria-busy:} */
+    static final int GROUP_ARIA_BUSY = 143;
+
+    /** Variant index of {@code group-aria-checked:} */
+    static final int GROUP_ARIA_CHECKED = 144;
+
+    /** Variant index of {@code group-aria-disabled:} */
+    static final int GROUP_ARIA_DISABLED = 145;
+
+    /** Variant index of {@code group-aria-expanded:} */
+    static final int GROUP_ARIA_EXPANDED = 146;
+
+    /** Variant index of {@code group-aria-hidden:} */
+    static final int GROUP_ARIA_HIDDEN = 147;
+
+    /** Variant index of {@code group-aria-pressed:} */
+    static final int GROUP_ARIA_PRESSED = 148;
+
+    /** Variant index of {@code group-aria-readonly:} */
+    static final int GROUP_ARIA_READONLY = 149;
+
+    /** Variant index of {@code group-aria-required:} */
+    static final int GROUP_ARIA_REQUIRED = 150;
+
+    /** Variant index of {@code group-aria-selected:} */
+    static final int GROUP_ARIA_SELECTED = 151;
+
+    /** Variant index of {@code peer-first:} */
+    static final int PEER_FIRST = 152;
+
+    /** Variant index of {@code peer-last:} */
+    static final int PEER_LAST = 153;
+
+    /** Variant index of {@code peer-only:} */
+    static final int PEER_ONLY = 154;
+
+    /** Variant index of {@code peer-odd:} */
+    static final int PEER_ODD = 155;
+
+    /** Variant index of {@code peer-even:} */
+    static final int PEER_EVEN = 156;
+
+    /** Variant index of {@code peer-first-of-type:} */
+    static final int PEER_FIRST_OF_TYPE = 157;
+
+    /** Variant index of {@code peer-last-of-type:} */
+    static final int PEER_LAST_OF_TYPE = 158;
+
+    /** Variant index of {@code peer-only-of-type:} */
+    static final int PEER_ONLY_OF_TYPE = 159;
+
+    /** Variant index of {@code peer-visited:} */
+    static final int PEER_VISITED = 160;
+
+    /** Variant index of {@code peer-target:} */
+    static final int PEER_TARGET = 161;
+
+    /** Variant index of {@code peer-open:} */
+    static final int PEER_OPEN = 162;
+
+    /** Variant index of {@code peer-default:} */
+    static final int PEER_DEFAULT = 163;
+
+    /** Variant index of {@code peer-checked:} */
+    static final int PEER_CHECKED = 164;
+
+    /** Variant index of {@code peer-indeterminate:} */
+    static final int PEER_INDETERMINATE = 165;
+
+    /** Variant index of {@code peer-placeholder-shown:} */
+    static final int PEER_PLACEHOLDER_SHOWN = 166;
+
+    /** Variant index of {@code peer-autofill:} */
+    static final int PEER_AUTOFILL = 167;
+
+    /** Variant index of {@code peer-optional:} */
+    static final int PEER_OPTIONAL = 168;
+
+    /** Variant index of {@code peer-required:} */
+    static final int PEER_REQUIRED = 169;
+
+    /** Variant index of {@code peer-valid:} */
+    static final int PEER_VALID = 170;
+
+    /** Variant index of {@code peer-invalid:} */
+    static final int PEER_INVALID = 171;
+
+    /** Variant index of {@code peer-user-valid:} */
+    static final int PEER_USER_VALID = 172;
+
+    /** Variant index of {@code peer-user-invalid:} */
+    static final int PEER_USER_INVALID = 173;
+
+    /** Variant index of {@code peer-in-range:} */
+    static final int PEER_IN_RANGE = 174;
+
+    /** Variant index of {@code peer-out-of-range:} */
+    static final int PEER_OUT_OF_RANGE = 175;
+
+    /** Variant index of {@code peer-read-only:} */
+    static final int PEER_READ_ONLY = 176;
+
+    /** Variant index of {@code peer-empty:} */
+    static final int PEER_EMPTY = 177;
+
+    /** Variant index of {@code peer-focus-within:} */
+    static final int PEER_FOCUS_WITHIN = 178;
+
+    /** Variant index of {@code peer-hover:} */
+    static final int PEER_HOVER = 179;
+
+    /** Variant index of {@code peer-focus:} */
+    static final int PEER_FOCUS = 180;
+
+    /** Variant index of {@code peer-focus-visible:} */
+    static final int PEER_FOCUS_VISIBLE = 181;
+
+    /** Variant index of {@code peer-active:} */
+    static final int PEER_ACTIVE = 182;
+
+    /** Variant index of {@code peer-enabled:} */
+    static final int PEER_ENABLED = 183;
+
+    /** Variant index of {@code peer-disabled:} */
+    static final int PEER_DISABLED = 184;
+
+    /** Variant index of {@code peer-inert:} */
+    static final int PEER_INERT = 185;
+
+    /** Variant index of {@code peer-aria-busy:} */
+    static final int PEER_ARIA_BUSY = 186;
+
+    /** Variant index of {@code peer-aria-checked:} */
+    static final int PEER_ARIA_CHECKED = 187;
+
+    /** Variant index of {@code peer-aria-disabled:} */
+    static final int PEER_ARIA_DISABLED = 188;
+
+    /** Variant index of {@code peer-aria-expanded:} */
+    static final int PEER_ARIA_EXPANDED = 189;
+
+    /** Variant index of {@code peer-aria-hidden:} */
+    static final int PEER_ARIA_HIDDEN = 190;
+
+    /** Variant index of {@code peer-aria-pressed:} */
+    static final int PEER_ARIA_PRESSED = 191;
+
+    /** Variant index of {@code peer-aria-readonly:} */
+    static final int PEER_ARIA_READONLY = 192;
+
+    /** Variant index of {@code peer-aria-required:} */
+    static final int PEER_ARIA_REQUIRED = 193;
+
+    /** Variant index of {@code peer-aria-selected:} */
+    static final int PEER_ARIA_SELECTED = 194;
+
+    /** Variant prefixes, indexed by variant index */
+    static final String[] PREFIXES = {
+        "sm:",
+        "md:",
+        "lg:",
+        "xl:",
+        "2xl:",
+        "hover:",
+        "focus:",
+        "active:",
+        "dark:",
+        "disabled:",
+        "first:",
+        "last:",
+        "only:",
+        "odd:",
+        "even:",
+        "first-of-type:",
+        "last-of-type:",
+        "only-of-type:",
+        "visited:",
+        "target:",
+        "open:",
+        "default:",
+        "checked:",
+        "indeterminate:",
+        "placeholder-shown:",
+        "autofill:",
+        "optional:",
+        "required:",
+        "valid:",
+        "invalid:",
+        "user-valid:",
+        "user-invalid:",
+        "in-range:",
+        "out-of-range:",
+        "read-only:",
+        "empty:",
+        "focus-within:",
+        "focus-visible:",
+        "enabled:",
+        "inert:",
+        "before:",
+        "after:",
+        "first-letter:",
+        "first-line:",
+        "marker:",
+        "selection:",
+        "file:",
+        "backdrop:",
+        "placeholder:",
+        "details-content:",
+        "motion-safe:",
+        "motion-reduce:",
+        "contrast-more:",
+        "contrast-less:",
+        "print:",
+        "portrait:",
+        "landscape:",
+        "forced-colors:",
+        "inverted-colors:",
+        "pointer-fine:",
+        "pointer-coarse:",
+        "pointer-none:",
+        "any-pointer-fine:",
+        "any-pointer-coarse:",
+        "any-pointer-none:",
+        "noscript:",
+        "starting:",
+        "ltr:",
+        "rtl:",
+        "max-sm:",
+        "max-md:",
+        "max-lg:",
+        "max-xl:",
+        "max-2xl:",
+        "@3xs:",
+        "@2xs:",
+        "@xs:",
+        "@sm:",
+        "@md:",
+        "@lg:",
+        "@xl:",
+        "@2xl:",
+        "@3xl:",
+        "@4xl:",
+        "@5xl:",
+        "@6xl:",
+        "@7xl:",
+        "@max-3xs:",
+        "@max-2xs:",
+        "@max-xs:",
+        "@max-sm:",
+        "@max-md:",
+        "@max-lg:",
+        "@max-xl:",
+        "@max-2xl:",
+        "@max-3xl:",
+        "@max-4xl:",
+        "@max-5xl:",
+        "@max-6xl:",
+        "@max-7xl:",
+        "aria-busy:",
+        "aria-checked:",
+        "aria-disabled:",
+        "aria-expanded:",
+        "aria-hidden:",
+        "aria-pressed:",
+        "aria-readonly:",
+        "aria-required:",
+        "aria-selected:",
+        "group-first:",
+        "group-last:",
+        "group-only:",
+        "group-odd:",
+        "group-even:",
+        "group-first-of-type:",
+        "group-last-of-type:",
+        "group-only-of-type:",
+        "group-visited:",
+        "group-target:",
+        "group-open:",
+        "group-default:",
+        "group-checked:",
+        "group-indeterminate:",
+        "group-placeholder-shown:",
+        "group-autofill:",
+        "group-optional:",
+        "group-required:",
+        "group-valid:",
+        "group-invalid:",
+        "group-user-valid:",
+        "group-user-invalid:",
+        "group-in-range:",
+        "group-out-of-range:",
+        "group-read-only:",
+        "group-empty:",
+        "group-focus-within:",
+        "group-hover:",
+        "group-focus:",
+        "group-focus-visible:",
+        "group-active:",
+        "group-enabled:",
+        "group-disabled:",
+        "group-inert:",
+        "group-aria-busy:",
+        "group-aria-checked:",
+        "group-aria-disabled:",
+        "group-aria-expanded:",
+        "group-aria-hidden:",
+        "group-aria-pressed:",
+        "group-aria-readonly:",
+        "group-aria-required:",
+        "group-aria-selected:",
+        "peer-first:",
+        "peer-last:",
+        "peer-only:",
+        "peer-odd:",
+        "peer-even:",
+        "peer-first-of-type:",
+        "peer-last-of-type:",
+        "peer-only-of-type:",
+        "peer-visited:",
+        "peer-target:",
+        "peer-open:",
+        "peer-default:",
+        "peer-checked:",
+        "peer-indeterminate:",
+        "peer-placeholder-shown:",
+        "peer-autofill:",
+        "peer-optional:",
+        "peer-required:",
+        "peer-valid:",
+        "peer-invalid:",
+        "peer-user-valid:",
+        "peer-user-invalid:",
+        "peer-in-range:",
+        "peer-out-of-range:",
+        "peer-read-only:",
+        "peer-empty:",
+        "peer-focus-within:",
+        "peer-hover:",
+        "peer-focus:",
+        "peer-focus-visible:",
+        "peer-active:",
+        "peer-enabled:",
+        "peer-disabled:",
+        "peer-inert:",
+        "peer-aria-busy:",
+        "peer-aria-checked:",
+        "peer-aria-disabled:",
+        "peer-aria-expanded:",
+        "peer-aria-hidden:",
+        "peer-aria-pressed:",
+        "peer-aria-readonly:",
+        "peer-aria-required:",
+        "peer-aria-selected:"
+    };
+
+    private static final String[][] TABLE = new String[PREFIXES.length][];
+
+    /** Perfect hash seed of each bucket */
+    private static final int[] SEEDS = {
+        35, 4, 14, 1, 954, 3, 174, 4, 71, 1, 12, 3, 151, 9, 204, 9, 2, 219, 872, 1,
+        2, 3, 0, 700, 1353, 2430, 128, 28, 431, 36, 16, 16, 1, 15, 1, 223, 20, 8, 576, 17,
+        2928, 207, 1, 539, 8, 26, 762, 1859, 103
+    };
+
+    /** Variant index in each perfect hash slot */
+    private static final short[] SLOTS = {
+        138, 17, 126, 54, 193, 171, 163, 102, 139, 44, 80, 98, 189, 74, 26, 22, 96, 8, 121, 21,
+        179, 2, 43, 158, 112, 149, 86, 62, 94, 144, 72, 63, 79, 92, 77, 183, 116, 148, 99, 167,
+        153, 38, 134, 141, 24, 182, 5, 152, 83, 101, 56, 130, 120, 176, 118, 10, 119, 191, 3, 109,
+        93, 161, 41, 185, 29, 42, 55, 115, 192, 34, 168, 81, 12, 58, 53, 180, 52, 35, 64, 30,
+        20, 159, 61, 127, 173, 170, 100, 131, 4, 132, 135, 36, 177, 128, 45, 57, 28, 166, 37, 107,
+        90, 15, 51, 113, 105, 136, 16, 137, 178, 49, 188, 151, 68, 25, 174, 88, 97, 89, 165, 175,
+        87, 106, 1, 71, 65, 111, 114, 194, 75, 19, 146, 33, 59, 31, 66, 95, 123, 124, 23, 104,
+        169, 143, 46, 122, 39, 160, 0, 40, 76, 6, 67, 184, 48, 142, 108, 78, 84, 32, 7, 47,
+        155, 13, 181, 150, 60, 50, 18, 147, 157, 27, 9, 11, 73, 82, 117, 133, 129, 85, 125, 69,
+        190, 145, 156, 186, 103, 164, 172, 154, 140, 91, 14, 70, 162, 187, 110
+    };
+
+    /**
+     * Returns the canonical instance of {@code utility} prefixed with the given variant.
+     */
+    static String apply(int variant, String utility) {
+        Objects.requireNonNull(utility, "utility");
+        int id = TwUtilities.id(utility);
+        if (id < 0) {
+            return TwInternPool.intern(PREFIXES[variant], utility);
+        }
+
+        String[] row = TABLE[variant];
+        if (row == null) {
+            // A row replaced by a racing thread only loses entries that are recreated on demand
+            row = new String[TwUtilities.COUNT];
+            TABLE[variant] = row;
+        }
+        String prefixed = row[id];
+        if (prefixed == null) {
+            // Racing threads may both get here; intern() makes them agree on one instance
+            prefixed = (PREFIXES[variant] + utility).intern();
+            row[id] = prefixed;
+        }
+        return prefixed;
+    }
+
+    /**
+     * Returns the variant index of the prefix in {@code chars} from {@code start} to {@code end},
+     * including its colon, or {@code -1} if it is not a precomputed variant.
+     */
+    static int index(CharSequence chars, int start, int end) {
+        // FNV-1a, finalized per table; must match buildPerfectHash in the generator
+        int hash = 0x811c9dc5;
+        for (int i = start; i < end; i++) {
+            hash = (hash ^ chars.charAt(i)) * 0x01000193;
+        }
+        int seed = SEEDS[indexOf(mix(hash), SEEDS.length)];
+        int index = SLOTS[indexOf(mix(hash ^ seed * 0x9e3779b9), PREFIXES.length)];
+
+        // Any string hashes to some slot, so the name in it must still be compared
+        String name = PREFIXES[index];
+        if (name.length() != end - start) {
+            return -1;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) != chars.charAt(start + i)) {
+                return -1;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Maps a hash to an index in {@code [0, size)}, multiplying instead of dividing
+     */
+    private static int indexOf(int hash, int size) {
+        return (int) (((hash & 0xffffffffL) * size) >>> 32);
+    }
+
+    /**
+     * The MurmurHash3 finalizer
+     */
+    private static int mix(int hash) {
+        hash = (hash ^ (hash >>> 16)) * 0x85ebca6b;
+        hash = (hash ^ (hash >>> 13)) * 0xc2b2ae35;
+        return hash ^ (hash >>> 16);
+    }
+
+    private TwVariants() {}
+}
\ No newline at end of file
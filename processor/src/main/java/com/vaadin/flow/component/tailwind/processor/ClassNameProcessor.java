@@ -0,0 +1,329 @@
+package com.vaadin.flow.component.tailwind.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+
+import com.sun.source.tree.BinaryTree;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.LiteralTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.tree.ParenthesizedTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.util.TreePath;
+import com.sun.source.util.TreePathScanner;
+import com.sun.source.util.Trees;
+
+/**
+ * Checks string literals passed to {@code addClassName}, {@code addClassNames} and
+ * {@code setClassName} against the generated Tailwind CSS utilities.
+ * <p>
+ * Unknown variants and utilities in class names with variants, e.g. {@code "hover:bg-blu-600"},
+ * are errors. Class names without variants may be custom or Lumo classes, so unknown ones are
+ * only reported as warnings when they are close to a utility, unless the
+ * {@code -Atailwind.validation=strict} option is given. {@code -Atailwind.validation=none}
+ * disables the checks.
+ * <p>
+ * Literal class lists with several classes are also canonicalized at compile time: merged with
+ * {@code TW.merge}, deduplicated and sorted. The results are generated as constants into a
+ * {@code <Type>ClassNames} class next to each type using them, so they can replace the literals
+ * without any merge work at runtime. Lists that contain overridden or duplicate classes are
+ * reported with the constant to use instead.
+ * <p>
+ * Requires javac, since the method arguments are read from the source trees.
+ */
+@SupportedAnnotationTypes("*")
+@SupportedOptions(ClassNameProcessor.VALIDATION_OPTION)
+public class ClassNameProcessor extends AbstractProcessor {
+
+    /** Option selecting the validation mode: {@code default}, {@code strict} or {@code none} */
+    static final String VALIDATION_OPTION = "tailwind.validation";
+
+    /** Suffix of the generated constants classes */
+    static final String CLASS_NAMES_SUFFIX = "ClassNames";
+
+    private static final Set<String> METHODS = new HashSet<>(
+            Arrays.asList("addClassName", "addClassNames", "setClassName"));
+
+    private static final Set<String> CLASS_LIST_METHODS = new HashSet<>(
+            Arrays.asList("addClassNames", "setClassName"));
+
+    private Trees trees;
+    private String validation;
+    private final Set<String> generated = new HashSet<>();
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        validation = processingEnv.getOptions().getOrDefault(VALIDATION_OPTION, "default");
+        try {
+            trees = Trees.instance(processingEnv);
+        } catch (IllegalArgumentException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "Tailwind class names are only checked when compiling with javac");
+        }
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (trees == null) {
+            return false;
+        }
+
+        for (Element element : roundEnv.getRootElements()) {
+            if (!(element instanceof TypeElement)) {
+                continue;
+            }
+            TypeElement type = (TypeElement) element;
+            if (generated.contains(type.getQualifiedName().toString())) {
+                continue;
+            }
+
+            TreePath path = trees.getPath(type);
+            if (path == null) {
+                continue;
+            }
+
+            ClassNameScanner scanner = new ClassNameScanner(path.getCompilationUnit());
+            scanner.scan(path, null);
+            if (!scanner.classLists.isEmpty()) {
+                writeClassNames(type, scanner.classLists);
+            }
+        }
+        // Other processors may handle the same annotations
+        return false;
+    }
+
+    /**
+     * Collects and checks literal class name arguments.
+     */
+    private final class ClassNameScanner extends TreePathScanner<Void, Void> {
+
+        private final CompilationUnitTree unit;
+
+        /** Canonical class list of each literal class list, in source order */
+        final Map<String, ClassList> classLists = new LinkedHashMap<>();
+
+        ClassNameScanner(CompilationUnitTree unit) {
+            this.unit = unit;
+        }
+
+        @Override
+        public Void visitMethodInvocation(MethodInvocationTree node, Void unused) {
+            String method = methodName(node.getMethodSelect());
+            if (method != null && METHODS.contains(method)) {
+                for (ExpressionTree argument : node.getArguments()) {
+                    String value = constantValue(argument);
+                    if (value != null) {
+                        check(method, value, argument);
+                    }
+                }
+            }
+            return super.visitMethodInvocation(node, unused);
+        }
+
+        private void check(String method, String value, Tree argument) {
+            List<String> classNames = ClassNameValidator.split(value);
+            if (!"none".equals(validation)) {
+                for (String className : classNames) {
+                    report(ClassNameValidator.check(className), argument);
+                }
+            }
+
+            if (classNames.size() > 1 && CLASS_LIST_METHODS.contains(method)) {
+                ClassList classList = classLists.computeIfAbsent(value,
+                        key -> new ClassList(ClassNameValidator.canonicalize(key)));
+                classList.lines.add(line(argument));
+
+                if (ClassNameValidator.split(classList.canonical).size() < classNames.size()) {
+                    print(Diagnostic.Kind.WARNING, "Class list \"" + value
+                            + "\" contains overridden or duplicate classes, it is equal to \""
+                            + classList.canonical + "\"", argument);
+                }
+            }
+        }
+
+        private void report(ClassNameValidator.Problem problem, Tree tree) {
+            if (problem == null) {
+                return;
+            }
+            if (problem.definite || "strict".equals(validation)) {
+                print(Diagnostic.Kind.ERROR, problem.message, tree);
+            } else if (problem.suggestion != null) {
+                print(Diagnostic.Kind.WARNING, problem.message, tree);
+            }
+        }
+
+        private void print(Diagnostic.Kind kind, String message, Tree tree) {
+            trees.printMessage(kind, message, tree, unit);
+        }
+
+        private long line(Tree tree) {
+            long position = trees.getSourcePositions().getStartPosition(unit, tree);
+            return unit.getLineMap().getLineNumber(position);
+        }
+    }
+
+    /**
+     * A canonicalized class list and the lines it is used on.
+     */
+    private static final class ClassList {
+
+        final String canonical;
+        final List<Long> lines = new ArrayList<>();
+
+        ClassList(String canonical) {
+            this.canonical = canonical;
+        }
+    }
+
+    private static String methodName(ExpressionTree select) {
+        if (select instanceof MemberSelectTree) {
+            return ((MemberSelectTree) select).getIdentifier().toString();
+        }
+        if (select instanceof IdentifierTree) {
+            return ((IdentifierTree) select).getName().toString();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the value of a string literal or a concatenation of string literals, or {@code null}.
+     */
+    private static String constantValue(ExpressionTree expression) {
+        if (expression instanceof LiteralTree) {
+            Object value = ((LiteralTree) expression).getValue();
+            return value instanceof String ? (String) value : null;
+        }
+        if (expression instanceof ParenthesizedTree) {
+            return constantValue(((ParenthesizedTree) expression).getExpression());
+        }
+        if (expression.getKind() == Tree.Kind.PLUS) {
+            BinaryTree binary = (BinaryTree) expression;
+            String left = constantValue(binary.getLeftOperand());
+            String right = constantValue(binary.getRightOperand());
+            return left != null && right != null ? left + right : null;
+        }
+        return null;
+    }
+
+    private void writeClassNames(TypeElement type, Map<String, ClassList> classLists) {
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+        String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        String simpleName = type.getSimpleName() + CLASS_NAMES_SUFFIX;
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + '.' + simpleName;
+        generated.add(qualifiedName);
+
+        Map<String, String> constants = new LinkedHashMap<>();
+        Map<String, List<Long>> lines = new LinkedHashMap<>();
+        for (ClassList classList : classLists.values()) {
+            if (!lines.containsKey(classList.canonical)) {
+                constants.put(classList.canonical, constantName(classList.canonical, constants));
+                lines.put(classList.canonical, new ArrayList<>());
+            }
+            lines.get(classList.canonical).addAll(classList.lines);
+        }
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            if (!packageName.isEmpty()) {
+                writer.write("package " + packageName + ";\n\n");
+            }
+            writer.write("import javax.annotation.processing.Generated;\n\n");
+            writer.write("/**\n");
+            writer.write(" * Canonical class lists used by {@link " + type.getSimpleName() + "}.\n");
+            writer.write(" */\n");
+            writer.write("@Generated(\"" + ClassNameProcessor.class.getName() + "\")\n");
+            writer.write("public final class " + simpleName + " {\n");
+            for (Map.Entry<String, String> constant : constants.entrySet()) {
+                String source = type.getSimpleName() + ".java:" + joinLines(lines.get(constant.getKey()));
+                writer.write("\n    /** Used at " + source + " */\n");
+                writer.write("    public static final String " + constant.getValue() + " = "
+                        + javaString(constant.getKey()) + ";\n");
+            }
+            writer.write("\n    private " + simpleName + "() {}\n");
+            writer.write("}\n");
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Cannot write " + qualifiedName + ": " + e.getMessage(), type);
+        }
+    }
+
+    /**
+     * Derives a constant name from a class list, e.g. {@code "md:p-4 flex"} becomes {@code MD_P_4_FLEX}.
+     */
+    static String constantName(String classList, Map<String, String> existing) {
+        StringBuilder name = new StringBuilder();
+        for (char c : classList.toUpperCase(Locale.ROOT).toCharArray()) {
+            boolean valid = (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+            if (valid) {
+                name.append(c);
+            } else if (name.length() > 0 && name.charAt(name.length() - 1) != '_') {
+                name.append('_');
+            }
+        }
+        while (name.length() > 0 && name.charAt(name.length() - 1) == '_') {
+            name.setLength(name.length() - 1);
+        }
+        if (name.length() == 0 || Character.isDigit(name.charAt(0))) {
+            name.insert(0, '_');
+        }
+
+        String base = name.toString();
+        String unique = base;
+        for (int i = 2; existing.containsValue(unique); i++) {
+            unique = base + '_' + i;
+        }
+        return unique;
+    }
+
+    private static String joinLines(List<Long> lines) {
+        StringBuilder joined = new StringBuilder();
+        for (Long line : lines) {
+            if (joined.length() > 0) {
+                joined.append(", ");
+            }
+            joined.append(line);
+        }
+        return joined.toString();
+    }
+
+    private static String javaString(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                literal.append('\\').append(c);
+            } else if (c < 0x20 || c > 0x7e) {
+                literal.append(String.format("\\u%04x", (int) c));
+            } else {
+                literal.append(c);
+            }
+        }
+        return literal.append('"').toString();
+    }
+}
@@ -0,0 +1,212 @@
+package com.vaadin.flow.component.tailwind.processor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import com.vaadin.flow.component.tailwind.TW;
+import com.vaadin.flow.component.tailwind.TwUtilities;
+import com.vaadin.flow.component.tailwind.TwVariant;
+
+/**
+ * Checks class names against the generated utilities and computes canonical class lists.
+ */
+final class ClassNameValidator {
+
+    /**
+     * Prefixes of Tailwind CSS v4 variants that take another variant, e.g. {@code group-data-active}
+     * or {@code not-hover}; the common combinations are also in the variant index
+     */
+    private static final String[] COMPOUND_PREFIXES = { "group-", "peer-", "not-", "has-", "in-" };
+
+    /**
+     * Prefixes of Tailwind CSS v4 variants with open-ended values, e.g. {@code data-active}, which
+     * are not in the variant index
+     */
+    private static final String[] OPEN_PREFIXES = {
+        "data-", "aria-", "supports-", "nth-", "nth-last-", "nth-of-type-", "nth-last-of-type-", "min-"
+    };
+
+    /** Maximum edit distance of a suggested utility */
+    private static final int MAX_SUGGESTION_DISTANCE = 2;
+
+    /**
+     * Result of checking a class name.
+     */
+    static final class Problem {
+
+        /** Whether the class name is clearly meant as a Tailwind class, i.e. has variants */
+        final boolean definite;
+        /** Closest known utility, or {@code null} */
+        final String suggestion;
+        final String message;
+
+        Problem(boolean definite, String suggestion, String message) {
+            this.definite = definite;
+            this.suggestion = suggestion;
+            this.message = message;
+        }
+    }
+
+    private ClassNameValidator() {}
+
+    /**
+     * Checks a single class name.
+     * <p>
+     * A class name with variants is clearly meant as a Tailwind class, so an unknown variant or
+     * utility is a definite problem. An unknown class name without variants may also be a custom
+     * or Lumo class.
+     *
+     * @return the problem found, or {@code null} if the class name is a known utility or cannot be checked
+     */
+    static Problem check(String className) {
+        // Arbitrary values and variants, e.g. "p-[13px]" or "[&>*]:p-4", are not checked
+        if (className.indexOf('[') >= 0) {
+            return null;
+        }
+
+        int colon = className.lastIndexOf(':');
+        String utility = stripImportant(className.substring(colon + 1));
+
+        if (colon >= 0) {
+            for (String variant : className.substring(0, colon).split(":", -1)) {
+                if (!isVariant(variant)) {
+                    return new Problem(true, null,
+                            "Unknown Tailwind variant \"" + variant + "\" in \"" + className + "\"");
+                }
+            }
+        }
+
+        if (isUtility(utility)) {
+            return null;
+        }
+
+        String suggestion = suggest(utility);
+        String message = "Unknown Tailwind utility \"" + utility + "\""
+                + (colon >= 0 ? " in \"" + className + "\"" : "")
+                + (suggestion != null ? ", did you mean \"" + suggestion + "\"?" : "");
+        return new Problem(colon >= 0, suggestion, message);
+    }
+
+    /**
+     * Returns the canonical form of a class list: merged with {@link TW#merge(String...)}, then
+     * sorted with classes without variants first.
+     */
+    static String canonicalize(String classList) {
+        List<String> classNames = new ArrayList<>(Arrays.asList(TW.merge(classList).split(" ")));
+        classNames.removeIf(String::isEmpty);
+        classNames.sort(Comparator.comparing(ClassNameValidator::variants).thenComparing(Comparator.naturalOrder()));
+        return String.join(" ", classNames);
+    }
+
+    /**
+     * Splits a class list at whitespace.
+     */
+    static List<String> split(String classList) {
+        List<String> classNames = new ArrayList<>();
+        for (String className : classList.trim().split("\\s+")) {
+            if (!className.isEmpty()) {
+                classNames.add(className);
+            }
+        }
+        return classNames;
+    }
+
+    private static String variants(String className) {
+        return className.substring(0, className.lastIndexOf(':') + 1);
+    }
+
+    /**
+     * Checks a variant against the variant index of {@link TwVariant}, so the check follows the
+     * generated variants instead of a copy of them.
+     */
+    private static boolean isVariant(String variant) {
+        // Named groups and peers, e.g. "group-hover/item"
+        int slash = variant.indexOf('/');
+        String name = slash > 0 ? variant.substring(0, slash) : variant;
+        if (TwVariant.lookup(name) != null || name.equals("*") || name.equals("**")) {
+            return true;
+        }
+        for (String prefix : COMPOUND_PREFIXES) {
+            if (name.length() > prefix.length() && name.startsWith(prefix)
+                    && isVariant(name.substring(prefix.length()))) {
+                return true;
+            }
+        }
+        for (String prefix : OPEN_PREFIXES) {
+            if (name.length() > prefix.length() && name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isUtility(String utility) {
+        if (TwUtilities.id(utility) >= 0) {
+            return true;
+        }
+        // Opacity modifier, e.g. "bg-blue-500/50"
+        int slash = utility.lastIndexOf('/');
+        return slash > 0 && slash < utility.length() - 1 && TwUtilities.id(utility.substring(0, slash)) >= 0
+                && utility.substring(slash + 1).chars().allMatch(Character::isDigit);
+    }
+
+    private static String stripImportant(String utility) {
+        if (utility.length() > 1 && utility.charAt(0) == '!') {
+            return utility.substring(1);
+        }
+        if (utility.length() > 1 && utility.charAt(utility.length() - 1) == '!') {
+            return utility.substring(0, utility.length() - 1);
+        }
+        return utility;
+    }
+
+    /**
+     * Returns the closest utility within {@link #MAX_SUGGESTION_DISTANCE} edits, or {@code null}.
+     */
+    private static String suggest(String utility) {
+        String best = null;
+        int bestDistance = MAX_SUGGESTION_DISTANCE + 1;
+        for (int id = 0; id < TwUtilities.COUNT; id++) {
+            String candidate = TwUtilities.className(id);
+            if (Math.abs(candidate.length() - utility.length()) >= bestDistance) {
+                continue;
+            }
+            int distance = distance(utility, candidate, bestDistance);
+            if (distance < bestDistance) {
+                best = candidate;
+                bestDistance = distance;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Levenshtein distance, or at least {@code limit} if it is {@code limit} or more.
+     */
+    private static int distance(String a, String b, int limit) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin >= limit) {
+                return limit;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+}
@@ -0,0 +1,141 @@
+package com.vaadin.flow.component.tailwind.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Diagnostics and generated constants of {@link ClassNameProcessor}, compiling sources in memory.
+ */
+class ClassNameProcessorTest {
+
+    @TempDir
+    Path output;
+
+    @Test
+    void validClassNamesPass() throws IOException {
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = compile(
+                "addClassName(\"flex\");",
+                "addClassNames(\"flex p-4\", \"md:p-4\", \"hover:bg-blue-600\", \"p-[13px]\", \"custom\");");
+        assertEquals(List.of(), messages(diagnostics, Diagnostic.Kind.ERROR));
+        assertEquals(List.of(), messages(diagnostics, Diagnostic.Kind.WARNING));
+    }
+
+    @Test
+    void unknownClassNamesWithVariantsAreErrors() throws IOException {
+        List<String> errors = messages(compile(
+                "addClassName(\"hover:bg-blu-600\");",
+                "addClassName(\"hovr:p-4\");"), Diagnostic.Kind.ERROR);
+        assertEquals(2, errors.size(), errors.toString());
+        assertTrue(errors.get(0).contains("\"bg-blu-600\"") && errors.get(0).contains("\"bg-blue-600\""),
+                errors.get(0));
+        assertEquals("Unknown Tailwind variant \"hovr\" in \"hovr:p-4\"", errors.get(1));
+    }
+
+    @Test
+    void likelyTyposWithoutVariantsAreWarnings() throws IOException {
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = compile("addClassName(\"bg-blu-600\");");
+        assertEquals(List.of(), messages(diagnostics, Diagnostic.Kind.ERROR));
+        assertEquals(1, messages(diagnostics, Diagnostic.Kind.WARNING).size());
+    }
+
+    @Test
+    void strictModeMakesEveryProblemAnError() throws IOException {
+        List<String> errors = messages(compileWith("strict", "addClassName(\"bg-blu-600\");"), Diagnostic.Kind.ERROR);
+        assertEquals(1, errors.size(), errors.toString());
+    }
+
+    @Test
+    void noneModeDisablesChecks() throws IOException {
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = compileWith("none",
+                "addClassName(\"hovr:p-4\");");
+        assertEquals(List.of(), messages(diagnostics, Diagnostic.Kind.ERROR));
+        assertEquals(List.of(), messages(diagnostics, Diagnostic.Kind.WARNING));
+    }
+
+    @Test
+    void overriddenClassesAreReportedAndCanonicalized() throws IOException {
+        List<String> warnings = messages(compile(
+                "setClassName(\"p-4 p-6 bg-white\");",
+                "addClassNames(\"flex p-4\");"), Diagnostic.Kind.WARNING);
+        assertEquals(List.of("Class list \"p-4 p-6 bg-white\" contains overridden or duplicate classes,"
+                + " it is equal to \"bg-white p-6\""), warnings);
+
+        String generated = Files.readString(output.resolve("sources/test/ViewClassNames.java"));
+        assertTrue(generated.contains("public static final String BG_WHITE_P_6 = \"bg-white p-6\";"), generated);
+        assertTrue(generated.contains("public static final String FLEX_P_4 = \"flex p-4\";"), generated);
+        assertFalse(generated.contains("p-4 p-6"), generated);
+    }
+
+    private List<Diagnostic<? extends JavaFileObject>> compile(String... statements) throws IOException {
+        return compileWith(null, statements);
+    }
+
+    /**
+     * Compiles a component calling the class name methods with the given statements, using the
+     * given validation mode or the default one if {@code null}.
+     */
+    private List<Diagnostic<? extends JavaFileObject>> compileWith(String validation, String... statements)
+            throws IOException {
+        String source = "package test;\n"
+                + "class View {\n"
+                + "    void addClassName(String className) {}\n"
+                + "    void addClassNames(String... classNames) {}\n"
+                + "    void setClassName(String className) {}\n"
+                + "    void init() {\n"
+                + "        " + String.join("\n        ", statements) + "\n"
+                + "    }\n"
+                + "}\n";
+        JavaFileObject file = new SimpleJavaFileObject(URI.create("string:///test/View.java"),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+
+        Path classes = Files.createDirectories(output.resolve("classes"));
+        Path sources = Files.createDirectories(output.resolve("sources"));
+        List<String> options = new ArrayList<>(List.of("-d", classes.toString(), "-s", sources.toString(),
+                "-proc:only"));
+        if (validation != null) {
+            options.add("-A" + ClassNameProcessor.VALIDATION_OPTION + "=" + validation);
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        JavaCompiler.CompilationTask task = compiler.getTask(null,
+                compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8), diagnostics, options,
+                null, List.of(file));
+        task.setProcessors(List.of(new ClassNameProcessor()));
+        task.call();
+        return diagnostics.getDiagnostics();
+    }
+
+    private static List<String> messages(List<Diagnostic<? extends JavaFileObject>> diagnostics,
+            Diagnostic.Kind kind) {
+        return diagnostics.stream()
+                .filter(diagnostic -> diagnostic.getKind() == kind)
+                .map(diagnostic -> diagnostic.getMessage(null))
+                .collect(Collectors.toList());
+    }
+}
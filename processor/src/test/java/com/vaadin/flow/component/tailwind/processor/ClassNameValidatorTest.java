@@ -0,0 +1,52 @@
+package com.vaadin.flow.component.tailwind.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Variant and utility checks of {@link ClassNameValidator}.
+ */
+class ClassNameValidatorTest {
+
+    @Test
+    void knownAndOpenVariantsPass() {
+        for (String className : List.of("hover:p-4", "group-hover:p-4", "group-hover/item:p-4",
+                "group-data-active:p-4", "not-hover:p-4", "max-md:p-4", "@md:p-4", "*:p-4", "data-open:p-4",
+                "nth-3:p-4", "dark:md:hover:p-4", "[&>*]:p-4", "p-[13px]")) {
+            assertNull(ClassNameValidator.check(className), className);
+        }
+    }
+
+    @Test
+    void unknownVariantsAreDefinite() {
+        for (String className : List.of("hovr:p-4", "group-hovr:p-4", "md:hovr:p-4")) {
+            ClassNameValidator.Problem problem = ClassNameValidator.check(className);
+            assertNotNull(problem, className);
+            assertTrue(problem.definite, className);
+        }
+    }
+
+    @Test
+    void unknownUtilitiesWithoutVariantsAreNotDefinite() {
+        ClassNameValidator.Problem problem = ClassNameValidator.check("bg-blu-600");
+        assertNotNull(problem);
+        assertFalse(problem.definite);
+        assertEquals("bg-blue-600", problem.suggestion);
+
+        assertTrue(ClassNameValidator.check("md:bg-blu-600").definite);
+    }
+
+    @Test
+    void canonicalFormIsMergedAndSorted() {
+        assertEquals("bg-white p-6", ClassNameValidator.canonicalize("p-4 p-6 bg-white"));
+        assertEquals("flex p-4 md:p-2", ClassNameValidator.canonicalize("md:p-4 p-4  flex md:p-2"));
+        assertEquals(List.of("flex", "p-4"), ClassNameValidator.split("  flex\tp-4 "));
+    }
+}
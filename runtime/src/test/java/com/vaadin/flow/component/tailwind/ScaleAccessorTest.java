@@ -0,0 +1,45 @@
+package com.vaadin.flow.component.tailwind;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Step and shade accessors of the generated {@link TW} classes.
+ */
+class ScaleAccessorTest {
+
+    @Test
+    void stepsReturnConstants() {
+        assertSame(TW.Spacing.Padding.P_4, TW.Spacing.Padding.p(4));
+        assertEquals("p-0", TW.Spacing.Padding.p(0));
+        assertEquals("p-96", TW.Spacing.Padding.p(96));
+    }
+
+    @Test
+    void missingStepsAreRejected() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> TW.Spacing.Padding.p(13));
+        assertTrue(e.getMessage().startsWith("No p- utility for step 13, steps are 0 to 12, 14, 16"), e.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> TW.Spacing.Padding.p(-1));
+        assertThrows(IllegalArgumentException.class, () -> TW.Spacing.Padding.p(97));
+    }
+
+    @Test
+    void shadesReturnConstants() {
+        assertSame(TW.Background.BLUE_500, TW.Background.color(TwPalette.BLUE, 500));
+        assertEquals("bg-gray-950", TW.Background.color(TwPalette.GRAY, 950));
+    }
+
+    @Test
+    void missingShadesAreRejected() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> TW.Background.color(TwPalette.BLUE, 550));
+        assertEquals("No bg- utility for blue-550", e.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> TW.Background.color(TwPalette.AMBER, 950));
+        NullPointerException npe = assertThrows(NullPointerException.class, () -> TW.Background.color(null, 500));
+        assertEquals("color", npe.getMessage());
+    }
+}
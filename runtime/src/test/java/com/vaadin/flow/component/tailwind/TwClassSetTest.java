@@ -0,0 +1,127 @@
+package com.vaadin.flow.component.tailwind;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Set operations and deltas of {@link TwClassSet}.
+ */
+class TwClassSetTest {
+
+    @Test
+    void addRemoveContains() {
+        TwClassSet set = new TwClassSet();
+        assertTrue(set.isEmpty());
+        assertTrue(set.add("p-4"));
+        assertFalse(set.add("p-4"));
+        assertTrue(set.contains("p-4"));
+        assertFalse(set.contains("p-6"));
+        assertFalse(set.contains("md:p-4"));
+        assertEquals(1, set.size());
+
+        assertTrue(set.remove("p-4"));
+        assertFalse(set.remove("p-4"));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    void bitsAcrossWords() {
+        int[] ids = {0, 63, 64, 127, 128, TwUtilities.COUNT - 1};
+        TwClassSet set = new TwClassSet();
+        for (int id : ids) {
+            set.add(id);
+        }
+        assertEquals(ids.length, set.size());
+
+        int index = 0;
+        for (int id = set.nextId(0); id >= 0; id = set.nextId(id + 1)) {
+            assertEquals(ids[index++], id);
+        }
+        assertEquals(ids.length, index);
+        assertEquals(-1, set.nextId(TwUtilities.COUNT));
+    }
+
+    @Test
+    void setOperationsReturnNewSets() {
+        TwClassSet a = TwClassSet.of("flex", "p-4", "bg-white");
+        TwClassSet b = TwClassSet.of("p-4", "m-2");
+
+        assertEquals(TwClassSet.of("flex", "p-4", "bg-white", "m-2"), a.union(b));
+        assertEquals(TwClassSet.of("flex", "bg-white"), a.diff(b));
+        assertEquals(TwClassSet.of("p-4"), a.intersect(b));
+        assertEquals(TwClassSet.of("flex", "p-4", "bg-white"), a);
+        assertEquals(TwClassSet.of("p-4", "m-2"), b);
+    }
+
+    @Test
+    void addAllRemoveAllClear() {
+        TwClassSet set = TwClassSet.of("flex");
+        set.addAll(TwClassSet.of("p-4", "m-2"));
+        assertEquals(TwClassSet.of("flex", "p-4", "m-2"), set);
+        set.removeAll(TwClassSet.of("flex", "m-2"));
+        assertEquals(TwClassSet.of("p-4"), set);
+        set.clear();
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    void classStringIsOrderedById() {
+        TwClassSet set = TwClassSet.of("p-4", "flex", "m-2");
+        assertEquals("flex m-2 p-4", set.toClassString());
+        assertArrayEquals(new String[] {"flex", "m-2", "p-4"}, set.toArray());
+        assertEquals("", new TwClassSet().toClassString());
+    }
+
+    @Test
+    void deltaHasOnlyChangedUtilities() {
+        TwClassSet current = TwClassSet.of("p-4", "bg-white", "shadow");
+        TwClassSet next = TwClassSet.of("p-4", "bg-gray-100", "shadow-lg");
+
+        TwClassSet.Delta delta = current.delta(next);
+        assertArrayEquals(new String[] {"bg-gray-100", "shadow-lg"}, delta.toAdd());
+        assertArrayEquals(new String[] {"bg-white", "shadow"}, delta.toRemove());
+        assertFalse(delta.isEmpty());
+
+        TwClassSet applied = current.copy();
+        delta.applyTo(applied);
+        assertEquals(next, applied);
+
+        assertTrue(next.delta(next).isEmpty());
+    }
+
+    @Test
+    void rejectsVariantPrefixedClasses() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> TwClassSet.of("md:p-4"));
+        assertTrue(e.getMessage().startsWith("Variant-prefixed classes cannot be stored"), e.getMessage());
+
+        TwClassSet set = new TwClassSet();
+        assertThrows(IllegalArgumentException.class, () -> set.add("hover:bg-blue-600"));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    void rejectsUnknownAndArbitraryClasses() {
+        assertThrows(IllegalArgumentException.class, () -> TwClassSet.of("p-[13px]"));
+        assertThrows(IllegalArgumentException.class, () -> TwClassSet.of("bg-[url(a:b)]"));
+        assertThrows(IllegalArgumentException.class, () -> TwClassSet.of("custom"));
+        assertThrows(IndexOutOfBoundsException.class, () -> new TwClassSet().add(TwUtilities.COUNT));
+        assertThrows(IndexOutOfBoundsException.class, () -> new TwClassSet().add(-1));
+    }
+
+    @Test
+    void rejectsNullClassNames() {
+        TwClassSet set = new TwClassSet();
+        NullPointerException e = assertThrows(NullPointerException.class, () -> set.add(null));
+        assertEquals("className", e.getMessage());
+        assertThrows(NullPointerException.class, () -> TwClassSet.of("p-4", null));
+        assertTrue(set.isEmpty());
+
+        assertFalse(set.contains((String) null));
+        assertFalse(set.remove((String) null));
+    }
+}
@@ -0,0 +1,93 @@
+package com.vaadin.flow.component.tailwind;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Classification and sizes of {@link TwCssMetrics} for the utility CSS in
+ * {@code generator/utility-css.json}.
+ */
+class TwCssMetricsTest {
+
+    @Test
+    void filtersAndShadowsPaintAndAreExpensive() {
+        for (String className : List.of("blur-sm", "backdrop-blur-sm", "shadow-lg", "shadow-sm", "ring-2",
+                "mix-blend-multiply")) {
+            assertEquals(TwCssMetrics.PAINT, TwCssMetrics.stage(className), className);
+            assertTrue(TwCssMetrics.isExpensive(className), className);
+        }
+    }
+
+    @Test
+    void vendorPrefixedPropertiesAreClassifiedUnprefixed() {
+        assertEquals(List.of("--tw-backdrop-blur", "-webkit-backdrop-filter", "backdrop-filter"),
+                TwCssMetrics.properties("backdrop-blur-sm"));
+        assertEquals(TwCssMetrics.PAINT, TwCssMetrics.stage("backdrop-blur-sm"));
+    }
+
+    @Test
+    void transformsComposite() {
+        for (String className : List.of("transform", "translate-x-2", "scale-95", "rotate-45", "opacity-50")) {
+            assertEquals(TwCssMetrics.COMPOSITE, TwCssMetrics.stage(className), className);
+            assertFalse(TwCssMetrics.isExpensive(className), className);
+        }
+        assertEquals(List.of("--tw-translate-x", "translate"), TwCssMetrics.properties("translate-x-2"));
+    }
+
+    @Test
+    void sizesLayOut() {
+        for (String className : List.of("w-full", "p-4", "px-4", "flex", "border")) {
+            assertEquals(TwCssMetrics.LAYOUT, TwCssMetrics.stage(className), className);
+            assertFalse(TwCssMetrics.isExpensive(className), className);
+        }
+    }
+
+    @Test
+    void colorsPaintAndInertPropertiesDoNotRender() {
+        assertEquals(TwCssMetrics.PAINT, TwCssMetrics.stage("bg-white"));
+        assertEquals(TwCssMetrics.PAINT, TwCssMetrics.stage("rounded-lg"));
+        assertEquals(TwCssMetrics.NONE, TwCssMetrics.stage("cursor-pointer"));
+        assertEquals(TwCssMetrics.NONE, TwCssMetrics.stage("transition-colors"));
+    }
+
+    @Test
+    void bytesOfTheWrittenRules() {
+        assertEquals(".p-4{padding:calc(var(--spacing)*4)}".length(), TwCssMetrics.bytes("p-4"));
+        assertEquals(".w-full{width:100%}".length(), TwCssMetrics.bytes("w-full"));
+        assertEquals(218, TwCssMetrics.bytes("blur-sm"));
+        assertEquals(594, TwCssMetrics.bytes("backdrop-blur-sm"));
+        assertEquals(251, TwCssMetrics.bytes("shadow-lg"));
+        assertEquals(108, TwCssMetrics.bytes("translate-x-2"));
+    }
+
+    @Test
+    void setsSumAndCombine() {
+        TwClassSet used = TwClassSet.of("p-4", "shadow-lg", "opacity-50");
+        assertEquals(36 + 251 + 23, TwCssMetrics.bytes(used));
+        assertEquals(TwCssMetrics.LAYOUT, TwCssMetrics.stage(used));
+        assertEquals(TwClassSet.of("shadow-lg"), TwCssMetrics.expensive(used));
+
+        assertEquals(TwCssMetrics.COMPOSITE, TwCssMetrics.stage(TwClassSet.of("opacity-50", "cursor-pointer")));
+        assertEquals(TwCssMetrics.NONE, TwCssMetrics.stage(new TwClassSet()));
+    }
+
+    @Test
+    void utilitiesWithoutCapturedCss() {
+        assertEquals(0, TwCssMetrics.bytes("shadow-md"));
+        assertEquals(List.of(), TwCssMetrics.properties("shadow-md"));
+        assertEquals(TwCssMetrics.NONE, TwCssMetrics.stage("shadow-md"));
+        assertFalse(TwCssMetrics.isExpensive("shadow-md"));
+    }
+
+    @Test
+    void rejectsUnknownUtilities() {
+        assertThrows(IllegalArgumentException.class, () -> TwCssMetrics.bytes("custom"));
+        assertThrows(IndexOutOfBoundsException.class, () -> TwCssMetrics.stage(TwUtilities.COUNT));
+    }
+}
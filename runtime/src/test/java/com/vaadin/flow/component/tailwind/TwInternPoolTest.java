@@ -0,0 +1,35 @@
+package com.vaadin.flow.component.tailwind;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pooling, counters and eviction of {@link TwInternPool}. The pool is static, so counters are
+ * checked as deltas.
+ */
+class TwInternPoolTest {
+
+    @Test
+    void equalCompositionsShareAnInstance() {
+        long misses = TwInternPool.misses();
+        long hits = TwInternPool.hits();
+        String composed = TwInternPool.intern("hover:", "bg-[#0a0b0c]");
+        assertEquals("hover:bg-[#0a0b0c]", composed);
+        assertSame(composed, TwInternPool.intern("hover:", new String("bg-[#0a0b0c]")));
+        assertEquals(misses + 1, TwInternPool.misses());
+        assertEquals(hits + 1, TwInternPool.hits());
+    }
+
+    @Test
+    void sizeIsBounded() {
+        long evictions = TwInternPool.evictions();
+        for (int i = 0; i < 2 * TwInternPool.CAPACITY; i++) {
+            TwInternPool.intern("md:", "w-[" + i + "px]");
+        }
+        assertTrue(TwInternPool.size() <= TwInternPool.CAPACITY);
+        assertTrue(TwInternPool.evictions() > evictions);
+    }
+}
@@ -0,0 +1,122 @@
+package com.vaadin.flow.component.tailwind;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Conflict resolution of {@link TwMerge}.
+ */
+class TwMergeTest {
+
+    @Test
+    void laterUtilityOfGroupWins() {
+        assertEquals("p-6 px-2", TwMerge.merge("p-4 p-6 px-2"));
+        assertEquals("block", TwMerge.merge("flex block"));
+        assertEquals("-m-4", TwMerge.merge("m-2 -m-4"));
+    }
+
+    @Test
+    void groupOverridesEarlierSubgroup() {
+        assertEquals("p-6", TwMerge.merge("px-2 p-6"));
+        assertEquals("p-6 px-2", TwMerge.merge("px-4 p-6 px-2"));
+    }
+
+    @Test
+    void differentGroupsAreKept() {
+        assertEquals("text-red-500 text-lg", TwMerge.merge("text-red-500 text-lg"));
+    }
+
+    @Test
+    void conflictsArePerVariant() {
+        assertEquals("md:p-4 p-2", TwMerge.merge("md:p-4 p-2"));
+        assertEquals("hover:bg-blue-500", TwMerge.merge("hover:bg-red-500 hover:bg-blue-500"));
+        assertEquals("p-6 px-2 bg-gray-100 md:p-2",
+                TwMerge.merge("p-4 p-6 px-2", "bg-white bg-gray-100", "md:p-4 md:p-2"));
+    }
+
+    @Test
+    void importantIsItsOwnVariant() {
+        assertEquals("!p-4 p-2", TwMerge.merge("!p-4 p-2"));
+    }
+
+    @Test
+    void arbitraryValuesAndOpacityModifiers() {
+        assertEquals("p-[13px]", TwMerge.merge("p-4 p-[13px]"));
+        assertEquals("bg-blue-500/50", TwMerge.merge("bg-red-500 bg-blue-500/50"));
+    }
+
+    @Test
+    void arbitraryValuesOfSharedPrefixesResolveByType() {
+        assertEquals("bg-white", TwMerge.merge("bg-[#fff] bg-white"));
+        assertEquals("bg-[rgb(0,0,0)]", TwMerge.merge("bg-white bg-[rgb(0,0,0)]"));
+        assertEquals("text-lg", TwMerge.merge("text-[14px] text-lg"));
+        assertEquals("text-red-500 text-[14px]", TwMerge.merge("text-red-500 text-[14px]"));
+        assertEquals("text-lg text-[#333]", TwMerge.merge("text-lg text-[#333]"));
+        assertEquals("text-[color:var(--brand)]", TwMerge.merge("text-white text-[color:var(--brand)]"));
+        assertEquals("border-[3px] border-red-500", TwMerge.merge("border-2 border-[3px] border-red-500"));
+        assertEquals("border-[#fff]", TwMerge.merge("border-red-500 border-[#fff]"));
+        assertEquals("rounded-[4px]", TwMerge.merge("rounded-lg rounded-[4px]"));
+        assertEquals("w-[calc(100%-1rem)]", TwMerge.merge("w-full w-[calc(100%-1rem)]"));
+    }
+
+    @Test
+    void unknownNamedValuesOfSharedPrefixesResolveByType() {
+        assertEquals("bg-teal-500", TwMerge.merge("bg-white bg-teal-500"));
+        assertEquals("border-3", TwMerge.merge("border-2 border-3"));
+    }
+
+    @Test
+    void valuesOfUnknownTypeAreKept() {
+        assertEquals("bg-white bg-[url(a.png)]", TwMerge.merge("bg-white bg-[url(a.png)]"));
+        assertEquals("text-lg text-[var(--x)]", TwMerge.merge("text-lg text-[var(--x)]"));
+    }
+
+    @Test
+    void valueTypes() {
+        assertEquals(0, TwMerge.valueType("[#fff]"));
+        assertEquals(0, TwMerge.valueType("[oklch(0.5_0.2_240)]"));
+        assertEquals(0, TwMerge.valueType("teal-500"));
+        assertEquals(1, TwMerge.valueType("[14px]"));
+        assertEquals(1, TwMerge.valueType("[1.5rem]"));
+        assertEquals(1, TwMerge.valueType("[-2px]"));
+        assertEquals(1, TwMerge.valueType("[length:var(--w)]"));
+        assertEquals(1, TwMerge.valueType("[0]"));
+        assertEquals(1, TwMerge.valueType("3"));
+        assertEquals(-1, TwMerge.valueType("[14]"));
+        assertEquals(-1, TwMerge.valueType("[url(a.png)]"));
+        assertEquals(-1, TwMerge.valueType("lg"));
+    }
+
+    @Test
+    void unknownClassesAreKeptOnce() {
+        assertEquals("custom p-2", TwMerge.merge("custom custom p-2"));
+    }
+
+    @Test
+    void nullArgumentsAreIgnored() {
+        assertEquals("p-2", TwMerge.merge("p-4", null, "p-2"));
+        assertEquals("", TwMerge.merge((String) null));
+        assertEquals("", TwMerge.merge());
+    }
+
+    @Test
+    void cachedResultsSurviveChangesToTheArguments() {
+        String[] classLists = {"p-4", "p-2"};
+        String merged = TwMerge.merge(classLists);
+        assertSame(merged, TwMerge.merge("p-4", "p-2"));
+
+        classLists[1] = "m-1";
+        assertEquals("p-4 m-1", TwMerge.merge(classLists));
+        assertEquals("p-2", TwMerge.merge("p-4", "p-2"));
+    }
+
+    @Test
+    void conflictGroups() {
+        assertEquals(TwMerge.groupOf("p-4"), TwMerge.groupOf("p-6"));
+        assertEquals(TwMerge.groupOf("bg-red-500"), TwMerge.groupOf("bg-blue-500/50"));
+        assertEquals(TwMerge.groupOf("p-4"), TwMerge.groupOf("p-[13px]"));
+        assertEquals(-1, TwMerge.groupOf("custom"));
+    }
+}
@@ -0,0 +1,77 @@
+package com.vaadin.flow.component.tailwind;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Stylesheets built by {@link TwStylesheet} from the utility CSS in {@code generator/utility-css.json}.
+ */
+class TwStylesheetTest {
+
+    private static final String UTILITIES = "@layer utilities{";
+
+    @Test
+    void preambleComesFirst() {
+        String css = TwStylesheet.css();
+        assertTrue(css.startsWith("@layer properties{"), css);
+        assertTrue(css.contains("@layer theme{:root,:host{--spacing:.25rem;"), css);
+        assertTrue(css.endsWith(UTILITIES + "}"), css);
+    }
+
+    @Test
+    void plainUtilities() {
+        assertEquals(".p-4{padding:calc(var(--spacing)*4)}", utilities("p-4"));
+        assertEquals(".w-full{width:100%}", utilities("w-full"));
+    }
+
+    @Test
+    void selectorVariants() {
+        assertEquals("@media (hover:hover){.hover\\:bg-blue-600:hover{background-color:var(--color-blue-600)}}",
+                utilities("hover:bg-blue-600"));
+    }
+
+    @Test
+    void atRuleVariants() {
+        assertEquals("@media (width>=768px){.md\\:p-6{padding:calc(var(--spacing)*6)}}", utilities("md:p-6"));
+        assertEquals("@media (prefers-color-scheme:dark){.dark\\:bg-white{background-color:var(--color-white)}}",
+                utilities("dark:bg-white"));
+        assertEquals("@media (width>=768px){@media (prefers-color-scheme:dark)"
+                + "{.dark\\:md\\:text-white{color:var(--color-white)}}}", utilities("dark:md:text-white"));
+    }
+
+    @Test
+    void rulesFollowTheTailwindOrder() {
+        assertEquals(".flex{display:flex}.px-4{padding-inline:calc(var(--spacing)*4)}"
+                + "@media (width>=768px){.md\\:flex-col{flex-direction:column}.md\\:p-6{padding:calc(var(--spacing)*6)}}",
+                utilities("md:p-6", "px-4", "md:flex-col", "flex"));
+        assertEquals(".m-2{margin:calc(var(--spacing)*2)}.flex{display:flex}.p-4{padding:calc(var(--spacing)*4)}",
+                layer(TwStylesheet.css(TwClassSet.of("p-4", "flex", "m-2"))));
+    }
+
+    @Test
+    void unknownAndDuplicateClassesAreSkipped() {
+        assertEquals(".p-4{padding:calc(var(--spacing)*4)}",
+                layer(TwStylesheet.css(List.of("p-4", "p-4", "custom", "p-[13px]", "nope:p-4"))));
+    }
+
+    @Test
+    void escapesSelectors() {
+        assertEquals("w-1\\/2", TwStylesheet.escape("w-1/2"));
+        assertEquals("\\32 xl", TwStylesheet.escape("2xl"));
+        assertEquals("md\\:p-4", TwStylesheet.escape("md:p-4"));
+    }
+
+    private static String utilities(String... classNames) {
+        return layer(TwStylesheet.css(classNames));
+    }
+
+    /** Returns the content of the utilities layer */
+    private static String layer(String css) {
+        int start = css.indexOf(UTILITIES) + UTILITIES.length();
+        return css.substring(start, css.length() - 1);
+    }
+}
@@ -0,0 +1,113 @@
+package com.vaadin.flow.component.tailwind;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Edge cases of {@link TwTokenizer}.
+ */
+class TwTokenizerTest {
+
+    @Test
+    void splitsOnWhitespace() {
+        TwTokenizer tokens = new TwTokenizer("  flex\tp-4\n md:m-2  ");
+        assertTrue(tokens.next());
+        assertEquals("flex", tokens.token());
+        assertEquals(2, tokens.start());
+        assertEquals(6, tokens.end());
+        assertTrue(tokens.next());
+        assertEquals("p-4", tokens.utility());
+        assertTrue(tokens.next());
+        assertEquals("md:m-2", tokens.token());
+        assertEquals("m-2", tokens.utility());
+        assertFalse(tokens.next());
+        assertFalse(tokens.next());
+
+        assertFalse(new TwTokenizer("").next());
+        assertFalse(new TwTokenizer(" \t ").next());
+    }
+
+    @Test
+    void resolvesVariants() {
+        TwTokenizer tokens = new TwTokenizer("dark:md:hover:p-4");
+        assertTrue(tokens.next());
+        assertEquals(3, tokens.variantCount());
+        assertSame(TwVariant.DARK, tokens.variant(0));
+        assertSame(TwVariant.MD, tokens.variant(1));
+        assertSame(TwVariant.HOVER, tokens.variant(2));
+        assertEquals(5, tokens.variantStart(1));
+        assertEquals(8, tokens.variantEnd(1));
+        assertEquals(14, tokens.utilityStart());
+        assertEquals(TwUtilities.id("p-4"), tokens.utilityId());
+    }
+
+    @Test
+    void importantModifier() {
+        TwTokenizer tokens = new TwTokenizer("!p-4 p-4! md:!p-4 p-4");
+        for (int i = 0; i < 3; i++) {
+            assertTrue(tokens.next());
+            assertTrue(tokens.important(), tokens.token());
+            assertEquals("p-4", tokens.utility(), tokens.token());
+        }
+        assertTrue(tokens.next());
+        assertFalse(tokens.important());
+    }
+
+    @Test
+    void arbitraryVariants() {
+        TwTokenizer tokens = new TwTokenizer("[&>*]:p-4 data-[state=open]:hover:p-4");
+        assertTrue(tokens.next());
+        assertEquals(1, tokens.variantCount());
+        assertNull(tokens.variant(0));
+        assertEquals("p-4", tokens.utility());
+
+        assertTrue(tokens.next());
+        assertEquals(2, tokens.variantCount());
+        assertNull(tokens.variant(0));
+        assertSame(TwVariant.HOVER, tokens.variant(1));
+        assertEquals("p-4", tokens.utility());
+    }
+
+    @Test
+    void arbitraryValues() {
+        TwTokenizer tokens = new TwTokenizer("p-[13px] bg-[url(a:b)] md:w-[calc(100%-1rem)]");
+        assertTrue(tokens.next());
+        assertEquals(0, tokens.variantCount());
+        assertEquals(-1, tokens.utilityId());
+        assertNull(tokens.utility());
+
+        assertTrue(tokens.next());
+        assertEquals(0, tokens.variantCount());
+        assertEquals("bg-[url(a:b)]", tokens.token());
+
+        assertTrue(tokens.next());
+        assertEquals(1, tokens.variantCount());
+        assertEquals(26, tokens.utilityStart());
+    }
+
+    @Test
+    void resetReusesTheTokenizer() {
+        TwTokenizer tokens = new TwTokenizer("md:p-4 flex");
+        assertTrue(tokens.next());
+        tokens.reset("m-2");
+        assertTrue(tokens.next());
+        assertEquals(0, tokens.variantCount());
+        assertEquals("m-2", tokens.utility());
+        assertFalse(tokens.next());
+    }
+
+    @Test
+    void variantIndexIsChecked() {
+        TwTokenizer tokens = new TwTokenizer("md:p-4");
+        assertTrue(tokens.next());
+        assertThrows(IndexOutOfBoundsException.class, () -> tokens.variant(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> tokens.variantStart(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> tokens.variantEnd(1));
+    }
+}
@@ -0,0 +1,51 @@
+package com.vaadin.flow.component.tailwind;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Perfect hash lookups of {@link TwUtilities} and {@link TW#lookup(CharSequence)}.
+ */
+class TwUtilitiesTest {
+
+    @Test
+    void everyNameResolvesToItsId() {
+        for (int id = 0; id < TwUtilities.COUNT; id++) {
+            String name = TwUtilities.className(id);
+            assertEquals(id, TwUtilities.id(name), name);
+            assertEquals(id, TwUtilities.id(new StringBuilder(name)), name);
+        }
+    }
+
+    @Test
+    void rangesResolveWithoutCopying() {
+        String value = "md:p-4 flex";
+        assertEquals(TwUtilities.id("p-4"), TwUtilities.id(value, 3, 6));
+        assertEquals(TwUtilities.id("flex"), TwUtilities.id(value, 7, 11));
+        assertEquals(-1, TwUtilities.id(value, 0, 6));
+    }
+
+    @Test
+    void unknownNamesResolveToMinusOne() {
+        assertEquals(-1, TwUtilities.id("p-[13px]"));
+        assertEquals(-1, TwUtilities.id("p-4x"));
+        assertEquals(-1, TwUtilities.id("md:p-4"));
+        assertEquals(-1, TwUtilities.id("custom"));
+        assertEquals(-1, TwUtilities.id(""));
+        assertEquals(-1, TwUtilities.id((String) null));
+    }
+
+    @Test
+    void lookupReturnsSharedInfo() {
+        TwUtilityInfo info = TW.lookup("pl-4");
+        assertEquals("pl-4", info.className());
+        assertEquals("padding", info.category());
+        assertSame(info, TW.lookup(new StringBuilder("pl-4")));
+        assertSame(info, TwUtilityInfo.of(info.id()));
+        assertNull(TW.lookup("pl-[3px]"));
+    }
+
+}
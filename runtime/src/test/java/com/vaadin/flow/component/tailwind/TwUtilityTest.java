@@ -0,0 +1,36 @@
+package com.vaadin.flow.component.tailwind;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class strings of utility sets, see {@link TwUtility#toClassString(Set)}.
+ */
+class TwUtilityTest {
+
+    @Test
+    void classStringIsOrderedById() {
+        assertEquals("p-4 px-2", TwUtility.toClassString(Set.of(TW.lookup("px-2"), TW.lookup("p-4"))));
+        assertEquals("", TwUtility.toClassString(Set.of()));
+    }
+
+    @Test
+    void equalSetsShareTheCachedString() {
+        String classString = TwUtility.toClassString(Set.of(TW.lookup("flex"), TW.lookup("gap-4")));
+        assertSame(classString, TwUtility.toClassString(Set.of(TW.lookup("gap-4"), TW.lookup("flex"))));
+    }
+
+    @Test
+    void changesToTheSetDoNotAffectTheCache() {
+        Set<TwUtility> utilities = new HashSet<>(Set.of(TW.lookup("m-2")));
+        assertEquals("m-2", TwUtility.toClassString(utilities));
+        utilities.add(TW.lookup("block"));
+        assertEquals("block m-2", TwUtility.toClassString(utilities));
+        assertEquals("m-2", TwUtility.toClassString(Set.of(TW.lookup("m-2"))));
+    }
+}
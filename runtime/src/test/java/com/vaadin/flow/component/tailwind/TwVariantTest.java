@@ -0,0 +1,79 @@
+package com.vaadin.flow.component.tailwind;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Parsing, stacking and application of {@link TwVariant}, and the variant index of
+ * {@link TwVariants}.
+ */
+class TwVariantTest {
+
+    @Test
+    void precomputedVariants() {
+        assertSame(TwVariant.GROUP_HOVER, TwVariant.lookup("group-hover"));
+        assertSame(TwVariant.MD, TwVariant.of("md"));
+        assertEquals("group-hover:", TwVariant.GROUP_HOVER.prefix());
+        assertEquals("group-hover", TwVariant.GROUP_HOVER.name());
+        assertNull(TwVariant.lookup("hovr"));
+        assertNull(TwVariant.lookup("dark:md"));
+    }
+
+    @Test
+    void stacksAreMemoized() {
+        TwVariant stack = TwVariant.DARK.then(TwVariant.MD);
+        assertEquals("dark:md:", stack.prefix());
+        assertSame(stack, TwVariant.DARK.then(TwVariant.MD));
+        assertEquals("dark:md:hover:", stack.then(TwVariant.HOVER).prefix());
+        assertEquals("dark:md:hover:", TwVariant.DARK.then(TwVariant.MD.then(TwVariant.HOVER)).prefix());
+    }
+
+    @Test
+    void parsesStacksAndArbitraryVariants() {
+        assertEquals(TwVariant.DARK.then(TwVariant.MD), TwVariant.of("dark:md"));
+        assertEquals("dark:md:", TwVariant.of("dark:md:").prefix());
+        assertEquals("data-[state=open]:", TwVariant.of("data-[state=open]").prefix());
+        assertEquals("[&:hover]:md:", TwVariant.of("[&:hover]:md").prefix());
+    }
+
+    @Test
+    void rejectsInvalidNames() {
+        assertThrows(IllegalArgumentException.class, () -> TwVariant.of(""));
+        assertThrows(IllegalArgumentException.class, () -> TwVariant.of(":"));
+        assertThrows(IllegalArgumentException.class, () -> TwVariant.of("dark::md"));
+        assertThrows(IllegalArgumentException.class, () -> TwVariant.of("dark md"));
+    }
+
+    @Test
+    void applyReturnsSharedInstances() {
+        String hovered = TwVariant.HOVER.apply("bg-blue-600");
+        assertEquals("hover:bg-blue-600", hovered);
+        assertSame(hovered, TwVariant.HOVER.apply("bg-blue-600"));
+
+        TwVariant stack = TwVariant.DARK.then(TwVariant.MD);
+        String stacked = stack.apply("p-4");
+        assertEquals("dark:md:p-4", stacked);
+        assertSame(stacked, stack.apply("p-4"));
+
+        String arbitrary = TwVariant.HOVER.apply(new String("bg-[#1e40af]"));
+        assertEquals("hover:bg-[#1e40af]", arbitrary);
+        assertSame(arbitrary, TwVariant.HOVER.apply(new String("bg-[#1e40af]")));
+
+        assertThrows(NullPointerException.class, () -> TwVariant.HOVER.apply(null));
+    }
+
+    @Test
+    void everyVariantPrefixResolvesToItsIndex() {
+        for (int index = 0; index < TwVariants.PREFIXES.length; index++) {
+            String prefix = TwVariants.PREFIXES[index];
+            assertEquals(index, TwVariants.index(prefix, 0, prefix.length()), prefix);
+            assertSame(TwVariant.byIndex(index), TwVariant.lookup(prefix.substring(0, prefix.length() - 1)), prefix);
+        }
+        assertEquals(-1, TwVariants.index("hovr:", 0, 5));
+        assertEquals(-1, TwVariants.index("data-[state=open]:", 0, 18));
+    }
+}
@@ -0,0 +1,276 @@
+package com.vaadin.flow.component.tailwind.scanner;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reads the string constants, field references and method references of a class file.
+ * <p>
+ * Since {@code static final String} constants are inlined by javac, every use of a {@code TW}
+ * constant ends up as a string constant in the constant pool of the using class. String values of
+ * annotations are collected as well, since they are stored outside the string constants. Constants
+ * that are not inlined, such as enum constants, show up as field references. Only the parts of the
+ * class file needed for this are parsed; code is not inspected.
+ *
+ * @see <a href="https://docs.oracle.com/javase/specs/jvms/se17/html/jvms-4.html">The class File Format</a>
+ */
+final class ClassFileReader {
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_FLOAT = 4;
+    private static final int CONSTANT_LONG = 5;
+    private static final int CONSTANT_DOUBLE = 6;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELDREF = 9;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_INTERFACE_METHODREF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+    private static final int CONSTANT_METHOD_HANDLE = 15;
+    private static final int CONSTANT_METHOD_TYPE = 16;
+    private static final int CONSTANT_DYNAMIC = 17;
+    private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+    private static final int CONSTANT_MODULE = 19;
+    private static final int CONSTANT_PACKAGE = 20;
+
+    private final DataInputStream in;
+
+    private String[] utf8;
+    private int[] first;
+    private int[] second;
+    private int[] tags;
+
+    private String className;
+    private final List<String> strings = new ArrayList<>();
+    private final List<String> fieldReferences = new ArrayList<>();
+    private final List<String> methodReferences = new ArrayList<>();
+
+    private ClassFileReader(InputStream in) {
+        this.in = new DataInputStream(in);
+    }
+
+    /**
+     * Reads a class file.
+     *
+     * @throws IOException if the stream cannot be read or is not a class file
+     */
+    static ClassFileReader read(InputStream in) throws IOException {
+        ClassFileReader reader = new ClassFileReader(in);
+        reader.readClass();
+        return reader;
+    }
+
+    /**
+     * Returns the internal name of the class, e.g. {@code com/example/MainView}.
+     */
+    String className() {
+        return className;
+    }
+
+    /**
+     * Returns the string constants and annotation string values, in class file order.
+     */
+    List<String> strings() {
+        return Collections.unmodifiableList(strings);
+    }
+
+    /**
+     * Returns the referenced fields as {@code owner.name}, e.g. {@code com/example/TW$Flex$Utility.ROW}.
+     */
+    List<String> fieldReferences() {
+        return Collections.unmodifiableList(fieldReferences);
+    }
+
+    /**
+     * Returns the referenced methods as {@code owner.name}, e.g. {@code com/example/TW$State.hover}.
+     */
+    List<String> methodReferences() {
+        return Collections.unmodifiableList(methodReferences);
+    }
+
+    private void readClass() throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a class file");
+        }
+        in.readUnsignedShort(); // minor version
+        in.readUnsignedShort(); // major version
+
+        readConstantPool();
+
+        in.readUnsignedShort(); // access flags
+        className = utf8[first[in.readUnsignedShort()]];
+        in.readUnsignedShort(); // super class
+        skip(in.readUnsignedShort() * 2); // interfaces
+
+        readMembers(); // fields
+        readMembers(); // methods
+        readAttributes();
+    }
+
+    private void readConstantPool() throws IOException {
+        int count = in.readUnsignedShort();
+        utf8 = new String[count];
+        first = new int[count];
+        second = new int[count];
+        tags = new int[count];
+
+        for (int i = 1; i < count; i++) {
+            int tag = in.readUnsignedByte();
+            tags[i] = tag;
+            switch (tag) {
+                case CONSTANT_UTF8:
+                    utf8[i] = in.readUTF();
+                    break;
+                case CONSTANT_CLASS:
+                case CONSTANT_STRING:
+                case CONSTANT_METHOD_TYPE:
+                case CONSTANT_MODULE:
+                case CONSTANT_PACKAGE:
+                    first[i] = in.readUnsignedShort();
+                    break;
+                case CONSTANT_FIELDREF:
+                case CONSTANT_METHODREF:
+                case CONSTANT_INTERFACE_METHODREF:
+                case CONSTANT_NAME_AND_TYPE:
+                case CONSTANT_DYNAMIC:
+                case CONSTANT_INVOKE_DYNAMIC:
+                    first[i] = in.readUnsignedShort();
+                    second[i] = in.readUnsignedShort();
+                    break;
+                case CONSTANT_INTEGER:
+                case CONSTANT_FLOAT:
+                    skip(4);
+                    break;
+                case CONSTANT_LONG:
+                case CONSTANT_DOUBLE:
+                    // Takes two entries
+                    skip(8);
+                    i++;
+                    break;
+                case CONSTANT_METHOD_HANDLE:
+                    skip(3);
+                    break;
+                default:
+                    throw new IOException("Unknown constant pool tag " + tag + " at index " + i);
+            }
+        }
+
+        for (int i = 1; i < count; i++) {
+            if (tags[i] == CONSTANT_STRING) {
+                strings.add(utf8[first[i]]);
+            } else if (tags[i] == CONSTANT_FIELDREF) {
+                fieldReferences.add(reference(i));
+            } else if (tags[i] == CONSTANT_METHODREF || tags[i] == CONSTANT_INTERFACE_METHODREF) {
+                methodReferences.add(reference(i));
+            }
+        }
+    }
+
+    /**
+     * Returns a field or method reference as {@code owner.name}.
+     */
+    private String reference(int index) {
+        return utf8[first[first[index]]] + '.' + utf8[first[second[index]]];
+    }
+
+    private void readMembers() throws IOException {
+        int count = in.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            skip(6); // access flags, name, descriptor
+            readAttributes();
+        }
+    }
+
+    private void readAttributes() throws IOException {
+        int count = in.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            String name = utf8[in.readUnsignedShort()];
+            int length = in.readInt();
+            switch (name) {
+                case "RuntimeVisibleAnnotations":
+                case "RuntimeInvisibleAnnotations":
+                    readAnnotations();
+                    break;
+                case "RuntimeVisibleParameterAnnotations":
+                case "RuntimeInvisibleParameterAnnotations":
+                    int parameters = in.readUnsignedByte();
+                    for (int p = 0; p < parameters; p++) {
+                        readAnnotations();
+                    }
+                    break;
+                default:
+                    skip(length);
+            }
+        }
+    }
+
+    private void readAnnotations() throws IOException {
+        int count = in.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            readAnnotation();
+        }
+    }
+
+    private void readAnnotation() throws IOException {
+        in.readUnsignedShort(); // type
+        int pairs = in.readUnsignedShort();
+        for (int i = 0; i < pairs; i++) {
+            in.readUnsignedShort(); // element name
+            readElementValue();
+        }
+    }
+
+    private void readElementValue() throws IOException {
+        int tag = in.readUnsignedByte();
+        switch (tag) {
+            case 's':
+                strings.add(utf8[in.readUnsignedShort()]);
+                break;
+            case 'B':
+            case 'C':
+            case 'D':
+            case 'F':
+            case 'I':
+            case 'J':
+            case 'S':
+            case 'Z':
+            case 'c':
+                skip(2);
+                break;
+            case 'e':
+                skip(4);
+                break;
+            case '@':
+                readAnnotation();
+                break;
+            case '[':
+                int values = in.readUnsignedShort();
+                for (int i = 0; i < values; i++) {
+                    readElementValue();
+                }
+                break;
+            default:
+                throw new IOException("Unknown annotation element tag " + (char) tag);
+        }
+    }
+
+    private void skip(int bytes) throws IOException {
+        int remaining = bytes;
+        while (remaining > 0) {
+            int skipped = in.skipBytes(remaining);
+            if (skipped == 0) {
+                // Throws EOFException at the end of the stream
+                in.readByte();
+                skipped = 1;
+            }
+            remaining -= skipped;
+        }
+    }
+}
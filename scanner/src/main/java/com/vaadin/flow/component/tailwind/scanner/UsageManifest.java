@@ -0,0 +1,111 @@
+package com.vaadin.flow.component.tailwind.scanner;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import com.vaadin.flow.component.tailwind.TwClassSet;
+
+/**
+ * The Tailwind CSS utilities used by an application, as found by {@link UsageScanner}.
+ * <p>
+ * The manifest is written as plain text with one class name per line and {@code #} comments, so it
+ * can be passed to {@code TwStylesheet.css(...)}, when utility CSS was captured, or used as content
+ * for CSS purging.
+ */
+public final class UsageManifest {
+
+    private final SortedSet<String> classNames;
+    private final SortedSet<String> helperVariants;
+    private final int scannedClasses;
+
+    UsageManifest(Set<String> classNames, Set<String> helperVariants, int scannedClasses) {
+        this.classNames = Collections.unmodifiableSortedSet(new TreeSet<>(classNames));
+        this.helperVariants = Collections.unmodifiableSortedSet(new TreeSet<>(helperVariants));
+        this.scannedClasses = scannedClasses;
+    }
+
+    /**
+     * Returns the class names found in string constants, with variants as written, e.g. {@code md:flex-row}.
+     */
+    public SortedSet<String> classNames() {
+        return classNames;
+    }
+
+    /**
+     * Returns the variants applied at runtime through {@code TW.Responsive}, {@code TW.State} or
+     * {@code TwVariant}, e.g. {@code md} or the stack {@code dark:md}.
+     */
+    public SortedSet<String> helperVariants() {
+        return helperVariants;
+    }
+
+    /**
+     * Returns the utilities used, with or without variants.
+     */
+    public TwClassSet utilities() {
+        TwClassSet utilities = new TwClassSet();
+        for (String className : classNames) {
+            utilities.add(className.substring(className.lastIndexOf(':') + 1));
+        }
+        return utilities;
+    }
+
+    /**
+     * Returns every class name that may be used at runtime: the class names found, plus each helper
+     * variant applied to each utility used.
+     */
+    public SortedSet<String> expandedClassNames() {
+        SortedSet<String> expanded = new TreeSet<>(classNames);
+        if (!helperVariants.isEmpty()) {
+            String[] utilities = utilities().toArray();
+            for (String variant : helperVariants) {
+                for (String utility : utilities) {
+                    expanded.add(variant + ':' + utility);
+                }
+            }
+        }
+        return expanded;
+    }
+
+    /**
+     * Returns the number of classes scanned, not counting the generated classes.
+     */
+    public int scannedClasses() {
+        return scannedClasses;
+    }
+
+    /**
+     * Writes the expanded class names to a file, creating parent directories as needed.
+     */
+    public void write(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            write(writer);
+        }
+    }
+
+    /**
+     * Writes the expanded class names, one per line.
+     */
+    public void write(Writer writer) throws IOException {
+        writer.write("# Tailwind CSS utilities used by " + scannedClasses + " classes\n");
+        if (!helperVariants.isEmpty()) {
+            writer.write("# Variants applied through TW.Responsive/TW.State/TwVariant: "
+                    + String.join(", ", helperVariants) + "\n");
+        }
+        for (String className : expandedClassNames()) {
+            writer.write(className);
+            writer.write('\n');
+        }
+    }
+}
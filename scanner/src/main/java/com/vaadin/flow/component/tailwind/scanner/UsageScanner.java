@@ -0,0 +1,441 @@
+package com.vaadin.flow.component.tailwind.scanner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+import com.vaadin.flow.component.tailwind.TW;
+import com.vaadin.flow.component.tailwind.TwPalette;
+import com.vaadin.flow.component.tailwind.TwUtilities;
+import com.vaadin.flow.component.tailwind.TwUtility;
+import com.vaadin.flow.component.tailwind.TwVariant;
+
+/**
+ * Finds the Tailwind CSS utilities used by compiled classes.
+ * <p>
+ * {@code TW} constants are inlined by javac, so their uses cannot be observed at runtime. Instead,
+ * the string constants of every class are split at whitespace, and each token that is a generated
+ * utility, optionally with variants (e.g. {@code md:flex-row} from {@code TW.Md.Flex.ROW}), is
+ * recorded. Constants of the utility enums generated with {@code java.enums} are not inlined, so
+ * references to them are recorded as their utility, and calls to their {@code values()} or
+ * {@code valueOf(String)} as every constant of the enum. Likewise, calls to the scale accessors, e.g.
+ * {@code TW.Spacing.Padding.p(int)} or {@code TW.Background.color(TwPalette, int)}, are recorded as
+ * every utility the accessor can return, since the argument is only known at runtime. Calls to
+ * {@link TW.Responsive} and {@link TW.State}, and references to the {@link TwVariant} constants, are
+ * recorded as variants, since the utility they are applied to is only known at runtime. A class
+ * calling {@link TwVariant#then(TwVariant)} also records each ordered pair of the variant constants it
+ * references as a stack, e.g. {@code dark:md}; deeper stacks and variants created with
+ * {@link TwVariant#of(String)} have to be safelisted. The generated classes themselves are skipped.
+ *
+ * <pre>{@code
+ * UsageScanner scanner = new UsageScanner();
+ * scanner.scan(Paths.get("target/classes"));
+ * scanner.manifest().write(Paths.get("target/classes/META-INF/tailwind/used-utilities.txt"));
+ * }</pre>
+ */
+public final class UsageScanner {
+
+    /** Internal name of the package containing the generated classes */
+    private static final String GENERATED_PACKAGE = TwUtilities.class.getPackageName().replace('.', '/');
+
+    /** Variant of each helper method, keyed by {@code owner.name} */
+    private static final Map<String, String> HELPER_VARIANTS = helperVariants();
+
+    /** Variant of each {@link TwVariant} constant, keyed by {@code owner.name}, from its variant index */
+    private static final Map<String, String> VARIANT_CONSTANTS = variantConstants();
+
+    /** Method stacking variants, as {@code owner.name} */
+    private static final String VARIANT_THEN = TwVariant.class.getName().replace('.', '/') + ".then";
+
+    /**
+     * Class names of the constants of each generated utility enum, keyed by internal name and
+     * constant name, resolved on first reference; empty for other generated classes
+     */
+    private static final Map<String, Map<String, String>> UTILITY_ENUMS = new ConcurrentHashMap<>();
+
+    /**
+     * Utilities each scale accessor can return, keyed by {@code owner.name} and resolved on first
+     * reference; empty for other generated methods
+     */
+    private static final Map<String, Set<String>> SCALE_ACCESSORS = new ConcurrentHashMap<>();
+
+    /** Largest number ending a utility class name, bounding the steps and shades probed */
+    private static final int MAX_STEP = maxStep();
+
+    private final Set<String> classNames = new TreeSet<>();
+    private final Set<String> helperVariants = new TreeSet<>();
+    private int scannedClasses;
+
+    /**
+     * Scans a directory of class files, a jar file or a single class file.
+     *
+     * @throws IOException if a file cannot be read or is not a valid class file
+     */
+    public void scan(Path path) throws IOException {
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> files = Files.walk(path)) {
+                Iterator<Path> classFiles = files.filter(UsageScanner::isClassFile).sorted().iterator();
+                while (classFiles.hasNext()) {
+                    scanClassFile(classFiles.next());
+                }
+            }
+        } else if (path.getFileName().toString().endsWith(".jar")) {
+            try (JarFile jar = new JarFile(path.toFile())) {
+                Enumeration<JarEntry> entries = jar.entries();
+                while (entries.hasMoreElements()) {
+                    JarEntry entry = entries.nextElement();
+                    if (!entry.isDirectory() && isClassFile(entry.getName())) {
+                        try (InputStream in = jar.getInputStream(entry)) {
+                            scan(in);
+                        }
+                    }
+                }
+            }
+        } else if (isClassFile(path)) {
+            scanClassFile(path);
+        } else {
+            throw new IOException("Not a directory, jar or class file: " + path);
+        }
+    }
+
+    /**
+     * Scans a single class file.
+     *
+     * @throws IOException if the stream cannot be read or is not a valid class file
+     */
+    public void scan(InputStream classFile) throws IOException {
+        ClassFileReader reader = ClassFileReader.read(classFile);
+        if (isGenerated(reader.className())) {
+            return;
+        }
+
+        scannedClasses++;
+        for (String value : reader.strings()) {
+            addClassNames(value);
+        }
+        List<String> variants = new ArrayList<>();
+        for (String field : reader.fieldReferences()) {
+            String variant = VARIANT_CONSTANTS.get(field);
+            if (variant != null) {
+                helperVariants.add(variant);
+                variants.add(variant);
+                continue;
+            }
+
+            int dot = field.lastIndexOf('.');
+            String owner = field.substring(0, dot);
+            if (isGenerated(owner)) {
+                String className = utilityConstants(owner).get(field.substring(dot + 1));
+                if (className != null) {
+                    classNames.add(className);
+                }
+            }
+        }
+        for (String method : reader.methodReferences()) {
+            String variant = HELPER_VARIANTS.get(method);
+            if (variant != null) {
+                helperVariants.add(variant);
+                continue;
+            }
+
+            // The constant is only known at runtime, so every constant is recorded
+            int dot = method.lastIndexOf('.');
+            String owner = method.substring(0, dot);
+            String name = method.substring(dot + 1);
+            if (isGenerated(owner)) {
+                if (name.equals("values") || name.equals("valueOf")) {
+                    classNames.addAll(utilityConstants(owner).values());
+                } else {
+                    classNames.addAll(SCALE_ACCESSORS.computeIfAbsent(method, UsageScanner::readScaleUtilities));
+                }
+            }
+        }
+
+        // Which constants are stacked, and in which order, is only known at runtime
+        if (reader.methodReferences().contains(VARIANT_THEN)) {
+            for (String first : variants) {
+                for (String second : variants) {
+                    if (!first.equals(second)) {
+                        helperVariants.add(first + ':' + second);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the utilities found so far.
+     */
+    public UsageManifest manifest() {
+        return new UsageManifest(classNames, helperVariants, scannedClasses);
+    }
+
+    /**
+     * Scans classes and writes the manifest, e.g. from a Gradle {@code JavaExec} task.
+     * <p>
+     * Usage: {@code UsageScanner <manifest file> <classes directory or jar>...}
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: UsageScanner <manifest file> <classes directory or jar>...");
+            System.exit(2);
+        }
+
+        UsageScanner scanner = new UsageScanner();
+        for (int i = 1; i < args.length; i++) {
+            scanner.scan(Paths.get(args[i]));
+        }
+
+        UsageManifest manifest = scanner.manifest();
+        manifest.write(Paths.get(args[0]));
+        System.out.println("Found " + manifest.utilities().size() + " utilities in "
+                + manifest.scannedClasses() + " classes, wrote " + args[0]);
+    }
+
+    private void scanClassFile(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            scan(in);
+        } catch (IOException e) {
+            throw new IOException("Cannot read " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    private void addClassNames(String value) {
+        int length = value.length();
+        int start = 0;
+        while (start < length) {
+            while (start < length && isSeparator(value.charAt(start))) {
+                start++;
+            }
+            int end = start;
+            while (end < length && !isSeparator(value.charAt(end))) {
+                end++;
+            }
+            if (end > start) {
+                String token = value.substring(start, end);
+                if (isUtility(token)) {
+                    classNames.add(token);
+                }
+            }
+            start = end;
+        }
+    }
+
+    /**
+     * Returns whether a character separates class names. String concatenation recipes use control
+     * characters as placeholders for the dynamic parts.
+     */
+    private static boolean isSeparator(char c) {
+        return Character.isWhitespace(c) || Character.isISOControl(c);
+    }
+
+    /**
+     * Returns whether a token is a generated utility, optionally prefixed with variants. Every
+     * variant has to be known, so tokens such as {@code url:block} are not taken for utilities.
+     */
+    static boolean isUtility(String token) {
+        int start = 0;
+        int brackets = 0;
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c == '[') {
+                brackets++;
+            } else if (c == ']') {
+                brackets--;
+            } else if (c == ':' && brackets == 0) {
+                if (!isVariant(token.substring(start, i))) {
+                    return false;
+                }
+                start = i + 1;
+            }
+        }
+        return TwUtilities.id(start == 0 ? token : token.substring(start)) >= 0;
+    }
+
+    /**
+     * Returns whether a variant is in the variant index of {@link TwVariant}. Arbitrary variants and
+     * variants with arbitrary values, e.g. {@code [&>*]} or {@code data-[state=open]}, are not
+     * checked, like in the class name validator.
+     */
+    private static boolean isVariant(String variant) {
+        if (variant.endsWith("]") && variant.indexOf('[') >= 0) {
+            return true;
+        }
+        // Named groups and peers, e.g. "group-hover/item"
+        int slash = variant.indexOf('/');
+        return TwVariant.lookup(slash > 0 ? variant.substring(0, slash) : variant) != null;
+    }
+
+    /**
+     * Returns whether an internal class name is one of the generated classes, including nested ones.
+     */
+    private static boolean isGenerated(String className) {
+        return className.lastIndexOf('/') == GENERATED_PACKAGE.length() && className.startsWith(GENERATED_PACKAGE);
+    }
+
+    /**
+     * Returns the class names of the constants of a generated utility enum, keyed by constant name,
+     * or an empty map if the class is not one.
+     */
+    private static Map<String, String> utilityConstants(String owner) {
+        return UTILITY_ENUMS.computeIfAbsent(owner, UsageScanner::readUtilityConstants);
+    }
+
+    private static Map<String, String> readUtilityConstants(String owner) {
+        Class<?> type = generatedClass(owner);
+        if (type == null || !type.isEnum() || !TwUtility.class.isAssignableFrom(type)) {
+            return Map.of();
+        }
+
+        Map<String, String> constants = new HashMap<>();
+        for (Object constant : type.getEnumConstants()) {
+            constants.put(((Enum<?>) constant).name(), ((TwUtility) constant).className());
+        }
+        return constants;
+    }
+
+    /**
+     * Returns the utilities a scale accessor can return by calling it with every step or every
+     * color and shade, or an empty set if the method is not a scale accessor.
+     */
+    private static Set<String> readScaleUtilities(String method) {
+        int dot = method.lastIndexOf('.');
+        Class<?> type = generatedClass(method.substring(0, dot));
+        // TwUtilities.className(int) takes utility IDs, not steps
+        if (type == null || type == TwUtilities.class) {
+            return Set.of();
+        }
+
+        Set<String> utilities = new TreeSet<>();
+        for (Method accessor : type.getMethods()) {
+            if (!accessor.getName().equals(method.substring(dot + 1)) || !Modifier.isStatic(accessor.getModifiers())
+                    || accessor.getReturnType() != String.class) {
+                continue;
+            }
+            Class<?>[] parameters = accessor.getParameterTypes();
+            if (parameters.length == 1 && parameters[0] == int.class) {
+                for (int step = -MAX_STEP; step <= MAX_STEP; step++) {
+                    addScaleUtility(utilities, accessor, step);
+                }
+            } else if (parameters.length == 2 && parameters[0] == TwPalette.class && parameters[1] == int.class) {
+                // Tailwind shades are multiples of 50
+                for (TwPalette color : TwPalette.values()) {
+                    for (int shade = 50; shade <= MAX_STEP; shade += 50) {
+                        addScaleUtility(utilities, accessor, color, shade);
+                    }
+                }
+            }
+        }
+        return utilities;
+    }
+
+    private static void addScaleUtility(Set<String> utilities, Method accessor, Object... arguments) {
+        try {
+            utilities.add((String) accessor.invoke(null, arguments));
+        } catch (InvocationTargetException e) {
+            if (!(e.getCause() instanceof IllegalArgumentException)) {
+                throw new IllegalStateException("Cannot probe scale accessor " + accessor, e.getCause());
+            }
+            // Not a step or shade of the scale
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot probe scale accessor " + accessor, e);
+        }
+    }
+
+    /**
+     * Loads a generated class without initializing it, or returns {@code null} if it does not exist.
+     */
+    private static Class<?> generatedClass(String internalName) {
+        try {
+            return Class.forName(internalName.replace('/', '.'), false, TwUtilities.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            // Generated by a different version of the generator
+            return null;
+        }
+    }
+
+    private static int maxStep() {
+        int max = 0;
+        for (int id = 0; id < TwUtilities.COUNT; id++) {
+            String className = TwUtilities.className(id);
+            int start = className.length();
+            while (start > 0 && Character.isDigit(className.charAt(start - 1))) {
+                start--;
+            }
+            if (start < className.length() && className.length() - start <= 4) {
+                max = Math.max(max, Integer.parseInt(className.substring(start)));
+            }
+        }
+        return max;
+    }
+
+    private static boolean isClassFile(Path path) {
+        return isClassFile(path.getFileName().toString());
+    }
+
+    private static boolean isClassFile(String name) {
+        return name.endsWith(".class") && !name.endsWith("module-info.class");
+    }
+
+    /**
+     * Finds the variant of each {@link TwVariant} constant. The constants are the generated variant
+     * index, so every precomputed variant is covered.
+     */
+    private static Map<String, String> variantConstants() {
+        Map<String, String> variants = new HashMap<>();
+        String owner = TwVariant.class.getName().replace('.', '/');
+        for (Field field : TwVariant.class.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && field.getType() == TwVariant.class) {
+                try {
+                    variants.put(owner + '.' + field.getName(), ((TwVariant) field.get(null)).name());
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException("Cannot resolve variant of " + field, e);
+                }
+            }
+        }
+        return variants;
+    }
+
+    /**
+     * Finds the variant of each helper method by applying it to a utility.
+     */
+    private static Map<String, String> helperVariants() {
+        Map<String, String> variants = new HashMap<>();
+        String probe = TwUtilities.className(0);
+
+        for (Class<?> helper : new Class<?>[] { TW.Responsive.class, TW.State.class }) {
+            String owner = helper.getName().replace('.', '/');
+            for (Method method : helper.getMethods()) {
+                if (Modifier.isStatic(method.getModifiers()) && method.getReturnType() == String.class
+                        && method.getParameterCount() == 1 && method.getParameterTypes()[0] == String.class) {
+                    try {
+                        String prefixed = (String) method.invoke(null, probe);
+                        variants.put(owner + '.' + method.getName(),
+                                prefixed.substring(0, prefixed.length() - probe.length() - 1));
+                    } catch (ReflectiveOperationException e) {
+                        throw new IllegalStateException("Cannot resolve variant of " + method, e);
+                    }
+                }
+            }
+        }
+        return variants;
+    }
+}
@@ -0,0 +1,59 @@
+package com.vaadin.flow.component.tailwind.scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Constant pool entries {@link ClassFileReader} reads from compiled fixture classes.
+ */
+class ClassFileReaderTest {
+
+    @TempDir
+    Path temp;
+
+    @Test
+    void readsConstantsAndReferences() throws IOException {
+        Path classes = TestClasses.compile(temp,
+                "View",
+                "@interface Css { String value(); }\n"
+                + "@Css(\"shadow-lg\") class View {\n"
+                + "    static final String CARD = TW.Layout.FLEX + \" p-4\";\n"
+                + "    String card() { return CARD + TW.Spacing.Padding.p(2); }\n"
+                + "    TwVariant md() { return TwVariant.MD; }\n"
+                + "}\n");
+        ClassFileReader reader = read(classes.resolve("test/View.class"));
+
+        assertEquals("test/View", reader.className());
+        assertTrue(reader.strings().contains("flex p-4"), reader.strings().toString());
+        assertTrue(reader.strings().contains("shadow-lg"), reader.strings().toString());
+        assertTrue(reader.fieldReferences().contains("com/vaadin/flow/component/tailwind/TwVariant.MD"),
+                reader.fieldReferences().toString());
+        assertTrue(reader.methodReferences().contains("com/vaadin/flow/component/tailwind/TW$Spacing$Padding.p"),
+                reader.methodReferences().toString());
+    }
+
+    @Test
+    void rejectsOtherFiles() {
+        IOException e = assertThrows(IOException.class,
+                () -> ClassFileReader.read(new ByteArrayInputStream(new byte[] {1, 2, 3, 4})));
+        assertEquals("Not a class file", e.getMessage());
+        assertThrows(IOException.class, () -> ClassFileReader.read(new ByteArrayInputStream(new byte[] {
+            (byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE, 0, 0})));
+    }
+
+    private static ClassFileReader read(Path classFile) throws IOException {
+        try (InputStream in = Files.newInputStream(classFile)) {
+            return ClassFileReader.read(in);
+        }
+    }
+}
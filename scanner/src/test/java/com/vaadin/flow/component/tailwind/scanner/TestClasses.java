@@ -0,0 +1,72 @@
+package com.vaadin.flow.component.tailwind.scanner;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import com.vaadin.flow.component.tailwind.TW;
+
+/**
+ * Compiles fixture classes against the generated classes, for scanning.
+ */
+final class TestClasses {
+
+    /**
+     * Compiles sources of the {@code test} package, keyed by simple class name, into a directory.
+     *
+     * @return the directory
+     */
+    static Path compile(Path directory, String... classNamesAndSources) throws IOException {
+        List<JavaFileObject> files = new ArrayList<>();
+        for (int i = 0; i < classNamesAndSources.length; i += 2) {
+            String source = "package test;\n"
+                    + "import com.vaadin.flow.component.tailwind.*;\n"
+                    + classNamesAndSources[i + 1];
+            files.add(new SimpleJavaFileObject(URI.create("string:///test/" + classNamesAndSources[i] + ".java"),
+                    JavaFileObject.Kind.SOURCE) {
+                @Override
+                public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                    return source;
+                }
+            });
+        }
+
+        Files.createDirectories(directory);
+        List<String> options = List.of("-d", directory.toString(), "-classpath", generatedClasses().toString(),
+                "-proc:none");
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        boolean compiled = compiler.getTask(null,
+                compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8), diagnostics, options,
+                null, files).call();
+        if (!compiled) {
+            throw new IllegalStateException("Cannot compile fixtures: " + diagnostics.getDiagnostics());
+        }
+        return directory;
+    }
+
+    /**
+     * Returns the directory or jar containing the generated classes.
+     */
+    static Path generatedClasses() {
+        try {
+            return Paths.get(TW.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private TestClasses() {}
+}
@@ -0,0 +1,166 @@
+package com.vaadin.flow.component.tailwind.scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import com.vaadin.flow.component.tailwind.TW;
+import com.vaadin.flow.component.tailwind.TwPalette;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Utilities and variants {@link UsageScanner} finds in compiled fixture classes.
+ */
+class UsageScannerTest {
+
+    @TempDir
+    Path temp;
+
+    @Test
+    void utilityTokens() {
+        for (String token : List.of("p-4", "md:p-4", "dark:md:p-4", "group-hover:bg-blue-600",
+                "group-hover/item:p-4", "[&>*]:p-4", "[&:hover]:p-4", "data-[state=open]:p-4")) {
+            assertTrue(UsageScanner.isUtility(token), token);
+        }
+        for (String token : List.of("url:block", "key:hidden", "md:url:block", ":p-4", "md::p-4", "md:",
+                "custom", "p-[13px]", "http://example.com")) {
+            assertFalse(UsageScanner.isUtility(token), token);
+        }
+    }
+
+    @Test
+    void stringConstants() throws IOException {
+        UsageManifest manifest = scan("View",
+                "class View {\n"
+                + "    static final String CARD = TW.Layout.FLEX + \" p-4 md:p-6 custom\";\n"
+                + "    String link() { return \"url:block key:hidden\"; }\n"
+                + "}\n");
+        assertEquals(Set.of("flex", "md:p-6", "p-4"), manifest.classNames());
+        assertEquals(1, manifest.scannedClasses());
+    }
+
+    @Test
+    void annotationValues() throws IOException {
+        UsageManifest manifest = scan("Styled",
+                "@interface Css { String value(); }\n"
+                + "@Css(\"bg-white shadow-lg\") class Styled {}\n");
+        assertEquals(Set.of("bg-white", "shadow-lg"), manifest.classNames());
+    }
+
+    @Test
+    void scaleAccessorsRecordEveryUtilityTheyReturn() throws IOException {
+        UsageManifest manifest = scan("Scales",
+                "class Scales {\n"
+                + "    String padding(int step) { return TW.Spacing.Padding.p(step); }\n"
+                + "    String background(TwPalette color) { return TW.Background.color(color, 600); }\n"
+                + "}\n");
+        assertTrue(manifest.classNames().containsAll(Set.of(TW.Spacing.Padding.p(0), TW.Spacing.Padding.p(4),
+                TW.Spacing.Padding.p(96))), manifest.classNames().toString());
+        for (TwPalette color : TwPalette.values()) {
+            for (int shade : new int[] {50, 500, 950}) {
+                String className = safeColor(color, shade);
+                assertTrue(className == null || manifest.classNames().contains(className), className);
+            }
+        }
+        assertFalse(manifest.classNames().contains("m-4"));
+    }
+
+    @Test
+    void helperMethodsAndVariantConstantsRecordVariants() throws IOException {
+        UsageManifest manifest = scan("Helpers",
+                "class Helpers {\n"
+                + "    String hover(String utility) { return TW.State.hover(utility); }\n"
+                + "    String md(String utility) { return TwVariant.MD.apply(utility); }\n"
+                + "    static final String USED = \"p-4\";\n"
+                + "}\n");
+        assertEquals(Set.of("hover", "md"), manifest.helperVariants());
+        assertEquals(Set.of("hover:p-4", "md:p-4", "p-4"), manifest.expandedClassNames());
+    }
+
+    @Test
+    void thenRecordsStacksOfTheReferencedConstants() throws IOException {
+        UsageManifest manifest = scan("Stacks",
+                "class Stacks {\n"
+                + "    String darkMd(String utility) { return TwVariant.DARK.then(TwVariant.MD).apply(utility); }\n"
+                + "}\n");
+        assertEquals(Set.of("dark", "dark:md", "md", "md:dark"), manifest.helperVariants());
+    }
+
+    @Test
+    void generatedClassesAreSkipped() throws IOException {
+        UsageScanner scanner = new UsageScanner();
+        try (InputStream in = TW.class.getResourceAsStream("TW.class")) {
+            scanner.scan(in);
+        }
+        assertEquals(0, scanner.manifest().scannedClasses());
+        assertTrue(scanner.manifest().classNames().isEmpty());
+    }
+
+    @Test
+    void jarsAreScannedLikeDirectories() throws IOException {
+        Path classes = TestClasses.compile(temp.resolve("classes"),
+                "View", "class View { static final String CARD = \"flex p-4\"; }\n");
+        Path jar = temp.resolve("view.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            out.putNextEntry(new JarEntry("test/"));
+            out.putNextEntry(new JarEntry("test/View.class"));
+            Files.copy(classes.resolve("test/View.class"), (OutputStream) out);
+        }
+
+        UsageScanner scanner = new UsageScanner();
+        scanner.scan(jar);
+        assertEquals(Set.of("flex", "p-4"), scanner.manifest().classNames());
+        assertEquals(1, scanner.manifest().scannedClasses());
+    }
+
+    @Test
+    void manifestListsExpandedClassNames() throws IOException {
+        UsageManifest manifest = scan("View",
+                "class View {\n"
+                + "    static final String CARD = \"flex md:p-4\";\n"
+                + "    String hover(String utility) { return TW.State.hover(utility); }\n"
+                + "}\n");
+        StringWriter writer = new StringWriter();
+        manifest.write(writer);
+        assertEquals("# Tailwind CSS utilities used by 1 classes\n"
+                + "# Variants applied through TW.Responsive/TW.State/TwVariant: hover\n"
+                + "flex\nhover:flex\nhover:p-4\nmd:p-4\n", writer.toString());
+    }
+
+    @Test
+    void rejectsOtherFiles() throws IOException {
+        Path text = Files.writeString(temp.resolve("notes.txt"), "flex");
+        assertThrows(IOException.class, () -> new UsageScanner().scan(text));
+
+        Path invalid = Files.writeString(temp.resolve("Invalid.class"), "flex");
+        IOException e = assertThrows(IOException.class, () -> new UsageScanner().scan(invalid));
+        assertTrue(e.getMessage().startsWith("Cannot read " + invalid), e.getMessage());
+    }
+
+    private UsageManifest scan(String... classNamesAndSources) throws IOException {
+        UsageScanner scanner = new UsageScanner();
+        scanner.scan(TestClasses.compile(temp.resolve("classes"), classNamesAndSources));
+        return scanner.manifest();
+    }
+
+    private static String safeColor(TwPalette color, int shade) {
+        try {
+            return TW.Background.color(color, shade);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}